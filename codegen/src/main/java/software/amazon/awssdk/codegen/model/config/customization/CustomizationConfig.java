@@ -318,6 +318,19 @@ public class CustomizationConfig {
      */
     private boolean useMultiAuth;
 
+    /**
+     * Set to true to unmarshall JSON and XML responses directly from the token stream instead of building an intermediate
+     * JSON or XML tree. Currently defaults to false.
+     */
+    private boolean enableFastUnmarshaller;
+
+    /**
+     * Whether the endpoint resolver interceptor caches the endpoints resolved by the default endpoint provider. When not
+     * set, the cache is enabled unless an operation binds one of its input members to an endpoint parameter, because the
+     * parameters then vary per request and would rarely produce a cache hit.
+     */
+    private Boolean enableEndpointResolutionCache;
+
     private CustomizationConfig() {
     }
 
@@ -843,4 +856,20 @@ public class CustomizationConfig {
     public boolean useMultiAuth() {
         return useMultiAuth;
     }
+
+    public boolean isEnableFastUnmarshaller() {
+        return enableFastUnmarshaller;
+    }
+
+    public void setEnableFastUnmarshaller(boolean enableFastUnmarshaller) {
+        this.enableFastUnmarshaller = enableFastUnmarshaller;
+    }
+
+    public Boolean getEnableEndpointResolutionCache() {
+        return enableEndpointResolutionCache;
+    }
+
+    public void setEnableEndpointResolutionCache(Boolean enableEndpointResolutionCache) {
+        this.enableEndpointResolutionCache = enableEndpointResolutionCache;
+    }
 }
@@ -112,6 +112,10 @@ public class JsonProtocolSpec implements ProtocolSpec {
             methodSpec.addCode("$L", hasAwsQueryCompatible());
         }
 
+        if (model.getCustomizationConfig().isEnableFastUnmarshaller()) {
+            methodSpec.addCode(".enableFastUnmarshalling(true)");
+        }
+
         registerModeledExceptions(model, poetExtensions).forEach(methodSpec::addCode);
         methodSpec.addCode(";");
 
@@ -89,6 +89,7 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
     private final PoetExtension poetExtension;
     private final boolean dependsOnHttpAuthAws;
     private final boolean useSraAuth;
+    private final boolean useEndpointResolutionCache;
 
     public EndpointResolverInterceptorSpec(IntermediateModel model) {
         this.model = model;
@@ -103,6 +104,7 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                                     supportedAuthSchemes.contains(AwsV4aAuthScheme.class);
 
         this.useSraAuth = new AuthSchemeSpecUtils(model).useSraAuth();
+        this.useEndpointResolutionCache = endpointRulesSpecUtils.useEndpointResolutionCache();
     }
 
     @Override
@@ -113,12 +115,18 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                                       .addAnnotation(SdkInternalApi.class)
                                       .addSuperinterface(ExecutionInterceptor.class);
 
+        if (useEndpointResolutionCache) {
+            b.addField(endpointCacheFieldSpec());
+        }
         if (!useSraAuth) {
             b.addField(endpointAuthSchemeStrategyFieldSpec);
             b.addMethod(constructorMethodSpec(endpointAuthSchemeStrategyFieldSpec.name));
         }
         b.addMethod(modifyRequestMethod(endpointAuthSchemeStrategyFieldSpec.name));
         b.addMethod(modifyHttpRequestMethod());
+        if (useEndpointResolutionCache) {
+            b.addMethod(resolveEndpointMethod());
+        }
         b.addMethod(ruleParams());
 
         b.addMethod(setContextParams());
@@ -153,6 +161,14 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                         .build();
     }
 
+    private FieldSpec endpointCacheFieldSpec() {
+        ClassName cacheClass = endpointRulesSpecUtils.rulesRuntimeClassName("EndpointResolutionCache");
+        return FieldSpec.builder(ParameterizedTypeName.get(cacheClass, endpointRulesSpecUtils.parametersClassName()),
+                                 "endpointCache", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T<>()", cacheClass)
+                        .build();
+    }
+
     private MethodSpec modifyRequestMethod(String endpointAuthSchemeStrategyFieldName) {
 
         MethodSpec.Builder b = MethodSpec.methodBuilder("modifyRequest")
@@ -175,8 +191,13 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
                        endpointRulesSpecUtils.providerInterfaceName(), providerVar, SdkInternalExecutionAttribute.class);
         b.beginControlFlow("try");
         b.addStatement("long resolveEndpointStart = $T.nanoTime()", System.class);
-        b.addStatement("$T endpoint = $N.resolveEndpoint(ruleParams(result, executionAttributes)).join()",
-                       Endpoint.class, providerVar);
+        if (useEndpointResolutionCache) {
+            b.addStatement("$T endpoint = resolveEndpoint($N, ruleParams(result, executionAttributes), executionAttributes)",
+                           Endpoint.class, providerVar);
+        } else {
+            b.addStatement("$T endpoint = $N.resolveEndpoint(ruleParams(result, executionAttributes)).join()",
+                           Endpoint.class, providerVar);
+        }
         b.addStatement("$1T resolveEndpointDuration = $1T.ofNanos($2T.nanoTime() - resolveEndpointStart)", Duration.class,
                        System.class);
         b.addStatement("$T metricCollector = executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR)",
@@ -233,6 +254,34 @@ public class EndpointResolverInterceptorSpec implements ClassSpec {
         return b.build();
     }
 
+    /**
+     * The default provider's result only depends on the endpoint parameters, so its endpoints are cached per client. Any
+     * other provider is always called, since it may depend on state we don't know about.
+     */
+    private MethodSpec resolveEndpointMethod() {
+        MethodSpec.Builder b = MethodSpec.methodBuilder("resolveEndpoint")
+                                         .addModifiers(Modifier.PRIVATE)
+                                         .returns(Endpoint.class)
+                                         .addParameter(endpointRulesSpecUtils.providerInterfaceName(), "provider")
+                                         .addParameter(endpointRulesSpecUtils.parametersClassName(), "endpointParams")
+                                         .addParameter(ExecutionAttributes.class, "executionAttributes");
+
+        b.beginControlFlow("if (!(provider instanceof $T))", endpointRulesSpecUtils.providerDefaultImplName());
+        b.addStatement("return provider.resolveEndpoint(endpointParams).join()");
+        b.endControlFlow();
+        b.addStatement("$T endpoint = endpointCache.get(endpointParams)", Endpoint.class);
+        b.addStatement("boolean cacheHit = endpoint != null");
+        b.addStatement("executionAttributes.getOptionalAttribute($T.API_CALL_METRIC_COLLECTOR).ifPresent(\n"
+                       + "mc -> mc.reportMetric($T.ENDPOINT_RESOLVE_CACHE_HIT, cacheHit))",
+                       SdkExecutionAttribute.class, CoreMetric.class);
+        b.beginControlFlow("if (!cacheHit)");
+        b.addStatement("endpoint = provider.resolveEndpoint(endpointParams).join()");
+        b.addStatement("endpointCache.put(endpointParams, endpoint)");
+        b.endControlFlow();
+        b.addStatement("return endpoint");
+        return b.build();
+    }
+
     private MethodSpec modifyHttpRequestMethod() {
         MethodSpec.Builder b = MethodSpec.methodBuilder("modifyHttpRequest")
                                          .addModifiers(Modifier.PUBLIC)
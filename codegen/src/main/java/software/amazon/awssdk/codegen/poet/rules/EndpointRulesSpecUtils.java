@@ -189,6 +189,20 @@ public class EndpointRulesSpecUtils {
         return intermediateModel.getCustomizationConfig().getS3ExpressAuthSupport();
     }
 
+    /**
+     * Whether the endpoint resolver interceptor should cache the endpoints resolved by the default provider. Unless
+     * configured explicitly, caching is only used when no operation binds an input member to an endpoint parameter.
+     */
+    public boolean useEndpointResolutionCache() {
+        Boolean configured = intermediateModel.getCustomizationConfig().getEnableEndpointResolutionCache();
+        if (configured != null) {
+            return configured;
+        }
+        return intermediateModel.getOperations().values().stream()
+                                .flatMap(o -> o.getInputShape().getMembers().stream())
+                                .noneMatch(m -> m.getContextParam() != null);
+    }
+
     public TypeName resolverReturnType() {
         return ParameterizedTypeName.get(CompletableFuture.class, Endpoint.class);
     }
@@ -30,6 +30,14 @@ public class EndpointResolverInterceptorSpecTest {
         assertThat(endpointProviderInterceptor, generatesTo("endpoint-resolve-interceptor.java"));
     }
 
+    @Test
+    public void endpointResolverInterceptorClass_endpointCacheEnabled() {
+        IntermediateModel model = getModel(true);
+        model.getCustomizationConfig().setEnableEndpointResolutionCache(true);
+        ClassSpec endpointProviderInterceptor = new EndpointResolverInterceptorSpec(model);
+        assertThat(endpointProviderInterceptor, generatesTo("endpoint-resolve-interceptor-with-endpoint-cache.java"));
+    }
+
     // TODO(post-sra-identity-auth): This can be deleted when useSraAuth is removed
     @Test
     public void endpointResolverInterceptorClass_preSra() {
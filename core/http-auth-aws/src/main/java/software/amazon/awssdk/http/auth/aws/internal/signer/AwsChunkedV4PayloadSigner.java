@@ -40,10 +40,12 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.checksums.SdkChecksum;
 import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.ChecksumTrailerProvider;
 import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.ChunkedEncodedInputStream;
+import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.ChunkedEncodedPublisher;
 import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.SigV4ChunkExtensionProvider;
 import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.SigV4TrailerProvider;
 import software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding.TrailerProvider;
 import software.amazon.awssdk.http.auth.aws.internal.signer.io.ChecksumInputStream;
+import software.amazon.awssdk.http.auth.aws.internal.signer.io.ChecksumPublisher;
 import software.amazon.awssdk.http.auth.aws.internal.signer.io.ResettableContentStreamProvider;
 import software.amazon.awssdk.utils.BinaryUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -117,13 +119,61 @@ public final class AwsChunkedV4PayloadSigner implements V4PayloadSigner {
 
     @Override
     public Publisher<ByteBuffer> signAsync(Publisher<ByteBuffer> payload, V4RequestSigningResult requestSigningResult) {
-        throw new UnsupportedOperationException();
+        SdkHttpRequest.Builder request = requestSigningResult.getSignedRequest();
+
+        String checksum = request.firstMatchingHeader(X_AMZ_CONTENT_SHA256).orElseThrow(
+            () -> new IllegalArgumentException(X_AMZ_CONTENT_SHA256 + " must be set!")
+        );
+
+        ChunkedEncodedPublisher.Builder chunkedEncodedPublisherBuilder = ChunkedEncodedPublisher
+            .builder()
+            .publisher(payload)
+            .chunkSize(chunkSize)
+            .header(chunk -> Integer.toHexString(chunk.remaining()).getBytes(StandardCharsets.UTF_8));
+
+        preExistingTrailers.forEach(trailer -> chunkedEncodedPublisherBuilder.addTrailer(() -> trailer));
+
+        switch (checksum) {
+            case STREAMING_SIGNED_PAYLOAD: {
+                RollingSigner rollingSigner = new RollingSigner(requestSigningResult.getSigningKey(),
+                                                                requestSigningResult.getSignature());
+                chunkedEncodedPublisherBuilder.addExtension(new SigV4ChunkExtensionProvider(rollingSigner, credentialScope));
+                break;
+            }
+            case STREAMING_UNSIGNED_PAYLOAD_TRAILER:
+                setupChecksumTrailerIfNeeded(chunkedEncodedPublisherBuilder);
+                break;
+            case STREAMING_SIGNED_PAYLOAD_TRAILER: {
+                RollingSigner rollingSigner = new RollingSigner(requestSigningResult.getSigningKey(),
+                                                                requestSigningResult.getSignature());
+                chunkedEncodedPublisherBuilder.addExtension(new SigV4ChunkExtensionProvider(rollingSigner, credentialScope));
+                setupChecksumTrailerIfNeeded(chunkedEncodedPublisherBuilder);
+                chunkedEncodedPublisherBuilder.addTrailer(
+                    new SigV4TrailerProvider(chunkedEncodedPublisherBuilder.trailers(), rollingSigner, credentialScope)
+                );
+                break;
+            }
+            default:
+                throw new UnsupportedOperationException();
+        }
+
+        return chunkedEncodedPublisherBuilder.build();
     }
 
     @Override
     public void beforeSigning(SdkHttpRequest.Builder request, ContentStreamProvider payload) {
-        long encodedContentLength = 0;
         long contentLength = moveContentLength(request, payload != null ? payload.newStream() : new StringInputStream(""));
+        setupHeaders(request, contentLength);
+    }
+
+    @Override
+    public void beforeSigningAsync(SdkHttpRequest.Builder request, Publisher<ByteBuffer> payload) {
+        long contentLength = moveContentLength(request);
+        setupHeaders(request, contentLength);
+    }
+
+    private void setupHeaders(SdkHttpRequest.Builder request, long contentLength) {
+        long encodedContentLength = 0;
         setupPreExistingTrailers(request);
 
         // pre-existing trailers
@@ -271,6 +321,27 @@ public final class AwsChunkedV4PayloadSigner implements V4PayloadSigner {
         builder.inputStream(checksumInputStream).addTrailer(checksumTrailer);
     }
 
+    /**
+     * Add the checksum as a trailer to the chunk-encoded publisher.
+     * <p>
+     * If the checksum-algorithm is not present, then nothing is done.
+     */
+    private void setupChecksumTrailerIfNeeded(ChunkedEncodedPublisher.Builder builder) {
+        if (checksumAlgorithm == null) {
+            return;
+        }
+        String checksumHeaderName = checksumHeaderName(checksumAlgorithm);
+        SdkChecksum sdkChecksum = fromChecksumAlgorithm(checksumAlgorithm);
+        ChecksumPublisher checksumPublisher = new ChecksumPublisher(
+            builder.publisher(),
+            Collections.singleton(sdkChecksum)
+        );
+
+        TrailerProvider checksumTrailer = new ChecksumTrailerProvider(sdkChecksum, checksumHeaderName);
+
+        builder.publisher(checksumPublisher).addTrailer(checksumTrailer);
+    }
+
     static class Builder {
         private CredentialScope credentialScope;
         private Integer chunkSize;
@@ -24,6 +24,7 @@ import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerCo
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.STREAMING_SIGNED_PAYLOAD_TRAILER;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.STREAMING_UNSIGNED_PAYLOAD_TRAILER;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.UNSIGNED_PAYLOAD;
+import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.X_AMZ_DECODED_CONTENT_LENGTH;
 import static software.amazon.awssdk.http.auth.aws.internal.signer.util.SignerConstant.X_AMZ_TRAILER;
 
 import java.time.Clock;
@@ -176,13 +177,13 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
     /**
      * This is needed because of the pre-existing gap (pre-SRA) in behavior where we don't treat async + streaming + http +
      * unsigned-payload as signed-payload (fallback). We have to do some finagling of the payload-signing options before
-     * calling the actual checksummer() method
+     * calling the actual checksummer() method. When the payload can be chunk-signed asynchronously, it is signed instead.
      */
     private static Checksummer asyncChecksummer(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
         boolean isHttp = !"https".equals(request.request().protocol());
         boolean isPayloadSigning = isPayloadSigning(request);
         boolean isChunkEncoding = request.requireProperty(CHUNK_ENCODING_ENABLED, false);
-        boolean shouldTreatAsUnsigned = isHttp && isPayloadSigning && isChunkEncoding;
+        boolean shouldTreatAsUnsigned = isHttp && isPayloadSigning && isChunkEncoding && !isAsyncChunkSigning(request);
 
         // set the override to false if it should be treated as unsigned, otherwise, null should be passed so that the normal
         // check for payload signing is done.
@@ -242,8 +243,16 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
             throw new UnsupportedOperationException("Unsigned payload is not supported with event-streaming.");
         }
 
+        if (isAsyncChunkSigning(request)) {
+            // Trailing and flexible checksums are not signed here, since they are handled in HttpChecksumStage for now.
+            return AwsChunkedV4PayloadSigner.builder()
+                                            .credentialScope(properties.getCredentialScope())
+                                            .chunkSize(DEFAULT_CHUNK_SIZE_IN_BYTES)
+                                            .build();
+        }
+
         if (isChunkEncoding && isPayloadSigning) {
-            // TODO(sra-identity-and-auth): We need to implement aws-chunk content-encoding for async.
+            // TODO(sra-identity-and-auth): We need to implement aws-chunk content-encoding with trailers for async.
             //  For now, we basically have to treat this as an unsigned case because there are existing s3 use-cases for
             //  Unsigned-payload + HTTP. These requests SHOULD be signed-payload, but are not pre-SRA, hence the problem. This
             //  will be taken care of in HttpChecksumStage for now, so we shouldn't throw an unsupported exception here, we
@@ -287,6 +296,7 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
 
         return checksummer.checksum(request.payload().orElse(null), requestBuilder)
                           .thenApply(payload -> {
+                              payloadSigner.beforeSigningAsync(requestBuilder, payload);
                               V4RequestSigningResult requestSigningResultFuture = requestSigner.sign(requestBuilder);
                               return AsyncSignedRequest.builder()
                                                        .request(requestSigningResultFuture.getSignedRequest().build())
@@ -346,6 +356,23 @@ public final class DefaultAwsV4HttpSigner implements AwsV4HttpSigner {
         return false;
     }
 
+    /**
+     * Whether the asynchronous payload should be chunk-encoded with a signature per chunk. This requires the content-length to be
+     * known up front, so that the encoded content-length can be signed without buffering the payload. Requests with trailing or
+     * flexible checksums are excluded, since they are chunk-encoded by HttpChecksumStage before they get here.
+     */
+    private static boolean isAsyncChunkSigning(BaseSignRequest<?, ? extends AwsCredentialsIdentity> request) {
+        boolean isPayloadSigning = isPayloadSigning(request);
+        boolean isChunkEncoding = request.requireProperty(CHUNK_ENCODING_ENABLED, false);
+        boolean isTrailing = request.request().firstMatchingHeader(X_AMZ_TRAILER).isPresent();
+        boolean isFlexible = request.hasProperty(CHECKSUM_ALGORITHM) && !hasChecksumHeader(request);
+        boolean hasContentLength = request.request().firstMatchingHeader(Header.CONTENT_LENGTH).isPresent() ||
+                                   request.request().firstMatchingHeader(X_AMZ_DECODED_CONTENT_LENGTH).isPresent();
+
+        return request.payload().isPresent() && isPayloadSigning && isChunkEncoding && !isTrailing && !isFlexible
+               && hasContentLength && !isEventStreaming(request.request());
+    }
+
     private static boolean useChunkEncoding(boolean payloadSigningEnabled, boolean chunkEncodingEnabled,
                                             boolean isTrailingOrFlexible) {
 
@@ -48,4 +48,10 @@ public interface V4PayloadSigner {
      */
     default void beforeSigning(SdkHttpRequest.Builder request, ContentStreamProvider payload) {
     }
+
+    /**
+     * Modify a request before it is signed, such as changing headers or query-parameters, when the payload is asynchronous.
+     */
+    default void beforeSigningAsync(SdkHttpRequest.Builder request, Publisher<ByteBuffer> payload) {
+    }
 }
@@ -0,0 +1,287 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.async.AddingTrailingDataSubscriber;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * An implementation of chunk-transfer encoding, but by wrapping a {@link Publisher}. This is the asynchronous counterpart of
+ * {@link ChunkedEncodedInputStream}, and supports the same chunk-headers, chunk-extensions, and trailers.
+ * <p>
+ * The upstream buffers are re-chunked into chunks of {@code chunkSize} bytes, each of which is encoded (and its
+ * chunk-extensions computed) as soon as it is complete, so the payload is never buffered beyond a single chunk. The last,
+ * partial chunk, the final (empty) chunk, and the trailers are emitted once the upstream publisher completes.
+ * <p>
+ * Each subscription resets the header, extension and trailer providers, so the publisher can be re-subscribed to (e.g. when a
+ * request is retried), as long as the wrapped publisher supports it.
+ */
+@SdkInternalApi
+public final class ChunkedEncodedPublisher implements Publisher<ByteBuffer> {
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte SEMICOLON = ';';
+    private static final byte EQUALS = '=';
+    private static final byte COLON = ':';
+    private static final byte COMMA = ',';
+
+    private final Publisher<ByteBuffer> publisher;
+    private final int chunkSize;
+
+    private final ChunkHeaderProvider header;
+    private final List<ChunkExtensionProvider> extensions = new ArrayList<>();
+    private final List<TrailerProvider> trailers = new ArrayList<>();
+
+    private ChunkedEncodedPublisher(Builder builder) {
+        this.publisher = Validate.notNull(builder.publisher, "Publisher cannot be null!");
+        this.chunkSize = Validate.isPositive(builder.chunkSize, "Chunk-size must be greater than 0!");
+        this.header = Validate.notNull(builder.header, "Header cannot be null!");
+        this.extensions.addAll(Validate.notNull(builder.extensions, "Extensions cannot be null!"));
+        this.trailers.addAll(Validate.notNull(builder.trailers, "Trailers cannot be null!"));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        Validate.notNull(subscriber, "Subscriber cannot be null!");
+        trailers.forEach(TrailerProvider::reset);
+        extensions.forEach(ChunkExtensionProvider::reset);
+        header.reset();
+
+        // Bytes that don't fill a whole chunk are held here until the next upstream buffer, or the end of the stream, arrives.
+        ByteBuffer partialChunk = ByteBuffer.allocate(chunkSize);
+        Subscriber<ByteBuffer> trailingDataSubscriber =
+            new AddingTrailingDataSubscriber<>(subscriber, () -> finalChunks(partialChunk));
+        publisher.subscribe(new ChunkingSubscriber(new FlatteningSubscriber<>(trailingDataSubscriber), partialChunk));
+    }
+
+    /**
+     * Get the encoded remaining (partial) chunk, if any, followed by the final chunk and the trailers.
+     */
+    private Iterable<ByteBuffer> finalChunks(ByteBuffer partialChunk) {
+        List<ByteBuffer> result = new ArrayList<>(2);
+        partialChunk.flip();
+        if (partialChunk.hasRemaining()) {
+            result.add(encodeChunk(partialChunk));
+        }
+        result.add(encodeFinalChunk());
+        return result;
+    }
+
+    /**
+     * Encode a chunk, which includes the header, the extensions, and the chunk data.
+     */
+    private ByteBuffer encodeChunk(ByteBuffer chunkData) {
+        byte[] chunkHeader = chunkHeader(chunkData);
+        ByteBuffer encoded = ByteBuffer.allocate(chunkHeader.length + chunkData.remaining() + CRLF.length);
+        encoded.put(chunkHeader).put(chunkData).put(CRLF);
+        encoded.flip();
+        return encoded;
+    }
+
+    /**
+     * Encode the final chunk, which includes the header, the extensions, and the trailers.
+     */
+    private ByteBuffer encodeFinalChunk() {
+        byte[] chunkHeader = chunkHeader(ByteBuffer.allocate(0));
+        byte[] trailer = trailer();
+        ByteBuffer encoded = ByteBuffer.allocate(chunkHeader.length + trailer.length + CRLF.length);
+        encoded.put(chunkHeader).put(trailer).put(CRLF);
+        encoded.flip();
+        return encoded;
+    }
+
+    /**
+     * Get the chunk-size, chunk-extensions and the CRLF that precede the chunk-data.
+     */
+    private byte[] chunkHeader(ByteBuffer chunkData) {
+        ByteArrayBuilder result = new ByteArrayBuilder();
+        result.add(header.get(chunkData.asReadOnlyBuffer()));
+        for (ChunkExtensionProvider chunkExtensionProvider : extensions) {
+            Pair<byte[], byte[]> ext = chunkExtensionProvider.get(chunkData.asReadOnlyBuffer());
+            result.add(SEMICOLON).add(ext.left()).add(EQUALS).add(ext.right());
+        }
+        return result.add(CRLF).toByteArray();
+    }
+
+    private byte[] trailer() {
+        ByteArrayBuilder result = new ByteArrayBuilder();
+        for (TrailerProvider trailer : trailers) {
+            Pair<String, List<String>> tlr = trailer.get();
+            result.add(tlr.left().getBytes(StandardCharsets.UTF_8)).add(COLON);
+            List<String> values = tlr.right();
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    result.add(COMMA);
+                }
+                result.add(values.get(i).getBytes(StandardCharsets.UTF_8));
+            }
+            result.add(CRLF);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Splits the upstream buffers into chunk-sized pieces, encoding each piece as soon as it's full. Bytes that don't fill a
+     * chunk are copied into the partial-chunk buffer.
+     */
+    private final class ChunkingSubscriber extends DelegatingSubscriber<ByteBuffer, Iterable<ByteBuffer>> {
+        private final ByteBuffer partialChunk;
+
+        private ChunkingSubscriber(Subscriber<? super Iterable<ByteBuffer>> subscriber, ByteBuffer partialChunk) {
+            super(subscriber);
+            this.partialChunk = partialChunk;
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            ByteBuffer data = byteBuffer.asReadOnlyBuffer();
+            List<ByteBuffer> chunks = Collections.emptyList();
+
+            while (data.hasRemaining()) {
+                ByteBuffer chunk;
+                if (partialChunk.position() == 0 && data.remaining() >= chunkSize) {
+                    // A whole chunk is available in the upstream buffer, so we can encode it without copying it first.
+                    chunk = data.duplicate();
+                    chunk.limit(chunk.position() + chunkSize);
+                    data.position(chunk.limit());
+                } else {
+                    int length = Math.min(partialChunk.remaining(), data.remaining());
+                    ByteBuffer slice = data.duplicate();
+                    slice.limit(slice.position() + length);
+                    partialChunk.put(slice);
+                    data.position(data.position() + length);
+                    if (partialChunk.hasRemaining()) {
+                        break;
+                    }
+                    partialChunk.flip();
+                    chunk = partialChunk;
+                }
+
+                if (chunks.isEmpty()) {
+                    chunks = new ArrayList<>();
+                }
+                chunks.add(encodeChunk(chunk));
+                partialChunk.clear();
+            }
+
+            subscriber.onNext(chunks);
+        }
+    }
+
+    private static final class ByteArrayBuilder {
+        private byte[] bytes = new byte[128];
+        private int size;
+
+        private ByteArrayBuilder add(byte b) {
+            ensureCapacity(1);
+            bytes[size++] = b;
+            return this;
+        }
+
+        private ByteArrayBuilder add(byte[] b) {
+            ensureCapacity(b.length);
+            System.arraycopy(b, 0, bytes, size, b.length);
+            size += b.length;
+            return this;
+        }
+
+        private void ensureCapacity(int length) {
+            if (size + length > bytes.length) {
+                byte[] newBytes = new byte[Math.max(bytes.length * 2, size + length)];
+                System.arraycopy(bytes, 0, newBytes, 0, size);
+                bytes = newBytes;
+            }
+        }
+
+        private byte[] toByteArray() {
+            byte[] result = new byte[size];
+            System.arraycopy(bytes, 0, result, 0, size);
+            return result;
+        }
+    }
+
+    public static class Builder {
+        private final List<ChunkExtensionProvider> extensions = new ArrayList<>();
+        private final List<TrailerProvider> trailers = new ArrayList<>();
+        private Publisher<ByteBuffer> publisher;
+        private int chunkSize;
+        private ChunkHeaderProvider header =
+            chunk -> Integer.toHexString(chunk.remaining()).getBytes(StandardCharsets.UTF_8);
+
+        public Publisher<ByteBuffer> publisher() {
+            return this.publisher;
+        }
+
+        public Builder publisher(Publisher<ByteBuffer> publisher) {
+            this.publisher = publisher;
+            return this;
+        }
+
+        public Builder chunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public Builder header(ChunkHeaderProvider header) {
+            this.header = header;
+            return this;
+        }
+
+        public Builder extensions(List<ChunkExtensionProvider> extensions) {
+            this.extensions.clear();
+            extensions.forEach(this::addExtension);
+            return this;
+        }
+
+        public Builder addExtension(ChunkExtensionProvider extension) {
+            this.extensions.add(Validate.notNull(extension, "ExtensionProvider cannot be null!"));
+            return this;
+        }
+
+        public List<TrailerProvider> trailers() {
+            return new ArrayList<>(trailers);
+        }
+
+        public Builder trailers(List<TrailerProvider> trailers) {
+            this.trailers.clear();
+            trailers.forEach(this::addTrailer);
+            return this;
+        }
+
+        public Builder addTrailer(TrailerProvider trailer) {
+            this.trailers.add(Validate.notNull(trailer, "TrailerProvider cannot be null!"));
+            return this;
+        }
+
+        public ChunkedEncodedPublisher build() {
+            return new ChunkedEncodedPublisher(this);
+        }
+    }
+}
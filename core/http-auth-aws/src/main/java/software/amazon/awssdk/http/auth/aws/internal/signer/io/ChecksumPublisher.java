@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.io;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.zip.Checksum;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+
+/**
+ * A publisher that takes a collection of checksums, and updates each checksum when data is published. Unlike
+ * {@link ChecksumSubscriber}, the data is passed through as it's received, rather than being buffered.
+ */
+@SdkInternalApi
+public final class ChecksumPublisher implements Publisher<ByteBuffer> {
+
+    private final Publisher<ByteBuffer> publisher;
+    private final Collection<Checksum> checksums = new ArrayList<>();
+
+    public ChecksumPublisher(Publisher<ByteBuffer> publisher, Collection<? extends Checksum> checksums) {
+        this.publisher = publisher;
+        this.checksums.addAll(checksums);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        publisher.subscribe(new DelegatingSubscriber<ByteBuffer, ByteBuffer>(subscriber) {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                updateChecksums(byteBuffer.asReadOnlyBuffer());
+                subscriber.onNext(byteBuffer);
+            }
+        });
+    }
+
+    private void updateChecksums(ByteBuffer buffer) {
+        int remaining = buffer.remaining();
+        if (remaining <= 0) {
+            return;
+        }
+
+        byte[] copyBuffer = new byte[remaining];
+        buffer.get(copyBuffer);
+        checksums.forEach(c -> c.update(copyBuffer, 0, remaining));
+    }
+}
@@ -209,6 +209,21 @@ public final class SignerUtils {
         return Long.parseLong(decodedContentLength.get());
     }
 
+    /**
+     * Move `Content-Length` to `x-amz-decoded-content-length` if not already present. Unlike
+     * {@link #moveContentLength(SdkHttpRequest.Builder, InputStream)}, an asynchronous payload can't be read ahead of time, so
+     * one of the two headers must be present.
+     */
+    public static long moveContentLength(SdkHttpRequest.Builder request) {
+        if (!request.firstMatchingHeader(X_AMZ_DECODED_CONTENT_LENGTH).isPresent() &&
+            !request.firstMatchingHeader(Header.CONTENT_LENGTH).isPresent()) {
+            throw new IllegalArgumentException(
+                Header.CONTENT_LENGTH + " or " + X_AMZ_DECODED_CONTENT_LENGTH + " must be set to chunk-encode an asynchronous "
+                + "payload.");
+        }
+        return moveContentLength(request, new ByteArrayInputStream(new byte[0]));
+    }
+
     private static MessageDigest getMessageDigestInstance() {
         return DigestAlgorithm.SHA256.getDigest();
     }
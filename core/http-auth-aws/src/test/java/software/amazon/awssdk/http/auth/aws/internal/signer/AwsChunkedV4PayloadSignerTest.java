@@ -21,14 +21,25 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.CRC32;
 import static software.amazon.awssdk.checksums.DefaultChecksumAlgorithm.SHA256;
 
+import io.reactivex.Flowable;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.checksums.spi.ChecksumAlgorithm;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.Header;
 import software.amazon.awssdk.http.SdkHttpMethod;
@@ -435,14 +446,94 @@ public class AwsChunkedV4PayloadSignerTest {
         }
     }
 
+    @ParameterizedTest
+    @MethodSource("asyncSigningCases")
+    public void signAsync_shouldMatchSyncSigning(String contentSha256, ChecksumAlgorithm checksumAlgorithm, int chunkSize,
+                                                 int bufferSize) throws IOException {
+        SdkHttpRequest.Builder syncRequest = requestBuilder.copy().putHeader("x-amz-content-sha256", contentSha256);
+        AwsChunkedV4PayloadSigner syncSigner = signer(chunkSize, checksumAlgorithm);
+        syncSigner.beforeSigning(syncRequest, payload);
+        byte[] tmp = new byte[1024];
+        int expectedBytes = readAll(syncSigner.sign(payload, signingResult(contentSha256, syncRequest)).newStream(), tmp);
+        String expectedContent = new String(tmp, 0, expectedBytes);
+
+        SdkHttpRequest.Builder asyncRequest = requestBuilder.copy().putHeader("x-amz-content-sha256", contentSha256);
+        AwsChunkedV4PayloadSigner asyncSigner = signer(chunkSize, checksumAlgorithm);
+        Publisher<ByteBuffer> asyncPayload = publisher(bufferSize);
+        asyncSigner.beforeSigningAsync(asyncRequest, asyncPayload);
+        Publisher<ByteBuffer> signedPayload = asyncSigner.signAsync(asyncPayload, signingResult(contentSha256, asyncRequest));
+
+        assertThat(asyncRequest.headers()).isEqualTo(syncRequest.headers());
+        // successive subscriptions should publish the same data every time - this makes sure that state isn't carried over
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expectedContent, readAll(signedPayload));
+        }
+    }
+
+    private static Stream<Arguments> asyncSigningCases() {
+        List<Arguments> cases = new ArrayList<>();
+        for (String contentSha256 : Arrays.asList("STREAMING-AWS4-HMAC-SHA256-PAYLOAD",
+                                                  "STREAMING-AWS4-HMAC-SHA256-PAYLOAD-TRAILER",
+                                                  "STREAMING-UNSIGNED-PAYLOAD-TRAILER")) {
+            for (ChecksumAlgorithm checksumAlgorithm : Arrays.asList(null, CRC32)) {
+                for (int chunkSize : new int[] {3, 4, 32}) {
+                    for (int bufferSize : new int[] {1, 5, 20}) {
+                        cases.add(Arguments.of(contentSha256, checksumAlgorithm, chunkSize, bufferSize));
+                    }
+                }
+            }
+        }
+        return cases.stream();
+    }
+
     @Test
-    public void signAsync_throws() {
-        AwsChunkedV4PayloadSigner signer = AwsChunkedV4PayloadSigner.builder()
-                                                                    .credentialScope(credentialScope)
-                                                                    .chunkSize(chunkSize)
-                                                                    .build();
+    public void beforeSigningAsync_withoutContentLength_throws() {
+        requestBuilder.removeHeader(Header.CONTENT_LENGTH).putHeader("x-amz-content-sha256", "STREAMING-AWS4-HMAC-SHA256-PAYLOAD");
+        AwsChunkedV4PayloadSigner signer = signer(chunkSize, null);
+
+        assertThrows(IllegalArgumentException.class, () -> signer.beforeSigningAsync(requestBuilder, publisher(5)));
+    }
+
+    private AwsChunkedV4PayloadSigner signer(int chunkSize, ChecksumAlgorithm checksumAlgorithm) {
+        return AwsChunkedV4PayloadSigner.builder()
+                                        .credentialScope(credentialScope)
+                                        .chunkSize(chunkSize)
+                                        .checksumAlgorithm(checksumAlgorithm)
+                                        .build();
+    }
+
+    private V4RequestSigningResult signingResult(String contentSha256, SdkHttpRequest.Builder request) {
+        V4CanonicalRequest canonicalRequest = new V4CanonicalRequest(
+            request.build(),
+            contentSha256,
+            new V4CanonicalRequest.Options(true, true)
+        );
+        return new V4RequestSigningResult(
+            contentSha256,
+            "key".getBytes(StandardCharsets.UTF_8),
+            "sig",
+            canonicalRequest,
+            request
+        );
+    }
+
+    private Publisher<ByteBuffer> publisher(int bufferSize) {
+        List<ByteBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < data.length; i += bufferSize) {
+            buffers.add(ByteBuffer.wrap(data, i, Math.min(bufferSize, data.length - i)));
+        }
+        return Flowable.fromIterable(buffers).map(ByteBuffer::duplicate);
+    }
 
-        assertThrows(UnsupportedOperationException.class, () -> signer.signAsync(null, null));
+    private String readAll(Publisher<ByteBuffer> payload) {
+        return Flowable.fromPublisher(payload)
+                       .map(buffer -> {
+                           byte[] bytes = new byte[buffer.remaining()];
+                           buffer.get(bytes);
+                           return new String(bytes, StandardCharsets.UTF_8);
+                       })
+                       .reduce("", String::concat)
+                       .blockingGet();
     }
 
     private int readAll(InputStream src, byte[] dst) throws IOException {
@@ -27,7 +27,9 @@ import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.CHUNK_
 import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.EXPIRATION_DURATION;
 import static software.amazon.awssdk.http.auth.aws.signer.AwsV4HttpSigner.PAYLOAD_SIGNING_ENABLED;
 
+import io.reactivex.Flowable;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.reactivestreams.Publisher;
 import software.amazon.awssdk.http.Header;
 import software.amazon.awssdk.http.auth.aws.TestUtils;
 import software.amazon.awssdk.http.auth.aws.eventstream.internal.io.SigV4DataFramePublisher;
@@ -407,10 +410,8 @@ public class DefaultAwsV4HttpSignerTest {
         assertThat(signedRequest.request().firstMatchingHeader("x-amz-decoded-content-length")).hasValue("20");
     }
 
-    // TODO(sra-identity-and-auth): Once chunk-encoding support in async is added, we can enable these tests.
-    @Disabled("Chunk-encoding is not currently supported in the Async signing path - it is handled in HttpChecksumStage for now.")
     @Test
-    public void signAsync_WithChunkEncodingTrue_DelegatesToAwsChunkedPayloadSigner_futureBehavior() {
+    public void signAsync_WithChunkEncodingTrue_DelegatesToAwsChunkedPayloadSigner() {
         AsyncSignRequest<? extends AwsCredentialsIdentity> request = generateBasicAsyncRequest(
             AwsCredentialsIdentity.create("access", "secret"),
             httpRequest -> httpRequest
@@ -426,16 +427,18 @@ public class DefaultAwsV4HttpSignerTest {
         assertThat(signedRequest.request().firstMatchingHeader(CONTENT_ENCODING)).hasValue("aws-chunked");
         assertThat(signedRequest.request().firstMatchingHeader(Header.CONTENT_LENGTH)).hasValue("193");
         assertThat(signedRequest.request().firstMatchingHeader("x-amz-decoded-content-length")).hasValue("20");
+        assertThat(contentLength(signedRequest.payload().get())).isEqualTo(193);
     }
 
-    // TODO(sra-identity-and-auth): Replace this test with the above test once chunk-encoding support is added
     @Test
-    public void signAsync_WithChunkEncodingTrue_DelegatesToAwsChunkedPayloadSigner() {
+    public void signAsync_WithChunkEncodingTrueAndHttp_DelegatesToAwsChunkedPayloadSigner() {
         AsyncSignRequest<? extends AwsCredentialsIdentity> request = generateBasicAsyncRequest(
             AwsCredentialsIdentity.create("access", "secret"),
             httpRequest -> httpRequest
+                .protocol("http")
                 .putHeader(Header.CONTENT_LENGTH, "20"),
             signRequest -> signRequest
+                .putProperty(PAYLOAD_SIGNING_ENABLED, false)
                 .putProperty(CHUNK_ENCODING_ENABLED, true)
         );
 
@@ -443,8 +446,25 @@ public class DefaultAwsV4HttpSignerTest {
 
         assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256"))
             .hasValue("STREAMING-AWS4-HMAC-SHA256-PAYLOAD");
-        assertThat(signedRequest.request().firstMatchingHeader(Header.CONTENT_LENGTH)).hasValue("20");
-        assertThat(signedRequest.request().firstMatchingHeader("x-amz-decoded-content-length")).isNotPresent();
+        assertThat(signedRequest.request().firstMatchingHeader(CONTENT_ENCODING)).hasValue("aws-chunked");
+        assertThat(signedRequest.request().firstMatchingHeader(Header.CONTENT_LENGTH)).hasValue("193");
+        assertThat(contentLength(signedRequest.payload().get())).isEqualTo(193);
+    }
+
+    @Test
+    public void signAsync_WithChunkEncodingTrueAndNoContentLength_DelegatesToDefaultPayloadSigner() {
+        AsyncSignRequest<? extends AwsCredentialsIdentity> request = generateBasicAsyncRequest(
+            AwsCredentialsIdentity.create("access", "secret"),
+            httpRequest -> {
+            },
+            signRequest -> signRequest
+                .putProperty(CHUNK_ENCODING_ENABLED, true)
+        );
+
+        AsyncSignedRequest signedRequest = signer.signAsync(request).join();
+
+        assertThat(signedRequest.request().firstMatchingHeader(CONTENT_ENCODING)).isNotPresent();
+        assertThat(contentLength(signedRequest.payload().get())).isEqualTo(20);
     }
 
     @Test
@@ -856,4 +876,8 @@ public class DefaultAwsV4HttpSignerTest {
         assertThat(signedRequest.request().firstMatchingHeader("x-amz-content-sha256"))
             .hasValue("STREAMING-UNSIGNED-PAYLOAD-TRAILER");
     }
+
+    private static int contentLength(Publisher<ByteBuffer> payload) {
+        return Flowable.fromPublisher(payload).map(ByteBuffer::remaining).reduce(0, Integer::sum).blockingGet();
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.chunkedencoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.reactivex.Flowable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.utils.Pair;
+
+public class ChunkedEncodedPublisherTest {
+
+    private static final byte[] DATA = "abcdefghij".getBytes(StandardCharsets.UTF_8);
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 4, 10})
+    public void chunkedEncodedPublisher_withBasicParams_returnsEncodedChunks(int bufferSize) {
+        ChunkedEncodedPublisher publisher = ChunkedEncodedPublisher
+            .builder()
+            .publisher(payload(bufferSize))
+            .chunkSize(3)
+            .build();
+
+        assertThat(readAll(publisher)).isEqualTo("3\r\nabc\r\n3\r\ndef\r\n3\r\nghi\r\n1\r\nj\r\n0\r\n\r\n");
+    }
+
+    @Test
+    public void chunkedEncodedPublisher_withExtensionsAndTrailers_returnsEncodedExtendedChunks() {
+        ChunkExtensionProvider helloWorldExt = chunk -> Pair.of(
+            "hello".getBytes(StandardCharsets.UTF_8),
+            "world!".getBytes(StandardCharsets.UTF_8)
+        );
+        TrailerProvider trailer = () -> Pair.of("x-amz-foo", Arrays.asList("bar", "baz"));
+
+        ChunkedEncodedPublisher publisher = ChunkedEncodedPublisher
+            .builder()
+            .publisher(payload(4))
+            .chunkSize(5)
+            .extensions(Collections.singletonList(helloWorldExt))
+            .addTrailer(trailer)
+            .build();
+
+        assertThat(readAll(publisher)).isEqualTo("5;hello=world!\r\nabcde\r\n5;hello=world!\r\nfghij\r\n"
+                                                 + "0;hello=world!\r\nx-amz-foo:bar,baz\r\n\r\n");
+    }
+
+    @Test
+    public void chunkedEncodedPublisher_withEmptyPayload_returnsFinalChunk() {
+        ChunkedEncodedPublisher publisher = ChunkedEncodedPublisher
+            .builder()
+            .publisher(Flowable.empty())
+            .chunkSize(3)
+            .build();
+
+        assertThat(readAll(publisher)).isEqualTo("0\r\n\r\n");
+    }
+
+    @Test
+    public void chunkedEncodedPublisher_resubscribed_resetsProviders() {
+        AtomicInteger resets = new AtomicInteger();
+        ChunkHeaderProvider header = new ChunkHeaderProvider() {
+            @Override
+            public byte[] get(ByteBuffer chunk) {
+                return Integer.toHexString(chunk.remaining()).getBytes(StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public void reset() {
+                resets.incrementAndGet();
+            }
+        };
+
+        ChunkedEncodedPublisher publisher = ChunkedEncodedPublisher
+            .builder()
+            .publisher(payload(3))
+            .chunkSize(3)
+            .header(header)
+            .build();
+
+        assertThat(readAll(publisher)).isEqualTo(readAll(publisher));
+        assertThat(resets).hasValue(2);
+    }
+
+    @Test
+    public void chunkedEncodedPublisher_upstreamError_propagatesError() {
+        ChunkedEncodedPublisher publisher = ChunkedEncodedPublisher
+            .builder()
+            .publisher(Flowable.concat(payload(3), Flowable.error(new IllegalStateException("boom"))))
+            .chunkSize(3)
+            .build();
+
+        assertThatThrownBy(() -> readAll(publisher)).hasMessageContaining("boom");
+    }
+
+    private static Flowable<ByteBuffer> payload(int bufferSize) {
+        return Flowable.range(0, (DATA.length + bufferSize - 1) / bufferSize)
+                       .map(i -> ByteBuffer.wrap(DATA, i * bufferSize, Math.min(bufferSize, DATA.length - i * bufferSize)));
+    }
+
+    private static String readAll(Publisher<ByteBuffer> publisher) {
+        return Flowable.fromPublisher(publisher)
+                       .map(buffer -> StandardCharsets.UTF_8.decode(buffer).toString())
+                       .reduce("", String::concat)
+                       .blockingGet();
+    }
+}
@@ -77,6 +77,8 @@ public abstract class BaseAwsJsonProtocolFactory {
             .parser(JsonNodeParser.builder()
                                   .jsonFactory(getSdkFactory().getJsonFactory())
                                   .build())
+            .jsonFactory(getSdkFactory().getJsonFactory())
+            .enableFastUnmarshalling(builder.enableFastUnmarshalling)
             .defaultTimestampFormats(getDefaultTimestampFormats())
             .build();
     }
@@ -203,6 +205,7 @@ public abstract class BaseAwsJsonProtocolFactory {
         private String customErrorCodeFieldName;
         private SdkClientConfiguration clientConfiguration;
         private boolean hasAwsQueryCompatible;
+        private boolean enableFastUnmarshalling;
 
         protected Builder() {
         }
@@ -297,6 +300,18 @@ public abstract class BaseAwsJsonProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Enables unmarshalling response payloads directly from the JSON token stream, without first building an
+         * intermediate JSON tree. Shapes containing document members fall back to the tree based unmarshaller.
+         *
+         * @param enableFastUnmarshalling Whether to enable the streaming unmarshaller.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
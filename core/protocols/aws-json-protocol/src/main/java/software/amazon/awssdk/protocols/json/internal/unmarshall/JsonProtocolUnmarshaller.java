@@ -45,6 +45,7 @@ import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
@@ -61,12 +62,20 @@ public final class JsonProtocolUnmarshaller {
 
     private final JsonNodeParser parser;
 
+    private final JsonStreamingUnmarshaller streamingUnmarshaller;
+
     private JsonProtocolUnmarshaller(Builder builder) {
         this.parser = builder.parser;
         this.instantStringToValue = StringToInstant.create(builder.defaultTimestampFormats.isEmpty() ?
                                                            new EnumMap<>(MarshallLocation.class) :
                                                            new EnumMap<>(builder.defaultTimestampFormats));
         this.registry = createUnmarshallerRegistry(instantStringToValue);
+        this.streamingUnmarshaller = builder.enableFastUnmarshalling ?
+                                     new JsonStreamingUnmarshaller(builder.jsonFactory != null ?
+                                                                   builder.jsonFactory :
+                                                                   JsonNodeParser.DEFAULT_JSON_FACTORY,
+                                                                   instantStringToValue) :
+                                     null;
     }
 
     private static JsonUnmarshallerRegistry createUnmarshallerRegistry(
@@ -187,8 +196,13 @@ public final class JsonProtocolUnmarshaller {
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response) throws IOException {
-        JsonNode jsonNode = hasJsonPayload(sdkPojo, response) ? parser.parse(response.content().get()) : null;
-        return unmarshall(sdkPojo, response, jsonNode);
+        if (!hasJsonPayload(sdkPojo, response)) {
+            return unmarshall(sdkPojo, response, null);
+        }
+        if (streamingUnmarshaller != null && streamingUnmarshaller.isSupported(sdkPojo)) {
+            return streamingUnmarshaller.unmarshall(sdkPojo, response.content().get(), createContext(response));
+        }
+        return unmarshall(sdkPojo, response, parser.parse(response.content().get()));
     }
 
     private boolean hasJsonPayload(SdkPojo sdkPojo, SdkHttpFullResponse response) {
@@ -218,11 +232,14 @@ public final class JsonProtocolUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                             SdkHttpFullResponse response,
                             JsonNode jsonContent) {
-        JsonUnmarshallerContext context = JsonUnmarshallerContext.builder()
-                                                                 .unmarshallerRegistry(registry)
-                                                                 .response(response)
-                                                                 .build();
-        return unmarshallStructured(sdkPojo, jsonContent, context);
+        return unmarshallStructured(sdkPojo, jsonContent, createContext(response));
+    }
+
+    private JsonUnmarshallerContext createContext(SdkHttpFullResponse response) {
+        return JsonUnmarshallerContext.builder()
+                                      .unmarshallerRegistry(registry)
+                                      .response(response)
+                                      .build();
     }
 
     @SuppressWarnings("unchecked")
@@ -277,6 +294,8 @@ public final class JsonProtocolUnmarshaller {
     public static final class Builder {
 
         private JsonNodeParser parser;
+        private JsonFactory jsonFactory;
+        private boolean enableFastUnmarshalling;
         private Map<MarshallLocation, TimestampFormatTrait.Format> defaultTimestampFormats;
 
         private Builder() {
@@ -291,6 +310,26 @@ public final class JsonProtocolUnmarshaller {
             return this;
         }
 
+        /**
+         * @param jsonFactory JSON factory used to create token stream parsers when fast unmarshalling is enabled. Defaults to
+         * {@link JsonNodeParser#DEFAULT_JSON_FACTORY}.
+         * @return This builder for method chaining.
+         */
+        public Builder jsonFactory(JsonFactory jsonFactory) {
+            this.jsonFactory = jsonFactory;
+            return this;
+        }
+
+        /**
+         * @param enableFastUnmarshalling Whether payloads should be unmarshalled directly from the JSON token stream instead
+         * of first being parsed into a {@link JsonNode} tree. Shapes containing document members always use the tree.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
         /**
          * @param formats The default timestamp formats for each location in the HTTP response.
          * @return This builder for method chaining.
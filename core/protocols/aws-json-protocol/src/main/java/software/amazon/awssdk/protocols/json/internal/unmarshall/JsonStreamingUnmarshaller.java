@@ -0,0 +1,282 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshaller that drives the JSON token stream directly into {@link SdkPojo} builders, without first building an
+ * intermediate {@code JsonNode} tree. Payload members are looked up through a field-name index that is computed once per
+ * shape and cached for the lifetime of the unmarshaller.
+ *
+ * <p>Shapes that (transitively) contain document members, or that bind a blob or string as their explicit payload, are not
+ * supported; {@link #isSupported(SdkPojo)} must be checked and the tree based path used for those instead.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class JsonStreamingUnmarshaller {
+
+    private final JsonFactory jsonFactory;
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+    private final Map<Class<?>, Map<String, SdkField<?>>> fieldIndexByShape = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> supportedShapes = new ConcurrentHashMap<>();
+
+    JsonStreamingUnmarshaller(JsonFactory jsonFactory,
+                              StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+        this.jsonFactory = jsonFactory;
+
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.INSTANT, instantStringToValue);
+        this.simpleTypeConverters = Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * @return True if the given shape can be unmarshalled by this class, false if the tree based path must be used.
+     */
+    boolean isSupported(SdkPojo sdkPojo) {
+        return supportedShapes.computeIfAbsent(sdkPojo.getClass(), c -> !requiresTree(sdkPojo));
+    }
+
+    /**
+     * Unmarshalls the JSON payload in {@code content} into the given top-level shape. Members bound to other locations
+     * (headers, status code) are delegated to the registry held by the {@code context}.
+     */
+    <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, InputStream content, JsonUnmarshallerContext context) {
+        return invokeSafely(() -> {
+            try (JsonParser parser = jsonFactory.createParser(content)
+                                                .configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false)) {
+                return unmarshallTopLevel(sdkPojo, parser, context);
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> TypeT unmarshallTopLevel(SdkPojo sdkPojo,
+                                                             JsonParser parser,
+                                                             JsonUnmarshallerContext context) throws IOException {
+        boolean hasExplicitPayload = false;
+        JsonToken token = parser.nextToken();
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (isExplicitPayloadMember(field)) {
+                hasExplicitPayload = true;
+                field.set(sdkPojo, unmarshallValue(parser, token, field));
+            } else if (!isPayloadMemberOnUnmarshall(field)) {
+                JsonUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            }
+        }
+
+        if (!hasExplicitPayload && token == JsonToken.START_OBJECT) {
+            unmarshallMembers(parser, sdkPojo);
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
+    }
+
+    private void unmarshallMembers(JsonParser parser, SdkPojo sdkPojo) throws IOException {
+        Map<String, SdkField<?>> fieldIndex = fieldIndex(sdkPojo);
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            SdkField<?> field = fieldIndex.get(fieldName);
+            if (field == null) {
+                parser.skipChildren();
+            } else {
+                field.set(sdkPojo, unmarshallValue(parser, valueToken, field));
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(JsonParser parser, JsonToken token, SdkField<?> field) throws IOException {
+        if (token == null || token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return unmarshallStructure(parser, token, field);
+        }
+        if (type == MarshallingType.LIST) {
+            return unmarshallList(parser, token, field);
+        }
+        if (type == MarshallingType.MAP) {
+            return unmarshallMap(parser, token, field);
+        }
+        if (type == MarshallingType.SDK_BYTES) {
+            return unmarshallSdkBytes(parser, token, field);
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(type);
+        if (converter == null) {
+            throw SdkClientException.create(String.format("No unmarshaller registered for type %s", type));
+        }
+        expectScalar(token, field);
+        return converter.convert(parser.getText(), (SdkField<Object>) field);
+    }
+
+    private SdkPojo unmarshallStructure(JsonParser parser, JsonToken token, SdkField<?> field) throws IOException {
+        expect(JsonToken.START_OBJECT, token, field);
+        SdkPojo sdkPojo = field.constructor().get();
+        unmarshallMembers(parser, sdkPojo);
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    private List<?> unmarshallList(JsonParser parser, JsonToken token, SdkField<?> field) throws IOException {
+        expect(JsonToken.START_ARRAY, token, field);
+        SdkField<Object> memberInfo = field.getTrait(ListTrait.class).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        JsonToken memberToken = parser.nextToken();
+        while (memberToken != JsonToken.END_ARRAY) {
+            list.add(unmarshallValue(parser, memberToken, memberInfo));
+            memberToken = parser.nextToken();
+        }
+        return list;
+    }
+
+    private Map<String, ?> unmarshallMap(JsonParser parser, JsonToken token, SdkField<?> field) throws IOException {
+        expect(JsonToken.START_OBJECT, token, field);
+        SdkField<Object> valueInfo = field.getTrait(MapTrait.class).valueFieldInfo();
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextToken() != JsonToken.END_OBJECT) {
+            String key = parser.getCurrentName();
+            map.put(key, unmarshallValue(parser, parser.nextToken(), valueInfo));
+        }
+        return map;
+    }
+
+    @SuppressWarnings("unchecked")
+    private SdkBytes unmarshallSdkBytes(JsonParser parser, JsonToken token, SdkField<?> field) throws IOException {
+        // Binary protocols like CBOR may already have the raw bytes extracted.
+        if (token == JsonToken.VALUE_EMBEDDED_OBJECT) {
+            return SdkBytes.fromByteArray((byte[]) parser.getEmbeddedObject());
+        }
+        expectScalar(token, field);
+        return TO_SDK_BYTES.convert(parser.getText(), (SdkField<SdkBytes>) field);
+    }
+
+    private static void expect(JsonToken expected, JsonToken actual, SdkField<?> field) {
+        if (actual != expected) {
+            throw SdkClientException.create(String.format("Unexpected JSON token %s for member %s, expected %s",
+                                                          actual, field.memberName(), expected));
+        }
+    }
+
+    private static void expectScalar(JsonToken actual, SdkField<?> field) {
+        if (!actual.isScalarValue()) {
+            throw SdkClientException.create(String.format("Unexpected JSON token %s for member %s, expected a scalar value",
+                                                          actual, field.memberName()));
+        }
+    }
+
+    private Map<String, SdkField<?>> fieldIndex(SdkPojo sdkPojo) {
+        return fieldIndexByShape.computeIfAbsent(sdkPojo.getClass(), c -> {
+            Map<String, SdkField<?>> index = new HashMap<>();
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (isPayloadMemberOnUnmarshall(field) && !isExplicitPayloadMember(field)) {
+                    index.put(field.locationName(), field);
+                }
+            }
+            return Collections.unmodifiableMap(index);
+        });
+    }
+
+    private static boolean requiresTree(SdkPojo sdkPojo) {
+        Set<Class<?>> visited = new HashSet<>();
+        visited.add(sdkPojo.getClass());
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (isExplicitPayloadMember(field) && (field.marshallingType() == MarshallingType.SDK_BYTES ||
+                                                   field.marshallingType() == MarshallingType.STRING)) {
+                return true;
+            }
+            if (containsDocument(field, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean containsDocument(SdkField<?> field, Set<Class<?>> visited) {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.DOCUMENT) {
+            return true;
+        }
+        if (type == MarshallingType.LIST) {
+            return containsDocument(field.getTrait(ListTrait.class).memberFieldInfo(), visited);
+        }
+        if (type == MarshallingType.MAP) {
+            return containsDocument(field.getTrait(MapTrait.class).valueFieldInfo(), visited);
+        }
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo member = field.constructor().get();
+            if (!visited.add(member.getClass())) {
+                return false;
+            }
+            for (SdkField<?> memberField : member.sdkFields()) {
+                if (containsDocument(memberField, visited)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isExplicitPayloadMember(SdkField<?> field) {
+        return field.containsTrait(PayloadTrait.class);
+    }
+
+    private static boolean isPayloadMemberOnUnmarshall(SdkField<?> field) {
+        return field.location() == MarshallLocation.PAYLOAD || MarshallerUtil.isInUri(field.location());
+    }
+}
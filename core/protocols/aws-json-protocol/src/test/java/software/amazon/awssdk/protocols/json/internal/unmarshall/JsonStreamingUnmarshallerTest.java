@@ -0,0 +1,276 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TimestampFormatTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class JsonStreamingUnmarshallerTest {
+
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(field(MarshallingType.STRING, "Name"),
+                                                                         field(MarshallingType.INTEGER, "Count"));
+
+    private static final List<SdkField<?>> ALL_TYPES_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.LONG, "LongMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        field(MarshallingType.DOUBLE, "DoubleMember"),
+        field(MarshallingType.BIG_DECIMAL, "BigDecimalMember"),
+        field(MarshallingType.INSTANT, "TimestampMember"),
+        field(MarshallingType.SDK_BYTES, "BlobMember"),
+        structureField("StructMember", NestedPojo::new),
+        field(MarshallingType.LIST, "ListOfStructs",
+              ListTrait.builder().memberFieldInfo(structureField("member", NestedPojo::new)).build()),
+        field(MarshallingType.LIST, "ListOfLists",
+              ListTrait.builder()
+                       .memberFieldInfo(field(MarshallingType.LIST, "member",
+                                              ListTrait.builder()
+                                                       .memberFieldInfo(field(MarshallingType.STRING, "member"))
+                                                       .build()))
+                       .build()),
+        field(MarshallingType.MAP, "MapOfStrings",
+              MapTrait.builder().valueFieldInfo(field(MarshallingType.STRING, "value")).build()),
+        field(MarshallingType.STRING, "HeaderMember", MarshallLocation.HEADER, "x-amz-header"),
+        field(MarshallingType.INTEGER, "StatusCode", MarshallLocation.STATUS_CODE, "StatusCode"));
+
+    private static final List<SdkField<?>> EXPLICIT_PAYLOAD_FIELDS = Collections.singletonList(
+        structureField("Payload", NestedPojo::new, PayloadTrait.create()));
+
+    private static final List<SdkField<?>> DOCUMENT_FIELDS = Arrays.asList(field(MarshallingType.STRING, "StringMember"),
+                                                                           field(MarshallingType.DOCUMENT, "DocumentMember"));
+
+    private static final String ALL_TYPES_JSON =
+        "{"
+        + "\"StringMember\":\"foo\","
+        + "\"IntegerMember\":42,"
+        + "\"LongMember\":9223372036854775807,"
+        + "\"BooleanMember\":true,"
+        + "\"DoubleMember\":1.5,"
+        + "\"BigDecimalMember\":12345678901234567890.123,"
+        + "\"TimestampMember\":1398796238.123,"
+        + "\"BlobMember\":\"aGVsbG8=\","
+        + "\"UnknownMember\":{\"a\":[1,2,{\"b\":null}]},"
+        + "\"StructMember\":{\"Name\":\"nested\",\"Count\":7,\"Unknown\":\"x\"},"
+        + "\"ListOfStructs\":[{\"Name\":\"a\"},null,{\"Count\":2}],"
+        + "\"ListOfLists\":[[\"a\",\"b\"],[],null],"
+        + "\"MapOfStrings\":{\"k1\":\"v1\",\"k2\":null},"
+        + "\"UnknownScalar\":12"
+        + "}";
+
+    @ParameterizedTest
+    @ValueSource(strings = {ALL_TYPES_JSON, "{}", "", "null", "[]"})
+    public void unmarshall_matchesTreeUnmarshaller(String json) throws Exception {
+        TestPojo fast = unmarshaller(true).unmarshall(new AllTypesPojo(), response(json));
+        TestPojo tree = unmarshaller(false).unmarshall(new AllTypesPojo(), response(json));
+
+        assertThat(fast).isEqualTo(tree);
+    }
+
+    @Test
+    public void unmarshall_allTypes_populatesEveryMember() throws Exception {
+        TestPojo result = unmarshaller(true).unmarshall(new AllTypesPojo(), response(ALL_TYPES_JSON));
+
+        assertThat(result.get("StringMember")).isEqualTo("foo");
+        assertThat(result.get("IntegerMember")).isEqualTo(42);
+        assertThat(result.get("LongMember")).isEqualTo(Long.MAX_VALUE);
+        assertThat(result.get("BooleanMember")).isEqualTo(true);
+        assertThat(result.get("DoubleMember")).isEqualTo(1.5);
+        assertThat(result.get("BigDecimalMember")).isEqualTo(new BigDecimal("12345678901234567890.123"));
+        assertThat(result.get("TimestampMember")).isEqualTo(Instant.ofEpochMilli(1398796238123L));
+        assertThat(result.get("BlobMember")).isEqualTo(SdkBytes.fromUtf8String("hello"));
+        assertThat(result.get("HeaderMember")).isEqualTo("header-value");
+        assertThat(result.get("StatusCode")).isEqualTo(200);
+        assertThat(((TestPojo) result.get("StructMember")).get("Name")).isEqualTo("nested");
+        assertThat((List<?>) result.get("ListOfStructs")).hasSize(3).containsNull();
+        assertThat(result.get("ListOfLists")).isEqualTo(Arrays.asList(Arrays.asList("a", "b"), Collections.emptyList(), null));
+        Map<String, String> expectedMap = new HashMap<>();
+        expectedMap.put("k1", "v1");
+        expectedMap.put("k2", null);
+        assertThat(result.get("MapOfStrings")).isEqualTo(expectedMap);
+    }
+
+    @Test
+    public void unmarshall_explicitStructurePayload_unmarshallsWholeBody() throws Exception {
+        TestPojo result = unmarshaller(true).unmarshall(new ExplicitPayloadPojo(), response("{\"Name\":\"body\",\"Count\":3}"));
+
+        TestPojo nested = (TestPojo) result.get("Payload");
+        assertThat(nested.get("Name")).isEqualTo("body");
+        assertThat(nested.get("Count")).isEqualTo(3);
+    }
+
+    @Test
+    public void unmarshall_shapeWithDocument_fallsBackToTree() throws Exception {
+        TestPojo result = unmarshaller(true).unmarshall(new DocumentPojo(),
+                                                        response("{\"StringMember\":\"foo\",\"DocumentMember\":{\"a\":1}}"));
+
+        assertThat(result.get("StringMember")).isEqualTo("foo");
+        assertThat(result.get("DocumentMember")).isEqualTo(Document.mapBuilder().putNumber("a", 1).build());
+    }
+
+    @Test
+    public void unmarshall_unexpectedToken_throwsSdkClientException() {
+        assertThatThrownBy(() -> unmarshaller(true).unmarshall(new AllTypesPojo(),
+                                                               response("{\"StructMember\":[1]}")))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("StructMember");
+    }
+
+    private static JsonProtocolUnmarshaller unmarshaller(boolean enableFastUnmarshalling) {
+        return JsonProtocolUnmarshaller.builder()
+                                       .parser(JsonNodeParser.create())
+                                       .enableFastUnmarshalling(enableFastUnmarshalling)
+                                       .defaultTimestampFormats(Collections.singletonMap(
+                                           MarshallLocation.PAYLOAD, TimestampFormatTrait.Format.UNIX_TIMESTAMP))
+                                       .build();
+    }
+
+    private static SdkHttpFullResponse response(String json) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(
+                                      SdkBytes.fromString(json, StandardCharsets.UTF_8).asInputStream()))
+                                  .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, Trait... traits) {
+        return field(type, name, MarshallLocation.PAYLOAD, name, traits);
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, MarshallLocation location,
+                                         String locationName, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder().location(location).locationName(locationName).build();
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(obj -> null)
+                       .setter((obj, val) -> ((TestPojo) obj).values.put(name, val))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static SdkField<SdkPojo> structureField(String name, Supplier<SdkPojo> constructor, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder().location(MarshallLocation.PAYLOAD).locationName(name).build();
+        return SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                       .memberName(name)
+                       .constructor(constructor)
+                       .getter(obj -> null)
+                       .setter((obj, val) -> ((TestPojo) obj).values.put(name, val))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    /**
+     * The streaming unmarshaller caches its field index per class, so every distinct set of fields needs its own class, as
+     * is the case for generated builders.
+     */
+    private abstract static class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        Object get(String name) {
+            return values.get(name);
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            // Members that were explicitly unmarshalled as null are equivalent to absent members.
+            values.values().removeIf(Objects::isNull);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o != null && getClass() == o.getClass() && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+
+    private static final class AllTypesPojo extends TestPojo {
+        AllTypesPojo() {
+            super(ALL_TYPES_FIELDS);
+        }
+    }
+
+    private static final class NestedPojo extends TestPojo {
+        NestedPojo() {
+            super(NESTED_FIELDS);
+        }
+    }
+
+    private static final class ExplicitPayloadPojo extends TestPojo {
+        ExplicitPayloadPojo() {
+            super(EXPLICIT_PAYLOAD_FIELDS);
+        }
+    }
+
+    private static final class DocumentPojo extends TestPojo {
+        DocumentPojo() {
+            super(DOCUMENT_FIELDS);
+        }
+    }
+}
@@ -50,11 +50,16 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final QueryProtocolUnmarshaller successUnmarshaller;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
+        this.successUnmarshaller = QueryProtocolUnmarshaller.builder()
+                                                            .hasResultWrapper(!isEc2())
+                                                            .enableFastUnmarshalling(builder.enableFastUnmarshalling)
+                                                            .build();
         this.errorUnmarshaller = timeUnmarshalling(AwsXmlErrorProtocolUnmarshaller
             .builder()
             .defaultExceptionSupplier(defaultServiceExceptionSupplier)
@@ -88,9 +93,7 @@ public class AwsQueryProtocolFactory {
      * @return New {@link HttpResponseHandler} for success responses.
      */
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
-        return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
-                                                                                        .hasResultWrapper(!isEc2())
-                                                                                        .build(), r -> pojoSupplier.get()));
+        return timeUnmarshalling(new AwsQueryResponseHandler<>(successUnmarshaller, r -> pojoSupplier.get()));
     }
 
     /**
@@ -140,6 +143,7 @@ public class AwsQueryProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private SdkClientConfiguration clientConfiguration;
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
+        private boolean enableFastUnmarshalling;
 
         Builder() {
         }
@@ -178,6 +182,18 @@ public class AwsQueryProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether responses should be unmarshalled directly from the XML token stream rather than from an intermediate XML
+         * tree. Shapes that need the tree are still unmarshalled from it. Defaults to false.
+         *
+         * @param enableFastUnmarshalling True to skip building the XML tree where possible.
+         * @return This builder for method chaining.
+         */
+        public final SubclassT enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
@@ -22,10 +22,13 @@ import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.protocol.MarshallingType;
 import software.amazon.awssdk.core.traits.PayloadTrait;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
@@ -34,6 +37,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Pair;
@@ -65,10 +69,21 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             context.protocolUnmarshaller().unmarshall(context, field.constructor().get(), content.get(0)))
         .build();
 
+    private static final String RESPONSE_METADATA_ELEMENT_NAME = "ResponseMetadata";
+    private static final String REQUEST_ID_ELEMENT_NAME = "requestId";
+
     private final boolean hasResultWrapper;
+    private final XmlStreamingUnmarshaller streamingUnmarshaller;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.streamingUnmarshaller = builder.enableFastUnmarshalling ?
+                                     XmlStreamingUnmarshaller.builder()
+                                                             .listMembersByName(false)
+                                                             .instantStringToValue(
+                                                                 StringToInstant.create(defaultTimestampFormats()))
+                                                             .build() :
+                                     null;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -82,11 +97,66 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (streamingUnmarshaller != null && response.content().isPresent() && streamingUnmarshaller.isSupported(sdkPojo)) {
+            return unmarshallStreaming(sdkPojo, response);
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    /**
+     * Equivalent of the tree based path above that reads the result and the response metadata in a single pass over the
+     * XML tokens.
+     */
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshallStreaming(SdkPojo sdkPojo,
+                                                                                        SdkHttpFullResponse response) {
+        Map<String, String> metadata = new HashMap<>();
+        XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(response.content().get());
+        if (reader == null) {
+            return Pair.of((TypeT) ((Buildable) sdkPojo).build(), metadata);
+        }
+
+        try {
+            SdkPojo result = null;
+            if (hasResultWrapper) {
+                while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+                    if (result == null && !RESPONSE_METADATA_ELEMENT_NAME.equals(reader.getLocalName())) {
+                        result = streamingUnmarshaller.unmarshall(reader, sdkPojo);
+                    } else {
+                        unmarshallMetadata(reader, metadata);
+                    }
+                }
+            } else {
+                streamingUnmarshaller.unmarshallMembers(reader, sdkPojo, r -> unmarshallMetadata(r, metadata));
+            }
+            if (result == null) {
+                result = (SdkPojo) ((Buildable) sdkPojo).build();
+            }
+            return Pair.of((TypeT) result, metadata);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        } finally {
+            XmlStreamingUnmarshaller.closeQuietly(reader);
+        }
+    }
+
+    private void unmarshallMetadata(XMLStreamReader reader, Map<String, String> metadata) throws XMLStreamException {
+        String elementName = reader.getLocalName();
+        if (RESPONSE_METADATA_ELEMENT_NAME.equals(elementName)) {
+            while (XmlStreamingUnmarshaller.nextChildElement(reader)) {
+                String key = metadataKeyName(reader.getLocalName());
+                metadata.put(key, XmlStreamingUnmarshaller.readText(reader));
+            }
+        } else if (REQUEST_ID_ELEMENT_NAME.equals(elementName)) {
+            metadata.put(AWS_REQUEST_ID, XmlStreamingUnmarshaller.readText(reader));
+        } else {
+            XmlStreamingUnmarshaller.skipElement(reader);
+        }
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -109,20 +179,20 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     }
 
     private Map<String, String> parseMetadata(XmlElement document) {
-        XmlElement responseMetadata = document.getElementByName("ResponseMetadata");
+        XmlElement responseMetadata = document.getElementByName(RESPONSE_METADATA_ELEMENT_NAME);
         Map<String, String> metadata = new HashMap<>();
         if (responseMetadata != null) {
-            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c), c.textContent()));
+            responseMetadata.children().forEach(c -> metadata.put(metadataKeyName(c.elementName()), c.textContent()));
         }
-        XmlElement requestId = document.getElementByName("requestId");
+        XmlElement requestId = document.getElementByName(REQUEST_ID_ELEMENT_NAME);
         if (requestId != null) {
             metadata.put(AWS_REQUEST_ID, requestId.textContent());
         }
         return metadata;
     }
 
-    private String metadataKeyName(XmlElement c) {
-        return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
+    private String metadataKeyName(String elementName) {
+        return elementName.equals("RequestId") ? AWS_REQUEST_ID : elementName;
     }
 
     private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -158,6 +228,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableFastUnmarshalling;
 
         private Builder() {
         }
@@ -207,6 +278,16 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * @param enableFastUnmarshalling True to unmarshall responses directly from the XML token stream instead of first
+         * parsing them into an {@link XmlElement} tree. Defaults to false.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
@@ -0,0 +1,556 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an XML document directly into {@link SdkPojo} builders using the StAX cursor API ({@link XMLStreamReader}),
+ * without first materializing an {@link XmlElement} tree like {@link XmlDomParser} does. Child elements are matched to
+ * members through a name index that is computed once per shape and cached for the lifetime of this object.
+ *
+ * <p>The semantics mirror the tree based AWS/Query and REST/XML unmarshallers: the first occurrence of a non-flattened
+ * member wins, flattened lists and maps collect every matching sibling, and unknown elements are skipped.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class XmlStreamingUnmarshaller {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY =
+        ThreadLocal.withInitial(XmlDomParser::createXmlInputFactory);
+
+    private final boolean listMembersByName;
+    private final Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> simpleTypeConverters;
+    private final Map<Class<?>, ShapeIndex> shapeIndexes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Boolean> supportedShapes = new ConcurrentHashMap<>();
+
+    private XmlStreamingUnmarshaller(Builder builder) {
+        this.listMembersByName = builder.listMembersByName;
+
+        Map<MarshallingType<?>, StringToValueConverter.StringToValue<?>> converters = new HashMap<>();
+        converters.put(MarshallingType.STRING, StringToValueConverter.TO_STRING);
+        converters.put(MarshallingType.INTEGER, StringToValueConverter.TO_INTEGER);
+        converters.put(MarshallingType.LONG, StringToValueConverter.TO_LONG);
+        converters.put(MarshallingType.SHORT, StringToValueConverter.TO_SHORT);
+        converters.put(MarshallingType.FLOAT, StringToValueConverter.TO_FLOAT);
+        converters.put(MarshallingType.DOUBLE, StringToValueConverter.TO_DOUBLE);
+        converters.put(MarshallingType.BIG_DECIMAL, StringToValueConverter.TO_BIG_DECIMAL);
+        converters.put(MarshallingType.BOOLEAN, StringToValueConverter.TO_BOOLEAN);
+        converters.put(MarshallingType.SDK_BYTES, StringToValueConverter.TO_SDK_BYTES);
+        converters.put(MarshallingType.INSTANT, builder.instantStringToValue);
+        this.simpleTypeConverters = Collections.unmodifiableMap(converters);
+    }
+
+    /**
+     * Creates a reader over the given content, positioned on the start tag of the root element.
+     *
+     * @param content XML document to read.
+     * @return A reader positioned on the root element, or null if the content is empty.
+     */
+    public static XMLStreamReader createReader(InputStream content) {
+        LookaheadInputStream stream = new LookaheadInputStream(content);
+        try {
+            if (stream.peek() == -1) {
+                return null;
+            }
+
+            XMLStreamReader reader = FACTORY.get().createXMLStreamReader(stream);
+            while (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                // Skip ahead to the first start element
+            }
+            return reader;
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Closes the reader without closing the underlying input stream.
+     */
+    public static void closeQuietly(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            // Nothing to release beyond the parser state, the underlying stream is owned by the caller.
+        }
+    }
+
+    /**
+     * Reads the element the reader is positioned on into an {@link XmlElement}, exactly as {@link XmlDomParser} would. This
+     * is used when a response turns out to need the tree based path (e.g. an error body) after streaming has begun.
+     */
+    public static XmlElement readElement(XMLStreamReader reader) {
+        try {
+            return parseElement(reader);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * @return True if the given shape can be unmarshalled by this class, false if the tree based path must be used.
+     */
+    public boolean isSupported(SdkPojo sdkPojo) {
+        return supportedShapes.computeIfAbsent(sdkPojo.getClass(), c -> isSupportedShape(sdkPojo));
+    }
+
+    /**
+     * Unmarshalls the root element of the document into the given shape and builds it.
+     */
+    public SdkPojo unmarshall(XmlTokenStream document, SdkPojo sdkPojo) {
+        return unmarshall(document.reader(), sdkPojo);
+    }
+
+    /**
+     * Unmarshalls the children of the root element of the document into the members of the given shape, without building
+     * it. Child elements that do not match a member are skipped.
+     */
+    public void unmarshallMembers(XmlTokenStream document, SdkPojo sdkPojo) {
+        unmarshallMembers(document.reader(), sdkPojo, null);
+    }
+
+    /**
+     * Unmarshalls the element the reader is positioned on into the given shape and builds it. The reader is left on the end
+     * tag of that element.
+     */
+    public SdkPojo unmarshall(XMLStreamReader reader, SdkPojo sdkPojo) {
+        try {
+            return unmarshallStructure(reader, sdkPojo);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Unmarshalls the children of the element the reader is positioned on into the members of the given shape, without
+     * building it. Child elements that do not match a member are passed to {@code unmatchedElementHandler}, or skipped if it
+     * is null. The reader is left on the end tag of the element.
+     */
+    public void unmarshallMembers(XMLStreamReader reader, SdkPojo sdkPojo, ElementHandler unmatchedElementHandler) {
+        try {
+            populate(reader, sdkPojo, unmatchedElementHandler);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Advances the reader to the next child element of the current element.
+     *
+     * @return True if positioned on the start tag of a child element, false if positioned on the end tag of the parent.
+     */
+    public static boolean nextChildElement(XMLStreamReader reader) throws XMLStreamException {
+        while (true) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                return true;
+            }
+            if (event == XMLStreamConstants.END_ELEMENT) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Reads the text content of the element the reader is positioned on, leaving the reader on its end tag. Nested elements
+     * are skipped.
+     */
+    public static String readText(XMLStreamReader reader) throws XMLStreamException {
+        String text = null;
+        StringBuilder builder = null;
+        while (true) {
+            switch (reader.next()) {
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                case XMLStreamConstants.ENTITY_REFERENCE:
+                    if (text == null) {
+                        text = reader.getText();
+                    } else {
+                        if (builder == null) {
+                            builder = new StringBuilder(text);
+                        }
+                        builder.append(reader.getText());
+                    }
+                    break;
+                case XMLStreamConstants.START_ELEMENT:
+                    skipElement(reader);
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    if (builder != null) {
+                        return builder.toString();
+                    }
+                    return text == null ? "" : text;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Skips the element the reader is positioned on, including all of its children, leaving the reader on its end tag.
+     */
+    public static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private SdkPojo unmarshallStructure(XMLStreamReader reader, SdkPojo sdkPojo) throws XMLStreamException {
+        populate(reader, sdkPojo, null);
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void populate(XMLStreamReader reader,
+                          SdkPojo sdkPojo,
+                          ElementHandler unmatchedElementHandler) throws XMLStreamException {
+        ShapeIndex index = shapeIndex(sdkPojo);
+
+        if (!index.attributes.isEmpty()) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String prefix = reader.getAttributePrefix(i);
+                String key = (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i);
+                SdkField<?> field = index.attributes.get(key);
+                if (field != null) {
+                    field.set(sdkPojo, reader.getAttributeValue(i));
+                }
+            }
+        }
+
+        boolean[] seen = new boolean[index.members.size()];
+        Object[] flattened = null;
+        while (nextChildElement(reader)) {
+            Member member = index.members.get(reader.getLocalName());
+            if (member == null) {
+                if (unmatchedElementHandler != null) {
+                    unmatchedElementHandler.handle(reader);
+                } else {
+                    skipElement(reader);
+                }
+            } else if (member.flattenedList) {
+                flattened = flattened == null ? new Object[seen.length] : flattened;
+                if (flattened[member.slot] == null) {
+                    flattened[member.slot] = new ArrayList<>();
+                }
+                SdkField<?> memberInfo = member.field.getTrait(ListTrait.class).memberFieldInfo();
+                ((List<Object>) flattened[member.slot]).add(unmarshallValue(reader, memberInfo));
+            } else if (member.flattenedMap) {
+                flattened = flattened == null ? new Object[seen.length] : flattened;
+                if (flattened[member.slot] == null) {
+                    flattened[member.slot] = new HashMap<>();
+                }
+                unmarshallMapEntry(reader, member.field.getTrait(MapTrait.class), (Map<String, Object>) flattened[member.slot]);
+            } else if (seen[member.slot]) {
+                skipElement(reader);
+            } else {
+                seen[member.slot] = true;
+                member.field.set(sdkPojo, unmarshallValue(reader, member.field));
+            }
+        }
+
+        if (flattened != null) {
+            for (Member member : index.members.values()) {
+                if (flattened[member.slot] != null) {
+                    member.field.set(sdkPojo, flattened[member.slot]);
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object unmarshallValue(XMLStreamReader reader, SdkField<?> field) throws XMLStreamException {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.SDK_POJO) {
+            return unmarshallStructure(reader, field.constructor().get());
+        }
+        if (type == MarshallingType.LIST) {
+            return unmarshallList(reader, field.getTrait(ListTrait.class));
+        }
+        if (type == MarshallingType.MAP) {
+            return unmarshallMap(reader, field.getTrait(MapTrait.class));
+        }
+
+        StringToValueConverter.StringToValue<Object> converter =
+            (StringToValueConverter.StringToValue<Object>) simpleTypeConverters.get(type);
+        if (converter == null) {
+            throw SdkClientException.create(String.format("No unmarshaller registered for type %s", type));
+        }
+        return converter.convert(readText(reader), (SdkField<Object>) field);
+    }
+
+    private List<?> unmarshallList(XMLStreamReader reader, ListTrait listTrait) throws XMLStreamException {
+        SdkField<?> memberInfo = listTrait.memberFieldInfo();
+        String memberName = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                   : memberInfo.locationName();
+        List<Object> list = new ArrayList<>();
+        while (nextChildElement(reader)) {
+            if (!listMembersByName || reader.getLocalName().equals(memberName)) {
+                list.add(unmarshallValue(reader, memberInfo));
+            } else {
+                skipElement(reader);
+            }
+        }
+        return list;
+    }
+
+    private Map<String, ?> unmarshallMap(XMLStreamReader reader, MapTrait mapTrait) throws XMLStreamException {
+        Map<String, Object> map = new HashMap<>();
+        while (nextChildElement(reader)) {
+            if ("entry".equals(reader.getLocalName())) {
+                unmarshallMapEntry(reader, mapTrait, map);
+            } else {
+                skipElement(reader);
+            }
+        }
+        return map;
+    }
+
+    private void unmarshallMapEntry(XMLStreamReader reader, MapTrait mapTrait, Map<String, Object> map)
+            throws XMLStreamException {
+        String key = null;
+        Object value = null;
+        while (nextChildElement(reader)) {
+            String name = reader.getLocalName();
+            if (key == null && name.equals(mapTrait.keyLocationName())) {
+                key = readText(reader);
+            } else if (value == null && name.equals(mapTrait.valueLocationName())) {
+                value = unmarshallValue(reader, mapTrait.valueFieldInfo());
+            } else {
+                skipElement(reader);
+            }
+        }
+        if (key == null) {
+            throw SdkClientException.create(String.format("Map entry is missing the key element %s",
+                                                          mapTrait.keyLocationName()));
+        }
+        map.put(key, value);
+    }
+
+    private static XmlElement parseElement(XMLStreamReader reader) throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                String prefix = reader.getAttributePrefix(i);
+                attributes.put((prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(i),
+                               reader.getAttributeValue(i));
+            }
+            elementBuilder.attributes(attributes);
+        }
+
+        // Like XmlDomParser, a run of consecutive character events becomes the text content and a later run replaces it.
+        StringBuilder text = null;
+        while (true) {
+            int event = reader.next();
+            if (isCharacters(event)) {
+                text = text == null ? new StringBuilder() : text;
+                text.append(reader.getText());
+                continue;
+            }
+            if (text != null) {
+                elementBuilder.textContent(text.toString());
+                text = null;
+            }
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                elementBuilder.addChildElement(parseElement(reader));
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return elementBuilder.build();
+            }
+        }
+    }
+
+    private static boolean isCharacters(int event) {
+        return event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+               || event == XMLStreamConstants.SPACE;
+    }
+
+    private ShapeIndex shapeIndex(SdkPojo sdkPojo) {
+        return shapeIndexes.computeIfAbsent(sdkPojo.getClass(), c -> new ShapeIndex(sdkPojo.sdkFields()));
+    }
+
+    private boolean isSupportedShape(SdkPojo sdkPojo) {
+        Set<Class<?>> visited = new HashSet<>();
+        visited.add(sdkPojo.getClass());
+        boolean hasPayloadMembers = false;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                continue;
+            }
+            hasPayloadMembers = true;
+            if (field.containsTrait(PayloadTrait.class) && field.marshallingType() != MarshallingType.SDK_POJO) {
+                return false;
+            }
+            if (!isSupportedMember(field, visited)) {
+                return false;
+            }
+        }
+        return hasPayloadMembers;
+    }
+
+    private boolean isSupportedMember(SdkField<?> field, Set<Class<?>> visited) {
+        MarshallingType<?> type = field.marshallingType();
+        if (type == MarshallingType.LIST) {
+            return isSupportedMember(field.getTrait(ListTrait.class).memberFieldInfo(), visited);
+        }
+        if (type == MarshallingType.MAP) {
+            return isSupportedMember(field.getTrait(MapTrait.class).valueFieldInfo(), visited);
+        }
+        if (type == MarshallingType.SDK_POJO) {
+            SdkPojo member = field.constructor().get();
+            if (!visited.add(member.getClass())) {
+                return true;
+            }
+            for (SdkField<?> memberField : member.sdkFields()) {
+                if (memberField.location() == MarshallLocation.PAYLOAD && !isSupportedMember(memberField, visited)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return simpleTypeConverters.containsKey(type);
+    }
+
+    /**
+     * @return New {@link Builder} instance.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Callback for child elements that do not correspond to a member of the shape being unmarshalled. Implementations must
+     * consume the element, leaving the reader on its end tag.
+     */
+    @FunctionalInterface
+    public interface ElementHandler {
+        void handle(XMLStreamReader reader) throws XMLStreamException;
+    }
+
+    /**
+     * Member lookup tables for a single shape.
+     */
+    private static final class ShapeIndex {
+        private final Map<String, Member> members = new HashMap<>();
+        private final Map<String, SdkField<?>> attributes = new HashMap<>();
+
+        private ShapeIndex(List<SdkField<?>> fields) {
+            for (SdkField<?> field : fields) {
+                if (field.location() != MarshallLocation.PAYLOAD || field.containsTrait(PayloadTrait.class)) {
+                    continue;
+                }
+                if (field.containsTrait(XmlAttributeTrait.class)) {
+                    attributes.put(field.unmarshallLocationName(), field);
+                } else {
+                    members.putIfAbsent(field.unmarshallLocationName(), new Member(members.size(), field));
+                }
+            }
+        }
+    }
+
+    private static final class Member {
+        private final int slot;
+        private final SdkField<?> field;
+        private final boolean flattenedList;
+        private final boolean flattenedMap;
+
+        private Member(int slot, SdkField<?> field) {
+            this.slot = slot;
+            this.field = field;
+            this.flattenedList = field.marshallingType() == MarshallingType.LIST
+                                 && field.getTrait(ListTrait.class).isFlattened();
+            this.flattenedMap = field.marshallingType() == MarshallingType.MAP
+                                && field.getTrait(MapTrait.class).isFlattened();
+        }
+    }
+
+    /**
+     * Builder for {@link XmlStreamingUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private boolean listMembersByName = true;
+        private StringToValueConverter.StringToValue<Instant> instantStringToValue;
+
+        private Builder() {
+        }
+
+        /**
+         * Whether the members of a non-flattened list are matched by their modeled element name (REST/XML) or whether every
+         * child element is treated as a member (AWS/Query and EC2). Defaults to true.
+         *
+         * @return This builder for method chaining.
+         */
+        public Builder listMembersByName(boolean listMembersByName) {
+            this.listMembersByName = listMembersByName;
+            return this;
+        }
+
+        /**
+         * @param instantStringToValue Converter used for timestamp members.
+         * @return This builder for method chaining.
+         */
+        public Builder instantStringToValue(StringToValueConverter.StringToValue<Instant> instantStringToValue) {
+            this.instantStringToValue = instantStringToValue;
+            return this;
+        }
+
+        /**
+         * @return New instance of {@link XmlStreamingUnmarshaller}.
+         */
+        public XmlStreamingUnmarshaller build() {
+            return new XmlStreamingUnmarshaller(this);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.InputStream;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * An XML document that is being read incrementally, positioned on its root element. This allows modules that do not
+ * depend on {@code java.xml} to pass a document to {@link XmlStreamingUnmarshaller}.
+ */
+@SdkProtectedApi
+public final class XmlTokenStream implements SdkAutoCloseable {
+
+    private final XMLStreamReader reader;
+
+    private XmlTokenStream(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Starts reading the given content. The content stream is not closed when this object is closed.
+     *
+     * @param content XML document to read.
+     * @return A stream positioned on the root element, or null if the content is empty.
+     */
+    public static XmlTokenStream open(InputStream content) {
+        XMLStreamReader reader = XmlStreamingUnmarshaller.createReader(content);
+        return reader == null ? null : new XmlTokenStream(reader);
+    }
+
+    /**
+     * @return The local name of the root element.
+     */
+    public String rootElementName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Reads the whole root element into an {@link XmlElement} tree.
+     */
+    public XmlElement readRootElement() {
+        return XmlStreamingUnmarshaller.readElement(reader);
+    }
+
+    XMLStreamReader reader() {
+        return reader;
+    }
+
+    @Override
+    public void close() {
+        XmlStreamingUnmarshaller.closeQuietly(reader);
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class QueryProtocolUnmarshallerStreamingTest {
+
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(field(MarshallingType.STRING, "Name"),
+                                                                         field(MarshallingType.INTEGER, "Count"));
+
+    private static final List<SdkField<?>> RESULT_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.LONG, "LongMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        structureField("StructMember", NestedPojo::new),
+        field(MarshallingType.LIST, "ListOfStructs",
+              ListTrait.builder().memberLocationName("member").memberFieldInfo(structureField("member", NestedPojo::new)).build()),
+        field(MarshallingType.LIST, "FlattenedList",
+              ListTrait.builder().isFlattened(true).memberFieldInfo(field(MarshallingType.STRING, "FlattenedList")).build()),
+        field(MarshallingType.MAP, "MapOfStrings",
+              MapTrait.builder()
+                      .keyLocationName("key")
+                      .valueLocationName("value")
+                      .valueFieldInfo(field(MarshallingType.STRING, "value"))
+                      .build()));
+
+    private static final String QUERY_XML =
+        "<OperationResponse xmlns=\"https://example.com/doc/2020-01-01/\">"
+        + "  <OperationResult>"
+        + "    <StringMember>foo</StringMember>"
+        + "    <LongMember>9223372036854775807</LongMember>"
+        + "    <BooleanMember>false</BooleanMember>"
+        + "    <StructMember><Name>nested</Name><Unknown>x</Unknown></StructMember>"
+        // EC2 doesn't always model member names correctly, so every child is a member.
+        + "    <ListOfStructs><member><Count>1</Count></member><item><Count>2</Count></item></ListOfStructs>"
+        + "    <FlattenedList>one</FlattenedList>"
+        + "    <FlattenedList>two</FlattenedList>"
+        + "    <MapOfStrings><entry><key>k</key><value>v</value></entry></MapOfStrings>"
+        + "  </OperationResult>"
+        + "  <ResponseMetadata><RequestId>request-id</RequestId><Other>value</Other></ResponseMetadata>"
+        + "</OperationResponse>";
+
+    private static final String EC2_XML =
+        "<OperationResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+        + "  <requestId>request-id</requestId>"
+        + "  <StringMember>foo</StringMember>"
+        + "  <ListOfStructs><item><Name>a</Name></item></ListOfStructs>"
+        + "</OperationResponse>";
+
+    @Test
+    public void resultWrapper_matchesTreeUnmarshaller() {
+        assertMatchesTreeUnmarshaller(true, QUERY_XML);
+    }
+
+    @Test
+    public void noResultWrapper_matchesTreeUnmarshaller() {
+        assertMatchesTreeUnmarshaller(false, EC2_XML);
+    }
+
+    @Test
+    public void onlyMetadata_matchesTreeUnmarshaller() {
+        assertMatchesTreeUnmarshaller(true, "<OperationResponse><ResponseMetadata><RequestId>id</RequestId>"
+                                            + "</ResponseMetadata></OperationResponse>");
+    }
+
+    @Test
+    public void emptyBody_matchesTreeUnmarshaller() {
+        assertMatchesTreeUnmarshaller(true, "");
+    }
+
+    @Test
+    public void malformedXml_throwsSdkClientException() {
+        assertThatThrownBy(() -> unmarshaller(true, true).unmarshall(new ResultPojo(), response("<OperationResponse><a>")))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Could not parse XML response.");
+    }
+
+    private static void assertMatchesTreeUnmarshaller(boolean hasResultWrapper, String xml) {
+        Pair<ResultPojo, Map<String, String>> fast = unmarshaller(hasResultWrapper, true).unmarshall(new ResultPojo(),
+                                                                                                       response(xml));
+        Pair<ResultPojo, Map<String, String>> tree = unmarshaller(hasResultWrapper, false).unmarshall(new ResultPojo(),
+                                                                                                        response(xml));
+        assertThat(fast.left()).isEqualTo(tree.left());
+        assertThat(fast.right()).isEqualTo(tree.right());
+        if (!xml.isEmpty()) {
+            assertThat(fast.right()).containsKey(AWS_REQUEST_ID);
+        }
+    }
+
+    private static QueryProtocolUnmarshaller unmarshaller(boolean hasResultWrapper, boolean enableFastUnmarshalling) {
+        return QueryProtocolUnmarshaller.builder()
+                                        .hasResultWrapper(hasResultWrapper)
+                                        .enableFastUnmarshalling(enableFastUnmarshalling)
+                                        .build();
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(AbortableInputStream.create(
+                                      SdkBytes.fromString(xml, StandardCharsets.UTF_8).asInputStream()))
+                                  .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = locationTrait(name);
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(obj -> null)
+                       .setter((obj, val) -> ((TestPojo) obj).values.put(name, val))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static SdkField<SdkPojo> structureField(String name, Supplier<SdkPojo> constructor) {
+        return SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                       .memberName(name)
+                       .constructor(constructor)
+                       .getter(obj -> null)
+                       .setter((obj, val) -> ((TestPojo) obj).values.put(name, val))
+                       .traits(locationTrait(name))
+                       .build();
+    }
+
+    private static LocationTrait locationTrait(String name) {
+        return LocationTrait.builder()
+                            .location(MarshallLocation.PAYLOAD)
+                            .locationName(name)
+                            .unmarshallLocationName(name)
+                            .build();
+    }
+
+    /**
+     * The streaming unmarshaller caches its member index per class, so every distinct set of fields needs its own class, as
+     * is the case for generated builders.
+     */
+    private abstract static class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            values.values().removeIf(Objects::isNull);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o != null && getClass() == o.getClass() && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+
+    private static final class ResultPojo extends TestPojo {
+        ResultPojo() {
+            super(RESULT_FIELDS);
+        }
+    }
+
+    private static final class NestedPojo extends TestPojo {
+        NestedPojo() {
+            super(NESTED_FIELDS);
+        }
+    }
+}
@@ -78,11 +78,15 @@ public class AwsXmlProtocolFactory {
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final HttpResponseHandler<AwsServiceException> errorUnmarshaller;
     private final SdkClientConfiguration clientConfiguration;
+    private final XmlProtocolUnmarshaller successUnmarshaller;
 
     AwsXmlProtocolFactory(Builder<?> builder) {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        this.successUnmarshaller = builder.enableFastUnmarshalling ?
+                                   XmlProtocolUnmarshaller.builder().enableFastUnmarshalling(true).build() :
+                                   XML_PROTOCOL_UNMARSHALLER;
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
@@ -116,7 +120,7 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    successUnmarshaller, pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
@@ -124,7 +128,7 @@ public class AwsXmlProtocolFactory {
         Supplier<SdkPojo> pojoSupplier) {
 
         return new AwsXmlResponseTransformer<>(
-            XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
+            successUnmarshaller, r -> pojoSupplier.get());
     }
 
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
@@ -150,6 +154,13 @@ public class AwsXmlProtocolFactory {
                                              createErrorResponseHandler());
     }
 
+    /**
+     * @return The unmarshaller used for successful responses.
+     */
+    XmlProtocolUnmarshaller successUnmarshaller() {
+        return successUnmarshaller;
+    }
+
     /**
      * Extracts the <Error/> element from the root XML document. This method is protected as S3 has
      * a slightly different location.
@@ -179,6 +190,7 @@ public class AwsXmlProtocolFactory {
         private final List<ExceptionMetadata> modeledExceptions = new ArrayList<>();
         private Supplier<SdkPojo> defaultServiceExceptionSupplier;
         private SdkClientConfiguration clientConfiguration;
+        private boolean enableFastUnmarshalling;
 
         Builder() {
         }
@@ -217,6 +229,18 @@ public class AwsXmlProtocolFactory {
             return getSubclass();
         }
 
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML token stream rather than from an
+         * intermediate XML tree. Shapes that need the tree are still unmarshalled from it. Defaults to false.
+         *
+         * @param enableFastUnmarshalling True to skip building the XML tree where possible.
+         * @return This builder for method chaining.
+         */
+        public SubclassT enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return getSubclass();
+        }
+
         @SuppressWarnings("unchecked")
         private SubclassT getSubclass() {
             return (SubclassT) this;
@@ -31,6 +31,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlTokenStream;
 import software.amazon.awssdk.utils.IoUtils;
 
 /**
@@ -43,12 +44,14 @@ import software.amazon.awssdk.utils.IoUtils;
 @SdkInternalApi
 public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHandler<Response<OutputT>> {
     private static final Logger log = LoggerFactory.getLogger(AwsXmlPredicatedResponseHandler.class);
+    private static final String ERROR_ELEMENT_NAME = "Error";
 
     private final Function<SdkHttpFullResponse, SdkPojo> pojoSupplier;
     private final Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final XmlProtocolUnmarshaller streamingUnmarshaller;
 
     /**
      * Standard constructor
@@ -64,12 +67,34 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, null);
+    }
+
+    /**
+     * Constructor that allows successful responses to be unmarshalled directly from the XML token stream.
+     * @param pojoSupplier A method that supplies an empty builder of the correct type
+     * @param successResponseTransformer A function that can unmarshall a response object from parsed XML
+     * @param errorResponseTransformer A function that can unmarshall an exception object from parsed XML
+     * @param decorateContextWithError A function that determines if the response was an error or not
+     * @param needsConnectionLeftOpen true if the underlying connection should not be closed once parsed
+     * @param streamingUnmarshaller The unmarshaller used to decide whether a successful response can skip the XML tree,
+     *                              or null to always parse the tree
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        XmlProtocolUnmarshaller streamingUnmarshaller) {
 
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.streamingUnmarshaller = streamingUnmarshaller;
     }
 
     /**
@@ -94,26 +119,35 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
                                              ExecutionAttributes executionAttributes) {
 
         AwsXmlUnmarshallingContext parsedResponse = parseResponse(httpResponse, executionAttributes);
-        parsedResponse = decorateContextWithError.apply(parsedResponse);
-        logRequestId(httpResponse);
-
-        if (parsedResponse.isResponseSuccess()) {
-            OutputT response = handleSuccessResponse(parsedResponse);
-            return Response.<OutputT>builder().httpResponse(httpResponse)
-                                              .response(response)
-                                              .isSuccess(true)
-                                              .build();
-        } else {
-            return Response.<OutputT>builder().httpResponse(httpResponse)
-                                              .exception(handleErrorResponse(parsedResponse))
-                                              .isSuccess(false)
-                                              .build();
+        try {
+            parsedResponse = decorateContextWithError.apply(parsedResponse);
+            logRequestId(httpResponse);
+
+            if (parsedResponse.isResponseSuccess()) {
+                OutputT response = handleSuccessResponse(parsedResponse);
+                return Response.<OutputT>builder().httpResponse(httpResponse)
+                                                  .response(response)
+                                                  .isSuccess(true)
+                                                  .build();
+            } else {
+                return Response.<OutputT>builder().httpResponse(httpResponse)
+                                                  .exception(handleErrorResponse(parsedResponse))
+                                                  .isSuccess(false)
+                                                  .build();
+            }
+        } finally {
+            IoUtils.closeQuietly(parsedResponse.rootDocument(), log);
         }
     }
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        if (canStream(sdkPojo, httpFullResponse)) {
+            return streamResponse(httpFullResponse, executionAttributes);
+        }
+
+        XmlElement document = XmlResponseParserUtils.parse(sdkPojo, httpFullResponse);
 
         return AwsXmlUnmarshallingContext.builder()
                                          .parsedXml(document)
@@ -122,6 +156,36 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
                                          .build();
     }
 
+    private boolean canStream(SdkPojo sdkPojo, SdkHttpFullResponse httpFullResponse) {
+        return streamingUnmarshaller != null
+               && httpFullResponse.isSuccessful()
+               && httpFullResponse.content().isPresent()
+               && streamingUnmarshaller.isStreamingSupported(sdkPojo);
+    }
+
+    /**
+     * Opens the body as a token stream and hands it to the success transformer. If the root turns out
+     * to be an error (S3 can return errors with a 200 status code) the error is parsed into a tree as usual.
+     */
+    private AwsXmlUnmarshallingContext streamResponse(SdkHttpFullResponse httpFullResponse,
+                                                      ExecutionAttributes executionAttributes) {
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+        XmlTokenStream document = XmlTokenStream.open(httpFullResponse.content().get());
+        if (document == null) {
+            return context.parsedXml(XmlElement.empty()).build();
+        }
+        if (ERROR_ELEMENT_NAME.equals(document.rootElementName())) {
+            try {
+                return context.parsedXml(document.readRootElement()).build();
+            } finally {
+                document.close();
+            }
+        }
+        return context.parsedXml(XmlElement.empty()).rootDocument(document).build();
+    }
+
     /**
      * Handles a successful response from a service call by unmarshalling the results using the
      * specified response handler.
@@ -28,7 +28,6 @@ import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
-import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
 /**
  * A transformer function that takes a parsed XML response and converts it into an {@link AwsResponse}. Used
@@ -51,13 +50,16 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
 
     @Override
     public T apply(AwsXmlUnmarshallingContext context) {
-        return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml());
+        return unmarshallResponse(context);
     }
 
     @SuppressWarnings("unchecked")
-    private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
+    private T unmarshallResponse(AwsXmlUnmarshallingContext context) {
+        SdkHttpFullResponse response = context.sdkHttpFullResponse();
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
-        T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
+        T result = context.rootDocument() != null
+                   ? unmarshaller.unmarshall(pojoSupplier.apply(response), context.rootDocument(), response)
+                   : unmarshaller.unmarshall(pojoSupplier.apply(response), context.parsedRootXml(), response);
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlTokenStream;
 
 /**
  * A data class to hold all the context of an unmarshalling stage for the AWS XML protocol as orchestrated by
@@ -31,6 +32,7 @@ public class AwsXmlUnmarshallingContext {
     private final ExecutionAttributes executionAttributes;
     private final Boolean isResponseSuccess;
     private final XmlElement parsedErrorXml;
+    private final XmlTokenStream rootDocument;
 
     private AwsXmlUnmarshallingContext(Builder builder) {
         this.sdkHttpFullResponse = builder.sdkHttpFullResponse;
@@ -38,6 +40,7 @@ public class AwsXmlUnmarshallingContext {
         this.executionAttributes = builder.executionAttributes;
         this.isResponseSuccess = builder.isResponseSuccess;
         this.parsedErrorXml = builder.parsedErrorXml;
+        this.rootDocument = builder.rootDocument;
     }
 
     public static Builder builder() {
@@ -79,12 +82,21 @@ public class AwsXmlUnmarshallingContext {
         return parsedErrorXml;
     }
 
+    /**
+     * The body, when it is unmarshalled directly from the XML token stream. In that case {@link #parsedRootXml()} is
+     * empty. null if the body was parsed into a tree.
+     */
+    public XmlTokenStream rootDocument() {
+        return rootDocument;
+    }
+
     public Builder toBuilder() {
         return builder().sdkHttpFullResponse(this.sdkHttpFullResponse)
                         .parsedXml(this.parsedXml)
                         .executionAttributes(this.executionAttributes)
                         .isResponseSuccess(this.isResponseSuccess)
-                        .parsedErrorXml(this.parsedErrorXml);
+                        .parsedErrorXml(this.parsedErrorXml)
+                        .rootDocument(this.rootDocument);
     }
 
     @Override
@@ -113,7 +125,10 @@ public class AwsXmlUnmarshallingContext {
             that.isResponseSuccess != null) {
             return false;
         }
-        return parsedErrorXml != null ? parsedErrorXml.equals(that.parsedErrorXml) : that.parsedErrorXml == null;
+        if (parsedErrorXml != null ? ! parsedErrorXml.equals(that.parsedErrorXml) : that.parsedErrorXml != null) {
+            return false;
+        }
+        return rootDocument != null ? rootDocument.equals(that.rootDocument) : that.rootDocument == null;
     }
 
     @Override
@@ -123,6 +138,7 @@ public class AwsXmlUnmarshallingContext {
         result = 31 * result + (executionAttributes != null ? executionAttributes.hashCode() : 0);
         result = 31 * result + (isResponseSuccess != null ? isResponseSuccess.hashCode() : 0);
         result = 31 * result + (parsedErrorXml != null ? parsedErrorXml.hashCode() : 0);
+        result = 31 * result + (rootDocument != null ? rootDocument.hashCode() : 0);
         return result;
     }
 
@@ -132,6 +148,7 @@ public class AwsXmlUnmarshallingContext {
         private ExecutionAttributes executionAttributes;
         private Boolean isResponseSuccess;
         private XmlElement parsedErrorXml;
+        private XmlTokenStream rootDocument;
 
         private Builder() {
         }
@@ -161,6 +178,11 @@ public class AwsXmlUnmarshallingContext {
             return this;
         }
 
+        public Builder rootDocument(XmlTokenStream rootDocument) {
+            this.rootDocument = rootDocument;
+            return this;
+        }
+
         public AwsXmlUnmarshallingContext build() {
             return new AwsXmlUnmarshallingContext(this);
         }
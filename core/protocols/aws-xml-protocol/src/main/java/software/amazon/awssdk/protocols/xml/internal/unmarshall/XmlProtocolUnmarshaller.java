@@ -39,6 +39,8 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamingUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlTokenStream;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -49,16 +51,77 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
 
-    private XmlProtocolUnmarshaller() {
+    private final XmlStreamingUnmarshaller streamingUnmarshaller;
+
+    private XmlProtocolUnmarshaller(Builder builder) {
+        this.streamingUnmarshaller = builder.enableFastUnmarshalling ?
+                                     XmlStreamingUnmarshaller.builder()
+                                                             .listMembersByName(true)
+                                                             .instantStringToValue(INSTANT_STRING_TO_VALUE)
+                                                             .build() :
+                                     null;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
-        XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
-        return unmarshall(sdkPojo, document, response);
+        if (!hasXmlPayload(sdkPojo, response)) {
+            return unmarshall(sdkPojo, (XmlElement) null, response);
+        }
+        if (response.isSuccessful() && isStreamingSupported(sdkPojo)) {
+            try (XmlTokenStream document = XmlTokenStream.open(response.content().get())) {
+                return unmarshall(sdkPojo, document, response);
+            }
+        }
+        return unmarshall(sdkPojo, XmlResponseParserUtils.parse(sdkPojo, response), response);
+    }
+
+    /**
+     * @return True if the given response shape can be unmarshalled directly from an {@link XmlTokenStream} by
+     * {@link #unmarshall(SdkPojo, XmlTokenStream, SdkHttpFullResponse)}.
+     */
+    public boolean isStreamingSupported(SdkPojo sdkPojo) {
+        return streamingUnmarshaller != null && streamingUnmarshaller.isSupported(sdkPojo);
+    }
+
+    /**
+     * Unmarshalls a response whose body is read directly from the given document (which is null if the body was
+     * empty). Only valid if {@link #isStreamingSupported(SdkPojo)}
+     * returned true for the shape.
+     */
+    @SuppressWarnings("unchecked")
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    XmlTokenStream document,
+                                                    SdkHttpFullResponse response) {
+        XmlUnmarshallerContext context = XmlUnmarshallerContext.builder()
+                                                               .response(response)
+                                                               .registry(REGISTRY)
+                                                               .protocolUnmarshaller(this)
+                                                               .build();
+        SdkField<?> explicitPayloadMember = null;
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (field.location() != MarshallLocation.PAYLOAD) {
+                XmlUnmarshaller<Object> unmarshaller = REGISTRY.getUnmarshaller(field.location(), field.marshallingType());
+                field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+            } else if (isExplicitPayloadMember(field)) {
+                explicitPayloadMember = field;
+            }
+        }
+
+        if (explicitPayloadMember != null) {
+            SdkPojo payload = explicitPayloadMember.constructor().get();
+            explicitPayloadMember.set(sdkPojo, document == null ? ((Buildable) payload).build()
+                                                                : streamingUnmarshaller.unmarshall(document, payload));
+        } else if (document != null) {
+            streamingUnmarshaller.unmarshallMembers(document, sdkPojo);
+        }
+        return (TypeT) ((Buildable) sdkPojo).build();
     }
 
     /**
@@ -212,6 +275,30 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return Collections.unmodifiableMap(formats);
     }
 
+    /**
+     * Builder for {@link XmlProtocolUnmarshaller}.
+     */
+    public static final class Builder {
+
+        private boolean enableFastUnmarshalling;
+
+        private Builder() {
+        }
+
+        /**
+         * Whether successful responses should be unmarshalled directly from the XML token stream instead of first parsing
+         * the response into an {@link XmlElement} tree. Defaults to false.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
+        public XmlProtocolUnmarshaller build() {
+            return new XmlProtocolUnmarshaller(this);
+        }
+    }
+
     private static XmlUnmarshallerRegistry createUnmarshallerRegistry() {
         return XmlUnmarshallerRegistry
             .builder()
@@ -0,0 +1,271 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+public class XmlProtocolUnmarshallerStreamingTest {
+
+    private static final List<SdkField<?>> NESTED_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "Name"),
+        field(MarshallingType.INTEGER, "Count"),
+        field(MarshallingType.STRING, "xsi:type", XmlAttributeTrait.create()));
+
+    private static final List<SdkField<?>> ALL_TYPES_FIELDS = Arrays.asList(
+        field(MarshallingType.STRING, "StringMember"),
+        field(MarshallingType.INTEGER, "IntegerMember"),
+        field(MarshallingType.LONG, "LongMember"),
+        field(MarshallingType.BOOLEAN, "BooleanMember"),
+        field(MarshallingType.DOUBLE, "DoubleMember"),
+        field(MarshallingType.INSTANT, "TimestampMember"),
+        field(MarshallingType.SDK_BYTES, "BlobMember"),
+        structureField("StructMember", NestedPojo::new),
+        field(MarshallingType.LIST, "ListOfStrings",
+              ListTrait.builder().memberFieldInfo(field(MarshallingType.STRING, "member")).build()),
+        field(MarshallingType.LIST, "ListOfStructs",
+              ListTrait.builder().memberLocationName("item").memberFieldInfo(structureField("item", NestedPojo::new)).build()),
+        field(MarshallingType.LIST, "FlattenedList",
+              ListTrait.builder().isFlattened(true).memberFieldInfo(field(MarshallingType.STRING, "FlattenedList")).build()),
+        field(MarshallingType.MAP, "MapOfStrings",
+              MapTrait.builder()
+                      .keyLocationName("key")
+                      .valueLocationName("value")
+                      .valueFieldInfo(field(MarshallingType.STRING, "value"))
+                      .build()),
+        field(MarshallingType.MAP, "FlattenedMap",
+              MapTrait.builder()
+                      .keyLocationName("k")
+                      .valueLocationName("v")
+                      .isFlattened(true)
+                      .valueFieldInfo(field(MarshallingType.INTEGER, "v"))
+                      .build()),
+        field(MarshallingType.STRING, "HeaderMember", MarshallLocation.HEADER, "x-amz-header"),
+        field(MarshallingType.INTEGER, "StatusCode", MarshallLocation.STATUS_CODE, "StatusCode"));
+
+    private static final List<SdkField<?>> EXPLICIT_PAYLOAD_FIELDS = Collections.singletonList(
+        structureField("Payload", NestedPojo::new, PayloadTrait.create()));
+
+    private static final List<SdkField<?>> BLOB_PAYLOAD_FIELDS = Collections.singletonList(
+        field(MarshallingType.SDK_BYTES, "Payload", PayloadTrait.create()));
+
+    private static final String ALL_TYPES_XML =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<AllTypes xmlns=\"http://example.com/doc/2020-01-01/\">"
+        + "  <StringMember>foo &amp; <![CDATA[<bar>]]></StringMember>"
+        + "  <IntegerMember>42</IntegerMember>"
+        + "  <LongMember>9223372036854775807</LongMember>"
+        + "  <BooleanMember>true</BooleanMember>"
+        + "  <DoubleMember>1.5</DoubleMember>"
+        + "  <TimestampMember>2014-04-29T18:30:38.123Z</TimestampMember>"
+        + "  <BlobMember>aGVsbG8=</BlobMember>"
+        + "  <Unknown><StringMember>ignored</StringMember></Unknown>"
+        + "  <StructMember xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"Nested\">"
+        + "    <Name>nested</Name><Count>1</Count>"
+        + "  </StructMember>"
+        + "  <ListOfStrings><member>a</member><member>b</member><other>c</other></ListOfStrings>"
+        + "  <ListOfStructs><item><Name>x</Name></item><item><Count>2</Count></item></ListOfStructs>"
+        + "  <FlattenedList>one</FlattenedList>"
+        + "  <StringMember>second occurrence is ignored</StringMember>"
+        + "  <FlattenedList>two</FlattenedList>"
+        + "  <MapOfStrings>"
+        + "    <entry><key>k1</key><value>v1</value></entry>"
+        + "    <entry><key>k2</key><value></value></entry>"
+        + "  </MapOfStrings>"
+        + "  <FlattenedMap><k>a</k><v>1</v></FlattenedMap>"
+        + "  <FlattenedMap><k>b</k><v>2</v></FlattenedMap>"
+        + "</AllTypes>";
+
+    private final XmlProtocolUnmarshaller treeUnmarshaller = XmlProtocolUnmarshaller.create();
+    private final XmlProtocolUnmarshaller fastUnmarshaller = XmlProtocolUnmarshaller.builder()
+                                                                                  .enableFastUnmarshalling(true)
+                                                                                  .build();
+
+    @Test
+    public void allTypes_matchesTreeUnmarshaller() {
+        assertThat(fastUnmarshaller.isStreamingSupported(new AllTypesPojo())).isTrue();
+        AllTypesPojo fast = fastUnmarshaller.unmarshall(new AllTypesPojo(), response(ALL_TYPES_XML));
+        AllTypesPojo tree = treeUnmarshaller.unmarshall(new AllTypesPojo(), response(ALL_TYPES_XML));
+
+        assertThat(fast).isEqualTo(tree);
+        assertThat(fast.get("StringMember")).isEqualTo("foo & <bar>");
+        assertThat(fast.get("TimestampMember")).isEqualTo(Instant.parse("2014-04-29T18:30:38.123Z"));
+        assertThat(fast.get("BlobMember")).isEqualTo(SdkBytes.fromUtf8String("hello"));
+        assertThat(fast.get("FlattenedList")).isEqualTo(Arrays.asList("one", "two"));
+        assertThat(fast.get("HeaderMember")).isEqualTo("header-value");
+        assertThat(fast.get("StatusCode")).isEqualTo(200);
+        assertThat(((NestedPojo) fast.get("StructMember")).get("xsi:type")).isEqualTo("Nested");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "<AllTypes/>", "<AllTypes></AllTypes>"})
+    public void emptyDocuments_matchTreeUnmarshaller(String xml) {
+        assertThat(fastUnmarshaller.<AllTypesPojo>unmarshall(new AllTypesPojo(), response(xml)))
+            .isEqualTo(treeUnmarshaller.unmarshall(new AllTypesPojo(), response(xml)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "<Payload><Name>nested</Name><Unknown/></Payload>"})
+    public void explicitStructurePayload_matchesTreeUnmarshaller(String xml) {
+        assertThat(fastUnmarshaller.<ExplicitPayloadPojo>unmarshall(new ExplicitPayloadPojo(), response(xml)))
+            .isEqualTo(treeUnmarshaller.unmarshall(new ExplicitPayloadPojo(), response(xml)));
+    }
+
+    @Test
+    public void explicitBlobPayload_isNotStreamed() {
+        assertThat(fastUnmarshaller.isStreamingSupported(new BlobPayloadPojo())).isFalse();
+        assertThat(treeUnmarshaller.isStreamingSupported(new AllTypesPojo())).isFalse();
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-header", "header-value")
+                                  .content(AbortableInputStream.create(
+                                      SdkBytes.fromString(xml, StandardCharsets.UTF_8).asInputStream()))
+                                  .build();
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, Trait... traits) {
+        return field(type, name, MarshallLocation.PAYLOAD, name, traits);
+    }
+
+    private static <T> SdkField<T> field(MarshallingType<? super T> type, String name, MarshallLocation location,
+                                         String locationName, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder()
+                                                .location(location)
+                                                .locationName(locationName)
+                                                .unmarshallLocationName(locationName)
+                                                .build();
+        return SdkField.<T>builder(type)
+                       .memberName(name)
+                       .getter(obj -> null)
+                       .setter((obj, val) -> ((TestPojo) obj).values.put(name, val))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    private static SdkField<SdkPojo> structureField(String name, Supplier<SdkPojo> constructor, Trait... traits) {
+        Trait[] allTraits = Arrays.copyOf(traits, traits.length + 1);
+        allTraits[traits.length] = LocationTrait.builder()
+                                                .location(MarshallLocation.PAYLOAD)
+                                                .locationName(name)
+                                                .unmarshallLocationName(name)
+                                                .build();
+        return SdkField.<SdkPojo>builder(MarshallingType.SDK_POJO)
+                       .memberName(name)
+                       .constructor(constructor)
+                       .getter(obj -> null)
+                       .setter((obj, val) -> ((TestPojo) obj).values.put(name, val))
+                       .traits(allTraits)
+                       .build();
+    }
+
+    /**
+     * The streaming unmarshaller caches its member index per class, so every distinct set of fields needs its own class, as
+     * is the case for generated builders.
+     */
+    private abstract static class TestPojo implements SdkPojo, Buildable {
+        private final List<SdkField<?>> fields;
+        private final Map<String, Object> values = new HashMap<>();
+
+        TestPojo(List<SdkField<?>> fields) {
+            this.fields = fields;
+        }
+
+        Object get(String name) {
+            return values.get(name);
+        }
+
+        @Override
+        public List<SdkField<?>> sdkFields() {
+            return fields;
+        }
+
+        @Override
+        public Object build() {
+            // Members that were explicitly unmarshalled as null are equivalent to absent members.
+            values.values().removeIf(Objects::isNull);
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o != null && getClass() == o.getClass() && values.equals(((TestPojo) o).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return values.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return values.toString();
+        }
+    }
+
+    private static final class AllTypesPojo extends TestPojo {
+        AllTypesPojo() {
+            super(ALL_TYPES_FIELDS);
+        }
+    }
+
+    private static final class NestedPojo extends TestPojo {
+        NestedPojo() {
+            super(NESTED_FIELDS);
+        }
+    }
+
+    private static final class ExplicitPayloadPojo extends TestPojo {
+        ExplicitPayloadPojo() {
+            super(EXPLICIT_PAYLOAD_FIELDS);
+        }
+    }
+
+    private static final class BlobPayloadPojo extends TestPojo {
+        BlobPayloadPojo() {
+            super(BLOB_PAYLOAD_FIELDS);
+        }
+    }
+}
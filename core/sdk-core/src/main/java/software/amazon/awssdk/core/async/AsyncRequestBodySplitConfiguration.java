@@ -16,7 +16,9 @@
 package software.amazon.awssdk.core.async;
 
 import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.internal.async.ByteBufferPool;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
@@ -36,10 +38,12 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
         .build();
     private final Long chunkSizeInBytes;
     private final Long bufferSizeInBytes;
+    private final ByteBufferPool bufferPool;
 
     private AsyncRequestBodySplitConfiguration(DefaultBuilder builder) {
         this.chunkSizeInBytes = Validate.isPositiveOrNull(builder.chunkSizeInBytes, "chunkSizeInBytes");
         this.bufferSizeInBytes = Validate.isPositiveOrNull(builder.bufferSizeInBytes, "bufferSizeInBytes");
+        this.bufferPool = builder.bufferPool;
     }
 
     public static AsyncRequestBodySplitConfiguration defaultConfiguration() {
@@ -60,6 +64,15 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
         return bufferSizeInBytes;
     }
 
+    /**
+     * The pool the divided {@link AsyncRequestBody}s draw their buffers from when the content must be buffered, or null if a
+     * new buffer should be allocated for every chunk.
+     */
+    @SdkInternalApi
+    public ByteBufferPool bufferPool() {
+        return bufferPool;
+    }
+
     /**
      * Create a {@link Builder}, used to create a {@link AsyncRequestBodySplitConfiguration}.
      */
@@ -81,13 +94,17 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
         if (!Objects.equals(chunkSizeInBytes, that.chunkSizeInBytes)) {
             return false;
         }
-        return Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes);
+        if (!Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes)) {
+            return false;
+        }
+        return Objects.equals(bufferPool, that.bufferPool);
     }
 
     @Override
     public int hashCode() {
         int result = chunkSizeInBytes != null ? chunkSizeInBytes.hashCode() : 0;
         result = 31 * result + (bufferSizeInBytes != null ? bufferSizeInBytes.hashCode() : 0);
+        result = 31 * result + (bufferPool != null ? bufferPool.hashCode() : 0);
         return result;
     }
 
@@ -116,15 +133,27 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
          * @return This object for method chaining.
          */
         Builder bufferSizeInBytes(Long bufferSizeInBytes);
+
+        /**
+         * Configures a pool to draw the buffers holding each divided chunk from when the content length is unknown and the
+         * content must be buffered. Buffers are returned to the pool when the divided {@link AsyncRequestBody} is closed.
+         *
+         * @param bufferPool the buffer pool, whose buffer size must not be smaller than the chunk size
+         * @return This object for method chaining.
+         */
+        @SdkInternalApi
+        Builder bufferPool(ByteBufferPool bufferPool);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long chunkSizeInBytes;
         private Long bufferSizeInBytes;
+        private ByteBufferPool bufferPool;
 
         private DefaultBuilder(AsyncRequestBodySplitConfiguration asyncRequestBodySplitConfiguration) {
             this.chunkSizeInBytes = asyncRequestBodySplitConfiguration.chunkSizeInBytes;
             this.bufferSizeInBytes = asyncRequestBodySplitConfiguration.bufferSizeInBytes;
+            this.bufferPool = asyncRequestBodySplitConfiguration.bufferPool;
         }
 
         private DefaultBuilder() {
@@ -143,6 +172,12 @@ public final class AsyncRequestBodySplitConfiguration implements ToCopyableBuild
             return this;
         }
 
+        @Override
+        public Builder bufferPool(ByteBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
         @Override
         public AsyncRequestBodySplitConfiguration build() {
             return new AsyncRequestBodySplitConfiguration(this);
@@ -100,6 +100,7 @@ import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.OptionalUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.internal.VirtualThreadSupport;
 
 /**
  * An SDK-internal implementation of the methods in {@link SdkClientBuilder}, {@link SdkAsyncClientBuilder} and
@@ -462,7 +463,8 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
 
     /**
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such as async retry attempts and
-     * timeout task.
+     * timeout task. When virtual threads are enabled, the executor runs its tasks on virtual threads instead of dedicating
+     * platform threads to each client.
      */
     private ScheduledExecutorService resolveScheduledExecutorService(LazyValueSource c) {
         ScheduledExecutorService executor = c.get(CONFIGURED_SCHEDULED_EXECUTOR_SERVICE);
@@ -470,7 +472,9 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return executor;
         }
 
-        return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor").build());
+        return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor")
+                                                                             .virtualThreads(VirtualThreadSupport.isEnabled())
+                                                                             .build());
     }
 
     /**
@@ -25,6 +25,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE_SUPPLIER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
@@ -54,6 +55,7 @@ import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -109,6 +111,7 @@ public final class ClientOverrideConfiguration
         options.add(RETRY_POLICY);
         options.add(API_CALL_TIMEOUT);
         options.add(API_CALL_ATTEMPT_TIMEOUT);
+        options.add(HEDGING_POLICY);
         options.add(PROFILE_FILE_SUPPLIER);
         options.add(PROFILE_NAME);
         CLIENT_OVERRIDE_OPTIONS = Collections.unmodifiableSet(options);
@@ -279,6 +282,15 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(config.option(API_CALL_ATTEMPT_TIMEOUT));
     }
 
+    /**
+     * The policy used to hedge the requests of idempotent operations of an asynchronous client.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(config.option(HEDGING_POLICY));
+    }
+
     /**
      * The profile file supplier that should be used by default for all profile-based configuration in the SDK client.
      *
@@ -348,6 +360,7 @@ public final class ClientOverrideConfiguration
                        .add("retryPolicy", retryPolicy().orElse(null))
                        .add("apiCallTimeout", apiCallTimeout().orElse(null))
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout().orElse(null))
+                       .add("hedgingPolicy", hedgingPolicy().orElse(null))
                        .add("executionInterceptors", executionInterceptors())
                        .add("profileFileSupplier", defaultProfileFileSupplier().orElse(null))
                        .add("profileFile", defaultProfileFile().orElse(null))
@@ -557,6 +570,32 @@ public final class ClientOverrideConfiguration
 
         Duration apiCallAttemptTimeout();
 
+        /**
+         * Configure the policy used to hedge the requests of idempotent operations. When a request of one of the operations
+         * of the policy has not received a response after a delay derived from the recent response times of the operation, a
+         * second identical request is sent, and the first response wins. The other request is cancelled.
+         *
+         * <p>Hedging trades extra requests for lower tail latency. Only the operations that are safe to send twice should be
+         * configured. Hedged requests are only sent by asynchronous clients, are subject to the same retry capacity as
+         * retries, and are not sent for operations with a streaming request body.
+         *
+         * <p>By default, requests are not hedged.
+         *
+         * @see ClientOverrideConfiguration#hedgingPolicy()
+         */
+        Builder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        /**
+         * Configure the policy used to hedge the requests of idempotent operations.
+         *
+         * @see #hedgingPolicy(HedgingPolicy)
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        HedgingPolicy hedgingPolicy();
+
         /**
          * Configure a {@link ProfileFileSupplier} that should be used by default for all profile-based configuration in the SDK
          * client.
@@ -833,6 +872,21 @@ public final class ClientOverrideConfiguration
             return config.option(API_CALL_ATTEMPT_TIMEOUT);
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            config.option(HEDGING_POLICY, hedgingPolicy);
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return config.option(HEDGING_POLICY);
+        }
+
         @Override
         public Builder defaultProfileFileSupplier(Supplier<ProfileFile> defaultProfileFileSupplier) {
             config.option(PROFILE_FILE_SUPPLIER, defaultProfileFileSupplier);
@@ -28,6 +28,7 @@ import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.core.ServiceConfiguration;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.endpoints.EndpointProvider;
@@ -155,6 +156,11 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<Duration> API_CALL_ATTEMPT_TIMEOUT = new SdkClientOption<>(Duration.class);
 
+    /**
+     * @see ClientOverrideConfiguration#hedgingPolicy()
+     */
+    public static final SdkClientOption<HedgingPolicy> HEDGING_POLICY = new SdkClientOption<>(HedgingPolicy.class);
+
     /**
      * @see ClientOverrideConfiguration#apiCallTimeout()
      */
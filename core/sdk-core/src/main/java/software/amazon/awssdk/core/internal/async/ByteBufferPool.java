@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded pool of fixed-size {@link ByteBuffer}s that can be shared by concurrent requests.
+ *
+ * <p>{@link #acquire()} never blocks: it returns an idle buffer if one is available and allocates a new one otherwise. A buffer
+ * handed back with {@link #release(ByteBuffer)} is kept for reuse as long as the idle buffers retained by the pool stay within
+ * {@code maxPooledBytes}; otherwise it is left to the garbage collector. Buffers that are never released are simply garbage
+ * collected and do not count against the pool.
+ */
+@SdkInternalApi
+public final class ByteBufferPool {
+    private final Deque<ByteBuffer> idleBuffers = new ConcurrentLinkedDeque<>();
+    private final AtomicLong pooledBytes = new AtomicLong(0);
+    private final int bufferSize;
+    private final long maxPooledBytes;
+    private final boolean direct;
+
+    private ByteBufferPool(int bufferSize, long maxPooledBytes, boolean direct) {
+        this.bufferSize = Validate.isPositive(bufferSize, "bufferSize");
+        this.maxPooledBytes = Validate.isNotNegative(maxPooledBytes, "maxPooledBytes");
+        this.direct = direct;
+    }
+
+    /**
+     * Create a pool of buffers of {@code bufferSize} bytes that retains at most {@code maxPooledBytes} of idle buffers.
+     *
+     * @param bufferSize the capacity of each buffer
+     * @param maxPooledBytes the maximum number of bytes of idle buffers kept for reuse
+     * @param direct whether to allocate direct buffers instead of heap buffers
+     */
+    public static ByteBufferPool create(int bufferSize, long maxPooledBytes, boolean direct) {
+        return new ByteBufferPool(bufferSize, maxPooledBytes, direct);
+    }
+
+    /**
+     * The capacity of the buffers handed out by this pool.
+     */
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Retrieve an empty buffer of {@link #bufferSize()} bytes, reusing an idle one when possible.
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = idleBuffers.pollFirst();
+        if (buffer != null) {
+            pooledBytes.addAndGet(-buffer.capacity());
+            buffer.clear();
+            return buffer;
+        }
+        return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Hand a buffer obtained from {@link #acquire()} back to the pool. The caller must not use the buffer, or any view of it,
+     * after calling this method.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != bufferSize || buffer.isDirect() != direct || buffer.isReadOnly()) {
+            return;
+        }
+
+        long pooled = pooledBytes.addAndGet(bufferSize);
+        if (pooled > maxPooledBytes) {
+            pooledBytes.addAndGet(-bufferSize);
+            return;
+        }
+        buffer.clear();
+        idleBuffers.offerFirst(buffer);
+    }
+
+    @SdkTestInternalApi
+    long pooledBytes() {
+        return pooledBytes.get();
+    }
+}
@@ -69,6 +69,32 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         this.position = determineFilePositionToWrite(path);
     }
 
+    /**
+     * Create a transformer that writes the content to the file starting at the given position, rather than the position
+     * derived from the {@link FileTransformerConfiguration#fileWriteOption()}. This allows several transformers to write
+     * different ranges of the same file concurrently.
+     */
+    public FileAsyncResponseTransformer(Path path, FileTransformerConfiguration fileConfiguration, long position) {
+        this.path = path;
+        this.configuration = fileConfiguration;
+        this.position = position;
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    public FileTransformerConfiguration configuration() {
+        return configuration;
+    }
+
+    /**
+     * The position in the file at which this transformer starts writing.
+     */
+    public long position() {
+        return position;
+    }
+
     private long determineFilePositionToWrite(Path path) {
         if (configuration.fileWriteOption() == CREATE_OR_APPEND_TO_EXISTING) {
             try {
@@ -181,7 +207,8 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
                 throw new NullPointerException("Element must not be null");
             }
 
-            performWrite(byteBuffer);
+            // The write completes after onNext returns
+            performWrite(RetainableByteBuffers.retainable(byteBuffer));
         }
 
         private void performWrite(ByteBuffer byteBuffer) {
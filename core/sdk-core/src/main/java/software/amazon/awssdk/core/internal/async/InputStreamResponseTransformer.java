@@ -51,7 +51,8 @@ public class InputStreamResponseTransformer<ResponseT extends SdkResponse>
     @Override
     public void onStream(SdkPublisher<ByteBuffer> publisher) {
         AbortableInputStreamSubscriber inputStreamSubscriber = AbortableInputStreamSubscriber.builder().build();
-        publisher.subscribe(inputStreamSubscriber);
+        // The buffers are queued until they're read
+        publisher.map(RetainableByteBuffers::retainable).subscribe(inputStreamSubscriber);
         future.complete(new ResponseInputStream<>(response, inputStreamSubscriber));
     }
 
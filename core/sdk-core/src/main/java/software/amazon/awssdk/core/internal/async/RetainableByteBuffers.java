@@ -0,0 +1,47 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Utilities for subscribers that keep using the {@link ByteBuffer}s they receive after {@code onNext} returns, e.g. to write
+ * them asynchronously or to queue them for a reader.
+ */
+@SdkInternalApi
+public final class RetainableByteBuffers {
+
+    private RetainableByteBuffers() {
+    }
+
+    /**
+     * Return a buffer with the remaining content of the given buffer that can be used after {@code onNext} returns.
+     * <p>
+     * A read-only buffer may be a view of memory that the publisher reuses as soon as {@code onNext} returns, such as the
+     * response body buffers published by the Netty client when {@code zeroCopyResponseBody} is enabled, so its remaining
+     * content is copied. Other buffers are returned as is.
+     */
+    public static ByteBuffer retainable(ByteBuffer byteBuffer) {
+        if (!byteBuffer.isReadOnly()) {
+            return byteBuffer;
+        }
+        ByteBuffer copy = ByteBuffer.allocate(byteBuffer.remaining());
+        copy.put(byteBuffer.duplicate());
+        copy.flip();
+        return copy;
+    }
+}
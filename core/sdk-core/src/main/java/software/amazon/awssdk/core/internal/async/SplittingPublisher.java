@@ -29,6 +29,8 @@ import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.NonRetryableException;
 import software.amazon.awssdk.core.internal.util.NoopSubscription;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.NumericUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.async.SimplePublisher;
 
@@ -38,6 +40,11 @@ import software.amazon.awssdk.utils.async.SimplePublisher;
  *
  * <p>If content length is known, each {@link AsyncRequestBody} is sent to the subscriber right after it's initialized.
  * Otherwise, it is sent after the entire content for that chunk is buffered. This is required to get content length.
+ *
+ * <p>If a {@link ByteBufferPool} is configured via {@link AsyncRequestBodySplitConfiguration#bufferPool()} and the content length
+ * is unknown, each chunk is copied into a single buffer drawn from the pool instead of retaining the upstream buffers. Such a
+ * chunk counts against {@code bufferSizeInBytes} until the divided {@link AsyncRequestBody}, which implements
+ * {@link SdkAutoCloseable}, is closed and its buffer is returned to the pool.
  */
 @SdkInternalApi
 public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
@@ -47,6 +54,7 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
     private final SimplePublisher<AsyncRequestBody> downstreamPublisher = new SimplePublisher<>();
     private final long chunkSizeInBytes;
     private final long bufferSizeInBytes;
+    private final ByteBufferPool bufferPool;
 
     public SplittingPublisher(AsyncRequestBody asyncRequestBody,
                               AsyncRequestBodySplitConfiguration splitConfiguration) {
@@ -66,6 +74,13 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             Validate.isTrue(bufferSizeInBytes >= chunkSizeInBytes,
                             "bufferSizeInBytes must be larger than or equal to " +
                             "chunkSizeInBytes if the content length is unknown");
+            this.bufferPool = splitConfiguration.bufferPool();
+            if (bufferPool != null) {
+                Validate.isTrue(bufferPool.bufferSize() >= chunkSizeInBytes,
+                                "The buffer size of the bufferPool must be larger than or equal to chunkSizeInBytes");
+            }
+        } else {
+            this.bufferPool = null;
         }
     }
 
@@ -237,7 +252,7 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             return upstreamSize - (chunkNumber.get() * chunkSizeInBytes);
         }
 
-        private final class DownstreamBody implements AsyncRequestBody {
+        private final class DownstreamBody implements AsyncRequestBody, SdkAutoCloseable {
 
             /**
              * The maximum length of the content this AsyncRequestBody can hold. If the upstream content length is known, this is
@@ -248,7 +263,9 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             private final SimplePublisher<ByteBuffer> delegate = new SimplePublisher<>();
             private final int chunkNumber;
             private final AtomicBoolean subscribeCalled = new AtomicBoolean(false);
+            private final AtomicBoolean closed = new AtomicBoolean(false);
             private volatile long transferredLength = 0;
+            private volatile ByteBuffer pooledBuffer;
 
             private DownstreamBody(boolean contentLengthKnown, long maxLength, int chunkNumber) {
                 this.totalLength = contentLengthKnown ? maxLength : null;
@@ -266,6 +283,10 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
                 int length = data.remaining();
                 transferredLength += length;
                 addDataBuffered(length);
+                if (bufferPool != null) {
+                    copyToPooledBuffer(data);
+                    return;
+                }
                 delegate.send(data).whenComplete((r, t) -> {
                     addDataBuffered(-length);
                     if (t != null) {
@@ -274,8 +295,24 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
                 });
             }
 
+            private void copyToPooledBuffer(ByteBuffer data) {
+                if (pooledBuffer == null) {
+                    pooledBuffer = bufferPool.acquire();
+                }
+                pooledBuffer.put(data);
+            }
+
             public void complete() {
                 log.debug(() -> "Received complete() for chunk number: " + chunkNumber + " length " + transferredLength);
+                if (pooledBuffer != null) {
+                    ByteBuffer chunk = pooledBuffer.duplicate();
+                    chunk.flip();
+                    delegate.send(chunk.asReadOnlyBuffer()).whenComplete((r, t) -> {
+                        if (t != null) {
+                            error(t);
+                        }
+                    });
+                }
                 delegate.complete().whenComplete((r, t) -> {
                     if (t != null) {
                         error(t);
@@ -299,6 +336,22 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
                 }
             }
 
+            /**
+             * Return the pooled buffer holding this chunk, if any, to the pool. This must only be called once the content of
+             * this body is no longer needed, e.g. after the request it was sent with has completed.
+             */
+            @Override
+            public void close() {
+                if (!closed.compareAndSet(false, true) || bufferPool == null) {
+                    return;
+                }
+                log.trace(() -> "Releasing the buffer of chunk number: " + chunkNumber);
+                ByteBuffer buffer = pooledBuffer;
+                pooledBuffer = null;
+                bufferPool.release(buffer);
+                addDataBuffered(-NumericUtils.saturatedCast(transferredLength));
+            }
+
             private void addDataBuffered(int length) {
                 dataBuffered.addAndGet(length);
                 if (length < 0) {
@@ -54,6 +54,9 @@ public interface Compressor {
 
     /**
      * Compress an {@link InputStream} payload.
+     * <p>
+     * The default implementation reads the whole payload into memory. Implementations should override this to return a
+     * stream that compresses the content as it is read.
      *
      * @param content
      * @return The compressed {@link InputStream}.
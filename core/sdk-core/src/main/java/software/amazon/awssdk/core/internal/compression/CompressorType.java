@@ -15,7 +15,7 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -32,9 +32,12 @@ public final class CompressorType {
 
     public static final CompressorType GZIP = CompressorType.of("gzip");
 
-    private static Map<String, Compressor> compressorMap = new HashMap<String, Compressor>() {{
-            put("gzip", new GzipCompressor());
-        }};
+    private static final Map<String, Compressor> COMPRESSORS = new ConcurrentHashMap<>();
+
+    static {
+        register(new GzipCompressor());
+        register(new DeflateCompressor());
+    }
 
     private final String id;
 
@@ -54,21 +57,31 @@ public final class CompressorType {
      * Returns the {@link Set} of {@link String}s of compressor types supported by the SDK.
      */
     public static Set<String> compressorTypes() {
-        return compressorMap.keySet();
+        return Collections.unmodifiableSet(COMPRESSORS.keySet());
     }
 
     /**
      * Whether or not the compressor type is supported by the SDK.
      */
     public static boolean isSupported(String compressionType) {
-        return compressorTypes().contains(compressionType);
+        return COMPRESSORS.containsKey(compressionType);
+    }
+
+    /**
+     * Registers a {@link Compressor} for its {@link Compressor#compressorType()}, replacing any compressor previously
+     * registered for that type. This allows additional algorithms, or the built-in ones at a different compression level,
+     * to be plugged in without changes to the request pipeline.
+     */
+    public static void register(Compressor compressor) {
+        Validate.paramNotNull(compressor, "compressor");
+        COMPRESSORS.put(Validate.paramNotBlank(compressor.compressorType(), "compressorType"), compressor);
     }
 
     /**
      * Maps the {@link CompressorType} to its corresponding {@link Compressor}.
      */
     public Compressor newCompressor() {
-        Compressor compressor = compressorMap.getOrDefault(this.id, null);
+        Compressor compressor = COMPRESSORS.get(this.id);
         if (compressor == null) {
             throw new UnsupportedOperationException("The compression type " + id + " does not have an implementation of "
                                                     + "Compressor");
@@ -91,15 +104,12 @@ public final class CompressorType {
         }
 
         CompressorType that = (CompressorType) o;
-        return Objects.equals(id, that.id)
-               && Objects.equals(compressorMap, that.compressorMap);
+        return Objects.equals(id, that.id);
     }
 
     @Override
     public int hashCode() {
-        int result = id != null ? id.hashCode() : 0;
-        result = 31 * result + (compressorMap != null ? compressorMap.hashCode() : 0);
-        return result;
+        return id != null ? id.hashCode() : 0;
     }
 
     private static class CompressorTypeCache {
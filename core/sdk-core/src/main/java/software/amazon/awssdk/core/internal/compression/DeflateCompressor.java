@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.InputStream;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Compresses payloads with the "deflate" content-coding, i.e. a zlib stream (RFC 1950). Streams are compressed as they are
+ * read.
+ */
+@SdkInternalApi
+public final class DeflateCompressor extends DeflaterCompressor {
+
+    private static final String COMPRESSOR_TYPE = "deflate";
+
+    public DeflateCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param level The {@link Deflater} compression level, from 0 to 9, or -1 for the default level.
+     */
+    public DeflateCompressor(int level) {
+        super(level);
+    }
+
+    @Override
+    public String compressorType() {
+        return COMPRESSOR_TYPE;
+    }
+
+    @Override
+    DeflatingInputStream deflatingStream(InputStream content, int level) {
+        return DeflatingInputStream.zlib(content, level);
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Base class for {@link Compressor}s backed by a {@link Deflater}. Every payload type is compressed through a
+ * {@link DeflatingInputStream}, so {@link #compress(InputStream)} never buffers the uncompressed content and the in-memory
+ * variants never copy it.
+ */
+@SdkInternalApi
+abstract class DeflaterCompressor implements Compressor {
+    private final int level;
+
+    DeflaterCompressor(int level) {
+        Validate.isTrue(level == Deflater.DEFAULT_COMPRESSION
+                        || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION),
+                        "Compression level must be between %s and %s, or %s for the default level, but was %s.",
+                        Deflater.NO_COMPRESSION, Deflater.BEST_COMPRESSION, Deflater.DEFAULT_COMPRESSION, level);
+        this.level = level;
+    }
+
+    /**
+     * The compression level this compressor was created with.
+     */
+    public int level() {
+        return level;
+    }
+
+    /**
+     * Wrap the given stream in a stream that compresses it as it is read.
+     */
+    abstract DeflatingInputStream deflatingStream(InputStream content, int level);
+
+    @Override
+    public SdkBytes compress(SdkBytes content) {
+        return SdkBytes.fromByteArrayUnsafe(compress(content.asByteArrayUnsafe()));
+    }
+
+    @Override
+    public byte[] compress(byte[] content) {
+        return compress(content, 0, content.length);
+    }
+
+    @Override
+    public InputStream compress(InputStream content) {
+        return deflatingStream(content, level);
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer content) {
+        if (content.hasArray()) {
+            return ByteBuffer.wrap(compress(content.array(), content.arrayOffset() + content.position(), content.remaining()));
+        }
+        return ByteBuffer.wrap(compress(BinaryUtils.copyBytesFrom(content)));
+    }
+
+    private byte[] compress(byte[] content, int offset, int length) {
+        // Compressible payloads usually shrink well below half their size; the output buffer grows if needed.
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(Math.max(32, length / 2));
+        byte[] buffer = new byte[8192];
+        try (InputStream in = deflatingStream(new ByteArrayInputStream(content, offset, length), level)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                compressed.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+}
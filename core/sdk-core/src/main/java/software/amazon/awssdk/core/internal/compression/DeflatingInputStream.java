@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link InputStream} that compresses the wrapped stream as it is read. Only a fixed-size window of the uncompressed
+ * content is held in memory at any time, so payloads of any size can be compressed without buffering them in full.
+ * <p>
+ * The output is either a gzip member (RFC 1952) or a zlib stream (RFC 1950), depending on how the stream is created.
+ */
+@SdkInternalApi
+public final class DeflatingInputStream extends InputStream {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int GZIP_TRAILER_SIZE = 8;
+    private static final byte[] GZIP_HEADER = {
+        0x1f, (byte) 0x8b, // magic
+        Deflater.DEFLATED, // compression method
+        0,                 // flags
+        0, 0, 0, 0,        // modification time
+        0,                 // extra flags
+        0                  // operating system
+    };
+
+    private final InputStream in;
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final byte[] inputBuffer = new byte[BUFFER_SIZE];
+
+    private byte[] pending;
+    private int pendingPosition;
+    private boolean trailerWritten;
+    private boolean closed;
+
+    private DeflatingInputStream(InputStream in, int level, boolean gzip) {
+        this.in = Validate.paramNotNull(in, "in");
+        this.deflater = new Deflater(level, gzip);
+        this.crc = gzip ? new CRC32() : null;
+        this.pending = gzip ? GZIP_HEADER : null;
+        this.trailerWritten = !gzip;
+    }
+
+    /**
+     * Create a stream that produces the gzip encoding of the given stream.
+     */
+    public static DeflatingInputStream gzip(InputStream in, int level) {
+        return new DeflatingInputStream(in, level, true);
+    }
+
+    /**
+     * Create a stream that produces the zlib ("deflate" content-coding) encoding of the given stream.
+     */
+    public static DeflatingInputStream zlib(InputStream in, int level) {
+        return new DeflatingInputStream(in, level, false);
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int read = read(b, 0, 1);
+        return read == -1 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        Validate.paramNotNull(b, "b");
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        int written = 0;
+        while (written < len) {
+            if (pending != null) {
+                int count = Math.min(len - written, pending.length - pendingPosition);
+                System.arraycopy(pending, pendingPosition, b, off + written, count);
+                written += count;
+                pendingPosition += count;
+                if (pendingPosition == pending.length) {
+                    pending = null;
+                    pendingPosition = 0;
+                }
+                continue;
+            }
+
+            if (deflater.finished()) {
+                if (trailerWritten) {
+                    break;
+                }
+                pending = gzipTrailer();
+                trailerWritten = true;
+                continue;
+            }
+
+            int deflated = deflater.deflate(b, off + written, len - written);
+            written += deflated;
+            if (deflated == 0 && deflater.needsInput()) {
+                if (written > 0) {
+                    // Hand back what we have rather than blocking on the wrapped stream for more.
+                    break;
+                }
+                fillInput();
+            }
+        }
+        return written == 0 ? -1 : written;
+    }
+
+    private void fillInput() throws IOException {
+        int read = in.read(inputBuffer, 0, inputBuffer.length);
+        if (read == -1) {
+            deflater.finish();
+        } else if (read > 0) {
+            if (crc != null) {
+                crc.update(inputBuffer, 0, read);
+            }
+            deflater.setInput(inputBuffer, 0, read);
+        }
+    }
+
+    private byte[] gzipTrailer() {
+        byte[] trailer = new byte[GZIP_TRAILER_SIZE];
+        writeIntLittleEndian(trailer, 0, crc.getValue());
+        writeIntLittleEndian(trailer, 4, deflater.getBytesRead());
+        return trailer;
+    }
+
+    private static void writeIntLittleEndian(byte[] buffer, int offset, long value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >> 8);
+        buffer[offset + 2] = (byte) (value >> 16);
+        buffer[offset + 3] = (byte) (value >> 24);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            deflater.end();
+            in.close();
+        }
+    }
+}
@@ -15,22 +15,28 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
-import static software.amazon.awssdk.utils.IoUtils.closeQuietly;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.zip.GZIPOutputStream;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import java.io.InputStream;
+import java.util.zip.Deflater;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.SdkBytes;
 
+/**
+ * Compresses payloads with the "gzip" content-coding. Streams are compressed as they are read.
+ */
 @SdkInternalApi
-public final class GzipCompressor implements Compressor {
+public final class GzipCompressor extends DeflaterCompressor {
 
     private static final String COMPRESSOR_TYPE = "gzip";
-    private static final Logger log = LoggerFactory.getLogger(GzipCompressor.class);
+
+    public GzipCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * @param level The {@link Deflater} compression level, from 0 to 9, or -1 for the default level.
+     */
+    public GzipCompressor(int level) {
+        super(level);
+    }
 
     @Override
     public String compressorType() {
@@ -38,18 +44,7 @@ public final class GzipCompressor implements Compressor {
     }
 
     @Override
-    public SdkBytes compress(SdkBytes content) {
-        GZIPOutputStream gzipOutputStream = null;
-        try {
-            ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
-            gzipOutputStream = new GZIPOutputStream(compressedOutputStream);
-            gzipOutputStream.write(content.asByteArray());
-            gzipOutputStream.close();
-            return SdkBytes.fromByteArray(compressedOutputStream.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        } finally {
-            closeQuietly(gzipOutputStream, log);
-        }
+    DeflatingInputStream deflatingStream(InputStream content, int level) {
+        return DeflatingInputStream.gzip(content, level);
     }
-}
\ No newline at end of file
+}
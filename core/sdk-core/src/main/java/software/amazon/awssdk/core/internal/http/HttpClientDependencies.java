@@ -23,6 +23,7 @@ import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.internal.retry.HedgingLatencyTracker;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -37,11 +38,14 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientTime sdkClientTime;
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
+    private final HedgingLatencyTracker hedgingLatencyTracker;
 
     private HttpClientDependencies(Builder builder) {
         this.sdkClientTime = builder.sdkClientTime != null ? builder.sdkClientTime : new SdkClientTime();
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
+        this.hedgingLatencyTracker = builder.hedgingLatencyTracker != null ? builder.hedgingLatencyTracker
+                                                                           : new HedgingLatencyTracker();
     }
 
     public static Builder builder() {
@@ -59,6 +63,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The latencies of the operations of this client, used to decide when to hedge a request.
+     */
+    public HedgingLatencyTracker hedgingLatencyTracker() {
+        return hedgingLatencyTracker;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -89,6 +100,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         private SdkClientTime sdkClientTime;
         private ClockSkewAdjuster clockSkewAdjuster;
         private SdkClientConfiguration clientConfiguration;
+        private HedgingLatencyTracker hedgingLatencyTracker;
 
         private Builder() {
         }
@@ -97,6 +109,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             this.sdkClientTime = from.sdkClientTime;
             this.clientConfiguration = from.clientConfiguration;
             this.clockSkewAdjuster = from.clockSkewAdjuster;
+            this.hedgingLatencyTracker = from.hedgingLatencyTracker;
         }
 
         public Builder clockSkewAdjuster(ClockSkewAdjuster clockSkewAdjuster) {
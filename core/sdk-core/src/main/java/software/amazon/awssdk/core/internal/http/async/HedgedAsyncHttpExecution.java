@@ -0,0 +1,427 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.internal.retry.HedgingLatencyTracker;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Executes a request with an {@link SdkAsyncHttpClient}, and sends a second, hedged request if no response headers have
+ * been received after a delay. The first request to receive its response headers wins: its response is delivered to the
+ * response handler of the execution, and the other request is cancelled.
+ * <p>
+ * If a request fails before any response headers have been received, the execution keeps waiting for the other request if
+ * it was sent, and fails once both requests have failed. If the original request fails before the hedged request is sent,
+ * the hedged request is not sent and the execution fails, leaving it to the retry policy to retry the attempt.
+ */
+@SdkInternalApi
+public final class HedgedAsyncHttpExecution {
+    private static final Logger log = Logger.loggerFor(HedgedAsyncHttpExecution.class);
+
+    private static final int ORIGINAL = 0;
+    private static final int HEDGED = 1;
+    private static final int NONE = -1;
+
+    private final SdkAsyncHttpClient httpClient;
+    private final AsyncExecuteRequest.Builder requestBuilder;
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final MetricCollector originalMetricCollector;
+    private final Supplier<MetricCollector> hedgedMetricCollector;
+    private final MetricCollector attemptMetricCollector;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Duration hedgeDelay;
+    private final TokenBucketRetryCondition retryCapacity;
+    private final HedgingLatencyTracker latencyTracker;
+    private final String operationName;
+
+    private final CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+    @SuppressWarnings("unchecked")
+    private final CompletableFuture<Void>[] requestFutures = new CompletableFuture[2];
+    private final boolean[] failed = new boolean[2];
+
+    private long startNanos;
+    private int winner = NONE;
+    private boolean done;
+    private boolean hedgeSent;
+    private ScheduledFuture<?> hedgeTask;
+    private TokenBucketRetryCondition.Capacity acquiredCapacity;
+
+    private HedgedAsyncHttpExecution(Builder builder) {
+        this.httpClient = builder.httpClient;
+        this.requestBuilder = builder.requestBuilder;
+        this.responseHandler = builder.responseHandler;
+        this.originalMetricCollector = builder.originalMetricCollector;
+        this.hedgedMetricCollector = builder.hedgedMetricCollector;
+        this.attemptMetricCollector = builder.attemptMetricCollector;
+        this.scheduledExecutor = builder.scheduledExecutor;
+        this.hedgeDelay = builder.hedgeDelay;
+        this.retryCapacity = builder.retryCapacity;
+        this.latencyTracker = builder.latencyTracker;
+        this.operationName = builder.operationName;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Send the original request, and schedule the hedged request.
+     *
+     * @return A future that completes like the future of the request that won, and is completed exceptionally once both
+     * requests have failed. Completing it exceptionally cancels the requests.
+     */
+    public CompletableFuture<Void> execute() {
+        executeFuture.whenComplete((r, t) -> onExecutionComplete(t));
+
+        synchronized (this) {
+            startNanos = System.nanoTime();
+        }
+        send(ORIGINAL, originalMetricCollector);
+        synchronized (this) {
+            if (!done && winner == NONE) {
+                hedgeTask = scheduledExecutor.schedule(this::sendHedgedRequest, hedgeDelay.toNanos(), NANOSECONDS);
+            }
+        }
+        return executeFuture;
+    }
+
+    private void sendHedgedRequest() {
+        synchronized (this) {
+            if (done || winner != NONE) {
+                return;
+            }
+            if (retryCapacity != null) {
+                Optional<TokenBucketRetryCondition.Capacity> capacity = retryCapacity.tryAcquireHedgeCapacity();
+                if (!capacity.isPresent()) {
+                    log.debug(() -> "Not hedging the request because the client has experienced too many recent call failures.");
+                    return;
+                }
+                acquiredCapacity = capacity.get();
+            }
+            hedgeSent = true;
+        }
+        log.debug(() -> "Sending a hedged request after " + hedgeDelay.toMillis() + " ms without a response");
+        send(HEDGED, hedgedMetricCollector.get());
+    }
+
+    private void send(int request, MetricCollector metricCollector) {
+        AsyncExecuteRequest executeRequest;
+        synchronized (this) {
+            executeRequest = requestBuilder.metricCollector(metricCollector)
+                                           .responseHandler(new RequestResponseHandler(request))
+                                           .build();
+        }
+
+        CompletableFuture<Void> requestFuture;
+        try {
+            requestFuture = httpClient.execute(executeRequest);
+        } catch (Throwable t) {
+            requestFuture = CompletableFutureUtils.failedFuture(t);
+        }
+
+        boolean lost;
+        synchronized (this) {
+            requestFutures[request] = requestFuture;
+            lost = winner != NONE && winner != request;
+        }
+        if (lost) {
+            cancel(requestFuture);
+        }
+        requestFuture.whenComplete((r, t) -> onRequestComplete(request, t));
+    }
+
+    private void onRequestComplete(int request, Throwable error) {
+        if (error != null) {
+            onRequestFailed(request, error);
+            synchronized (this) {
+                if (winner != request) {
+                    return;
+                }
+            }
+            executeFuture.completeExceptionally(error);
+            return;
+        }
+
+        synchronized (this) {
+            if (winner == NONE && !done) {
+                // Completed without response headers, consider it the winner
+                winner = request;
+            }
+            if (winner != request) {
+                return;
+            }
+        }
+        executeFuture.complete(null);
+    }
+
+    /**
+     * Record the failure of a request that has not won. Fails the execution if no other request can win.
+     */
+    private void onRequestFailed(int request, Throwable error) {
+        synchronized (this) {
+            if (winner != NONE || done || failed[request]) {
+                return;
+            }
+            failed[request] = true;
+            boolean otherRequestPending = hedgeSent && !failed[otherRequest(request)];
+            if (otherRequestPending) {
+                log.debug(() -> "A request failed while its hedged counterpart is in flight", error);
+                return;
+            }
+            done = true;
+            winner = request;
+        }
+        responseHandler.onError(error);
+        executeFuture.completeExceptionally(error);
+    }
+
+    /**
+     * Make the provided request the winner if no request has won yet, cancelling the other request.
+     */
+    private boolean tryWin(int request) {
+        CompletableFuture<Void> otherRequestFuture;
+        long elapsedNanos;
+        synchronized (this) {
+            if (winner == NONE && !done && !failed[request]) {
+                winner = request;
+                otherRequestFuture = requestFutures[otherRequest(request)];
+                elapsedNanos = System.nanoTime() - startNanos;
+            } else {
+                return winner == request;
+            }
+        }
+
+        latencyTracker.record(operationName, Duration.ofNanos(elapsedNanos));
+        if (otherRequestFuture != null) {
+            cancel(otherRequestFuture);
+        }
+        return true;
+    }
+
+    private void onExecutionComplete(Throwable error) {
+        CompletableFuture<Void>[] futures;
+        boolean sent;
+        boolean hedgeWon;
+        TokenBucketRetryCondition.Capacity capacityToRelease = null;
+        synchronized (this) {
+            done = true;
+            if (hedgeTask != null) {
+                hedgeTask.cancel(false);
+            }
+            futures = requestFutures.clone();
+            sent = hedgeSent;
+            hedgeWon = winner == HEDGED;
+            // The hedged request is over whatever the outcome, and a failed attempt consumes retry capacity of its own
+            // if it is retried.
+            capacityToRelease = acquiredCapacity;
+            acquiredCapacity = null;
+        }
+
+        if (capacityToRelease != null) {
+            retryCapacity.releaseHedgeCapacity(capacityToRelease);
+        }
+
+        attemptMetricCollector.reportMetric(CoreMetric.HEDGE_DELAY_DURATION, hedgeDelay);
+        attemptMetricCollector.reportMetric(CoreMetric.HEDGED_REQUEST_SENT, sent);
+        if (sent) {
+            attemptMetricCollector.reportMetric(CoreMetric.HEDGED_REQUEST_WON, hedgeWon);
+        }
+
+        if (error != null) {
+            // The execution was cancelled or failed, make sure that no request is left running
+            for (CompletableFuture<Void> future : futures) {
+                if (future != null) {
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+    }
+
+    private static void cancel(CompletableFuture<Void> requestFuture) {
+        requestFuture.completeExceptionally(new CancellationException("Another request for the same attempt won"));
+    }
+
+    private static int otherRequest(int request) {
+        return request == ORIGINAL ? HEDGED : ORIGINAL;
+    }
+
+    /**
+     * Forwards the events of the request that won to the response handler of the execution, and discards the others.
+     */
+    private final class RequestResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final int request;
+
+        private RequestResponseHandler(int request) {
+            this.request = request;
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            if (tryWin(request)) {
+                responseHandler.onHeaders(headers);
+            }
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            boolean won;
+            synchronized (HedgedAsyncHttpExecution.this) {
+                won = winner == request;
+            }
+            if (won) {
+                responseHandler.onStream(stream);
+            } else {
+                stream.subscribe(new CancellingSubscriber());
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            boolean won;
+            synchronized (HedgedAsyncHttpExecution.this) {
+                won = winner == request && !done;
+            }
+            if (won) {
+                responseHandler.onError(error);
+            } else {
+                onRequestFailed(request, error);
+            }
+        }
+    }
+
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    public static final class Builder {
+        private SdkAsyncHttpClient httpClient;
+        private AsyncExecuteRequest.Builder requestBuilder;
+        private SdkAsyncHttpResponseHandler responseHandler;
+        private MetricCollector originalMetricCollector;
+        private Supplier<MetricCollector> hedgedMetricCollector;
+        private MetricCollector attemptMetricCollector;
+        private ScheduledExecutorService scheduledExecutor;
+        private Duration hedgeDelay;
+        private TokenBucketRetryCondition retryCapacity;
+        private HedgingLatencyTracker latencyTracker;
+        private String operationName;
+
+        private Builder() {
+        }
+
+        public Builder httpClient(SdkAsyncHttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        /**
+         * The builder of the requests to send, which are built with their own metric collector and response handler.
+         */
+        public Builder requestBuilder(AsyncExecuteRequest.Builder requestBuilder) {
+            this.requestBuilder = requestBuilder;
+            return this;
+        }
+
+        public Builder responseHandler(SdkAsyncHttpResponseHandler responseHandler) {
+            this.responseHandler = responseHandler;
+            return this;
+        }
+
+        public Builder originalMetricCollector(MetricCollector originalMetricCollector) {
+            this.originalMetricCollector = originalMetricCollector;
+            return this;
+        }
+
+        public Builder hedgedMetricCollector(Supplier<MetricCollector> hedgedMetricCollector) {
+            this.hedgedMetricCollector = hedgedMetricCollector;
+            return this;
+        }
+
+        public Builder attemptMetricCollector(MetricCollector attemptMetricCollector) {
+            this.attemptMetricCollector = attemptMetricCollector;
+            return this;
+        }
+
+        public Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        public Builder hedgeDelay(Duration hedgeDelay) {
+            this.hedgeDelay = hedgeDelay;
+            return this;
+        }
+
+        /**
+         * The retry capacity that hedged requests are subject to, or null if the retry policy doesn't limit retries.
+         */
+        public Builder retryCapacity(TokenBucketRetryCondition retryCapacity) {
+            this.retryCapacity = retryCapacity;
+            return this;
+        }
+
+        public Builder latencyTracker(HedgingLatencyTracker latencyTracker) {
+            this.latencyTracker = latencyTracker;
+            return this;
+        }
+
+        public Builder operationName(String operationName) {
+            this.operationName = operationName;
+            return this;
+        }
+
+        public HedgedAsyncHttpExecution build() {
+            return new HedgedAsyncHttpExecution(this);
+        }
+    }
+}
@@ -26,7 +26,6 @@ import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
-import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
@@ -39,7 +38,6 @@ import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToReques
 import software.amazon.awssdk.core.internal.sync.CompressionContentStreamProvider;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
-import software.amazon.awssdk.utils.IoUtils;
 
 /**
  * Compress requests whose operations are marked with the "requestCompression" C2J trait.
@@ -48,6 +46,7 @@ import software.amazon.awssdk.utils.IoUtils;
 public class CompressRequestStage implements MutableRequestToRequestPipeline {
     public static final int DEFAULT_MIN_COMPRESSION_SIZE = 10_240;
     private static final int MIN_COMPRESSION_SIZE_LIMIT = 10_485_760;
+    private static final int SIZE_CHECK_BUFFER_SIZE = 8192;
     private final CompressionConfiguration compressionConfig;
 
     public CompressRequestStage(HttpClientDependencies dependencies) {
@@ -67,7 +66,6 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         if (!isStreaming(context)) {
             compressEntirePayload(input, compressor);
             updateContentEncodingHeader(input, compressor);
-            updateContentLengthHeader(input);
             return input;
         }
 
@@ -111,10 +109,29 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).isStreaming();
     }
 
+    /**
+     * Compress the payload as it is read, without buffering it. The Content-Length is determined by compressing the payload
+     * once and counting the compressed bytes, so the payload is compressed one more time than it is sent.
+     */
     private void compressEntirePayload(SdkHttpFullRequest.Builder input, Compressor compressor) {
         ContentStreamProvider wrappedProvider = input.contentStreamProvider();
         ContentStreamProvider compressedStreamProvider = () -> compressor.compress(wrappedProvider.newStream());
         input.contentStreamProvider(compressedStreamProvider);
+        input.putHeader("Content-Length", String.valueOf(compressedLength(compressedStreamProvider)));
+    }
+
+    private static long compressedLength(ContentStreamProvider compressedStreamProvider) {
+        try (InputStream compressed = compressedStreamProvider.newStream()) {
+            byte[] buffer = new byte[SIZE_CHECK_BUFFER_SIZE];
+            long total = 0;
+            int read;
+            while ((read = compressed.read(buffer)) != -1) {
+                total += read;
+            }
+            return total;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private void updateContentEncodingHeader(SdkHttpFullRequest.Builder input,
@@ -126,17 +143,6 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         }
     }
 
-    private void updateContentLengthHeader(SdkHttpFullRequest.Builder input) {
-        InputStream inputStream = input.contentStreamProvider().newStream();
-        try {
-            byte[] bytes = IoUtils.toByteArray(inputStream);
-            String length = String.valueOf(bytes.length);
-            input.putHeader("Content-Length", length);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     private boolean isTransferEncodingChunked(SdkHttpFullRequest.Builder input) {
         return input.firstMatchingHeader("Transfer-Encoding")
                     .map(headerValue -> headerValue.equals("chunked"))
@@ -177,8 +183,27 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     private boolean isRequestSizeWithinThreshold(SdkHttpFullRequest.Builder input, RequestExecutionContext context) {
         int minimumCompressionThreshold = resolveMinCompressionSize(context);
         validateMinCompressionSizeInput(minimumCompressionThreshold);
-        int requestSize = SdkBytes.fromInputStream(input.contentStreamProvider().newStream()).asByteArray().length;
-        return requestSize >= minimumCompressionThreshold;
+        try (InputStream content = input.contentStreamProvider().newStream()) {
+            return hasAtLeast(content, minimumCompressionThreshold);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Whether the stream has at least the given number of bytes, reading no further than that and without retaining them.
+     */
+    private static boolean hasAtLeast(InputStream content, int threshold) throws IOException {
+        byte[] buffer = new byte[Math.min(threshold, SIZE_CHECK_BUFFER_SIZE)];
+        long total = 0;
+        while (total < threshold) {
+            int read = content.read(buffer, 0, (int) Math.min(buffer.length, threshold - total));
+            if (read == -1) {
+                return false;
+            }
+            total += read;
+        }
+        return true;
     }
 
     private int resolveMinCompressionSize(RequestExecutionContext context) {
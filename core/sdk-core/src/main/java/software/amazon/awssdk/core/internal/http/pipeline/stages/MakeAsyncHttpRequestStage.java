@@ -20,6 +20,7 @@ import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolv
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -37,25 +38,35 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
+import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.FilterTransformingAsyncHttpResponseHandler;
+import software.amazon.awssdk.core.internal.http.async.HedgedAsyncHttpExecution;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
 import software.amazon.awssdk.core.internal.metrics.BytesReadTrackingPublisher;
+import software.amazon.awssdk.core.internal.retry.HedgingLatencyTracker;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -73,6 +84,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
+    private final HedgingPolicy hedgingPolicy;
+    private final HedgingLatencyTracker hedgingLatencyTracker;
+    private final TokenBucketRetryCondition retryCapacity;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                      HttpClientDependencies dependencies) {
@@ -82,6 +96,16 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.hedgingPolicy = dependencies.clientConfiguration().option(SdkClientOption.HEDGING_POLICY);
+        this.hedgingLatencyTracker = dependencies.hedgingLatencyTracker();
+        this.retryCapacity = retryCapacity(dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY));
+    }
+
+    private static TokenBucketRetryCondition retryCapacity(RetryPolicy retryPolicy) {
+        RetryCondition retryCapacityCondition = retryPolicy != null ? retryPolicy.toBuilder().retryCapacityCondition() : null;
+        return retryCapacityCondition instanceof TokenBucketRetryCondition
+               ? (TokenBucketRetryCondition) retryCapacityCondition
+               : null;
     }
 
     @Override
@@ -131,7 +155,7 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
         SdkHttpContentPublisher requestProvider = context.requestProvider() == null
                                                   ? new SimpleHttpContentPublisher(request)
-                                                  : new SdkHttpContentPublisherAdapter(context.requestProvider());
+                                                  : adaptRequestProvider(context.requestProvider());
         // Set content length if it hasn't been set already.
         SdkHttpFullRequest requestWithContentLength = getRequestWithContentLength(request, requestProvider);
 
@@ -201,7 +225,9 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                                                                   .build();
 
         long startTime = MetricUtils.resetApiCallAttemptStartNanoTime(context);
-        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        CompletableFuture<Void> httpClientFuture = shouldHedge(context)
+                                                   ? executeHedged(context, executeRequestBuilder, wrappedResponseHandler)
+                                                   : sdkAsyncHttpClient.execute(executeRequest);
 
         CompletableFuture<Void> result = httpClientFuture.whenComplete((r, t) -> {
             long d = System.nanoTime() - startTime;
@@ -214,6 +240,43 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    /**
+     * Requests are hedged for the operations of the hedging policy, unless their body is streamed from an
+     * {@link AsyncRequestBody}, which may not be able to provide its content twice.
+     */
+    private boolean shouldHedge(RequestExecutionContext context) {
+        if (hedgingPolicy == null || timeoutExecutor == null || context.requestProvider() != null) {
+            return false;
+        }
+        String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return hedgingPolicy.appliesTo(operationName);
+    }
+
+    private CompletableFuture<Void> executeHedged(RequestExecutionContext context,
+                                                  AsyncExecuteRequest.Builder executeRequestBuilder,
+                                                  ReadMetricsTrackingResponseHandler<Response<OutputT>> responseHandler) {
+        String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        MetricCollector attemptMetricCollector = context.attemptMetricCollector() != null
+                                                 ? context.attemptMetricCollector()
+                                                 : NoOpMetricCollector.create();
+        AsyncExecuteRequest originalRequest = executeRequestBuilder.build();
+
+        return HedgedAsyncHttpExecution.builder()
+                                       .httpClient(sdkAsyncHttpClient)
+                                       .requestBuilder(executeRequestBuilder)
+                                       .responseHandler(responseHandler)
+                                       .originalMetricCollector(originalRequest.metricCollector().orElse(null))
+                                       .hedgedMetricCollector(() -> MetricUtils.createHttpMetricsCollector(context))
+                                       .attemptMetricCollector(attemptMetricCollector)
+                                       .scheduledExecutor(timeoutExecutor)
+                                       .hedgeDelay(hedgingLatencyTracker.hedgeDelay(operationName, hedgingPolicy))
+                                       .retryCapacity(retryCapacity)
+                                       .latencyTracker(hedgingLatencyTracker)
+                                       .operationName(operationName)
+                                       .build()
+                                       .execute();
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
@@ -261,7 +324,14 @@ public final class MakeAsyncHttpRequestStage<OutputT>
      * provide the request content in a non-blocking manner. This adapts that interface to the
      * {@link SdkHttpContentPublisher} which the HTTP client SPI expects.
      */
-    private static final class SdkHttpContentPublisherAdapter implements SdkHttpContentPublisher {
+    private static SdkHttpContentPublisher adaptRequestProvider(AsyncRequestBody requestProvider) {
+        if (requestProvider instanceof FileAsyncRequestBody) {
+            return new SdkHttpFileContentPublisherAdapter((FileAsyncRequestBody) requestProvider);
+        }
+        return new SdkHttpContentPublisherAdapter(requestProvider);
+    }
+
+    private static class SdkHttpContentPublisherAdapter implements SdkHttpContentPublisher {
 
         private final AsyncRequestBody asyncRequestBody;
 
@@ -280,6 +350,31 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         }
     }
 
+    /**
+     * Exposes the file of a {@link FileAsyncRequestBody}, so that HTTP clients can send it without reading it through the
+     * publisher.
+     */
+    private static final class SdkHttpFileContentPublisherAdapter extends SdkHttpContentPublisherAdapter
+        implements SdkHttpFileContentPublisher {
+
+        private final FileAsyncRequestBody fileRequestBody;
+
+        private SdkHttpFileContentPublisherAdapter(FileAsyncRequestBody fileRequestBody) {
+            super(fileRequestBody);
+            this.fileRequestBody = fileRequestBody;
+        }
+
+        @Override
+        public Path path() {
+            return fileRequestBody.path();
+        }
+
+        @Override
+        public long position() {
+            return fileRequestBody.position();
+        }
+    }
+
     /**
      * Decorator response handler that records response read metrics as well as records other data for computing other read
      * metrics at later points.
@@ -17,6 +17,8 @@ package software.amazon.awssdk.core.internal.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.checksums.SdkChecksum;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -37,6 +39,11 @@ public class ChecksumValidatingInputStream extends InputStream implements Aborta
     private String computedChecksum = null;
     private boolean endOfStream = false;
 
+    /**
+     * Resets the stream and the running checksum together.
+     */
+    private final Lock markLock = new ReentrantLock();
+
     /**
      * Creates an input stream using the specified Checksum, input stream, and length.
      *
@@ -106,9 +113,14 @@ public class ChecksumValidatingInputStream extends InputStream implements Aborta
      * Resets stream state, including the running checksum.
      */
     @Override
-    public synchronized void reset() throws IOException {
-        inputStream.reset();
-        checkSum.reset();
+    public void reset() throws IOException {
+        markLock.lock();
+        try {
+            inputStream.reset();
+            checkSum.reset();
+        } finally {
+            markLock.unlock();
+        }
     }
 
     @Override
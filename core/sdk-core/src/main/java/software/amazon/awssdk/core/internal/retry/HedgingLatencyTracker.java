@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+
+/**
+ * Tracks the recent response times of each operation of a client, to compute the delay after which requests to that
+ * operation are hedged.
+ * <p>
+ * The response time of a request is the time it took to receive the response headers. When a hedged request wins, the time
+ * elapsed since the original request was sent is recorded instead, which is a lower bound of the response time of the
+ * original request. This keeps the hedged requests from lowering the percentile they are sent at.
+ */
+@SdkInternalApi
+public final class HedgingLatencyTracker {
+    /**
+     * The number of response times that must have been recorded for an operation before its percentile is used.
+     */
+    static final int MIN_SAMPLES = 20;
+
+    /**
+     * The number of response times recorded for an operation after which its percentile is computed again. Computing it
+     * means sorting the whole window, which is too expensive to do for every hedged request.
+     */
+    static final int RECOMPUTE_INTERVAL = 16;
+
+    private static final int WINDOW_SIZE = 256;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    /**
+     * Record the response time of a request to the provided operation.
+     */
+    public void record(String operationName, Duration responseTime) {
+        windows.computeIfAbsent(operationName, n -> new Window()).add(responseTime.toNanos());
+    }
+
+    /**
+     * The delay after which a request to the provided operation should be hedged.
+     */
+    public Duration hedgeDelay(String operationName, HedgingPolicy hedgingPolicy) {
+        Window window = windows.get(operationName);
+        if (window == null) {
+            return hedgingPolicy.initialDelay();
+        }
+        long percentileNanos = window.percentile(hedgingPolicy.delayPercentile());
+        return percentileNanos < 0 ? hedgingPolicy.initialDelay() : Duration.ofNanos(percentileNanos);
+    }
+
+    /**
+     * The most recent response times of an operation.
+     */
+    private static final class Window {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int count;
+        private int next;
+        private int addedSinceComputed;
+        private double computedPercentile = Double.NaN;
+        private long computedNanos;
+
+        private synchronized void add(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % WINDOW_SIZE;
+            count = Math.min(count + 1, WINDOW_SIZE);
+            addedSinceComputed++;
+        }
+
+        /**
+         * The percentile of the recorded samples, or -1 if there are not enough samples. The value is cached, and only
+         * computed again once {@link #RECOMPUTE_INTERVAL} samples have been added.
+         */
+        private long percentile(double percentile) {
+            long[] sorted;
+            synchronized (this) {
+                if (count < MIN_SAMPLES) {
+                    return -1;
+                }
+                if (percentile == computedPercentile && addedSinceComputed < RECOMPUTE_INTERVAL) {
+                    return computedNanos;
+                }
+                // Callers arriving while the percentile is computed keep using the previous value.
+                addedSinceComputed = 0;
+                sorted = Arrays.copyOf(samples, count);
+            }
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+            long nanos = sorted[Math.max(0, index)];
+            synchronized (this) {
+                computedPercentile = percentile;
+                computedNanos = nanos;
+            }
+            return nanos;
+        }
+    }
+}
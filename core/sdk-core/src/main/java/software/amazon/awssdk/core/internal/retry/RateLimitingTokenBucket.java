@@ -16,11 +16,23 @@
 package software.amazon.awssdk.core.internal.retry;
 
 import java.util.OptionalDouble;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
+/**
+ * The client side rate limiter used by the {@code ADAPTIVE} retry mode.
+ * <p>
+ * All of the bucket's state is kept in a single {@link State} snapshot that is replaced with a compare-and-set. Each
+ * operation copies the snapshot it observed, computes the successor on the copy and retries if another thread published a
+ * newer snapshot in the meantime, so callers on the request path never contend for a monitor. While the bucket is not
+ * enabled, acquiring capacity is a single volatile read.
+ */
 @SdkInternalApi
+@ThreadSafe
 public class RateLimitingTokenBucket {
     private static final double MIN_FILL_RATE = 0.5;
     private static final double MIN_CAPACITY = 1.0;
@@ -30,19 +42,7 @@ public class RateLimitingTokenBucket {
     private static final double SCALE_CONSTANT = 0.4;
 
     private final Clock clock;
-
-    private Double fillRate;
-    private Double maxCapacity;
-    private double currentCapacity;
-    private Double lastTimestamp;
-    private boolean enabled;
-    private double measuredTxRate;
-    private double lastTxRateBucket;
-    private long requestCount;
-    private double lastMaxRate;
-    private double lastThrottleTime;
-
-    private double timeWindow;
+    private final AtomicReference<State> state;
 
     public interface Clock {
         double time();
@@ -50,13 +50,13 @@ public class RateLimitingTokenBucket {
 
     public RateLimitingTokenBucket() {
         clock = new DefaultClock();
-        initialize();
+        state = new AtomicReference<>(initialState());
     }
 
     @SdkTestInternalApi
     RateLimitingTokenBucket(Clock clock) {
         this.clock = clock;
-        initialize();
+        state = new AtomicReference<>(initialState());
     }
 
     /**
@@ -151,32 +151,29 @@ public class RateLimitingTokenBucket {
      * @return The amount of time in seconds to wait before proceeding.
      */
     public OptionalDouble acquireNonBlocking(double amount, boolean fastFail) {
-        double waitTime = 0.0;
-
-        synchronized (this) {
-            // If rate limiting is not enabled, we technically have an uncapped limit
-            if (!enabled) {
-                return OptionalDouble.of(0.0);
-            }
+        // If rate limiting is not enabled, we technically have an uncapped limit
+        if (!state.get().enabled) {
+            return OptionalDouble.of(0.0);
+        }
 
-            refill();
+        refill();
 
-            double originalCapacity = currentCapacity;
-            double unfulfilled = tryAcquireCapacity(amount);
+        while (true) {
+            State current = state.get();
+            double unfulfilled = unfulfilledCapacity(current, amount);
 
             if (unfulfilled > 0.0 && fastFail) {
-                currentCapacity = originalCapacity;
                 return OptionalDouble.empty();
             }
 
-            // If all the tokens couldn't be acquired immediately, wait enough
-            // time to fill the remainder.
-            if (unfulfilled > 0) {
-                waitTime = unfulfilled / fillRate;
+            State next = current.copy();
+            next.currentCapacity = current.currentCapacity - amount;
+            if (state.compareAndSet(current, next)) {
+                // If all the tokens couldn't be acquired immediately, wait enough
+                // time to fill the remainder.
+                return OptionalDouble.of(unfulfilled > 0.0 ? unfulfilled / current.fillRate : 0.0);
             }
         }
-
-        return OptionalDouble.of(waitTime);
     }
 
     /**
@@ -185,27 +182,48 @@ public class RateLimitingTokenBucket {
      * @return The unfulfilled amount.
      */
     double tryAcquireCapacity(double amount) {
-        double result;
-        if (amount <= currentCapacity) {
-            result = 0;
-        } else {
-            result = amount - currentCapacity;
+        State previous = update(s -> s.currentCapacity = s.currentCapacity - amount);
+        return unfulfilledCapacity(previous, amount);
+    }
+
+    private static double unfulfilledCapacity(State state, double amount) {
+        if (amount <= state.currentCapacity) {
+            return 0;
         }
-        currentCapacity = currentCapacity - amount;
-        return result;
+        return amount - state.currentCapacity;
     }
 
-    private void initialize() {
-        fillRate = null;
-        maxCapacity = null;
-        currentCapacity = 0.0;
-        lastTimestamp = null;
-        enabled = false;
-        measuredTxRate = 0.0;
-        lastTxRateBucket = Math.floor(clock.time());
-        requestCount = 0;
-        lastMaxRate = 0.0;
-        lastThrottleTime = clock.time();
+    private State initialState() {
+        State initial = new State();
+        initial.fillRate = null;
+        initial.maxCapacity = null;
+        initial.currentCapacity = 0.0;
+        initial.lastTimestamp = null;
+        initial.enabled = false;
+        initial.measuredTxRate = 0.0;
+        initial.lastTxRateBucket = Math.floor(clock.time());
+        initial.requestCount = 0;
+        initial.lastMaxRate = 0.0;
+        initial.lastThrottleTime = clock.time();
+        return initial;
+    }
+
+    /**
+     * Atomically apply {@code mutation} to a private copy of the current state and publish the result, retrying against the
+     * latest state if another thread published first. The mutation may therefore run more than once and must not have side
+     * effects outside of the state it is given.
+     *
+     * @return The state the mutation was successfully applied to.
+     */
+    private State update(Consumer<State> mutation) {
+        while (true) {
+            State current = state.get();
+            State next = current.copy();
+            mutation.accept(next);
+            if (state.compareAndSet(current, next)) {
+                return current;
+            }
+        }
     }
 
     /**
@@ -221,16 +239,19 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void refill() {
-        double timestamp = clock.time();
-        if (lastTimestamp == null) {
-            lastTimestamp = timestamp;
+    void refill() {
+        update(s -> refill(s, clock.time()));
+    }
+
+    private static void refill(State state, double timestamp) {
+        if (state.lastTimestamp == null) {
+            state.lastTimestamp = timestamp;
             return;
         }
 
-        double fillAmount = (timestamp - lastTimestamp) * fillRate;
-        currentCapacity = Math.min(maxCapacity, currentCapacity + fillAmount);
-        lastTimestamp = timestamp;
+        double fillAmount = (timestamp - state.lastTimestamp) * state.fillRate;
+        state.currentCapacity = Math.min(state.maxCapacity, state.currentCapacity + fillAmount);
+        state.lastTimestamp = timestamp;
     }
 
     /**
@@ -245,11 +266,11 @@ public class RateLimitingTokenBucket {
      *   current_capacity = min(current_capacity, max_capacity)
      * </pre>
      */
-    private synchronized void updateRate(double newRps) {
-        refill();
-        fillRate = Math.max(newRps, MIN_FILL_RATE);
-        maxCapacity = Math.max(newRps, MIN_CAPACITY);
-        currentCapacity = Math.min(currentCapacity, maxCapacity);
+    private static void updateRate(State state, double newRps, double timestamp) {
+        refill(state, timestamp);
+        state.fillRate = Math.max(newRps, MIN_FILL_RATE);
+        state.maxCapacity = Math.max(newRps, MIN_CAPACITY);
+        state.currentCapacity = Math.min(state.currentCapacity, state.maxCapacity);
     }
 
     /**
@@ -264,20 +285,19 @@ public class RateLimitingTokenBucket {
      *   last_tx_rate_bucket = time_bucket
      * </pre>
      */
-    private synchronized void updateMeasuredRate() {
-        double t = clock.time();
+    private static void updateMeasuredRate(State state, double t) {
         double timeBucket = Math.floor(t * 2) / 2;
-        requestCount = requestCount + 1;
-        if (timeBucket > lastTxRateBucket) {
-            double currentRate = requestCount / (timeBucket - lastTxRateBucket);
-            measuredTxRate = (currentRate * SMOOTH) + (measuredTxRate * (1 - SMOOTH));
-            requestCount = 0;
-            lastTxRateBucket = timeBucket;
+        state.requestCount = state.requestCount + 1;
+        if (timeBucket > state.lastTxRateBucket) {
+            double currentRate = state.requestCount / (timeBucket - state.lastTxRateBucket);
+            state.measuredTxRate = (currentRate * SMOOTH) + (state.measuredTxRate * (1 - SMOOTH));
+            state.requestCount = 0;
+            state.lastTxRateBucket = timeBucket;
         }
     }
 
-    synchronized void enable() {
-        enabled = true;
+    void enable() {
+        update(s -> s.enabled = true);
     }
 
     /**
@@ -305,30 +325,33 @@ public class RateLimitingTokenBucket {
      *   _TokenBucketUpdateRate(new_rate)
      * </pre>
      */
-    public synchronized void updateClientSendingRate(boolean throttlingResponse) {
-        updateMeasuredRate();
-
-        double calculatedRate;
-        if (throttlingResponse) {
-            double rateToUse;
-            if (!enabled) {
-                rateToUse = measuredTxRate;
+    public void updateClientSendingRate(boolean throttlingResponse) {
+        update(s -> {
+            double timestamp = clock.time();
+            updateMeasuredRate(s, timestamp);
+
+            double calculatedRate;
+            if (throttlingResponse) {
+                double rateToUse;
+                if (!s.enabled) {
+                    rateToUse = s.measuredTxRate;
+                } else {
+                    rateToUse = Math.min(s.measuredTxRate, s.fillRate);
+                }
+
+                s.lastMaxRate = rateToUse;
+                calculateTimeWindow(s);
+                s.lastThrottleTime = timestamp;
+                calculatedRate = cubicThrottle(rateToUse);
+                s.enabled = true;
             } else {
-                rateToUse = Math.min(measuredTxRate, fillRate);
+                calculateTimeWindow(s);
+                calculatedRate = cubicSuccess(s, timestamp);
             }
 
-            lastMaxRate = rateToUse;
-            calculateTimeWindow();
-            lastThrottleTime = clock.time();
-            calculatedRate = cubicThrottle(rateToUse);
-            enable();
-        } else {
-            calculateTimeWindow();
-            calculatedRate = cubicSuccess(clock.time());
-        }
-
-        double newRate = Math.min(calculatedRate, 2 * measuredTxRate);
-        updateRate(newRate);
+            double newRate = Math.min(calculatedRate, 2 * s.measuredTxRate);
+            updateRate(s, newRate, timestamp);
+        });
     }
 
     /**
@@ -340,8 +363,12 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized void calculateTimeWindow() {
-        timeWindow = Math.pow((lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
+    void calculateTimeWindow() {
+        update(RateLimitingTokenBucket::calculateTimeWindow);
+    }
+
+    private static void calculateTimeWindow(State state) {
+        state.timeWindow = Math.pow((state.lastMaxRate * (1 - BETA)) / SCALE_CONSTANT, 1.0 / 3);
     }
 
     /**
@@ -381,9 +408,13 @@ public class RateLimitingTokenBucket {
      * </pre>
      */
     // Package private for testing
-    synchronized double cubicSuccess(double timestamp) {
-        double dt = timestamp - lastThrottleTime;
-        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - timeWindow, 3) + lastMaxRate;
+    double cubicSuccess(double timestamp) {
+        return cubicSuccess(state.get(), timestamp);
+    }
+
+    private static double cubicSuccess(State state, double timestamp) {
+        double dt = timestamp - state.lastThrottleTime;
+        double calculatedRate = SCALE_CONSTANT * Math.pow(dt - state.timeWindow, 3) + state.lastMaxRate;
         return calculatedRate;
     }
 
@@ -395,38 +426,73 @@ public class RateLimitingTokenBucket {
         }
     }
 
+    /**
+     * A snapshot of the bucket. A snapshot is only modified while it is private to the thread computing the next state;
+     * once it has been published it is never modified again.
+     */
+    private static final class State {
+        private Double fillRate;
+        private Double maxCapacity;
+        private double currentCapacity;
+        private Double lastTimestamp;
+        private boolean enabled;
+        private double measuredTxRate;
+        private double lastTxRateBucket;
+        private long requestCount;
+        private double lastMaxRate;
+        private double lastThrottleTime;
+
+        private double timeWindow;
+
+        private State copy() {
+            State copy = new State();
+            copy.fillRate = fillRate;
+            copy.maxCapacity = maxCapacity;
+            copy.currentCapacity = currentCapacity;
+            copy.lastTimestamp = lastTimestamp;
+            copy.enabled = enabled;
+            copy.measuredTxRate = measuredTxRate;
+            copy.lastTxRateBucket = lastTxRateBucket;
+            copy.requestCount = requestCount;
+            copy.lastMaxRate = lastMaxRate;
+            copy.lastThrottleTime = lastThrottleTime;
+            copy.timeWindow = timeWindow;
+            return copy;
+        }
+    }
+
     @SdkTestInternalApi
-    synchronized void setLastMaxRate(double lastMaxRate) {
-        this.lastMaxRate = lastMaxRate;
+    void setLastMaxRate(double lastMaxRate) {
+        update(s -> s.lastMaxRate = lastMaxRate);
     }
 
     @SdkTestInternalApi
-    synchronized void setLastThrottleTime(double lastThrottleTime) {
-        this.lastThrottleTime = lastThrottleTime;
+    void setLastThrottleTime(double lastThrottleTime) {
+        update(s -> s.lastThrottleTime = lastThrottleTime);
     }
 
     @SdkTestInternalApi
-    synchronized double getMeasuredTxRate() {
-        return measuredTxRate;
+    double getMeasuredTxRate() {
+        return state.get().measuredTxRate;
     }
 
     @SdkTestInternalApi
-    synchronized double getFillRate() {
-        return fillRate;
+    double getFillRate() {
+        return state.get().fillRate;
     }
 
     @SdkTestInternalApi
-    synchronized void setCurrentCapacity(double currentCapacity) {
-        this.currentCapacity = currentCapacity;
+    void setCurrentCapacity(double currentCapacity) {
+        update(s -> s.currentCapacity = currentCapacity);
     }
 
     @SdkTestInternalApi
-    synchronized double getCurrentCapacity() {
-        return currentCapacity;
+    double getCurrentCapacity() {
+        return state.get().currentCapacity;
     }
 
     @SdkTestInternalApi
-    synchronized void setFillRate(double fillRate) {
-        this.fillRate = fillRate;
+    void setFillRate(double fillRate) {
+        update(s -> s.fillRate = fillRate);
     }
 }
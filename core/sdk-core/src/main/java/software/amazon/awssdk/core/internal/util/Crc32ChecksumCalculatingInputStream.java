@@ -46,10 +46,9 @@ public class Crc32ChecksumCalculatingInputStream extends SdkFilterInputStream {
      * @see java.io.InputStream#reset()
      */
     @Override
-    public synchronized void reset() throws IOException {
-        abortIfNeeded();
+    public void reset() throws IOException {
+        super.reset();
         crc32.reset();
-        in.reset();
     }
 
     /**
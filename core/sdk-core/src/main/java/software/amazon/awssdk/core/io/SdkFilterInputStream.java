@@ -18,6 +18,8 @@ package software.amazon.awssdk.core.io;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.exception.AbortedException;
 import software.amazon.awssdk.core.internal.io.Releasable;
@@ -29,6 +31,12 @@ import software.amazon.awssdk.utils.IoUtils;
 @SdkProtectedApi
 public class SdkFilterInputStream extends FilterInputStream implements Releasable {
 
+    /**
+     * Guards {@link #mark(int)} and {@link #reset()}. A lock is used instead of synchronizing on the stream so that callers on
+     * virtual threads do not pin their carrier while the underlying stream blocks.
+     */
+    private final Lock markLock = new ReentrantLock();
+
     protected SdkFilterInputStream(InputStream in) {
         super(in);
     }
@@ -85,15 +93,25 @@ public class SdkFilterInputStream extends FilterInputStream implements Releasabl
     }
 
     @Override
-    public synchronized void mark(int readlimit) {
-        abortIfNeeded();
-        in.mark(readlimit);
+    public void mark(int readlimit) {
+        markLock.lock();
+        try {
+            abortIfNeeded();
+            in.mark(readlimit);
+        } finally {
+            markLock.unlock();
+        }
     }
 
     @Override
-    public synchronized void reset() throws IOException {
-        abortIfNeeded();
-        in.reset();
+    public void reset() throws IOException {
+        markLock.lock();
+        try {
+            abortIfNeeded();
+            in.reset();
+        } finally {
+            markLock.unlock();
+        }
     }
 
     @Override
@@ -19,6 +19,7 @@ import java.net.URI;
 import java.time.Duration;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.metrics.MetricCategory;
@@ -162,6 +163,34 @@ public final class CoreMetric {
     public static final SdkMetric<Duration> ENDPOINT_RESOLVE_DURATION =
         metric("EndpointResolveDuration", Duration.class, MetricLevel.INFO);
 
+    /**
+     * Whether the endpoint used for the API call was taken from the client's cache of resolved endpoints instead of being
+     * resolved from the endpoint rules. This is only reported by clients that cache resolved endpoints.
+     */
+    public static final SdkMetric<Boolean> ENDPOINT_RESOLVE_CACHE_HIT =
+        metric("EndpointResolveCacheHit", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * The delay after which a hedged request is sent for the API call attempt if no response has been received. This is only
+     * reported for the operations that the client's {@link HedgingPolicy} applies to.
+     */
+    public static final SdkMetric<Duration> HEDGE_DELAY_DURATION =
+        metric("HedgeDelayDuration", Duration.class, MetricLevel.INFO);
+
+    /**
+     * Whether a hedged request was sent for the API call attempt. This is only reported for the operations that the client's
+     * {@link HedgingPolicy} applies to.
+     */
+    public static final SdkMetric<Boolean> HEDGED_REQUEST_SENT =
+        metric("HedgedRequestSent", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * Whether the response used for the API call attempt was received for the hedged request rather than the original
+     * request. This is only reported when a hedged request was sent.
+     */
+    public static final SdkMetric<Boolean> HEDGED_REQUEST_WON =
+        metric("HedgedRequestWon", Boolean.class, MetricLevel.INFO);
+
 
     /**
      * The type of error that occurred for a call attempt.
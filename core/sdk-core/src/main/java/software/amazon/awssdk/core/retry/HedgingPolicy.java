@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures request hedging for asynchronous clients: when a request to one of the configured idempotent operations hasn't
+ * received a response after the hedging delay, a second, hedged request is sent, and the response that arrives first is
+ * used. The other request is cancelled.
+ * <p>
+ * The hedging delay is a percentile of the time it recently took to receive the response headers for the same operation,
+ * so that only the slowest requests are hedged. Until enough responses have been observed, the {@link Builder#initialDelay}
+ * is used.
+ * <p>
+ * Hedged requests count against the retry capacity of the client's {@link RetryPolicy}, like retries do: a hedged request is
+ * only sent if the retry token bucket has capacity for a retry, and that capacity is returned once the API call succeeds.
+ * When failures drain the bucket, requests stop being hedged. Requests with a streaming request body are never hedged.
+ * <p>
+ * Only list operations that are safe to send twice, such as {@code GetItem} or {@code GetObject}.
+ */
+@SdkPublicApi
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+    private static final double DEFAULT_DELAY_PERCENTILE = 95.0;
+    private static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+
+    private final Set<String> idempotentOperations;
+    private final double delayPercentile;
+    private final Duration initialDelay;
+
+    private HedgingPolicy(DefaultBuilder builder) {
+        this.idempotentOperations = Collections.unmodifiableSet(new LinkedHashSet<>(builder.idempotentOperations));
+        this.delayPercentile = builder.delayPercentile == null ? DEFAULT_DELAY_PERCENTILE : builder.delayPercentile;
+        this.initialDelay = builder.initialDelay == null ? DEFAULT_INITIAL_DELAY : builder.initialDelay;
+        Validate.isTrue(delayPercentile > 0 && delayPercentile < 100,
+                        "delayPercentile must be between 0 and 100 exclusive, but was %s", delayPercentile);
+        Validate.isPositive(initialDelay, "initialDelay");
+    }
+
+    /**
+     * The names of the operations whose requests are hedged.
+     */
+    public Set<String> idempotentOperations() {
+        return idempotentOperations;
+    }
+
+    /**
+     * Whether requests to the provided operation are hedged.
+     */
+    public boolean appliesTo(String operationName) {
+        return operationName != null && idempotentOperations.contains(operationName);
+    }
+
+    /**
+     * The percentile of the recently observed response times after which a hedged request is sent.
+     */
+    public double delayPercentile() {
+        return delayPercentile;
+    }
+
+    /**
+     * The delay after which a hedged request is sent, until enough responses have been observed for the operation.
+     */
+    public Duration initialDelay() {
+        return initialDelay;
+    }
+
+    /**
+     * Create a {@link HedgingPolicy.Builder}, used to create a {@link HedgingPolicy}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("idempotentOperations", idempotentOperations)
+                       .add("delayPercentile", delayPercentile)
+                       .add("initialDelay", initialDelay)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingPolicy that = (HedgingPolicy) o;
+
+        if (Double.compare(that.delayPercentile, delayPercentile) != 0) {
+            return false;
+        }
+        if (!idempotentOperations.equals(that.idempotentOperations)) {
+            return false;
+        }
+        return initialDelay.equals(that.initialDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = idempotentOperations.hashCode();
+        result = 31 * result + Double.hashCode(delayPercentile);
+        result = 31 * result + initialDelay.hashCode();
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+
+        /**
+         * Configure the names of the operations whose requests may be hedged, for example {@code GetItem}. Requests to
+         * other operations are never hedged.
+         *
+         * @param idempotentOperations The operation names, as they appear in the service API reference.
+         * @return This object for method chaining.
+         */
+        Builder idempotentOperations(Collection<String> idempotentOperations);
+
+        /**
+         * Configure the names of the operations whose requests may be hedged, for example {@code GetItem}.
+         *
+         * @see #idempotentOperations(Collection)
+         */
+        Builder idempotentOperations(String... idempotentOperations);
+
+        /**
+         * Configure the percentile of the recently observed response times for an operation after which a request to that
+         * operation is hedged. The default value is 95, in which case about 5% of the requests are hedged.
+         *
+         * @param delayPercentile A percentile strictly between 0 and 100.
+         * @return This object for method chaining.
+         */
+        Builder delayPercentile(Double delayPercentile);
+
+        /**
+         * Configure the delay after which requests are hedged until enough responses have been observed for their operation
+         * to compute the {@link #delayPercentile(Double)}. The default value is 100 milliseconds.
+         *
+         * @param initialDelay A positive duration.
+         * @return This object for method chaining.
+         */
+        Builder initialDelay(Duration initialDelay);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final Set<String> idempotentOperations = new LinkedHashSet<>();
+        private Double delayPercentile;
+        private Duration initialDelay;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(HedgingPolicy hedgingPolicy) {
+            this.idempotentOperations.addAll(hedgingPolicy.idempotentOperations);
+            this.delayPercentile = hedgingPolicy.delayPercentile;
+            this.initialDelay = hedgingPolicy.initialDelay;
+        }
+
+        @Override
+        public Builder idempotentOperations(Collection<String> idempotentOperations) {
+            this.idempotentOperations.clear();
+            if (idempotentOperations != null) {
+                this.idempotentOperations.addAll(idempotentOperations);
+            }
+            return this;
+        }
+
+        @Override
+        public Builder idempotentOperations(String... idempotentOperations) {
+            return idempotentOperations(idempotentOperations == null ? null : Arrays.asList(idempotentOperations));
+        }
+
+        @Override
+        public Builder delayPercentile(Double delayPercentile) {
+            this.delayPercentile = delayPercentile;
+            return this;
+        }
+
+        @Override
+        public Builder initialDelay(Duration initialDelay) {
+            this.initialDelay = initialDelay;
+            return this;
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
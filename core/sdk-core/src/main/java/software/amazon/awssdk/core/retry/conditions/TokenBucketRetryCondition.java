@@ -18,7 +18,9 @@ package software.amazon.awssdk.core.retry.conditions;
 import static software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting.TOKEN_BUCKET_SIZE;
 
 import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.internal.capacity.TokenBucket;
@@ -56,6 +58,11 @@ public class TokenBucketRetryCondition implements RetryCondition {
     private static final ExecutionAttribute<Integer> RETRY_COUNT_OF_LAST_CAPACITY_ACQUISITION =
         new ExecutionAttribute<>("TokenBucketRetryCondition.RETRY_COUNT_OF_LAST_CAPACITY_ACQUISITION");
 
+    /**
+     * A hedged request costs as much as the retry of a request that failed with a non-throttling error.
+     */
+    private static final SdkClientException HEDGE_COST_EXCEPTION = SdkClientException.create("Hedged request");
+
     private final TokenBucket capacity;
     private final TokenBucketExceptionCostFunction exceptionCostFunction;
 
@@ -114,6 +121,23 @@ public class TokenBucketRetryCondition implements RetryCondition {
         return capacity.currentCapacity();
     }
 
+    /**
+     * Acquire the capacity that a retry would consume, for a hedged request that is sent while the original request is still
+     * in flight. Returns an empty optional if the client has experienced too many recent call failures.
+     */
+    @SdkInternalApi
+    public Optional<Capacity> tryAcquireHedgeCapacity() {
+        return capacity.tryAcquire(exceptionCostFunction.apply(HEDGE_COST_EXCEPTION));
+    }
+
+    /**
+     * Return capacity acquired by {@link #tryAcquireHedgeCapacity()}.
+     */
+    @SdkInternalApi
+    public void releaseHedgeCapacity(Capacity acquiredCapacity) {
+        capacity.release(acquiredCapacity.capacityAcquired());
+    }
+
     @Override
     public boolean shouldRetry(RetryPolicyContext context) {
         int costOfFailure = exceptionCostFunction.apply(context.exception());
@@ -17,12 +17,23 @@ package software.amazon.awssdk.core.compression;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.zip.Deflater;
 import nl.jqno.equalsverifier.EqualsVerifier;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.internal.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.CompressorType;
+import software.amazon.awssdk.core.internal.compression.DeflateCompressor;
+import software.amazon.awssdk.core.internal.compression.GzipCompressor;
 
 public class CompressorTypeTest {
 
+    @AfterEach
+    public void restoreDefaultGzipCompressor() {
+        CompressorType.register(new GzipCompressor());
+    }
+
     @Test
     public void equalsHashcode() {
         EqualsVerifier.forClass(CompressorType.class)
@@ -45,4 +56,42 @@ public class CompressorTypeTest {
         assertThat(brotliFromString).isSameAs(brotliFromStringDuplicate);
         assertThat(brotliFromString).isEqualTo(brotliFromStringDuplicate);
     }
+
+    @Test
+    public void builtInCompressors_areSupported() {
+        assertThat(CompressorType.isSupported("gzip")).isTrue();
+        assertThat(CompressorType.isSupported("deflate")).isTrue();
+        assertThat(CompressorType.GZIP.newCompressor()).isInstanceOf(GzipCompressor.class);
+        assertThat(CompressorType.of("deflate").newCompressor()).isInstanceOf(DeflateCompressor.class);
+    }
+
+    @Test
+    public void register_newCompressorType_isSupported() {
+        Compressor identity = new Compressor() {
+            @Override
+            public String compressorType() {
+                return "test-identity";
+            }
+
+            @Override
+            public SdkBytes compress(SdkBytes content) {
+                return content;
+            }
+        };
+
+        CompressorType.register(identity);
+
+        assertThat(CompressorType.isSupported("test-identity")).isTrue();
+        assertThat(CompressorType.compressorTypes()).contains("gzip", "test-identity");
+        assertThat(CompressorType.of("test-identity").newCompressor()).isSameAs(identity);
+    }
+
+    @Test
+    public void register_existingCompressorType_replacesCompressor() {
+        GzipCompressor bestCompression = new GzipCompressor(Deflater.BEST_COMPRESSION);
+
+        CompressorType.register(bestCompression);
+
+        assertThat(CompressorType.GZIP.newCompressor()).isSameAs(bestCompression);
+    }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+class ByteBufferPoolTest {
+    private static final int BUFFER_SIZE = 16;
+
+    @Test
+    void acquire_emptyPool_allocatesBufferOfConfiguredSize() {
+        ByteBufferPool pool = ByteBufferPool.create(BUFFER_SIZE, BUFFER_SIZE * 2, false);
+
+        ByteBuffer buffer = pool.acquire();
+
+        assertThat(buffer.capacity()).isEqualTo(BUFFER_SIZE);
+        assertThat(buffer.remaining()).isEqualTo(BUFFER_SIZE);
+        assertThat(buffer.isDirect()).isFalse();
+    }
+
+    @Test
+    void acquire_directPool_allocatesDirectBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(BUFFER_SIZE, BUFFER_SIZE * 2, true);
+
+        assertThat(pool.acquire().isDirect()).isTrue();
+    }
+
+    @Test
+    void release_thenAcquire_reusesClearedBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(BUFFER_SIZE, BUFFER_SIZE * 2, false);
+        ByteBuffer buffer = pool.acquire();
+        buffer.put(new byte[10]).flip();
+
+        pool.release(buffer);
+        assertThat(pool.pooledBytes()).isEqualTo(BUFFER_SIZE);
+
+        ByteBuffer reused = pool.acquire();
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(reused.limit()).isEqualTo(BUFFER_SIZE);
+        assertThat(pool.pooledBytes()).isZero();
+    }
+
+    @Test
+    void release_beyondMaxPooledBytes_dropsBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(BUFFER_SIZE, BUFFER_SIZE * 2, false);
+        ByteBuffer first = pool.acquire();
+        ByteBuffer second = pool.acquire();
+        ByteBuffer third = pool.acquire();
+
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        assertThat(pool.pooledBytes()).isEqualTo(BUFFER_SIZE * 2);
+        assertThat(pool.acquire()).isSameAs(second);
+        assertThat(pool.acquire()).isSameAs(first);
+        assertThat(pool.acquire()).isNotSameAs(third);
+    }
+
+    @Test
+    void release_foreignBuffer_isIgnored() {
+        ByteBufferPool pool = ByteBufferPool.create(BUFFER_SIZE, BUFFER_SIZE * 2, false);
+
+        pool.release(ByteBuffer.allocate(BUFFER_SIZE * 2));
+        pool.release(ByteBuffer.allocateDirect(BUFFER_SIZE));
+        pool.release(pool.acquire().asReadOnlyBuffer());
+        pool.release(null);
+
+        assertThat(pool.pooledBytes()).isZero();
+    }
+}
@@ -35,6 +35,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -181,6 +182,25 @@ class FileAsyncResponseTransformerTest {
         assertThat(testPath).hasContent(existingString + content);
     }
 
+    @Test
+    void explicitPosition_concurrentTransformers_shouldWriteRanges() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String content = RandomStringUtils.randomAlphanumeric(30);
+        FileTransformerConfiguration configuration =
+            FileTransformerConfiguration.builder()
+                                        .fileWriteOption(FileWriteOption.CREATE_OR_APPEND_TO_EXISTING)
+                                        .failureBehavior(LEAVE)
+                                        .build();
+
+        for (int position : new int[] {20, 0, 10}) {
+            FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath, configuration,
+                                                                                                  position);
+            assertThat(transformer.position()).isEqualTo(position);
+            stubSuccessfulStreaming(content.substring(position, position + 10), transformer);
+        }
+        assertThat(testPath).hasContent(content);
+    }
+
     @ParameterizedTest
     @MethodSource("configurations")
     void exceptionOccurred_deleteFileBehavior(FileTransformerConfiguration configuration) throws Exception {
@@ -246,6 +266,57 @@ class FileAsyncResponseTransformerTest {
         }
     }
 
+    @Test
+    void readOnlyBuffer_reusedAfterOnNext_shouldWriteContentAsPublished() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        String content = RandomStringUtils.randomAlphanumeric(2000);
+        byte[] pooledMemory = content.getBytes(StandardCharsets.UTF_8);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch memoryReused = new CountDownLatch(1);
+        try {
+            // Hold back the writes until the memory of the published buffer has been reused
+            executor.submit(() -> {
+                memoryReused.await();
+                return null;
+            });
+            FileTransformerConfiguration configuration = FileTransformerConfiguration
+                .builder()
+                .fileWriteOption(FileWriteOption.CREATE_NEW)
+                .failureBehavior(DELETE)
+                .executorService(executor)
+                .build();
+            FileAsyncResponseTransformer<String> transformer = new FileAsyncResponseTransformer<>(testPath, configuration);
+            CompletableFuture<String> future = transformer.prepare();
+            transformer.onResponse("foobar");
+            transformer.onStream(subscriber -> subscriber.onSubscribe(new Subscription() {
+                private boolean sent;
+
+                @Override
+                public void request(long n) {
+                    if (sent) {
+                        subscriber.onComplete();
+                        return;
+                    }
+                    sent = true;
+                    subscriber.onNext(ByteBuffer.wrap(pooledMemory).asReadOnlyBuffer());
+                    Arrays.fill(pooledMemory, (byte) 'x');
+                    memoryReused.countDown();
+                }
+
+                @Override
+                public void cancel() {
+                }
+            }));
+
+            future.get(10, TimeUnit.SECONDS);
+            assertThat(testPath).hasContent(content);
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+        }
+    }
+
     private static void stubSuccessfulStreaming(String newContent, FileAsyncResponseTransformer<String> transformer) throws Exception {
         CompletableFuture<String> future = transformer.prepare();
         transformer.onResponse("foobar");
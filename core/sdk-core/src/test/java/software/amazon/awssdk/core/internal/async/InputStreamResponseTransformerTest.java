@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -80,4 +81,19 @@ class InputStreamResponseTransformerTest {
         assertThat(data[2]).isEqualTo((byte) 2);
         assertThat(stream.read(data)).isEqualTo(-1);
     }
+
+    @Test
+    public void readOnlyBufferReusedAfterOnNext_inputStreamReadsContentAsPublished() throws IOException {
+        InputStream stream = resultFuture.join();
+
+        byte[] pooledMemory = { 0, 1, 2 };
+        publisher.send(ByteBuffer.wrap(pooledMemory).asReadOnlyBuffer()).join();
+        Arrays.fill(pooledMemory, (byte) 9);
+        publisher.complete();
+
+        assertThat(stream.read()).isEqualTo(0);
+        assertThat(stream.read()).isEqualTo(1);
+        assertThat(stream.read()).isEqualTo(2);
+        assertThat(stream.read()).isEqualTo(-1);
+    }
 }
\ No newline at end of file
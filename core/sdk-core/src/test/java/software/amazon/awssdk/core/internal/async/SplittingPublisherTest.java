@@ -48,6 +48,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 public class SplittingPublisherTest {
     private static final int CHUNK_SIZE = 5;
@@ -147,6 +148,46 @@ public class SplittingPublisherTest {
 
     }
 
+    @Test
+    void contentLengthNotPresent_withBufferPool_shouldCopyChunksIntoPooledBuffersAndReleaseThemOnClose() throws Exception {
+        TestAsyncRequestBody asyncRequestBody = new TestAsyncRequestBody() {
+            @Override
+            public Optional<Long> contentLength() {
+                return Optional.empty();
+            }
+        };
+        ByteBufferPool bufferPool = ByteBufferPool.create(CHUNK_SIZE, CHUNK_SIZE * 2, false);
+        SplittingPublisher splittingPublisher = new SplittingPublisher(asyncRequestBody, AsyncRequestBodySplitConfiguration.builder()
+                                                                  .chunkSizeInBytes((long) CHUNK_SIZE)
+                                                                  .bufferSizeInBytes(10L)
+                                                                  .bufferPool(bufferPool)
+                                                                  .build());
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        splittingPublisher.subscribe(requestBody -> {
+            CompletableFuture<byte[]> baosFuture = new CompletableFuture<>();
+            requestBody.subscribe(new BaosSubscriber(baosFuture));
+            invokeSafely(() -> content.write(baosFuture.join()));
+            assertThat(requestBody).isInstanceOf(SdkAutoCloseable.class);
+            ((SdkAutoCloseable) requestBody).close();
+        }).get(5, TimeUnit.SECONDS);
+
+        assertThat(content.toByteArray()).isEqualTo(CONTENT);
+        assertThat(bufferPool.pooledBytes()).isEqualTo(CHUNK_SIZE);
+    }
+
+    @Test
+    void split_bufferPoolSmallerThanChunkSize_shouldThrowException() {
+        AsyncRequestBody body = AsyncRequestBody.fromPublisher(s -> {
+        });
+        assertThatThrownBy(() -> new SplittingPublisher(body, AsyncRequestBodySplitConfiguration.builder()
+                                                                                                .chunkSizeInBytes(10L)
+                                                                                                .bufferSizeInBytes(20L)
+                                                                                                .bufferPool(ByteBufferPool.create(5, 20, false))
+                                                                                                .build()))
+            .hasMessageContaining("bufferPool");
+    }
+
     @Test
     void downStreamFailed_shouldPropagateCancellation() {
         CompletableFuture<Void> future = new CompletableFuture<>();
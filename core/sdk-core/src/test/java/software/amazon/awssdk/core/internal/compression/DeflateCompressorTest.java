@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.InflaterInputStream;
+import org.junit.Test;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class DeflateCompressorTest {
+    private static final Compressor deflateCompressor = new DeflateCompressor();
+    private static final String COMPRESSABLE_STRING =
+        "RequestCompressionTest-RequestCompressionTest-RequestCompressionTest-RequestCompressionTest-RequestCompressionTest";
+
+    @Test
+    public void compressedData_decompressesCorrectly() throws IOException {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        byte[] compressedData = deflateCompressor.compress(originalData);
+
+        assertThat(compressedData.length).isLessThan(originalData.length);
+        assertThat(IoUtils.toByteArray(new InflaterInputStream(new ByteArrayInputStream(compressedData))))
+            .isEqualTo(originalData);
+    }
+
+    @Test
+    public void compressedStream_matchesCompressedBytes() throws IOException {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(IoUtils.toByteArray(deflateCompressor.compress(new ByteArrayInputStream(originalData))))
+            .isEqualTo(deflateCompressor.compress(originalData));
+    }
+
+    @Test
+    public void compressorType_isDeflate() {
+        assertThat(deflateCompressor.compressorType()).isEqualTo("deflate");
+    }
+}
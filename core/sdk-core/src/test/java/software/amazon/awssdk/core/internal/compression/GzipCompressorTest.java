@@ -15,16 +15,25 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.core.Is.is;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.Deflater;
 import java.util.zip.GZIPInputStream;
 import org.junit.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.utils.IoUtils;
 
 public class GzipCompressorTest {
     private static final Compressor gzipCompressor = new GzipCompressor();
@@ -53,4 +62,118 @@ public class GzipCompressorTest {
 
         assertThat(decompressedData, is(originalData));
     }
+
+    @Test
+    public void compressedStream_largePayload_decompressesCorrectly() throws IOException {
+        byte[] originalData = randomCompressibleData(5 * 1024 * 1024);
+
+        byte[] compressedData = IoUtils.toByteArray(gzipCompressor.compress(new ByteArrayInputStream(originalData)));
+
+        assertThat(compressedData.length, lessThan(originalData.length));
+        assertThat(decompress(compressedData), is(originalData));
+    }
+
+    @Test
+    public void compressedStream_readsSourceIncrementally() throws IOException {
+        AtomicLong bytesReadFromSource = new AtomicLong();
+        InputStream source = new CountingInputStream(new ByteArrayInputStream(randomCompressibleData(1024 * 1024)),
+                                                     bytesReadFromSource);
+
+        InputStream compressed = gzipCompressor.compress(source);
+        compressed.read(new byte[16]);
+
+        assertThat(bytesReadFromSource.get() < 1024 * 1024, is(true));
+        compressed.close();
+    }
+
+    @Test
+    public void compressedStream_singleByteReads_matchBulkCompression() throws IOException {
+        byte[] originalData = randomCompressibleData(100_000);
+        InputStream compressed = gzipCompressor.compress(new ByteArrayInputStream(originalData));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        int b;
+        while ((b = compressed.read()) != -1) {
+            baos.write(b);
+        }
+
+        assertThat(baos.toByteArray(), is(gzipCompressor.compress(originalData)));
+    }
+
+    @Test
+    public void allPayloadTypes_produceSameOutput() throws IOException {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+        byte[] expected = gzipCompressor.compress(originalData);
+
+        ByteBuffer offsetBuffer = ByteBuffer.allocate(originalData.length + 10);
+        offsetBuffer.position(5);
+        offsetBuffer.put(originalData);
+        offsetBuffer.position(5);
+        offsetBuffer.limit(5 + originalData.length);
+        ByteBuffer direct = ByteBuffer.allocateDirect(originalData.length);
+        direct.put(originalData);
+        direct.flip();
+
+        assertThat(gzipCompressor.compress(SdkBytes.fromByteArray(originalData)).asByteArray(), is(expected));
+        assertThat(IoUtils.toByteArray(gzipCompressor.compress(new ByteArrayInputStream(originalData))), is(expected));
+        assertThat(SdkBytes.fromByteBuffer(gzipCompressor.compress(offsetBuffer.slice())).asByteArray(), is(expected));
+        assertThat(SdkBytes.fromByteBuffer(gzipCompressor.compress(direct)).asByteArray(), is(expected));
+    }
+
+    @Test
+    public void emptyPayload_producesValidGzip() throws IOException {
+        byte[] compressedData = gzipCompressor.compress(new byte[0]);
+
+        assertThat(decompress(compressedData).length, is(0));
+    }
+
+    @Test
+    public void compressionLevel_isHonored() throws IOException {
+        byte[] originalData = randomCompressibleData(100_000);
+
+        byte[] stored = new GzipCompressor(Deflater.NO_COMPRESSION).compress(originalData);
+        byte[] best = new GzipCompressor(Deflater.BEST_COMPRESSION).compress(originalData);
+
+        assertThat(best.length, lessThan(stored.length));
+        assertThat(decompress(stored), is(originalData));
+        assertThat(decompress(best), is(originalData));
+    }
+
+    @Test
+    public void invalidCompressionLevel_throws() {
+        assertThatThrownBy(() -> new GzipCompressor(10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new GzipCompressor(-2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static byte[] randomCompressibleData(int size) {
+        Random random = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return data;
+    }
+
+    private static byte[] decompress(byte[] compressedData) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressedData))) {
+            return IoUtils.toByteArray(gzipInputStream);
+        }
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+        private final AtomicLong count;
+
+        private CountingInputStream(InputStream in, AtomicLong count) {
+            super(in);
+            this.count = count;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count.addAndGet(read);
+            }
+            return read;
+        }
+    }
 }
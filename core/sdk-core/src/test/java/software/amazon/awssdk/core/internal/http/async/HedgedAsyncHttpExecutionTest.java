@@ -0,0 +1,296 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.internal.retry.HedgingLatencyTracker;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketExceptionCostFunction;
+import software.amazon.awssdk.core.retry.conditions.TokenBucketRetryCondition;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+public class HedgedAsyncHttpExecutionTest {
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(50);
+    private static final HedgingPolicy HEDGING_POLICY = HedgingPolicy.builder().idempotentOperations("GetItem").build();
+    private static final SdkHttpResponse RESPONSE = SdkHttpResponse.builder().statusCode(200).build();
+
+    private RecordingHttpClient httpClient;
+    private SdkAsyncHttpResponseHandler responseHandler;
+    private ScheduledExecutorService scheduledExecutor;
+    private MetricCollector attemptMetricCollector;
+    private HedgingLatencyTracker latencyTracker;
+    private TokenBucketRetryCondition retryCapacity;
+
+    @BeforeEach
+    public void setup() {
+        httpClient = new RecordingHttpClient();
+        responseHandler = mock(SdkAsyncHttpResponseHandler.class);
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        when(scheduledExecutor.schedule(any(Runnable.class), anyLong(), any())).thenReturn(mock(ScheduledFuture.class));
+        attemptMetricCollector = MetricCollector.create("ApiCallAttempt");
+        latencyTracker = new HedgingLatencyTracker();
+        retryCapacity = retryCapacity(500);
+    }
+
+    @Test
+    public void originalRespondsBeforeDelay_doesNotHedge() {
+        CompletableFuture<Void> result = execution().execute();
+
+        httpClient.respond(0);
+        runHedgeTask();
+
+        assertThat(result).isCompleted();
+        assertThat(httpClient.requests).hasSize(1);
+        verify(responseHandler).onHeaders(RESPONSE);
+
+        MetricCollection metrics = attemptMetricCollector.collect();
+        assertThat(metrics.metricValues(CoreMetric.HEDGE_DELAY_DURATION)).containsExactly(HEDGE_DELAY);
+        assertThat(metrics.metricValues(CoreMetric.HEDGED_REQUEST_SENT)).containsExactly(false);
+        assertThat(metrics.metricValues(CoreMetric.HEDGED_REQUEST_WON)).isEmpty();
+    }
+
+    @Test
+    public void hedgedRequestRespondsFirst_winsAndCancelsOriginal() {
+        CompletableFuture<Void> result = execution().execute();
+
+        runHedgeTask();
+        assertThat(httpClient.requests).hasSize(2);
+
+        httpClient.respond(1);
+
+        assertThat(result).isCompleted();
+        assertThat(httpClient.futures.get(0)).isCompletedExceptionally();
+        assertThatThrownBy(() -> httpClient.futures.get(0).join()).isInstanceOf(CancellationException.class);
+        verify(responseHandler).onHeaders(RESPONSE);
+
+        MetricCollection metrics = attemptMetricCollector.collect();
+        assertThat(metrics.metricValues(CoreMetric.HEDGED_REQUEST_SENT)).containsExactly(true);
+        assertThat(metrics.metricValues(CoreMetric.HEDGED_REQUEST_WON)).containsExactly(true);
+    }
+
+    @Test
+    public void originalRespondsAfterHedge_winsAndCancelsHedgedRequest() {
+        CompletableFuture<Void> result = execution().execute();
+
+        runHedgeTask();
+        httpClient.respond(0);
+
+        assertThat(result).isCompleted();
+        assertThat(httpClient.futures.get(1)).isCompletedExceptionally();
+        assertThat(attemptMetricCollector.collect().metricValues(CoreMetric.HEDGED_REQUEST_WON)).containsExactly(false);
+    }
+
+    @Test
+    public void originalFailsBeforeHedge_failsWithoutHedging() {
+        CompletableFuture<Void> result = execution().execute();
+
+        IOException error = new IOException("Connection reset");
+        httpClient.fail(0, error);
+        runHedgeTask();
+
+        assertThat(result).isCompletedExceptionally();
+        assertThat(httpClient.requests).hasSize(1);
+        verify(responseHandler).onError(error);
+    }
+
+    @Test
+    public void oneRequestFailsAfterHedge_otherRequestCanStillWin() {
+        CompletableFuture<Void> result = execution().execute();
+
+        runHedgeTask();
+        httpClient.fail(0, new IOException("Connection reset"));
+        assertThat(result).isNotDone();
+        verify(responseHandler, never()).onError(any());
+
+        httpClient.respond(1);
+        assertThat(result).isCompleted();
+        verify(responseHandler).onHeaders(RESPONSE);
+    }
+
+    @Test
+    public void bothRequestsFail_failsExecution() {
+        CompletableFuture<Void> result = execution().execute();
+
+        runHedgeTask();
+        httpClient.fail(0, new IOException("Connection reset"));
+        IOException error = new IOException("Connection refused");
+        httpClient.fail(1, error);
+
+        assertThat(result).isCompletedExceptionally();
+        verify(responseHandler).onError(error);
+    }
+
+    @Test
+    public void notEnoughRetryCapacity_doesNotHedge() {
+        retryCapacity = retryCapacity(1);
+        CompletableFuture<Void> result = execution().execute();
+
+        runHedgeTask();
+        httpClient.respond(0);
+
+        assertThat(result).isCompleted();
+        assertThat(httpClient.requests).hasSize(1);
+    }
+
+    @Test
+    public void hedgedRequestSucceeds_returnsRetryCapacity() {
+        execution().execute();
+
+        runHedgeTask();
+        assertThat(retryCapacity.tokensAvailable()).isEqualTo(495);
+
+        httpClient.respond(1);
+        assertThat(retryCapacity.tokensAvailable()).isEqualTo(500);
+    }
+
+    @Test
+    public void bothRequestsFail_returnsRetryCapacity() {
+        execution().execute();
+
+        runHedgeTask();
+        httpClient.fail(0, new IOException("Connection reset"));
+        httpClient.fail(1, new IOException("Connection refused"));
+
+        assertThat(retryCapacity.tokensAvailable()).isEqualTo(500);
+    }
+
+    @Test
+    public void executionCancelled_returnsRetryCapacity() {
+        CompletableFuture<Void> result = execution().execute();
+
+        runHedgeTask();
+        result.cancel(false);
+
+        assertThat(retryCapacity.tokensAvailable()).isEqualTo(500);
+    }
+
+    @Test
+    public void executionCancelled_cancelsRequests() {
+        CompletableFuture<Void> result = execution().execute();
+
+        runHedgeTask();
+        result.cancel(false);
+
+        assertThat(httpClient.futures).allMatch(CompletableFuture::isCompletedExceptionally);
+    }
+
+    @Test
+    public void response_isRecordedInLatencyTracker() {
+        for (int i = 0; i < 100; i++) {
+            execution().execute();
+            httpClient.respond(httpClient.requests.size() - 1);
+        }
+
+        assertThat(latencyTracker.hedgeDelay("GetItem", HEDGING_POLICY))
+            .isLessThan(HEDGING_POLICY.initialDelay());
+    }
+
+    private HedgedAsyncHttpExecution execution() {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(URI.create("https://localhost"))
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        return HedgedAsyncHttpExecution.builder()
+                                       .httpClient(httpClient)
+                                       .requestBuilder(AsyncExecuteRequest.builder()
+                                                                          .request(request)
+                                                                          .requestContentPublisher(
+                                                                              new SimpleHttpContentPublisher(request)))
+                                       .responseHandler(responseHandler)
+                                       .originalMetricCollector(attemptMetricCollector.createChild("HttpClient"))
+                                       .hedgedMetricCollector(() -> attemptMetricCollector.createChild("HttpClient"))
+                                       .attemptMetricCollector(attemptMetricCollector)
+                                       .scheduledExecutor(scheduledExecutor)
+                                       .hedgeDelay(HEDGE_DELAY)
+                                       .retryCapacity(retryCapacity)
+                                       .latencyTracker(latencyTracker)
+                                       .operationName("GetItem")
+                                       .build();
+    }
+
+    private void runHedgeTask() {
+        ArgumentCaptor<Runnable> hedgeTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduledExecutor).schedule(hedgeTask.capture(), eq(HEDGE_DELAY.toNanos()), eq(TimeUnit.NANOSECONDS));
+        hedgeTask.getValue().run();
+    }
+
+    private static TokenBucketRetryCondition retryCapacity(int size) {
+        return TokenBucketRetryCondition.builder()
+                                        .tokenBucketSize(size)
+                                        .exceptionCostFunction(TokenBucketExceptionCostFunction.builder()
+                                                                                               .throttlingExceptionCost(5)
+                                                                                               .defaultExceptionCost(5)
+                                                                                               .build())
+                                        .build();
+    }
+
+    private static final class RecordingHttpClient implements SdkAsyncHttpClient {
+        private final List<AsyncExecuteRequest> requests = new ArrayList<>();
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            requests.add(request);
+            futures.add(future);
+            return future;
+        }
+
+        private void respond(int request) {
+            requests.get(request).responseHandler().onHeaders(RESPONSE);
+            futures.get(request).complete(null);
+        }
+
+        private void fail(int request, Throwable error) {
+            requests.get(request).responseHandler().onError(error);
+            futures.get(request).completeExceptionally(error);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -17,6 +17,8 @@ package software.amazon.awssdk.core.internal.http.timers;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -77,4 +79,20 @@ public class SyncTimeoutTaskTest {
         task.cancel();
         assertThat(interrupted.get()).isFalse();
     }
+
+    @Test
+    public void cancelledBeforeRun_doesNotAbortOrInterrupt() {
+        Thread mockThread = mock(Thread.class);
+        SyncTimeoutTask task = new SyncTimeoutTask(mockThread);
+
+        AtomicBoolean aborted = new AtomicBoolean(false);
+        task.abortable(() -> aborted.set(true));
+
+        task.cancel();
+        task.run();
+
+        assertThat(task.hasExecuted()).isFalse();
+        assertThat(aborted.get()).isFalse();
+        verify(mockThread, never()).interrupt();
+    }
 }
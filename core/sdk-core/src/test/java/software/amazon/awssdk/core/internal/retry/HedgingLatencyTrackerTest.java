@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+
+public class HedgingLatencyTrackerTest {
+    private final HedgingPolicy policy = HedgingPolicy.builder()
+                                                      .idempotentOperations("GetItem")
+                                                      .delayPercentile(90.0)
+                                                      .initialDelay(Duration.ofMillis(50))
+                                                      .build();
+    private final HedgingLatencyTracker tracker = new HedgingLatencyTracker();
+
+    @Test
+    public void noSamples_usesInitialDelay() {
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void tooFewSamples_usesInitialDelay() {
+        for (int i = 0; i < HedgingLatencyTracker.MIN_SAMPLES - 1; i++) {
+            tracker.record("GetItem", Duration.ofMillis(5));
+        }
+
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void enoughSamples_usesPercentile() {
+        for (int i = 1; i <= 100; i++) {
+            tracker.record("GetItem", Duration.ofMillis(i));
+        }
+
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(90));
+    }
+
+    @Test
+    public void operationsAreTrackedSeparately() {
+        for (int i = 0; i < 100; i++) {
+            tracker.record("GetItem", Duration.ofMillis(10));
+        }
+
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(10));
+        assertThat(tracker.hedgeDelay("Query", policy)).isEqualTo(Duration.ofMillis(50));
+    }
+
+    @Test
+    public void oldSamples_areEvicted() {
+        for (int i = 0; i < 1000; i++) {
+            tracker.record("GetItem", Duration.ofMillis(500));
+        }
+        for (int i = 0; i < 1000; i++) {
+            tracker.record("GetItem", Duration.ofMillis(10));
+        }
+
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(10));
+    }
+
+    @Test
+    public void percentile_isOnlyRecomputedAfterRecomputeInterval() {
+        for (int i = 0; i < 100; i++) {
+            tracker.record("GetItem", Duration.ofMillis(10));
+        }
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(10));
+
+        for (int i = 0; i < HedgingLatencyTracker.RECOMPUTE_INTERVAL - 1; i++) {
+            tracker.record("GetItem", Duration.ofMillis(500));
+        }
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(10));
+
+        for (int i = 0; i < 100; i++) {
+            tracker.record("GetItem", Duration.ofMillis(500));
+        }
+        assertThat(tracker.hedgeDelay("GetItem", policy)).isEqualTo(Duration.ofMillis(500));
+    }
+}
@@ -18,7 +18,13 @@ package software.amazon.awssdk.core.internal.retry;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -154,4 +160,53 @@ public class RateLimitingTokenBucketTest {
 
         assertThat(tb.tryAcquireCapacity(5.0)).isEqualTo(2.0);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void tryAcquireCapacity_concurrentCallers_noUpdatesAreLost() {
+        RateLimitingTokenBucket tb = new RateLimitingTokenBucket();
+        tb.setCurrentCapacity(8000.0);
+
+        runConcurrently(8, 1000, () -> tb.tryAcquireCapacity(1.0));
+
+        assertThat(tb.getCurrentCapacity()).isZero();
+    }
+
+    @Test
+    public void acquireNonBlocking_fastFailConcurrentCallers_acquiresExactlyTheAvailableCapacity() {
+        RateLimitingTokenBucket tb = Mockito.spy(new RateLimitingTokenBucket());
+
+        // stub out refill() so we have control over the capacity
+        Mockito.doAnswer(invocationOnMock -> null).when(tb).refill();
+
+        tb.setFillRate(1.0);
+        tb.setCurrentCapacity(100.0);
+        tb.enable();
+
+        AtomicInteger acquired = new AtomicInteger();
+        runConcurrently(8, 50, () -> {
+            if (tb.acquireNonBlocking(1.0, true).isPresent()) {
+                acquired.incrementAndGet();
+            }
+        });
+
+        assertThat(acquired).hasValue(100);
+        assertThat(tb.getCurrentCapacity()).isZero();
+    }
+
+    private static void runConcurrently(int threads, int iterations, Runnable task) {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int j = 0; j < iterations; j++) {
+                        task.run();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
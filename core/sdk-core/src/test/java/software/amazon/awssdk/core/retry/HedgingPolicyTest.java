@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+public class HedgingPolicyTest {
+    @Test
+    public void defaults_areApplied() {
+        HedgingPolicy policy = HedgingPolicy.builder().build();
+
+        assertThat(policy.idempotentOperations()).isEmpty();
+        assertThat(policy.delayPercentile()).isEqualTo(95);
+        assertThat(policy.initialDelay()).isEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    public void appliesTo_onlyConfiguredOperations() {
+        HedgingPolicy policy = HedgingPolicy.builder().idempotentOperations("GetItem", "Query").build();
+
+        assertThat(policy.appliesTo("GetItem")).isTrue();
+        assertThat(policy.appliesTo("PutItem")).isFalse();
+        assertThat(policy.appliesTo(null)).isFalse();
+    }
+
+    @Test
+    public void invalidDelayPercentile_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().delayPercentile(100.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HedgingPolicy.builder().delayPercentile(0.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void invalidInitialDelay_throws() {
+        assertThatThrownBy(() -> HedgingPolicy.builder().initialDelay(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void toBuilder_roundTrips() {
+        HedgingPolicy policy = HedgingPolicy.builder()
+                                            .idempotentOperations("GetItem")
+                                            .delayPercentile(99.0)
+                                            .initialDelay(Duration.ofMillis(20))
+                                            .build();
+
+        assertThat(policy.toBuilder().build()).isEqualTo(policy);
+        assertThat(policy.toBuilder().build().hashCode()).isEqualTo(policy.hashCode());
+    }
+}
@@ -42,6 +42,20 @@ public final class Http2Metric {
     public static final SdkMetric<Integer> REMOTE_STREAM_WINDOW_SIZE_IN_BYTES =
         metric("RemoteStreamWindowSize", Integer.class, MetricLevel.TRACE);
 
+    /**
+     * The number of HTTP/2 connections open in the connection pool that this request was executed on.
+     */
+    public static final SdkMetric<Integer> OPEN_CONNECTIONS =
+        metric("OpenConnections", Integer.class, MetricLevel.INFO);
+
+    /**
+     * The number of streams that are open on an HTTP/2 connection in the connection pool that this request was executed on.
+     * This is reported once for each open connection, so the spread of the values shows how evenly streams are placed across
+     * connections.
+     */
+    public static final SdkMetric<Integer> STREAMS_PER_CONNECTION =
+        metric("StreamsPerConnection", Integer.class, MetricLevel.TRACE);
+
     private Http2Metric() {
     }
 
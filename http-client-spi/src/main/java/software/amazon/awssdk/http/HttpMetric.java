@@ -97,6 +97,16 @@ public final class HttpMetric {
     public static final SdkMetric<Integer> PENDING_CONCURRENCY_ACQUIRES =
         metric("PendingConcurrencyAcquires", Integer.class, MetricLevel.INFO);
 
+    /**
+     * The current limit on the number of concurrent requests, for HTTP clients that adapt their concurrency to the observed
+     * performance of the target server. This is never more than {@link #MAX_CONCURRENCY}.
+     *
+     * <p>This is only reported by HTTP clients that have an adaptive concurrency limit enabled. For 'netty-nio-client',
+     * this value is per-endpoint.
+     */
+    public static final SdkMetric<Integer> CONCURRENCY_LIMIT =
+        metric("ConcurrencyLimit", Integer.class, MetricLevel.INFO);
+
     /**
      * The status code of the HTTP response.
      *
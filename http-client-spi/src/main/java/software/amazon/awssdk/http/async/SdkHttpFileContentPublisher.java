@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.async;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * A {@link SdkHttpContentPublisher} whose content is a region of a file. HTTP clients may transfer the region directly from
+ * the file to the connection, for example with {@code sendfile}, instead of subscribing to the publisher.
+ * <p>
+ * The region starts at {@link #position()} and its length is the {@link #contentLength()} of the publisher, which must be
+ * present.
+ */
+@SdkPublicApi
+public interface SdkHttpFileContentPublisher extends SdkHttpContentPublisher {
+
+    /**
+     * @return The path of the file that contains the content.
+     */
+    Path path();
+
+    /**
+     * @return The position in the file of the first byte of the content.
+     */
+    long position();
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.apache.internal.AsyncRequestExecution;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.internal.VirtualThreadSupport;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that executes requests using an {@link ApacheHttpClient}. Each request is
+ * executed on a thread of a bounded executor, which blocks for the duration of the request, including while the response
+ * body is being consumed.
+ *
+ * <p>This allows asynchronous SDK clients to use the same tuned connection pool as synchronous SDK clients, by providing
+ * the synchronous client via {@link Builder#httpClient(SdkHttpClient)}. The response body is only read from the connection
+ * when the response handler signals demand, so a slow consumer holds on to its connection rather than buffering the body in
+ * memory.</p>
+ *
+ * <p>Because a thread is used for each in-flight request, this client is not a replacement for the Netty-based client
+ * when a very large number of concurrent requests is needed. When the JVM supports them and they are enabled with the
+ * {@code aws.useVirtualThreads} system property, the default executor uses virtual threads.</p>
+ *
+ * <p>This client is not registered as an SDK HTTP service, and must be configured explicitly via
+ * {@code httpClient} or {@code httpClientBuilder} on the SDK client builder.</p>
+ */
+@SdkPublicApi
+public final class ApacheAsyncHttpClient implements SdkAsyncHttpClient {
+    public static final String CLIENT_NAME = "ApacheAsync";
+
+    private static final int DEFAULT_MAX_CONCURRENCY = 50;
+    private static final int DEFAULT_MAX_PENDING_REQUESTS = 10_000;
+    private static final Duration THREAD_KEEP_ALIVE = Duration.ofSeconds(60);
+
+    private final SdkHttpClient httpClient;
+    private final boolean closeHttpClient;
+    private final ExecutorService executor;
+    private final boolean shutdownExecutor;
+
+    private ApacheAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaults) {
+        if (builder.httpClient != null) {
+            this.httpClient = builder.httpClient;
+            this.closeHttpClient = false;
+        } else {
+            ApacheHttpClient.Builder httpClientBuilder = builder.httpClientBuilder != null ? builder.httpClientBuilder
+                                                                                           : ApacheHttpClient.builder();
+            this.httpClient = httpClientBuilder.buildWithDefaults(serviceDefaults);
+            this.closeHttpClient = true;
+        }
+
+        if (builder.executor != null) {
+            this.executor = builder.executor;
+            this.shutdownExecutor = false;
+        } else {
+            this.executor = createDefaultExecutor(builder);
+            this.shutdownExecutor = true;
+        }
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create an {@link ApacheAsyncHttpClient} backed by a new {@link ApacheHttpClient} with the default properties.
+     *
+     * @return an {@link ApacheAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        AsyncRequestExecution execution = new AsyncRequestExecution(httpClient, request);
+        CompletableFuture<Void> executeFuture = execution.executeFuture();
+
+        try {
+            executor.execute(execution);
+        } catch (RejectedExecutionException e) {
+            execution.fail(new IOException("Unable to execute HTTP request: too many requests are waiting for a thread of "
+                                           + "the executor. Consider increasing the maxConcurrency or maxPendingRequests.",
+                                           e));
+        }
+
+        return executeFuture;
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        if (shutdownExecutor) {
+            executor.shutdownNow();
+        }
+        if (closeHttpClient) {
+            httpClient.close();
+        }
+    }
+
+    @SdkTestInternalApi
+    ExecutorService executor() {
+        return executor;
+    }
+
+    private static ExecutorService createDefaultExecutor(DefaultBuilder builder) {
+        int maxConcurrency = builder.maxConcurrency != null ? builder.maxConcurrency : DEFAULT_MAX_CONCURRENCY;
+        int maxPendingRequests = builder.maxPendingRequests != null ? builder.maxPendingRequests
+                                                                    : DEFAULT_MAX_PENDING_REQUESTS;
+
+        ThreadPoolExecutor executor =
+            new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+                                   THREAD_KEEP_ALIVE.getSeconds(), TimeUnit.SECONDS,
+                                   new LinkedBlockingQueue<>(maxPendingRequests),
+                                   new ThreadFactoryBuilder().threadNamePrefix("sdk-apache-async")
+                                                             .virtualThreads(VirtualThreadSupport.isEnabled())
+                                                             .build());
+        // Allow idle threads to time out, so that an idle client does not hold on to threads
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Builder for an {@link ApacheAsyncHttpClient}. Use {@link #builder()} to configure and construct an immutable instance
+     * of the client.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient sharedHttpClient = ApacheHttpClient.builder().maxConnections(100).build();
+     *
+     * SdkAsyncHttpClient asyncHttpClient = ApacheAsyncHttpClient.builder()
+     * .httpClient(sharedHttpClient)
+     * .maxConcurrency(100)
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<ApacheAsyncHttpClient.Builder> {
+
+        /**
+         * The {@link SdkHttpClient} used to execute the requests, usually an {@link ApacheHttpClient} that is shared with
+         * synchronous SDK clients. The provided client is not closed when this client is closed.
+         *
+         * <p>This option cannot be combined with {@link #httpClientBuilder(ApacheHttpClient.Builder)}.</p>
+         */
+        Builder httpClient(SdkHttpClient httpClient);
+
+        /**
+         * The builder of the {@link ApacheHttpClient} used to execute the requests. The built client is owned by this client
+         * and closed when this client is closed. By default, an {@link ApacheHttpClient} with the default properties is
+         * used.
+         *
+         * <p>This option cannot be combined with {@link #httpClient(SdkHttpClient)}.</p>
+         */
+        Builder httpClientBuilder(ApacheHttpClient.Builder httpClientBuilder);
+
+        /**
+         * The maximum number of requests that can be executed concurrently by the default executor. This should usually
+         * match the maximum number of connections of the underlying {@link ApacheHttpClient}. Defaults to 50.
+         *
+         * <p>This option cannot be combined with {@link #executor(ExecutorService)}.</p>
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * The maximum number of requests that can wait for a thread of the default executor. Requests submitted once this
+         * limit is reached fail with an {@link IOException}. Defaults to 10,000.
+         *
+         * <p>This option cannot be combined with {@link #executor(ExecutorService)}.</p>
+         */
+        Builder maxPendingRequests(Integer maxPendingRequests);
+
+        /**
+         * The executor used to execute the requests. A thread of the executor is used for the whole duration of each request,
+         * so the executor should be bounded. The provided executor is not shut down when this client is closed.
+         *
+         * <p>By default, a bounded executor is created according to {@link #maxConcurrency(Integer)} and
+         * {@link #maxPendingRequests(Integer)}.</p>
+         */
+        Builder executor(ExecutorService executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private SdkHttpClient httpClient;
+        private ApacheHttpClient.Builder httpClientBuilder;
+        private Integer maxConcurrency;
+        private Integer maxPendingRequests;
+        private ExecutorService executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder httpClient(SdkHttpClient httpClient) {
+            this.httpClient = httpClient;
+            return this;
+        }
+
+        public void setHttpClient(SdkHttpClient httpClient) {
+            httpClient(httpClient);
+        }
+
+        @Override
+        public Builder httpClientBuilder(ApacheHttpClient.Builder httpClientBuilder) {
+            this.httpClientBuilder = httpClientBuilder;
+            return this;
+        }
+
+        public void setHttpClientBuilder(ApacheHttpClient.Builder httpClientBuilder) {
+            httpClientBuilder(httpClientBuilder);
+        }
+
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        @Override
+        public Builder maxPendingRequests(Integer maxPendingRequests) {
+            this.maxPendingRequests = maxPendingRequests;
+            return this;
+        }
+
+        public void setMaxPendingRequests(Integer maxPendingRequests) {
+            maxPendingRequests(maxPendingRequests);
+        }
+
+        @Override
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(ExecutorService executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            Validate.mutuallyExclusive("The httpClient and httpClientBuilder can't both be configured.",
+                                       httpClient, httpClientBuilder);
+            Validate.mutuallyExclusive("The executor and maxConcurrency can't both be configured.",
+                                       executor, maxConcurrency);
+            Validate.mutuallyExclusive("The executor and maxPendingRequests can't both be configured.",
+                                       executor, maxPendingRequests);
+            if (maxConcurrency != null) {
+                Validate.isPositive(maxConcurrency, "maxConcurrency");
+            }
+            if (maxPendingRequests != null) {
+                Validate.isPositive(maxPendingRequests, "maxPendingRequests");
+            }
+            return new ApacheAsyncHttpClient(this, serviceDefaults);
+        }
+    }
+}
@@ -24,13 +24,23 @@ import static software.amazon.awssdk.http.apache.internal.conn.ClientConnectionR
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.InetAddress;
+import java.net.URI;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.KeyManager;
@@ -39,6 +49,9 @@ import javax.net.ssl.TrustManager;
 import javax.net.ssl.X509TrustManager;
 import org.apache.http.Header;
 import org.apache.http.HeaderIterator;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.client.methods.HttpRequestBase;
@@ -49,6 +62,7 @@ import org.apache.http.config.SocketConfig;
 import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.DnsResolver;
 import org.apache.http.conn.HttpClientConnectionManager;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.routing.HttpRoutePlanner;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
@@ -57,8 +71,10 @@ import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLInitializationException;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultRoutePlanner;
 import org.apache.http.impl.conn.DefaultSchemePortResolver;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHttpRequest;
 import org.apache.http.pool.PoolStats;
 import org.apache.http.protocol.HttpRequestExecutor;
 import software.amazon.awssdk.annotations.SdkPublicApi;
@@ -79,6 +95,7 @@ import software.amazon.awssdk.http.apache.internal.SdkConnectionReuseStrategy;
 import software.amazon.awssdk.http.apache.internal.SdkProxyRoutePlanner;
 import software.amazon.awssdk.http.apache.internal.conn.ClientConnectionManagerFactory;
 import software.amazon.awssdk.http.apache.internal.conn.IdleConnectionReaper;
+import software.amazon.awssdk.http.apache.internal.conn.RoundRobinDnsResolver;
 import software.amazon.awssdk.http.apache.internal.conn.SdkConnectionKeepAliveStrategy;
 import software.amazon.awssdk.http.apache.internal.conn.SdkTlsSocketFactory;
 import software.amazon.awssdk.http.apache.internal.impl.ApacheHttpRequestFactory;
@@ -89,6 +106,7 @@ import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -106,11 +124,13 @@ public final class ApacheHttpClient implements SdkHttpClient {
     public static final String CLIENT_NAME = "Apache";
 
     private static final Logger log = Logger.loggerFor(ApacheHttpClient.class);
+    private static final int MAX_PREWARM_THREADS = 16;
 
     private final ApacheHttpRequestFactory apacheHttpRequestFactory = new ApacheHttpRequestFactory();
     private final ConnectionManagerAwareHttpClient httpClient;
     private final ApacheHttpRequestConfig requestConfig;
     private final AttributeMap resolvedOptions;
+    private final HttpRoutePlanner routePlanner;
 
     @SdkTestInternalApi
     ApacheHttpClient(ConnectionManagerAwareHttpClient httpClient,
@@ -119,9 +139,11 @@ public final class ApacheHttpClient implements SdkHttpClient {
         this.httpClient = httpClient;
         this.requestConfig = requestConfig;
         this.resolvedOptions = resolvedOptions;
+        this.routePlanner = new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
     }
 
     private ApacheHttpClient(DefaultBuilder builder, AttributeMap resolvedOptions) {
+        this.routePlanner = createRoutePlanner(builder);
         this.httpClient = createClient(builder, resolvedOptions);
         this.requestConfig = createRequestConfig(builder, resolvedOptions);
         this.resolvedOptions = resolvedOptions;
@@ -160,7 +182,8 @@ public final class ApacheHttpClient implements SdkHttpClient {
                .setConnectionReuseStrategy(new SdkConnectionReuseStrategy())
                .setConnectionManager(ClientConnectionManagerFactory.wrap(cm));
 
-        addProxyConfig(builder, configuration);
+        builder.setRoutePlanner(routePlanner);
+        addProxyCredentials(builder, configuration);
 
         if (useIdleConnectionReaper(standardOptions)) {
             IdleConnectionReaper.getInstance().registerConnectionManager(
@@ -170,33 +193,40 @@ public final class ApacheHttpClient implements SdkHttpClient {
         return new ApacheSdkHttpClient(builder.build(), cm);
     }
 
-    private void addProxyConfig(HttpClientBuilder builder,
-                                DefaultBuilder configuration) {
+    private HttpRoutePlanner createRoutePlanner(DefaultBuilder configuration) {
         ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
 
         Validate.isTrue(configuration.httpRoutePlanner == null || !isProxyEnabled(proxyConfiguration),
                         "The httpRoutePlanner and proxyConfiguration can't both be configured.");
-        Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
-                        "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
 
-        HttpRoutePlanner routePlanner = configuration.httpRoutePlanner;
         if (isProxyEnabled(proxyConfiguration)) {
             log.debug(() -> "Configuring Proxy. Proxy Host: " + proxyConfiguration.host());
-            routePlanner = new SdkProxyRoutePlanner(proxyConfiguration.host(),
-                                                    proxyConfiguration.port(),
-                                                    proxyConfiguration.scheme(),
-                                                    proxyConfiguration.nonProxyHosts());
+            return new SdkProxyRoutePlanner(proxyConfiguration.host(),
+                                            proxyConfiguration.port(),
+                                            proxyConfiguration.scheme(),
+                                            proxyConfiguration.nonProxyHosts());
+        }
+
+        if (configuration.httpRoutePlanner != null) {
+            return configuration.httpRoutePlanner;
         }
 
+        // The route planner Apache uses when none is configured
+        return new DefaultRoutePlanner(DefaultSchemePortResolver.INSTANCE);
+    }
+
+    private void addProxyCredentials(HttpClientBuilder builder,
+                                     DefaultBuilder configuration) {
+        ProxyConfiguration proxyConfiguration = configuration.proxyConfiguration;
+
+        Validate.isTrue(configuration.credentialsProvider == null || !isAuthenticatedProxy(proxyConfiguration),
+                        "The credentialsProvider and proxyConfiguration username/password can't both be configured.");
+
         CredentialsProvider credentialsProvider = configuration.credentialsProvider;
         if (isAuthenticatedProxy(proxyConfiguration)) {
             credentialsProvider = ApacheUtils.newProxyCredentialsProvider(proxyConfiguration);
         }
 
-        if (routePlanner != null) {
-            builder.setRoutePlanner(routePlanner);
-        }
-
         if (credentialsProvider != null) {
             builder.setDefaultCredentialsProvider(credentialsProvider);
         }
@@ -240,6 +270,104 @@ public final class ApacheHttpClient implements SdkHttpClient {
         };
     }
 
+    /**
+     * Open connections to the provided endpoint ahead of the first requests to it, so that those requests don't have to wait
+     * for the connections to be established. This is useful to avoid paying for the TCP and TLS handshakes on the critical
+     * path of the first burst of requests after an application starts.
+     *
+     * <p>This method blocks until the connections have been established and returned to the pool, where they are subject to
+     * the idle connection timeout like any other connection. Idle connections already in the pool count towards the
+     * requested number of connections, and the number of connections is capped at the maximum number of connections of the
+     * client. Connections that have to be tunnelled through a proxy are not prewarmed.</p>
+     *
+     * <pre class="brush: java">
+     * ApacheHttpClient httpClient = (ApacheHttpClient) ApacheHttpClient.create();
+     * httpClient.prewarmConnections(URI.create("https://s3.us-west-2.amazonaws.com"), 20);
+     * </pre>
+     *
+     * @param endpoint The endpoint to connect to. Only the scheme, host and port are used.
+     * @param connections The number of connections to open.
+     * @throws IOException If any of the connections could not be established.
+     */
+    public void prewarmConnections(URI endpoint, int connections) throws IOException {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+
+        HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
+        HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+        HttpRoute route = determineRoute(endpoint, context);
+        if (route.isTunnelled()) {
+            log.debug(() -> "Not prewarming connections to " + endpoint + " because they are tunnelled through a proxy.");
+            return;
+        }
+
+        int count = connections;
+        if (cm instanceof PoolingHttpClientConnectionManager) {
+            count = Math.min(count, ((PoolingHttpClientConnectionManager) cm).getMaxPerRoute(route));
+        }
+
+        List<HttpClientConnection> leased = new ArrayList<>(count);
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(count, MAX_PREWARM_THREADS),
+                                                                new ThreadFactoryBuilder().threadNamePrefix("sdk-apache-prewarm")
+                                                                                          .daemonThreads(true)
+                                                                                          .build());
+        List<CompletableFuture<Void>> connectFutures = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                HttpClientConnection connection = leaseConnection(cm, route);
+                leased.add(connection);
+                if (!connection.isOpen()) {
+                    connectFutures.add(CompletableFuture.runAsync(() -> connect(cm, connection, route), executor));
+                }
+            }
+            CompletableFuture.allOf(connectFutures.toArray(new CompletableFuture[0])).join();
+            log.debug(() -> "Prewarmed " + leased.size() + " connections to " + route);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException("Failed to prewarm connections to " + endpoint, cause);
+        } finally {
+            // Don't release connections that are still being connected if leasing failed
+            connectFutures.forEach(f -> f.handle((r, t) -> null).join());
+            executor.shutdown();
+            long keepAliveMillis = resolvedOptions.get(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT).toMillis();
+            leased.forEach(c -> cm.releaseConnection(c, null, keepAliveMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private HttpRoute determineRoute(URI endpoint, HttpClientContext context) throws IOException {
+        HttpHost target = new HttpHost(endpoint.getHost(), endpoint.getPort(), endpoint.getScheme());
+        try {
+            return routePlanner.determineRoute(target, new BasicHttpRequest("GET", "/"), context);
+        } catch (HttpException e) {
+            throw new IOException("Unable to determine the route to " + endpoint, e);
+        }
+    }
+
+    private HttpClientConnection leaseConnection(HttpClientConnectionManager cm, HttpRoute route) throws IOException {
+        try {
+            return cm.requestConnection(route, null)
+                     .get(requestConfig.connectionAcquireTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while acquiring a connection to " + route);
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to acquire a connection to " + route, e.getCause());
+        }
+    }
+
+    private void connect(HttpClientConnectionManager cm, HttpClientConnection connection, HttpRoute route) {
+        HttpClientContext context = ApacheUtils.newClientContext(requestConfig.proxyConfiguration());
+        try {
+            cm.connect(connection, route, saturatedCast(requestConfig.connectionTimeout().toMillis()), context);
+            cm.routeComplete(connection, route, context);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void close() {
         HttpClientConnectionManager cm = httpClient.getHttpClientConnectionManager();
@@ -451,6 +579,19 @@ public final class ApacheHttpClient implements SdkHttpClient {
          * when constructing the SSL context.
          */
         Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * Configure whether the connections to an endpoint are spread across all the IPv4 and IPv6 addresses its host name
+         * resolves to. False by default, in which case Apache connects to the first address returned by the
+         * {@link #dnsResolver(DnsResolver)}, so all the connections of the pool end up on the same server when a service
+         * publishes several addresses.
+         * <p>
+         * When enabled, the addresses are rotated for every new connection, and the other addresses are still tried if the
+         * first one can't be reached. The host name is resolved again for every new connection, honoring the JVM's DNS cache.
+         * Combine this with {@link #connectionTimeToLive(Duration)} so that long-lived connections are periodically
+         * re-established against the current records.
+         */
+        Builder spreadConnectionsAcrossAddresses(Boolean spreadConnectionsAcrossAddresses);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -462,6 +603,7 @@ public final class ApacheHttpClient implements SdkHttpClient {
         private CredentialsProvider credentialsProvider;
         private DnsResolver dnsResolver;
         private ConnectionSocketFactory socketFactory;
+        private Boolean spreadConnectionsAcrossAddresses;
 
         private DefaultBuilder() {
         }
@@ -642,6 +784,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
             tlsTrustManagersProvider(tlsTrustManagersProvider);
         }
 
+        @Override
+        public Builder spreadConnectionsAcrossAddresses(Boolean spreadConnectionsAcrossAddresses) {
+            this.spreadConnectionsAcrossAddresses = spreadConnectionsAcrossAddresses;
+            return this;
+        }
+
+        public void setSpreadConnectionsAcrossAddresses(Boolean spreadConnectionsAcrossAddresses) {
+            spreadConnectionsAcrossAddresses(spreadConnectionsAcrossAddresses);
+        }
+
         @Override
         public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             AttributeMap resolvedOptions = standardOptions.build().merge(serviceDefaults).merge(
@@ -655,13 +807,16 @@ public final class ApacheHttpClient implements SdkHttpClient {
         public HttpClientConnectionManager create(ApacheHttpClient.DefaultBuilder configuration,
                                                   AttributeMap standardOptions) {
             ConnectionSocketFactory sslsf = getPreferredSocketFactory(configuration, standardOptions);
+            DnsResolver dnsResolver = Boolean.TRUE.equals(configuration.spreadConnectionsAcrossAddresses)
+                                      ? new RoundRobinDnsResolver(configuration.dnsResolver)
+                                      : configuration.dnsResolver;
 
             PoolingHttpClientConnectionManager cm = new
                     PoolingHttpClientConnectionManager(
                     createSocketFactoryRegistry(sslsf),
                     null,
                     DefaultSchemePortResolver.INSTANCE,
-                    configuration.dnsResolver,
+                    dnsResolver,
                     standardOptions.get(SdkHttpConfigurationOption.CONNECTION_TIME_TO_LIVE).toMillis(),
                     TimeUnit.MILLISECONDS);
 
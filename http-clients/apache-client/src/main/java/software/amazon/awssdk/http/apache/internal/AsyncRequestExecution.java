@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.IoUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.InputStreamConsumingPublisher;
+import software.amazon.awssdk.utils.async.InputStreamSubscriber;
+
+/**
+ * Executes an {@link AsyncExecuteRequest} using a synchronous {@link SdkHttpClient}, blocking the calling thread until the
+ * response body has been consumed by the response handler.
+ * <p>
+ * The request body is read from the request's content publisher as the HTTP client writes it, and the response body is only
+ * read from the connection when the response handler's subscriber signals demand.
+ */
+@SdkInternalApi
+public final class AsyncRequestExecution implements Runnable {
+    private static final Logger log = Logger.loggerFor(AsyncRequestExecution.class);
+
+    private final SdkHttpClient httpClient;
+    private final AsyncExecuteRequest request;
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+    private final InputStreamConsumingPublisher responsePublisher = new InputStreamConsumingPublisher();
+    private final Queue<InputStreamSubscriber> requestStreams = new ConcurrentLinkedQueue<>();
+
+    private volatile ExecutableHttpRequest executableRequest;
+    private volatile boolean streaming;
+
+    public AsyncRequestExecution(SdkHttpClient httpClient, AsyncExecuteRequest request) {
+        this.httpClient = httpClient;
+        this.request = request;
+        this.responseHandler = request.responseHandler();
+
+        executeFuture.whenComplete((r, t) -> {
+            if (executeFuture.isCancelled()) {
+                abort();
+            }
+        });
+    }
+
+    /**
+     * The future that is completed once the response has been fully delivered to the response handler, or the request has
+     * failed.
+     */
+    public CompletableFuture<Void> executeFuture() {
+        return executeFuture;
+    }
+
+    @Override
+    public void run() {
+        if (executeFuture.isDone()) {
+            // Cancelled while waiting for a thread
+            return;
+        }
+
+        AbortableInputStream responseBody = null;
+        try {
+            validateHeaders();
+            executableRequest = httpClient.prepareRequest(toHttpExecuteRequest());
+            if (executeFuture.isDone()) {
+                return;
+            }
+
+            HttpExecuteResponse response = executableRequest.call();
+            responseBody = response.responseBody().orElse(null);
+
+            responseHandler.onHeaders(response.httpResponse());
+            streaming = true;
+            responseHandler.onStream(responsePublisher);
+
+            InputStream body = responseBody != null ? responseBody : new ByteArrayInputStream(new byte[0]);
+            responsePublisher.doBlockingWrite(body);
+            IoUtils.closeQuietly(body, log.logger());
+            executeFuture.complete(null);
+        } catch (Exception e) {
+            if (responseBody != null) {
+                // Don't return a partially consumed connection to the pool
+                responseBody.abort();
+            }
+            fail(e);
+        } finally {
+            requestStreams.forEach(InputStreamSubscriber::close);
+        }
+    }
+
+    /**
+     * Fail this execution with the provided error, notifying the response handler.
+     */
+    public void fail(Throwable error) {
+        if (executeFuture.isDone()) {
+            return;
+        }
+
+        Throwable cause = error instanceof UncheckedIOException ? error.getCause() : error;
+
+        if (streaming && cause instanceof CancellationException) {
+            // The subscriber cancelled the response stream
+            IOException e = new IOException("Subscriber cancelled before all events were published", cause);
+            log.debug(() -> "Subscriber cancelled before all events were published");
+            executeFuture.completeExceptionally(e);
+            return;
+        }
+
+        try {
+            responseHandler.onError(cause);
+        } finally {
+            executeFuture.completeExceptionally(cause);
+        }
+    }
+
+    /**
+     * Reject header values that would allow a header to be injected into the request, like the Netty client does.
+     */
+    private void validateHeaders() {
+        request.request().forEachHeader((name, values) -> {
+            for (String value : values) {
+                if (value.indexOf('\r') >= 0 || value.indexOf('\n') >= 0) {
+                    throw new IllegalArgumentException("The value of the " + name + " header contains a line break.");
+                }
+            }
+        });
+    }
+
+    private HttpExecuteRequest toHttpExecuteRequest() {
+        HttpExecuteRequest.Builder builder = HttpExecuteRequest.builder().request(request.request());
+        if (request.requestContentPublisher() != null) {
+            builder.contentStreamProvider(this::newRequestStream);
+        }
+        request.metricCollector().ifPresent(builder::metricCollector);
+        return builder.build();
+    }
+
+    private InputStream newRequestStream() {
+        InputStreamSubscriber requestStream = new InputStreamSubscriber();
+        requestStreams.add(requestStream);
+        request.requestContentPublisher().subscribe(requestStream);
+        return requestStream;
+    }
+
+    private void abort() {
+        responsePublisher.cancel();
+        ExecutableHttpRequest executable = executableRequest;
+        if (executable != null) {
+            executable.abort();
+        }
+    }
+}
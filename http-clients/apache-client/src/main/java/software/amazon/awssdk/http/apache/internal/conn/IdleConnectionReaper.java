@@ -22,6 +22,8 @@ import java.util.WeakHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import org.apache.http.conn.HttpClientConnectionManager;
 import org.slf4j.Logger;
@@ -44,6 +46,10 @@ public final class IdleConnectionReaper {
 
     private final long sleepPeriod;
 
+    // A lock is used instead of synchronized methods so that registering a client from a virtual thread does not pin its
+    // carrier thread.
+    private final Lock lock = new ReentrantLock();
+
     private volatile ExecutorService exec;
 
     private volatile ReaperTask reaperTask;
@@ -81,10 +87,15 @@ public final class IdleConnectionReaper {
      * @return {@code true} If the connection manager was not previously registered with this reaper, {@code false}
      * otherwise.
      */
-    public synchronized boolean registerConnectionManager(HttpClientConnectionManager manager, long maxIdleTime) {
-        boolean notPreviouslyRegistered = connectionManagers.put(manager, maxIdleTime) == null;
-        setupExecutorIfNecessary();
-        return notPreviouslyRegistered;
+    public boolean registerConnectionManager(HttpClientConnectionManager manager, long maxIdleTime) {
+        lock.lock();
+        try {
+            boolean notPreviouslyRegistered = connectionManagers.put(manager, maxIdleTime) == null;
+            setupExecutorIfNecessary();
+            return notPreviouslyRegistered;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
@@ -94,10 +105,15 @@ public final class IdleConnectionReaper {
      * @return {@code true} If this connection manager was previously registered with this reaper and it was removed, {@code
      * false} otherwise.
      */
-    public synchronized boolean deregisterConnectionManager(HttpClientConnectionManager manager) {
-        boolean wasRemoved = connectionManagers.remove(manager) != null;
-        cleanupExecutorIfNecessary();
-        return wasRemoved;
+    public boolean deregisterConnectionManager(HttpClientConnectionManager manager) {
+        lock.lock();
+        try {
+            boolean wasRemoved = connectionManagers.remove(manager) != null;
+            cleanupExecutorIfNecessary();
+            return wasRemoved;
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
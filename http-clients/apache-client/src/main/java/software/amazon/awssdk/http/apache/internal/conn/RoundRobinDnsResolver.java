@@ -0,0 +1,55 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.conn.DnsResolver;
+import org.apache.http.impl.conn.SystemDefaultDnsResolver;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A {@link DnsResolver} that rotates the addresses returned by another resolver on every resolution.
+ * <p>
+ * Apache tries to connect to the resolved addresses in order, so with the addresses returned as-is all the connections to
+ * a host go to the first address. Rotating them spreads the connections across all the addresses of the host, while the
+ * other addresses are still tried if the first one can't be reached.
+ */
+@SdkInternalApi
+public final class RoundRobinDnsResolver implements DnsResolver {
+    private final DnsResolver delegate;
+    private final AtomicInteger counter = new AtomicInteger();
+
+    public RoundRobinDnsResolver(DnsResolver delegate) {
+        this.delegate = delegate != null ? delegate : SystemDefaultDnsResolver.INSTANCE;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        InetAddress[] addresses = delegate.resolve(host);
+        if (addresses == null || addresses.length <= 1) {
+            return addresses;
+        }
+
+        int offset = Math.floorMod(counter.getAndIncrement(), addresses.length);
+        InetAddress[] rotated = new InetAddress[addresses.length];
+        for (int i = 0; i < addresses.length; i++) {
+            rotated[i] = addresses[(offset + i) % addresses.length];
+        }
+        return rotated;
+    }
+}
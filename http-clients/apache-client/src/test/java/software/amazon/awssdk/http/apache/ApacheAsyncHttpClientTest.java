@@ -0,0 +1,325 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+
+public class ApacheAsyncHttpClientTest {
+    private static final String REQUEST_BODY = "Hello from the request";
+
+    private WireMockServer mockServer;
+
+    @BeforeEach
+    public void setup() {
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        mockServer.start();
+    }
+
+    @AfterEach
+    public void teardown() {
+        mockServer.stop();
+    }
+
+    @Test
+    public void sharedSyncClient_sendsRequestAndIsNotClosedWithAsyncClient() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+
+        try (SdkHttpClient syncClient = ApacheHttpClient.create()) {
+            SdkAsyncHttpClient asyncClient = ApacheAsyncHttpClient.builder().httpClient(syncClient).build();
+
+            RecordingResponseHandler handler = new RecordingResponseHandler();
+            asyncClient.execute(postRequest(handler)).get(10, TimeUnit.SECONDS);
+            handler.completeFuture().get(10, TimeUnit.SECONDS);
+            asyncClient.close();
+
+            assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+            assertThat(handler.fullResponseAsString()).isEqualTo("hello");
+            mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo(REQUEST_BODY)));
+
+            HttpExecuteResponse syncResponse = syncClient.prepareRequest(HttpExecuteRequest.builder()
+                                                                                           .request(requestBuilder().build())
+                                                                                           .build())
+                                                         .call();
+            assertThat(syncResponse.httpResponse().statusCode()).isEqualTo(200);
+            syncResponse.responseBody().ifPresent(AbortableInputStream::abort);
+        }
+    }
+
+    @Test
+    public void responseBody_isOnlyReadOnDemand() throws Exception {
+        CountingInputStream body = new CountingInputStream(10 * 1024 * 1024);
+        SdkAsyncHttpClient client = ApacheAsyncHttpClient.builder().httpClient(new StubHttpClient(body)).build();
+
+        DemandControllingHandler handler = new DemandControllingHandler();
+        CompletableFuture<Void> executeFuture = client.execute(AsyncExecuteRequest.builder()
+                                                                                 .request(requestBuilder().build())
+                                                                                 .responseHandler(handler)
+                                                                                 .build());
+
+        handler.subscribed.await(10, TimeUnit.SECONDS);
+        handler.subscription.request(1);
+        handler.awaitReceived(1);
+        Thread.sleep(100);
+
+        // At most one chunk is read ahead of the demand
+        assertThat(body.bytesRead.get()).isLessThanOrEqualTo(2 * 16 * 1024);
+        assertThat(executeFuture).isNotDone();
+
+        handler.subscription.request(Long.MAX_VALUE);
+        executeFuture.get(10, TimeUnit.SECONDS);
+        assertThat(body.bytesRead.get()).isEqualTo(10 * 1024 * 1024);
+        client.close();
+    }
+
+    @Test
+    public void subscriberCancels_abortsResponseAndFailsFuture() throws Exception {
+        CountingInputStream body = new CountingInputStream(10 * 1024 * 1024);
+        SdkAsyncHttpClient client = ApacheAsyncHttpClient.builder().httpClient(new StubHttpClient(body)).build();
+
+        DemandControllingHandler handler = new DemandControllingHandler();
+        CompletableFuture<Void> executeFuture = client.execute(AsyncExecuteRequest.builder()
+                                                                                 .request(requestBuilder().build())
+                                                                                 .responseHandler(handler)
+                                                                                 .build());
+
+        handler.subscribed.await(10, TimeUnit.SECONDS);
+        handler.subscription.request(1);
+        handler.awaitReceived(1);
+        handler.subscription.cancel();
+
+        assertThatThrownBy(() -> executeFuture.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IOException.class);
+        assertThat(body.aborted.get()).isTrue();
+        client.close();
+    }
+
+    @Test
+    public void tooManyPendingRequests_failsWithIOException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        SdkHttpClient blockingClient = new StubHttpClient(new CountingInputStream(0)) {
+            @Override
+            protected void beforeResponse() throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        };
+
+        SdkAsyncHttpClient client = ApacheAsyncHttpClient.builder()
+                                                         .httpClient(blockingClient)
+                                                         .maxConcurrency(1)
+                                                         .maxPendingRequests(1)
+                                                         .build();
+        try {
+            CompletableFuture<Void> running = client.execute(getRequest(new RecordingResponseHandler()));
+            CompletableFuture<Void> pending = client.execute(getRequest(new RecordingResponseHandler()));
+            RecordingResponseHandler rejectedHandler = new RecordingResponseHandler();
+            CompletableFuture<Void> rejected = client.execute(getRequest(rejectedHandler));
+
+            assertThatThrownBy(() -> rejected.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                        .hasCauseInstanceOf(IOException.class);
+            assertThatThrownBy(() -> rejectedHandler.completeFuture().get(10, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IOException.class);
+
+            release.countDown();
+            running.get(10, TimeUnit.SECONDS);
+            pending.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            client.close();
+        }
+    }
+
+    @Test
+    public void httpClientAndHttpClientBuilder_areMutuallyExclusive() {
+        assertThatThrownBy(() -> ApacheAsyncHttpClient.builder()
+                                                      .httpClient(ApacheHttpClient.create())
+                                                      .httpClientBuilder(ApacheHttpClient.builder())
+                                                      .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AsyncExecuteRequest postRequest(SdkAsyncHttpResponseHandler handler) {
+        byte[] body = REQUEST_BODY.getBytes(StandardCharsets.UTF_8);
+        return AsyncExecuteRequest.builder()
+                                  .request(requestBuilder().method(SdkHttpMethod.POST)
+                                                           .putHeader("Content-Length", Integer.toString(body.length))
+                                                           .build())
+                                  .requestContentPublisher(new SimpleHttpContentPublisher(body))
+                                  .responseHandler(handler)
+                                  .build();
+    }
+
+    private AsyncExecuteRequest getRequest(SdkAsyncHttpResponseHandler handler) {
+        return AsyncExecuteRequest.builder()
+                                  .request(requestBuilder().build())
+                                  .responseHandler(handler)
+                                  .build();
+    }
+
+    private SdkHttpFullRequest.Builder requestBuilder() {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("http://localhost:" + mockServer.port()))
+                                 .method(SdkHttpMethod.GET);
+    }
+
+    private static class StubHttpClient implements SdkHttpClient {
+        private final CountingInputStream body;
+
+        private StubHttpClient(CountingInputStream body) {
+            this.body = body;
+        }
+
+        protected void beforeResponse() throws IOException {
+        }
+
+        @Override
+        public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+            return new ExecutableHttpRequest() {
+                @Override
+                public HttpExecuteResponse call() throws IOException {
+                    beforeResponse();
+                    return HttpExecuteResponse.builder()
+                                              .response(SdkHttpResponse.builder().statusCode(200).build())
+                                              .responseBody(AbortableInputStream.create(body, () -> body.aborted.set(true)))
+                                              .build();
+                }
+
+                @Override
+                public void abort() {
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class CountingInputStream extends InputStream {
+        private final long length;
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicBoolean aborted = new AtomicBoolean();
+
+        private CountingInputStream(long length) {
+            this.length = length;
+        }
+
+        @Override
+        public int read() {
+            byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0];
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            long remaining = length - bytesRead.get();
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = (int) Math.min(len, remaining);
+            bytesRead.addAndGet(read);
+            return read;
+        }
+    }
+
+    private static final class DemandControllingHandler implements SdkAsyncHttpResponseHandler {
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        private final AtomicLong received = new AtomicLong();
+        private volatile Subscription subscription;
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription s) {
+                    subscription = s;
+                    subscribed.countDown();
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    received.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+
+                @Override
+                public void onComplete() {
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        private void awaitReceived(long count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (received.get() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(received.get()).isGreaterThanOrEqualTo(count);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.http.trafficlistener.WiremockNetworkTrafficListener;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class ApacheHttpClientPrewarmTest {
+    private final ConnectionCountingListener connectionListener = new ConnectionCountingListener();
+
+    private WireMockServer mockServer;
+    private ApacheHttpClient client;
+
+    @BeforeEach
+    public void setup() {
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort()
+                                                        .dynamicHttpsPort()
+                                                        .networkTrafficListener(connectionListener));
+        mockServer.start();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+    }
+
+    @AfterEach
+    public void teardown() {
+        if (client != null) {
+            client.close();
+        }
+        mockServer.stop();
+    }
+
+    @Test
+    public void prewarmConnections_http_opensConnectionsThatAreReused() throws Exception {
+        client = buildClient(ApacheHttpClient.builder());
+        URI endpoint = URI.create("http://localhost:" + mockServer.port());
+
+        client.prewarmConnections(endpoint, 3);
+        connectionListener.assertOpened(3);
+
+        sendRequest(endpoint);
+        connectionListener.assertOpened(3);
+    }
+
+    @Test
+    public void prewarmConnections_https_opensConnectionsThatAreReused() throws Exception {
+        client = buildClient(ApacheHttpClient.builder());
+        URI endpoint = URI.create("https://localhost:" + mockServer.httpsPort());
+
+        client.prewarmConnections(endpoint, 2);
+        connectionListener.assertOpened(2);
+
+        sendRequest(endpoint);
+        connectionListener.assertOpened(2);
+    }
+
+    @Test
+    public void prewarmConnections_calledTwice_reusesIdleConnections() throws Exception {
+        client = buildClient(ApacheHttpClient.builder());
+        URI endpoint = URI.create("http://localhost:" + mockServer.port());
+
+        client.prewarmConnections(endpoint, 2);
+        client.prewarmConnections(endpoint, 3);
+        connectionListener.assertOpened(3);
+    }
+
+    @Test
+    public void prewarmConnections_moreThanMaxConnections_isCappedAtMaxConnections() throws Exception {
+        client = buildClient(ApacheHttpClient.builder().maxConnections(2));
+        URI endpoint = URI.create("http://localhost:" + mockServer.port());
+
+        client.prewarmConnections(endpoint, 5);
+        connectionListener.assertOpened(2);
+    }
+
+    @Test
+    public void prewarmConnections_unreachableEndpoint_throwsIOException() {
+        client = buildClient(ApacheHttpClient.builder());
+        int port = mockServer.port();
+        mockServer.stop();
+
+        assertThatThrownBy(() -> client.prewarmConnections(URI.create("http://localhost:" + port), 2))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void spreadConnectionsAcrossAddresses_canSendRequests() throws Exception {
+        client = buildClient(ApacheHttpClient.builder().spreadConnectionsAcrossAddresses(true));
+
+        sendRequest(URI.create("http://localhost:" + mockServer.port()));
+    }
+
+    private static ApacheHttpClient buildClient(ApacheHttpClient.Builder builder) {
+        return (ApacheHttpClient) builder.buildWithDefaults(AttributeMap.builder()
+                                                                        .put(TRUST_ALL_CERTIFICATES, true)
+                                                                        .build());
+    }
+
+    private void sendRequest(URI endpoint) throws Exception {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(endpoint)
+                                                       .method(SdkHttpMethod.GET)
+                                                       .build();
+        HttpExecuteResponse response = client.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        assertThat(response.httpResponse().statusCode()).isEqualTo(200);
+        assertThat(IoUtils.toUtf8String(response.responseBody().get())).isEqualTo("hello");
+    }
+
+    private static final class ConnectionCountingListener implements WiremockNetworkTrafficListener {
+        private final AtomicInteger opened = new AtomicInteger();
+
+        @Override
+        public void opened(Socket socket) {
+            opened.incrementAndGet();
+        }
+
+        @Override
+        public void incoming(Socket socket, ByteBuffer bytes) {
+        }
+
+        @Override
+        public void outgoing(Socket socket, ByteBuffer bytes) {
+        }
+
+        @Override
+        public void closed(Socket socket) {
+        }
+
+        /**
+         * The server is notified of new connections asynchronously, so wait for the expected count and make sure that no
+         * extra connection shows up.
+         */
+        private void assertOpened(int expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (opened.get() < expected && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            Thread.sleep(100);
+            assertThat(opened.get()).isEqualTo(expected);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.apache.internal.conn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import org.apache.http.conn.DnsResolver;
+import org.junit.jupiter.api.Test;
+
+public class RoundRobinDnsResolverTest {
+
+    @Test
+    public void resolve_rotatesAddressesOnEveryResolution() throws Exception {
+        InetAddress first = InetAddress.getByAddress("host", new byte[] {10, 0, 0, 1});
+        InetAddress second = InetAddress.getByAddress("host", new byte[] {10, 0, 0, 2});
+        InetAddress third = InetAddress.getByAddress("host", new byte[] {10, 0, 0, 3});
+        DnsResolver resolver = new RoundRobinDnsResolver(host -> new InetAddress[] {first, second, third});
+
+        assertThat(resolver.resolve("host")).containsExactly(first, second, third);
+        assertThat(resolver.resolve("host")).containsExactly(second, third, first);
+        assertThat(resolver.resolve("host")).containsExactly(third, first, second);
+        assertThat(resolver.resolve("host")).containsExactly(first, second, third);
+    }
+
+    @Test
+    public void resolve_singleAddress_returnsAddress() throws Exception {
+        InetAddress address = InetAddress.getByAddress("host", new byte[] {10, 0, 0, 1});
+        DnsResolver resolver = new RoundRobinDnsResolver(host -> new InetAddress[] {address});
+
+        assertThat(resolver.resolve("host")).containsExactly(address);
+        assertThat(resolver.resolve("host")).containsExactly(address);
+    }
+
+    @Test
+    public void resolve_resolvesAgainOnEveryCall() throws Exception {
+        int[] resolutions = new int[1];
+        DnsResolver resolver = new RoundRobinDnsResolver(host -> {
+            resolutions[0]++;
+            return new InetAddress[] {InetAddress.getByAddress(host, new byte[] {10, 0, 0, (byte) resolutions[0]})};
+        });
+
+        assertThat(resolver.resolve("host")[0].getAddress()[3]).isEqualTo((byte) 1);
+        assertThat(resolver.resolve("host")[0].getAddress()[3]).isEqualTo((byte) 2);
+    }
+
+    @Test
+    public void nullDelegate_usesSystemResolver() throws UnknownHostException {
+        assertThat(new RoundRobinDnsResolver(null).resolve("localhost")).isNotEmpty();
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.jdk.internal.IdleReadTimeout;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JdkRequestAdapter;
+import software.amazon.awssdk.http.jdk.internal.JdkResponseAdapter;
+import software.amazon.awssdk.http.jdk.internal.ResponseBodyPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * An implementation of {@link SdkAsyncHttpClient} that uses the JDK's {@link HttpClient} to communicate with the service. It
+ * supports HTTP/1.1 and HTTP/2 without any dependency outside the JDK, which makes it a good fit for environments where
+ * startup time and deployment size matter more than fine-grained control over connection management.
+ *
+ * <p>Request and response bodies are passed between the SDK and the JDK client without intermediate copies.</p>
+ *
+ * <p>This client requires Java 11 or later. It can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkAsyncHttpClient implements SdkAsyncHttpClient {
+    private static final String CLIENT_NAME = "JdkAsync";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final ScheduledExecutorService timeoutScheduler;
+
+    private JdkAsyncHttpClient(DefaultBuilder builder, AttributeMap options) {
+        this.httpClient = JdkHttpClientFactory.createHttpClient(options, builder.executor);
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+        this.timeoutScheduler = JdkHttpClientFactory.createTimeoutScheduler(options);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkAsyncHttpClient} with the default properties
+     *
+     * @return a {@link JdkAsyncHttpClient}
+     */
+    public static SdkAsyncHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        SdkAsyncHttpResponseHandler responseHandler = request.responseHandler();
+        CompletableFuture<Void> executeFuture = new CompletableFuture<>();
+
+        IdleReadTimeout requestReadTimeout = IdleReadTimeout.create(timeoutScheduler, readTimeout);
+        HttpRequest httpRequest;
+        try {
+            httpRequest = JdkRequestAdapter.toHttpRequest(request.request(), request.requestContentPublisher(),
+                                                          requestReadTimeout);
+        } catch (RuntimeException e) {
+            failExecution(responseHandler, executeFuture, e);
+            return executeFuture;
+        }
+
+        CompletableFuture<HttpResponse<Flow.Publisher<List<ByteBuffer>>>> responseFuture =
+            httpClient.sendAsync(httpRequest, BodyHandlers.ofPublisher());
+        requestReadTimeout.arm(() -> responseFuture.cancel(true));
+
+        responseFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                failExecution(responseHandler, executeFuture,
+                              requestReadTimeout.hasTimedOut() ? IdleReadTimeout.timeoutException() : error);
+                return;
+            }
+
+            // The timeout is armed again once the response body is subscribed to.
+            requestReadTimeout.disarm();
+
+            CompletableFuture<Void> bodyFuture = new CompletableFuture<>();
+            bodyFuture.whenComplete((r, bodyError) -> {
+                if (bodyError != null) {
+                    failExecution(responseHandler, executeFuture, bodyError);
+                } else {
+                    executeFuture.complete(null);
+                }
+            });
+
+            try {
+                responseHandler.onHeaders(JdkResponseAdapter.toSdkHttpResponse(response));
+                responseHandler.onStream(new ResponseBodyPublisher(response.body(), bodyFuture, requestReadTimeout));
+            } catch (RuntimeException e) {
+                bodyFuture.completeExceptionally(e);
+            }
+        });
+
+        executeFuture.whenComplete((r, t) -> {
+            requestReadTimeout.close();
+            if (executeFuture.isCancelled()) {
+                responseFuture.cancel(true);
+            }
+        });
+
+        return executeFuture;
+    }
+
+    private static void failExecution(SdkAsyncHttpResponseHandler responseHandler,
+                                      CompletableFuture<Void> executeFuture,
+                                      Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        try {
+            responseHandler.onError(cause);
+        } finally {
+            executeFuture.completeExceptionally(cause);
+        }
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        JdkHttpClientFactory.shutdown(httpClient);
+        if (timeoutScheduler != null) {
+            timeoutScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Builder that allows configuration of the JDK-based async HTTP client. Use {@link #builder()} to configure and
+     * construct an immutable instance of the client.
+     *
+     * <pre class="brush: java">
+     * SdkAsyncHttpClient httpClient = JdkAsyncHttpClient.builder()
+     * .readTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkAsyncHttpClient.Builder<JdkAsyncHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for data to be transferred over an open connection before the request is timed out. The
+         * timer restarts whenever request body data is sent or response body data is received, so slow but progressing
+         * uploads and downloads are not timed out. A duration of 0 means infinity, and is not recommended.
+         */
+        Builder readTimeout(Duration readTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+
+        /**
+         * The {@link Executor} the JDK client uses to run its asynchronous tasks, including the delivery of response data.
+         * By default, the JDK creates a cached thread pool for each client.
+         *
+         * <p>The executor is not shut down when the client is closed.</p>
+         */
+        Builder executor(Executor executor);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+        private Executor executor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder readTimeout(Duration readTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, readTimeout);
+            return this;
+        }
+
+        public void setReadTimeout(Duration readTimeout) {
+            readTimeout(readTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public Builder executor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public void setExecutor(Executor executor) {
+            executor(executor);
+        }
+
+        @Override
+        public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkAsyncHttpClient(this, standardOptions.build()
+                                                               .merge(serviceDefaults)
+                                                               .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
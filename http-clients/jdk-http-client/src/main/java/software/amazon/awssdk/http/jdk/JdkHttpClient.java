@@ -0,0 +1,311 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.jdk.internal.IdleReadTimeout;
+import software.amazon.awssdk.http.jdk.internal.JdkHttpClientFactory;
+import software.amazon.awssdk.http.jdk.internal.JdkRequestAdapter;
+import software.amazon.awssdk.http.jdk.internal.JdkResponseAdapter;
+import software.amazon.awssdk.http.jdk.internal.ReadTimeoutInputStream;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * An implementation of {@link SdkHttpClient} that uses the JDK's {@link HttpClient} to communicate with the service. Unlike
+ * the URL Connection client, it supports HTTP/2 and is not affected by the limitations of {@link java.net.HttpURLConnection}
+ * around {@code Expect: 100-continue}, while still requiring no dependency outside the JDK.
+ *
+ * <p>See software.amazon.awssdk.http.apache.ApacheHttpClient for an alternative implementation.</p>
+ *
+ * <p>This client requires Java 11 or later. It can be created via {@link #builder()}</p>
+ */
+@SdkPublicApi
+public final class JdkHttpClient implements SdkHttpClient {
+    private static final String CLIENT_NAME = "Jdk";
+
+    private final HttpClient httpClient;
+    private final Duration readTimeout;
+    private final ScheduledExecutorService timeoutScheduler;
+
+    private JdkHttpClient(AttributeMap options) {
+        this.httpClient = JdkHttpClientFactory.createHttpClient(options, null);
+        this.readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+        this.timeoutScheduler = JdkHttpClientFactory.createTimeoutScheduler(options);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    /**
+     * Create a {@link JdkHttpClient} with the default properties
+     *
+     * @return a {@link JdkHttpClient}
+     */
+    public static SdkHttpClient create() {
+        return new DefaultBuilder().build();
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        IdleReadTimeout requestReadTimeout = IdleReadTimeout.create(timeoutScheduler, readTimeout);
+        HttpRequest httpRequest = JdkRequestAdapter.toHttpRequest(request.httpRequest(),
+                                                                  request.contentStreamProvider().orElse(null),
+                                                                  requestReadTimeout);
+        return new RequestCallable(httpClient, httpRequest, request, requestReadTimeout);
+    }
+
+    @Override
+    public String clientName() {
+        return CLIENT_NAME;
+    }
+
+    @Override
+    public void close() {
+        JdkHttpClientFactory.shutdown(httpClient);
+        if (timeoutScheduler != null) {
+            timeoutScheduler.shutdownNow();
+        }
+    }
+
+    private static final class RequestCallable implements ExecutableHttpRequest {
+        private final HttpClient httpClient;
+        private final HttpRequest httpRequest;
+        private final HttpExecuteRequest request;
+        private final IdleReadTimeout readTimeout;
+        private volatile CompletableFuture<HttpResponse<InputStream>> responseFuture;
+
+        private RequestCallable(HttpClient httpClient, HttpRequest httpRequest, HttpExecuteRequest request,
+                                IdleReadTimeout readTimeout) {
+            this.httpClient = httpClient;
+            this.httpRequest = httpRequest;
+            this.request = request;
+            this.readTimeout = readTimeout;
+        }
+
+        @Override
+        public HttpExecuteResponse call() throws IOException {
+            // The request is sent asynchronously so that it can be aborted from another thread, which HttpClient.send does not
+            // support before Java 16.
+            CompletableFuture<HttpResponse<InputStream>> future = httpClient.sendAsync(httpRequest, BodyHandlers.ofInputStream());
+            responseFuture = future;
+            readTimeout.arm(() -> future.cancel(true));
+
+            HttpResponse<InputStream> response;
+            try {
+                response = awaitResponse();
+            } catch (IOException | RuntimeException e) {
+                readTimeout.close();
+                throw e;
+            }
+            // The timeout is armed again by each read from the response body.
+            readTimeout.disarm();
+
+            AbortableInputStream responseBody = null;
+            if (JdkResponseAdapter.responseNeverHasPayload(request.httpRequest().method(), response.statusCode())) {
+                readTimeout.close();
+                IoUtils.closeQuietly(response.body(), null);
+            } else {
+                InputStream body = new ReadTimeoutInputStream(response.body(), readTimeout);
+                responseBody = AbortableInputStream.create(body, () -> IoUtils.closeQuietly(body, null));
+            }
+
+            return HttpExecuteResponse.builder()
+                                      .response(JdkResponseAdapter.toSdkHttpResponse(response))
+                                      .responseBody(responseBody)
+                                      .build();
+        }
+
+        private HttpResponse<InputStream> awaitResponse() throws IOException {
+            try {
+                return responseFuture.get();
+            } catch (CancellationException e) {
+                throwIfTimedOut(e);
+                throw e;
+            } catch (InterruptedException e) {
+                responseFuture.cancel(true);
+                Thread.currentThread().interrupt();
+                InterruptedIOException interruptedException = new InterruptedIOException("Request was interrupted.");
+                interruptedException.initCause(e);
+                throw interruptedException;
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throwIfTimedOut(cause);
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+
+        /**
+         * The JDK client fails a request that was cancelled because of the read timeout with a cancellation, which is
+         * reported as the timeout instead.
+         */
+        private void throwIfTimedOut(Throwable cause) throws IOException {
+            if (readTimeout.hasTimedOut()) {
+                IOException timeout = IdleReadTimeout.timeoutException();
+                timeout.initCause(cause);
+                throw timeout;
+            }
+        }
+
+        @Override
+        public void abort() {
+            CompletableFuture<HttpResponse<InputStream>> future = responseFuture;
+            if (future == null) {
+                return;
+            }
+            if (!future.cancel(true) && !future.isCompletedExceptionally()) {
+                IoUtils.closeQuietly(future.join().body(), null);
+            }
+        }
+    }
+
+    /**
+     * A builder for an instance of {@link SdkHttpClient} that uses the JDK's {@link HttpClient}. A builder can be created
+     * via {@link #builder()}.
+     *
+     * <pre class="brush: java">
+     * SdkHttpClient httpClient = JdkHttpClient.builder()
+     * .socketTimeout(Duration.ofSeconds(10))
+     * .connectionTimeout(Duration.ofSeconds(1))
+     * .build();
+     * </pre>
+     */
+    public interface Builder extends SdkHttpClient.Builder<JdkHttpClient.Builder> {
+
+        /**
+         * The amount of time to wait for data to be transferred over an open connection before the request is timed out. The
+         * timer restarts whenever request body data is sent, and it only runs while the caller is blocked reading the response,
+         * so slow but progressing uploads and downloads are not timed out. A duration of 0 means infinity, and is not
+         * recommended.
+         */
+        Builder socketTimeout(Duration socketTimeout);
+
+        /**
+         * The amount of time to wait when initially establishing a connection before giving up and timing out. A duration of 0
+         * means infinity, and is not recommended.
+         */
+        Builder connectionTimeout(Duration connectionTimeout);
+
+        /**
+         * Sets the HTTP protocol to use (i.e. HTTP/1.1 or HTTP/2). Not all services support HTTP/2.
+         */
+        Builder protocol(Protocol protocol);
+
+        /**
+         * Configure the {@link TlsKeyManagersProvider} that will provide the {@link javax.net.ssl.KeyManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider);
+
+        /**
+         * Configure the {@link TlsTrustManagersProvider} that will provide the {@link javax.net.ssl.TrustManager}s to use
+         * when constructing the SSL context.
+         */
+        Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private final AttributeMap.Builder standardOptions = AttributeMap.builder();
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public Builder socketTimeout(Duration socketTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.READ_TIMEOUT, socketTimeout);
+            return this;
+        }
+
+        public void setSocketTimeout(Duration socketTimeout) {
+            socketTimeout(socketTimeout);
+        }
+
+        @Override
+        public Builder connectionTimeout(Duration connectionTimeout) {
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_TIMEOUT, connectionTimeout);
+            return this;
+        }
+
+        public void setConnectionTimeout(Duration connectionTimeout) {
+            connectionTimeout(connectionTimeout);
+        }
+
+        @Override
+        public Builder protocol(Protocol protocol) {
+            standardOptions.put(SdkHttpConfigurationOption.PROTOCOL, protocol);
+            return this;
+        }
+
+        public void setProtocol(Protocol protocol) {
+            protocol(protocol);
+        }
+
+        @Override
+        public Builder tlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER, tlsKeyManagersProvider);
+            return this;
+        }
+
+        public void setTlsKeyManagersProvider(TlsKeyManagersProvider tlsKeyManagersProvider) {
+            tlsKeyManagersProvider(tlsKeyManagersProvider);
+        }
+
+        @Override
+        public Builder tlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            standardOptions.put(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER, tlsTrustManagersProvider);
+            return this;
+        }
+
+        public void setTlsTrustManagersProvider(TlsTrustManagersProvider tlsTrustManagersProvider) {
+            tlsTrustManagersProvider(tlsTrustManagersProvider);
+        }
+
+        @Override
+        public SdkHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
+            return new JdkHttpClient(standardOptions.build()
+                                                    .merge(serviceDefaults)
+                                                    .merge(SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS));
+        }
+    }
+}
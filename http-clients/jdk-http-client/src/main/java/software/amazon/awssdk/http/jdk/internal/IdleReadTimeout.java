@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The read timeout of a single request. The {@link java.net.http.HttpClient} only offers a timeout that covers the whole
+ * exchange, including the upload of the request body, so the read timeout is implemented on top of it: the timeout fires once
+ * no data has been sent or received for the configured duration while it is armed.
+ * <p>
+ * Progress is recorded with {@link #activity()}, which only updates a timestamp. The scheduled check compares that timestamp
+ * with the deadline and reschedules itself, so recording progress does not reschedule anything.
+ */
+@SdkInternalApi
+public final class IdleReadTimeout {
+    private static final IdleReadTimeout DISABLED = new IdleReadTimeout(null, 0);
+
+    private final ScheduledExecutorService scheduler;
+    private final long timeoutNanos;
+    private final Lock lock = new ReentrantLock();
+
+    private volatile long lastActivityNanos;
+    private volatile boolean timedOut;
+
+    private Runnable onTimeout;
+    private ScheduledFuture<?> check;
+    private boolean armed;
+    private boolean closed;
+
+    private IdleReadTimeout(ScheduledExecutorService scheduler, long timeoutNanos) {
+        this.scheduler = scheduler;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    /**
+     * Create the read timeout of a request.
+     *
+     * @param scheduler The scheduler used to check the timeout, or null if read timeouts are disabled.
+     * @param timeout The read timeout. A null or zero duration disables the timeout.
+     */
+    public static IdleReadTimeout create(ScheduledExecutorService scheduler, Duration timeout) {
+        if (scheduler == null || timeout == null || timeout.isZero()) {
+            return DISABLED;
+        }
+        return new IdleReadTimeout(scheduler, timeout.toNanos());
+    }
+
+    /**
+     * Start waiting for data, and run the provided action if none is sent or received within the timeout. Calling this again
+     * replaces the action and restarts the wait.
+     */
+    public void arm(Runnable action) {
+        if (scheduler == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            onTimeout = action;
+            armed = true;
+            lastActivityNanos = System.nanoTime();
+            if (check == null) {
+                schedule(timeoutNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stop waiting for data until the timeout is armed again, e.g. while the caller is not reading the response.
+     */
+    public void disarm() {
+        if (scheduler == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            // The pending check, if any, finds the timeout disarmed and does not reschedule itself.
+            armed = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Record that data was sent or received.
+     */
+    public void activity() {
+        if (scheduler != null) {
+            lastActivityNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Permanently stop the timeout, once the response has been received in full or the request has failed.
+     */
+    public void close() {
+        if (scheduler == null) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            closed = true;
+            armed = false;
+            if (check != null) {
+                check.cancel(false);
+                check = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whether the timeout has fired.
+     */
+    public boolean hasTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * The exception a request that timed out is failed with.
+     */
+    public static HttpTimeoutException timeoutException() {
+        return new HttpTimeoutException("Read timed out");
+    }
+
+    private void schedule(long delayNanos) {
+        check = scheduler.schedule(this::checkTimeout, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void checkTimeout() {
+        Runnable action;
+        lock.lock();
+        try {
+            check = null;
+            if (!armed || closed) {
+                return;
+            }
+            long idleNanos = System.nanoTime() - lastActivityNanos;
+            if (idleNanos < timeoutNanos) {
+                schedule(timeoutNanos - idleNanos);
+                return;
+            }
+            timedOut = true;
+            closed = true;
+            action = onTimeout;
+        } finally {
+            lock.unlock();
+        }
+        action.run();
+    }
+}
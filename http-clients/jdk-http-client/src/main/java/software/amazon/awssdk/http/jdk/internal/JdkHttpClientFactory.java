@@ -0,0 +1,203 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import javax.net.ssl.KeyManager;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509ExtendedTrustManager;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.TlsKeyManagersProvider;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Creates and shuts down the {@link HttpClient} instances used by the JDK-based SDK HTTP clients.
+ */
+@SdkInternalApi
+public final class JdkHttpClientFactory {
+    private static final Logger log = Logger.loggerFor(JdkHttpClientFactory.class);
+
+    /**
+     * {@code HttpClient.shutdownNow()}, which only exists on Java 21 and later.
+     */
+    private static final MethodHandle SHUTDOWN_NOW = findShutdownNow();
+
+    private JdkHttpClientFactory() {
+    }
+
+    /**
+     * Create an {@link HttpClient} from the resolved SDK HTTP configuration options.
+     *
+     * @param options The resolved options, including the global defaults.
+     * @param executor The executor the client should run its asynchronous tasks on, or null to use the JDK default.
+     */
+    public static HttpClient createHttpClient(AttributeMap options, Executor executor) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                                               .version(toVersion(options.get(SdkHttpConfigurationOption.PROTOCOL)))
+                                               // Redirects break SDK error handling, so they are never followed.
+                                               .followRedirects(HttpClient.Redirect.NEVER)
+                                               .sslContext(sslContext(options));
+
+        Duration connectionTimeout = options.get(SdkHttpConfigurationOption.CONNECTION_TIMEOUT);
+        if (connectionTimeout != null && !connectionTimeout.isZero()) {
+            builder.connectTimeout(connectionTimeout);
+        }
+
+        if (executor != null) {
+            builder.executor(executor);
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Create the scheduler that checks the read timeouts of a client's requests, or return null if the resolved options
+     * disable the read timeout. It must be shut down when the client is closed.
+     */
+    public static ScheduledExecutorService createTimeoutScheduler(AttributeMap options) {
+        Duration readTimeout = options.get(SdkHttpConfigurationOption.READ_TIMEOUT);
+        if (readTimeout == null || readTimeout.isZero()) {
+            return null;
+        }
+
+        ScheduledThreadPoolExecutor scheduler =
+            new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder().threadNamePrefix("sdk-jdk-http-timeout")
+                                                                         .daemonThreads(true)
+                                                                         .build());
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    /**
+     * Release the resources held by the provided {@link HttpClient}. Before Java 21 the JDK offers no way to do this, and the
+     * client's connections and selector thread are only released once it is garbage collected.
+     */
+    public static void shutdown(HttpClient httpClient) {
+        if (SHUTDOWN_NOW == null) {
+            return;
+        }
+
+        try {
+            SHUTDOWN_NOW.invoke(httpClient);
+        } catch (Throwable t) {
+            log.debug(() -> "Unable to shut down the JDK HTTP client.", t);
+        }
+    }
+
+    private static HttpClient.Version toVersion(Protocol protocol) {
+        return protocol == Protocol.HTTP2 ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1;
+    }
+
+    private static SSLContext sslContext(AttributeMap options) {
+        Validate.isTrue(options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER) == null ||
+                        !options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES),
+                        "A TlsTrustManagerProvider can't be provided if TrustAllCertificates is also set");
+
+        TrustManager[] trustManagers = null;
+        if (options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER) != null) {
+            trustManagers = options.get(SdkHttpConfigurationOption.TLS_TRUST_MANAGERS_PROVIDER).trustManagers();
+        }
+
+        if (options.get(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES)) {
+            log.warn(() -> "SSL Certificate verification is disabled. This is not a safe setting and should only be "
+                           + "used for testing.");
+            trustManagers = new TrustManager[] { TrustAllManager.INSTANCE };
+        }
+
+        TlsKeyManagersProvider provider = options.get(SdkHttpConfigurationOption.TLS_KEY_MANAGERS_PROVIDER);
+        KeyManager[] keyManagers = provider.keyManagers();
+
+        try {
+            SSLContext context = SSLContext.getInstance("TLS");
+            context.init(keyManagers, trustManagers, null);
+            return context;
+        } catch (NoSuchAlgorithmException | KeyManagementException ex) {
+            throw new RuntimeException(ex.getMessage(), ex);
+        }
+    }
+
+    private static MethodHandle findShutdownNow() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(HttpClient.class, "shutdownNow", MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Insecure trust manager to trust all certs. Should only be used for testing.
+     * <p>
+     * This extends {@link X509ExtendedTrustManager} so that the JDK does not wrap it with its own hostname verification, which
+     * the {@link HttpClient} does not allow to be disabled per client.
+     */
+    private static final class TrustAllManager extends X509ExtendedTrustManager {
+
+        private static final TrustAllManager INSTANCE = new TrustAllManager();
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a client certificate: " + x509Certificates[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s, Socket socket) {
+            checkClientTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] x509Certificates, String s, SSLEngine sslEngine) {
+            checkClientTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s) {
+            log.debug(() -> "Accepting a server certificate: " + x509Certificates[0].getSubjectX500Principal());
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s, Socket socket) {
+            checkServerTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] x509Certificates, String s, SSLEngine sslEngine) {
+            checkServerTrusted(x509Certificates, s);
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[0];
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Flow;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.ContentStreamProvider;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+
+/**
+ * Converts SDK requests into {@link HttpRequest}s.
+ */
+@SdkInternalApi
+public final class JdkRequestAdapter {
+    /**
+     * Headers the {@link java.net.http.HttpClient} refuses to accept from callers, because it derives them from the request
+     * itself (e.g. Host from the URI and Content-Length from the body publisher). Transfer-Encoding is not restricted, but the
+     * client adds it on its own for bodies of unknown length, and it must not be sent twice.
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "date", "expect", "from",
+                                                                 "host", "transfer-encoding", "upgrade", "via", "warning");
+
+    private JdkRequestAdapter() {
+    }
+
+    /**
+     * Create an {@link HttpRequest} for a request whose body is provided as an {@link SdkHttpContentPublisher}. The body's
+     * buffers are handed to the JDK client as they are published, without being copied. Every buffer the JDK client takes
+     * counts as activity for the provided read timeout.
+     */
+    public static HttpRequest toHttpRequest(SdkHttpRequest request, SdkHttpContentPublisher content,
+                                            IdleReadTimeout readTimeout) {
+        BodyPublisher bodyPublisher = BodyPublishers.noBody();
+        if (content != null) {
+            long contentLength = contentLength(request).orElseGet(() -> content.contentLength().orElse(-1L));
+            Publisher<ByteBuffer> trackedContent = subscriber -> content.subscribe(
+                new DelegatingSubscriber<ByteBuffer, ByteBuffer>(subscriber) {
+                    @Override
+                    public void onNext(ByteBuffer byteBuffer) {
+                        readTimeout.activity();
+                        subscriber.onNext(byteBuffer);
+                    }
+                });
+            bodyPublisher = bodyPublisher(FlowAdapters.toFlowPublisher(trackedContent), contentLength);
+        }
+        return toHttpRequest(request, bodyPublisher);
+    }
+
+    /**
+     * Create an {@link HttpRequest} for a request whose body is provided as a {@link ContentStreamProvider}. Every read from
+     * the body counts as activity for the provided read timeout.
+     */
+    public static HttpRequest toHttpRequest(SdkHttpRequest request, ContentStreamProvider content,
+                                            IdleReadTimeout readTimeout) {
+        BodyPublisher bodyPublisher = BodyPublishers.noBody();
+        if (content != null) {
+            BodyPublisher streamPublisher =
+                BodyPublishers.ofInputStream(() -> new ActivityRecordingInputStream(content.newStream(), readTimeout));
+            bodyPublisher = bodyPublisher(streamPublisher, contentLength(request).orElse(-1L));
+        }
+        return toHttpRequest(request, bodyPublisher);
+    }
+
+    private static HttpRequest toHttpRequest(SdkHttpRequest request, BodyPublisher bodyPublisher) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri())
+                                                 .method(request.method().name(), bodyPublisher);
+
+        request.forEachHeader((name, values) -> {
+            if (!isRestricted(name)) {
+                builder.header(name, String.join(",", values));
+            }
+        });
+
+        boolean expectContinue = request.firstMatchingHeader("Expect")
+                                        .map(expect -> expect.equalsIgnoreCase("100-continue"))
+                                        .orElse(false);
+        builder.expectContinue(expectContinue);
+
+        // HttpRequest.Builder.timeout is deliberately not used: it covers the whole exchange, including the upload of the
+        // request body, so it would fail slow but progressing uploads. The read timeout is tracked by IdleReadTimeout instead.
+        return builder.build();
+    }
+
+    static boolean isRestricted(String headerName) {
+        return RESTRICTED_HEADERS.contains(headerName.toLowerCase(Locale.ROOT));
+    }
+
+    private static BodyPublisher bodyPublisher(Flow.Publisher<ByteBuffer> publisher, long contentLength) {
+        if (contentLength == 0) {
+            return BodyPublishers.noBody();
+        }
+        return contentLength > 0 ? BodyPublishers.fromPublisher(publisher, contentLength)
+                                 : BodyPublishers.fromPublisher(publisher);
+    }
+
+    private static Optional<Long> contentLength(SdkHttpRequest request) {
+        return request.firstMatchingHeader(CONTENT_LENGTH).map(Long::parseLong);
+    }
+
+    /**
+     * Records every read from a request body as activity for the read timeout.
+     */
+    private static final class ActivityRecordingInputStream extends FilterInputStream {
+        private final IdleReadTimeout readTimeout;
+
+        private ActivityRecordingInputStream(InputStream in, IdleReadTimeout readTimeout) {
+            super(in);
+            this.readTimeout = readTimeout;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int read = super.read();
+            readTimeout.activity();
+            return read;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            readTimeout.activity();
+            return read;
+        }
+    }
+}
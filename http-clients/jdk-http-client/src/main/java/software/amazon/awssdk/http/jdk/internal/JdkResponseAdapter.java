@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.net.http.HttpResponse;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+/**
+ * Converts {@link HttpResponse}s into SDK responses.
+ */
+@SdkInternalApi
+public final class JdkResponseAdapter {
+    private JdkResponseAdapter() {
+    }
+
+    public static SdkHttpResponse toSdkHttpResponse(HttpResponse<?> response) {
+        SdkHttpResponse.Builder builder = SdkHttpResponse.builder().statusCode(response.statusCode());
+        response.headers().map().forEach((name, values) -> {
+            // HTTP/2 pseudo-headers such as :status are not real headers
+            if (!name.startsWith(":")) {
+                builder.putHeader(name, values);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * Whether the response to the provided request can never carry a payload, regardless of its headers.
+     */
+    public static boolean responseNeverHasPayload(SdkHttpMethod method, int statusCode) {
+        return method == SdkHttpMethod.HEAD
+               || statusCode == 204
+               || statusCode == 304
+               || (statusCode >= 100 && statusCode < 200);
+    }
+}
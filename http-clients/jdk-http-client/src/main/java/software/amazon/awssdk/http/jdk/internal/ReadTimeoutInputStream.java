@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Applies the read timeout to the response body of the synchronous client. The timeout is only armed while the caller is
+ * blocked in a read, so a caller that takes its time between reads is never timed out. When the timeout fires, the underlying
+ * stream is closed, which wakes up the blocked read, and the read fails with a timeout.
+ */
+@SdkInternalApi
+public final class ReadTimeoutInputStream extends FilterInputStream {
+    private final IdleReadTimeout readTimeout;
+    private final Runnable closeOnTimeout;
+
+    public ReadTimeoutInputStream(InputStream in, IdleReadTimeout readTimeout) {
+        super(in);
+        this.readTimeout = readTimeout;
+        this.closeOnTimeout = () -> IoUtils.closeQuietly(in, null);
+    }
+
+    @Override
+    public int read() throws IOException {
+        readTimeout.arm(closeOnTimeout);
+        try {
+            return completeRead(super.read());
+        } catch (IOException e) {
+            throw timeoutOr(e);
+        } finally {
+            readTimeout.disarm();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        readTimeout.arm(closeOnTimeout);
+        try {
+            return completeRead(super.read(b, off, len));
+        } catch (IOException e) {
+            throw timeoutOr(e);
+        } finally {
+            readTimeout.disarm();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        readTimeout.close();
+        super.close();
+    }
+
+    private int completeRead(int read) throws IOException {
+        if (readTimeout.hasTimedOut()) {
+            throw IdleReadTimeout.timeoutException();
+        }
+        if (read == -1) {
+            readTimeout.close();
+        }
+        return read;
+    }
+
+    private IOException timeoutOr(IOException e) {
+        if (!readTimeout.hasTimedOut() || e instanceof HttpTimeoutException) {
+            return e;
+        }
+        IOException timeout = IdleReadTimeout.timeoutException();
+        timeout.initCause(e);
+        return timeout;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.reactivestreams.FlowAdapters;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.async.DelegatingSubscriber;
+import software.amazon.awssdk.utils.async.DelegatingSubscription;
+import software.amazon.awssdk.utils.async.FlatteningSubscriber;
+
+/**
+ * Exposes the response body published by the JDK client, which is a {@link Flow.Publisher} of lists of buffers, as the
+ * {@link Publisher} of buffers the SDK expects. Buffers are passed through as received, without being copied.
+ * <p>
+ * The provided future is completed once the body has been fully delivered, failed or cancelled by the subscriber.
+ * <p>
+ * The read timeout is armed once the body is subscribed to, and every buffer received counts as activity. When it fires, the
+ * body is cancelled and the subscriber fails with a timeout.
+ */
+@SdkInternalApi
+public final class ResponseBodyPublisher implements Publisher<ByteBuffer> {
+    private final Flow.Publisher<List<ByteBuffer>> body;
+    private final CompletableFuture<Void> bodyFuture;
+    private final IdleReadTimeout readTimeout;
+
+    public ResponseBodyPublisher(Flow.Publisher<List<ByteBuffer>> body, CompletableFuture<Void> bodyFuture,
+                                 IdleReadTimeout readTimeout) {
+        this.body = body;
+        this.bodyFuture = bodyFuture;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        Subscriber<Iterable<ByteBuffer>> flattening = new FlatteningSubscriber<>(new CompletingSubscriber(subscriber));
+        body.subscribe(FlowAdapters.toFlowSubscriber(flattening));
+    }
+
+    private final class CompletingSubscriber extends DelegatingSubscriber<ByteBuffer, ByteBuffer> {
+        /**
+         * Serializes the signals to the subscriber, since the timeout fails it from the scheduler thread.
+         */
+        private final Lock signalLock = new ReentrantLock();
+        private volatile Subscription upstream;
+        private boolean terminated;
+
+        private CompletingSubscriber(Subscriber<? super ByteBuffer> subscriber) {
+            super(subscriber);
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            super.onSubscribe(new DelegatingSubscription(subscription) {
+                @Override
+                public void cancel() {
+                    super.cancel();
+                    bodyFuture.complete(null);
+                }
+            });
+            readTimeout.arm(this::timeOut);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            readTimeout.activity();
+            signalLock.lock();
+            try {
+                if (!terminated) {
+                    subscriber.onNext(byteBuffer);
+                }
+            } finally {
+                signalLock.unlock();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (terminate()) {
+                super.onError(throwable);
+                bodyFuture.completeExceptionally(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (terminate()) {
+                super.onComplete();
+                bodyFuture.complete(null);
+            }
+        }
+
+        private void timeOut() {
+            upstream.cancel();
+            onError(IdleReadTimeout.timeoutException());
+        }
+
+        private boolean terminate() {
+            signalLock.lock();
+            try {
+                if (terminated) {
+                    return false;
+                }
+                terminated = true;
+                return true;
+            } finally {
+                signalLock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.RecordingResponseHandler;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.utils.StringUtils;
+
+public class JdkAsyncHttpClientWireMockTest {
+    private static final String REQUEST_BODY = "Hello from the request";
+
+    private WireMockServer mockServer;
+    private SdkAsyncHttpClient client;
+
+    @BeforeEach
+    public void setup() {
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        mockServer.start();
+        client = JdkAsyncHttpClient.create();
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+        mockServer.stop();
+    }
+
+    @Test
+    public void requestWithContentLength_sendsBodyAndDeliversResponse() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)
+                                                                             .withHeader("Some-Header", "With Value")
+                                                                             .withBody("hello")));
+
+        SdkHttpFullRequest request = postRequest().putHeader("Content-Length", Integer.toString(REQUEST_BODY.length()))
+                                                  .putHeader("X-Custom", "custom-value")
+                                                  .build();
+        RecordingResponseHandler handler = execute(request, new SimpleHttpContentPublisher(bytes(REQUEST_BODY)));
+
+        assertThat(handler.responses()).hasSize(1);
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        assertThat(handler.responses().get(0).firstMatchingHeader("Some-Header")).contains("With Value");
+        assertThat(handler.fullResponseAsString()).isEqualTo("hello");
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Content-Length", equalTo(Integer.toString(REQUEST_BODY.length())))
+                              .withHeader("Transfer-Encoding", absent())
+                              .withHeader("X-Custom", equalTo("custom-value"))
+                              .withRequestBody(equalTo(REQUEST_BODY)));
+    }
+
+    @Test
+    public void requestWithUnknownContentLength_usesChunkedEncoding() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        RecordingResponseHandler handler = execute(postRequest().putHeader("Transfer-Encoding", "chunked").build(),
+                                                   new UnknownLengthPublisher(bytes(REQUEST_BODY)));
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Transfer-Encoding", equalTo("chunked"))
+                              .withRequestBody(equalTo(REQUEST_BODY)));
+    }
+
+    @Test
+    public void headersManagedByTheJdkClient_areNotForwarded() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        SdkHttpFullRequest request = postRequest().putHeader("Host", "localhost")
+                                                  .putHeader("Connection", "keep-alive")
+                                                  .putHeader("Content-Length", Integer.toString(REQUEST_BODY.length()))
+                                                  .build();
+        execute(request, new SimpleHttpContentPublisher(bytes(REQUEST_BODY)));
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/"))
+                              .withHeader("Host", equalTo("localhost:" + mockServer.port()))
+                              .withRequestBody(equalTo(REQUEST_BODY)));
+    }
+
+    @Test
+    public void largeResponse_isFullyDeliveredBeforeFutureCompletes() throws Exception {
+        String body = StringUtils.repeat("a", 1024 * 1024);
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody(body)));
+
+        RecordingResponseHandler handler = execute(postRequest().build(), new SimpleHttpContentPublisher(new byte[0]));
+
+        assertThat(handler.fullResponseAsString()).isEqualTo(body);
+    }
+
+    @Test
+    public void connectionFailure_notifiesHandlerAndFailsFuture() throws Exception {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+
+        SdkHttpRequest request = SdkHttpFullRequest.builder()
+                                                   .uri(URI.create("http://localhost:" + closedPort))
+                                                   .method(SdkHttpMethod.GET)
+                                                   .build();
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        CompletableFuture<Void> executeFuture = client.execute(AsyncExecuteRequest.builder()
+                                                                                  .request(request)
+                                                                                  .requestContentPublisher(
+                                                                                      new SimpleHttpContentPublisher(new byte[0]))
+                                                                                  .responseHandler(handler)
+                                                                                  .build());
+
+        assertThatThrownBy(() -> executeFuture.get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IOException.class);
+        assertThatThrownBy(() -> handler.completeFuture().get(10, TimeUnit.SECONDS)).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void uploadTakingLongerThanReadTimeout_succeedsWhileBodyIsProgressing() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+        client.close();
+        client = JdkAsyncHttpClient.builder().readTimeout(Duration.ofMillis(500)).build();
+
+        // Eight chunks 200ms apart take well over the read timeout to upload.
+        SdkHttpFullRequest request = postRequest().putHeader("Content-Length", "8").build();
+        RecordingResponseHandler handler = execute(request, new SlowPublisher(8, 200));
+
+        assertThat(handler.responses().get(0).statusCode()).isEqualTo(200);
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo("aaaaaaaa")));
+    }
+
+    @Test
+    public void responseDelayedBeyondReadTimeout_failsWithTimeout() throws Exception {
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withFixedDelay(3000)));
+        client.close();
+        client = JdkAsyncHttpClient.builder().readTimeout(Duration.ofMillis(500)).build();
+
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        CompletableFuture<Void> executeFuture =
+            client.execute(AsyncExecuteRequest.builder()
+                                              .request(postRequest().build())
+                                              .requestContentPublisher(new SimpleHttpContentPublisher(new byte[0]))
+                                              .responseHandler(handler)
+                                              .build());
+
+        assertThatThrownBy(() -> executeFuture.get(2, TimeUnit.SECONDS)).hasCauseInstanceOf(HttpTimeoutException.class);
+        assertThatThrownBy(() -> handler.completeFuture().get(2, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(HttpTimeoutException.class);
+    }
+
+    private RecordingResponseHandler execute(SdkHttpRequest request, SdkHttpContentPublisher content) throws Exception {
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                           .request(request)
+                                           .requestContentPublisher(content)
+                                           .responseHandler(handler)
+                                           .build())
+              .get(10, TimeUnit.SECONDS);
+        handler.completeFuture().get(10, TimeUnit.SECONDS);
+        return handler;
+    }
+
+    private SdkHttpFullRequest.Builder postRequest() {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("http://localhost:" + mockServer.port()))
+                                 .method(SdkHttpMethod.POST);
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static final class UnknownLengthPublisher implements SdkHttpContentPublisher {
+        private final SimpleHttpContentPublisher delegate;
+
+        private UnknownLengthPublisher(byte[] body) {
+            this.delegate = new SimpleHttpContentPublisher(body);
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            delegate.subscribe(s);
+        }
+    }
+
+    /**
+     * Publishes single-byte chunks with a delay before each of them.
+     */
+    private static final class SlowPublisher implements SdkHttpContentPublisher {
+        private final int chunks;
+        private final long delayMillis;
+
+        private SlowPublisher(int chunks, long delayMillis) {
+            this.chunks = chunks;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of((long) chunks);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            AtomicLong demand = new AtomicLong();
+            s.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    demand.addAndGet(n);
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+
+            new Thread(() -> {
+                try {
+                    for (int i = 0; i < chunks; i++) {
+                        Thread.sleep(delayMillis);
+                        while (demand.get() == 0) {
+                            Thread.sleep(1);
+                        }
+                        demand.decrementAndGet();
+                        s.onNext(ByteBuffer.wrap(bytes("a")));
+                    }
+                    s.onComplete();
+                } catch (InterruptedException e) {
+                    s.onError(e);
+                }
+            }).start();
+        }
+    }
+}
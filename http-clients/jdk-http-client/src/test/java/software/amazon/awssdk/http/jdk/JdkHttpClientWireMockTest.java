@@ -0,0 +1,188 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.Header.CHUNKED;
+import static software.amazon.awssdk.http.Header.TRANSFER_ENCODING;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import org.junit.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpClientTestSuite;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.utils.AttributeMap;
+import software.amazon.awssdk.utils.IoUtils;
+
+public final class JdkHttpClientWireMockTest extends SdkHttpClientTestSuite {
+
+    @Override
+    protected SdkHttpClient createSdkHttpClient(SdkHttpClientOptions options) {
+        JdkHttpClient.Builder builder = JdkHttpClient.builder();
+        AttributeMap.Builder attributeMap = AttributeMap.builder();
+
+        if (options.tlsTrustManagersProvider() != null) {
+            builder.tlsTrustManagersProvider(options.tlsTrustManagersProvider());
+        }
+
+        if (options.trustAll()) {
+            attributeMap.put(TRUST_ALL_CERTIFICATES, options.trustAll());
+        }
+
+        return builder.buildWithDefaults(attributeMap.build());
+    }
+
+    @Override
+    public void connectionsAreNotReusedOn5xxErrors() {
+        // We cannot support this because the JDK's HttpClient doesn't allow us to disable connection reuse
+    }
+
+    @Test
+    public void unknownContentLength_shouldUseChunkedEncoding() throws IOException {
+        SdkHttpClient client = createSdkHttpClient();
+
+        stubForMockRequest(200);
+
+        SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST, true);
+        req = req.toBuilder().putHeader(TRANSFER_ENCODING, CHUNKED).build();
+        HttpExecuteResponse rsp = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                          .request(req)
+                                                                          .contentStreamProvider(req.contentStreamProvider()
+                                                                                                    .orElse(null))
+                                                                          .build())
+                                        .call();
+
+        assertThat(IoUtils.toUtf8String(rsp.responseBody().get())).isEqualTo("hello");
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withHeader(TRANSFER_ENCODING, equalTo(CHUNKED)));
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo("Body")));
+    }
+
+    @Test
+    public void expectContinueHeader_shouldSendBody() throws IOException {
+        SdkHttpClient client = createSdkHttpClient();
+
+        stubForMockRequest(200);
+
+        SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST);
+        req = req.toBuilder().putHeader("Expect", "100-continue").build();
+        HttpExecuteResponse rsp = client.prepareRequest(HttpExecuteRequest.builder()
+                                                                          .request(req)
+                                                                          .contentStreamProvider(req.contentStreamProvider()
+                                                                                                    .orElse(null))
+                                                                          .build())
+                                        .call();
+
+        assertThat(rsp.httpResponse().statusCode()).isEqualTo(200);
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo("Body")));
+    }
+
+    @Test
+    public void uploadTakingLongerThanReadTimeout_succeedsWhileBodyIsProgressing() throws IOException {
+        SdkHttpClient client = JdkHttpClient.builder().socketTimeout(Duration.ofMillis(500)).build();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+
+        // Eight bytes 200ms apart take well over the read timeout to upload.
+        SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.POST);
+        req = req.toBuilder().putHeader("Content-Length", "8").build();
+        HttpExecuteRequest request = HttpExecuteRequest.builder()
+                                                       .request(req)
+                                                       .contentStreamProvider(() -> new SlowInputStream(8, 200))
+                                                       .build();
+        HttpExecuteResponse rsp = client.prepareRequest(request).call();
+
+        assertThat(IoUtils.toUtf8String(rsp.responseBody().get())).isEqualTo("hello");
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(equalTo("aaaaaaaa")));
+        client.close();
+    }
+
+    @Test
+    public void responseDelayedBeyondReadTimeout_failsWithTimeout() {
+        SdkHttpClient client = JdkHttpClient.builder().socketTimeout(Duration.ofMillis(500)).build();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withFixedDelay(3000)));
+
+        SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.GET);
+        assertThatThrownBy(() -> client.prepareRequest(HttpExecuteRequest.builder().request(req).build()).call())
+            .isInstanceOf(HttpTimeoutException.class);
+        client.close();
+    }
+
+    @Test
+    public void pauseBetweenResponseReads_isNotTimedOut() throws Exception {
+        SdkHttpClient client = JdkHttpClient.builder().socketTimeout(Duration.ofMillis(500)).build();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+
+        SdkHttpFullRequest req = mockSdkRequest("http://localhost:" + mockServer.port(), SdkHttpMethod.GET);
+        HttpExecuteResponse rsp = client.prepareRequest(HttpExecuteRequest.builder().request(req).build()).call();
+        Thread.sleep(1000);
+
+        assertThat(IoUtils.toUtf8String(rsp.responseBody().get())).isEqualTo("hello");
+        client.close();
+    }
+
+    /**
+     * Returns single bytes with a delay before each of them.
+     */
+    private static final class SlowInputStream extends InputStream {
+        private final long delayMillis;
+        private int remaining;
+
+        private SlowInputStream(int length, long delayMillis) {
+            this.remaining = length;
+            this.delayMillis = delayMillis;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining == 0) {
+                return -1;
+            }
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            remaining--;
+            return 'a';
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            int read = read();
+            if (read == -1) {
+                return -1;
+            }
+            b[off] = (byte) read;
+            return 1;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.jdk.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SimpleHttpContentPublisher;
+
+public class JdkRequestAdapterTest {
+    private static final IdleReadTimeout NO_TIMEOUT = IdleReadTimeout.create(null, null);
+
+    @Test
+    public void restrictedHeaders_areDropped() {
+        SdkHttpRequest request = requestBuilder().putHeader("Host", "example.com")
+                                                 .putHeader("Content-Length", "3")
+                                                 .putHeader("connection", "keep-alive")
+                                                 .putHeader("Transfer-Encoding", "chunked")
+                                                 .putHeader("X-Amz-Date", "20240101T000000Z")
+                                                 .build();
+
+        HttpRequest httpRequest = JdkRequestAdapter.toHttpRequest(request, new SimpleHttpContentPublisher(new byte[3]),
+                                                                  NO_TIMEOUT);
+
+        assertThat(httpRequest.headers().map()).containsOnlyKeys("X-Amz-Date");
+    }
+
+    @Test
+    public void multiValuedHeaders_areJoined() {
+        SdkHttpRequest request = requestBuilder().appendHeader("X-Multi", "a").appendHeader("X-Multi", "b").build();
+
+        HttpRequest httpRequest = JdkRequestAdapter.toHttpRequest(request, (SimpleHttpContentPublisher) null, NO_TIMEOUT);
+
+        assertThat(httpRequest.headers().allValues("X-Multi")).containsExactly("a,b");
+    }
+
+    @Test
+    public void expectContinueHeader_enablesExpectContinue() {
+        SdkHttpRequest request = requestBuilder().putHeader("Expect", "100-continue").build();
+
+        assertThat(JdkRequestAdapter.toHttpRequest(request, (SimpleHttpContentPublisher) null, NO_TIMEOUT).expectContinue())
+            .isTrue();
+        assertThat(JdkRequestAdapter.toHttpRequest(requestBuilder().build(), (SimpleHttpContentPublisher) null, NO_TIMEOUT)
+                                    .expectContinue()).isFalse();
+    }
+
+    @Test
+    public void bodyLength_isTakenFromContentLengthHeader() {
+        SdkHttpRequest request = requestBuilder().putHeader("Content-Length", "4").build();
+
+        HttpRequest httpRequest = JdkRequestAdapter.toHttpRequest(request, () -> new ByteArrayInputStream(new byte[4]),
+                                                                  NO_TIMEOUT);
+
+        assertThat(httpRequest.bodyPublisher().get().contentLength()).isEqualTo(4);
+    }
+
+    @Test
+    public void bodyLength_fallsBackToPublisherLength() {
+        HttpRequest httpRequest = JdkRequestAdapter.toHttpRequest(requestBuilder().build(),
+                                                                  new SimpleHttpContentPublisher(new byte[5]), NO_TIMEOUT);
+
+        assertThat(httpRequest.bodyPublisher().get().contentLength()).isEqualTo(5);
+    }
+
+    @Test
+    public void bodyWithoutLength_isStreamedWithUnknownLength() {
+        HttpRequest httpRequest = JdkRequestAdapter.toHttpRequest(requestBuilder().build(),
+                                                                  () -> new ByteArrayInputStream(new byte[4]), NO_TIMEOUT);
+
+        assertThat(httpRequest.bodyPublisher().get().contentLength()).isNegative();
+    }
+
+    @Test
+    public void readTimeout_isNotAppliedAsRequestTimeout() {
+        IdleReadTimeout readTimeout = IdleReadTimeout.create(Executors.newSingleThreadScheduledExecutor(), Duration.ofSeconds(3));
+
+        HttpRequest httpRequest = JdkRequestAdapter.toHttpRequest(requestBuilder().build(),
+                                                                  () -> new ByteArrayInputStream(new byte[4]), readTimeout);
+
+        assertThat(httpRequest.timeout()).isEmpty();
+    }
+
+    private static SdkHttpFullRequest.Builder requestBuilder() {
+        return SdkHttpFullRequest.builder()
+                                 .uri(URI.create("https://example.com/path"))
+                                 .method(SdkHttpMethod.PUT);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How the number of concurrent requests to an endpoint is limited by a {@link NettyNioAsyncHttpClient}.
+ * <p>
+ * The adaptive modes adjust the limit of each endpoint between 1 and
+ * {@link NettyNioAsyncHttpClient.Builder#maxConcurrency(Integer)}, based on how long requests hold their connection or
+ * stream, and on failures to establish new connections. They work best when the requests to an endpoint are of similar
+ * size, because a large upload or download holding its connection longer than other requests is indistinguishable from
+ * the endpoint slowing down.
+ *
+ * @see NettyNioAsyncHttpClient.Builder#concurrencyLimitMode(ConcurrencyLimitMode)
+ */
+@SdkPublicApi
+public enum ConcurrencyLimitMode {
+    /**
+     * Allow up to {@link NettyNioAsyncHttpClient.Builder#maxConcurrency(Integer)} concurrent requests. This is the default.
+     */
+    FIXED,
+
+    /**
+     * Additive increase, multiplicative decrease. The limit grows by one when a request completes while the limit is in
+     * use, and shrinks by 10% when a request holds its connection more than twice as long as the recent average, or when
+     * a new connection can't be established.
+     */
+    AIMD,
+
+    /**
+     * Latency based, modelled after TCP Vegas. The limit grows while requests complete about as fast as the fastest
+     * recently observed request, and shrinks as requests take longer, which indicates that they are queueing at the
+     * endpoint.
+     */
+    VEGAS
+}
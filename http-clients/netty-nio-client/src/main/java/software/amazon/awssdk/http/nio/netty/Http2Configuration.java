@@ -29,11 +29,15 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     private final Long maxStreams;
     private final Integer initialWindowSize;
     private final Duration healthCheckPingPeriod;
+    private final Http2StreamPlacementStrategy streamPlacementStrategy;
+    private final Integer prewarmConnections;
 
     private Http2Configuration(DefaultBuilder builder) {
         this.maxStreams = builder.maxStreams;
         this.initialWindowSize = builder.initialWindowSize;
         this.healthCheckPingPeriod = builder.healthCheckPingPeriod;
+        this.streamPlacementStrategy = builder.streamPlacementStrategy;
+        this.prewarmConnections = builder.prewarmConnections;
     }
 
     /**
@@ -57,6 +61,20 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
         return healthCheckPingPeriod;
     }
 
+    /**
+     * @return How new streams are placed on the open HTTP/2 connections.
+     */
+    public Http2StreamPlacementStrategy streamPlacementStrategy() {
+        return streamPlacementStrategy;
+    }
+
+    /**
+     * @return The number of HTTP/2 connections to establish to an endpoint as soon as HTTP/2 has been negotiated with it.
+     */
+    public Integer prewarmConnections() {
+        return prewarmConnections;
+    }
+
     @Override
     public Builder toBuilder() {
         return new DefaultBuilder(this);
@@ -78,7 +96,15 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             return false;
         }
 
-        return initialWindowSize != null ? initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize == null;
+        if (initialWindowSize != null ? !initialWindowSize.equals(that.initialWindowSize) : that.initialWindowSize != null) {
+            return false;
+        }
+
+        if (streamPlacementStrategy != that.streamPlacementStrategy) {
+            return false;
+        }
+
+        return prewarmConnections != null ? prewarmConnections.equals(that.prewarmConnections) : that.prewarmConnections == null;
 
     }
 
@@ -86,6 +112,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
     public int hashCode() {
         int result = maxStreams != null ? maxStreams.hashCode() : 0;
         result = 31 * result + (initialWindowSize != null ? initialWindowSize.hashCode() : 0);
+        result = 31 * result + (streamPlacementStrategy != null ? streamPlacementStrategy.hashCode() : 0);
+        result = 31 * result + (prewarmConnections != null ? prewarmConnections.hashCode() : 0);
         return result;
     }
 
@@ -127,12 +155,39 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
          * @return This builder for method chaining.
          */
         Builder healthCheckPingPeriod(Duration healthCheckPingPeriod);
+
+        /**
+         * Sets how the client chooses which open connection a new stream is placed on. The default is
+         * {@link Http2StreamPlacementStrategy#FIRST_AVAILABLE}. A new connection is only opened when none of the existing
+         * connections has a free stream, regardless of the strategy.
+         *
+         * <p>Spreading streams across connections with {@link Http2StreamPlacementStrategy#LEAST_OUTSTANDING_STREAMS} or
+         * {@link Http2StreamPlacementStrategy#POWER_OF_TWO_CHOICES} avoids piling long-lived streams onto a single connection
+         * and its flow control window.</p>
+         *
+         * @param streamPlacementStrategy The stream placement strategy.
+         * @return This builder for method chaining.
+         */
+        Builder streamPlacementStrategy(Http2StreamPlacementStrategy streamPlacementStrategy);
+
+        /**
+         * Sets the number of connections to establish to an endpoint as soon as the first connection to it has negotiated
+         * HTTP/2, so that a burst of streams can be spread across them without waiting for new connections. This is capped by
+         * the client's maximum concurrency. Prewarmed connections are subject to the idle connection timeout once they have
+         * been used.
+         *
+         * @param prewarmConnections The number of connections to prewarm.
+         * @return This builder for method chaining.
+         */
+        Builder prewarmConnections(Integer prewarmConnections);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long maxStreams;
         private Integer initialWindowSize;
         private Duration healthCheckPingPeriod;
+        private Http2StreamPlacementStrategy streamPlacementStrategy;
+        private Integer prewarmConnections;
 
         private DefaultBuilder() {
         }
@@ -141,6 +196,8 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             this.maxStreams = http2Configuration.maxStreams;
             this.initialWindowSize = http2Configuration.initialWindowSize;
             this.healthCheckPingPeriod = http2Configuration.healthCheckPingPeriod;
+            this.streamPlacementStrategy = http2Configuration.streamPlacementStrategy;
+            this.prewarmConnections = http2Configuration.prewarmConnections;
         }
 
         @Override
@@ -173,6 +230,26 @@ public final class Http2Configuration implements ToCopyableBuilder<Http2Configur
             healthCheckPingPeriod(healthCheckPingPeriod);
         }
 
+        @Override
+        public Builder streamPlacementStrategy(Http2StreamPlacementStrategy streamPlacementStrategy) {
+            this.streamPlacementStrategy = streamPlacementStrategy;
+            return this;
+        }
+
+        public void setStreamPlacementStrategy(Http2StreamPlacementStrategy streamPlacementStrategy) {
+            streamPlacementStrategy(streamPlacementStrategy);
+        }
+
+        @Override
+        public Builder prewarmConnections(Integer prewarmConnections) {
+            this.prewarmConnections = Validate.isPositiveOrNull(prewarmConnections, "prewarmConnections");
+            return this;
+        }
+
+        public void setPrewarmConnections(Integer prewarmConnections) {
+            prewarmConnections(prewarmConnections);
+        }
+
         @Override
         public Http2Configuration build() {
             return new Http2Configuration(this);
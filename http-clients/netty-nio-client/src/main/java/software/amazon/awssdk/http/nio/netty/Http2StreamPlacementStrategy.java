@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How the Netty client chooses which open HTTP/2 connection a new stream is placed on. In every case a new connection is only
+ * opened when no existing connection has a free stream.
+ *
+ * @see Http2Configuration.Builder#streamPlacementStrategy(Http2StreamPlacementStrategy)
+ */
+@SdkPublicApi
+public enum Http2StreamPlacementStrategy {
+    /**
+     * Use the first connection that has a free stream. This is the default, and tends to concentrate streams on the oldest
+     * connections, leaving the others idle until those are saturated.
+     */
+    FIRST_AVAILABLE,
+
+    /**
+     * Use the connection with the fewest outstanding streams.
+     */
+    LEAST_OUTSTANDING_STREAMS,
+
+    /**
+     * Pick two connections at random and use the one with fewer outstanding streams. This spreads load nearly as evenly as
+     * {@link #LEAST_OUTSTANDING_STREAMS} without comparing every connection on every request, which matters when a client
+     * holds many connections to the same endpoint.
+     */
+    POWER_OF_TWO_CHOICES,
+
+    /**
+     * Use the connection with the fewest bytes waiting to be written to the socket, breaking ties by the number of
+     * outstanding streams. This favors connections that are not backed up behind large uploads.
+     */
+    LEAST_PENDING_BYTES
+}
@@ -38,6 +38,7 @@ import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SystemPropertyTlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
@@ -45,7 +46,9 @@ import software.amazon.awssdk.http.TlsTrustManagersProvider;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.internal.AwaitCloseChannelPoolMap;
+import software.amazon.awssdk.http.nio.netty.internal.ConnectionPrewarmer;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
+import software.amazon.awssdk.http.nio.netty.internal.NettyConfigurationOption;
 import software.amazon.awssdk.http.nio.netty.internal.NettyRequestExecutor;
 import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
 import software.amazon.awssdk.http.nio.netty.internal.RequestContext;
@@ -77,6 +80,14 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private static final AttributeMap NETTY_HTTP_DEFAULTS =
         AttributeMap.builder()
                     .put(SdkHttpConfigurationOption.CONNECTION_MAX_IDLE_TIMEOUT, Duration.ofSeconds(5))
+                    .put(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY, false)
+                    .put(NettyConfigurationOption.HTTP2_STREAM_PLACEMENT_STRATEGY, Http2StreamPlacementStrategy.FIRST_AVAILABLE)
+                    .put(NettyConfigurationOption.HTTP2_PREWARM_CONNECTIONS, 0)
+                    .put(NettyConfigurationOption.SPREAD_CONNECTIONS_ACROSS_ADDRESSES, false)
+                    .put(NettyConfigurationOption.CONCURRENCY_LIMIT_MODE, ConcurrencyLimitMode.FIXED)
+                    .put(NettyConfigurationOption.REQUEST_BODY_FLUSH_THRESHOLD, 0)
+                    .put(NettyConfigurationOption.REQUEST_BODY_FLUSH_DELAY, Duration.ofMillis(1))
+                    .put(NettyConfigurationOption.ZERO_COPY_REQUEST_BODY, false)
                     .build();
 
     private final SdkEventLoopGroup sdkEventLoopGroup;
@@ -84,7 +95,7 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
     private final NettyConfiguration configuration;
 
     private NettyNioAsyncHttpClient(DefaultBuilder builder, AttributeMap serviceDefaultsMap) {
-        this.configuration = new NettyConfiguration(serviceDefaultsMap);
+        this.configuration = new NettyConfiguration(resolveHttp2Options(builder.http2Configuration).merge(serviceDefaultsMap));
         Protocol protocol = serviceDefaultsMap.get(SdkHttpConfigurationOption.PROTOCOL);
         this.sdkEventLoopGroup = eventLoopGroup(builder);
 
@@ -136,6 +147,39 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return new DefaultBuilder().build();
     }
 
+    /**
+     * Open connections to the provided endpoint ahead of the first requests to it, so that those requests don't have to wait
+     * for the connections to be established. This is useful to avoid paying for the TCP and TLS handshakes on the critical
+     * path of the first burst of requests after an application starts.
+     *
+     * <p>The connections are returned to the pool once established, and are subject to the idle connection timeout like any
+     * other connection. The number of connections is capped at the maximum concurrency of the client. For HTTP/2 endpoints,
+     * a single connection can serve many streams, see {@link Http2Configuration.Builder#prewarmConnections(Integer)} to open
+     * several HTTP/2 connections.</p>
+     *
+     * <pre class="brush: java">
+     * NettyNioAsyncHttpClient httpClient = (NettyNioAsyncHttpClient) NettyNioAsyncHttpClient.create();
+     * httpClient.prewarmConnections(URI.create("https://s3.us-west-2.amazonaws.com"), 20).join();
+     * </pre>
+     *
+     * @param endpoint The endpoint to connect to. Only the scheme, host and port are used.
+     * @param connections The number of connections to open.
+     * @return A future that is completed once the connections have been established, or exceptionally if any of them
+     * could not be established.
+     */
+    public CompletableFuture<Void> prewarmConnections(URI endpoint, int connections) {
+        Validate.paramNotNull(endpoint, "endpoint");
+        Validate.isPositive(connections, "connections");
+
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .uri(endpoint)
+                                               .method(SdkHttpMethod.GET)
+                                               .build();
+        SdkChannelPool pool = pools.get(poolKey(request));
+        return ConnectionPrewarmer.prewarm(pool, sdkEventLoopGroup.eventLoopGroup(),
+                                           Math.min(connections, configuration.maxConnections()));
+    }
+
     private RequestContext createRequestContext(AsyncExecuteRequest request) {
         SdkChannelPool pool = pools.get(poolKey(request.request()));
         return new RequestContext(pool, sdkEventLoopGroup.eventLoopGroup(), request, configuration);
@@ -188,6 +232,20 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
         return null;
     }
 
+    private static AttributeMap resolveHttp2Options(Http2Configuration http2Configuration) {
+        AttributeMap.Builder options = AttributeMap.builder();
+        if (http2Configuration != null) {
+            if (http2Configuration.streamPlacementStrategy() != null) {
+                options.put(NettyConfigurationOption.HTTP2_STREAM_PLACEMENT_STRATEGY,
+                            http2Configuration.streamPlacementStrategy());
+            }
+            if (http2Configuration.prewarmConnections() != null) {
+                options.put(NettyConfigurationOption.HTTP2_PREWARM_CONNECTIONS, http2Configuration.prewarmConnections());
+            }
+        }
+        return options.build();
+    }
+
     private SdkEventLoopGroup nonManagedEventLoopGroup(SdkEventLoopGroup eventLoopGroup) {
         return SdkEventLoopGroup.create(new NonManagedEventLoopGroup(eventLoopGroup.eventLoopGroup()),
                                         eventLoopGroup.channelFactory());
@@ -485,6 +543,83 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
          * See https://netty.io/news/2016/05/26/4-1-0-Final.html
          */
         Builder useNonBlockingDnsResolver(Boolean useNonBlockingDnsResolver);
+
+        /**
+         * Configure whether response body data is published without being copied. False by default, in which case the
+         * content of each response chunk is copied into a new heap {@link java.nio.ByteBuffer} before it's published.
+         * <p>
+         * When enabled, each {@link java.nio.ByteBuffer} published for a response body is a read-only view of the buffer
+         * that the data was read into. These buffers are allocated from a pooled allocator which only pools direct memory,
+         * so heap usage doesn't increase compared to the default. An allocator configured using
+         * {@link #putChannelOption(ChannelOption, Object)} takes precedence over the pooled allocator.
+         * <p>
+         * <b>Note:</b> A published buffer is only valid until the subscriber's {@code onNext} method returns, after which it is
+         * released back to the pool, and its content may be overwritten. The response transformers provided by the SDK that
+         * keep the data after {@code onNext} returns, such as {@code AsyncResponseTransformer.toFile} and
+         * {@code AsyncResponseTransformer.toBlockingInputStream}, copy read-only buffers before keeping them, so they're not
+         * affected. Custom subscribers that use the data after {@code onNext} returns must copy it themselves.
+         */
+        Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody);
+
+        /**
+         * Configure whether the connections to an endpoint are spread across all the IPv4 and IPv6 addresses its host name
+         * resolves to. False by default, in which case every connection uses the first address returned by the resolver, so
+         * all the connections of a pool end up on the same server when a service publishes several addresses.
+         * <p>
+         * When enabled, each new connection uses one of the resolved addresses at random. The host name is resolved again for
+         * every new connection, honoring the TTL of the DNS records when {@link #useNonBlockingDnsResolver(Boolean)} is
+         * enabled, or the JVM's DNS cache otherwise. Combine this with {@link #connectionTimeToLive(Duration)} so that
+         * long-lived connections are periodically re-established against the current records.
+         */
+        Builder spreadConnectionsAcrossAddresses(Boolean spreadConnectionsAcrossAddresses);
+
+        /**
+         * Configure how the number of concurrent requests to each endpoint is limited. {@link ConcurrencyLimitMode#FIXED} by
+         * default, in which case up to {@link #maxConcurrency(Integer)} requests are sent to an endpoint at the same time.
+         * <p>
+         * With an adaptive mode, the limit of each endpoint starts at 20 or {@link #maxConcurrency(Integer)}, whichever is
+         * lower, and is adjusted between 1 and {@link #maxConcurrency(Integer)} based on how long requests hold their
+         * connection, or stream for HTTP/2. Requests beyond the current limit wait for up to
+         * {@link #connectionAcquisitionTimeout(Duration)}, like requests beyond {@link #maxConcurrency(Integer)}, and count
+         * towards {@link #maxPendingConnectionAcquires(Integer)}. The current limit is reported as the
+         * {@link software.amazon.awssdk.http.HttpMetric#CONCURRENCY_LIMIT} metric.
+         *
+         * @see ConcurrencyLimitMode
+         */
+        Builder concurrencyLimitMode(ConcurrencyLimitMode concurrencyLimitMode);
+
+        /**
+         * Configure the number of bytes of a request body that are written to a connection before it is flushed. 0 by
+         * default, in which case every part of the body is flushed as soon as it is written.
+         * <p>
+         * Request bodies are published in parts, for example the chunks of a signed streaming upload or the frames of an
+         * event stream, and each flush is a separate write to the socket. When a threshold is configured, parts are written
+         * without flushing until the unflushed parts reach the threshold, the body is complete, or
+         * {@link #requestBodyFlushDelay(Duration)} elapses. This lowers the number of system calls made for bodies published
+         * in small parts, at the cost of up to {@link #requestBodyFlushDelay(Duration)} of added latency for each part.
+         * <p>
+         * The threshold should not exceed the write buffer high water mark of the channel, 64 KiB by default. The connection
+         * is always flushed when the buffered data reaches the high water mark.
+         */
+        Builder requestBodyFlushThreshold(Integer requestBodyFlushThresholdInBytes);
+
+        /**
+         * Configure the maximum time a written part of a request body may wait for a flush when
+         * {@link #requestBodyFlushThreshold(Integer)} is configured. 1 millisecond by default.
+         */
+        Builder requestBodyFlushDelay(Duration requestBodyFlushDelay);
+
+        /**
+         * Configure whether request bodies read from a file, such as
+         * {@link software.amazon.awssdk.core.async.AsyncRequestBody#fromFile(java.nio.file.Path)}, are transferred directly
+         * from the file to the connection with {@link io.netty.channel.FileRegion}. False by default.
+         * <p>
+         * When enabled, file bodies are sent without being copied into memory, using {@code sendfile} where the transport
+         * supports it. This only applies to plaintext HTTP/1.1 connections; HTTPS and HTTP/2 requests, and file bodies that
+         * are transformed before being sent, for example to add a checksum trailer or sign the payload in chunks, are still
+         * read through the request body publisher. Changes made to the file while it is being sent are not detected.
+         */
+        Builder zeroCopyRequestBody(Boolean zeroCopyRequestBody);
     }
 
     /**
@@ -737,6 +872,69 @@ public final class NettyNioAsyncHttpClient implements SdkAsyncHttpClient {
             useNonBlockingDnsResolver(useNonBlockingDnsResolver);
         }
 
+        @Override
+        public Builder zeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            standardOptions.put(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY, zeroCopyResponseBody);
+            return this;
+        }
+
+        public void setZeroCopyResponseBody(Boolean zeroCopyResponseBody) {
+            zeroCopyResponseBody(zeroCopyResponseBody);
+        }
+
+        @Override
+        public Builder spreadConnectionsAcrossAddresses(Boolean spreadConnectionsAcrossAddresses) {
+            standardOptions.put(NettyConfigurationOption.SPREAD_CONNECTIONS_ACROSS_ADDRESSES, spreadConnectionsAcrossAddresses);
+            return this;
+        }
+
+        public void setSpreadConnectionsAcrossAddresses(Boolean spreadConnectionsAcrossAddresses) {
+            spreadConnectionsAcrossAddresses(spreadConnectionsAcrossAddresses);
+        }
+
+        @Override
+        public Builder concurrencyLimitMode(ConcurrencyLimitMode concurrencyLimitMode) {
+            standardOptions.put(NettyConfigurationOption.CONCURRENCY_LIMIT_MODE, concurrencyLimitMode);
+            return this;
+        }
+
+        public void setConcurrencyLimitMode(ConcurrencyLimitMode concurrencyLimitMode) {
+            concurrencyLimitMode(concurrencyLimitMode);
+        }
+
+        @Override
+        public Builder requestBodyFlushThreshold(Integer requestBodyFlushThresholdInBytes) {
+            Validate.isTrue(requestBodyFlushThresholdInBytes == null || requestBodyFlushThresholdInBytes >= 0,
+                            "requestBodyFlushThresholdInBytes must not be negative");
+            standardOptions.put(NettyConfigurationOption.REQUEST_BODY_FLUSH_THRESHOLD, requestBodyFlushThresholdInBytes);
+            return this;
+        }
+
+        public void setRequestBodyFlushThreshold(Integer requestBodyFlushThresholdInBytes) {
+            requestBodyFlushThreshold(requestBodyFlushThresholdInBytes);
+        }
+
+        @Override
+        public Builder requestBodyFlushDelay(Duration requestBodyFlushDelay) {
+            Validate.isPositive(requestBodyFlushDelay, "requestBodyFlushDelay");
+            standardOptions.put(NettyConfigurationOption.REQUEST_BODY_FLUSH_DELAY, requestBodyFlushDelay);
+            return this;
+        }
+
+        public void setRequestBodyFlushDelay(Duration requestBodyFlushDelay) {
+            requestBodyFlushDelay(requestBodyFlushDelay);
+        }
+
+        @Override
+        public Builder zeroCopyRequestBody(Boolean zeroCopyRequestBody) {
+            standardOptions.put(NettyConfigurationOption.ZERO_COPY_REQUEST_BODY, zeroCopyRequestBody);
+            return this;
+        }
+
+        public void setZeroCopyRequestBody(Boolean zeroCopyRequestBody) {
+            zeroCopyRequestBody(zeroCopyRequestBody);
+        }
+
         @Override
         public SdkAsyncHttpClient buildWithDefaults(AttributeMap serviceDefaults) {
             if (standardOptions.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT) == null) {
@@ -18,14 +18,12 @@ package software.amazon.awssdk.http.nio.netty;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFactory;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.http.nio.netty.internal.utils.ChannelResolver;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NativeTransports;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import software.amazon.awssdk.utils.Validate;
 
@@ -80,9 +78,10 @@ public final class SdkEventLoopGroup {
      * Create an instance of {@link SdkEventLoopGroup} from the builder
      */
     private SdkEventLoopGroup(DefaultBuilder builder) {
-        this.eventLoopGroup = resolveEventLoopGroup(builder);
-        this.channelFactory = resolveSocketChannelFactory(builder);
-        this.datagramChannelFactory = resolveDatagramChannelFactory(builder);
+        TransportType transportType = resolveTransportType(builder);
+        this.eventLoopGroup = resolveEventLoopGroup(builder, transportType);
+        this.channelFactory = resolveSocketChannelFactory(builder, transportType);
+        this.datagramChannelFactory = resolveDatagramChannelFactory(builder, transportType);
     }
 
     /**
@@ -136,38 +135,40 @@ public final class SdkEventLoopGroup {
         return new DefaultBuilder();
     }
 
-    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder) {
+    private TransportType resolveTransportType(DefaultBuilder builder) {
+        if (builder.transportType == TransportType.AUTO) {
+            // Channel factories configured without a concrete transport type were always used with an NIO event loop group
+            if (builder.channelFactory != null || builder.datagramChannelFactory != null) {
+                return TransportType.NIO;
+            }
+        }
+        return NativeTransports.resolve(builder.transportType);
+    }
+
+    private EventLoopGroup resolveEventLoopGroup(DefaultBuilder builder, TransportType transportType) {
         int numThreads = Optional.ofNullable(builder.numberOfThreads).orElse(0);
         ThreadFactory threadFactory = Optional.ofNullable(builder.threadFactory)
                                               .orElseGet(() -> new ThreadFactoryBuilder()
                                                   .threadNamePrefix("aws-java-sdk-NettyEventLoop")
                                                   .build());
-        return new NioEventLoopGroup(numThreads, threadFactory);
+        return NativeTransports.newEventLoopGroup(transportType, numThreads, threadFactory);
         /*
         Need to investigate why epoll is raising channel inactive after successful response that causes
-        problems with retries.
-
-        if (Epoll.isAvailable() && isNotAwsLambda()) {
-            return new EpollEventLoopGroup(numThreads, resolveThreadFactory());
-        } else {
-
-        }*/
+        problems with retries. Until then, the native transports are only used when they are configured
+        using the transport type.
+        */
     }
 
-    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder) {
-        return builder.channelFactory;
+    private ChannelFactory<? extends Channel> resolveSocketChannelFactory(DefaultBuilder builder,
+                                                                          TransportType transportType) {
+        return builder.channelFactory != null ? builder.channelFactory
+                                              : NativeTransports.socketChannelFactory(transportType);
     }
 
-    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder) {
-        return builder.datagramChannelFactory;
-    }
-
-    private static ChannelFactory<? extends Channel> defaultSocketChannelFactory() {
-        return NioSocketChannel::new;
-    }
-
-    private static ChannelFactory<? extends DatagramChannel> defaultDatagramChannelFactory() {
-        return NioDatagramChannel::new;
+    private ChannelFactory<? extends DatagramChannel> resolveDatagramChannelFactory(DefaultBuilder builder,
+                                                                                    TransportType transportType) {
+        return builder.datagramChannelFactory != null ? builder.datagramChannelFactory
+                                                      : NativeTransports.datagramChannelFactory(transportType);
     }
 
     /**
@@ -196,9 +197,28 @@ public final class SdkEventLoopGroup {
          */
         Builder threadFactory(ThreadFactory threadFactory);
 
+        /**
+         * The Netty transport of the {@link EventLoopGroup}. Defaults to {@link TransportType#NIO}. The native transports are
+         * opt-in: {@link TransportType#AUTO} uses the native epoll transport when the netty-transport-native-epoll artifact for
+         * the current platform is on the classpath, and the NIO transport otherwise.
+         * <p>
+         * When the {@link EventLoopGroup} created by this builder uses a native transport, the client enables the
+         * TCP_FASTOPEN_CONNECT and TCP_QUICKACK channel options, which can be overridden with
+         * {@link NettyNioAsyncHttpClient.Builder#putChannelOption}. They are not enabled for event loop groups provided using
+         * {@link SdkEventLoopGroup#create(EventLoopGroup)}.
+         * <p>
+         * If {@link #channelFactory(ChannelFactory)} or {@link #datagramChannelFactory(ChannelFactory)} is configured, the
+         * channel factories must match the transport type. When they are configured with {@link TransportType#AUTO}, the NIO
+         * transport is used.
+         *
+         * @param transportType The transport to use.
+         * @return This builder for method chaining.
+         */
+        Builder transportType(TransportType transportType);
+
         /**
          * {@link ChannelFactory} to create socket channels used by the {@link EventLoopGroup}. If not set,
-         * NioSocketChannel is used.
+         * the socket channel of the {@link #transportType(TransportType)} is used.
          *
          * @param channelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -207,7 +227,7 @@ public final class SdkEventLoopGroup {
 
         /**
          * {@link ChannelFactory} to create datagram channels used by the {@link EventLoopGroup}. If not set,
-         * NioDatagramChannel is used.
+         * the datagram channel of the {@link #transportType(TransportType)} is used.
          *
          * @param datagramChannelFactory ChannelFactory to use.
          * @return This builder for method chaining.
@@ -221,8 +241,9 @@ public final class SdkEventLoopGroup {
 
         private Integer numberOfThreads;
         private ThreadFactory threadFactory;
-        private ChannelFactory<? extends Channel> channelFactory = defaultSocketChannelFactory();
-        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory = defaultDatagramChannelFactory();
+        private TransportType transportType;
+        private ChannelFactory<? extends Channel> channelFactory;
+        private ChannelFactory<? extends DatagramChannel> datagramChannelFactory;
 
         private DefaultBuilder() {
         }
@@ -247,6 +268,16 @@ public final class SdkEventLoopGroup {
             threadFactory(threadFactory);
         }
 
+        @Override
+        public Builder transportType(TransportType transportType) {
+            this.transportType = transportType;
+            return this;
+        }
+
+        public void setTransportType(TransportType transportType) {
+            transportType(transportType);
+        }
+
         @Override
         public Builder channelFactory(ChannelFactory<? extends Channel> channelFactory) {
             this.channelFactory = channelFactory;
@@ -0,0 +1,50 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The Netty transport used by the {@link io.netty.channel.EventLoopGroup} that an {@link SdkEventLoopGroup} creates.
+ * <p>
+ * Native transports require the corresponding Netty artifact for the current platform to be on the classpath, for example
+ * {@code io.netty:netty-transport-native-epoll} with the {@code linux-x86_64} classifier for {@link #EPOLL}.
+ *
+ * @see SdkEventLoopGroup.Builder#transportType(TransportType)
+ */
+@SdkPublicApi
+public enum TransportType {
+    /**
+     * Use the native epoll transport when it is available, and the NIO transport otherwise.
+     */
+    AUTO,
+
+    /**
+     * Use the Java NIO transport, which is available on every platform. This is the default.
+     */
+    NIO,
+
+    /**
+     * Use the native epoll transport. Creating the event loop group fails if it is not available.
+     */
+    EPOLL,
+
+    /**
+     * Use the native io_uring transport from {@code io.netty.incubator:netty-incubator-transport-native-io_uring}. It is
+     * never selected automatically. Creating the event loop group fails if it is not available.
+     */
+    IO_URING
+}
@@ -16,7 +16,10 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
 import io.netty.channel.ChannelOption;
+import io.netty.util.internal.PlatformDependent;
 import java.net.InetSocketAddress;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
@@ -60,12 +63,35 @@ public class BootstrapProvider {
                 .option(ChannelOption.SO_KEEPALIVE, nettyConfiguration.tcpKeepAlive())
                 .remoteAddress(InetSocketAddress.createUnresolved(host, port));
 
+        boolean spreadConnections = nettyConfiguration.spreadConnectionsAcrossAddresses();
         if (Boolean.TRUE.equals(useNonBlockingDnsResolver)) {
-            bootstrap.resolver(DnsResolverLoader.init(sdkEventLoopGroup.datagramChannelFactory()));
+            bootstrap.resolver(DnsResolverLoader.init(sdkEventLoopGroup.datagramChannelFactory(), spreadConnections));
+        } else if (spreadConnections) {
+            bootstrap.resolver(RoundRobinAddressResolverGroup.INSTANCE);
         }
 
-        sdkChannelOptions.channelOptions().forEach(bootstrap::option);
+        // Published response bodies are views of the buffers the data was read into, so pool them. An allocator configured
+        // using the channel options takes precedence.
+        if (nettyConfiguration.zeroCopyResponseBody()) {
+            bootstrap.option(ChannelOption.ALLOCATOR, PooledDirectAllocator.INSTANCE);
+        }
+
+        sdkChannelOptions.channelOptions(sdkEventLoopGroup.eventLoopGroup()).forEach(bootstrap::option);
 
         return bootstrap;
     }
+
+    /**
+     * A pooled allocator that only pools direct memory. Heap buffers, such as the ones used by the JDK SSL engine, are not
+     * pooled, so that using it doesn't increase heap usage compared to the {@link io.netty.buffer.UnpooledByteBufAllocator} (see
+     * https://github.com/netty/netty/issues/9768).
+     */
+    private static final class PooledDirectAllocator {
+        private static final ByteBufAllocator INSTANCE =
+            new PooledByteBufAllocator(PlatformDependent.directBufferPreferred(),
+                                       0,
+                                       PooledByteBufAllocator.defaultNumDirectArena(),
+                                       PooledByteBufAllocator.defaultPageSize(),
+                                       PooledByteBufAllocator.defaultMaxOrder());
+    }
 }
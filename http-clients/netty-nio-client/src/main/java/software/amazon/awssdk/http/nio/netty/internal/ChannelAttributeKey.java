@@ -27,6 +27,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2MultiplexedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.http2.PingTracker;
+import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils;
 
 /**
@@ -73,6 +74,12 @@ public final class ChannelAttributeKey {
     public static final AttributeKey<ChannelDiagnostics> CHANNEL_DIAGNOSTICS = NettyUtils.getOrCreateAttributeKey(
         "aws.http.nio.netty.async.channelDiagnostics");
 
+    /**
+     * When the channel was acquired from a {@link BetterFixedChannelPool} with an adaptive concurrency limit.
+     */
+    public static final AttributeKey<Long> LEASE_START_NANOS = NettyUtils.getOrCreateAttributeKey(
+        "aws.http.nio.netty.async.leaseStartNanos");
+
     /**
      * {@link AttributeKey} to keep track of whether the streaming is completed and this is set to true when we receive the *
      * {@link LastHttpContent}.
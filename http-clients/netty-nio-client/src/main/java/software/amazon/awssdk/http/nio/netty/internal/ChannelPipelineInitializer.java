@@ -102,7 +102,9 @@ public final class ChannelPipelineInitializer extends AbstractChannelPoolHandler
 
             // Use unpooled allocator to avoid increased heap memory usage from Netty 4.1.43.
             // See https://github.com/netty/netty/issues/9768
-            if (sslProvider == SslProvider.JDK) {
+            // When publishing zero-copy response bodies, the allocator set up by the BootstrapProvider is used instead, which
+            // doesn't pool heap memory.
+            if (sslProvider == SslProvider.JDK && !configuration.zeroCopyResponseBody()) {
                 ch.config().setOption(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT);
             }
         }
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
+
+/**
+ * Opens connections in a {@link ChannelPool} ahead of the first requests, so that those requests don't have to wait for the
+ * TCP and TLS handshakes.
+ * <p>
+ * The connections are all acquired before any of them is released, which forces the pool to open a new connection for each
+ * acquisition that can't be served by an idle connection. Each connection is released once its TLS handshake, if any, has
+ * completed.
+ */
+@SdkInternalApi
+public final class ConnectionPrewarmer {
+    private static final NettyClientLogger log = NettyClientLogger.getLogger(ConnectionPrewarmer.class);
+
+    private ConnectionPrewarmer() {
+    }
+
+    /**
+     * Acquire {@code connections} channels from the pool, wait for their handshakes to complete and release them back to the
+     * pool.
+     *
+     * @return A future that is completed once all the channels have been released, or exceptionally if any of them could
+     * not be established.
+     */
+    public static CompletableFuture<Void> prewarm(ChannelPool pool, EventLoopGroup eventLoopGroup, int connections) {
+        List<CompletableFuture<Channel>> acquireFutures = new ArrayList<>(connections);
+        for (int i = 0; i < connections; i++) {
+            acquireFutures.add(acquireAndHandshake(pool, eventLoopGroup));
+        }
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        CompletableFuture.allOf(acquireFutures.toArray(new CompletableFuture[0])).whenComplete((r, t) -> {
+            acquireFutures.forEach(f -> {
+                if (!f.isCompletedExceptionally()) {
+                    pool.release(f.join());
+                }
+            });
+
+            if (t != null) {
+                log.debug(null, () -> "Failed to prewarm connections", t);
+                result.completeExceptionally(t);
+            } else {
+                log.debug(null, () -> "Prewarmed " + connections + " connections");
+                result.complete(null);
+            }
+        });
+        return result;
+    }
+
+    private static CompletableFuture<Channel> acquireAndHandshake(ChannelPool pool, EventLoopGroup eventLoopGroup) {
+        CompletableFuture<Channel> future = new CompletableFuture<>();
+        Promise<Channel> acquirePromise = eventLoopGroup.next().newPromise();
+        pool.acquire(acquirePromise);
+        acquirePromise.addListener((Future<Channel> f) -> {
+            if (!f.isSuccess()) {
+                future.completeExceptionally(f.cause());
+                return;
+            }
+
+            Channel channel = f.getNow();
+            // For HTTP/2, the acquired channel is a stream, and the TLS handler is on its parent connection
+            Channel connection = channel.parent() != null ? channel.parent() : channel;
+            SslHandler sslHandler = connection.pipeline().get(SslHandler.class);
+            if (sslHandler == null) {
+                future.complete(channel);
+                return;
+            }
+
+            // Auto read is disabled on acquired channels, request a read so that the handshake can make progress. The
+            // SslHandler keeps reading until the handshake is done.
+            connection.read();
+            sslHandler.handshakeFuture().addListener(handshake -> {
+                if (handshake.isSuccess()) {
+                    future.complete(channel);
+                } else {
+                    // Close the channel before releasing it so that the pool drops it instead of reusing it
+                    channel.close().addListener(closeFuture -> pool.release(channel));
+                    future.completeExceptionally(handshake.cause());
+                }
+            });
+        });
+        return future;
+    }
+}
@@ -34,8 +34,18 @@ public class DnsResolverLoader {
     }
 
     public static AddressResolverGroup<InetSocketAddress> init(ChannelFactory<? extends DatagramChannel> datagramChannelFactory) {
+        return init(datagramChannelFactory, false);
+    }
+
+    /**
+     * Create a non-blocking resolver group. If {@code roundRobin} is true, each resolution returns one of the addresses the
+     * host name resolves to at random, instead of always returning the first one.
+     */
+    public static AddressResolverGroup<InetSocketAddress> init(ChannelFactory<? extends DatagramChannel> datagramChannelFactory,
+                                                               boolean roundRobin) {
         try {
-            Class<?> addressResolver = ClassLoaderHelper.loadClass(getAddressResolverGroup(), false, (Class) null);
+            String addressResolverGroup = roundRobin ? getRoundRobinAddressResolverGroup() : getAddressResolverGroup();
+            Class<?> addressResolver = ClassLoaderHelper.loadClass(addressResolverGroup, false, (Class) null);
             Class<?> dnsNameResolverBuilder = ClassLoaderHelper.loadClass(getDnsNameResolverBuilder(), false, (Class) null);
 
             Object dnsResolverObj = dnsNameResolverBuilder.newInstance();
@@ -57,6 +67,10 @@ public class DnsResolverLoader {
         return "io.netty.resolver.dns.DnsAddressResolverGroup";
     }
 
+    private static String getRoundRobinAddressResolverGroup() {
+        return "io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup";
+    }
+
     private static String getDnsNameResolverBuilder() {
         return "io.netty.resolver.dns.DnsNameResolverBuilder";
     }
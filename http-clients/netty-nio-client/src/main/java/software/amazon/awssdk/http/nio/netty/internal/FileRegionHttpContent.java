@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.handler.codec.DecoderResult;
+import io.netty.handler.codec.http.HttpContent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An {@link HttpContent} that carries a {@link FileRegion} through the handlers that only accept HTTP messages, until it is
+ * unwrapped by the {@link FileRegionHttpContentEncoder} right before the HTTP codec, which writes file regions as is.
+ * <p>
+ * Reference counting is delegated to the file region, so releasing this content releases the region.
+ * <p>
+ * The size and modification time of the file are recorded when the content is created, and checked again by
+ * {@link #validateFileUnchanged()} once the region has been written, like {@code FileAsyncRequestBody} does when the file is
+ * read through the publisher.
+ */
+@SdkInternalApi
+public final class FileRegionHttpContent implements HttpContent {
+    private final FileRegion fileRegion;
+    private final Path path;
+    private final long sizeAtStart;
+    private final FileTime modifiedTimeAtStart;
+    private DecoderResult decoderResult = DecoderResult.SUCCESS;
+
+    private FileRegionHttpContent(FileRegion fileRegion, Path path, long sizeAtStart, FileTime modifiedTimeAtStart) {
+        this.fileRegion = fileRegion;
+        this.path = path;
+        this.sizeAtStart = sizeAtStart;
+        this.modifiedTimeAtStart = modifiedTimeAtStart;
+    }
+
+    /**
+     * Create the content for the region of the provided file that starts at {@code position} and is {@code count} bytes long.
+     *
+     * @throws IOException If the file can't be read, or is too short to contain the region.
+     */
+    public static FileRegionHttpContent create(Path path, long position, long count) throws IOException {
+        long size = Files.size(path);
+        FileTime modifiedTime = Files.getLastModifiedTime(path);
+        if (position + count > size) {
+            throw new IOException("The file is shorter than the request content. File size: " + size + ". Expected at least: "
+                                  + (position + count));
+        }
+        return new FileRegionHttpContent(new DefaultFileRegion(path.toFile(), position, count), path, size, modifiedTime);
+    }
+
+    /**
+     * Check that the size and modification time of the file have not changed since this content was created.
+     *
+     * @throws IOException If the file was modified, or its status can't be read.
+     */
+    public void validateFileUnchanged() throws IOException {
+        try {
+            long sizeAtEnd = Files.size(path);
+            if (sizeAtStart != sizeAtEnd) {
+                throw new IOException("File size changed after reading started. Initial size: " + sizeAtStart + ". "
+                                      + "Current size: " + sizeAtEnd);
+            }
+
+            FileTime modifiedTimeAtEnd = Files.getLastModifiedTime(path);
+            if (modifiedTimeAtStart.compareTo(modifiedTimeAtEnd) != 0) {
+                throw new IOException("File last-modified time changed after reading started. Initial modification time: "
+                                      + modifiedTimeAtStart + ". Current modification time: " + modifiedTimeAtEnd);
+            }
+        } catch (NoSuchFileException e) {
+            throw new IOException("Unable to check file status after read. Was the file deleted or were its permissions "
+                                  + "changed?", e);
+        }
+    }
+
+    public FileRegion fileRegion() {
+        return fileRegion;
+    }
+
+    @Override
+    public ByteBuf content() {
+        return Unpooled.EMPTY_BUFFER;
+    }
+
+    @Override
+    public HttpContent copy() {
+        throw new UnsupportedOperationException("A file region can't be copied");
+    }
+
+    @Override
+    public HttpContent duplicate() {
+        throw new UnsupportedOperationException("A file region can't be duplicated");
+    }
+
+    @Override
+    public HttpContent retainedDuplicate() {
+        throw new UnsupportedOperationException("A file region can't be duplicated");
+    }
+
+    @Override
+    public HttpContent replace(ByteBuf content) {
+        throw new UnsupportedOperationException("The content of a file region can't be replaced");
+    }
+
+    @Override
+    public HttpContent retain() {
+        fileRegion.retain();
+        return this;
+    }
+
+    @Override
+    public HttpContent retain(int increment) {
+        fileRegion.retain(increment);
+        return this;
+    }
+
+    @Override
+    public HttpContent touch() {
+        fileRegion.touch();
+        return this;
+    }
+
+    @Override
+    public HttpContent touch(Object hint) {
+        fileRegion.touch(hint);
+        return this;
+    }
+
+    @Override
+    public int refCnt() {
+        return fileRegion.refCnt();
+    }
+
+    @Override
+    public boolean release() {
+        return fileRegion.release();
+    }
+
+    @Override
+    public boolean release(int decrement) {
+        return fileRegion.release(decrement);
+    }
+
+    @Override
+    public DecoderResult decoderResult() {
+        return decoderResult;
+    }
+
+    @Override
+    @Deprecated
+    public DecoderResult getDecoderResult() {
+        return decoderResult;
+    }
+
+    @Override
+    public void setDecoderResult(DecoderResult result) {
+        this.decoderResult = result;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import java.io.IOException;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Unwraps the {@link io.netty.channel.FileRegion} of a {@link FileRegionHttpContent}, so that the HTTP/1.1 codec writes it
+ * to the connection without copying the file into memory. Must be placed between the HTTP codec and the handlers that write
+ * the request body.
+ * <p>
+ * The write of the content only succeeds if the file was not modified while the region was transferred. Otherwise, the request
+ * fails.
+ */
+@SdkInternalApi
+@ChannelHandler.Sharable
+public final class FileRegionHttpContentEncoder extends ChannelOutboundHandlerAdapter {
+    private static final FileRegionHttpContentEncoder INSTANCE = new FileRegionHttpContentEncoder();
+
+    private FileRegionHttpContentEncoder() {
+    }
+
+    public static FileRegionHttpContentEncoder getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof FileRegionHttpContent)) {
+            ctx.write(msg, promise);
+            return;
+        }
+
+        // Releasing the content releases the region, so the reference is handed over to the codec as is
+        FileRegionHttpContent content = (FileRegionHttpContent) msg;
+        ChannelPromise regionPromise = ctx.newPromise();
+        regionPromise.addListener(f -> {
+            if (!f.isSuccess()) {
+                promise.tryFailure(f.cause());
+                return;
+            }
+            try {
+                content.validateFileUnchanged();
+                promise.trySuccess();
+            } catch (IOException e) {
+                promise.tryFailure(e);
+                // The streams handler ignores failed content writes, fail the request like a write timeout would
+                ctx.fireExceptionCaught(e);
+            }
+        });
+        ctx.write(content.fileRegion(), regionPromise);
+    }
+}
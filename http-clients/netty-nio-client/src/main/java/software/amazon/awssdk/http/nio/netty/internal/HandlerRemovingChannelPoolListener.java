@@ -49,6 +49,7 @@ public final class HandlerRemovingChannelPoolListener implements ChannelPoolList
         if (channel.isOpen() || channel.isRegistered()) {
             removeIfExists(channel.pipeline(),
                            HttpStreamsClientHandler.class,
+                           FileRegionHttpContentEncoder.class,
                            FlushOnReadHandler.class,
                            ResponseHandler.class,
                            ReadTimeoutHandler.class,
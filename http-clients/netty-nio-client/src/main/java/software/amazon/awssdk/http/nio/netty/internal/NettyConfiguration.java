@@ -28,6 +28,8 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpConfigurationOption;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.nio.netty.ConcurrencyLimitMode;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 import software.amazon.awssdk.utils.AttributeMap;
 
 /**
@@ -107,4 +109,41 @@ public final class NettyConfiguration {
     public Duration tlsHandshakeTimeout() {
         return configuration.get(SdkHttpConfigurationOption.TLS_NEGOTIATION_TIMEOUT);
     }
+
+    public boolean zeroCopyResponseBody() {
+        return Boolean.TRUE.equals(configuration.get(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY));
+    }
+
+    public Http2StreamPlacementStrategy http2StreamPlacementStrategy() {
+        Http2StreamPlacementStrategy strategy = configuration.get(NettyConfigurationOption.HTTP2_STREAM_PLACEMENT_STRATEGY);
+        return strategy == null ? Http2StreamPlacementStrategy.FIRST_AVAILABLE : strategy;
+    }
+
+    public int http2PrewarmConnections() {
+        Integer prewarmConnections = configuration.get(NettyConfigurationOption.HTTP2_PREWARM_CONNECTIONS);
+        return prewarmConnections == null ? 0 : prewarmConnections;
+    }
+
+    public boolean spreadConnectionsAcrossAddresses() {
+        return Boolean.TRUE.equals(configuration.get(NettyConfigurationOption.SPREAD_CONNECTIONS_ACROSS_ADDRESSES));
+    }
+
+    public ConcurrencyLimitMode concurrencyLimitMode() {
+        ConcurrencyLimitMode mode = configuration.get(NettyConfigurationOption.CONCURRENCY_LIMIT_MODE);
+        return mode == null ? ConcurrencyLimitMode.FIXED : mode;
+    }
+
+    public int requestBodyFlushThreshold() {
+        Integer threshold = configuration.get(NettyConfigurationOption.REQUEST_BODY_FLUSH_THRESHOLD);
+        return threshold == null ? 0 : threshold;
+    }
+
+    public long requestBodyFlushDelayNanos() {
+        Duration delay = configuration.get(NettyConfigurationOption.REQUEST_BODY_FLUSH_DELAY);
+        return delay == null ? 0 : delay.toNanos();
+    }
+
+    public boolean zeroCopyRequestBody() {
+        return Boolean.TRUE.equals(configuration.get(NettyConfigurationOption.ZERO_COPY_REQUEST_BODY));
+    }
 }
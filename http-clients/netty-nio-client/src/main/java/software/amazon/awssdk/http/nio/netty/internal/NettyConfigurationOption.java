@@ -0,0 +1,90 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.ConcurrencyLimitMode;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * Configuration options that are specific to the Netty client, and are stored alongside the
+ * {@link software.amazon.awssdk.http.SdkHttpConfigurationOption}s in the {@link NettyConfiguration}.
+ */
+@SdkInternalApi
+public final class NettyConfigurationOption<T> extends AttributeMap.Key<T> {
+    /**
+     * Whether response body data is published as read-only views of the buffers it was read into, rather than as copies.
+     */
+    public static final NettyConfigurationOption<Boolean> ZERO_COPY_RESPONSE_BODY =
+        new NettyConfigurationOption<>("ZeroCopyResponseBody", Boolean.class);
+
+    /**
+     * How new streams are placed on the open HTTP/2 connections to an endpoint.
+     */
+    public static final NettyConfigurationOption<Http2StreamPlacementStrategy> HTTP2_STREAM_PLACEMENT_STRATEGY =
+        new NettyConfigurationOption<>("Http2StreamPlacementStrategy", Http2StreamPlacementStrategy.class);
+
+    /**
+     * The number of HTTP/2 connections to establish to an endpoint once HTTP/2 has been negotiated with it.
+     */
+    public static final NettyConfigurationOption<Integer> HTTP2_PREWARM_CONNECTIONS =
+        new NettyConfigurationOption<>("Http2PrewarmConnections", Integer.class);
+
+    /**
+     * Whether new connections to an endpoint are spread across all the addresses its host name resolves to.
+     */
+    public static final NettyConfigurationOption<Boolean> SPREAD_CONNECTIONS_ACROSS_ADDRESSES =
+        new NettyConfigurationOption<>("SpreadConnectionsAcrossAddresses", Boolean.class);
+
+    /**
+     * How the number of concurrent requests to an endpoint is limited.
+     */
+    public static final NettyConfigurationOption<ConcurrencyLimitMode> CONCURRENCY_LIMIT_MODE =
+        new NettyConfigurationOption<>("ConcurrencyLimitMode", ConcurrencyLimitMode.class);
+
+    /**
+     * The number of bytes of a request body that are written to a connection before flushing it, or 0 to flush every part of
+     * the body as soon as it is written.
+     */
+    public static final NettyConfigurationOption<Integer> REQUEST_BODY_FLUSH_THRESHOLD =
+        new NettyConfigurationOption<>("RequestBodyFlushThreshold", Integer.class);
+
+    /**
+     * The maximum time a written part of a request body may wait for a flush.
+     */
+    public static final NettyConfigurationOption<Duration> REQUEST_BODY_FLUSH_DELAY =
+        new NettyConfigurationOption<>("RequestBodyFlushDelay", Duration.class);
+
+    /**
+     * Whether request bodies read from a file are transferred directly from the file to plaintext HTTP/1.1 connections.
+     */
+    public static final NettyConfigurationOption<Boolean> ZERO_COPY_REQUEST_BODY =
+        new NettyConfigurationOption<>("ZeroCopyRequestBody", Boolean.class);
+
+    private final String name;
+
+    private NettyConfigurationOption(String name, Class<T> clzz) {
+        super(clzz);
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
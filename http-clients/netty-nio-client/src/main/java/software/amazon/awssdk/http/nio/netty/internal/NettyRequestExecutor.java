@@ -32,6 +32,7 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.FileRegion;
 import io.netty.handler.codec.DecoderResult;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.HttpContent;
@@ -39,6 +40,7 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 import io.netty.util.Attribute;
@@ -59,6 +61,8 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
 import software.amazon.awssdk.http.nio.netty.internal.http2.FlushOnReadHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2StreamExceptionHandler;
 import software.amazon.awssdk.http.nio.netty.internal.http2.Http2ToHttpInboundAdapter;
@@ -221,7 +225,11 @@ public final class NettyRequestExecutor {
         if (protocol == Protocol.HTTP2) {
             pipeline.addLast(FlushOnReadHandler.getInstance());
         }
-        pipeline.addLast(new HttpStreamsClientHandler());
+        if (shouldSendFileRegion(protocol)) {
+            pipeline.addLast(FileRegionHttpContentEncoder.getInstance());
+        }
+        pipeline.addLast(new HttpStreamsClientHandler(context.configuration().requestBodyFlushThreshold(),
+                                                      context.configuration().requestBodyFlushDelayNanos()));
         pipeline.addLast(ResponseHandler.getInstance());
 
         // It's possible that the channel could become inactive between checking it out from the pool, and adding our response
@@ -240,8 +248,11 @@ public final class NettyRequestExecutor {
     private void writeRequest(HttpRequest request) {
         channel.pipeline().addFirst(new WriteTimeoutHandler(context.configuration().writeTimeoutMillis(),
                                                             TimeUnit.MILLISECONDS));
-        StreamedRequest streamedRequest = new StreamedRequest(request,
-                                                              context.executeRequest().requestContentPublisher());
+        SdkHttpContentPublisher contentPublisher = context.executeRequest().requestContentPublisher();
+        StreamedHttpRequest streamedRequest =
+            channel.pipeline().get(FileRegionHttpContentEncoder.class) != null
+            ? new FileRegionStreamedRequest(request, (SdkHttpFileContentPublisher) contentPublisher)
+            : new StreamedRequest(request, contentPublisher);
         channel.writeAndFlush(streamedRequest)
                .addListener(wireCall -> {
                    // Done writing so remove the idle write timeout handler
@@ -278,6 +289,24 @@ public final class NettyRequestExecutor {
         }
     }
 
+    /**
+     * A request body read from a file is sent as a {@link FileRegion} when enabled, and the connection is a plaintext HTTP/1.1
+     * connection: the region would have to be copied into memory to be encrypted or framed for HTTP/2. The content length of
+     * the request must match the file region, so that the whole region can be written at once.
+     */
+    private boolean shouldSendFileRegion(Protocol protocol) {
+        if (!context.configuration().zeroCopyRequestBody()
+            || protocol != Protocol.HTTP1_1
+            || !(context.executeRequest().requestContentPublisher() instanceof SdkHttpFileContentPublisher)
+            || channel.pipeline().get(SslHandler.class) != null) {
+            return false;
+        }
+
+        Optional<Long> contentLength = context.executeRequest().requestContentPublisher().contentLength();
+        Optional<String> contentLengthHeader = context.executeRequest().request().firstMatchingHeader("Content-Length");
+        return contentLength.isPresent() && contentLengthHeader.filter(contentLength.get().toString()::equals).isPresent();
+    }
+
     /**
      * It should explicitly trigger Read for the following situations:
      *
@@ -507,4 +536,51 @@ public final class NettyRequestExecutor {
             return Optional.empty();
         }
     }
+
+    /**
+     * Publishes the content of a {@link SdkHttpFileContentPublisher} as a single {@link FileRegion}, which is written to the
+     * connection by the {@link FileRegionHttpContentEncoder} without reading the file through the publisher.
+     */
+    private static class FileRegionStreamedRequest extends DelegateHttpRequest implements StreamedHttpRequest {
+        private final SdkHttpFileContentPublisher publisher;
+
+        FileRegionStreamedRequest(HttpRequest request, SdkHttpFileContentPublisher publisher) {
+            super(request);
+            this.publisher = publisher;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super HttpContent> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                private boolean done;
+
+                @Override
+                public void request(long n) {
+                    if (done) {
+                        return;
+                    }
+                    done = true;
+                    if (n <= 0) {
+                        subscriber.onError(new IllegalArgumentException("Demand must be positive"));
+                        return;
+                    }
+                    long count = publisher.contentLength().orElse(0L);
+                    FileRegionHttpContent content;
+                    try {
+                        content = FileRegionHttpContent.create(publisher.path(), publisher.position(), count);
+                    } catch (IOException e) {
+                        subscriber.onError(e);
+                        return;
+                    }
+                    subscriber.onNext(content);
+                    subscriber.onComplete();
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                }
+            });
+        }
+    }
 }
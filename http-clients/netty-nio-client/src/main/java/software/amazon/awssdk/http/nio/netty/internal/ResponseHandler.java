@@ -330,6 +330,11 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                         return;
                     }
 
+                    if (requestContext.configuration().zeroCopyResponseBody()) {
+                        publishView(httpContent);
+                        return;
+                    }
+
                     // Needed to prevent use-after-free bug if the subscriber's onNext is asynchronous
                     ByteBuffer byteBuffer =
                         tryCatchFinally(() -> copyToByteBuffer(httpContent.content()),
@@ -345,6 +350,28 @@ public class ResponseHandler extends SimpleChannelInboundHandler<HttpObject> {
                     }
                 }
 
+                /**
+                 * Publish a read-only view of the content, rather than a copy. The subscriber only owns the view until its
+                 * onNext returns, after which the content is released back to the pool.
+                 */
+                private void publishView(HttpContent httpContent) {
+                    ByteBuffer byteBuffer;
+                    try {
+                        byteBuffer = httpContent.content().nioBuffer().asReadOnlyBuffer();
+                    } catch (Throwable t) {
+                        httpContent.release();
+                        onError(t);
+                        return;
+                    }
+
+                    try {
+                        tryCatch(() -> subscriber.onNext(byteBuffer),
+                                 this::notifyError);
+                    } finally {
+                        httpContent.release();
+                    }
+                }
+
                 @Override
                 public void onError(Throwable t) {
                     if (!isDone.compareAndSet(false, true)) {
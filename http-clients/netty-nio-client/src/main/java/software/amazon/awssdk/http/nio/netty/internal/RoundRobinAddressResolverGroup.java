@@ -0,0 +1,45 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.AddressResolverGroup;
+import io.netty.resolver.DefaultNameResolver;
+import io.netty.resolver.RoundRobinInetAddressResolver;
+import io.netty.util.concurrent.EventExecutor;
+import java.net.InetSocketAddress;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An {@link AddressResolverGroup} that resolves host names using the JDK, like Netty's default resolver, but that picks one
+ * of all the addresses a host name resolves to at random instead of always using the first one. This spreads the
+ * connections to an endpoint across all of its addresses.
+ * <p>
+ * Host names are resolved again for every new connection, so changes to the records are picked up as soon as the JVM's DNS
+ * cache expires.
+ */
+@SdkInternalApi
+public final class RoundRobinAddressResolverGroup extends AddressResolverGroup<InetSocketAddress> {
+    public static final RoundRobinAddressResolverGroup INSTANCE = new RoundRobinAddressResolverGroup();
+
+    private RoundRobinAddressResolverGroup() {
+    }
+
+    @Override
+    protected AddressResolver<InetSocketAddress> newResolver(EventExecutor executor) {
+        return new RoundRobinInetAddressResolver(executor, new DefaultNameResolver(executor)).asAddressResolver();
+    }
+}
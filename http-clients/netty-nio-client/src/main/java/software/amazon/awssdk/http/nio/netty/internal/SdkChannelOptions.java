@@ -16,10 +16,13 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.TransportType;
+import software.amazon.awssdk.http.nio.netty.internal.utils.NativeTransports;
 
 @SdkInternalApi
 public final class SdkChannelOptions {
@@ -40,4 +43,20 @@ public final class SdkChannelOptions {
     public Map<ChannelOption, Object> channelOptions() {
         return Collections.unmodifiableMap(options);
     }
+
+    /**
+     * The options to configure the channels of the provided event loop group with: the low latency options supported by its
+     * native transport, if the event loop group was created by the SDK, overridden by the configured options. Event loop groups
+     * provided by the customer only get the configured options.
+     */
+    public Map<ChannelOption, Object> channelOptions(EventLoopGroup eventLoopGroup) {
+        TransportType transportType = NativeTransports.transportOf(eventLoopGroup);
+        if (transportType == null || !NativeTransports.isCreatedBySdk(eventLoopGroup)) {
+            return channelOptions();
+        }
+
+        Map<ChannelOption, Object> resolved = new HashMap<>(NativeTransports.lowLatencyChannelOptions(transportType));
+        resolved.putAll(options);
+        return Collections.unmodifiableMap(resolved);
+    }
 }
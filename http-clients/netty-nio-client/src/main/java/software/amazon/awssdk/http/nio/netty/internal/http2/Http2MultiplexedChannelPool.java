@@ -51,8 +51,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.http.Http2Metric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.NettyClientLogger;
@@ -92,6 +94,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     private final EventLoopGroup eventLoopGroup;
     private final Set<MultiplexedChannelRecord> connections;
     private final Duration idleConnectionTimeout;
+    private final Http2StreamPlacement streamPlacement;
 
     private AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -101,10 +104,22 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     Http2MultiplexedChannelPool(ChannelPool connectionPool,
                                 EventLoopGroup eventLoopGroup,
                                 Duration idleConnectionTimeout) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, Http2StreamPlacementStrategy.FIRST_AVAILABLE);
+    }
+
+    /**
+     * @param connectionPool Connection pool for parent channels (i.e. the socket channel).
+     * @param streamPlacementStrategy How new streams are placed on the open connections.
+     */
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Duration idleConnectionTimeout,
+                                Http2StreamPlacementStrategy streamPlacementStrategy) {
         this.connectionPool = connectionPool;
         this.eventLoopGroup = eventLoopGroup;
         this.connections = ConcurrentHashMap.newKeySet();
         this.idleConnectionTimeout = idleConnectionTimeout;
+        this.streamPlacement = Http2StreamPlacement.create(streamPlacementStrategy);
     }
 
     @SdkTestInternalApi
@@ -112,7 +127,16 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
                                 EventLoopGroup eventLoopGroup,
                                 Set<MultiplexedChannelRecord> connections,
                                 Duration idleConnectionTimeout) {
-        this(connectionPool, eventLoopGroup, idleConnectionTimeout);
+        this(connectionPool, eventLoopGroup, connections, idleConnectionTimeout, Http2StreamPlacementStrategy.FIRST_AVAILABLE);
+    }
+
+    @SdkTestInternalApi
+    Http2MultiplexedChannelPool(ChannelPool connectionPool,
+                                EventLoopGroup eventLoopGroup,
+                                Set<MultiplexedChannelRecord> connections,
+                                Duration idleConnectionTimeout,
+                                Http2StreamPlacementStrategy streamPlacementStrategy) {
+        this(connectionPool, eventLoopGroup, idleConnectionTimeout, streamPlacementStrategy);
         this.connections.addAll(connections);
     }
 
@@ -127,7 +151,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
             return promise.setFailure(new IOException("Channel pool is closed!"));
         }
 
-        for (MultiplexedChannelRecord multiplexedChannel : connections) {
+        for (MultiplexedChannelRecord multiplexedChannel : streamPlacement.order(connections)) {
             if (acquireStreamOnInitializedConnection(multiplexedChannel, promise)) {
                 return promise;
             }
@@ -163,19 +187,7 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
 
     private void acquireStreamOnFreshConnection(Promise<Channel> promise, Channel parentChannel, Protocol protocol) {
         try {
-            Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
-
-            Validate.isTrue(protocol == Protocol.HTTP2,
-                            "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
-                            + "was %s.", parentChannel, Protocol.HTTP1_1);
-            Validate.isTrue(maxStreams != null,
-                            "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
-                            + "streams was not initialized.", parentChannel);
-            Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
-
-            MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
-                                                                                       idleConnectionTimeout);
-            parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+            MultiplexedChannelRecord multiplexedChannel = newChannelRecord(parentChannel, protocol);
 
             Promise<Channel> streamPromise = parentChannel.eventLoop().newPromise();
 
@@ -199,14 +211,30 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         }
     }
 
+    private MultiplexedChannelRecord newChannelRecord(Channel parentChannel, Protocol protocol) {
+        Long maxStreams = parentChannel.attr(MAX_CONCURRENT_STREAMS).get();
+
+        Validate.isTrue(protocol == Protocol.HTTP2,
+                        "Protocol negotiated on connection (%s) was expected to be HTTP/2, but it "
+                        + "was %s.", parentChannel, Protocol.HTTP1_1);
+        Validate.isTrue(maxStreams != null,
+                        "HTTP/2 was negotiated on the connection (%s), but the maximum number of "
+                        + "streams was not initialized.", parentChannel);
+        Validate.isTrue(maxStreams > 0, "Maximum streams were not positive on channel (%s).", parentChannel);
+
+        MultiplexedChannelRecord multiplexedChannel = new MultiplexedChannelRecord(parentChannel, maxStreams,
+                                                                                   idleConnectionTimeout);
+        parentChannel.attr(MULTIPLEXED_CHANNEL).set(multiplexedChannel);
+        multiplexedChannel.closeWhenIdle();
+        return multiplexedChannel;
+    }
+
     private void cacheConnectionForFutureStreams(Channel stream,
                                                  MultiplexedChannelRecord multiplexedChannel,
                                                  Promise<Channel> promise) {
         Channel parentChannel = stream.parent();
 
-        // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
-        parentChannel.pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
-        connections.add(multiplexedChannel);
+        cacheConnection(multiplexedChannel);
 
         if (closed.get()) {
             // Whoops, we were closed while we were setting up. Make sure everything here is cleaned up properly.
@@ -218,6 +246,64 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         promise.setSuccess(stream);
     }
 
+    private void cacheConnection(MultiplexedChannelRecord multiplexedChannel) {
+        // Before we cache the connection, make sure that exceptions on the connection will remove it from the cache.
+        multiplexedChannel.getConnection().pipeline().addLast(ReleaseOnExceptionHandler.INSTANCE);
+        connections.add(multiplexedChannel);
+    }
+
+    /**
+     * Open new connections until the pool has at least the given number of them, without opening streams on them. This
+     * returns immediately. A connection that fails to be established is not retried; the pool will open connections on
+     * demand as usual.
+     */
+    void prewarm(int connectionCount) {
+        for (int i = connections.size(); i < connectionCount; i++) {
+            prewarmConnection();
+        }
+    }
+
+    private void prewarmConnection() {
+        if (closed.get()) {
+            return;
+        }
+
+        Future<Channel> newConnectionAcquire = connectionPool.acquire();
+        newConnectionAcquire.addListener(f -> {
+            if (!newConnectionAcquire.isSuccess()) {
+                log.debug(null, () -> "Failed to prewarm an HTTP/2 connection.", newConnectionAcquire.cause());
+                return;
+            }
+
+            Channel parentChannel = newConnectionAcquire.getNow();
+            try {
+                parentChannel.attr(HTTP2_MULTIPLEXED_CHANNEL_POOL).set(this);
+                parentChannel.attr(PROTOCOL_FUTURE).get()
+                             .thenAccept(protocol -> cachePrewarmedConnection(parentChannel, protocol))
+                             .exceptionally(throwable -> closeUnusedParent(parentChannel, throwable));
+            } catch (Throwable e) {
+                closeUnusedParent(parentChannel, e);
+            }
+        });
+    }
+
+    private void cachePrewarmedConnection(Channel parentChannel, Protocol protocol) {
+        try {
+            cacheConnection(newChannelRecord(parentChannel, protocol));
+            if (closed.get()) {
+                closeAndReleaseParent(parentChannel);
+            }
+        } catch (Throwable e) {
+            closeUnusedParent(parentChannel, e);
+        }
+    }
+
+    private Void closeUnusedParent(Channel parentChannel, Throwable exception) {
+        log.debug(parentChannel, () -> "Failed to prewarm connection, closing connection " + parentChannel, exception);
+        closeAndReleaseParent(parentChannel);
+        return null;
+    }
+
     /**
      * By default, connection window size is a constant value:
      * connectionWindowSize = 65535 + (configureInitialWindowSize - 65535) * 2.
@@ -428,21 +514,28 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
     public CompletableFuture<Void> collectChannelPoolMetrics(MetricCollector metrics) {
         CompletableFuture<Void> result = new CompletableFuture<>();
 
-        CompletableFuture<MultiplexedChannelRecord.Metrics> summedMetrics = new CompletableFuture<>();
+        CompletableFuture<List<MultiplexedChannelRecord.Metrics>> allMetrics = new CompletableFuture<>();
 
         List<CompletableFuture<MultiplexedChannelRecord.Metrics>> channelMetrics =
             connections.stream()
                        .map(MultiplexedChannelRecord::getMetrics)
                        .collect(toList());
 
-        accumulateMetrics(summedMetrics, channelMetrics);
+        accumulateMetrics(allMetrics, channelMetrics);
 
-        summedMetrics.whenComplete((m, t) -> {
+        allMetrics.whenComplete((m, t) -> {
             if (t != null) {
                 result.completeExceptionally(t);
             } else {
                 try {
-                    metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, Math.toIntExact(m.getAvailableStreams()));
+                    MultiplexedChannelRecord.Metrics summedMetrics = new MultiplexedChannelRecord.Metrics();
+                    for (MultiplexedChannelRecord.Metrics connectionMetrics : m) {
+                        summedMetrics.add(connectionMetrics);
+                        metrics.reportMetric(Http2Metric.STREAMS_PER_CONNECTION,
+                                             Math.toIntExact(connectionMetrics.getActiveStreams()));
+                    }
+                    metrics.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, Math.toIntExact(summedMetrics.getAvailableStreams()));
+                    metrics.reportMetric(Http2Metric.OPEN_CONNECTIONS, m.size());
                     result.complete(null);
                 } catch (Exception e) {
                     result.completeExceptionally(e);
@@ -453,14 +546,14 @@ public class Http2MultiplexedChannelPool implements SdkChannelPool {
         return result;
     }
 
-    private void accumulateMetrics(CompletableFuture<MultiplexedChannelRecord.Metrics> result,
+    private void accumulateMetrics(CompletableFuture<List<MultiplexedChannelRecord.Metrics>> result,
                                    List<CompletableFuture<MultiplexedChannelRecord.Metrics>> channelMetrics) {
-        accumulateMetrics(result, channelMetrics, new MultiplexedChannelRecord.Metrics(), 0);
+        accumulateMetrics(result, channelMetrics, new ArrayList<>(channelMetrics.size()), 0);
     }
 
-    private void accumulateMetrics(CompletableFuture<MultiplexedChannelRecord.Metrics> result,
+    private void accumulateMetrics(CompletableFuture<List<MultiplexedChannelRecord.Metrics>> result,
                                    List<CompletableFuture<MultiplexedChannelRecord.Metrics>> channelMetrics,
-                                   MultiplexedChannelRecord.Metrics resultAccumulator,
+                                   List<MultiplexedChannelRecord.Metrics> resultAccumulator,
                                    int index) {
         if (index >= channelMetrics.size()) {
             result.complete(resultAccumulator);
@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
+
+/**
+ * Orders the open connections of an {@link Http2MultiplexedChannelPool} by how preferable they are for a new stream, according
+ * to a {@link Http2StreamPlacementStrategy}.
+ *
+ * <p>The load of each connection is read without synchronization, so the order is a best effort. The pool tries each
+ * connection in the returned order until one has a free stream, so a stale reading never prevents a stream from being
+ * placed.</p>
+ */
+@SdkInternalApi
+abstract class Http2StreamPlacement {
+    private static final Comparator<WeightedRecord> LEAST_LOADED =
+        Comparator.<WeightedRecord>comparingLong(r -> r.primaryLoad).thenComparingLong(r -> r.secondaryLoad);
+
+    static Http2StreamPlacement create(Http2StreamPlacementStrategy strategy) {
+        if (strategy == null) {
+            return FirstAvailable.INSTANCE;
+        }
+        switch (strategy) {
+            case FIRST_AVAILABLE:
+                return FirstAvailable.INSTANCE;
+            case LEAST_OUTSTANDING_STREAMS:
+                return LeastOutstandingStreams.INSTANCE;
+            case POWER_OF_TWO_CHOICES:
+                return PowerOfTwoChoices.INSTANCE;
+            case LEAST_PENDING_BYTES:
+                return LeastPendingBytes.INSTANCE;
+            default:
+                throw new IllegalArgumentException("Unsupported stream placement strategy: " + strategy);
+        }
+    }
+
+    /**
+     * Return the given connections, most preferable first.
+     */
+    abstract Iterable<MultiplexedChannelRecord> order(Collection<MultiplexedChannelRecord> connections);
+
+    /**
+     * Sort the connections by the load they had when this was called. The loads are captured up front because they may
+     * change while sorting, which would break the comparator's contract.
+     */
+    private static List<MultiplexedChannelRecord> sortByLoad(Collection<MultiplexedChannelRecord> connections,
+                                                             boolean pendingBytesFirst) {
+        List<WeightedRecord> weighted = new ArrayList<>(connections.size());
+        for (MultiplexedChannelRecord connection : connections) {
+            long outstandingStreams = connection.outstandingStreams();
+            weighted.add(pendingBytesFirst
+                         ? new WeightedRecord(connection, connection.pendingWriteBytes(), outstandingStreams)
+                         : new WeightedRecord(connection, outstandingStreams, 0));
+        }
+        weighted.sort(LEAST_LOADED);
+
+        List<MultiplexedChannelRecord> result = new ArrayList<>(weighted.size());
+        for (WeightedRecord record : weighted) {
+            result.add(record.record);
+        }
+        return result;
+    }
+
+    private static final class FirstAvailable extends Http2StreamPlacement {
+        private static final FirstAvailable INSTANCE = new FirstAvailable();
+
+        @Override
+        Iterable<MultiplexedChannelRecord> order(Collection<MultiplexedChannelRecord> connections) {
+            return connections;
+        }
+    }
+
+    private static final class LeastOutstandingStreams extends Http2StreamPlacement {
+        private static final LeastOutstandingStreams INSTANCE = new LeastOutstandingStreams();
+
+        @Override
+        Iterable<MultiplexedChannelRecord> order(Collection<MultiplexedChannelRecord> connections) {
+            return sortByLoad(connections, false);
+        }
+    }
+
+    private static final class LeastPendingBytes extends Http2StreamPlacement {
+        private static final LeastPendingBytes INSTANCE = new LeastPendingBytes();
+
+        @Override
+        Iterable<MultiplexedChannelRecord> order(Collection<MultiplexedChannelRecord> connections) {
+            return sortByLoad(connections, true);
+        }
+    }
+
+    /**
+     * Compares two randomly chosen connections and puts the less loaded one first. The remaining connections follow in
+     * iteration order, and are only tried if both chosen connections turn out to be full.
+     */
+    private static final class PowerOfTwoChoices extends Http2StreamPlacement {
+        private static final PowerOfTwoChoices INSTANCE = new PowerOfTwoChoices();
+
+        @Override
+        Iterable<MultiplexedChannelRecord> order(Collection<MultiplexedChannelRecord> connections) {
+            List<MultiplexedChannelRecord> result = new ArrayList<>(connections);
+            int size = result.size();
+            if (size < 2) {
+                return result;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(size);
+            int second = random.nextInt(size - 1);
+            if (second >= first) {
+                second++;
+            }
+
+            MultiplexedChannelRecord firstChoice = result.get(first);
+            MultiplexedChannelRecord secondChoice = result.get(second);
+            if (secondChoice.outstandingStreams() < firstChoice.outstandingStreams()) {
+                MultiplexedChannelRecord swap = firstChoice;
+                firstChoice = secondChoice;
+                secondChoice = swap;
+            }
+
+            // Move the two choices to the front, keeping the others in their original relative order.
+            result.remove(Math.max(first, second));
+            result.remove(Math.min(first, second));
+            result.add(0, secondChoice);
+            result.add(0, firstChoice);
+            return result;
+        }
+    }
+
+    private static final class WeightedRecord {
+        private final MultiplexedChannelRecord record;
+        private final long primaryLoad;
+        private final long secondaryLoad;
+
+        private WeightedRecord(MultiplexedChannelRecord record, long primaryLoad, long secondaryLoad) {
+            this.record = record;
+            this.primaryLoad = primaryLoad;
+            this.secondaryLoad = secondaryLoad;
+        }
+    }
+}
@@ -33,6 +33,7 @@ import software.amazon.awssdk.http.Protocol;
 import software.amazon.awssdk.http.nio.netty.internal.IdleConnectionCountingChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.NettyConfiguration;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
+import software.amazon.awssdk.http.nio.netty.internal.utils.AdaptiveConcurrencyLimit;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool;
 import software.amazon.awssdk.metrics.MetricCollector;
 
@@ -52,6 +53,8 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
     private boolean protocolImplPromiseInitializationStarted = false;
     private Promise<ChannelPool> protocolImplPromise;
     private BetterFixedChannelPool protocolImpl;
+    private Http2MultiplexedChannelPool http2Pool;
+    private int prewarmConnections;
     private boolean closed;
 
     public HttpOrHttp2ChannelPool(ChannelPool delegatePool,
@@ -166,11 +169,17 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .concurrencyLimit(AdaptiveConcurrencyLimit.create(
+                                                     configuration.concurrencyLimitMode(), maxConcurrency))
                                                  .build();
         } else {
             Duration idleConnectionTimeout = configuration.reapIdleConnections()
                                              ? Duration.ofMillis(configuration.idleTimeoutMillis()) : null;
-            SdkChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup, idleConnectionTimeout);
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(delegatePool, eventLoopGroup,
+                                                                                 idleConnectionTimeout,
+                                                                                 configuration.http2StreamPlacementStrategy());
+            prewarmConnections = Math.min(configuration.http2PrewarmConnections(), maxConcurrency);
+            http2Pool = h2Pool;
             protocolImpl = BetterFixedChannelPool.builder()
                                                  .channelPool(h2Pool)
                                                  .executor(eventLoop)
@@ -178,12 +187,17 @@ public class HttpOrHttp2ChannelPool implements SdkChannelPool {
                                                  .acquireTimeoutMillis(configuration.connectionAcquireTimeoutMillis())
                                                  .maxConnections(maxConcurrency)
                                                  .maxPendingAcquires(configuration.maxPendingConnectionAcquires())
+                                                 .concurrencyLimit(AdaptiveConcurrencyLimit.create(
+                                                     configuration.concurrencyLimitMode(), maxConcurrency))
                                                  .build();
         }
         // Give the channel back so it can be acquired again by protocolImpl
         // Await the release completion to ensure we do not unnecessarily acquire a second channel
         delegatePool.release(newChannel).addListener(runOrPropagate(protocolImplPromise, () -> {
             protocolImplPromise.trySuccess(protocolImpl);
+            if (http2Pool != null && prewarmConnections > 0) {
+                http2Pool.prewarm(prewarmConnections);
+            }
         }));
     }
 
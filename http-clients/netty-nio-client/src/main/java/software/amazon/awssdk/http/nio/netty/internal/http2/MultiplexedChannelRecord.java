@@ -20,6 +20,7 @@ import static software.amazon.awssdk.http.nio.netty.internal.utils.NettyUtils.wa
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelId;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.channel.ChannelOutboundInvoker;
 import io.netty.handler.codec.http2.Http2GoAwayFrame;
 import io.netty.handler.codec.http2.Http2StreamChannel;
@@ -73,6 +74,19 @@ public class MultiplexedChannelRecord {
         this.maxConcurrencyPerConnection = maxConcurrencyPerConnection;
         this.availableChildChannels = new AtomicLong(maxConcurrencyPerConnection);
         this.allowedIdleConnectionTimeMillis = allowedIdleConnectionTime == null ? null : allowedIdleConnectionTime.toMillis();
+        this.lastReserveAttemptTimeMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Close the connection once it has been idle for the allowed idle connection time, if one is configured, even if no
+     * stream is ever acquired on it.
+     */
+    void closeWhenIdle() {
+        doInEventLoop(connection.eventLoop(), () -> {
+            if (closeIfIdleTask == null && allowedIdleConnectionTimeMillis != null) {
+                enableCloseIfIdleTask();
+            }
+        });
     }
 
     boolean acquireStream(Promise<Channel> promise) {
@@ -279,6 +293,22 @@ public class MultiplexedChannelRecord {
         return connection;
     }
 
+    /**
+     * The number of streams claimed on this connection, including streams that are still being opened. This may be called
+     * from any thread.
+     */
+    long outstandingStreams() {
+        return Math.max(0, maxConcurrencyPerConnection - availableChildChannels.get());
+    }
+
+    /**
+     * The number of bytes queued to be written to this connection's socket. This may be called from any thread.
+     */
+    long pendingWriteBytes() {
+        ChannelOutboundBuffer outboundBuffer = connection.unsafe().outboundBuffer();
+        return outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes();
+    }
+
     private boolean claimStream() {
         lastReserveAttemptTimeMillis = System.currentTimeMillis();
         for (int attempt = 0; attempt < 5; ++attempt) {
@@ -308,7 +338,8 @@ public class MultiplexedChannelRecord {
         CompletableFuture<Metrics> result = new CompletableFuture<>();
         doInEventLoop(connection.eventLoop(), () -> {
             int streamCount = childChannels.size();
-            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount));
+            result.complete(new Metrics().setAvailableStreams(maxConcurrencyPerConnection - streamCount)
+                                         .setActiveStreams(streamCount));
         });
         return result;
     }
@@ -333,6 +364,7 @@ public class MultiplexedChannelRecord {
 
     public static class Metrics {
         private long availableStreams = 0;
+        private long activeStreams = 0;
 
         public long getAvailableStreams() {
             return availableStreams;
@@ -343,8 +375,18 @@ public class MultiplexedChannelRecord {
             return this;
         }
 
+        public long getActiveStreams() {
+            return activeStreams;
+        }
+
+        public Metrics setActiveStreams(long activeStreams) {
+            this.activeStreams = activeStreams;
+            return this;
+        }
+
         public void add(Metrics rhs) {
             this.availableStreams += rhs.availableStreams;
+            this.activeStreams += rhs.activeStreams;
         }
     }
 }
@@ -15,11 +15,17 @@
 
 package software.amazon.awssdk.http.nio.netty.internal.nrs;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.FileRegion;
 import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -29,6 +35,10 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * Subscriber that publishes received messages to the handler pipeline.
+ * <p>
+ * By default, each message is flushed as soon as it is written. When a flush threshold is configured, messages are written
+ * without flushing until the written bytes reach the threshold, the flush delay expires, or no more messages have been
+ * requested, so that small messages are sent to the socket together.
  *
  * This class contains source imported from https://github.com/playframework/netty-reactive-streams,
  * licensed under the Apache License 2.0, available at the time of the fork (1/31/2020) here:
@@ -45,6 +55,8 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
     private final EventExecutor executor;
     private final long demandLowWatermark;
     private final long demandHighWatermark;
+    private final long flushThresholdBytes;
+    private final long flushDelayNanos;
 
     private final AtomicBoolean hasSubscription = new AtomicBoolean();
 
@@ -54,6 +66,9 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
     private State state = HandlerSubscriber.State.NO_SUBSCRIPTION_OR_CONTEXT;
     private long outstandingDemand = 0;
     private ChannelFuture lastWriteFuture;
+    private long undeliveredDemand = 0;
+    private long unflushedBytes = 0;
+    private ScheduledFuture<?> flushTask;
 
     /**
      * Create a new handler subscriber.
@@ -66,9 +81,29 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
      * @param demandHighWatermark The high watermark for demand. This is the maximum that will be requested.
      */
     public HandlerSubscriber(EventExecutor executor, long demandLowWatermark, long demandHighWatermark) {
+        this(executor, demandLowWatermark, demandHighWatermark, 0, 0);
+    }
+
+    /**
+     * Create a new handler subscriber that coalesces the writes of the received messages.
+     *
+     * The supplied executor must be the same event loop as the event loop that this handler is eventually registered
+     * with, if not, an exception will be thrown when the handler is registered.
+     *
+     * @param executor The executor to execute asynchronous events from the publisher on.
+     * @param demandLowWatermark  The low watermark for demand. When demand drops below this, more will be requested.
+     * @param demandHighWatermark The high watermark for demand. This is the maximum that will be requested.
+     * @param flushThresholdBytes The number of written bytes after which the channel is flushed. If 0, every message is
+     * flushed as soon as it is written.
+     * @param flushDelayNanos The maximum time a written message may wait for a flush.
+     */
+    public HandlerSubscriber(EventExecutor executor, long demandLowWatermark, long demandHighWatermark,
+                             long flushThresholdBytes, long flushDelayNanos) {
         this.executor = executor;
         this.demandLowWatermark = demandLowWatermark;
         this.demandHighWatermark = demandHighWatermark;
+        this.flushThresholdBytes = flushThresholdBytes;
+        this.flushDelayNanos = flushDelayNanos;
     }
 
     /**
@@ -175,6 +210,7 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
 
     @Override
     public void handlerRemoved(ChannelHandlerContext ctx) throws Exception {
+        cancelFlushTask();
         cancel();
     }
 
@@ -243,9 +279,30 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
 
     @Override
     public void onNext(T t) {
-        // Publish straight to the context.
         Validate.notNull(t, "Event must not be null.");
-        lastWriteFuture = ctx.writeAndFlush(t);
+        if (flushThresholdBytes <= 0) {
+            // Publish straight to the context.
+            lastWriteFuture = ctx.writeAndFlush(t);
+            lastWriteFuture.addListener(new ChannelFutureListener() {
+                @Override
+                public void operationComplete(ChannelFuture future) throws Exception {
+                    outstandingDemand--;
+                    maybeRequestMore();
+                }
+            });
+        } else if (executor.inEventLoop()) {
+            coalescedWrite(t);
+        } else {
+            executor.execute(() -> coalescedWrite(t));
+        }
+    }
+
+    /**
+     * Write the message without flushing, unless enough bytes are waiting for a flush or no more messages will be
+     * received until the written ones have been flushed. Must be called from the event loop.
+     */
+    private void coalescedWrite(T t) {
+        lastWriteFuture = ctx.write(t);
         lastWriteFuture.addListener(new ChannelFutureListener() {
             @Override
             public void operationComplete(ChannelFuture future) throws Exception {
@@ -253,6 +310,41 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
                 maybeRequestMore();
             }
         });
+
+        undeliveredDemand--;
+        unflushedBytes += sizeOf(t);
+        if (unflushedBytes >= flushThresholdBytes || undeliveredDemand <= 0 || !ctx.channel().isWritable()) {
+            flush();
+        } else if (flushTask == null) {
+            flushTask = executor.schedule((Runnable) this::flush, flushDelayNanos, NANOSECONDS);
+        }
+    }
+
+    private void flush() {
+        cancelFlushTask();
+        unflushedBytes = 0;
+        ctx.flush();
+    }
+
+    private void cancelFlushTask() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+    }
+
+    private long sizeOf(T t) {
+        if (t instanceof ByteBufHolder) {
+            return ((ByteBufHolder) t).content().readableBytes();
+        }
+        if (t instanceof ByteBuf) {
+            return ((ByteBuf) t).readableBytes();
+        }
+        if (t instanceof FileRegion) {
+            return ((FileRegion) t).count();
+        }
+        // Unknown size, make sure it is flushed right away
+        return flushThresholdBytes;
     }
 
     @Override
@@ -265,6 +357,18 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
 
     @Override
     public void onComplete() {
+        if (flushThresholdBytes > 0) {
+            // Complete once the coalesced writes that are still queued on the event loop have been flushed
+            executor.execute(() -> {
+                flush();
+                completeAfterLastWrite();
+            });
+        } else {
+            completeAfterLastWrite();
+        }
+    }
+
+    private void completeAfterLastWrite() {
         if (lastWriteFuture == null) {
             complete();
         } else {
@@ -300,6 +404,7 @@ public class HandlerSubscriber<T> extends ChannelDuplexHandler implements Subscr
             long toRequest = demandHighWatermark - outstandingDemand;
 
             outstandingDemand = demandHighWatermark;
+            undeliveredDemand += toRequest;
             subscription.request(toRequest);
         }
     }
@@ -70,6 +70,17 @@ public class HttpStreamsClientHandler extends HttpStreamsHandler<HttpResponse, H
         super(HttpResponse.class, HttpRequest.class);
     }
 
+    /**
+     * Create a handler that coalesces the writes of request bodies.
+     *
+     * @param flushThresholdBytes The number of bytes of a request body that are written before flushing, or 0 to flush
+     * every part of the body as soon as it is written.
+     * @param flushDelayNanos The maximum time a written part of a request body may wait for a flush.
+     */
+    public HttpStreamsClientHandler(long flushThresholdBytes, long flushDelayNanos) {
+        super(HttpResponse.class, HttpRequest.class, flushThresholdBytes, flushDelayNanos);
+    }
+
     @Override
     protected boolean hasBody(HttpResponse response) {
         if (response.status().code() >= 100 && response.status().code() < 200) {
@@ -49,6 +49,8 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
     private final Queue<Outgoing> outgoing = new LinkedList<>();
     private final Class<InT> inClass;
     private final Class<OutT> outClass;
+    private final long flushThresholdBytes;
+    private final long flushDelayNanos;
 
     /**
      * The incoming message that is currently being streamed out to a subscriber.
@@ -77,8 +79,20 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
     private boolean sendLastHttpContent;
 
     HttpStreamsHandler(Class<InT> inClass, Class<OutT> outClass) {
+        this(inClass, outClass, 0, 0);
+    }
+
+    /**
+     * @param flushThresholdBytes The number of bytes of an outgoing body that are written before flushing, or 0 to flush
+     * every part of the body as soon as it is written.
+     * @param flushDelayNanos The maximum time a written part of an outgoing body may wait for a flush.
+     * @see HandlerSubscriber#HandlerSubscriber(io.netty.util.concurrent.EventExecutor, long, long, long, long)
+     */
+    HttpStreamsHandler(Class<InT> inClass, Class<OutT> outClass, long flushThresholdBytes, long flushDelayNanos) {
         this.inClass = inClass;
         this.outClass = outClass;
+        this.flushThresholdBytes = flushThresholdBytes;
+        this.flushDelayNanos = flushDelayNanos;
     }
 
     /**
@@ -303,7 +317,9 @@ abstract class HttpStreamsHandler<InT extends HttpMessage, OutT extends HttpMess
 
         } else if (out.message instanceof StreamedHttpMessage) {
             StreamedHttpMessage streamed = (StreamedHttpMessage) out.message;
-            HandlerSubscriber<HttpContent> subscriber = new HandlerSubscriber<HttpContent>(ctx.executor()) {
+            HandlerSubscriber<HttpContent> subscriber = new HandlerSubscriber<HttpContent>(
+                ctx.executor(), HandlerSubscriber.DEFAULT_LOW_WATERMARK, HandlerSubscriber.DEFAULT_HIGH_WATERMARK,
+                flushThresholdBytes, flushDelayNanos) {
                 @Override
                 protected void error(Throwable error) {
                     out.promise.tryFailure(error);
@@ -0,0 +1,177 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.ConcurrencyLimitMode;
+
+/**
+ * A concurrency limit that is adjusted based on samples of how long requests hold a channel from a
+ * {@link BetterFixedChannelPool}, between 1 and the configured maximum concurrency.
+ * <p>
+ * The limit only grows while at least half of it is in use, so that a limit that isn't reached, for example because
+ * requests are waiting on the caller rather than on the pool, isn't increased indefinitely.
+ * <p>
+ * This class is not thread safe. It is only accessed from the event loop of the pool that owns it.
+ */
+@SdkInternalApi
+public abstract class AdaptiveConcurrencyLimit {
+    static final int INITIAL_LIMIT = 20;
+
+    private final int maxLimit;
+    private double limit;
+
+    AdaptiveConcurrencyLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+        this.limit = Math.min(INITIAL_LIMIT, maxLimit);
+    }
+
+    /**
+     * Create the limit for the provided mode, or null if the concurrency is not adaptive.
+     */
+    public static AdaptiveConcurrencyLimit create(ConcurrencyLimitMode mode, int maxLimit) {
+        if (mode == null) {
+            return null;
+        }
+        switch (mode) {
+            case FIXED:
+                return null;
+            case AIMD:
+                return new Aimd(maxLimit);
+            case VEGAS:
+                return new Vegas(maxLimit);
+            default:
+                throw new IllegalArgumentException("Unsupported concurrency limit mode: " + mode);
+        }
+    }
+
+    /**
+     * The current number of requests that are allowed to hold a channel at the same time.
+     */
+    public int limit() {
+        return (int) limit;
+    }
+
+    /**
+     * Record a request that held a channel for {@code latencyNanos}, while {@code inFlight} channels were acquired.
+     */
+    public void onSample(long latencyNanos, int inFlight) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+        update(latencyNanos, inFlight * 2 >= limit());
+    }
+
+    /**
+     * Record a failure to acquire a new channel, such as a connection that could not be established.
+     */
+    public void onDrop() {
+        setLimit(decrease(limit));
+    }
+
+    abstract void update(long latencyNanos, boolean limitInUse);
+
+    abstract double decrease(double currentLimit);
+
+    double currentLimit() {
+        return limit;
+    }
+
+    void setLimit(double newLimit) {
+        limit = Math.max(1, Math.min(maxLimit, newLimit));
+    }
+
+    static final class Aimd extends AdaptiveConcurrencyLimit {
+        private static final double BACKOFF_RATIO = 0.9;
+        private static final double LATENCY_TOLERANCE = 2.0;
+        private static final double SMOOTHING = 0.1;
+
+        private double averageLatencyNanos;
+
+        Aimd(int maxLimit) {
+            super(maxLimit);
+        }
+
+        @Override
+        void update(long latencyNanos, boolean limitInUse) {
+            double average = averageLatencyNanos;
+            averageLatencyNanos = average == 0 ? latencyNanos : average + SMOOTHING * (latencyNanos - average);
+
+            if (average > 0 && latencyNanos > LATENCY_TOLERANCE * average) {
+                setLimit(decrease(currentLimit()));
+            } else if (limitInUse) {
+                setLimit(currentLimit() + 1);
+            }
+        }
+
+        @Override
+        double decrease(double currentLimit) {
+            return Math.floor(currentLimit * BACKOFF_RATIO);
+        }
+    }
+
+    static final class Vegas extends AdaptiveConcurrencyLimit {
+        /**
+         * The minimum latency is reset after this many times the current limit in samples, so that the limit recovers when
+         * the latency of the endpoint permanently increases, for example after a failover.
+         */
+        private static final int PROBE_MULTIPLIER = 30;
+
+        private long minLatencyNanos;
+        private long samplesSinceProbe;
+
+        Vegas(int maxLimit) {
+            super(maxLimit);
+        }
+
+        @Override
+        void update(long latencyNanos, boolean limitInUse) {
+            if (++samplesSinceProbe >= PROBE_MULTIPLIER * (long) limit()) {
+                samplesSinceProbe = 0;
+                minLatencyNanos = latencyNanos;
+                return;
+            }
+            if (minLatencyNanos == 0 || latencyNanos < minLatencyNanos) {
+                minLatencyNanos = latencyNanos;
+                return;
+            }
+
+            double current = currentLimit();
+            double log = log10(current);
+            // The estimated number of requests queued at the endpoint
+            int queueSize = (int) Math.ceil(current * (1 - (double) minLatencyNanos / latencyNanos));
+
+            if (queueSize > 6 * log) {
+                setLimit(current - log);
+            } else if (limitInUse) {
+                if (queueSize <= log) {
+                    setLimit(current + 6 * log);
+                } else if (queueSize < 3 * log) {
+                    setLimit(current + log);
+                }
+            }
+        }
+
+        @Override
+        double decrease(double currentLimit) {
+            return currentLimit - log10(currentLimit);
+        }
+
+        private static double log10(double value) {
+            return Math.max(1, Math.log10(value));
+        }
+    }
+}
@@ -35,17 +35,22 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.metrics.MetricCollector;
 
 /**
  * {@link ChannelPool} implementation that takes another {@link ChannelPool} implementation and enforce a maximum
  * number of concurrent connections.
+ * <p>
+ * When an {@link AdaptiveConcurrencyLimit} is configured, the number of concurrent connections is limited to its current
+ * value instead, which is never more than the maximum. The limit is updated with how long each channel was held when it's
+ * released, and with the failures of the delegate pool to acquire a channel.
  */
 //TODO: Contribute me back to Netty
 public class BetterFixedChannelPool implements SdkChannelPool {
     private static final IllegalStateException FULL_EXCEPTION = ThrowableUtil.unknownStackTrace(
-        new IllegalStateException("Too many outstanding acquire operations"),
+        new TooManyPendingAcquiresException("Too many outstanding acquire operations"),
         BetterFixedChannelPool.class, "acquire0(...)");
     private static final TimeoutException TIMEOUT_EXCEPTION = ThrowableUtil.unknownStackTrace(
         new TimeoutException("Acquire operation took longer than configured maximum time"),
@@ -79,6 +84,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     private final Queue<AcquireTask> pendingAcquireQueue = new ArrayDeque<>();
     private final int maxConnections;
     private final int maxPendingAcquires;
+    private final AdaptiveConcurrencyLimit concurrencyLimit;
     private int acquiredChannelCount;
     private int pendingAcquireCount;
     private boolean closed;
@@ -130,6 +136,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         }
         this.maxConnections = builder.maxConnections;
         this.maxPendingAcquires = builder.maxPendingAcquires;
+        this.concurrencyLimit = builder.concurrencyLimit;
     }
 
     @Override
@@ -160,6 +167,9 @@ public class BetterFixedChannelPool implements SdkChannelPool {
                 metrics.reportMetric(HttpMetric.MAX_CONCURRENCY, this.maxConnections);
                 metrics.reportMetric(HttpMetric.PENDING_CONCURRENCY_ACQUIRES, this.pendingAcquireCount);
                 metrics.reportMetric(HttpMetric.LEASED_CONCURRENCY, this.acquiredChannelCount);
+                if (concurrencyLimit != null) {
+                    metrics.reportMetric(HttpMetric.CONCURRENCY_LIMIT, concurrencyLimit.limit());
+                }
                 result.complete(null);
             } catch (Throwable t) {
                 result.completeExceptionally(t);
@@ -175,7 +185,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             promise.setFailure(POOL_CLOSED_ON_ACQUIRE_EXCEPTION);
             return;
         }
-        if (acquiredChannelCount < maxConnections) {
+        if (acquiredChannelCount < currentLimit()) {
             assert acquiredChannelCount >= 0;
 
             // We need to create a new promise as we need to ensure the AcquireListener runs in the correct
@@ -228,6 +238,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
                 }
 
                 if (future.isSuccess()) {
+                    recordLatency(channel);
                     decrementAndRunTaskQueue();
                     promise.setSuccess(null);
                 } else {
@@ -243,6 +254,20 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         return promise;
     }
 
+    private int currentLimit() {
+        return concurrencyLimit == null ? maxConnections : concurrencyLimit.limit();
+    }
+
+    private void recordLatency(Channel channel) {
+        if (concurrencyLimit == null) {
+            return;
+        }
+        Long leaseStartNanos = channel.attr(ChannelAttributeKey.LEASE_START_NANOS).getAndSet(null);
+        if (leaseStartNanos != null) {
+            concurrencyLimit.onSample(System.nanoTime() - leaseStartNanos, acquiredChannelCount);
+        }
+    }
+
     private void decrementAndRunTaskQueue() {
         --acquiredChannelCount;
 
@@ -257,7 +282,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
     }
 
     private void runTaskQueue() {
-        while (acquiredChannelCount < maxConnections) {
+        while (acquiredChannelCount < currentLimit()) {
             AcquireTask task = pendingAcquireQueue.poll();
             if (task == null) {
                 break;
@@ -340,9 +365,16 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             }
 
             if (future.isSuccess()) {
+                if (concurrencyLimit != null) {
+                    future.getNow().attr(ChannelAttributeKey.LEASE_START_NANOS).set(System.nanoTime());
+                }
                 originalPromise.setSuccess(future.getNow());
             } else {
                 if (acquired) {
+                    // The delegate pool failed to provide a channel, rather than the acquire timing out while pending
+                    if (concurrencyLimit != null) {
+                        concurrencyLimit.onDrop();
+                    }
                     decrementAndRunTaskQueue();
                 } else {
                     runTaskQueue();
@@ -405,6 +437,7 @@ public class BetterFixedChannelPool implements SdkChannelPool {
         private long acquireTimeoutMillis;
         private int maxConnections;
         private int maxPendingAcquires;
+        private AdaptiveConcurrencyLimit concurrencyLimit;
 
         private Builder() {
         }
@@ -439,6 +472,15 @@ public class BetterFixedChannelPool implements SdkChannelPool {
             return this;
         }
 
+        /**
+         * The limit to enforce instead of {@link #maxConnections(int)}, or null to always allow {@link #maxConnections(int)}
+         * concurrent connections.
+         */
+        public Builder concurrencyLimit(AdaptiveConcurrencyLimit concurrencyLimit) {
+            this.concurrencyLimit = concurrencyLimit;
+            return this;
+        }
+
         public BetterFixedChannelPool build() {
             return new BetterFixedChannelPool(this);
         }
@@ -0,0 +1,225 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.http.nio.netty.TransportType;
+import software.amazon.awssdk.http.nio.netty.internal.DelegatingEventLoopGroup;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Creates event loop groups and channels for the Netty transports, loading the io_uring transport reflectively because it is
+ * an optional dependency.
+ */
+@SdkInternalApi
+public final class NativeTransports {
+    static final String IO_URING_PACKAGE = "io.netty.incubator.channel.uring.";
+
+    private static final Logger log = Logger.loggerFor(NativeTransports.class);
+
+    /**
+     * The native event loop groups created by {@link #newEventLoopGroup}. Only their channels get the
+     * {@link #lowLatencyChannelOptions}, so that event loop groups provided by the customer keep their own configuration.
+     */
+    private static final Set<EventLoopGroup> SDK_CREATED_GROUPS = Collections.synchronizedSet(
+        Collections.newSetFromMap(new WeakHashMap<>()));
+
+    private NativeTransports() {
+    }
+
+    /**
+     * Resolve {@link TransportType#AUTO} to the transport that should be used on this platform. The NIO transport is used if
+     * no transport is configured.
+     */
+    public static TransportType resolve(TransportType transportType) {
+        if (transportType == null) {
+            return TransportType.NIO;
+        }
+        if (transportType == TransportType.AUTO) {
+            return isEpollAvailable() ? TransportType.EPOLL : TransportType.NIO;
+        }
+        return transportType;
+    }
+
+    public static boolean isEpollAvailable() {
+        try {
+            return Epoll.isAvailable();
+        } catch (LinkageError e) {
+            log.debug(() -> "The epoll transport is not available.", e);
+            return false;
+        }
+    }
+
+    public static boolean isIoUringAvailable() {
+        try {
+            Class<?> ioUring = ClassLoaderHelper.loadClass(IO_URING_PACKAGE + "IOUring", false, (Class) null);
+            return (Boolean) ioUring.getMethod("isAvailable").invoke(null);
+        } catch (ClassNotFoundException e) {
+            return false;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug(() -> "The io_uring transport is not available.", e);
+            return false;
+        }
+    }
+
+    public static EventLoopGroup newEventLoopGroup(TransportType transportType, int numberOfThreads,
+                                                   ThreadFactory threadFactory) {
+        switch (transportType) {
+            case NIO:
+                return new NioEventLoopGroup(numberOfThreads, threadFactory);
+            case EPOLL:
+                if (!isEpollAvailable()) {
+                    throw new IllegalStateException("The epoll transport is not available. Make sure that the "
+                                                    + "netty-transport-native-epoll artifact for this platform is on the "
+                                                    + "classpath.", Epoll.unavailabilityCause());
+                }
+                return sdkCreated(new EpollEventLoopGroup(numberOfThreads, threadFactory));
+            case IO_URING:
+                if (!isIoUringAvailable()) {
+                    throw new IllegalStateException("The io_uring transport is not available. Make sure that the "
+                                                    + "netty-incubator-transport-native-io_uring artifact for this platform "
+                                                    + "is on the classpath and that the kernel supports io_uring.");
+                }
+                return sdkCreated(invokeSafely(() -> (EventLoopGroup) ioUringClass("IOUringEventLoopGroup")
+                    .getConstructor(int.class, ThreadFactory.class)
+                    .newInstance(numberOfThreads, threadFactory)));
+            default:
+                throw new IllegalArgumentException("Unsupported transport type: " + transportType);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends Channel> socketChannelFactory(TransportType transportType) {
+        switch (transportType) {
+            case NIO:
+                return NioSocketChannel::new;
+            case EPOLL:
+                return EpollSocketChannel::new;
+            case IO_URING:
+                return invokeSafely(() -> new ReflectiveChannelFactory(ioUringClass("IOUringSocketChannel")));
+            default:
+                throw new IllegalArgumentException("Unsupported transport type: " + transportType);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public static ChannelFactory<? extends DatagramChannel> datagramChannelFactory(TransportType transportType) {
+        switch (transportType) {
+            case NIO:
+                return NioDatagramChannel::new;
+            case EPOLL:
+                return EpollDatagramChannel::new;
+            case IO_URING:
+                return invokeSafely(() -> new ReflectiveChannelFactory(ioUringClass("IOUringDatagramChannel")));
+            default:
+                throw new IllegalArgumentException("Unsupported transport type: " + transportType);
+        }
+    }
+
+    /**
+     * The transport used by the provided event loop group, or null if it isn't one the SDK knows about.
+     */
+    public static TransportType transportOf(EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup instanceof DelegatingEventLoopGroup) {
+            return transportOf(((DelegatingEventLoopGroup) eventLoopGroup).getDelegate());
+        }
+        if (eventLoopGroup instanceof NioEventLoopGroup) {
+            return TransportType.NIO;
+        }
+        if (eventLoopGroup instanceof EpollEventLoopGroup) {
+            return TransportType.EPOLL;
+        }
+        if (eventLoopGroup.getClass().getName().equals(IO_URING_PACKAGE + "IOUringEventLoopGroup")) {
+            return TransportType.IO_URING;
+        }
+        return null;
+    }
+
+    /**
+     * Whether the provided event loop group, or the group it delegates to, was created by {@link #newEventLoopGroup}.
+     */
+    public static boolean isCreatedBySdk(EventLoopGroup eventLoopGroup) {
+        if (eventLoopGroup instanceof DelegatingEventLoopGroup) {
+            return isCreatedBySdk(((DelegatingEventLoopGroup) eventLoopGroup).getDelegate());
+        }
+        return SDK_CREATED_GROUPS.contains(eventLoopGroup);
+    }
+
+    /**
+     * The channel options that reduce the latency of new connections and of request/response exchanges, and that are only
+     * supported by the native transports: TCP_FASTOPEN_CONNECT sends the first request bytes with the SYN when the server
+     * supports TCP Fast Open, and TCP_QUICKACK acknowledges responses without waiting for the delayed ACK timer.
+     */
+    public static Map<ChannelOption<?>, Object> lowLatencyChannelOptions(TransportType transportType) {
+        if (transportType == TransportType.EPOLL) {
+            Map<ChannelOption<?>, Object> options = new HashMap<>();
+            options.put(EpollChannelOption.TCP_FASTOPEN_CONNECT, Boolean.TRUE);
+            options.put(EpollChannelOption.TCP_QUICKACK, Boolean.TRUE);
+            return options;
+        }
+        if (transportType == TransportType.IO_URING) {
+            Map<ChannelOption<?>, Object> options = new HashMap<>();
+            ioUringChannelOption("TCP_FASTOPEN_CONNECT").ifPresent(o -> options.put(o, Boolean.TRUE));
+            ioUringChannelOption("TCP_QUICKACK").ifPresent(o -> options.put(o, Boolean.TRUE));
+            return options;
+        }
+        return Collections.emptyMap();
+    }
+
+    private static EventLoopGroup sdkCreated(EventLoopGroup eventLoopGroup) {
+        SDK_CREATED_GROUPS.add(eventLoopGroup);
+        return eventLoopGroup;
+    }
+
+    private static Optional<ChannelOption<?>> ioUringChannelOption(String name) {
+        try {
+            Field field = ioUringClass("IOUringChannelOption").getField(name);
+            return Optional.of((ChannelOption<?>) field.get(null));
+        } catch (ReflectiveOperationException e) {
+            log.debug(() -> "The io_uring transport does not support the " + name + " option.", e);
+            return Optional.empty();
+        }
+    }
+
+    private static Class<?> ioUringClass(String simpleName) throws ClassNotFoundException {
+        return ClassLoaderHelper.loadClass(IO_URING_PACKAGE + simpleName, false, (Class) null);
+    }
+}
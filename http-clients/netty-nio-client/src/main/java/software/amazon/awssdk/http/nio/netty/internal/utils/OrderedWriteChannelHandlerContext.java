@@ -63,6 +63,13 @@ public class OrderedWriteChannelHandlerContext extends DelegatingChannelHandlerC
         return promise;
     }
 
+    @Override
+    public ChannelHandlerContext flush() {
+        // Flush after the writes that are still queued, or they would wait for the next flush
+        doInOrder(() -> super.flush());
+        return this;
+    }
+
     private ChannelFuture doInOrder(Consumer<ChannelPromise> task) {
         ChannelPromise promise = newPromise();
         if (!channel().eventLoop().inEventLoop()) {
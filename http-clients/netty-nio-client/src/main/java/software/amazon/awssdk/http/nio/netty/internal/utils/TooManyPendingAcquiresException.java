@@ -0,0 +1,29 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Raised by {@link BetterFixedChannelPool} when the number of requests waiting for a connection exceeds the configured
+ * maximum number of pending acquires.
+ */
+@SdkInternalApi
+public final class TooManyPendingAcquiresException extends IllegalStateException {
+    public TooManyPendingAcquiresException(String message) {
+        super(message);
+    }
+}
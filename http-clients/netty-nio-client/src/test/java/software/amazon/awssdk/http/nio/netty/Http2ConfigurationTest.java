@@ -89,4 +89,26 @@ public class Http2ConfigurationTest {
         expected.expect(IllegalArgumentException.class);
         Http2Configuration.builder().initialWindowSize(0);
     }
+
+    @Test
+    public void builder_streamPlacementAndPrewarm_roundTrip() {
+        Http2Configuration config1 = Http2Configuration.builder()
+                .streamPlacementStrategy(Http2StreamPlacementStrategy.POWER_OF_TWO_CHOICES)
+                .prewarmConnections(4)
+                .build();
+
+        Http2Configuration config2 = config1.toBuilder().build();
+
+        assertThat(config2.streamPlacementStrategy()).isEqualTo(Http2StreamPlacementStrategy.POWER_OF_TWO_CHOICES);
+        assertThat(config2.prewarmConnections()).isEqualTo(4);
+        assertThat(config1).isEqualTo(config2);
+        assertThat(config1.hashCode()).isEqualTo(config2.hashCode());
+        assertThat(config1).isNotEqualTo(config1.toBuilder().prewarmConnections(5).build());
+    }
+
+    @Test
+    public void builder_prewarmConnections_0_throws() {
+        expected.expect(IllegalArgumentException.class);
+        Http2Configuration.builder().prewarmConnections(0);
+    }
 }
@@ -125,6 +125,36 @@ public class Http2MetricsTest {
         }
     }
 
+    @Test
+    public void prewarmedConnectionsAreReportedPerConnection() throws InterruptedException {
+        try (SdkAsyncHttpClient client = NettyNioAsyncHttpClient.builder()
+                                                                .protocol(Protocol.HTTP2)
+                                                                .maxConcurrency(10)
+                                                                .http2Configuration(c -> c.maxStreams(3L)
+                                                                                          .prewarmConnections(3)
+                                                                                          .streamPlacementStrategy(
+                                                                                              Http2StreamPlacementStrategy
+                                                                                                  .LEAST_OUTSTANDING_STREAMS))
+                                                                .build()) {
+            MetricCollection metrics = null;
+            for (int i = 0; i < 50; i++) {
+                MetricCollector metricCollector = MetricCollector.create("test");
+                client.execute(createExecuteRequest(metricCollector)).join();
+                metrics = metricCollector.collect();
+                if (metrics.metricValues(Http2Metric.OPEN_CONNECTIONS).get(0) >= 3) {
+                    break;
+                }
+                Thread.sleep(100);
+            }
+
+            // The first request may open its own connection while the others are being prewarmed.
+            int openConnections = metrics.metricValues(Http2Metric.OPEN_CONNECTIONS).get(0);
+            assertThat(openConnections).isBetween(3, 4);
+            assertThat(metrics.metricValues(Http2Metric.STREAMS_PER_CONNECTION)).hasSize(openConnections);
+            assertThat(metrics.metricValues(Http2Metric.STREAMS_PER_CONNECTION)).allSatisfy(v -> assertThat(v).isBetween(0, 1));
+        }
+    }
+
     private AsyncExecuteRequest createExecuteRequest(MetricCollector metricCollector)  {
         URI uri = URI.create("http://localhost:" + SERVER.port());
         SdkHttpRequest request = createRequest(uri);
@@ -0,0 +1,237 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.binaryEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.postRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+import software.amazon.awssdk.http.async.SdkHttpFileContentPublisher;
+import software.amazon.awssdk.utils.AttributeMap;
+
+public class NettyNioAsyncHttpClientRequestBodyTest {
+    private static final int FILE_SIZE = 1024 * 1024;
+    private static final long POSITION = 100;
+
+    @TempDir
+    private Path tempDir;
+
+    private WireMockServer mockServer;
+    private NettyNioAsyncHttpClient client;
+    private Path file;
+    private byte[] fileContent;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort().dynamicHttpsPort());
+        mockServer.start();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200)));
+
+        fileContent = new byte[FILE_SIZE];
+        new Random().nextBytes(fileContent);
+        file = tempDir.resolve("body");
+        Files.write(file, fileContent);
+    }
+
+    @AfterEach
+    public void teardown() {
+        if (client != null) {
+            client.close();
+        }
+        mockServer.stop();
+    }
+
+    @Test
+    public void zeroCopyRequestBody_http_sendsFileWithoutSubscribing() throws Exception {
+        client = buildClient(NettyNioAsyncHttpClient.builder().zeroCopyRequestBody(true));
+        TestFileContentPublisher publisher = new TestFileContentPublisher();
+
+        sendRequest(URI.create("http://localhost:" + mockServer.port()), publisher);
+
+        assertThat(publisher.subscribed).isFalse();
+        assertFileRegionWasReceived();
+    }
+
+    @Test
+    public void zeroCopyRequestBody_fileTruncatedBeforeUpload_failsRequest() throws Exception {
+        client = buildClient(NettyNioAsyncHttpClient.builder().zeroCopyRequestBody(true));
+        Files.write(file, new byte[10]);
+
+        assertThatThrownBy(() -> sendRequest(URI.create("http://localhost:" + mockServer.port()),
+                                             new TestFileContentPublisher()))
+            .hasStackTraceContaining("The file is shorter than the request content");
+    }
+
+    @Test
+    public void zeroCopyRequestBody_https_readsThroughPublisher() throws Exception {
+        client = buildClient(NettyNioAsyncHttpClient.builder().zeroCopyRequestBody(true));
+        TestFileContentPublisher publisher = new TestFileContentPublisher();
+
+        sendRequest(URI.create("https://localhost:" + mockServer.httpsPort()), publisher);
+
+        assertThat(publisher.subscribed).isTrue();
+        assertFileRegionWasReceived();
+    }
+
+    @Test
+    public void zeroCopyRequestBodyDisabled_readsThroughPublisher() throws Exception {
+        client = buildClient(NettyNioAsyncHttpClient.builder());
+        TestFileContentPublisher publisher = new TestFileContentPublisher();
+
+        sendRequest(URI.create("http://localhost:" + mockServer.port()), publisher);
+
+        assertThat(publisher.subscribed).isTrue();
+        assertFileRegionWasReceived();
+    }
+
+    @Test
+    public void requestBodyFlushThreshold_sendsCompleteBody() throws Exception {
+        client = buildClient(NettyNioAsyncHttpClient.builder().requestBodyFlushThreshold(16 * 1024));
+        byte[] body = RandomStringUtils.randomAlphanumeric(100_000).getBytes(UTF_8);
+
+        sendRequest(URI.create("http://localhost:" + mockServer.port()), new SmallChunksContentPublisher(body));
+
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(binaryEqualTo(body)));
+    }
+
+    private void assertFileRegionWasReceived() {
+        byte[] expected = Arrays.copyOfRange(fileContent, (int) POSITION, FILE_SIZE);
+        mockServer.verify(postRequestedFor(urlPathEqualTo("/")).withRequestBody(binaryEqualTo(expected)));
+    }
+
+    private static NettyNioAsyncHttpClient buildClient(NettyNioAsyncHttpClient.Builder builder) {
+        return (NettyNioAsyncHttpClient) builder.buildWithDefaults(AttributeMap.builder()
+                                                                               .put(TRUST_ALL_CERTIFICATES, true)
+                                                                               .build());
+    }
+
+    private void sendRequest(URI endpoint, SdkHttpContentPublisher publisher) throws Exception {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(endpoint)
+                                                       .method(SdkHttpMethod.POST)
+                                                       .putHeader("Host", endpoint.getHost())
+                                                       .putHeader("Content-Length",
+                                                                  String.valueOf(publisher.contentLength().get()))
+                                                       .build();
+        RecordingResponseHandler handler = new RecordingResponseHandler();
+        client.execute(AsyncExecuteRequest.builder()
+                                          .request(request)
+                                          .requestContentPublisher(publisher)
+                                          .responseHandler(handler)
+                                          .build())
+              .get(10, TimeUnit.SECONDS);
+        assertThat(handler.responses).hasSize(1);
+        assertThat(handler.responses.get(0).statusCode()).isEqualTo(200);
+    }
+
+    /**
+     * Publishes its content in 100 byte buffers, honoring the demand of its subscriber.
+     */
+    private static final class SmallChunksContentPublisher implements SdkHttpContentPublisher {
+        private static final int CHUNK_SIZE = 100;
+        private final byte[] content;
+
+        private SmallChunksContentPublisher(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of((long) content.length);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            s.onSubscribe(new Subscription() {
+                private int position;
+                private boolean done;
+
+                @Override
+                public synchronized void request(long n) {
+                    for (long i = 0; i < n && position < content.length; i++) {
+                        int length = Math.min(CHUNK_SIZE, content.length - position);
+                        s.onNext(ByteBuffer.wrap(content, position, length));
+                        position += length;
+                    }
+                    if (position == content.length && !done) {
+                        done = true;
+                        s.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }
+    }
+
+    /**
+     * A file publisher that records whether it was subscribed to.
+     */
+    private final class TestFileContentPublisher implements SdkHttpFileContentPublisher {
+        private volatile boolean subscribed;
+
+        @Override
+        public Path path() {
+            return file;
+        }
+
+        @Override
+        public long position() {
+            return POSITION;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of(FILE_SIZE - POSITION);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> s) {
+            subscribed = true;
+            new SdkTestHttpContentPublisher(Arrays.copyOfRange(fileContent, (int) POSITION, FILE_SIZE)).subscribe(s);
+        }
+    }
+}
@@ -691,6 +691,23 @@ public class NettyNioAsyncHttpClientWireMockTest {
         customClient.close();
     }
 
+    @Test
+    public void adaptiveConcurrencyLimit_reportsConcurrencyLimitMetric() throws Exception {
+        SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
+                                                                 .maxConcurrency(10)
+                                                                 .concurrencyLimitMode(ConcurrencyLimitMode.AIMD)
+                                                                 .build();
+
+        RecordingResponseHandler handler = makeSimpleRequestAndReturnResponseHandler(customClient);
+        handler.executionFuture.get(10, TimeUnit.SECONDS);
+
+        MetricCollection metrics = handler.collector.collect();
+        assertThat(metrics.metricValues(HttpMetric.MAX_CONCURRENCY)).containsExactly(10);
+        assertThat(metrics.metricValues(HttpMetric.CONCURRENCY_LIMIT)).containsExactly(10);
+
+        customClient.close();
+    }
+
     @Test
     public void metricsAreCollectedForSuccessfulCalls() throws Exception {
         SdkAsyncHttpClient customClient = NettyNioAsyncHttpClient.builder()
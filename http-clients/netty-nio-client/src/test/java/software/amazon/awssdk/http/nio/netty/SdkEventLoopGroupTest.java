@@ -16,8 +16,11 @@
 package software.amazon.awssdk.http.nio.netty;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assume.assumeFalse;
 
 import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.epoll.Epoll;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
@@ -68,4 +71,83 @@ public class SdkEventLoopGroupTest {
     public void notProvidingChannelFactory_unknownEventLoopGroup() {
         SdkEventLoopGroup.create(new DefaultEventLoopGroup());
     }
+
+    @Test
+    public void defaultTransportType_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(1).build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void autoTransportType_usesEpollWhenAvailable() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transportType(TransportType.AUTO)
+                                                               .build();
+        try {
+            if (Epoll.isAvailable()) {
+                assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(EpollEventLoopGroup.class);
+                assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(EpollSocketChannel.class);
+                assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(EpollDatagramChannel.class);
+            } else {
+                assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+                assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+                assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+            }
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void nioTransportType_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transportType(TransportType.NIO)
+                                                               .build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.channelFactory().newChannel()).isInstanceOf(NioSocketChannel.class);
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void channelFactoryWithAutoTransportType_usesNio() {
+        SdkEventLoopGroup sdkEventLoopGroup = SdkEventLoopGroup.builder()
+                                                               .numberOfThreads(1)
+                                                               .transportType(TransportType.AUTO)
+                                                               .channelFactory(NioSocketChannel::new)
+                                                               .build();
+        try {
+            assertThat(sdkEventLoopGroup.eventLoopGroup()).isInstanceOf(NioEventLoopGroup.class);
+            assertThat(sdkEventLoopGroup.datagramChannelFactory().newChannel()).isInstanceOf(NioDatagramChannel.class);
+        } finally {
+            sdkEventLoopGroup.eventLoopGroup().shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void epollTransportType_notAvailable_throwsException() {
+        assumeFalse(Epoll.isAvailable());
+
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().transportType(TransportType.EPOLL).build())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("epoll");
+    }
+
+    @Test
+    public void ioUringTransportType_notAvailable_throwsException() {
+        assertThatThrownBy(() -> SdkEventLoopGroup.builder().transportType(TransportType.IO_URING).build())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("io_uring");
+    }
 }
@@ -20,7 +20,11 @@ import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP
 import static software.amazon.awssdk.http.SdkHttpConfigurationOption.TCP_KEEPALIVE;
 
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelOption;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import org.junit.Test;
@@ -86,4 +90,80 @@ public class BootstrapProviderTest {
         Boolean keepAlive = (Boolean) bootstrap.config().options().get(ChannelOption.SO_KEEPALIVE);
         assertThat(keepAlive).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void createBootstrap_defaultConfiguration_shouldNotSetAllocator() {
+        Bootstrap bootstrap = bootstrapProvider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443, false);
+
+        assertThat(bootstrap.config().options()).doesNotContainKey(ChannelOption.ALLOCATOR);
+    }
+
+    @Test
+    public void createBootstrap_zeroCopyResponseBody_shouldUsePooledAllocator() {
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  zeroCopyConfiguration(),
+                                  new SdkChannelOptions());
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443, false);
+        ByteBufAllocator allocator = (ByteBufAllocator) bootstrap.config().options().get(ChannelOption.ALLOCATOR);
+        assertThat(allocator).isInstanceOf(PooledByteBufAllocator.class);
+        assertThat(allocator).isNotSameAs(PooledByteBufAllocator.DEFAULT);
+    }
+
+    @Test
+    public void createBootstrap_zeroCopyResponseBodyWithAllocatorOption_shouldUseConfiguredAllocator() {
+        SdkChannelOptions channelOptions = new SdkChannelOptions();
+        channelOptions.putOption(ChannelOption.ALLOCATOR, UnpooledByteBufAllocator.DEFAULT);
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  zeroCopyConfiguration(),
+                                  channelOptions);
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443, false);
+        assertThat(bootstrap.config().options().get(ChannelOption.ALLOCATOR)).isSameAs(UnpooledByteBufAllocator.DEFAULT);
+    }
+
+    @Test
+    public void createBootstrap_defaultConfiguration_shouldNotSetResolver() {
+        Bootstrap bootstrap = bootstrapProvider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443, false);
+
+        assertThat(bootstrap.config().resolver()).isNotInstanceOf(RoundRobinAddressResolverGroup.class);
+    }
+
+    @Test
+    public void createBootstrap_spreadConnectionsAcrossAddresses_shouldUseRoundRobinResolver() {
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  spreadConnectionsConfiguration(),
+                                  new SdkChannelOptions());
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443, false);
+        assertThat(bootstrap.config().resolver()).isSameAs(RoundRobinAddressResolverGroup.INSTANCE);
+    }
+
+    @Test
+    public void createBootstrapNonBlockingDns_spreadConnectionsAcrossAddresses_shouldUseRoundRobinDnsResolver() {
+        BootstrapProvider provider =
+            new BootstrapProvider(SdkEventLoopGroup.builder().build(),
+                                  spreadConnectionsConfiguration(),
+                                  new SdkChannelOptions());
+
+        Bootstrap bootstrap = provider.createBootstrap("some-awesome-service-1234.amazonaws.com", 443, true);
+        assertThat(bootstrap.config().resolver()).isInstanceOf(RoundRobinDnsAddressResolverGroup.class);
+    }
+
+    private static NettyConfiguration spreadConnectionsConfiguration() {
+        return new NettyConfiguration(AttributeMap.builder()
+                                                  .put(NettyConfigurationOption.SPREAD_CONNECTIONS_ACROSS_ADDRESSES, true)
+                                                  .build()
+                                                  .merge(GLOBAL_HTTP_DEFAULTS));
+    }
+
+    private static NettyConfiguration zeroCopyConfiguration() {
+        return new NettyConfiguration(AttributeMap.builder()
+                                                  .put(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY, true)
+                                                  .build()
+                                                  .merge(GLOBAL_HTTP_DEFAULTS));
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.pool.ChannelPool;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.Promise;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionPrewarmerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void handshakeFailure_closesChannelBeforeReleasingIt() throws Exception {
+        SSLEngine sslEngine = SSLContext.getDefault().createSSLEngine();
+        sslEngine.setUseClientMode(true);
+        EmbeddedChannel channel = new EmbeddedChannel(new SslHandler(sslEngine));
+
+        ChannelPool pool = mock(ChannelPool.class);
+        when(pool.acquire(any(Promise.class))).thenAnswer(i -> ((Promise<Channel>) i.getArgument(0)).setSuccess(channel));
+        AtomicBoolean openOnRelease = new AtomicBoolean(true);
+        when(pool.release(channel)).thenAnswer(i -> {
+            openOnRelease.set(channel.isOpen());
+            return channel.eventLoop().newSucceededFuture(null);
+        });
+
+        CompletableFuture<Void> result = ConnectionPrewarmer.prewarm(pool, channel.eventLoop(), 1);
+        // Not a TLS record, which fails the handshake
+        channel.pipeline().fireChannelRead(Unpooled.copiedBuffer("HTTP/1.1 400 Bad Request\r\n\r\n", StandardCharsets.UTF_8));
+        channel.runPendingTasks();
+
+        assertThat(result).isCompletedExceptionally();
+        verify(pool).release(channel);
+        assertThat(openOnRelease).isFalse();
+    }
+}
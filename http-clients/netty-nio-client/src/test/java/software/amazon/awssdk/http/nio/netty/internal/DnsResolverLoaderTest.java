@@ -21,6 +21,7 @@ import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.oio.OioDatagramChannel;
 import io.netty.resolver.dns.DnsAddressResolverGroup;
+import io.netty.resolver.dns.RoundRobinDnsAddressResolverGroup;
 import org.junit.jupiter.api.Test;
 
 public class DnsResolverLoaderTest {
@@ -31,4 +32,11 @@ public class DnsResolverLoaderTest {
         assertThat(DnsResolverLoader.init(EpollDatagramChannel::new)).isInstanceOf(DnsAddressResolverGroup.class);
         assertThat(DnsResolverLoader.init(OioDatagramChannel::new)).isInstanceOf(DnsAddressResolverGroup.class);
     }
+
+    @Test
+    public void roundRobin_returnsRoundRobinResolverGroup() {
+        assertThat(DnsResolverLoader.init(NioDatagramChannel::new, true)).isInstanceOf(RoundRobinDnsAddressResolverGroup.class);
+        assertThat(DnsResolverLoader.init(NioDatagramChannel::new, false))
+            .isNotInstanceOf(RoundRobinDnsAddressResolverGroup.class);
+    }
 }
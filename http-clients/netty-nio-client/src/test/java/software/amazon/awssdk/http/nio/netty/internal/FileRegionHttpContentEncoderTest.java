@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.FileRegion;
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileRegionHttpContentEncoderTest {
+    @TempDir
+    private Path tempDir;
+
+    private Path file;
+    private EmbeddedChannel channel;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        file = tempDir.resolve("body");
+        Files.write(file, new byte[1024]);
+        channel = new EmbeddedChannel(FileRegionHttpContentEncoder.getInstance());
+    }
+
+    @AfterEach
+    public void teardown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void unchangedFile_writesRegion() throws IOException {
+        ChannelFuture write = channel.writeAndFlush(FileRegionHttpContent.create(file, 24, 1000));
+
+        assertThat(write.isSuccess()).isTrue();
+        FileRegion region = channel.readOutbound();
+        assertThat(region.position()).isEqualTo(24);
+        assertThat(region.count()).isEqualTo(1000);
+        region.release();
+    }
+
+    @Test
+    public void fileAppendedDuringTransfer_failsWriteAndRequest() throws IOException {
+        ChannelFuture write = channel.write(FileRegionHttpContent.create(file, 0, 1024));
+
+        Files.write(file, new byte[1], StandardOpenOption.APPEND);
+        channel.flush();
+
+        assertThat(write.cause()).isInstanceOf(IOException.class).hasMessageContaining("File size changed");
+        assertThatThrownBy(channel::checkException).hasMessageContaining("File size changed");
+    }
+
+    @Test
+    public void fileRewrittenDuringTransfer_failsWriteAndRequest() throws IOException {
+        ChannelFuture write = channel.write(FileRegionHttpContent.create(file, 0, 1024));
+
+        FileTime modifiedTime = Files.getLastModifiedTime(file);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedTime.toMillis() + 10_000));
+        channel.flush();
+
+        assertThat(write.cause()).isInstanceOf(IOException.class).hasMessageContaining("last-modified time changed");
+        assertThatThrownBy(channel::checkException).hasMessageContaining("last-modified time changed");
+    }
+
+    @Test
+    public void fileShorterThanRegion_cannotBeSent() {
+        assertThatThrownBy(() -> FileRegionHttpContent.create(file, 24, 1024))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("shorter than the request content");
+    }
+}
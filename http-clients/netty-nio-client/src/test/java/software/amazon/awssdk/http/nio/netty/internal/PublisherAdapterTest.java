@@ -22,10 +22,12 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.http.SdkHttpConfigurationOption.GLOBAL_HTTP_DEFAULTS;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.EXECUTE_FUTURE_KEY;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.PROTOCOL_FUTURE;
 import static software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey.REQUEST_CONTEXT_KEY;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.EmptyByteBuf;
 import io.netty.buffer.Unpooled;
@@ -40,6 +42,9 @@ import io.netty.handler.codec.http.HttpVersion;
 import io.reactivex.Flowable;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import org.junit.Before;
 import org.junit.Test;
@@ -56,6 +61,7 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.DefaultStreamedHttpResponse;
 import software.amazon.awssdk.http.nio.netty.internal.nrs.StreamedHttpResponse;
+import software.amazon.awssdk.utils.AttributeMap;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PublisherAdapterTest {
@@ -87,16 +93,7 @@ public class PublisherAdapterTest {
         fullHttpResponse = mock(DefaultHttpContent.class);
 
         when(fullHttpResponse.content()).thenReturn(new EmptyByteBuf(ByteBufAllocator.DEFAULT));
-        requestContext = new RequestContext(channelPool,
-                                            eventLoopGroup,
-                                            AsyncExecuteRequest.builder()
-                                                               .request(SdkHttpRequest.builder()
-                                                                                      .uri(URI.create("https://localhost"))
-                                                                                      .method(SdkHttpMethod.GET)
-                                                                                      .build())
-                                                               .responseHandler(responseHandler)
-                                                               .build(),
-                                            null);
+        requestContext = createRequestContext(new NettyConfiguration(GLOBAL_HTTP_DEFAULTS));
 
         channel = new MockChannel();
         channel.attr(PROTOCOL_FUTURE).set(CompletableFuture.completedFuture(Protocol.HTTP1_1));
@@ -285,7 +282,58 @@ public class PublisherAdapterTest {
         verify(channelPool).release(channel);
     }
 
-    static final class TestSubscriber implements Subscriber<ByteBuffer> {
+    @Test
+    public void zeroCopyResponseBody_shouldPublishReadOnlyViewAndReleaseContentAfterOnNext() {
+        NettyConfiguration configuration =
+            new NettyConfiguration(AttributeMap.builder()
+                                               .put(NettyConfigurationOption.ZERO_COPY_RESPONSE_BODY, true)
+                                               .build()
+                                               .merge(GLOBAL_HTTP_DEFAULTS));
+        RequestContext zeroCopyContext = createRequestContext(configuration);
+        channel.attr(REQUEST_CONTEXT_KEY).set(zeroCopyContext);
+
+        ByteBuf content = Unpooled.directBuffer().writeBytes("hello".getBytes(StandardCharsets.UTF_8));
+        DefaultStreamedHttpResponse streamedResponse =
+            new DefaultStreamedHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK,
+                                            Flowable.just(new DefaultHttpContent(content)));
+
+        List<Integer> refCntsDuringOnNext = new ArrayList<>();
+        List<String> received = new ArrayList<>();
+        TestSubscriber subscriber = new TestSubscriber() {
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                refCntsDuringOnNext.add(content.refCnt());
+                assertThat(byteBuffer.isReadOnly()).isTrue();
+                assertThat(byteBuffer.isDirect()).isTrue();
+                received.add(StandardCharsets.UTF_8.decode(byteBuffer).toString());
+                super.onNext(byteBuffer);
+            }
+        };
+
+        ResponseHandler.PublisherAdapter publisherAdapter = new ResponseHandler.PublisherAdapter(streamedResponse, ctx,
+                                                                                                 zeroCopyContext, executeFuture);
+        publisherAdapter.subscribe(subscriber);
+
+        assertThat(received).containsExactly("hello");
+        assertThat(refCntsDuringOnNext).containsExactly(1);
+        assertThat(content.refCnt()).isZero();
+        assertThat(subscriber.isCompleted).isTrue();
+    }
+
+    private RequestContext createRequestContext(NettyConfiguration configuration) {
+        return new RequestContext(channelPool,
+                                  eventLoopGroup,
+                                  AsyncExecuteRequest.builder()
+                                                     .request(SdkHttpRequest.builder()
+                                                                            .uri(URI.create("https://localhost"))
+                                                                            .method(SdkHttpMethod.GET)
+                                                                            .build())
+                                                     .responseHandler(responseHandler)
+                                                     .build(),
+                                  configuration);
+    }
+
+    static class TestSubscriber implements Subscriber<ByteBuffer> {
 
         private Subscription subscription;
         private boolean isCompleted = false;
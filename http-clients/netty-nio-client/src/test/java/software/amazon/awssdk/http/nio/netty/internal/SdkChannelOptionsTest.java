@@ -16,11 +16,19 @@
 package software.amazon.awssdk.http.nio.netty.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
 import java.util.HashMap;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.TransportType;
 
 public class SdkChannelOptionsTest {
 
@@ -44,4 +52,50 @@ public class SdkChannelOptionsTest {
 
         assertEquals(expectedOptions, channelOptions.channelOptions());
     }
+
+    @Test
+    public void nioEventLoopGroup_noNativeOptions() {
+        SdkChannelOptions channelOptions = new SdkChannelOptions();
+        NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+        try {
+            assertEquals(channelOptions.channelOptions(), channelOptions.channelOptions(eventLoopGroup));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void customerEpollEventLoopGroup_noNativeOptions() {
+        assumeTrue(Epoll.isAvailable());
+
+        SdkChannelOptions channelOptions = new SdkChannelOptions();
+        EpollEventLoopGroup eventLoopGroup = new EpollEventLoopGroup(1);
+        try {
+            assertEquals(channelOptions.channelOptions(), channelOptions.channelOptions(eventLoopGroup));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void sdkCreatedEpollEventLoopGroup_lowLatencyOptionsEnabledAndOverridable() {
+        assumeTrue(Epoll.isAvailable());
+
+        SdkChannelOptions channelOptions = new SdkChannelOptions();
+        channelOptions.putOption(EpollChannelOption.TCP_QUICKACK, false);
+        EventLoopGroup eventLoopGroup = SdkEventLoopGroup.builder()
+                                                         .numberOfThreads(1)
+                                                         .transportType(TransportType.EPOLL)
+                                                         .build()
+                                                         .eventLoopGroup();
+        try {
+            Map<ChannelOption, Object> expectedOptions = new HashMap<>();
+            expectedOptions.put(ChannelOption.TCP_NODELAY, Boolean.TRUE);
+            expectedOptions.put(EpollChannelOption.TCP_FASTOPEN_CONNECT, Boolean.TRUE);
+            expectedOptions.put(EpollChannelOption.TCP_QUICKACK, Boolean.FALSE);
+            assertEquals(expectedOptions, channelOptions.channelOptions(eventLoopGroup));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
 }
@@ -38,6 +38,7 @@ import io.netty.util.concurrent.FailedFuture;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.Promise;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.concurrent.CompletableFuture;
 import org.junit.AfterClass;
@@ -46,7 +47,9 @@ import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
+import software.amazon.awssdk.http.Http2Metric;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
 import software.amazon.awssdk.http.nio.netty.internal.ChannelAttributeKey;
 import software.amazon.awssdk.metrics.MetricCollection;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -330,6 +333,135 @@ public class Http2MultiplexedChannelPoolTest {
         }
     }
 
+    @Test
+    public void prewarm_opensConnectionsWithoutStreams() throws InterruptedException {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Mockito.when(connectionPool.acquire()).thenReturn(succeededPromise(channel1), succeededPromise(channel2));
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 Collections.emptySet(), null);
+            h2Pool.prewarm(2);
+            awaitOpenConnections(h2Pool, 2);
+
+            MetricCollection metrics = getMetrics(h2Pool);
+            assertThat(metrics.metricValues(Http2Metric.OPEN_CONNECTIONS)).containsExactly(2);
+            assertThat(metrics.metricValues(Http2Metric.STREAMS_PER_CONNECTION)).containsExactly(0, 0);
+            assertThat(metrics.metricValues(HttpMetric.AVAILABLE_CONCURRENCY)).containsExactly(4);
+
+            // The pool already has enough connections, so this should not open any more.
+            h2Pool.prewarm(2);
+            Mockito.verify(connectionPool, Mockito.times(2)).acquire();
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void prewarm_idleConnectionsAreClosedAfterTimeout() throws InterruptedException {
+        int idleTimeoutMillis = 1000;
+        EmbeddedChannel channel = newHttp2Channel();
+        channel.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Mockito.when(connectionPool.acquire()).thenReturn(succeededPromise(channel));
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 Collections.emptySet(),
+                                                                                 Duration.ofMillis(idleTimeoutMillis));
+            h2Pool.prewarm(1);
+            awaitOpenConnections(h2Pool, 1);
+
+            assertThat(channel.isOpen()).isTrue();
+
+            Thread.sleep(idleTimeoutMillis * 2);
+            channel.runPendingTasks();
+
+            assertThat(channel.isOpen()).isFalse();
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Test
+    public void leastOutstandingStreams_spreadsStreamsAcrossConnections() throws InterruptedException {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Mockito.when(connectionPool.acquire()).thenReturn(succeededPromise(channel1), succeededPromise(channel2));
+
+            Http2MultiplexedChannelPool h2Pool =
+                new Http2MultiplexedChannelPool(connectionPool, loopGroup, Collections.emptySet(), null,
+                                                Http2StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS);
+            h2Pool.prewarm(2);
+            awaitOpenConnections(h2Pool, 2);
+
+            Channel stream1 = doAcquire(channel1, channel2, h2Pool);
+            Channel stream2 = doAcquire(channel1, channel2, h2Pool);
+
+            assertThat(stream1.parent()).isNotSameAs(stream2.parent());
+            assertThat(getMetrics(h2Pool).metricValues(Http2Metric.STREAMS_PER_CONNECTION)).containsExactly(1, 1);
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    @Test
+    public void firstAvailable_fillsOldestConnectionFirst() throws InterruptedException {
+        EmbeddedChannel channel1 = newHttp2Channel();
+        EmbeddedChannel channel2 = newHttp2Channel();
+        channel1.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+        channel2.attr(ChannelAttributeKey.MAX_CONCURRENT_STREAMS).set(2L);
+
+        try {
+            ChannelPool connectionPool = Mockito.mock(ChannelPool.class);
+            Mockito.when(connectionPool.acquire()).thenReturn(succeededPromise(channel1), succeededPromise(channel2));
+
+            Http2MultiplexedChannelPool h2Pool = new Http2MultiplexedChannelPool(connectionPool, loopGroup,
+                                                                                 Collections.emptySet(), null);
+            h2Pool.prewarm(2);
+            awaitOpenConnections(h2Pool, 2);
+
+            Channel stream1 = doAcquire(channel1, channel2, h2Pool);
+            Channel stream2 = doAcquire(channel1, channel2, h2Pool);
+
+            assertThat(stream1.parent()).isSameAs(stream2.parent());
+            assertThat(getMetrics(h2Pool).metricValues(Http2Metric.STREAMS_PER_CONNECTION)).containsExactlyInAnyOrder(0, 2);
+        } finally {
+            channel1.close();
+            channel2.close();
+        }
+    }
+
+    private void awaitOpenConnections(Http2MultiplexedChannelPool h2Pool, int expected) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (getMetrics(h2Pool).metricValues(Http2Metric.OPEN_CONNECTIONS).get(0) == expected) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Pool did not reach " + expected + " open connections.");
+    }
+
+    private Promise<Channel> succeededPromise(EmbeddedChannel channel) {
+        loopGroup.register(channel).awaitUninterruptibly();
+        Promise<Channel> channelPromise = new DefaultPromise<>(loopGroup.next());
+        channelPromise.setSuccess(channel);
+        return channelPromise;
+    }
+
     private Channel doAcquire(EmbeddedChannel channel1, EmbeddedChannel channel2, Http2MultiplexedChannelPool h2Pool) {
         Future<Channel> acquire = h2Pool.acquire();
         acquire.awaitUninterruptibly();
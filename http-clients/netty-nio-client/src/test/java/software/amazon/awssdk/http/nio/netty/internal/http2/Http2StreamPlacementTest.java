@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.http2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.Test;
+import software.amazon.awssdk.http.nio.netty.Http2StreamPlacementStrategy;
+
+/**
+ * Tests for {@link Http2StreamPlacement}.
+ */
+public class Http2StreamPlacementTest {
+
+    @Test
+    public void firstAvailable_keepsIterationOrder() {
+        Set<MultiplexedChannelRecord> connections = connections(record(5, 0), record(0, 0), record(2, 0));
+
+        assertThat(order(Http2StreamPlacementStrategy.FIRST_AVAILABLE, connections)).containsExactlyElementsOf(connections);
+        assertThat(order(null, connections)).containsExactlyElementsOf(connections);
+    }
+
+    @Test
+    public void leastOutstandingStreams_ordersByOutstandingStreams() {
+        MultiplexedChannelRecord busy = record(5, 0);
+        MultiplexedChannelRecord idle = record(0, 0);
+        MultiplexedChannelRecord moderate = record(2, 0);
+
+        assertThat(order(Http2StreamPlacementStrategy.LEAST_OUTSTANDING_STREAMS, connections(busy, idle, moderate)))
+            .containsExactly(idle, moderate, busy);
+    }
+
+    @Test
+    public void leastPendingBytes_ordersByPendingBytesThenOutstandingStreams() {
+        MultiplexedChannelRecord backedUp = record(0, 1_000_000);
+        MultiplexedChannelRecord busyButFlushed = record(3, 0);
+        MultiplexedChannelRecord idle = record(1, 0);
+
+        assertThat(order(Http2StreamPlacementStrategy.LEAST_PENDING_BYTES, connections(backedUp, busyButFlushed, idle)))
+            .containsExactly(idle, busyButFlushed, backedUp);
+    }
+
+    @Test
+    public void powerOfTwoChoices_twoConnections_prefersLessLoaded() {
+        MultiplexedChannelRecord busy = record(5, 0);
+        MultiplexedChannelRecord idle = record(0, 0);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(order(Http2StreamPlacementStrategy.POWER_OF_TWO_CHOICES, connections(busy, idle)))
+                .containsExactly(idle, busy);
+        }
+    }
+
+    @Test
+    public void powerOfTwoChoices_manyConnections_returnsEveryConnectionWithBetterChoiceFirst() {
+        Set<MultiplexedChannelRecord> connections = connections(record(4, 0), record(1, 0), record(3, 0), record(0, 0),
+                                                                record(2, 0));
+
+        for (int i = 0; i < 50; i++) {
+            List<MultiplexedChannelRecord> ordered = order(Http2StreamPlacementStrategy.POWER_OF_TWO_CHOICES, connections);
+
+            assertThat(ordered).containsExactlyInAnyOrderElementsOf(connections);
+            assertThat(ordered.get(0).outstandingStreams()).isLessThanOrEqualTo(ordered.get(1).outstandingStreams());
+        }
+    }
+
+    @Test
+    public void powerOfTwoChoices_spreadsFirstChoiceAcrossConnections() {
+        Set<MultiplexedChannelRecord> connections = connections(record(0, 0), record(0, 0), record(0, 0), record(0, 0));
+        Set<MultiplexedChannelRecord> chosen = new LinkedHashSet<>();
+
+        for (int i = 0; i < 200; i++) {
+            chosen.add(order(Http2StreamPlacementStrategy.POWER_OF_TWO_CHOICES, connections).get(0));
+        }
+
+        assertThat(chosen).hasSize(4);
+    }
+
+    @Test
+    public void emptyConnections_returnsEmpty() {
+        for (Http2StreamPlacementStrategy strategy : Http2StreamPlacementStrategy.values()) {
+            assertThat(order(strategy, connections())).isEmpty();
+        }
+    }
+
+    private static List<MultiplexedChannelRecord> order(Http2StreamPlacementStrategy strategy,
+                                                        Set<MultiplexedChannelRecord> connections) {
+        List<MultiplexedChannelRecord> result = new ArrayList<>();
+        Http2StreamPlacement.create(strategy).order(connections).forEach(result::add);
+        return result;
+    }
+
+    private static Set<MultiplexedChannelRecord> connections(MultiplexedChannelRecord... records) {
+        return new LinkedHashSet<>(Arrays.asList(records));
+    }
+
+    private static MultiplexedChannelRecord record(long outstandingStreams, long pendingWriteBytes) {
+        MultiplexedChannelRecord record = mock(MultiplexedChannelRecord.class);
+        when(record.outstandingStreams()).thenReturn(outstandingStreams);
+        when(record.pendingWriteBytes()).thenReturn(pendingWriteBytes);
+        return record;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.nrs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+
+public class HandlerSubscriberWriteCoalescingTest {
+    private static final long FLUSH_THRESHOLD = 100;
+    private static final long FLUSH_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private EmbeddedChannel channel;
+    private HandlerSubscriber<HttpContent> handler;
+    private long requested;
+
+    @AfterEach
+    public void teardown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void noFlushThreshold_flushesEveryWrite() {
+        subscribe(0);
+
+        handler.onNext(content(10));
+        handler.onNext(content(10));
+        channel.runPendingTasks();
+
+        assertThat(channel.outboundMessages()).hasSize(2);
+    }
+
+    @Test
+    public void writesBelowThreshold_areFlushedTogetherOnceThresholdIsReached() {
+        subscribe(FLUSH_THRESHOLD);
+
+        handler.onNext(content(30));
+        handler.onNext(content(30));
+        channel.runPendingTasks();
+        assertThat(channel.outboundMessages()).isEmpty();
+
+        handler.onNext(content(40));
+        channel.runPendingTasks();
+        assertThat(channel.outboundMessages()).hasSize(3);
+    }
+
+    @Test
+    public void writesBelowThreshold_areFlushedAfterDelay() {
+        subscribe(FLUSH_THRESHOLD);
+
+        handler.onNext(content(30));
+        channel.runPendingTasks();
+        assertThat(channel.outboundMessages()).isEmpty();
+
+        channel.advanceTimeBy(FLUSH_DELAY_NANOS, TimeUnit.NANOSECONDS);
+        channel.runScheduledPendingTasks();
+        channel.runPendingTasks();
+        assertThat(channel.outboundMessages()).hasSize(1);
+    }
+
+    @Test
+    public void allRequestedMessagesReceived_flushesWithoutWaiting() {
+        subscribe(FLUSH_THRESHOLD);
+
+        long initialDemand = requested;
+        for (int i = 0; i < initialDemand; i++) {
+            handler.onNext(content(1));
+        }
+        channel.runPendingTasks();
+
+        assertThat(channel.outboundMessages()).hasSize((int) initialDemand);
+        // The flushed writes completed, so more messages have been requested
+        assertThat(requested).isGreaterThan(initialDemand);
+    }
+
+    @Test
+    public void complete_flushesPendingWrites() {
+        subscribe(FLUSH_THRESHOLD);
+
+        handler.onNext(content(30));
+        handler.onComplete();
+        channel.runPendingTasks();
+
+        assertThat(channel.outboundMessages()).hasSize(1);
+    }
+
+    private void subscribe(long flushThreshold) {
+        channel = new EmbeddedChannel();
+        channel.freezeTime();
+        handler = new HandlerSubscriber<>(channel.eventLoop(), HandlerSubscriber.DEFAULT_LOW_WATERMARK,
+                                          HandlerSubscriber.DEFAULT_HIGH_WATERMARK, flushThreshold, FLUSH_DELAY_NANOS);
+        channel.pipeline().addLast(handler);
+        handler.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                requested += n;
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        channel.runPendingTasks();
+        assertThat(requested).isEqualTo(HandlerSubscriber.DEFAULT_HIGH_WATERMARK);
+    }
+
+    private static HttpContent content(int size) {
+        return new DefaultHttpContent(Unpooled.wrappedBuffer(new byte[size]));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.ConcurrencyLimitMode;
+
+public class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @Test
+    public void create_fixedOrNull_returnsNull() {
+        assertThat(AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.FIXED, 50)).isNull();
+        assertThat(AdaptiveConcurrencyLimit.create(null, 50)).isNull();
+    }
+
+    @Test
+    public void initialLimit_cappedAtMaximum() {
+        assertThat(AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.AIMD, 100).limit())
+            .isEqualTo(AdaptiveConcurrencyLimit.INITIAL_LIMIT);
+        assertThat(AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.VEGAS, 5).limit()).isEqualTo(5);
+    }
+
+    @Test
+    public void aimd_limitInUse_increasesUpToMaximum() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.AIMD, 25);
+        limit.onSample(FAST, 20);
+        assertThat(limit.limit()).isEqualTo(21);
+
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(FAST, limit.limit());
+        }
+        assertThat(limit.limit()).isEqualTo(25);
+    }
+
+    @Test
+    public void aimd_limitNotInUse_doesNotIncrease() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.AIMD, 100);
+        for (int i = 0; i < 10; i++) {
+            limit.onSample(FAST, 1);
+        }
+        assertThat(limit.limit()).isEqualTo(20);
+    }
+
+    @Test
+    public void aimd_latencySpike_decreases() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.AIMD, 100);
+        limit.onSample(FAST, 1);
+        limit.onSample(SLOW, 1);
+        assertThat(limit.limit()).isEqualTo(18);
+    }
+
+    @Test
+    public void drops_neverDecreaseBelowOne() {
+        for (ConcurrencyLimitMode mode : new ConcurrencyLimitMode[] {ConcurrencyLimitMode.AIMD, ConcurrencyLimitMode.VEGAS}) {
+            AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(mode, 100);
+            for (int i = 0; i < 100; i++) {
+                limit.onDrop();
+            }
+            assertThat(limit.limit()).as(mode.name()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void vegas_noQueueing_increases() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.VEGAS, 100);
+        limit.onSample(FAST, 20);
+        limit.onSample(FAST, 20);
+        assertThat(limit.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    public void vegas_increasingLatency_decreases() {
+        AdaptiveConcurrencyLimit limit = AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.VEGAS, 100);
+        limit.onSample(FAST, 20);
+        limit.onSample(SLOW, 20);
+        assertThat(limit.limit()).isLessThan(20);
+    }
+}
@@ -39,6 +39,7 @@ import org.junit.BeforeClass;
 import org.junit.Test;
 import org.mockito.Mockito;
 import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.nio.netty.ConcurrencyLimitMode;
 import software.amazon.awssdk.http.nio.netty.internal.MockChannel;
 import software.amazon.awssdk.http.nio.netty.internal.SdkChannelPool;
 import software.amazon.awssdk.http.nio.netty.internal.utils.BetterFixedChannelPool.AcquireTimeoutAction;
@@ -151,6 +152,57 @@ public class BetterFixedChannelPoolTest {
         assertConnectionsCheckedOutAndPending(0, 0);
     }
 
+    @Test(timeout = 5_000)
+    public void adaptiveConcurrencyLimit_limitsAcquiresAndIsUpdatedOnRelease() throws Exception {
+        channelPool.close();
+        AdaptiveConcurrencyLimit concurrencyLimit = AdaptiveConcurrencyLimit.create(ConcurrencyLimitMode.AIMD, 2);
+        concurrencyLimit.onDrop();
+        channelPool = BetterFixedChannelPool.builder()
+                                            .channelPool(delegatePool)
+                                            .maxConnections(2)
+                                            .maxPendingAcquires(2)
+                                            .acquireTimeoutAction(AcquireTimeoutAction.FAIL)
+                                            .acquireTimeoutMillis(10_000)
+                                            .executor(eventLoopGroup.next())
+                                            .concurrencyLimit(concurrencyLimit)
+                                            .build();
+
+        List<Promise<Channel>> acquirePromises = Collections.synchronizedList(new ArrayList<>());
+        Mockito.when(delegatePool.acquire(isA(Promise.class))).thenAnswer(i -> {
+            Promise<Channel> promise = i.getArgument(0, Promise.class);
+            acquirePromises.add(promise);
+            return promise;
+        });
+        Mockito.when(delegatePool.release(isA(Channel.class), isA(Promise.class))).thenAnswer(i -> {
+            Promise promise = i.getArgument(1, Promise.class);
+            promise.setSuccess(null);
+            return promise;
+        });
+        Mockito.when(delegatePool.collectChannelPoolMetrics(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        channelPool.acquire();
+        completePromise(acquirePromises, 0);
+        channelPool.acquire();
+        assertConnectionsCheckedOutAndPending(1, 1);
+        assertConcurrencyLimit(1);
+
+        // Releasing the channel while the limit is in use increases the limit, and runs the pending acquire
+        channelPool.release(acquirePromises.get(0).getNow());
+        completePromise(acquirePromises, 1);
+        assertConnectionsCheckedOutAndPending(1, 0);
+        assertConcurrencyLimit(2);
+
+        channelPool.acquire();
+        completePromise(acquirePromises, 2);
+        assertConnectionsCheckedOutAndPending(2, 0);
+    }
+
+    private void assertConcurrencyLimit(int limit) {
+        MetricCollector metricCollector = MetricCollector.create("foo");
+        waitForCompletion(channelPool.collectChannelPoolMetrics(metricCollector));
+        assertThat(metricCollector.collect().metricValues(HttpMetric.CONCURRENCY_LIMIT)).containsExactly(limit);
+    }
+
     private void completePromise(List<Promise<Channel>> promises, int promiseIndex) throws Exception {
         waitForPromise(promises, promiseIndex);
 
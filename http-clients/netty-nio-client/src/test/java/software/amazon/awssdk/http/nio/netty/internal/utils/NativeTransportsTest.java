@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.nio.netty.internal.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.nio.netty.TransportType;
+import software.amazon.awssdk.http.nio.netty.internal.NonManagedEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.internal.SharedSdkEventLoopGroup;
+
+public class NativeTransportsTest {
+
+    @Test
+    public void resolve_auto_usesEpollOnlyWhenAvailable() {
+        TransportType expected = Epoll.isAvailable() ? TransportType.EPOLL : TransportType.NIO;
+        assertThat(NativeTransports.resolve(TransportType.AUTO)).isEqualTo(expected);
+    }
+
+    @Test
+    public void resolve_notConfigured_usesNio() {
+        assertThat(NativeTransports.resolve(null)).isEqualTo(TransportType.NIO);
+    }
+
+    @Test
+    public void resolve_explicitTransport_isKept() {
+        assertThat(NativeTransports.resolve(TransportType.NIO)).isEqualTo(TransportType.NIO);
+        assertThat(NativeTransports.resolve(TransportType.IO_URING)).isEqualTo(TransportType.IO_URING);
+    }
+
+    @Test
+    public void isIoUringAvailable_notOnClasspath_returnsFalse() {
+        assertThat(NativeTransports.isIoUringAvailable()).isFalse();
+    }
+
+    @Test
+    public void transportOf_unwrapsDelegatingEventLoopGroups() {
+        NioEventLoopGroup nio = new NioEventLoopGroup(1);
+        DefaultEventLoopGroup other = new DefaultEventLoopGroup(1);
+        EventLoopGroup shared = SharedSdkEventLoopGroup.get().eventLoopGroup();
+        try {
+            assertThat(NativeTransports.transportOf(nio)).isEqualTo(TransportType.NIO);
+            assertThat(NativeTransports.transportOf(other)).isNull();
+            assertThat(NativeTransports.transportOf(shared)).isEqualTo(TransportType.NIO);
+        } finally {
+            nio.shutdownGracefully();
+            other.shutdownGracefully();
+            shared.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void isCreatedBySdk_onlyForNativeGroupsCreatedBySdk() {
+        assumeTrue(Epoll.isAvailable());
+
+        EventLoopGroup sdkCreated = NativeTransports.newEventLoopGroup(TransportType.EPOLL, 1, Thread::new);
+        EpollEventLoopGroup customerCreated = new EpollEventLoopGroup(1);
+        try {
+            assertThat(NativeTransports.isCreatedBySdk(sdkCreated)).isTrue();
+            assertThat(NativeTransports.isCreatedBySdk(new NonManagedEventLoopGroup(sdkCreated))).isTrue();
+            assertThat(NativeTransports.isCreatedBySdk(customerCreated)).isFalse();
+        } finally {
+            sdkCreated.shutdownGracefully();
+            customerCreated.shutdownGracefully();
+        }
+    }
+
+    @Test
+    public void lowLatencyChannelOptions_onlyForNativeTransports() {
+        assertThat(NativeTransports.lowLatencyChannelOptions(TransportType.NIO)).isEmpty();
+        assertThat(NativeTransports.lowLatencyChannelOptions(TransportType.EPOLL))
+            .containsEntry(EpollChannelOption.TCP_FASTOPEN_CONNECT, Boolean.TRUE)
+            .containsEntry(EpollChannelOption.TCP_QUICKACK, Boolean.TRUE);
+    }
+}
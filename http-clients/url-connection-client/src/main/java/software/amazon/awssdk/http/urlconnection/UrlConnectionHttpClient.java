@@ -17,11 +17,13 @@ package software.amazon.awssdk.http.urlconnection;
 
 import static software.amazon.awssdk.http.Header.ACCEPT;
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
 import static software.amazon.awssdk.http.HttpStatusFamily.CLIENT_ERROR;
 import static software.amazon.awssdk.http.HttpStatusFamily.SERVER_ERROR;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 import static software.amazon.awssdk.utils.NumericUtils.saturatedCast;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -65,6 +67,9 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.http.TlsKeyManagersProvider;
 import software.amazon.awssdk.http.TlsTrustManagersProvider;
+import software.amazon.awssdk.http.urlconnection.internal.ConnectionLimiter;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
@@ -89,10 +94,15 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
     private final AttributeMap options;
     private final UrlConnectionFactory connectionFactory;
     private final ProxyConfiguration proxyConfiguration;
+    private final ConnectionLimiter connectionLimiter;
 
     private UrlConnectionHttpClient(AttributeMap options, UrlConnectionFactory connectionFactory, DefaultBuilder builder) {
         this.options = options;
         this.proxyConfiguration = builder != null ? builder.proxyConfiguration : null;
+        this.connectionLimiter = builder != null && builder.maxConnections != null
+                                 ? ConnectionLimiter.bounded(builder.maxConnections,
+                                                             options.get(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT))
+                                 : ConnectionLimiter.unbounded();
 
         if (connectionFactory != null) {
             this.connectionFactory = connectionFactory;
@@ -135,8 +145,10 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
 
     @Override
     public ExecutableHttpRequest prepareRequest(HttpExecuteRequest request) {
+        MetricCollector metricCollector = request.metricCollector().orElseGet(NoOpMetricCollector::create);
+        metricCollector.reportMetric(HTTP_CLIENT_NAME, clientName());
         HttpURLConnection connection = createAndConfigureConnection(request);
-        return new RequestCallable(connection, request);
+        return new RequestCallable(connection, request, connectionLimiter, metricCollector);
     }
 
     @Override
@@ -281,6 +293,9 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
     private static class RequestCallable implements ExecutableHttpRequest {
         private final HttpURLConnection connection;
         private final HttpExecuteRequest request;
+        private final ConnectionLimiter connectionLimiter;
+        private final MetricCollector metricCollector;
+        private volatile ConnectionLimiter.Lease lease;
 
         /**
          * Whether we encountered the 'bug' in the way the HttpURLConnection handles 'Expect: 100-continue' cases. See
@@ -293,13 +308,28 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
          */
         private Boolean responseHasNoContent;
 
-        private RequestCallable(HttpURLConnection connection, HttpExecuteRequest request) {
+        private RequestCallable(HttpURLConnection connection,
+                                HttpExecuteRequest request,
+                                ConnectionLimiter connectionLimiter,
+                                MetricCollector metricCollector) {
             this.connection = connection;
             this.request = request;
+            this.connectionLimiter = connectionLimiter;
+            this.metricCollector = metricCollector;
         }
 
         @Override
         public HttpExecuteResponse call() throws IOException {
+            lease = connectionLimiter.acquire(metricCollector);
+            try {
+                return execute();
+            } catch (IOException | RuntimeException | Error e) {
+                lease.release();
+                throw e;
+            }
+        }
+
+        private HttpExecuteResponse execute() throws IOException {
             connection.connect();
 
             Optional<ContentStreamProvider> requestContent = request.contentStreamProvider();
@@ -314,7 +344,13 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
             int responseCode = getResponseCodeSafely(connection);
             boolean isErrorResponse = HttpStatusFamily.of(responseCode).isOneOf(CLIENT_ERROR, SERVER_ERROR);
             Optional<InputStream> responseContent = isErrorResponse ? tryGetErrorStream() : tryGetInputStream();
-            AbortableInputStream responseBody = responseContent.map(AbortableInputStream::create).orElse(null);
+            AbortableInputStream responseBody = null;
+            if (responseContent.isPresent()) {
+                // The connection is in use until the response body has been consumed and closed
+                responseBody = AbortableInputStream.create(new LeaseReleasingInputStream(responseContent.get(), lease));
+            } else {
+                lease.release();
+            }
 
             return HttpExecuteResponse.builder()
                                       .response(SdkHttpResponse.builder()
@@ -443,6 +479,32 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
         @Override
         public void abort() {
             connection.disconnect();
+            ConnectionLimiter.Lease currentLease = lease;
+            if (currentLease != null) {
+                currentLease.release();
+            }
+        }
+    }
+
+    /**
+     * Releases the connection lease of a request once its response body has been closed, which is when
+     * {@link HttpURLConnection} returns the connection to the JDK's keep-alive cache.
+     */
+    private static final class LeaseReleasingInputStream extends FilterInputStream {
+        private final ConnectionLimiter.Lease lease;
+
+        private LeaseReleasingInputStream(InputStream in, ConnectionLimiter.Lease lease) {
+            super(in);
+            this.lease = lease;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                lease.release();
+            }
         }
     }
 
@@ -498,12 +560,29 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
          */
         Builder proxyConfiguration(Consumer<ProxyConfiguration.Builder> proxyConfigurationBuilderConsumer);
 
+        /**
+         * The maximum number of connections that the client can use at the same time. A connection is in use from the time a
+         * request is sent until its response body has been closed. Once this limit is reached, requests wait for a connection
+         * for up to the {@link #connectionAcquisitionTimeout(Duration)}. By default, the number of connections is not limited.
+         * <p>
+         * Idle connections are kept alive and reaped by the JDK, which keeps up to {@code http.maxConnections} (5 by default)
+         * idle connections per destination, and closes them once they've been idle for the keep-alive time advertised by the
+         * service. Set the {@code http.maxConnections} system property to this value so that connections are reused rather
+         * than closed when many requests complete at the same time.
+         */
+        Builder maxConnections(Integer maxConnections);
 
+        /**
+         * The amount of time to wait for a connection when {@link #maxConnections(Integer)} connections are in use, before
+         * the request fails with an {@link IOException}. Defaults to 10 seconds.
+         */
+        Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout);
     }
 
     private static final class DefaultBuilder implements Builder {
         private final AttributeMap.Builder standardOptions = AttributeMap.builder();
         private ProxyConfiguration proxyConfiguration = ProxyConfiguration.builder().build();
+        private Integer maxConnections;
 
         private DefaultBuilder() {
         }
@@ -577,6 +656,30 @@ public final class UrlConnectionHttpClient implements SdkHttpClient {
             proxyConfiguration(proxyConfiguration);
         }
 
+        @Override
+        public Builder maxConnections(Integer maxConnections) {
+            if (maxConnections != null) {
+                Validate.isPositive(maxConnections, "maxConnections");
+            }
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public void setMaxConnections(Integer maxConnections) {
+            maxConnections(maxConnections);
+        }
+
+        @Override
+        public Builder connectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            Validate.isPositive(connectionAcquisitionTimeout, "connectionAcquisitionTimeout");
+            standardOptions.put(SdkHttpConfigurationOption.CONNECTION_ACQUIRE_TIMEOUT, connectionAcquisitionTimeout);
+            return this;
+        }
+
+        public void setConnectionAcquisitionTimeout(Duration connectionAcquisitionTimeout) {
+            connectionAcquisitionTimeout(connectionAcquisitionTimeout);
+        }
+
 
         /**
          * Used by the SDK to create a {@link SdkHttpClient} with service-default values if no other values have been configured
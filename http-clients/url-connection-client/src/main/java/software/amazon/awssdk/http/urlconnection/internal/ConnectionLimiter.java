@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.urlconnection.internal;
+
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.CONCURRENCY_ACQUIRE_DURATION;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.PENDING_CONCURRENCY_ACQUIRES;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.metrics.MetricCollector;
+
+/**
+ * Bounds the number of connections that are in use by an {@code UrlConnectionHttpClient} at the same time, and tracks the
+ * usage of those connections for the {@link software.amazon.awssdk.http.HttpMetric}s.
+ * <p>
+ * A lease is acquired before a request is sent and released once its response has been consumed or the request has been
+ * aborted. Requests wait for a lease for up to the connection acquisition timeout when all the leases are taken.
+ */
+@SdkInternalApi
+public final class ConnectionLimiter {
+    private final int maxConnections;
+    private final Duration acquireTimeout;
+    private final Semaphore permits;
+    private final AtomicInteger leased = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private ConnectionLimiter(int maxConnections, Duration acquireTimeout) {
+        this.maxConnections = maxConnections;
+        this.acquireTimeout = acquireTimeout;
+        this.permits = maxConnections == Integer.MAX_VALUE ? null : new Semaphore(maxConnections, true);
+    }
+
+    /**
+     * Create a limiter that allows at most {@code maxConnections} leases at the same time.
+     */
+    public static ConnectionLimiter bounded(int maxConnections, Duration acquireTimeout) {
+        return new ConnectionLimiter(maxConnections, acquireTimeout);
+    }
+
+    /**
+     * Create a limiter that never blocks, and only tracks the leased connections.
+     */
+    public static ConnectionLimiter unbounded() {
+        return new ConnectionLimiter(Integer.MAX_VALUE, Duration.ZERO);
+    }
+
+    /**
+     * Acquire a lease, waiting for up to the acquisition timeout if the maximum number of connections are in use.
+     *
+     * @throws IOException If no lease could be acquired before the timeout.
+     */
+    public Lease acquire(MetricCollector metricCollector) throws IOException {
+        long start = System.nanoTime();
+        if (permits != null) {
+            pending.incrementAndGet();
+            try {
+                if (!permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                    throw new IOException("Timeout waiting for connection from pool. Consider increasing the maxConnections "
+                                          + "or the connectionAcquisitionTimeout.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for a connection from the pool.");
+            } finally {
+                pending.decrementAndGet();
+            }
+        }
+
+        leased.incrementAndGet();
+        metricCollector.reportMetric(CONCURRENCY_ACQUIRE_DURATION, Duration.ofNanos(System.nanoTime() - start));
+        reportMetrics(metricCollector);
+        return new Lease();
+    }
+
+    public int leased() {
+        return leased.get();
+    }
+
+    public int pending() {
+        return pending.get();
+    }
+
+    private void reportMetrics(MetricCollector metricCollector) {
+        int currentlyLeased = leased.get();
+        metricCollector.reportMetric(LEASED_CONCURRENCY, currentlyLeased);
+        metricCollector.reportMetric(PENDING_CONCURRENCY_ACQUIRES, pending.get());
+        if (permits != null) {
+            metricCollector.reportMetric(MAX_CONCURRENCY, maxConnections);
+            metricCollector.reportMetric(AVAILABLE_CONCURRENCY, Math.max(0, maxConnections - currentlyLeased));
+        }
+    }
+
+    /**
+     * A connection lease. Releasing it more than once has no effect.
+     */
+    public final class Lease {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease() {
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                leased.decrementAndGet();
+                if (permits != null) {
+                    permits.release();
+                }
+            }
+        }
+    }
+}
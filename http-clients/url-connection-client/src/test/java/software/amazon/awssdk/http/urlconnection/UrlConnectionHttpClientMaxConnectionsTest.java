@@ -0,0 +1,135 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.urlconnection;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.HttpMetric.HTTP_CLIENT_NAME;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class UrlConnectionHttpClientMaxConnectionsTest {
+    private WireMockServer mockServer;
+    private SdkHttpClient client;
+
+    @BeforeEach
+    public void setup() {
+        mockServer = new WireMockServer(wireMockConfig().dynamicPort());
+        mockServer.start();
+        mockServer.stubFor(any(urlPathEqualTo("/")).willReturn(aResponse().withStatus(200).withBody("hello")));
+        mockServer.stubFor(any(urlPathEqualTo("/empty")).willReturn(aResponse().withStatus(204)));
+    }
+
+    @AfterEach
+    public void teardown() {
+        if (client != null) {
+            client.close();
+        }
+        mockServer.stop();
+    }
+
+    @Test
+    public void maxConnections_responseBodyOpen_blocksUntilTimeout() throws IOException {
+        client = UrlConnectionHttpClient.builder()
+                                        .maxConnections(1)
+                                        .connectionAcquisitionTimeout(Duration.ofMillis(100))
+                                        .build();
+
+        HttpExecuteResponse first = execute("/", null);
+        assertThatThrownBy(() -> execute("/", null)).isInstanceOf(IOException.class)
+                                                     .hasMessageContaining("Timeout waiting for connection");
+
+        first.responseBody().get().close();
+        HttpExecuteResponse second = execute("/", null);
+        assertThat(IoUtils.toUtf8String(second.responseBody().get())).isEqualTo("hello");
+    }
+
+    @Test
+    public void maxConnections_noResponseBody_releasesConnectionImmediately() throws IOException {
+        client = UrlConnectionHttpClient.builder()
+                                        .maxConnections(1)
+                                        .connectionAcquisitionTimeout(Duration.ofMillis(100))
+                                        .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(execute("/empty", null).httpResponse().statusCode()).isEqualTo(204);
+        }
+    }
+
+    @Test
+    public void maxConnections_reportsConcurrencyMetrics() throws IOException {
+        client = UrlConnectionHttpClient.builder().maxConnections(4).build();
+
+        MetricCollector collector = MetricCollector.create("test");
+        execute("/", collector).responseBody().get().close();
+        MetricCollection metrics = collector.collect();
+
+        assertThat(metrics.metricValues(HTTP_CLIENT_NAME)).containsExactly("UrlConnection");
+        assertThat(metrics.metricValues(MAX_CONCURRENCY)).containsExactly(4);
+        assertThat(metrics.metricValues(LEASED_CONCURRENCY)).containsExactly(1);
+    }
+
+    @Test
+    public void maxConnections_notConfigured_doesNotLimitConnections() throws IOException {
+        client = UrlConnectionHttpClient.builder()
+                                        .connectionAcquisitionTimeout(Duration.ofMillis(100))
+                                        .build();
+
+        for (int i = 0; i < 3; i++) {
+            execute("/", null);
+        }
+    }
+
+    @Test
+    public void maxConnections_notPositive_throws() {
+        assertThatThrownBy(() -> UrlConnectionHttpClient.builder().maxConnections(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private HttpExecuteResponse execute(String path, MetricCollector metricCollector) throws IOException {
+        URI uri = URI.create("http://localhost:" + mockServer.port() + path);
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .uri(uri)
+                                                       .method(SdkHttpMethod.GET)
+                                                       .putHeader("Host", uri.getHost())
+                                                       .build();
+        return client.prepareRequest(HttpExecuteRequest.builder()
+                                                       .request(request)
+                                                       .metricCollector(metricCollector)
+                                                       .build())
+                     .call();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.urlconnection.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.http.HttpMetric.AVAILABLE_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.LEASED_CONCURRENCY;
+import static software.amazon.awssdk.http.HttpMetric.MAX_CONCURRENCY;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.NoOpMetricCollector;
+
+public class ConnectionLimiterTest {
+
+    @Test
+    public void bounded_atLimit_timesOut() throws IOException {
+        ConnectionLimiter limiter = ConnectionLimiter.bounded(1, Duration.ofMillis(50));
+        limiter.acquire(NoOpMetricCollector.create());
+
+        assertThatThrownBy(() -> limiter.acquire(NoOpMetricCollector.create()))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("Timeout waiting for connection");
+        assertThat(limiter.pending()).isZero();
+    }
+
+    @Test
+    public void bounded_release_unblocksWaitingAcquire() throws Exception {
+        ConnectionLimiter limiter = ConnectionLimiter.bounded(1, Duration.ofSeconds(10));
+        ConnectionLimiter.Lease lease = limiter.acquire(NoOpMetricCollector.create());
+
+        CompletableFuture<ConnectionLimiter.Lease> waiting = CompletableFuture.supplyAsync(() -> {
+            try {
+                return limiter.acquire(NoOpMetricCollector.create());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        });
+
+        while (limiter.pending() == 0) {
+            Thread.sleep(5);
+        }
+        assertThat(waiting).isNotDone();
+
+        lease.release();
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(limiter.leased()).isEqualTo(1);
+    }
+
+    @Test
+    public void release_calledTwice_onlyReleasesOnce() throws IOException {
+        ConnectionLimiter limiter = ConnectionLimiter.bounded(2, Duration.ofMillis(50));
+        ConnectionLimiter.Lease first = limiter.acquire(NoOpMetricCollector.create());
+        limiter.acquire(NoOpMetricCollector.create());
+
+        first.release();
+        first.release();
+
+        assertThat(limiter.leased()).isEqualTo(1);
+        limiter.acquire(NoOpMetricCollector.create());
+        assertThatThrownBy(() -> limiter.acquire(NoOpMetricCollector.create())).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void acquire_bounded_reportsConcurrencyMetrics() throws IOException {
+        ConnectionLimiter limiter = ConnectionLimiter.bounded(3, Duration.ofSeconds(1));
+        limiter.acquire(NoOpMetricCollector.create());
+
+        MetricCollector collector = MetricCollector.create("test");
+        limiter.acquire(collector);
+        MetricCollection metrics = collector.collect();
+
+        assertThat(metrics.metricValues(MAX_CONCURRENCY)).containsExactly(3);
+        assertThat(metrics.metricValues(LEASED_CONCURRENCY)).containsExactly(2);
+        assertThat(metrics.metricValues(AVAILABLE_CONCURRENCY)).containsExactly(1);
+    }
+
+    @Test
+    public void acquire_unbounded_neverBlocksAndOnlyReportsLeased() throws IOException {
+        ConnectionLimiter limiter = ConnectionLimiter.unbounded();
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire(NoOpMetricCollector.create());
+        }
+
+        MetricCollector collector = MetricCollector.create("test");
+        limiter.acquire(collector);
+        MetricCollection metrics = collector.collect();
+
+        assertThat(metrics.metricValues(LEASED_CONCURRENCY)).containsExactly(101);
+        assertThat(metrics.metricValues(MAX_CONCURRENCY)).isEmpty();
+    }
+}
@@ -760,6 +760,67 @@ public interface S3TransferManager extends SdkAutoCloseable {
          */
         Builder uploadDirectoryMaxDepth(Integer uploadDirectoryMaxDepth);
 
+        /**
+         * Specifies the maximum number of file transfers that {@link S3TransferManager#uploadDirectory} and
+         * {@link S3TransferManager#downloadDirectory} keep in flight at a time. Must be positive. Lower values suit directories
+         * of large files, which are already split into concurrent parts, while higher values suit directories of many small
+         * files. This can be overridden for a single transfer via {@link UploadDirectoryRequest.Builder#maxConcurrency(Integer)}
+         * and {@link DownloadDirectoryRequest.Builder#maxConcurrency(Integer)}.
+         *
+         * <p>
+         * Default to 100
+         *
+         * @param directoryTransferMaxConcurrency the maximum number of file transfers in flight per directory transfer
+         * @return This builder for method chaining.
+         */
+        Builder directoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency);
+
+        /**
+         * Specifies whether directory transfers adapt the number of file transfers in flight to the observed throughput. When
+         * enabled, each directory transfer starts with a small number of file transfers and periodically raises or lowers it,
+         * up to the configured maximum concurrency, keeping the change as long as it improves the throughput. The number is
+         * lowered when adding transfers no longer increases the throughput, e.g. because the HTTP connection pool is
+         * saturated, and halved when transfers are throttled or fail on the client side.
+         *
+         * <p>
+         * Default to false
+         *
+         * @param directoryTransferAdaptiveConcurrency whether to adapt the number of file transfers in flight
+         * @return This builder for method chaining.
+         * @see #directoryTransferMaxConcurrency(Integer)
+         */
+        Builder directoryTransferAdaptiveConcurrency(Boolean directoryTransferAdaptiveConcurrency);
+
+        /**
+         * Specifies the maximum number of ranged GetObject requests that {@link S3TransferManager#downloadFile} keeps in flight
+         * for a single object, when the transfer manager is not built on a CRT-based S3 client. Must be positive. With a value
+         * greater than 1, the file is preallocated to the size of the object and every range is written directly to its own
+         * position in the file, and pausing the download records the completed ranges, so that
+         * {@link S3TransferManager#resumeDownloadFile} only downloads the missing ones. For the same reason, a failed download
+         * leaves the partially written file in place. Requests that specify a range or a part number are always downloaded in a
+         * single request.
+         *
+         * <p>
+         * Default to 1, i.e. the object is downloaded in a single GetObject request
+         *
+         * @param downloadFileMaxConcurrency the maximum number of ranged GetObject requests in flight per file download
+         * @return This builder for method chaining.
+         * @see #downloadFilePartSizeInBytes(Long)
+         */
+        Builder downloadFileMaxConcurrency(Integer downloadFileMaxConcurrency);
+
+        /**
+         * Specifies the size of the ranges requested by {@link S3TransferManager#downloadFile} when
+         * {@link #downloadFileMaxConcurrency(Integer)} is greater than 1. Must be positive.
+         *
+         * <p>
+         * Default to 8 MiB
+         *
+         * @param downloadFilePartSizeInBytes the size of each ranged GetObject request in bytes
+         * @return This builder for method chaining.
+         */
+        Builder downloadFilePartSizeInBytes(Long downloadFilePartSizeInBytes);
+
         /**
          * Builds an instance of {@link S3TransferManager} based on the settings supplied to this builder
          *
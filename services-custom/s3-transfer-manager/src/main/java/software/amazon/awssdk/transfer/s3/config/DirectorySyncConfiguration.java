@@ -0,0 +1,238 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.config;
+
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkPreviewApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.transfer.s3.model.DownloadDirectoryRequest;
+import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures an {@link UploadDirectoryRequest} or {@link DownloadDirectoryRequest} to only transfer the files that differ
+ * between the source and the destination.
+ *
+ * <p>In sync mode, the objects under the prefix of the request are listed and compared with the local files according to
+ * {@link #comparison()}. Files and objects that are the same on both sides are skipped. Optionally, files or objects that only
+ * exist in the destination are deleted once every transfer has succeeded.
+ *
+ * <p>Use {@link #builder()} to create a configuration.
+ */
+@SdkPublicApi
+@SdkPreviewApi
+public final class DirectorySyncConfiguration
+    implements ToCopyableBuilder<DirectorySyncConfiguration.Builder, DirectorySyncConfiguration> {
+
+    private final SyncComparison comparison;
+    private final Boolean deleteExtraneous;
+    private final Path manifestFile;
+
+    private DirectorySyncConfiguration(DefaultBuilder builder) {
+        this.comparison = builder.comparison;
+        this.deleteExtraneous = builder.deleteExtraneous;
+        this.manifestFile = builder.manifestFile;
+    }
+
+    /**
+     * @return how local files and objects are compared
+     * @see Builder#comparison(SyncComparison)
+     */
+    public SyncComparison comparison() {
+        return comparison == null ? SyncComparison.SIZE_AND_LAST_MODIFIED : comparison;
+    }
+
+    /**
+     * @return whether files or objects that only exist in the destination are deleted
+     * @see Builder#deleteExtraneous(Boolean)
+     */
+    public boolean deleteExtraneous() {
+        return Boolean.TRUE.equals(deleteExtraneous);
+    }
+
+    /**
+     * @return the optional file persisting the state of the previous runs
+     * @see Builder#manifestFile(Path)
+     */
+    public Optional<Path> manifestFile() {
+        return Optional.ofNullable(manifestFile);
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    public static Class<? extends Builder> serializableBuilderClass() {
+        return DefaultBuilder.class;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        DirectorySyncConfiguration that = (DirectorySyncConfiguration) o;
+
+        if (comparison != that.comparison) {
+            return false;
+        }
+        if (!Objects.equals(deleteExtraneous, that.deleteExtraneous)) {
+            return false;
+        }
+        return Objects.equals(manifestFile, that.manifestFile);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = comparison != null ? comparison.hashCode() : 0;
+        result = 31 * result + (deleteExtraneous != null ? deleteExtraneous.hashCode() : 0);
+        result = 31 * result + (manifestFile != null ? manifestFile.hashCode() : 0);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectorySyncConfiguration")
+                       .add("comparison", comparison)
+                       .add("deleteExtraneous", deleteExtraneous)
+                       .add("manifestFile", manifestFile)
+                       .build();
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, DirectorySyncConfiguration> {
+
+        /**
+         * Specifies how local files and objects are compared to decide whether they should be transferred.
+         *
+         * <p>
+         * Default to {@link SyncComparison#SIZE_AND_LAST_MODIFIED}
+         *
+         * @param comparison the comparison
+         * @return This builder for method chaining.
+         * @see SyncComparison
+         */
+        Builder comparison(SyncComparison comparison);
+
+        /**
+         * Specifies whether files or objects that only exist in the destination should be deleted: objects under the prefix
+         * that have no corresponding local file when uploading, and local files under the destination directory that have no
+         * corresponding object when downloading.
+         *
+         * <p>
+         * Deletion only happens once every transfer of the request has succeeded. Files and objects that were excluded from the
+         * transfer, for example by {@link UploadDirectoryRequest.Builder#maxDepth(Integer)} or
+         * {@link DownloadDirectoryRequest.Builder#filter(DownloadFilter)}, are considered extraneous.
+         *
+         * <p>
+         * Default to false
+         *
+         * @param deleteExtraneous whether to delete files or objects only present in the destination
+         * @return This builder for method chaining.
+         */
+        Builder deleteExtraneous(Boolean deleteExtraneous);
+
+        /**
+         * Specifies a file used to persist, for each object transferred, its ETag together with the size and last-modified time
+         * of the local file. It is read at the start of the directory transfer, updated as files are transferred or found to be
+         * unchanged, and written once the directory transfer completes. A manifest is only consulted when comparing by
+         * {@link SyncComparison#ETAG}, where it avoids reading the content of unchanged files. A manifest written for a different
+         * bucket or prefix is ignored.
+         *
+         * <p>
+         * When downloading, the manifest file should not be located in the destination directory if
+         * {@link #deleteExtraneous(Boolean)} is enabled, unless it is the file specified here.
+         *
+         * @param manifestFile the path of the manifest file
+         * @return This builder for method chaining.
+         */
+        Builder manifestFile(Path manifestFile);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private SyncComparison comparison;
+        private Boolean deleteExtraneous;
+        private Path manifestFile;
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(DirectorySyncConfiguration configuration) {
+            this.comparison = configuration.comparison;
+            this.deleteExtraneous = configuration.deleteExtraneous;
+            this.manifestFile = configuration.manifestFile;
+        }
+
+        @Override
+        public Builder comparison(SyncComparison comparison) {
+            this.comparison = comparison;
+            return this;
+        }
+
+        public void setComparison(SyncComparison comparison) {
+            comparison(comparison);
+        }
+
+        public SyncComparison getComparison() {
+            return comparison;
+        }
+
+        @Override
+        public Builder deleteExtraneous(Boolean deleteExtraneous) {
+            this.deleteExtraneous = deleteExtraneous;
+            return this;
+        }
+
+        public void setDeleteExtraneous(Boolean deleteExtraneous) {
+            deleteExtraneous(deleteExtraneous);
+        }
+
+        public Boolean getDeleteExtraneous() {
+            return deleteExtraneous;
+        }
+
+        @Override
+        public Builder manifestFile(Path manifestFile) {
+            this.manifestFile = manifestFile;
+            return this;
+        }
+
+        public void setManifestFile(Path manifestFile) {
+            manifestFile(manifestFile);
+        }
+
+        public Path getManifestFile() {
+            return manifestFile;
+        }
+
+        @Override
+        public DirectorySyncConfiguration build() {
+            return new DirectorySyncConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.config;
+
+import software.amazon.awssdk.annotations.SdkPreviewApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * How a directory transfer in sync mode decides whether a local file and the corresponding S3 object differ. Files and objects
+ * that only exist on one side are always considered different.
+ *
+ * @see DirectorySyncConfiguration
+ */
+@SdkPublicApi
+@SdkPreviewApi
+public enum SyncComparison {
+    /**
+     * Transfer if the size of the file and the size of the object differ.
+     */
+    SIZE,
+
+    /**
+     * Transfer if the sizes differ, or if the source is newer than the destination: when uploading, if the file was modified
+     * after the object; when downloading, if the object was modified after the file. This is the default.
+     */
+    SIZE_AND_LAST_MODIFIED,
+
+    /**
+     * Transfer if the sizes differ, or if the content of the file does not match the ETag of the object.
+     *
+     * <p>The content is compared by computing the MD5 digest of the file, which only matches the ETag of objects that were
+     * neither uploaded in multiple parts nor encrypted with SSE-KMS or SSE-C. To compare other objects, and to avoid reading
+     * unchanged files again, configure a {@link DirectorySyncConfiguration.Builder#manifestFile manifest file}: it records the
+     * ETag of each object transferred together with the size and last-modified time of the file, so that on the next run a
+     * file that has not been modified since matches the object as long as its ETag is unchanged.
+     */
+    ETAG
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.ApiCallTimeoutException;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.http.nio.netty.internal.utils.TooManyPendingAcquiresException;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link ConcurrencyLimiter} that searches for the number of transfers in flight that maximizes throughput.
+ *
+ * <p>Completions are grouped into sampling windows that last until as many transfers as the current limit have completed and
+ * at least {@link #MIN_WINDOW_NANOS} have passed. At the end of each window the throughput, in bytes per second, is compared
+ * with the previous window:
+ * <ul>
+ *     <li>If it improved, the limit keeps moving in the same direction.</li>
+ *     <li>If it dropped, the limit moves in the opposite direction.</li>
+ *     <li>If it stayed flat, the additional transfers are only queuing, typically for a connection of a saturated HTTP
+ *     connection pool, so the limit is lowered.</li>
+ *     <li>If transfers were throttled, timed out or could not acquire a connection, the limit is halved.</li>
+ * </ul>
+ * The limit always stays between 1 and the configured maximum.
+ *
+ * @param <T> Type of the items being transferred
+ */
+@SdkInternalApi
+public final class AdaptiveConcurrencyLimiter<T> implements ConcurrencyLimiter<T> {
+    static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static final Logger log = Logger.loggerFor(AdaptiveConcurrencyLimiter.class);
+    private static final int INITIAL_LIMIT = 8;
+    private static final double TOLERANCE = 0.05;
+    private static final int MAX_CAUSE_DEPTH = 8;
+    private static final boolean NETTY_AVAILABLE = isNettyAvailable();
+
+    private final int maxLimit;
+    private final ToLongFunction<T> sizeFunction;
+    private final LongSupplier nanoClock;
+
+    private volatile int limit;
+    private int direction = 1;
+    private double previousThroughput = -1;
+    private long windowStartNanos;
+    private long windowBytes;
+    private int windowCompletions;
+    private boolean windowCongested;
+
+    public AdaptiveConcurrencyLimiter(int maxLimit, ToLongFunction<T> sizeFunction) {
+        this(maxLimit, sizeFunction, System::nanoTime);
+    }
+
+    @SdkTestInternalApi
+    AdaptiveConcurrencyLimiter(int maxLimit, ToLongFunction<T> sizeFunction, LongSupplier nanoClock) {
+        this.maxLimit = Validate.isPositive(maxLimit, "maxLimit");
+        this.sizeFunction = Validate.paramNotNull(sizeFunction, "sizeFunction");
+        this.nanoClock = nanoClock;
+        this.limit = Math.min(maxLimit, INITIAL_LIMIT);
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public synchronized void onCompletion(T item, long durationNanos, Throwable failure) {
+        windowCompletions++;
+        if (failure == null) {
+            windowBytes += sizeFunction.applyAsLong(item);
+        } else if (isCongestion(failure)) {
+            windowCongested = true;
+        }
+
+        long now = nanoClock.getAsLong();
+        long elapsed = now - windowStartNanos;
+        if (windowCompletions < limit || elapsed < MIN_WINDOW_NANOS) {
+            return;
+        }
+
+        adjust(windowBytes * (double) TimeUnit.SECONDS.toNanos(1) / elapsed);
+
+        windowStartNanos = now;
+        windowBytes = 0;
+        windowCompletions = 0;
+        windowCongested = false;
+    }
+
+    private void adjust(double throughput) {
+        int previousLimit = limit;
+        if (windowCongested) {
+            direction = 1;
+            limit = Math.max(1, limit / 2);
+        } else {
+            if (previousThroughput >= 0) {
+                if (throughput < previousThroughput * (1 - TOLERANCE)) {
+                    direction = -direction;
+                } else if (throughput <= previousThroughput * (1 + TOLERANCE)) {
+                    direction = -1;
+                }
+            }
+            int step = Math.max(1, limit / 8);
+            limit = Math.max(1, Math.min(maxLimit, limit + direction * step));
+        }
+        previousThroughput = throughput;
+        log.trace(() -> String.format("Throughput %.0f B/s, concurrency limit %d -> %d", throughput, previousLimit, limit));
+    }
+
+    /**
+     * Whether a failure shows that more transfers are in flight than the service or the HTTP client can take: throttling,
+     * timeouts and failures to acquire a connection. Other failures, e.g. a missing source file, say nothing about the
+     * concurrency.
+     */
+    static boolean isCongestion(Throwable failure) {
+        Throwable cause = failure;
+        for (int depth = 0; cause != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (cause instanceof SdkException && RetryUtils.isThrottlingException((SdkException) cause)) {
+                return true;
+            }
+            if (isTimeout(cause) || isConnectionAcquireFailure(cause)) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    private static boolean isTimeout(Throwable cause) {
+        return cause instanceof ApiCallTimeoutException
+               || cause instanceof ApiCallAttemptTimeoutException
+               || cause instanceof SocketTimeoutException
+               || cause instanceof TimeoutException
+               || NETTY_AVAILABLE && NettyFailures.isTimeout(cause);
+    }
+
+    private static boolean isConnectionAcquireFailure(Throwable cause) {
+        return NETTY_AVAILABLE && NettyFailures.isConnectionAcquireFailure(cause);
+    }
+
+    private static boolean isNettyAvailable() {
+        try {
+            ClassLoaderHelper.loadClass("software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient", false);
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The failures of the Netty HTTP client, which is an optional dependency. This class is only loaded when the client is on
+     * the classpath.
+     */
+    private static final class NettyFailures {
+        private NettyFailures() {
+        }
+
+        private static boolean isTimeout(Throwable cause) {
+            return cause instanceof ReadTimeoutException
+                   || cause instanceof WriteTimeoutException
+                   || cause instanceof io.netty.handler.timeout.TimeoutException;
+        }
+
+        private static boolean isConnectionAcquireFailure(Throwable cause) {
+            return cause instanceof TooManyPendingAcquiresException;
+        }
+    }
+}
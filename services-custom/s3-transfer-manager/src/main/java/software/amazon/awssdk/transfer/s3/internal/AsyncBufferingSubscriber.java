@@ -19,6 +19,7 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
@@ -28,7 +29,8 @@ import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link Subscriber} that execute the provided function for every event and limits the number of concurrent
- * function execution to the given {@code maxConcurrentRequests}
+ * function execution to the given {@code maxConcurrentRequests}, or to the limit of the given {@link ConcurrencyLimiter} which
+ * may change as executions complete.
  *
  * @param <T> Type of data requested
  */
@@ -37,8 +39,12 @@ public class AsyncBufferingSubscriber<T> implements Subscriber<T> {
     private static final Logger log = Logger.loggerFor(AsyncBufferingSubscriber.class);
     private final CompletableFuture<?> returnFuture;
     private final Function<T, CompletableFuture<?>> consumer;
-    private final int maxConcurrentExecutions;
+    private final ConcurrencyLimiter<T> concurrencyLimiter;
     private final AtomicInteger numRequestsInFlight;
+    /**
+     * The number of items requested from upstream that have not been delivered yet.
+     */
+    private final AtomicLong outstandingDemand;
     private volatile boolean upstreamDone;
     private Subscription subscription;
 
@@ -47,10 +53,17 @@ public class AsyncBufferingSubscriber<T> implements Subscriber<T> {
     public AsyncBufferingSubscriber(Function<T, CompletableFuture<?>> consumer,
                                     CompletableFuture<Void> returnFuture,
                                     int maxConcurrentExecutions) {
+        this(consumer, returnFuture, ConcurrencyLimiter.fixed(maxConcurrentExecutions));
+    }
+
+    public AsyncBufferingSubscriber(Function<T, CompletableFuture<?>> consumer,
+                                    CompletableFuture<Void> returnFuture,
+                                    ConcurrencyLimiter<T> concurrencyLimiter) {
         this.returnFuture = returnFuture;
         this.consumer = consumer;
-        this.maxConcurrentExecutions = maxConcurrentExecutions;
+        this.concurrencyLimiter = Validate.paramNotNull(concurrencyLimiter, "concurrencyLimiter");
         this.numRequestsInFlight = new AtomicInteger(0);
+        this.outstandingDemand = new AtomicLong(0);
         this.requestsInFlight = ConcurrentHashMap.newKeySet();
 
         returnFuture.whenComplete((r, t) -> {
@@ -69,23 +82,38 @@ public class AsyncBufferingSubscriber<T> implements Subscriber<T> {
             return;
         }
         this.subscription = subscription;
-        subscription.request(maxConcurrentExecutions);
+        requestMore();
     }
 
     @Override
     public void onNext(T item) {
+        // Count the execution before releasing its demand so that requestMore never sees the item missing from both counts
         numRequestsInFlight.incrementAndGet();
+        outstandingDemand.decrementAndGet();
+        long start = System.nanoTime();
         CompletableFuture<?> currentRequest = consumer.apply(item);
         requestsInFlight.add(currentRequest);
         currentRequest.whenComplete((r, t) -> {
+            concurrencyLimiter.onCompletion(item, System.nanoTime() - start, t);
             checkForCompletion(numRequestsInFlight.decrementAndGet());
             requestsInFlight.remove(currentRequest);
-            synchronized (this) {
-                subscription.request(1);
-            }
+            requestMore();
         });
     }
 
+    /**
+     * Request enough items to bring the number of executions in flight, plus the items requested but not yet delivered, up to
+     * the current limit. Nothing is requested while the limit is lower than that, so lowering the limit takes effect as
+     * executions complete.
+     */
+    private synchronized void requestMore() {
+        long toRequest = concurrencyLimiter.limit() - numRequestsInFlight.get() - outstandingDemand.get();
+        if (toRequest > 0) {
+            outstandingDemand.addAndGet(toRequest);
+            subscription.request(toRequest);
+        }
+    }
+
     @Override
     public void onError(Throwable t) {
         // Need to complete future exceptionally first to prevent
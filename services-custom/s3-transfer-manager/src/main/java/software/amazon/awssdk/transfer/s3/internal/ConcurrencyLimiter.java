@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Decides how many transfers {@link AsyncBufferingSubscriber} keeps in flight.
+ *
+ * @param <T> Type of the items being transferred
+ */
+@SdkInternalApi
+public interface ConcurrencyLimiter<T> {
+
+    /**
+     * @return the maximum number of transfers that should currently be in flight
+     */
+    int limit();
+
+    /**
+     * Invoked every time a transfer completes.
+     *
+     * @param item the item that was transferred
+     * @param durationNanos how long the transfer took, in nanoseconds
+     * @param failure the failure of the transfer, or null if it was successful
+     */
+    void onCompletion(T item, long durationNanos, Throwable failure);
+
+    /**
+     * Create a limiter that always allows {@code limit} transfers in flight.
+     */
+    static <T> ConcurrencyLimiter<T> fixed(int limit) {
+        Validate.isPositive(limit, "limit");
+        return new ConcurrencyLimiter<T>() {
+            @Override
+            public int limit() {
+                return limit;
+            }
+
+            @Override
+            public void onCompletion(T item, long durationNanos, Throwable failure) {
+            }
+        };
+    }
+}
@@ -94,6 +94,14 @@ class CrtS3TransferManager extends GenericS3TransferManager {
         return new CrtFileUpload(returnFuture, progressUpdater.progress(), observable, uploadFileRequest);
     }
 
+    /**
+     * The CRT-based S3 client already downloads objects as concurrent ranged GET requests.
+     */
+    @Override
+    boolean supportsMultiRangeFileDownload() {
+        return false;
+    }
+
     @Override
     FileUpload doResumeUpload(ResumableFileUpload resumableFileUpload) {
         UploadFileRequest uploadFileRequest = resumableFileUpload.uploadFileRequest();
@@ -0,0 +1,205 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.DirectorySyncConfiguration;
+import software.amazon.awssdk.transfer.s3.config.SyncComparison;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Decides which files of a directory transfer in sync mode need to be transferred, according to a
+ * {@link DirectorySyncConfiguration}, and maintains the optional {@link SyncManifest}.
+ */
+@SdkInternalApi
+final class DirectorySync {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+
+    private final SyncComparison comparison;
+    private final boolean deleteExtraneous;
+    private final SyncManifest manifest;
+
+    private DirectorySync(DirectorySyncConfiguration configuration, SyncManifest manifest) {
+        this.comparison = configuration.comparison();
+        this.deleteExtraneous = configuration.deleteExtraneous();
+        this.manifest = manifest;
+    }
+
+    static DirectorySync create(DirectorySyncConfiguration configuration, String bucket, String prefix) {
+        SyncManifest manifest = configuration.manifestFile()
+                                             .map(file -> SyncManifest.load(file, bucket, prefix))
+                                             .orElse(null);
+        return new DirectorySync(configuration, manifest);
+    }
+
+    boolean deleteExtraneous() {
+        return deleteExtraneous;
+    }
+
+    /**
+     * @param s3Object the object currently stored under the key, or null
+     * @return true if the file should be uploaded to the key
+     */
+    boolean uploadNeeded(String key, Path file, S3Object s3Object) {
+        return differs(key, file, s3Object, true);
+    }
+
+    /**
+     * @return true if the object should be downloaded to the file
+     */
+    boolean downloadNeeded(String key, S3Object s3Object, Path file) {
+        return differs(key, file, s3Object, false);
+    }
+
+    /**
+     * Record in the manifest that the file and the object with the given ETag match, after a successful transfer.
+     */
+    void transferred(String key, Path file, String eTag) {
+        if (manifest == null || eTag == null) {
+            return;
+        }
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            manifest.record(key, new SyncManifest.Entry(attributes.size(), attributes.lastModifiedTime().toMillis(),
+                                                        normalizeETag(eTag)));
+        } catch (IOException e) {
+            log.debug(() -> "Not recording " + file + " in the sync manifest", e);
+        }
+    }
+
+    /**
+     * Write the manifest, if one is configured. Failing to write it does not fail the transfer, as the next run only becomes
+     * more expensive.
+     */
+    void saveManifest() {
+        if (manifest == null) {
+            return;
+        }
+        try {
+            manifest.save();
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Failed to write the sync manifest", e);
+        }
+    }
+
+    private boolean differs(String key, Path file, S3Object s3Object, boolean upload) {
+        if (s3Object == null || s3Object.size() == null) {
+            return true;
+        }
+        BasicFileAttributes attributes = readAttributes(file);
+        if (attributes == null || !attributes.isRegularFile() || attributes.size() != s3Object.size()) {
+            return true;
+        }
+
+        boolean differs;
+        switch (comparison) {
+            case SIZE:
+                differs = false;
+                break;
+            case SIZE_AND_LAST_MODIFIED:
+                differs = sourceIsNewer(attributes, s3Object, upload);
+                break;
+            case ETAG:
+                differs = !contentMatches(key, file, attributes, s3Object);
+                break;
+            default:
+                throw new IllegalStateException("Unsupported comparison: " + comparison);
+        }
+        if (!differs) {
+            keepManifestEntry(key, attributes, s3Object);
+        }
+        return differs;
+    }
+
+    /**
+     * S3 stores last-modified times with a precision of one second, so both times are truncated to seconds.
+     */
+    private static boolean sourceIsNewer(BasicFileAttributes attributes, S3Object s3Object, boolean upload) {
+        if (s3Object.lastModified() == null) {
+            return true;
+        }
+        long fileSeconds = attributes.lastModifiedTime().to(TimeUnit.SECONDS);
+        long objectSeconds = s3Object.lastModified().getEpochSecond();
+        return upload ? fileSeconds > objectSeconds : objectSeconds > fileSeconds;
+    }
+
+    private boolean contentMatches(String key, Path file, BasicFileAttributes attributes, S3Object s3Object) {
+        String eTag = normalizeETag(s3Object.eTag());
+        if (eTag == null) {
+            return false;
+        }
+        if (manifest != null) {
+            SyncManifest.Entry entry = manifest.previousEntry(key);
+            if (entry != null && entry.matches(attributes.size(), attributes.lastModifiedTime().toMillis(), eTag)) {
+                return true;
+            }
+        }
+        // The ETag of multipart objects is not the MD5 digest of their content
+        if (eTag.contains("-")) {
+            return false;
+        }
+        return eTag.equalsIgnoreCase(md5Hex(file));
+    }
+
+    private void keepManifestEntry(String key, BasicFileAttributes attributes, S3Object s3Object) {
+        String eTag = normalizeETag(s3Object.eTag());
+        if (manifest != null && eTag != null) {
+            manifest.record(key, new SyncManifest.Entry(attributes.size(), attributes.lastModifiedTime().toMillis(), eTag));
+        }
+    }
+
+    /**
+     * @return the attributes of the file, or null if they cannot be read, in which case the file is transferred and any error
+     * is reported by the transfer itself
+     */
+    private static BasicFileAttributes readAttributes(Path file) {
+        try {
+            return Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            log.debug(() -> "Failed to read the attributes of " + file, e);
+            return null;
+        }
+    }
+
+    private static String md5Hex(Path file) {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return BinaryUtils.toHex(Md5Utils.computeMD5Hash(inputStream));
+        } catch (IOException e) {
+            log.debug(() -> "Failed to compute the MD5 digest of " + file, e);
+            return null;
+        }
+    }
+
+    private static String normalizeETag(String eTag) {
+        if (eTag == null) {
+            return null;
+        }
+        return eTag.startsWith("\"") && eTag.endsWith("\"") && eTag.length() >= 2 ? eTag.substring(1, eTag.length() - 1) : eTag;
+    }
+}
@@ -16,20 +16,26 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
-import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
+import java.util.stream.Stream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
@@ -105,36 +111,143 @@ public class DownloadDirectoryHelper {
 
         Queue<FailedFileDownload> failedFileDownloads = new ConcurrentLinkedQueue<>();
 
+        DownloadSync sync = downloadDirectoryRequest.sync()
+                                                    .map(c -> new DownloadSync(DirectorySync.create(c, bucket,
+                                                                                                    prefixOf(request))))
+                                                    .orElse(null);
+
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
         AsyncBufferingSubscriber<S3Object> asyncBufferingSubscriber =
             new AsyncBufferingSubscriber<>(downloadSingleFile(downloadDirectoryRequest, request,
-                                                              failedFileDownloads),
+                                                              failedFileDownloads, sync),
                                            allOfFutures,
-                                           DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY);
-        listObjectsHelper.listS3ObjectsRecursively(request)
-                         .filter(downloadDirectoryRequest.filter())
-                         .subscribe(asyncBufferingSubscriber);
+                                           directoryTransferLimiter(downloadDirectoryRequest));
+        SdkPublisher<S3Object> s3Objects = listObjectsHelper.listS3ObjectsRecursively(request);
+        if (sync != null) {
+            // Objects excluded by the filter still exist in the bucket, so their local copies are not extraneous
+            s3Objects = s3Objects.map(s3Object -> expectDownload(downloadDirectoryRequest, request, sync, s3Object))
+                                 .filter(download -> downloadDirectoryRequest.filter().test(download.s3Object))
+                                 .filter(download -> downloadNeeded(sync, download))
+                                 .map(download -> download.s3Object);
+        } else {
+            s3Objects = s3Objects.filter(downloadDirectoryRequest.filter());
+        }
+        s3Objects.subscribe(asyncBufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
 
         allOfFutures.whenComplete((r, t) -> {
             if (t != null) {
                 returnFuture.completeExceptionally(SdkClientException.create("Failed to send request", t));
-            } else {
-                returnFuture.complete(CompletedDirectoryDownload.builder()
-                                                                .failedTransfers(failedFileDownloads)
-                                                                .build());
+                return;
+            }
+            CompletedDirectoryDownload completedDownload = CompletedDirectoryDownload.builder()
+                                                                                     .failedTransfers(failedFileDownloads)
+                                                                                     .build();
+            if (sync == null) {
+                returnFuture.complete(completedDownload);
+                return;
             }
+            sync.directorySync.saveManifest();
+            if (!failedFileDownloads.isEmpty() || !sync.directorySync.deleteExtraneous()) {
+                returnFuture.complete(completedDownload);
+                return;
+            }
+            CompletableFuture.runAsync(() -> deleteExtraneousFiles(downloadDirectoryRequest, sync),
+                                       transferConfiguration.option(TransferConfigurationOption.EXECUTOR))
+                             .whenComplete((ignored, deleteFailure) -> {
+                                 if (deleteFailure != null) {
+                                     returnFuture.completeExceptionally(deleteFailure);
+                                 } else {
+                                     returnFuture.complete(completedDownload);
+                                 }
+                             });
         });
     }
 
+    private static String prefixOf(ListObjectsV2Request listRequest) {
+        return listRequest.prefix() == null ? DEFAULT_PREFIX : listRequest.prefix();
+    }
+
+    /**
+     * Remember the destination of a listed object in sync mode, so that it is not deleted as an extraneous file whether or not
+     * the object is downloaded.
+     */
+    private ExpectedDownload expectDownload(DownloadDirectoryRequest downloadDirectoryRequest,
+                                            ListObjectsV2Request listRequest,
+                                            DownloadSync sync,
+                                            S3Object s3Object) {
+        Path destinationPath;
+        try {
+            destinationPath = downloadFileRequest(downloadDirectoryRequest, s3Object,
+                                                  determineDestinationPath(downloadDirectoryRequest, listRequest, s3Object))
+                .destination();
+        } catch (SdkClientException e) {
+            return new ExpectedDownload(s3Object, null);
+        }
+        sync.expectedFiles.add(destinationPath.toAbsolutePath().normalize());
+        return new ExpectedDownload(s3Object, destinationPath);
+    }
+
+    /**
+     * Decide whether the object needs to be downloaded in sync mode.
+     */
+    private static boolean downloadNeeded(DownloadSync sync, ExpectedDownload download) {
+        if (download.destination == null) {
+            // Let the download of the object fail and report it
+            return true;
+        }
+        S3Object s3Object = download.s3Object;
+        boolean needed = sync.directorySync.downloadNeeded(s3Object.key(), s3Object, download.destination);
+        if (!needed) {
+            log.debug(() -> "Skipping download of unchanged object " + s3Object.key());
+        }
+        return needed;
+    }
+
+    /**
+     * Delete the regular files of the destination directory that do not correspond to any object, except the manifest.
+     */
+    private static void deleteExtraneousFiles(DownloadDirectoryRequest downloadDirectoryRequest, DownloadSync sync) {
+        Path destination = downloadDirectoryRequest.destination();
+        if (!Files.isDirectory(destination)) {
+            return;
+        }
+        Set<Path> keptFiles = new HashSet<>(sync.expectedFiles);
+        downloadDirectoryRequest.sync().get().manifestFile().ifPresent(manifest -> {
+            Path normalized = manifest.toAbsolutePath().normalize();
+            keptFiles.add(normalized);
+            keptFiles.add(normalized.resolveSibling(normalized.getFileName() + ".tmp"));
+        });
+        try (Stream<Path> files = Files.walk(destination)) {
+            Iterator<Path> iterator = files.filter(Files::isRegularFile).iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                if (!keptFiles.contains(file.toAbsolutePath().normalize())) {
+                    log.debug(() -> "Deleting extraneous file " + file);
+                    Files.delete(file);
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw SdkClientException.create("Failed to delete extraneous files from " + destination, e);
+        }
+    }
+
+    private ConcurrencyLimiter<S3Object> directoryTransferLimiter(DownloadDirectoryRequest downloadDirectoryRequest) {
+        int maxConcurrency = transferConfiguration.resolveDownloadDirectoryMaxConcurrency(downloadDirectoryRequest);
+        return transferConfiguration.directoryTransferConcurrencyLimiter(
+            maxConcurrency, s3Object -> s3Object.size() == null ? 0L : s3Object.size());
+    }
+
     private Function<S3Object, CompletableFuture<?>> downloadSingleFile(
         DownloadDirectoryRequest downloadDirectoryRequest,
         ListObjectsV2Request listRequest,
-        Queue<FailedFileDownload> failedFileDownloads) {
+        Queue<FailedFileDownload> failedFileDownloads,
+        DownloadSync sync) {
 
         return s3Object -> doDownloadSingleFile(downloadDirectoryRequest,
                                             failedFileDownloads,
                                             listRequest,
+                                            sync,
                                             s3Object);
     }
 
@@ -160,6 +273,7 @@ public class DownloadDirectoryHelper {
     private CompletableFuture<CompletedFileDownload> doDownloadSingleFile(DownloadDirectoryRequest downloadDirectoryRequest,
                                                                           Collection<FailedFileDownload> failedFileDownloads,
                                                                           ListObjectsV2Request listRequest,
+                                                                          DownloadSync sync,
                                                                           S3Object s3Object) {
 
         Path destinationPath = determineDestinationPath(downloadDirectoryRequest, listRequest, s3Object);
@@ -173,6 +287,10 @@ public class DownloadDirectoryHelper {
             CompletableFuture<CompletedFileDownload> executionFuture =
                 downloadFileFunction.apply(downloadFileRequest).completionFuture();
             CompletableFuture<CompletedFileDownload> future = executionFuture.whenComplete((r, t) -> {
+                if (t == null && sync != null) {
+                    String eTag = r.response().eTag() != null ? r.response().eTag() : s3Object.eTag();
+                    sync.directorySync.transferred(s3Object.key(), downloadFileRequest.destination(), eTag);
+                }
                 if (t != null) {
                     failedFileDownloads.add(FailedFileDownload.builder()
                                                               .exception(t instanceof CompletionException ? t.getCause() : t)
@@ -228,4 +346,33 @@ public class DownloadDirectoryHelper {
             throw SdkClientException.create("Failed to create parent directories for " + destinationPath, e);
         }
     }
+
+    /**
+     * The state of a download directory request in sync mode.
+     */
+    private static final class DownloadSync {
+        private final DirectorySync directorySync;
+
+        /**
+         * The normalized absolute paths of the files corresponding to the listed objects.
+         */
+        private final Set<Path> expectedFiles = ConcurrentHashMap.newKeySet();
+
+        private DownloadSync(DirectorySync directorySync) {
+            this.directorySync = directorySync;
+        }
+    }
+
+    /**
+     * A listed object and the file it is downloaded to, or null if the destination could not be determined.
+     */
+    private static final class ExpectedDownload {
+        private final S3Object s3Object;
+        private final Path destination;
+
+        private ExpectedDownload(S3Object s3Object, Path destination) {
+            this.s3Object = s3Object;
+            this.destination = destination;
+        }
+    }
 }
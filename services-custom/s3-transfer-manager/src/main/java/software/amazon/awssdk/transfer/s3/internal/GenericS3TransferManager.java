@@ -19,11 +19,14 @@ import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionA
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.PAUSE_OBSERVABLE;
 import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.RESUME_TOKEN;
 import static software.amazon.awssdk.transfer.s3.SizeConstant.MB;
+import static software.amazon.awssdk.transfer.s3.internal.utils.FileUtils.fileNotModified;
 import static software.amazon.awssdk.transfer.s3.internal.utils.ResumableRequestConverter.toDownloadFileRequestAndTransformer;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.arns.Arn;
@@ -37,6 +40,7 @@ import software.amazon.awssdk.core.internal.async.FileAsyncRequestBody;
 import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
+import software.amazon.awssdk.services.s3.internal.multipart.RangedFileDownloader;
 import software.amazon.awssdk.services.s3.internal.resource.S3AccessPointResource;
 import software.amazon.awssdk.services.s3.internal.resource.S3ArnConverter;
 import software.amazon.awssdk.services.s3.internal.resource.S3Resource;
@@ -103,8 +107,11 @@ class GenericS3TransferManager implements S3TransferManager {
                              boolean isDefaultS3AsyncClient) {
         this.s3AsyncClient = s3AsyncClient;
         this.transferConfiguration = transferConfiguration;
-        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration, this::uploadFile);
         ListObjectsHelper listObjectsHelper = new ListObjectsHelper(s3AsyncClient::listObjectsV2);
+        uploadDirectoryHelper = new UploadDirectoryHelper(transferConfiguration,
+                                                          listObjectsHelper,
+                                                          s3AsyncClient::deleteObjects,
+                                                          this::uploadFile);
         downloadDirectoryHelper = new DownloadDirectoryHelper(transferConfiguration,
                                                               listObjectsHelper,
                                                               this::downloadFile);
@@ -336,6 +343,10 @@ class GenericS3TransferManager implements S3TransferManager {
     public final FileDownload downloadFile(DownloadFileRequest downloadRequest) {
         Validate.paramNotNull(downloadRequest, "downloadFileRequest");
 
+        if (isMultiRangeDownloadEnabled(downloadRequest.getObjectRequest())) {
+            return multiRangeDownloadFile(downloadRequest);
+        }
+
         AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> responseTransformer =
             AsyncResponseTransformer.toFile(downloadRequest.destination(),
                                             FileTransformerConfiguration.defaultCreateOrReplaceExisting());
@@ -373,6 +384,180 @@ class GenericS3TransferManager implements S3TransferManager {
         return progressUpdater;
     }
 
+    /**
+     * Can be overridden by subclasses whose S3 client already splits downloads into concurrent ranged GET requests
+     */
+    boolean supportsMultiRangeFileDownload() {
+        return true;
+    }
+
+    private boolean isMultiRangeDownloadEnabled(GetObjectRequest getObjectRequest) {
+        Integer maxConcurrency = transferConfiguration.option(TransferConfigurationOption.DOWNLOAD_FILE_MAX_CONCURRENCY);
+        return supportsMultiRangeFileDownload()
+               && maxConcurrency != null
+               && maxConcurrency > 1
+               && getObjectRequest.range() == null
+               && getObjectRequest.partNumber() == null;
+    }
+
+    private RangedFileDownloader newRangedFileDownloader(DownloadFileRequest downloadRequest,
+                                                         long partSizeInBytes,
+                                                         TransferProgressUpdater progressUpdater) {
+        int maxConcurrency = transferConfiguration.option(TransferConfigurationOption.DOWNLOAD_FILE_MAX_CONCURRENCY);
+        // The file is left in place when the download fails, so that it can be resumed
+        return new RangedFileDownloader(s3AsyncClient,
+                                        downloadRequest.getObjectRequest(),
+                                        downloadRequest.destination(),
+                                        FileTransformerConfiguration.defaultCreateOrReplaceExisting(),
+                                        partSizeInBytes,
+                                        maxConcurrency,
+                                        multiRangeProgressListener(progressUpdater));
+    }
+
+    private static RangedFileDownloader.ProgressListener multiRangeProgressListener(TransferProgressUpdater progressUpdater) {
+        return new RangedFileDownloader.ProgressListener() {
+            @Override
+            public void downloadStarted(GetObjectResponse objectResponse, long bytesAlreadyTransferred) {
+                progressUpdater.multiRangeDownloadStarted(objectResponse, bytesAlreadyTransferred);
+            }
+
+            @Override
+            public void bytesTransferred(long numBytes) {
+                progressUpdater.multiRangeBytesTransferred(numBytes);
+            }
+
+            @Override
+            public void downloadCompleted() {
+                progressUpdater.multiRangeDownloadCompleted();
+            }
+        };
+    }
+
+    private long configuredDownloadFilePartSize() {
+        return transferConfiguration.option(TransferConfigurationOption.DOWNLOAD_FILE_PART_SIZE_IN_BYTES);
+    }
+
+    private FileDownload multiRangeDownloadFile(DownloadFileRequest downloadRequest) {
+        CompletableFuture<CompletedFileDownload> returnFuture = new CompletableFuture<>();
+        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(downloadRequest, null);
+        RangedFileDownloader downloader =
+            newRangedFileDownloader(downloadRequest, configuredDownloadFilePartSize(), progressUpdater);
+        doMultiRangeDownloadFile(downloadRequest, progressUpdater, returnFuture, downloader::download);
+
+        return new DefaultFileDownload(returnFuture, progressUpdater.progress(), () -> downloadRequest, null,
+                                       builder -> recordResumeState(downloader, builder));
+    }
+
+    private void doMultiRangeDownloadFile(DownloadFileRequest downloadRequest,
+                                          TransferProgressUpdater progressUpdater,
+                                          CompletableFuture<CompletedFileDownload> returnFuture,
+                                          Supplier<CompletableFuture<GetObjectResponse>> download) {
+        try {
+            progressUpdater.transferInitiated();
+            progressUpdater.registerCompletion(returnFuture);
+
+            assertNotUnsupportedArn(downloadRequest.getObjectRequest().bucket(), "download");
+
+            CompletableFuture<GetObjectResponse> future = download.get();
+
+            // Forward download cancellation to future
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+
+            CompletableFutureUtils.forwardTransformedResultTo(future, returnFuture,
+                                                              res -> CompletedFileDownload.builder()
+                                                                                          .response(res)
+                                                                                          .build());
+        } catch (Throwable throwable) {
+            returnFuture.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Resume a download that was split into ranges, only downloading the parts that were not completed if neither the object
+     * nor the file changed since the pause, or the whole object otherwise.
+     */
+    private TransferProgressUpdater resumeMultiRangeDownloadFile(ResumableFileDownload resumableFileDownload,
+                                                                 HeadObjectResponse headObjectResponse,
+                                                                 CompletableFuture<CompletedFileDownload> returnFuture,
+                                                                 AtomicReference<RangedFileDownloader> downloaderReference) {
+        DownloadFileRequest downloadRequest = resumableFileDownload.downloadFileRequest();
+        TransferProgressUpdater progressUpdater = new TransferProgressUpdater(downloadRequest, null);
+        long totalSizeInBytes = resumableFileDownload.totalSizeInBytes().orElse(-1);
+        boolean s3ObjectNotModified =
+            headObjectResponse.lastModified().equals(resumableFileDownload.s3ObjectLastModified().orElse(null))
+            && headObjectResponse.contentLength() != null
+            && headObjectResponse.contentLength() == totalSizeInBytes;
+        boolean fileNotModified = fileNotModified(totalSizeInBytes, resumableFileDownload.fileLastModified(),
+                                                  downloadRequest.destination());
+
+        if (s3ObjectNotModified && fileNotModified) {
+            RangedFileDownloader downloader =
+                newRangedFileDownloader(downloadRequest, resumableFileDownload.partSizeInBytes().getAsLong(), progressUpdater);
+            downloaderReference.set(downloader);
+            doMultiRangeDownloadFile(downloadRequest, progressUpdater, returnFuture,
+                                     () -> downloader.resume(toObjectResponse(headObjectResponse),
+                                                             resumableFileDownload.completedParts()));
+            return progressUpdater;
+        }
+
+        log.debug(() -> String.format("The object or the file %s has been modified since the last pause. The SDK will download "
+                                      + "the object from the beginning", downloadRequest.destination()));
+        RangedFileDownloader downloader =
+            newRangedFileDownloader(downloadRequest, configuredDownloadFilePartSize(), progressUpdater);
+        downloaderReference.set(downloader);
+        doMultiRangeDownloadFile(downloadRequest, progressUpdater, returnFuture, downloader::download);
+        return progressUpdater;
+    }
+
+    /**
+     * Records the state of a resumed multi-range download when it is paused. Until the download restarts, the parts recorded by
+     * the previous pause still hold.
+     */
+    private static Consumer<ResumableFileDownload.Builder> multiRangeResumeState(
+        AtomicReference<RangedFileDownloader> downloaderReference, ResumableFileDownload resumableFileDownload) {
+        return builder -> {
+            RangedFileDownloader downloader = downloaderReference.get();
+            if (downloader != null) {
+                recordResumeState(downloader, builder);
+            } else {
+                builder.partSizeInBytes(resumableFileDownload.partSizeInBytes().getAsLong())
+                       .completedParts(resumableFileDownload.completedParts())
+                       .bytesTransferred(resumableFileDownload.bytesTransferred());
+            }
+        };
+    }
+
+    /**
+     * Record the parts written so far, so that the download can be resumed from them. Nothing is recorded until the size of the
+     * object is known.
+     */
+    private static void recordResumeState(RangedFileDownloader downloader, ResumableFileDownload.Builder builder) {
+        GetObjectResponse objectResponse = downloader.objectResponse();
+        if (objectResponse == null || objectResponse.contentLength() == 0) {
+            return;
+        }
+        builder.partSizeInBytes(downloader.partSizeInBytes())
+               .completedParts(downloader.completedParts())
+               .bytesTransferred(downloader.completedBytes())
+               .totalSizeInBytes(objectResponse.contentLength())
+               .s3ObjectLastModified(objectResponse.lastModified());
+    }
+
+    /**
+     * The response of a resumed download, for which no GET of the whole object is made.
+     */
+    private static GetObjectResponse toObjectResponse(HeadObjectResponse headObjectResponse) {
+        return GetObjectResponse.builder()
+                                .contentLength(headObjectResponse.contentLength())
+                                .eTag(headObjectResponse.eTag())
+                                .lastModified(headObjectResponse.lastModified())
+                                .contentType(headObjectResponse.contentType())
+                                .contentEncoding(headObjectResponse.contentEncoding())
+                                .versionId(headObjectResponse.versionId())
+                                .metadata(headObjectResponse.metadata())
+                                .build();
+    }
+
     @Override
     public final FileDownload resumeDownloadFile(ResumableFileDownload resumableFileDownload) {
         Validate.paramNotNull(resumableFileDownload, "resumableFileDownload");
@@ -381,6 +566,8 @@ class GenericS3TransferManager implements S3TransferManager {
         GetObjectRequest getObjectRequest = originalDownloadRequest.getObjectRequest();
         CompletableFuture<TransferProgress> progressFuture = new CompletableFuture<>();
         CompletableFuture<DownloadFileRequest> newDownloadFileRequestFuture = new CompletableFuture<>();
+        boolean multiRange = resumableFileDownload.partSizeInBytes().isPresent() && supportsMultiRangeFileDownload();
+        AtomicReference<RangedFileDownloader> multiRangeDownloader = new AtomicReference<>();
 
         CompletableFuture<HeadObjectResponse> headFuture =
             s3AsyncClient.headObject(b -> b.bucket(getObjectRequest.bucket()).key(getObjectRequest.key()));
@@ -389,6 +576,13 @@ class GenericS3TransferManager implements S3TransferManager {
         CompletableFutureUtils.forwardExceptionTo(returnFuture, headFuture);
 
         headFuture.thenAccept(headObjectResponse -> {
+            if (multiRange) {
+                newDownloadFileRequestFuture.complete(originalDownloadRequest);
+                TransferProgressUpdater progressUpdater = resumeMultiRangeDownloadFile(resumableFileDownload, headObjectResponse,
+                                                                                       returnFuture, multiRangeDownloader);
+                progressFuture.complete(progressUpdater.progress());
+                return;
+            }
             Pair<DownloadFileRequest, AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>>
                 requestPair = toDownloadFileRequestAndTransformer(resumableFileDownload, headObjectResponse,
                                                                   originalDownloadRequest);
@@ -409,7 +603,8 @@ class GenericS3TransferManager implements S3TransferManager {
         return new DefaultFileDownload(returnFuture,
                                        new ResumeTransferProgress(progressFuture),
                                        () -> newOrOriginalRequestForPause(newDownloadFileRequestFuture, originalDownloadRequest),
-                                       resumableFileDownload);
+                                       resumableFileDownload,
+                                       multiRange ? multiRangeResumeState(multiRangeDownloader, resumableFileDownload) : null);
     }
 
     private DownloadFileRequest newOrOriginalRequestForPause(CompletableFuture<DownloadFileRequest> newDownloadFuture,
@@ -0,0 +1,289 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Lists the regular files of a directory tree, listing sub-directories in parallel on a {@link ForkJoinPool}.
+ *
+ * <p>Files are handed over through a bounded queue as soon as they are found, so that consumers can start transferring them
+ * while the rest of the tree is still being listed, and the listing pauses when consumers fall behind. The files found and the
+ * directories visited follow the same rules as {@link Files#walk}: a file is included if its depth is not greater than
+ * {@code maxDepth}, symbolic links are only followed if requested, and a cycle of symbolic links fails the listing. Unlike
+ * {@link Files#walk}, the order of the files is not deterministic.
+ *
+ * <p>{@link #start()} may only be called once. {@link #close()} stops the listing and must be called once the files are no
+ * longer needed.
+ */
+@SdkInternalApi
+public final class ParallelDirectoryWalker implements SdkAutoCloseable {
+    static final int DEFAULT_PARALLELISM = Math.max(4, Math.min(16, 2 * Runtime.getRuntime().availableProcessors()));
+    static final int DEFAULT_QUEUE_CAPACITY = 10_000;
+
+    private static final Logger log = Logger.loggerFor(ParallelDirectoryWalker.class);
+    private static final Path END = Paths.get("");
+    private static final long QUEUE_TIMEOUT_MILLIS = 100;
+
+    private final Path root;
+    private final int maxDepth;
+    private final boolean followSymbolicLinks;
+    private final ProgressListener progressListener;
+    private final int parallelism;
+    private final BlockingQueue<Path> queue;
+    private final AtomicLong directoriesListed = new AtomicLong();
+    private final AtomicLong filesFound = new AtomicLong();
+
+    private ForkJoinPool pool;
+    private volatile boolean closed;
+    private volatile Throwable failure;
+
+    public ParallelDirectoryWalker(Path root, int maxDepth, boolean followSymbolicLinks, ProgressListener progressListener) {
+        this(root, maxDepth, followSymbolicLinks, progressListener, DEFAULT_PARALLELISM, DEFAULT_QUEUE_CAPACITY);
+    }
+
+    ParallelDirectoryWalker(Path root, int maxDepth, boolean followSymbolicLinks, ProgressListener progressListener,
+                            int parallelism, int queueCapacity) {
+        this.root = Validate.paramNotNull(root, "root");
+        this.maxDepth = Validate.isNotNegative(maxDepth, "maxDepth");
+        this.followSymbolicLinks = followSymbolicLinks;
+        this.progressListener = Validate.paramNotNull(progressListener, "progressListener");
+        this.parallelism = Validate.isPositive(parallelism, "parallelism");
+        this.queue = new LinkedBlockingQueue<>(Validate.isPositive(queueCapacity, "queueCapacity"));
+    }
+
+    /**
+     * Start listing the directory tree.
+     *
+     * @return an iterator over the regular files found. {@link Iterator#hasNext()} blocks until the next file has been found or
+     * the listing is complete, and throws an {@link SdkClientException} if the listing failed.
+     */
+    public synchronized Iterator<Path> start() {
+        Validate.validState(pool == null, "The walker has already been started");
+        Validate.validState(!closed, "The walker has been closed");
+        pool = new ForkJoinPool(parallelism);
+        pool.execute(this::walk);
+        return new FileIterator();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        synchronized (this) {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+        queue.clear();
+    }
+
+    private void walk() {
+        try {
+            if (maxDepth > 0) {
+                listDirectory(root, 0, followSymbolicLinks ? new Ancestor(root, null) : null);
+            }
+            if (!closed) {
+                progressListener.listingComplete(root, directoriesListed.get(), filesFound.get());
+            }
+        } catch (Throwable t) {
+            failure = t instanceof UncheckedIOException ? t.getCause() : t;
+        } finally {
+            enqueue(END);
+        }
+    }
+
+    /**
+     * Hand a path over to the consumer, waiting for room in the queue unless the walker is closed.
+     */
+    private void enqueue(Path path) {
+        try {
+            while (!closed) {
+                if (queue.offer(path, QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BasicFileAttributes readAttributes(Path path) throws IOException {
+        if (!followSymbolicLinks) {
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        }
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // A broken symbolic link: like Files.walk, fall back to the attributes of the link itself
+            return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+        }
+    }
+
+    /**
+     * Lists a single directory, enqueueing its regular files, then lists its sub-directories in parallel.
+     *
+     * @param ancestors the directories from this one up to the root, only tracked when following symbolic links
+     */
+    private void listDirectory(Path directory, int depth, Ancestor ancestors) {
+        List<ForkJoinTask<?>> subtasks = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+            for (Path entry : entries) {
+                if (closed) {
+                    return;
+                }
+                BasicFileAttributes attributes = readAttributes(entry);
+                if (attributes.isDirectory()) {
+                    if (depth + 1 < maxDepth) {
+                        Ancestor subAncestors = null;
+                        if (followSymbolicLinks) {
+                            checkForCycle(entry, attributes, ancestors);
+                            subAncestors = new Ancestor(entry, ancestors);
+                        }
+                        Ancestor entryAncestors = subAncestors;
+                        subtasks.add(ForkJoinTask.adapt(() -> listDirectory(entry, depth + 1, entryAncestors)));
+                    }
+                } else if (attributes.isRegularFile()) {
+                    filesFound.incrementAndGet();
+                    enqueue(entry);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        long listed = directoriesListed.incrementAndGet();
+        log.trace(() -> String.format("Listed %s, %d directories listed", directory, listed));
+        progressListener.directoryListed(directory, listed, filesFound.get());
+        ForkJoinTask.invokeAll(subtasks);
+    }
+
+    private static void checkForCycle(Path entry, BasicFileAttributes attributes, Ancestor ancestors) throws IOException {
+        Object fileKey = attributes.fileKey();
+        for (Ancestor ancestor = ancestors; ancestor != null; ancestor = ancestor.parent) {
+            boolean sameFile = fileKey != null ? fileKey.equals(ancestor.fileKey())
+                                               : Files.isSameFile(entry, ancestor.directory);
+            if (sameFile) {
+                throw new FileSystemLoopException(entry.toString());
+            }
+        }
+    }
+
+    /**
+     * A directory on the path from the root to the directory being listed, used to detect cycles of symbolic links.
+     */
+    private static final class Ancestor {
+        private final Path directory;
+        private final Ancestor parent;
+        private Object fileKey;
+        private boolean fileKeyRead;
+
+        private Ancestor(Path directory, Ancestor parent) {
+            this.directory = directory;
+            this.parent = parent;
+        }
+
+        private synchronized Object fileKey() throws IOException {
+            if (!fileKeyRead) {
+                fileKey = Files.readAttributes(directory, BasicFileAttributes.class).fileKey();
+                fileKeyRead = true;
+            }
+            return fileKey;
+        }
+    }
+
+    private final class FileIterator implements Iterator<Path> {
+        private Path next;
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = take();
+            }
+            if (next != END) {
+                return true;
+            }
+            Throwable cause = failure;
+            if (cause != null) {
+                failure = null;
+                throw SdkClientException.create("Failed to list files within the provided directory: " + root, cause);
+            }
+            return false;
+        }
+
+        @Override
+        public Path next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Path result = next;
+            next = null;
+            return result;
+        }
+
+        private Path take() {
+            try {
+                Path path;
+                while ((path = queue.poll(QUEUE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) == null) {
+                    if (closed) {
+                        return END;
+                    }
+                }
+                return path;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw SdkClientException.create("Interrupted while listing files within the provided directory: " + root, e);
+            }
+        }
+    }
+
+    /**
+     * Notified of the progress of the listing. Methods may be invoked concurrently.
+     */
+    public interface ProgressListener {
+        /**
+         * A directory has been listed.
+         */
+        void directoryListed(Path directory, long directoriesListed, long filesFound);
+
+        /**
+         * All directories have been listed successfully.
+         */
+        void listingComplete(Path root, long directoriesListed, long filesFound);
+    }
+}
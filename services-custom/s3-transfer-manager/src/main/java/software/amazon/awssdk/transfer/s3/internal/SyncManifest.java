@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The manifest of a directory transfer in sync mode: for each key, the ETag of the object and the size and last-modified time of
+ * the local file when they were last known to match.
+ *
+ * <p>Entries are read from the manifest written by the previous run, but only the entries recorded during the current run are
+ * written, so that keys no longer present on either side do not accumulate.
+ */
+@SdkInternalApi
+final class SyncManifest {
+    private static final Logger log = Logger.loggerFor(S3TransferManager.class);
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final String bucket;
+    private final String prefix;
+    private final Map<String, Entry> previousEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private SyncManifest(Path file, String bucket, String prefix, Map<String, Entry> previousEntries) {
+        this.file = file;
+        this.bucket = bucket;
+        this.prefix = prefix;
+        this.previousEntries = previousEntries;
+    }
+
+    /**
+     * Load the manifest from the given file. An empty manifest is returned if the file does not exist, cannot be parsed, or
+     * was written for a different bucket or prefix.
+     */
+    static SyncManifest load(Path file, String bucket, String prefix) {
+        return new SyncManifest(file, bucket, prefix, readEntries(file, bucket, prefix));
+    }
+
+    /**
+     * @return the entry recorded for the key by the previous run, or null
+     */
+    Entry previousEntry(String key) {
+        return previousEntries.get(key);
+    }
+
+    void record(String key, Entry entry) {
+        entries.put(key, entry);
+    }
+
+    /**
+     * Write the entries recorded during this run, replacing the file atomically when the file system supports it.
+     */
+    void save() throws IOException {
+        JsonWriter writer = JsonWriter.create();
+        writer.writeStartObject();
+        writer.writeFieldName("version");
+        writer.writeValue(VERSION);
+        writer.writeFieldName("bucket");
+        writer.writeValue(bucket);
+        writer.writeFieldName("prefix");
+        writer.writeValue(prefix);
+        writer.writeFieldName("entries");
+        writer.writeStartObject();
+        entries.forEach((key, entry) -> {
+            writer.writeFieldName(key);
+            writer.writeStartObject();
+            writer.writeFieldName("size");
+            writer.writeValue(entry.size);
+            writer.writeFieldName("lastModified");
+            writer.writeValue(entry.lastModifiedMillis);
+            writer.writeFieldName("eTag");
+            writer.writeValue(entry.eTag);
+            writer.writeEndObject();
+        });
+        writer.writeEndObject();
+        writer.writeEndObject();
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.write(temporaryFile, writer.getBytes());
+        try {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static Map<String, Entry> readEntries(Path file, String bucket, String prefix) {
+        if (!Files.exists(file)) {
+            return Collections.emptyMap();
+        }
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            Map<String, JsonNode> nodes = JsonNodeParser.create().parse(inputStream).asObject();
+            if (Integer.parseInt(nodes.get("version").asNumber()) != VERSION
+                || !bucket.equals(nodes.get("bucket").asString())
+                || !prefix.equals(nodes.get("prefix").asString())) {
+                log.debug(() -> "Ignoring sync manifest " + file + " written for a different version, bucket or prefix");
+                return Collections.emptyMap();
+            }
+            Map<String, Entry> entries = new ConcurrentHashMap<>();
+            nodes.get("entries").asObject().forEach((key, node) -> {
+                Map<String, JsonNode> fields = node.asObject();
+                entries.put(key, new Entry(Long.parseLong(fields.get("size").asNumber()),
+                                           Long.parseLong(fields.get("lastModified").asNumber()),
+                                           fields.get("eTag").asString()));
+            });
+            return entries;
+        } catch (IOException | RuntimeException e) {
+            log.warn(() -> "Ignoring sync manifest " + file + " that could not be read", e);
+            return Collections.emptyMap();
+        }
+    }
+
+    static final class Entry {
+        private final long size;
+        private final long lastModifiedMillis;
+        private final String eTag;
+
+        Entry(long size, long lastModifiedMillis, String eTag) {
+            this.size = size;
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.eTag = Objects.requireNonNull(eTag, "eTag");
+        }
+
+        /**
+         * @return true if the entry was recorded for a file of the given size and last-modified time and an object with the
+         * given ETag
+         */
+        boolean matches(long size, long lastModifiedMillis, String eTag) {
+            return this.size == size && this.lastModifiedMillis == lastModifiedMillis && this.eTag.equals(eTag);
+        }
+    }
+}
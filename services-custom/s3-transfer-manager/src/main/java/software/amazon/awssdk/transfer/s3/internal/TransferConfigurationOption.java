@@ -32,12 +32,26 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
     public static final TransferConfigurationOption<Boolean> UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS =
         new TransferConfigurationOption<>("UploadDirectoryFileVisitOption", Boolean.class);
 
+    public static final TransferConfigurationOption<Integer> DIRECTORY_TRANSFER_MAX_CONCURRENCY =
+        new TransferConfigurationOption<>("DirectoryTransferMaxConcurrency", Integer.class);
+
+    public static final TransferConfigurationOption<Boolean> DIRECTORY_TRANSFER_ADAPTIVE_CONCURRENCY =
+        new TransferConfigurationOption<>("DirectoryTransferAdaptiveConcurrency", Boolean.class);
+
+    public static final TransferConfigurationOption<Integer> DOWNLOAD_FILE_MAX_CONCURRENCY =
+        new TransferConfigurationOption<>("DownloadFileMaxConcurrency", Integer.class);
+
+    public static final TransferConfigurationOption<Long> DOWNLOAD_FILE_PART_SIZE_IN_BYTES =
+        new TransferConfigurationOption<>("DownloadFilePartSizeInBytes", Long.class);
+
     public static final TransferConfigurationOption<Executor> EXECUTOR =
         new TransferConfigurationOption<>("Executor", Executor.class);
 
     public static final String DEFAULT_DELIMITER = "/";
     public static final String DEFAULT_PREFIX = "";
     public static final int DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY = 100;
+    public static final int DEFAULT_DOWNLOAD_FILE_MAX_CONCURRENCY = 1;
+    public static final long DEFAULT_DOWNLOAD_FILE_PART_SIZE_IN_BYTES = 8L * 1024 * 1024;
 
     private static final int DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH = Integer.MAX_VALUE;
 
@@ -45,6 +59,10 @@ public final class TransferConfigurationOption<T> extends AttributeMap.Key<T> {
         .builder()
         .put(UPLOAD_DIRECTORY_MAX_DEPTH, DEFAULT_UPLOAD_DIRECTORY_MAX_DEPTH)
         .put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, false)
+        .put(DIRECTORY_TRANSFER_MAX_CONCURRENCY, DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY)
+        .put(DIRECTORY_TRANSFER_ADAPTIVE_CONCURRENCY, false)
+        .put(DOWNLOAD_FILE_MAX_CONCURRENCY, DEFAULT_DOWNLOAD_FILE_MAX_CONCURRENCY)
+        .put(DOWNLOAD_FILE_PART_SIZE_IN_BYTES, DEFAULT_DOWNLOAD_FILE_PART_SIZE_IN_BYTES)
         .build();
 
     private final String name;
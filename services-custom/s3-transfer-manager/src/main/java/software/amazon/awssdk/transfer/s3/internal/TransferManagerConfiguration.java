@@ -15,6 +15,10 @@
 
 package software.amazon.awssdk.transfer.s3.internal;
 
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_ADAPTIVE_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_FILE_MAX_CONCURRENCY;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DOWNLOAD_FILE_PART_SIZE_IN_BYTES;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.TRANSFER_MANAGER_DEFAULTS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
@@ -23,12 +27,15 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.model.DownloadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.ExecutorUtils;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * Contains resolved configuration settings for {@link GenericS3TransferManager}.
@@ -42,6 +49,14 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
         AttributeMap.Builder standardOptions = AttributeMap.builder();
         standardOptions.put(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS, builder.uploadDirectoryFollowSymbolicLinks);
         standardOptions.put(UPLOAD_DIRECTORY_MAX_DEPTH, builder.uploadDirectoryMaxDepth);
+        standardOptions.put(DIRECTORY_TRANSFER_MAX_CONCURRENCY,
+                            Validate.isPositiveOrNull(builder.directoryTransferMaxConcurrency,
+                                                      "directoryTransferMaxConcurrency"));
+        standardOptions.put(DIRECTORY_TRANSFER_ADAPTIVE_CONCURRENCY, builder.directoryTransferAdaptiveConcurrency);
+        standardOptions.put(DOWNLOAD_FILE_MAX_CONCURRENCY,
+                            Validate.isPositiveOrNull(builder.downloadFileMaxConcurrency, "downloadFileMaxConcurrency"));
+        standardOptions.put(DOWNLOAD_FILE_PART_SIZE_IN_BYTES,
+                            Validate.isPositiveOrNull(builder.downloadFilePartSizeInBytes, "downloadFilePartSizeInBytes"));
         finalizeExecutor(builder, standardOptions);
         options = standardOptions.build().merge(TRANSFER_MANAGER_DEFAULTS);
     }
@@ -72,6 +87,29 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
                       .orElseGet(() -> options.get(UPLOAD_DIRECTORY_MAX_DEPTH));
     }
 
+    public int resolveUploadDirectoryMaxConcurrency(UploadDirectoryRequest request) {
+        return request.maxConcurrency()
+                      .orElseGet(() -> options.get(DIRECTORY_TRANSFER_MAX_CONCURRENCY));
+    }
+
+    public int resolveDownloadDirectoryMaxConcurrency(DownloadDirectoryRequest request) {
+        return request.maxConcurrency()
+                      .orElseGet(() -> options.get(DIRECTORY_TRANSFER_MAX_CONCURRENCY));
+    }
+
+    /**
+     * Create the {@link ConcurrencyLimiter} for a single directory transfer.
+     *
+     * @param maxConcurrency the resolved maximum number of file transfers in flight
+     * @param sizeFunction the function returning the number of bytes of a transferred item, used by the adaptive limiter
+     */
+    public <T> ConcurrencyLimiter<T> directoryTransferConcurrencyLimiter(int maxConcurrency, ToLongFunction<T> sizeFunction) {
+        if (options.get(DIRECTORY_TRANSFER_ADAPTIVE_CONCURRENCY)) {
+            return new AdaptiveConcurrencyLimiter<>(maxConcurrency, sizeFunction);
+        }
+        return ConcurrencyLimiter.fixed(maxConcurrency);
+    }
+
     @Override
     public void close() {
         options.close();
@@ -97,6 +135,10 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
 
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
+        private Integer directoryTransferMaxConcurrency;
+        private Boolean directoryTransferAdaptiveConcurrency;
+        private Integer downloadFileMaxConcurrency;
+        private Long downloadFilePartSizeInBytes;
         private Executor executor;
 
 
@@ -110,6 +152,26 @@ public class TransferManagerConfiguration implements SdkAutoCloseable {
             return this;
         }
 
+        public Builder directoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency) {
+            this.directoryTransferMaxConcurrency = directoryTransferMaxConcurrency;
+            return this;
+        }
+
+        public Builder directoryTransferAdaptiveConcurrency(Boolean directoryTransferAdaptiveConcurrency) {
+            this.directoryTransferAdaptiveConcurrency = directoryTransferAdaptiveConcurrency;
+            return this;
+        }
+
+        public Builder downloadFileMaxConcurrency(Integer downloadFileMaxConcurrency) {
+            this.downloadFileMaxConcurrency = downloadFileMaxConcurrency;
+            return this;
+        }
+
+        public Builder downloadFilePartSizeInBytes(Long downloadFilePartSizeInBytes) {
+            this.downloadFilePartSizeInBytes = downloadFilePartSizeInBytes;
+            return this;
+        }
+
         public Builder executor(Executor executor) {
             this.executor = executor;
             return this;
@@ -89,6 +89,10 @@ public final class TransferManagerFactory {
         TransferManagerConfiguration.Builder transferConfigBuilder = TransferManagerConfiguration.builder();
         transferConfigBuilder.uploadDirectoryFollowSymbolicLinks(tmBuilder.uploadDirectoryFollowSymbolicLinks);
         transferConfigBuilder.uploadDirectoryMaxDepth(tmBuilder.uploadDirectoryMaxDepth);
+        transferConfigBuilder.directoryTransferMaxConcurrency(tmBuilder.directoryTransferMaxConcurrency);
+        transferConfigBuilder.directoryTransferAdaptiveConcurrency(tmBuilder.directoryTransferAdaptiveConcurrency);
+        transferConfigBuilder.downloadFileMaxConcurrency(tmBuilder.downloadFileMaxConcurrency);
+        transferConfigBuilder.downloadFilePartSizeInBytes(tmBuilder.downloadFilePartSizeInBytes);
         transferConfigBuilder.executor(tmBuilder.executor);
         return transferConfigBuilder.build();
     }
@@ -98,6 +102,10 @@ public final class TransferManagerFactory {
         private Executor executor;
         private Boolean uploadDirectoryFollowSymbolicLinks;
         private Integer uploadDirectoryMaxDepth;
+        private Integer directoryTransferMaxConcurrency;
+        private Boolean directoryTransferAdaptiveConcurrency;
+        private Integer downloadFileMaxConcurrency;
+        private Long downloadFilePartSizeInBytes;
 
         @Override
         public DefaultBuilder s3Client(S3AsyncClient s3AsyncClient) {
@@ -139,6 +147,62 @@ public final class TransferManagerFactory {
             return uploadDirectoryMaxDepth;
         }
 
+        @Override
+        public DefaultBuilder directoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency) {
+            this.directoryTransferMaxConcurrency = directoryTransferMaxConcurrency;
+            return this;
+        }
+
+        public void setDirectoryTransferMaxConcurrency(Integer directoryTransferMaxConcurrency) {
+            directoryTransferMaxConcurrency(directoryTransferMaxConcurrency);
+        }
+
+        public Integer getDirectoryTransferMaxConcurrency() {
+            return directoryTransferMaxConcurrency;
+        }
+
+        @Override
+        public DefaultBuilder directoryTransferAdaptiveConcurrency(Boolean directoryTransferAdaptiveConcurrency) {
+            this.directoryTransferAdaptiveConcurrency = directoryTransferAdaptiveConcurrency;
+            return this;
+        }
+
+        public void setDirectoryTransferAdaptiveConcurrency(Boolean directoryTransferAdaptiveConcurrency) {
+            directoryTransferAdaptiveConcurrency(directoryTransferAdaptiveConcurrency);
+        }
+
+        public Boolean getDirectoryTransferAdaptiveConcurrency() {
+            return directoryTransferAdaptiveConcurrency;
+        }
+
+        @Override
+        public DefaultBuilder downloadFileMaxConcurrency(Integer downloadFileMaxConcurrency) {
+            this.downloadFileMaxConcurrency = downloadFileMaxConcurrency;
+            return this;
+        }
+
+        public void setDownloadFileMaxConcurrency(Integer downloadFileMaxConcurrency) {
+            downloadFileMaxConcurrency(downloadFileMaxConcurrency);
+        }
+
+        public Integer getDownloadFileMaxConcurrency() {
+            return downloadFileMaxConcurrency;
+        }
+
+        @Override
+        public DefaultBuilder downloadFilePartSizeInBytes(Long downloadFilePartSizeInBytes) {
+            this.downloadFilePartSizeInBytes = downloadFilePartSizeInBytes;
+            return this;
+        }
+
+        public void setDownloadFilePartSizeInBytes(Long downloadFilePartSizeInBytes) {
+            downloadFilePartSizeInBytes(downloadFilePartSizeInBytes);
+        }
+
+        public Long getDownloadFilePartSizeInBytes() {
+            return downloadFilePartSizeInBytes;
+        }
+
         @Override
         public S3TransferManager build() {
             return createTransferManager(this);
@@ -16,26 +16,37 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DELIMITER;
-import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_PREFIX;
 
-import java.io.IOException;
-import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Function;
-import java.util.stream.Stream;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Error;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultDirectoryUpload;
+import software.amazon.awssdk.transfer.s3.internal.progress.DirectoryListingContext;
+import software.amazon.awssdk.transfer.s3.internal.progress.TransferListenerInvoker;
 import software.amazon.awssdk.transfer.s3.model.CompletedDirectoryUpload;
 import software.amazon.awssdk.transfer.s3.model.CompletedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.DirectoryUpload;
@@ -43,6 +54,7 @@ import software.amazon.awssdk.transfer.s3.model.FailedFileUpload;
 import software.amazon.awssdk.transfer.s3.model.FileUpload;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
+import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.StringUtils;
@@ -56,13 +68,21 @@ import software.amazon.awssdk.utils.Validate;
 public class UploadDirectoryHelper {
     private static final Logger log = Logger.loggerFor(S3TransferManager.class);
 
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
     private final TransferManagerConfiguration transferConfiguration;
+    private final ListObjectsHelper listObjectsHelper;
+    private final Function<DeleteObjectsRequest, CompletableFuture<DeleteObjectsResponse>> deleteObjectsFunction;
     private final Function<UploadFileRequest, FileUpload> uploadFunction;
 
     public UploadDirectoryHelper(TransferManagerConfiguration transferConfiguration,
+                                 ListObjectsHelper listObjectsHelper,
+                                 Function<DeleteObjectsRequest, CompletableFuture<DeleteObjectsResponse>> deleteObjectsFunction,
                                  Function<UploadFileRequest, FileUpload> uploadFunction) {
 
         this.transferConfiguration = transferConfiguration;
+        this.listObjectsHelper = listObjectsHelper;
+        this.deleteObjectsFunction = deleteObjectsFunction;
         this.uploadFunction = uploadFunction;
     }
 
@@ -85,31 +105,160 @@ public class UploadDirectoryHelper {
     private void doUploadDirectory(CompletableFuture<CompletedDirectoryUpload> returnFuture,
                                    UploadDirectoryRequest uploadDirectoryRequest) {
 
-        Path directory = uploadDirectoryRequest.source();
-
         validateDirectory(uploadDirectoryRequest);
 
+        if (!uploadDirectoryRequest.sync().isPresent()) {
+            uploadFiles(returnFuture, uploadDirectoryRequest, null);
+            return;
+        }
+
+        // In sync mode, list the objects under the prefix first to compare them with the local files
+        String prefix = resolvePrefix(uploadDirectoryRequest);
+        UploadSync sync = new UploadSync(DirectorySync.create(uploadDirectoryRequest.sync().get(),
+                                                              uploadDirectoryRequest.bucket(), prefix));
+        ListObjectsV2Request listRequest = ListObjectsV2Request.builder()
+                                                               .bucket(uploadDirectoryRequest.bucket())
+                                                               .prefix(prefix)
+                                                               .build();
+        CompletableFuture<Void> listFuture =
+            listObjectsHelper.listS3ObjectsRecursively(listRequest)
+                             .subscribe(s3Object -> sync.remoteObjects.put(s3Object.key(), s3Object));
+        CompletableFutureUtils.forwardExceptionTo(returnFuture, listFuture);
+
+        listFuture.whenCompleteAsync((r, t) -> {
+            if (t != null) {
+                returnFuture.completeExceptionally(SdkClientException.create("Failed to list objects under the prefix "
+                                                                             + prefix, t));
+            } else {
+                uploadFiles(returnFuture, uploadDirectoryRequest, sync);
+            }
+        }, transferConfiguration.option(TransferConfigurationOption.EXECUTOR));
+    }
+
+    /**
+     * @param sync the state of the sync, or null to upload every file
+     */
+    private void uploadFiles(CompletableFuture<CompletedDirectoryUpload> returnFuture,
+                             UploadDirectoryRequest uploadDirectoryRequest,
+                             UploadSync sync) {
+
+        Path directory = uploadDirectoryRequest.source();
+        int nameCount = directory.getNameCount();
+
         Collection<FailedFileUpload> failedFileUploads = new ConcurrentLinkedQueue<>();
 
-        Stream<Path> stream = listFiles(directory, uploadDirectoryRequest);
+        ParallelDirectoryWalker walker = newDirectoryWalker(directory, uploadDirectoryRequest);
 
-        SdkPublisher<Path> iterablePublisher = SdkPublisher.fromIterable(() -> stream.iterator())
-                                                           .doAfterOnCancel(() -> stream.close())
-                                                           .doAfterOnError(t -> stream.close())
-                                                           .doAfterOnComplete(() -> stream.close());
+        SdkPublisher<UploadFileRequest> uploadRequests =
+            SdkPublisher.fromIterable(walker::start)
+                        .doAfterOnCancel(walker::close)
+                        .doAfterOnError(t -> walker.close())
+                        .doAfterOnComplete(walker::close)
+                        .map(path -> constructUploadRequest(uploadDirectoryRequest, nameCount, path));
+        if (sync != null) {
+            uploadRequests = uploadRequests.filter(sync::uploadNeeded);
+        }
 
         CompletableFuture<Void> allOfFutures = new CompletableFuture<>();
 
-        AsyncBufferingSubscriber<Path> bufferingSubscriber =
-            new AsyncBufferingSubscriber<>(path -> uploadSingleFile(uploadDirectoryRequest, failedFileUploads, path),
-                                           allOfFutures, DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY);
+        AsyncBufferingSubscriber<UploadFileRequest> bufferingSubscriber =
+            new AsyncBufferingSubscriber<>(request -> uploadSingleFile(failedFileUploads, sync, request),
+                                           allOfFutures,
+                                           directoryTransferLimiter(uploadDirectoryRequest));
 
-        iterablePublisher.subscribe(bufferingSubscriber);
+        uploadRequests.subscribe(bufferingSubscriber);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, allOfFutures);
+        // Stop listing once the upload directory future completes, e.g. when it is cancelled
+        returnFuture.whenComplete((r, t) -> walker.close());
+
+        allOfFutures.whenComplete((r, t) -> {
+            CompletedDirectoryUpload completedUpload = CompletedDirectoryUpload.builder()
+                                                                               .failedTransfers(failedFileUploads)
+                                                                               .build();
+            if (sync == null) {
+                returnFuture.complete(completedUpload);
+                return;
+            }
+            sync.directorySync.saveManifest();
+            if (t != null || !failedFileUploads.isEmpty() || !sync.directorySync.deleteExtraneous()) {
+                returnFuture.complete(completedUpload);
+                return;
+            }
+            CompletableFuture<Void> deleteFuture = deleteExtraneousObjects(uploadDirectoryRequest, sync.remoteObjects.keySet());
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, deleteFuture);
+            deleteFuture.whenComplete((ignored, deleteFailure) -> {
+                if (deleteFailure != null) {
+                    returnFuture.completeExceptionally(deleteFailure);
+                } else {
+                    returnFuture.complete(completedUpload);
+                }
+            });
+        });
+    }
+
+    /**
+     * Delete the objects that have no corresponding local file, in batches of up to {@value #MAX_KEYS_PER_DELETE} keys. Keys
+     * ending with the delimiter are kept, as they are usually placeholders for directories, and so are the keys of files the
+     * directory walk could not have found.
+     */
+    private CompletableFuture<Void> deleteExtraneousObjects(UploadDirectoryRequest uploadDirectoryRequest,
+                                                            Collection<String> keys) {
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+        List<ObjectIdentifier> objects = keys.stream()
+                                             .filter(key -> !key.endsWith(delimiter))
+                                             .filter(key -> withinWalk(uploadDirectoryRequest, key))
+                                             .map(key -> ObjectIdentifier.builder().key(key).build())
+                                             .collect(Collectors.toList());
+        log.debug(() -> String.format("Deleting %d extraneous objects from bucket %s", objects.size(),
+                                      uploadDirectoryRequest.bucket()));
+
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        for (int i = 0; i < objects.size(); i += MAX_KEYS_PER_DELETE) {
+            List<ObjectIdentifier> batch = objects.subList(i, Math.min(objects.size(), i + MAX_KEYS_PER_DELETE));
+            DeleteObjectsRequest deleteRequest = DeleteObjectsRequest.builder()
+                                                                     .bucket(uploadDirectoryRequest.bucket())
+                                                                     .delete(d -> d.objects(batch).quiet(true))
+                                                                     .build();
+            future = future.thenCompose(ignored -> deleteObjectsFunction.apply(deleteRequest))
+                           .thenAccept(UploadDirectoryHelper::validateDeleteObjectsResponse);
+        }
+        return future;
+    }
+
+    /**
+     * Whether the local file corresponding to the key would have been found by the directory walk: it must not be deeper
+     * than the maximum depth and, unless symbolic links are followed, must not be or be under a symbolic link.
+     */
+    private boolean withinWalk(UploadDirectoryRequest uploadDirectoryRequest, String key) {
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+        String relativeKey = key.substring(resolvePrefix(uploadDirectoryRequest).length());
+        String[] segments = relativeKey.split(Pattern.quote(delimiter), -1);
+        if (segments.length > transferConfiguration.resolveUploadDirectoryMaxDepth(uploadDirectoryRequest)) {
+            return false;
+        }
+        if (transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(uploadDirectoryRequest)) {
+            return true;
+        }
+        try {
+            Path path = uploadDirectoryRequest.source();
+            for (int i = 0; i < segments.length && Files.exists(path, LinkOption.NOFOLLOW_LINKS); i++) {
+                path = path.resolve(segments[i]);
+                if (Files.isSymbolicLink(path)) {
+                    return false;
+                }
+            }
+        } catch (InvalidPathException e) {
+            // The key cannot be the name of a local file
+        }
+        return true;
+    }
 
-        allOfFutures.whenComplete((r, t) -> returnFuture.complete(CompletedDirectoryUpload.builder()
-                                                                                  .failedTransfers(failedFileUploads)
-                                                                                  .build()));
+    private static void validateDeleteObjectsResponse(DeleteObjectsResponse response) {
+        if (response.hasErrors() && !response.errors().isEmpty()) {
+            S3Error error = response.errors().get(0);
+            throw SdkClientException.create(String.format("Failed to delete %d extraneous objects, e.g. %s: %s",
+                                                          response.errors().size(), error.key(), error.message()));
+        }
     }
 
     private void validateDirectory(UploadDirectoryRequest uploadDirectoryRequest) {
@@ -126,14 +275,23 @@ public class UploadDirectoryHelper {
         }
     }
 
-    private CompletableFuture<CompletedFileUpload> uploadSingleFile(UploadDirectoryRequest uploadDirectoryRequest,
-                                                                    Collection<FailedFileUpload> failedFileUploads,
-                                                                    Path path) {
-        int nameCount = uploadDirectoryRequest.source().getNameCount();
-        UploadFileRequest uploadFileRequest = constructUploadRequest(uploadDirectoryRequest, nameCount, path);
-        log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest, path));
+    private ConcurrencyLimiter<UploadFileRequest> directoryTransferLimiter(UploadDirectoryRequest uploadDirectoryRequest) {
+        int maxConcurrency = transferConfiguration.resolveUploadDirectoryMaxConcurrency(uploadDirectoryRequest);
+        return transferConfiguration.directoryTransferConcurrencyLimiter(maxConcurrency,
+                                                                         request -> request.source().toFile().length());
+    }
+
+    private CompletableFuture<CompletedFileUpload> uploadSingleFile(Collection<FailedFileUpload> failedFileUploads,
+                                                                    UploadSync sync,
+                                                                    UploadFileRequest uploadFileRequest) {
+        log.debug(() -> String.format("Sending upload request (%s) for path (%s)", uploadFileRequest,
+                                      uploadFileRequest.source()));
         CompletableFuture<CompletedFileUpload> executionFuture = uploadFunction.apply(uploadFileRequest).completionFuture();
         CompletableFuture<CompletedFileUpload> future = executionFuture.whenComplete((r, t) -> {
+            if (t == null && sync != null) {
+                sync.directorySync.transferred(uploadFileRequest.putObjectRequest().key(), uploadFileRequest.source(),
+                                               r.response().eTag());
+            }
             if (t != null) {
                 failedFileUploads.add(FailedFileUpload.builder()
                                                       .exception(t instanceof CompletionException ? t.getCause() : t)
@@ -145,31 +303,39 @@ public class UploadDirectoryHelper {
         return future;
     }
 
-    private Stream<Path> listFiles(Path directory, UploadDirectoryRequest request) {
-
-        try {
-            boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
-            int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
+    private ParallelDirectoryWalker newDirectoryWalker(Path directory, UploadDirectoryRequest request) {
+        boolean followSymbolicLinks = transferConfiguration.resolveUploadDirectoryFollowSymbolicLinks(request);
+        int maxDepth = transferConfiguration.resolveUploadDirectoryMaxDepth(request);
+        return new ParallelDirectoryWalker(directory, maxDepth, followSymbolicLinks, listingProgressListener(request));
+    }
 
-            if (followSymbolicLinks) {
-                return Files.walk(directory, maxDepth, FileVisitOption.FOLLOW_LINKS)
-                            .filter(path -> isRegularFile(path, true));
+    /**
+     * Forward the progress of the directory listing to the {@link TransferListener}s of the upload directory request.
+     */
+    private static ParallelDirectoryWalker.ProgressListener listingProgressListener(UploadDirectoryRequest request) {
+        List<TransferListener> listeners = request.transferListeners();
+        TransferListenerInvoker invoker = new TransferListenerInvoker(listeners != null ? listeners : Collections.emptyList());
+        return new ParallelDirectoryWalker.ProgressListener() {
+            @Override
+            public void directoryListed(Path directory, long directoriesListed, long filesFound) {
+                invoker.directoryListed(listingContext(request, directory, directoriesListed, filesFound));
             }
 
-            return Files.walk(directory, maxDepth)
-                        .filter(path -> isRegularFile(path, false));
-
-        } catch (IOException e) {
-            throw SdkClientException.create("Failed to list files within the provided directory: " + directory, e);
-        }
+            @Override
+            public void listingComplete(Path root, long directoriesListed, long filesFound) {
+                invoker.directoryListingComplete(listingContext(request, root, directoriesListed, filesFound));
+            }
+        };
     }
 
-    private boolean isRegularFile(Path path, boolean followSymlinks) {
-        if (followSymlinks) {
-            return Files.isRegularFile(path);
-        }
-
-        return Files.isRegularFile(path, LinkOption.NOFOLLOW_LINKS);
+    private static DirectoryListingContext listingContext(UploadDirectoryRequest request, Path directory,
+                                                          long directoriesListed, long filesFound) {
+        return DirectoryListingContext.builder()
+                                      .request(request)
+                                      .directory(directory)
+                                      .directoriesListed(directoriesListed)
+                                      .filesFound(filesFound)
+                                      .build();
     }
 
     /**
@@ -197,17 +363,24 @@ public class UploadDirectoryHelper {
         return StringUtils.replace(relativePathName, separator, delimiter);
     }
 
+    private static String resolveDelimiter(UploadDirectoryRequest uploadDirectoryRequest) {
+        return uploadDirectoryRequest.s3Delimiter()
+                                     .filter(s -> !s.isEmpty())
+                                     .orElse(DEFAULT_DELIMITER);
+    }
+
+    private static String resolvePrefix(UploadDirectoryRequest uploadDirectoryRequest) {
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+        return uploadDirectoryRequest.s3Prefix()
+                                     .map(s -> normalizePrefix(s, delimiter))
+                                     .orElse(DEFAULT_PREFIX);
+    }
+
     private UploadFileRequest constructUploadRequest(UploadDirectoryRequest uploadDirectoryRequest,
                                                      int directoryNameCount,
                                                      Path path) {
-        String delimiter =
-            uploadDirectoryRequest.s3Delimiter()
-                                  .filter(s -> !s.isEmpty())
-                                  .orElse(DEFAULT_DELIMITER);
-
-        String prefix = uploadDirectoryRequest.s3Prefix()
-                                              .map(s -> normalizePrefix(s, delimiter))
-                                              .orElse(DEFAULT_PREFIX);
+        String delimiter = resolveDelimiter(uploadDirectoryRequest);
+        String prefix = resolvePrefix(uploadDirectoryRequest);
 
         String relativePathName = getRelativePathName(uploadDirectoryRequest.source(),
                                                       directoryNameCount,
@@ -228,4 +401,30 @@ public class UploadDirectoryHelper {
         return requestBuilder.build();
     }
 
+    /**
+     * The state of an upload directory request in sync mode.
+     */
+    private static final class UploadSync {
+        private final DirectorySync directorySync;
+
+        /**
+         * The objects under the prefix. Objects are removed as the corresponding local files are found, so that the remaining
+         * objects are the extraneous ones.
+         */
+        private final Map<String, S3Object> remoteObjects = new ConcurrentHashMap<>();
+
+        private UploadSync(DirectorySync directorySync) {
+            this.directorySync = directorySync;
+        }
+
+        private boolean uploadNeeded(UploadFileRequest request) {
+            String key = request.putObjectRequest().key();
+            S3Object s3Object = remoteObjects.remove(key);
+            boolean needed = directorySync.uploadNeeded(key, request.source(), s3Object);
+            if (!needed) {
+                log.debug(() -> "Skipping upload of unchanged file " + request.source());
+            }
+            return needed;
+        }
+    }
 }
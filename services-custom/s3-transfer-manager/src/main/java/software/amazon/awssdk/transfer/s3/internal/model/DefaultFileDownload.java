@@ -18,6 +18,7 @@ package software.amazon.awssdk.transfer.s3.internal.model;
 import java.io.File;
 import java.time.Instant;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
@@ -38,16 +39,30 @@ public final class DefaultFileDownload implements FileDownload {
     private final TransferProgress progress;
     private final Supplier<DownloadFileRequest> requestSupplier;
     private final ResumableFileDownload resumedDownload;
+    private final Consumer<ResumableFileDownload.Builder> resumeStateRecorder;
 
     public DefaultFileDownload(CompletableFuture<CompletedFileDownload> completedFileDownloadFuture,
                                TransferProgress progress,
                                Supplier<DownloadFileRequest> requestSupplier,
                                ResumableFileDownload resumedDownload) {
+        this(completedFileDownloadFuture, progress, requestSupplier, resumedDownload, null);
+    }
+
+    /**
+     * @param resumeStateRecorder records the state of a download split into ranges when it is paused, which the length of the
+     * preallocated file doesn't reflect, or null
+     */
+    public DefaultFileDownload(CompletableFuture<CompletedFileDownload> completedFileDownloadFuture,
+                               TransferProgress progress,
+                               Supplier<DownloadFileRequest> requestSupplier,
+                               ResumableFileDownload resumedDownload,
+                               Consumer<ResumableFileDownload.Builder> resumeStateRecorder) {
         this.completionFuture = Validate.paramNotNull(completedFileDownloadFuture, "completedFileDownloadFuture");
         this.progress = Validate.paramNotNull(progress, "progress");
         this.requestSupplier = Validate.paramNotNull(requestSupplier, "requestSupplier");
         this.resumableFileDownload = new Lazy<>(this::doPause);
         this.resumedDownload = resumedDownload;
+        this.resumeStateRecorder = resumeStateRecorder;
     }
 
     @Override
@@ -81,13 +96,16 @@ public final class DefaultFileDownload implements FileDownload {
         File destination = request.destination().toFile();
         long length = destination.length();
         Instant fileLastModified = Instant.ofEpochMilli(destination.lastModified());
-        return ResumableFileDownload.builder()
-                                    .downloadFileRequest(request)
-                                    .s3ObjectLastModified(s3objectLastModified)
-                                    .fileLastModified(fileLastModified)
-                                    .bytesTransferred(length)
-                                    .totalSizeInBytes(totalSizeInBytes)
-                                    .build();
+        ResumableFileDownload.Builder builder = ResumableFileDownload.builder()
+                                                                     .downloadFileRequest(request)
+                                                                     .s3ObjectLastModified(s3objectLastModified)
+                                                                     .fileLastModified(fileLastModified)
+                                                                     .bytesTransferred(length)
+                                                                     .totalSizeInBytes(totalSizeInBytes);
+        if (resumeStateRecorder != null) {
+            resumeStateRecorder.accept(builder);
+        }
+        return builder.build();
     }
 
     @Override
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal.progress;
+
+import java.nio.file.Path;
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
+import software.amazon.awssdk.transfer.s3.progress.TransferListener;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * An SDK-internal implementation of {@link TransferListener.Context.DirectoryListingComplete} and its parent interface.
+ */
+@SdkInternalApi
+@Immutable
+public final class DirectoryListingContext implements TransferListener.Context.DirectoryListingComplete {
+
+    private final UploadDirectoryRequest request;
+    private final Path directory;
+    private final long directoriesListed;
+    private final long filesFound;
+
+    private DirectoryListingContext(Builder builder) {
+        this.request = builder.request;
+        this.directory = builder.directory;
+        this.directoriesListed = builder.directoriesListed;
+        this.filesFound = builder.filesFound;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public UploadDirectoryRequest request() {
+        return request;
+    }
+
+    @Override
+    public Path directory() {
+        return directory;
+    }
+
+    @Override
+    public long directoriesListed() {
+        return directoriesListed;
+    }
+
+    @Override
+    public long filesFound() {
+        return filesFound;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("DirectoryListingContext")
+                       .add("request", request)
+                       .add("directory", directory)
+                       .add("directoriesListed", directoriesListed)
+                       .add("filesFound", filesFound)
+                       .build();
+    }
+
+    public static final class Builder {
+        private UploadDirectoryRequest request;
+        private Path directory;
+        private long directoriesListed;
+        private long filesFound;
+
+        private Builder() {
+        }
+
+        public Builder request(UploadDirectoryRequest request) {
+            this.request = request;
+            return this;
+        }
+
+        public Builder directory(Path directory) {
+            this.directory = directory;
+            return this;
+        }
+
+        public Builder directoriesListed(long directoriesListed) {
+            this.directoriesListed = directoriesListed;
+            return this;
+        }
+
+        public Builder filesFound(long filesFound) {
+            this.filesFound = filesFound;
+            return this;
+        }
+
+        public DirectoryListingContext build() {
+            return new DirectoryListingContext(this);
+        }
+    }
+}
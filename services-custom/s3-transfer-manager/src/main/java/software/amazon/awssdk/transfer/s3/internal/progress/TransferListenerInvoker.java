@@ -68,6 +68,16 @@ public class TransferListenerInvoker implements TransferListener {
         }
     }
 
+    @Override
+    public void directoryListed(Context.DirectoryListed context) {
+        forEach(listener -> listener.directoryListed(context));
+    }
+
+    @Override
+    public void directoryListingComplete(Context.DirectoryListingComplete context) {
+        forEach(listener -> listener.directoryListingComplete(context));
+    }
+
     private void forEach(Consumer<TransferListener> action) {
         for (TransferListener listener : listeners) {
             runAndLogError(log.logger(), "Exception thrown in TransferListener, ignoring",
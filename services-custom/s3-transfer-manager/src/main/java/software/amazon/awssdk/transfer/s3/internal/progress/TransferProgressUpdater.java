@@ -203,6 +203,31 @@ public class TransferProgressUpdater {
             });
     }
 
+    /**
+     * Called when a file download split into ranged GET requests, which no single response transformer sees in full, learns
+     * the size of the object.
+     *
+     * @param objectResponse the response describing the whole object
+     * @param bytesAlreadyTransferred the number of bytes written by a previous, paused attempt
+     */
+    public void multiRangeDownloadStarted(GetObjectResponse objectResponse, long bytesAlreadyTransferred) {
+        progress.updateAndGet(b -> b.totalBytes(objectResponse.contentLength())
+                                    .sdkResponse(objectResponse)
+                                    .transferredBytes(bytesAlreadyTransferred));
+    }
+
+    /**
+     * Record bytes received by one of the ranges of a multi-range download. A negative number reverts the bytes of a range that
+     * is retried.
+     */
+    public void multiRangeBytesTransferred(long numBytes) {
+        incrementBytesTransferred(numBytes);
+    }
+
+    public void multiRangeDownloadCompleted() {
+        endOfStreamFuture.complete(null);
+    }
+
     private void resetBytesTransferred() {
         progress.updateAndGet(b -> b.transferredBytes(0L));
     }
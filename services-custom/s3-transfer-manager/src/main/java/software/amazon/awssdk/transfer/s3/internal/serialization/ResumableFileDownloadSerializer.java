@@ -23,6 +23,7 @@ import java.io.InputStream;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.Map;
+import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkField;
 import software.amazon.awssdk.core.protocol.MarshallingType;
@@ -62,6 +63,14 @@ public final class ResumableFileDownloadSerializer {
                                        jsonGenerator,
                                        "s3ObjectLastModified");
         }
+        if (download.partSizeInBytes().isPresent()) {
+            TransferManagerJsonMarshaller.LONG.marshall(download.partSizeInBytes().getAsLong(), jsonGenerator,
+                                                        "partSizeInBytes");
+            jsonGenerator.writeFieldName("completedParts");
+            jsonGenerator.writeStartArray();
+            download.completedParts().forEach(part -> jsonGenerator.writeValue(part.intValue()));
+            jsonGenerator.writeEndArray();
+        }
         marshallDownloadFileRequest(download.downloadFileRequest(), jsonGenerator);
         jsonGenerator.writeEndObject();
 
@@ -137,6 +146,16 @@ public final class ResumableFileDownloadSerializer {
         if (downloadNodes.get("s3ObjectLastModified") != null) {
             builder.s3ObjectLastModified(instantUnmarshaller.unmarshall(downloadNodes.get("s3ObjectLastModified")));
         }
+        if (downloadNodes.get("partSizeInBytes") != null) {
+            builder.partSizeInBytes(longUnmarshaller.unmarshall(downloadNodes.get("partSizeInBytes")));
+        }
+        if (downloadNodes.get("completedParts") != null) {
+            builder.completedParts(downloadNodes.get("completedParts")
+                                                .asArray()
+                                                .stream()
+                                                .map(part -> Integer.parseInt(part.asNumber()))
+                                                .collect(Collectors.toList()));
+        }
         builder.downloadFileRequest(parseDownloadFileRequest(downloadNodes.get("downloadFileRequest")));
 
         return builder.build();
@@ -18,11 +18,14 @@ package software.amazon.awssdk.transfer.s3.model;
 
 import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.DirectorySyncConfiguration;
 import software.amazon.awssdk.transfer.s3.config.DownloadFilter;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
 import software.amazon.awssdk.utils.ToString;
@@ -44,6 +47,8 @@ public final class DownloadDirectoryRequest
     private final DownloadFilter filter;
     private final Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
     private final Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+    private final Integer maxConcurrency;
+    private final DirectorySyncConfiguration sync;
 
     public DownloadDirectoryRequest(DefaultBuilder builder) {
         this.destination = Validate.paramNotNull(builder.destination, "destination");
@@ -51,6 +56,8 @@ public final class DownloadDirectoryRequest
         this.filter = builder.filter;
         this.downloadFileRequestTransformer = builder.downloadFileRequestTransformer;
         this.listObjectsRequestTransformer = builder.listObjectsRequestTransformer;
+        this.maxConcurrency = Validate.isPositiveOrNull(builder.maxConcurrency, "maxConcurrency");
+        this.sync = builder.sync;
     }
 
     /**
@@ -97,6 +104,22 @@ public final class DownloadDirectoryRequest
         return downloadFileRequestTransformer == null ? ignore -> { } : downloadFileRequestTransformer;
     }
 
+    /**
+     * @return the maximum number of file downloads in flight
+     * @see Builder#maxConcurrency(Integer)
+     */
+    public OptionalInt maxConcurrency() {
+        return maxConcurrency == null ? OptionalInt.empty() : OptionalInt.of(maxConcurrency);
+    }
+
+    /**
+     * @return the optional sync configuration, which limits the transfer to the objects that differ
+     * @see Builder#sync(DirectorySyncConfiguration)
+     */
+    public Optional<DirectorySyncConfiguration> sync() {
+        return Optional.ofNullable(sync);
+    }
+
     public static Builder builder() {
         return new DefaultBuilder();
     }
@@ -133,6 +156,12 @@ public final class DownloadDirectoryRequest
         if (!Objects.equals(listObjectsRequestTransformer, that.listObjectsRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(maxConcurrency, that.maxConcurrency)) {
+            return false;
+        }
+        if (!Objects.equals(sync, that.sync)) {
+            return false;
+        }
         return Objects.equals(filter, that.filter);
     }
 
@@ -143,6 +172,8 @@ public final class DownloadDirectoryRequest
         result = 31 * result + (filter != null ? filter.hashCode() : 0);
         result = 31 * result + (downloadFileRequestTransformer != null ? downloadFileRequestTransformer.hashCode() : 0);
         result = 31 * result + (listObjectsRequestTransformer != null ? listObjectsRequestTransformer.hashCode() : 0);
+        result = 31 * result + (maxConcurrency != null ? maxConcurrency.hashCode() : 0);
+        result = 31 * result + (sync != null ? sync.hashCode() : 0);
         return result;
     }
 
@@ -154,6 +185,8 @@ public final class DownloadDirectoryRequest
                        .add("filter", filter)
                        .add("downloadFileRequestTransformer", downloadFileRequestTransformer)
                        .add("listObjectsRequestTransformer", listObjectsRequestTransformer)
+                       .add("maxConcurrency", maxConcurrency)
+                       .add("sync", sync)
                        .build();
     }
 
@@ -328,6 +361,40 @@ public final class DownloadDirectoryRequest
          */
         Builder listObjectsV2RequestTransformer(Consumer<ListObjectsV2Request.Builder> listObjectsV2RequestTransformer);
 
+        /**
+         * Specifies the maximum number of objects downloaded concurrently. Must be positive.
+         *
+         * <p>
+         * Default to the value configured via {@link S3TransferManager.Builder#directoryTransferMaxConcurrency(Integer)}
+         *
+         * @param maxConcurrency the maximum number of file downloads in flight
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
+        /**
+         * Specifies that only the objects that differ between the prefix and the local files of the destination directory
+         * should be downloaded, as configured by the given {@link DirectorySyncConfiguration}. By default, every object is
+         * downloaded.
+         *
+         * @param sync the sync configuration
+         * @return This builder for method chaining.
+         * @see DirectorySyncConfiguration
+         */
+        Builder sync(DirectorySyncConfiguration sync);
+
+        /**
+         * Similar to {@link #sync(DirectorySyncConfiguration)}, but takes a lambda to configure a new
+         * {@link DirectorySyncConfiguration.Builder}. This removes the need to call {@link DirectorySyncConfiguration#builder()}
+         * and {@link DirectorySyncConfiguration.Builder#build()}.
+         *
+         * @param sync the sync configuration
+         * @return This builder for method chaining.
+         * @see #sync(DirectorySyncConfiguration)
+         */
+        default Builder sync(Consumer<DirectorySyncConfiguration.Builder> sync) {
+            return sync(DirectorySyncConfiguration.builder().applyMutation(sync).build());
+        }
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -337,6 +404,8 @@ public final class DownloadDirectoryRequest
         private DownloadFilter filter;
         private Consumer<DownloadFileRequest.Builder> downloadFileRequestTransformer;
         private Consumer<ListObjectsV2Request.Builder> listObjectsRequestTransformer;
+        private Integer maxConcurrency;
+        private DirectorySyncConfiguration sync;
 
         private DefaultBuilder() {
         }
@@ -347,6 +416,8 @@ public final class DownloadDirectoryRequest
             this.filter = request.filter;
             this.downloadFileRequestTransformer = request.downloadFileRequestTransformer;
             this.listObjectsRequestTransformer = request.listObjectsRequestTransformer;
+            this.maxConcurrency = request.maxConcurrency;
+            this.sync = request.sync;
         }
 
         @Override
@@ -403,6 +474,34 @@ public final class DownloadDirectoryRequest
             return filter;
         }
 
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        public Integer getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        @Override
+        public Builder sync(DirectorySyncConfiguration sync) {
+            this.sync = sync;
+            return this;
+        }
+
+        public void setSync(DirectorySyncConfiguration sync) {
+            sync(sync);
+        }
+
+        public DirectorySyncConfiguration getSync() {
+            return sync;
+        }
+
         @Override
         public DownloadDirectoryRequest build() {
             return new DownloadDirectoryRequest(this);
@@ -17,6 +17,10 @@ package software.amazon.awssdk.transfer.s3.model;
 
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -24,7 +28,9 @@ import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.transfer.s3.S3TransferManager;
+import software.amazon.awssdk.transfer.s3.config.DirectorySyncConfiguration;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
+import software.amazon.awssdk.transfer.s3.progress.TransferListener;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
@@ -45,7 +51,10 @@ public final class UploadDirectoryRequest
     private final String s3Delimiter;
     private final Boolean followSymbolicLinks;
     private final Integer maxDepth;
+    private final Integer maxConcurrency;
     private final Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
+    private final List<TransferListener> listeners;
+    private final DirectorySyncConfiguration sync;
 
 
     public UploadDirectoryRequest(DefaultBuilder builder) {
@@ -55,7 +64,10 @@ public final class UploadDirectoryRequest
         this.s3Delimiter = builder.s3Delimiter;
         this.followSymbolicLinks = builder.followSymbolicLinks;
         this.maxDepth = builder.maxDepth;
+        this.maxConcurrency = Validate.isPositiveOrNull(builder.maxConcurrency, "maxConcurrency");
         this.uploadFileRequestTransformer = builder.uploadFileRequestTransformer;
+        this.listeners = builder.listeners != null ? Collections.unmodifiableList(new ArrayList<>(builder.listeners)) : null;
+        this.sync = builder.sync;
     }
 
     /**
@@ -111,6 +123,14 @@ public final class UploadDirectoryRequest
         return maxDepth == null ? OptionalInt.empty() : OptionalInt.of(maxDepth);
     }
 
+    /**
+     * @return the maximum number of file uploads in flight
+     * @see Builder#maxConcurrency(Integer)
+     */
+    public OptionalInt maxConcurrency() {
+        return maxConcurrency == null ? OptionalInt.empty() : OptionalInt.of(maxConcurrency);
+    }
+
     /**
      * @return the upload request transformer if not null, otherwise no-op
      * @see Builder#uploadFileRequestTransformer(Consumer)
@@ -119,6 +139,22 @@ public final class UploadDirectoryRequest
         return uploadFileRequestTransformer == null ? ignore -> { } : uploadFileRequestTransformer;
     }
 
+    /**
+     * @return the List of transferListeners notified of the progress of the directory listing.
+     * @see Builder#transferListeners(Collection)
+     */
+    public List<TransferListener> transferListeners() {
+        return listeners;
+    }
+
+    /**
+     * @return the optional sync configuration, which limits the transfer to the files that differ
+     * @see Builder#sync(DirectorySyncConfiguration)
+     */
+    public Optional<DirectorySyncConfiguration> sync() {
+        return Optional.ofNullable(sync);
+    }
+
 
     public static Builder builder() {
         return new DefaultBuilder();
@@ -159,9 +195,18 @@ public final class UploadDirectoryRequest
         if (!Objects.equals(maxDepth, that.maxDepth)) {
             return false;
         }
+        if (!Objects.equals(maxConcurrency, that.maxConcurrency)) {
+            return false;
+        }
         if (!Objects.equals(uploadFileRequestTransformer, that.uploadFileRequestTransformer)) {
             return false;
         }
+        if (!Objects.equals(listeners, that.listeners)) {
+            return false;
+        }
+        if (!Objects.equals(sync, that.sync)) {
+            return false;
+        }
         return Objects.equals(s3Delimiter, that.s3Delimiter);
     }
 
@@ -173,7 +218,10 @@ public final class UploadDirectoryRequest
         result = 31 * result + (s3Delimiter != null ? s3Delimiter.hashCode() : 0);
         result = 31 * result + (followSymbolicLinks != null ? followSymbolicLinks.hashCode() : 0);
         result = 31 * result + (maxDepth != null ? maxDepth.hashCode() : 0);
+        result = 31 * result + (maxConcurrency != null ? maxConcurrency.hashCode() : 0);
         result = 31 * result + (uploadFileRequestTransformer != null ? uploadFileRequestTransformer.hashCode() : 0);
+        result = 31 * result + (listeners != null ? listeners.hashCode() : 0);
+        result = 31 * result + (sync != null ? sync.hashCode() : 0);
         return result;
     }
 
@@ -186,7 +234,10 @@ public final class UploadDirectoryRequest
                        .add("s3Delimiter", s3Delimiter)
                        .add("followSymbolicLinks", followSymbolicLinks)
                        .add("maxDepth", maxDepth)
+                       .add("maxConcurrency", maxConcurrency)
                        .add("uploadFileRequestTransformer", uploadFileRequestTransformer)
+                       .add("transferListeners", listeners)
+                       .add("sync", sync)
                        .build();
     }
 
@@ -288,6 +339,17 @@ public final class UploadDirectoryRequest
          */
         Builder maxDepth(Integer maxDepth);
 
+        /**
+         * Specifies the maximum number of files uploaded concurrently. Must be positive.
+         *
+         * <p>
+         * Default to the value configured via {@link S3TransferManager.Builder#directoryTransferMaxConcurrency(Integer)}
+         *
+         * @param maxConcurrency the maximum number of file uploads in flight
+         * @return This builder for method chaining.
+         */
+        Builder maxConcurrency(Integer maxConcurrency);
+
         /**
          * Specifies a function used to transform the {@link UploadFileRequest}s generated by this {@link UploadDirectoryRequest}.
          * The provided function is called once for each file that is uploaded, allowing you to modify the paths resolved by
@@ -331,6 +393,53 @@ public final class UploadDirectoryRequest
          */
         Builder uploadFileRequestTransformer(Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer);
 
+        /**
+         * The {@link TransferListener}s that will be notified as the source directory is listed, via
+         * {@link TransferListener#directoryListed} and {@link TransferListener#directoryListingComplete}. This method overrides
+         * and replaces any transferListeners that have already been set.
+         *
+         * <p>
+         * These listeners are not notified of the progress of the individual file uploads. Use
+         * {@link #uploadFileRequestTransformer(Consumer)} to add listeners to the file-level upload requests.
+         *
+         * @param transferListeners the collection of transferListeners
+         * @return This builder for method chaining.
+         * @see TransferListener
+         */
+        Builder transferListeners(Collection<TransferListener> transferListeners);
+
+        /**
+         * Add a {@link TransferListener} that will be notified as the source directory is listed.
+         *
+         * @param transferListener the transferListener to add
+         * @return This builder for method chaining.
+         * @see #transferListeners(Collection)
+         */
+        Builder addTransferListener(TransferListener transferListener);
+
+        /**
+         * Specifies that only the files that differ between the local files and the objects under the prefix should be
+         * transferred, as configured by the given {@link DirectorySyncConfiguration}. By default, every file is transferred.
+         *
+         * @param sync the sync configuration
+         * @return This builder for method chaining.
+         * @see DirectorySyncConfiguration
+         */
+        Builder sync(DirectorySyncConfiguration sync);
+
+        /**
+         * Similar to {@link #sync(DirectorySyncConfiguration)}, but takes a lambda to configure a new
+         * {@link DirectorySyncConfiguration.Builder}. This removes the need to call {@link DirectorySyncConfiguration#builder()}
+         * and {@link DirectorySyncConfiguration.Builder#build()}.
+         *
+         * @param sync the sync configuration
+         * @return This builder for method chaining.
+         * @see #sync(DirectorySyncConfiguration)
+         */
+        default Builder sync(Consumer<DirectorySyncConfiguration.Builder> sync) {
+            return sync(DirectorySyncConfiguration.builder().applyMutation(sync).build());
+        }
+
 
 
         @Override
@@ -346,7 +455,10 @@ public final class UploadDirectoryRequest
         private String s3Delimiter;
         private Boolean followSymbolicLinks;
         private Integer maxDepth;
+        private Integer maxConcurrency;
         private Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer;
+        private List<TransferListener> listeners;
+        private DirectorySyncConfiguration sync;
 
         private DefaultBuilder() {
         }
@@ -358,7 +470,10 @@ public final class UploadDirectoryRequest
             this.s3Delimiter = request.s3Delimiter;
             this.followSymbolicLinks = request.followSymbolicLinks;
             this.maxDepth = request.maxDepth;
+            this.maxConcurrency = request.maxConcurrency;
             this.uploadFileRequestTransformer = request.uploadFileRequestTransformer;
+            this.listeners = request.listeners != null ? new ArrayList<>(request.listeners) : null;
+            this.sync = request.sync;
         }
 
         @Override
@@ -445,6 +560,20 @@ public final class UploadDirectoryRequest
             return maxDepth;
         }
 
+        @Override
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        public void setMaxConcurrency(Integer maxConcurrency) {
+            maxConcurrency(maxConcurrency);
+        }
+
+        public Integer getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
         @Override
         public Builder uploadFileRequestTransformer(Consumer<UploadFileRequest.Builder> uploadFileRequestTransformer) {
             this.uploadFileRequestTransformer = uploadFileRequestTransformer;
@@ -459,6 +588,43 @@ public final class UploadDirectoryRequest
             this.uploadFileRequestTransformer = uploadFileRequestTransformer;
         }
 
+        @Override
+        public Builder transferListeners(Collection<TransferListener> transferListeners) {
+            this.listeners = transferListeners != null ? new ArrayList<>(transferListeners) : null;
+            return this;
+        }
+
+        @Override
+        public Builder addTransferListener(TransferListener transferListener) {
+            if (listeners == null) {
+                listeners = new ArrayList<>();
+            }
+            listeners.add(transferListener);
+            return this;
+        }
+
+        public List<TransferListener> getListeners() {
+            return listeners;
+        }
+
+        public void setListeners(Collection<TransferListener> listeners) {
+            transferListeners(listeners);
+        }
+
+        @Override
+        public Builder sync(DirectorySyncConfiguration sync) {
+            this.sync = sync;
+            return this;
+        }
+
+        public void setSync(DirectorySyncConfiguration sync) {
+            sync(sync);
+        }
+
+        public DirectorySyncConfiguration getSync() {
+            return sync;
+        }
+
         @Override
         public UploadDirectoryRequest build() {
             return new UploadDirectoryRequest(this);
@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.transfer.s3.progress;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletionException;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPreviewApi;
@@ -29,6 +30,7 @@ import software.amazon.awssdk.transfer.s3.model.CompletedObjectTransfer;
 import software.amazon.awssdk.transfer.s3.model.DownloadFileRequest;
 import software.amazon.awssdk.transfer.s3.model.TransferObjectRequest;
 import software.amazon.awssdk.transfer.s3.model.TransferRequest;
+import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 
 /**
@@ -82,6 +84,11 @@ import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
  *     should not <i>throw</i>. Any thrown exceptions will be suppressed and logged as an error.</li>
  * </ol>
  * <p>
+ * {@link TransferListener}s provided to an {@link UploadDirectoryRequest} are notified as the source directory is listed, via
+ * {@link #directoryListed(Context.DirectoryListed)} and {@link #directoryListingComplete(Context.DirectoryListingComplete)}.
+ * Progress of the individual file uploads is reported to the listeners of each {@link UploadFileRequest}, which can be added
+ * with {@link UploadDirectoryRequest.Builder#uploadFileRequestTransformer}.
+ * <p>
  * A classical use case of {@link TransferListener} is to create a progress bar to monitor an ongoing transfer's progress.
  * Refer to the implementation of {@link LoggingTransferListener} for a basic example, or test it in your application by providing
  * the listener as part of your {@link TransferRequest}. E.g.,
@@ -161,6 +168,37 @@ public interface TransferListener {
     default void transferFailed(Context.TransferFailed context) {
     }
 
+    /**
+     * A directory of the source of an {@link UploadDirectoryRequest} has been listed. This method is called once per listed
+     * directory, and may be called concurrently because sub-directories are listed in parallel.
+     * <p>
+     * Available context attributes:
+     * <ol>
+     *     <li>{@link Context.DirectoryListed#request()}</li>
+     *     <li>{@link Context.DirectoryListed#directory()}</li>
+     *     <li>{@link Context.DirectoryListed#directoriesListed()}</li>
+     *     <li>{@link Context.DirectoryListed#filesFound()}</li>
+     * </ol>
+     */
+    default void directoryListed(Context.DirectoryListed context) {
+    }
+
+    /**
+     * All directories of the source of an {@link UploadDirectoryRequest} have been listed. This method is called at most once
+     * per upload directory request, and is not called if the listing failed. Uploads of the files found may still be in
+     * progress.
+     * <p>
+     * Available context attributes:
+     * <ol>
+     *     <li>{@link Context.DirectoryListingComplete#request()}</li>
+     *     <li>{@link Context.DirectoryListingComplete#directory()}</li>
+     *     <li>{@link Context.DirectoryListingComplete#directoriesListed()}</li>
+     *     <li>{@link Context.DirectoryListingComplete#filesFound()}</li>
+     * </ol>
+     */
+    default void directoryListingComplete(Context.DirectoryListingComplete context) {
+    }
+
     /**
      * A wrapper class that groups together the different context interfaces that are exposed to {@link TransferListener}s.
      * <p>
@@ -269,5 +307,60 @@ public interface TransferListener {
              */
             Throwable exception();
         }
+
+        /**
+         * A directory of the source of an {@link UploadDirectoryRequest} has been listed.
+         * <p>
+         * Available context attributes:
+         * <ol>
+         *     <li>{@link DirectoryListed#request()}</li>
+         *     <li>{@link DirectoryListed#directory()}</li>
+         *     <li>{@link DirectoryListed#directoriesListed()}</li>
+         *     <li>{@link DirectoryListed#filesFound()}</li>
+         * </ol>
+         */
+        @Immutable
+        @ThreadSafe
+        @SdkPublicApi
+        @SdkPreviewApi
+        public interface DirectoryListed {
+            /**
+             * The {@link UploadDirectoryRequest} that was submitted to {@link S3TransferManager}.
+             */
+            UploadDirectoryRequest request();
+
+            /**
+             * The directory that has been listed.
+             */
+            Path directory();
+
+            /**
+             * The number of directories listed so far, including this one.
+             */
+            long directoriesListed();
+
+            /**
+             * The number of files found so far that will be uploaded.
+             */
+            long filesFound();
+        }
+
+        /**
+         * All directories of the source of an {@link UploadDirectoryRequest} have been listed.
+         * <p>
+         * Available context attributes:
+         * <ol>
+         *     <li>{@link DirectoryListingComplete#request()}</li>
+         *     <li>{@link DirectoryListingComplete#directory()}, the source directory</li>
+         *     <li>{@link DirectoryListingComplete#directoriesListed()}, the total number of directories listed</li>
+         *     <li>{@link DirectoryListingComplete#filesFound()}, the total number of files found</li>
+         * </ol>
+         */
+        @Immutable
+        @ThreadSafe
+        @SdkPublicApi
+        @SdkPreviewApi
+        public interface DirectoryListingComplete extends DirectoryListed {
+        }
     }
 }
@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.netty.handler.timeout.WriteTimeoutException;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.nio.file.NoSuchFileException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.http.nio.netty.internal.utils.TooManyPendingAcquiresException;
+
+class AdaptiveConcurrencyLimiterTest {
+    private static final int MAX_LIMIT = 100;
+
+    private AtomicLong clock;
+    private AdaptiveConcurrencyLimiter<Long> limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        limiter = new AdaptiveConcurrencyLimiter<>(MAX_LIMIT, size -> size, clock::get);
+    }
+
+    @Test
+    void throughputImproves_shouldKeepIncreasingLimit() {
+        assertThat(limiter.limit()).isEqualTo(8);
+        completeWindow(100L);
+        assertThat(limiter.limit()).isEqualTo(9);
+        completeWindow(200L);
+        assertThat(limiter.limit()).isEqualTo(10);
+        completeWindow(300L);
+        assertThat(limiter.limit()).isEqualTo(11);
+    }
+
+    @Test
+    void throughputDrops_shouldReverseDirection() {
+        completeWindow(100L);
+        completeWindow(200L);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        completeWindow(100L);
+        assertThat(limiter.limit()).isEqualTo(9);
+    }
+
+    @Test
+    void throughputFlat_shouldDecreaseLimit() {
+        completeWindow(100L);
+        assertThat(limiter.limit()).isEqualTo(9);
+
+        long bytesPerItem = 100L * 8 / 9;
+        completeWindow(bytesPerItem);
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void connectionAcquireTimeout_shouldHalveLimit() {
+        completeWindow(100L);
+        completeWindow(200L);
+        assertThat(limiter.limit()).isEqualTo(10);
+
+        Throwable acquireTimeout = new Throwable("Acquire operation took longer than the configured maximum time.",
+                                                 new TimeoutException("Acquire operation took longer than 10000 milliseconds."));
+        limiter.onCompletion(100L, 0, new CompletionException(SdkClientException.create("Unable to execute HTTP request",
+                                                                                        acquireTimeout)));
+        completeWindow(100L);
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void throttling_shouldHalveLimit() {
+        completeWindow(100L);
+        completeWindow(200L);
+
+        limiter.onCompletion(100L, 0, new CompletionException(throttlingException()));
+        completeWindow(100L);
+        assertThat(limiter.limit()).isEqualTo(5);
+    }
+
+    @Test
+    void failuresCausedByCongestion_shouldBeTreatedAsCongestion() {
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(ApiCallAttemptTimeoutException.create(1000))).isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(
+            SdkClientException.create("Unable to execute HTTP request", new SocketTimeoutException("Read timed out")))).isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(
+            SdkClientException.create("Unable to execute HTTP request",
+                                      new IOException("Read timed out", ReadTimeoutException.INSTANCE)))).isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(
+            SdkClientException.create("Unable to execute HTTP request",
+                                      new IOException("Write timed out", WriteTimeoutException.INSTANCE)))).isTrue();
+        assertThat(AdaptiveConcurrencyLimiter.isCongestion(
+            SdkClientException.create("Unable to execute HTTP request",
+                                      new Throwable("Maximum pending connection acquisitions exceeded.",
+                                                    new TooManyPendingAcquiresException("Too many outstanding acquire "
+                                                                                        + "operations")))))
+            .isTrue();
+    }
+
+    @Test
+    void otherFailure_shouldNotBeTreatedAsCongestion() {
+        completeWindow(100L);
+        limiter.onCompletion(100L, 0, new IllegalStateException());
+        limiter.onCompletion(100L, 0, SdkClientException.create("Unable to read file", new NoSuchFileException("file")));
+        limiter.onCompletion(100L, 0, SdkServiceException.builder().statusCode(404).build());
+        completeWindow(200L);
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    @Test
+    void windowTooShort_shouldNotAdjustLimit() {
+        for (int i = 0; i < 20; i++) {
+            limiter.onCompletion(100L, 0, null);
+        }
+        assertThat(limiter.limit()).isEqualTo(8);
+    }
+
+    @Test
+    void limit_shouldNotExceedMaximum() {
+        limiter = new AdaptiveConcurrencyLimiter<>(2, size -> size, clock::get);
+        assertThat(limiter.limit()).isEqualTo(2);
+        completeWindow(100L);
+        completeWindow(200L);
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void limit_shouldNotDropBelowOne() {
+        limiter = new AdaptiveConcurrencyLimiter<>(1, size -> size, clock::get);
+        limiter.onCompletion(100L, 0, throttlingException());
+        clock.addAndGet(AdaptiveConcurrencyLimiter.MIN_WINDOW_NANOS);
+        limiter.onCompletion(100L, 0, null);
+        assertThat(limiter.limit()).isEqualTo(1);
+    }
+
+    private void completeWindow(long bytesPerItem) {
+        int completions = limiter.limit();
+        clock.addAndGet(AdaptiveConcurrencyLimiter.MIN_WINDOW_NANOS);
+        for (int i = 0; i < completions; i++) {
+            limiter.onCompletion(bytesPerItem, 0, null);
+        }
+    }
+
+    private static SdkServiceException throttlingException() {
+        return SdkServiceException.builder().statusCode(429).build();
+    }
+}
@@ -28,6 +28,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterAll;
@@ -108,4 +109,53 @@ class AsyncBufferingSubscriberTest {
         assertThat(futures.get(0)).isCancelled();
         assertThat(futures.get(1)).isCancelled();
     }
+
+    @Test
+    void limiterChangesLimit_shouldAdjustNumberOfRequestsInFlight() {
+        AtomicInteger limit = new AtomicInteger(2);
+        List<String> completed = new ArrayList<>();
+        ConcurrencyLimiter<String> limiter = new ConcurrencyLimiter<String>() {
+            @Override
+            public int limit() {
+                return limit.get();
+            }
+
+            @Override
+            public void onCompletion(String item, long durationNanos, Throwable failure) {
+                completed.add(item);
+            }
+        };
+        List<CompletableFuture<Void>> pending = new ArrayList<>();
+        subscriber = new AsyncBufferingSubscriber<>(s -> {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            pending.add(future);
+            return future;
+        }, returnFuture, limiter);
+
+        SimplePublisher<String> simplePublisher = new SimplePublisher<>();
+        simplePublisher.subscribe(subscriber);
+        for (int i = 0; i < 10; i++) {
+            simplePublisher.send(String.valueOf(i));
+        }
+        simplePublisher.complete();
+        assertThat(subscriber.numRequestsInFlight()).isEqualTo(2);
+
+        limit.set(4);
+        pending.get(0).complete(null);
+        assertThat(subscriber.numRequestsInFlight()).isEqualTo(4);
+
+        limit.set(1);
+        pending.get(1).complete(null);
+        pending.get(2).complete(null);
+        assertThat(subscriber.numRequestsInFlight()).isEqualTo(2);
+        pending.get(3).complete(null);
+        pending.get(4).complete(null);
+        assertThat(subscriber.numRequestsInFlight()).isEqualTo(1);
+        assertThat(completed).containsExactly("0", "1", "2", "3", "4");
+
+        for (int i = 5; i < 10; i++) {
+            pending.get(i).complete(null);
+        }
+        assertThat(returnFuture).isCompleted().isNotCompletedExceptionally();
+    }
 }
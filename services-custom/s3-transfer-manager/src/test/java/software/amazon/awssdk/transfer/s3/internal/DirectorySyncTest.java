@@ -0,0 +1,138 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.transfer.s3.config.DirectorySyncConfiguration;
+import software.amazon.awssdk.transfer.s3.config.SyncComparison;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Md5Utils;
+
+class DirectorySyncTest {
+    private static final byte[] CONTENT = "content".getBytes(StandardCharsets.UTF_8);
+    private static final Instant FILE_TIME = Instant.parse("2024-01-01T00:00:00Z");
+
+    private FileSystem fs;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fs = Jimfs.newFileSystem();
+        file = fs.getPath("file");
+        Files.write(file, CONTENT);
+        Files.setLastModifiedTime(file, FileTime.from(FILE_TIME));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        fs.close();
+    }
+
+    @Test
+    void missingObjectOrFile_shouldBeTransferred() {
+        DirectorySync sync = sync(SyncComparison.SIZE);
+
+        assertThat(sync.uploadNeeded("key", file, null)).isTrue();
+        assertThat(sync.downloadNeeded("key", object(CONTENT.length, FILE_TIME, "etag"), fs.getPath("missing"))).isTrue();
+    }
+
+    @Test
+    void size_shouldOnlyCompareSizes() {
+        DirectorySync sync = sync(SyncComparison.SIZE);
+
+        assertThat(sync.uploadNeeded("key", file, object(CONTENT.length, FILE_TIME.minusSeconds(60), "etag"))).isFalse();
+        assertThat(sync.uploadNeeded("key", file, object(CONTENT.length + 1, FILE_TIME, "etag"))).isTrue();
+    }
+
+    @Test
+    void sizeAndLastModified_shouldTransferWhenSourceIsNewer() {
+        DirectorySync sync = sync(SyncComparison.SIZE_AND_LAST_MODIFIED);
+        S3Object olderObject = object(CONTENT.length, FILE_TIME.minusSeconds(60), "etag");
+        S3Object newerObject = object(CONTENT.length, FILE_TIME.plusSeconds(60), "etag");
+        S3Object sameSecondObject = object(CONTENT.length, FILE_TIME.plusMillis(500), "etag");
+
+        assertThat(sync.uploadNeeded("key", file, olderObject)).isTrue();
+        assertThat(sync.uploadNeeded("key", file, newerObject)).isFalse();
+        assertThat(sync.uploadNeeded("key", file, sameSecondObject)).isFalse();
+        assertThat(sync.downloadNeeded("key", olderObject, file)).isFalse();
+        assertThat(sync.downloadNeeded("key", newerObject, file)).isTrue();
+    }
+
+    @Test
+    void eTag_shouldCompareMd5OfSinglePartObjects() {
+        DirectorySync sync = sync(SyncComparison.ETAG);
+        String md5 = BinaryUtils.toHex(Md5Utils.computeMD5Hash(CONTENT));
+
+        assertThat(sync.uploadNeeded("key", file, object(CONTENT.length, FILE_TIME, "\"" + md5 + "\""))).isFalse();
+        assertThat(sync.uploadNeeded("key", file, object(CONTENT.length, FILE_TIME, "\"0123456789abcdef\""))).isTrue();
+        assertThat(sync.uploadNeeded("key", file, object(CONTENT.length, FILE_TIME, "\"" + md5 + "-2\""))).isTrue();
+    }
+
+    @Test
+    void eTag_withManifest_shouldMatchMultipartObjectsTransferredByPreviousRun() {
+        Path manifest = fs.getPath("manifest.json");
+        S3Object multipartObject = object(CONTENT.length, FILE_TIME, "\"abc-2\"");
+
+        DirectorySync firstRun = sync(SyncComparison.ETAG, manifest);
+        assertThat(firstRun.uploadNeeded("key", file, multipartObject)).isTrue();
+        firstRun.transferred("key", file, "\"abc-2\"");
+        firstRun.saveManifest();
+
+        DirectorySync secondRun = sync(SyncComparison.ETAG, manifest);
+        assertThat(secondRun.uploadNeeded("key", file, multipartObject)).isFalse();
+        assertThat(secondRun.uploadNeeded("key", file, object(CONTENT.length, FILE_TIME, "\"abd-2\""))).isTrue();
+    }
+
+    @Test
+    void manifestOfAnotherPrefix_shouldBeIgnored() {
+        Path manifest = fs.getPath("manifest.json");
+        DirectorySync firstRun = DirectorySync.create(configuration(SyncComparison.ETAG, manifest), "bucket", "prefix/");
+        firstRun.transferred("prefix/key", file, "\"abc-2\"");
+        firstRun.saveManifest();
+
+        DirectorySync secondRun = DirectorySync.create(configuration(SyncComparison.ETAG, manifest), "bucket", "other/");
+        assertThat(secondRun.uploadNeeded("prefix/key", file, object(CONTENT.length, FILE_TIME, "\"abc-2\""))).isTrue();
+    }
+
+    private static DirectorySync sync(SyncComparison comparison) {
+        return sync(comparison, null);
+    }
+
+    private static DirectorySync sync(SyncComparison comparison, Path manifest) {
+        return DirectorySync.create(configuration(comparison, manifest), "bucket", "");
+    }
+
+    private static DirectorySyncConfiguration configuration(SyncComparison comparison, Path manifest) {
+        return DirectorySyncConfiguration.builder().comparison(comparison).manifestFile(manifest).build();
+    }
+
+    private static S3Object object(long size, Instant lastModified, String eTag) {
+        return S3Object.builder().key("key").size(size).lastModified(lastModified).eTag(eTag).build();
+    }
+}
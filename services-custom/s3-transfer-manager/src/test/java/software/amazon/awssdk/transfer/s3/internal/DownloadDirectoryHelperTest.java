@@ -32,6 +32,8 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -49,11 +51,13 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.services.s3.model.EncodingType;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.S3Object;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileDownload;
 import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgress;
 import software.amazon.awssdk.transfer.s3.internal.progress.DefaultTransferProgressSnapshot;
@@ -439,6 +443,68 @@ public class DownloadDirectoryHelperTest {
             .hasMessageContaining("is not a directory").hasCauseInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void downloadDirectory_sync_shouldSkipUnchangedObjectsAndDeleteExtraneousFiles() throws Exception {
+        Files.createDirectory(directory);
+        Files.write(directory.resolve("unchanged"), "abc".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("extraneous"), "abc".getBytes(StandardCharsets.UTF_8));
+        Path manifest = directory.resolve(".sync-manifest");
+
+        S3Object unchanged = S3Object.builder().key("unchanged").size(3L).eTag("\"etag\"")
+                                     .lastModified(Instant.now().minus(Duration.ofDays(1))).build();
+        S3Object added = S3Object.builder().key("added").size(5L).eTag("\"etag2\"").lastModified(Instant.now()).build();
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.fromIterable(Arrays.asList(unchanged, added)));
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(newSuccessfulDownload());
+
+        CompletedDirectoryDownload completedDirectoryDownload =
+            downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                              .destination(directory)
+                                                                              .bucket("bucket")
+                                                                              .sync(s -> s.deleteExtraneous(true)
+                                                                                          .manifestFile(manifest))
+                                                                              .build())
+                                   .completionFuture()
+                                   .get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryDownload.failedTransfers()).isEmpty();
+        ArgumentCaptor<DownloadFileRequest> argumentCaptor = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().getObjectRequest().key()).isEqualTo("added");
+        assertThat(directory.resolve("unchanged")).exists();
+        assertThat(directory.resolve("extraneous")).doesNotExist();
+        assertThat(manifest).exists();
+        assertThat(new String(Files.readAllBytes(manifest), StandardCharsets.UTF_8)).contains("unchanged");
+    }
+
+    @Test
+    void downloadDirectory_syncWithFilter_shouldNotDeleteFilesOfFilteredObjects() throws Exception {
+        Files.createDirectory(directory);
+        Files.write(directory.resolve("filtered"), "abc".getBytes(StandardCharsets.UTF_8));
+        Files.write(directory.resolve("extraneous"), "abc".getBytes(StandardCharsets.UTF_8));
+
+        S3Object filtered = S3Object.builder().key("filtered").size(5L).eTag("\"etag\"").lastModified(Instant.now()).build();
+        S3Object added = S3Object.builder().key("added").size(5L).eTag("\"etag2\"").lastModified(Instant.now()).build();
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.fromIterable(Arrays.asList(filtered, added)));
+        when(singleDownloadFunction.apply(any(DownloadFileRequest.class))).thenReturn(newSuccessfulDownload());
+
+        downloadDirectoryHelper.downloadDirectory(DownloadDirectoryRequest.builder()
+                                                                          .destination(directory)
+                                                                          .bucket("bucket")
+                                                                          .filter(s3Object -> !s3Object.key().equals("filtered"))
+                                                                          .sync(s -> s.deleteExtraneous(true))
+                                                                          .build())
+                               .completionFuture()
+                               .get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DownloadFileRequest> argumentCaptor = ArgumentCaptor.forClass(DownloadFileRequest.class);
+        verify(singleDownloadFunction).apply(argumentCaptor.capture());
+        assertThat(argumentCaptor.getValue().getObjectRequest().key()).isEqualTo("added");
+        assertThat(directory.resolve("filtered")).hasContent("abc");
+        assertThat(directory.resolve("extraneous")).doesNotExist();
+    }
+
     private static DefaultFileDownload completedDownload() {
         return new DefaultFileDownload(CompletableFuture.completedFuture(CompletedFileDownload.builder()
                                                                                               .response(GetObjectResponse.builder().build())
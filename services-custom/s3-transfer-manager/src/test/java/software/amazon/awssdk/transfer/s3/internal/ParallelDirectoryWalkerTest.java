@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.transfer.s3.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemLoopException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.testutils.FileUtils;
+
+class ParallelDirectoryWalkerTest {
+    private FileSystem jimfs;
+    private Path directory;
+    private RecordingProgressListener progressListener;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jimfs = Jimfs.newFileSystem();
+        directory = jimfs.getPath("test");
+        progressListener = new RecordingProgressListener();
+        createTree(directory, 3, 4, 5);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        jimfs.close();
+    }
+
+    @Test
+    void walk_shouldFindAllRegularFilesAndReportProgress() {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, progressListener));
+
+        // 1 + 4 + 16 + 64 directories, with 5 files each
+        assertThat(files).hasSize(85 * 5).doesNotHaveDuplicates().allMatch(Files::isRegularFile);
+        assertThat(progressListener.directoriesListed).hasValue(85);
+        assertThat(progressListener.complete.join()).containsExactly(85, 85 * 5);
+    }
+
+    @Test
+    void walk_maxDepth_shouldOnlyIncludeFilesUpToMaxDepth() {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, 2, false, progressListener));
+
+        assertThat(files).hasSize(5 * 5).allMatch(path -> path.getNameCount() - directory.getNameCount() <= 2);
+        assertThat(progressListener.directoriesListed).hasValue(5);
+    }
+
+    @Test
+    void walk_maxDepthZero_shouldNotIncludeAnyFile() {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, 0, false, progressListener));
+
+        assertThat(files).isEmpty();
+        assertThat(progressListener.complete.join()).containsExactly(0, 0);
+    }
+
+    @Test
+    void walk_queueSmallerThanTree_shouldFindAllFiles() {
+        List<Path> files = walk(new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, progressListener, 4, 1));
+
+        assertThat(files).hasSize(85 * 5).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void close_whileListing_shouldStopWalker() {
+        ParallelDirectoryWalker walker = new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, progressListener, 4, 1);
+        Iterator<Path> iterator = walker.start();
+        assertThat(iterator.hasNext()).isTrue();
+        iterator.next();
+
+        walker.close();
+
+        List<Path> remaining = new ArrayList<>();
+        iterator.forEachRemaining(remaining::add);
+        assertThat(remaining.size()).isLessThan(85 * 5 - 1);
+        assertThat(progressListener.complete).isNotDone();
+    }
+
+    @Test
+    void start_calledTwice_shouldThrow() {
+        ParallelDirectoryWalker walker = new ParallelDirectoryWalker(directory, Integer.MAX_VALUE, false, progressListener);
+        walker.start();
+        assertThatThrownBy(walker::start).isInstanceOf(IllegalStateException.class);
+        walker.close();
+    }
+
+    @Test
+    void walk_symbolicLinkCycle_followSymbolicLinks_shouldFail() throws IOException {
+        Path localDirectory = Files.createTempDirectory("test");
+        try {
+            Path subDirectory = Files.createDirectory(localDirectory.resolve("foo"));
+            Files.write(subDirectory.resolve("1.txt"), new byte[1]);
+            Files.createSymbolicLink(subDirectory.resolve("loop"), localDirectory);
+
+            ParallelDirectoryWalker walker = new ParallelDirectoryWalker(localDirectory, Integer.MAX_VALUE, true,
+                                                                         progressListener);
+            assertThatThrownBy(() -> walk(walker)).isInstanceOf(SdkClientException.class)
+                                                  .hasCauseInstanceOf(FileSystemLoopException.class);
+
+            List<Path> files = walk(new ParallelDirectoryWalker(localDirectory, Integer.MAX_VALUE, false, progressListener));
+            assertThat(files).containsExactly(subDirectory.resolve("1.txt"));
+        } finally {
+            Files.deleteIfExists(localDirectory.resolve("foo").resolve("loop"));
+            FileUtils.cleanUpTestDirectory(localDirectory);
+        }
+    }
+
+    @Test
+    void walk_directoryDeleted_shouldFail() throws IOException {
+        Path missing = directory.resolve("missing");
+        assertThatThrownBy(() -> walk(new ParallelDirectoryWalker(missing, Integer.MAX_VALUE, false, progressListener)))
+            .isInstanceOf(SdkClientException.class)
+            .hasMessageContaining("Failed to list files");
+        assertThat(progressListener.complete).isNotDone();
+    }
+
+    private static List<Path> walk(ParallelDirectoryWalker walker) {
+        try {
+            List<Path> files = new ArrayList<>();
+            walker.start().forEachRemaining(files::add);
+            return files;
+        } finally {
+            walker.close();
+        }
+    }
+
+    private static void createTree(Path directory, int depth, int directoriesPerLevel, int filesPerDirectory)
+        throws IOException {
+        Files.createDirectory(directory);
+        for (int i = 0; i < filesPerDirectory; i++) {
+            Files.write(directory.resolve("file" + i), new byte[i]);
+        }
+        if (depth == 0) {
+            return;
+        }
+        for (int i = 0; i < directoriesPerLevel; i++) {
+            createTree(directory.resolve("dir" + i), depth - 1, directoriesPerLevel, filesPerDirectory);
+        }
+    }
+
+    private static final class RecordingProgressListener implements ParallelDirectoryWalker.ProgressListener {
+        private final AtomicLong directoriesListed = new AtomicLong();
+        private final CompletableFuture<long[]> complete = new CompletableFuture<>();
+
+        @Override
+        public void directoryListed(Path directory, long directoriesListed, long filesFound) {
+            this.directoriesListed.incrementAndGet();
+        }
+
+        @Override
+        public void listingComplete(Path root, long directoriesListed, long filesFound) {
+            complete.complete(new long[] {directoriesListed, filesFound});
+        }
+    }
+}
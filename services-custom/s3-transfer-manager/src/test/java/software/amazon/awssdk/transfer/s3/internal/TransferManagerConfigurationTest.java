@@ -16,8 +16,10 @@
 package software.amazon.awssdk.transfer.s3.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.EXECUTOR;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS;
 import static software.amazon.awssdk.transfer.s3.internal.TransferConfigurationOption.UPLOAD_DIRECTORY_MAX_DEPTH;
@@ -26,6 +28,7 @@ import java.nio.file.Paths;
 import java.util.concurrent.ExecutorService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import software.amazon.awssdk.transfer.s3.model.DownloadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 
 public class TransferManagerConfigurationTest {
@@ -57,12 +60,63 @@ public class TransferManagerConfigurationTest {
         assertThat(transferManagerConfiguration.resolveUploadDirectoryFollowSymbolicLinks(uploadDirectoryRequest)).isTrue();
     }
 
+    @Test
+    public void resolveMaxConcurrency_requestOverride_requestOverrideShouldTakePrecedence() {
+        transferManagerConfiguration = TransferManagerConfiguration.builder()
+                                                                   .directoryTransferMaxConcurrency(10)
+                                                                   .build();
+        UploadDirectoryRequest uploadDirectoryRequest = UploadDirectoryRequest.builder()
+                                                                              .bucket("bucket")
+                                                                              .source(Paths.get("."))
+                                                                              .maxConcurrency(20)
+                                                                              .build();
+        DownloadDirectoryRequest downloadDirectoryRequest = DownloadDirectoryRequest.builder()
+                                                                                    .bucket("bucket")
+                                                                                    .destination(Paths.get("."))
+                                                                                    .maxConcurrency(30)
+                                                                                    .build();
+        assertThat(transferManagerConfiguration.resolveUploadDirectoryMaxConcurrency(uploadDirectoryRequest)).isEqualTo(20);
+        assertThat(transferManagerConfiguration.resolveDownloadDirectoryMaxConcurrency(downloadDirectoryRequest)).isEqualTo(30);
+    }
+
+    @Test
+    public void resolveMaxConcurrency_noRequestOverride_shouldUseConfiguredValue() {
+        transferManagerConfiguration = TransferManagerConfiguration.builder()
+                                                                   .directoryTransferMaxConcurrency(10)
+                                                                   .build();
+        DownloadDirectoryRequest downloadDirectoryRequest = DownloadDirectoryRequest.builder()
+                                                                                    .bucket("bucket")
+                                                                                    .destination(Paths.get("."))
+                                                                                    .build();
+        assertThat(transferManagerConfiguration.resolveDownloadDirectoryMaxConcurrency(downloadDirectoryRequest)).isEqualTo(10);
+    }
+
+    @Test
+    public void maxConcurrency_notPositive_shouldThrow() {
+        assertThatThrownBy(() -> TransferManagerConfiguration.builder().directoryTransferMaxConcurrency(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void directoryTransferConcurrencyLimiter_shouldHonorAdaptiveSetting() {
+        transferManagerConfiguration = TransferManagerConfiguration.builder().build();
+        assertThat(transferManagerConfiguration.directoryTransferConcurrencyLimiter(5, o -> 0L).limit()).isEqualTo(5);
+
+        transferManagerConfiguration = TransferManagerConfiguration.builder()
+                                                                   .directoryTransferAdaptiveConcurrency(true)
+                                                                   .build();
+        assertThat(transferManagerConfiguration.directoryTransferConcurrencyLimiter(50, o -> 0L))
+            .isInstanceOf(AdaptiveConcurrencyLimiter.class);
+    }
+
     @Test
     public void noOverride_shouldUseDefaults() {
         transferManagerConfiguration = TransferManagerConfiguration.builder().build();
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_FOLLOW_SYMBOLIC_LINKS)).isFalse();
         assertThat(transferManagerConfiguration.option(UPLOAD_DIRECTORY_MAX_DEPTH)).isEqualTo(Integer.MAX_VALUE);
         assertThat(transferManagerConfiguration.option(EXECUTOR)).isNotNull();
+        assertThat(transferManagerConfiguration.option(TransferConfigurationOption.DIRECTORY_TRANSFER_MAX_CONCURRENCY))
+            .isEqualTo(DEFAULT_DIRECTORY_TRANSFER_MAX_CONCURRENCY);
     }
 
     @Test
@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.jimfs.Configuration;
@@ -30,15 +32,20 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -47,10 +54,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
-import software.amazon.awssdk.services.s3.multipart.PauseObservable;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.multipart.PauseObservable;
 import software.amazon.awssdk.testutils.FileUtils;
 import software.amazon.awssdk.transfer.s3.config.TransferRequestOverrideConfiguration;
 import software.amazon.awssdk.transfer.s3.internal.model.DefaultFileUpload;
@@ -64,6 +77,7 @@ import software.amazon.awssdk.transfer.s3.model.UploadDirectoryRequest;
 import software.amazon.awssdk.transfer.s3.model.UploadFileRequest;
 import software.amazon.awssdk.transfer.s3.progress.LoggingTransferListener;
 import software.amazon.awssdk.transfer.s3.progress.TransferListener;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
 
 public class UploadDirectoryHelperTest {
     private FileSystem jimfs;
@@ -74,6 +88,8 @@ public class UploadDirectoryHelperTest {
      */
     private static Path localDirectory;
     private Function<UploadFileRequest, FileUpload> singleUploadFunction;
+    private ListObjectsHelper listObjectsHelper;
+    private Function<DeleteObjectsRequest, CompletableFuture<DeleteObjectsResponse>> deleteObjectsFunction;
     private UploadDirectoryHelper uploadDirectoryHelper;
 
     public static Collection<FileSystem> fileSystems() {
@@ -102,7 +118,11 @@ public class UploadDirectoryHelperTest {
 
         singleUploadFunction = mock(Function.class);
 
-        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), singleUploadFunction);
+        listObjectsHelper = mock(ListObjectsHelper.class);
+        deleteObjectsFunction = mock(Function.class);
+
+        uploadDirectoryHelper = new UploadDirectoryHelper(TransferManagerConfiguration.builder().build(), listObjectsHelper,
+                                                          deleteObjectsFunction, singleUploadFunction);
     }
 
     @AfterEach
@@ -192,6 +212,40 @@ public class UploadDirectoryHelperTest {
             .isEqualTo("test" + directory.getFileSystem().getSeparator() + "2");
     }
 
+    @Test
+    void uploadDirectory_withTransferListener_shouldNotifyListingProgress() {
+        directory = createJimFsTestDirectory(Jimfs.newFileSystem());
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+
+        List<TransferListener.Context.DirectoryListed> listed = new CopyOnWriteArrayList<>();
+        CompletableFuture<TransferListener.Context.DirectoryListingComplete> listingComplete = new CompletableFuture<>();
+        TransferListener listener = new TransferListener() {
+            @Override
+            public void directoryListed(Context.DirectoryListed context) {
+                listed.add(context);
+            }
+
+            @Override
+            public void directoryListingComplete(Context.DirectoryListingComplete context) {
+                listingComplete.complete(context);
+            }
+        };
+        UploadDirectoryRequest request = UploadDirectoryRequest.builder()
+                                                               .source(directory)
+                                                               .bucket("bucket")
+                                                               .addTransferListener(listener)
+                                                               .build();
+
+        uploadDirectoryHelper.uploadDirectory(request).completionFuture().join();
+
+        assertThat(listed).extracting(TransferListener.Context.DirectoryListed::directory)
+                          .containsExactlyInAnyOrder(directory, directory.resolve("foo"));
+        assertThat(listed).allMatch(context -> context.request() == request);
+        assertThat(listingComplete.join().directory()).isEqualTo(directory);
+        assertThat(listingComplete.join().directoriesListed()).isEqualTo(2);
+        assertThat(listingComplete.join().filesFound()).isEqualTo(3);
+    }
+
     @Test
     void uploadDirectory_withRequestTransformer_usesRequestTransformer() throws Exception {
         PutObjectResponse putObjectResponse = PutObjectResponse.builder().eTag("1234").build();
@@ -436,6 +490,83 @@ public class UploadDirectoryHelperTest {
         assertThat(keys).containsOnly("2.txt");
     }
 
+    @Test
+    void uploadDirectory_sync_shouldSkipUnchangedFilesAndDeleteExtraneousObjects() throws Exception {
+        S3Object unchanged = S3Object.builder().key("1").size(0L).lastModified(Instant.now().plus(Duration.ofDays(1))).build();
+        S3Object extraneous = S3Object.builder().key("stale").size(10L).lastModified(Instant.now()).build();
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.fromIterable(Arrays.asList(unchanged, extraneous)));
+        when(deleteObjectsFunction.apply(any(DeleteObjectsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(DeleteObjectsResponse.builder().build()));
+        List<UploadFileRequest> uploadRequests = new CopyOnWriteArrayList<>();
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenAnswer(i -> {
+            uploadRequests.add(i.getArgument(0));
+            return completedUpload();
+        });
+
+        CompletedDirectoryUpload completedDirectoryUpload =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .sync(s -> s.deleteExtraneous(true))
+                                                                        .build())
+                                 .completionFuture()
+                                 .get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryUpload.failedTransfers()).isEmpty();
+        assertThat(uploadRequests).extracting(r -> r.putObjectRequest().key()).containsExactly("2");
+        ArgumentCaptor<DeleteObjectsRequest> deleteRequest = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(deleteObjectsFunction).apply(deleteRequest.capture());
+        assertThat(deleteRequest.getValue().delete().objects()).extracting(ObjectIdentifier::key).containsExactly("stale");
+    }
+
+    @Test
+    void uploadDirectory_sync_shouldNotDeleteObjectsOfFilesOutsideTheWalk() throws Exception {
+        List<S3Object> remoteObjects = Stream.of("foo/1.txt", "symlink/2.txt", "symlink2", "stale")
+                                             .map(key -> S3Object.builder().key(key).size(1L).lastModified(Instant.now()).build())
+                                             .collect(Collectors.toList());
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.fromIterable(remoteObjects));
+        when(deleteObjectsFunction.apply(any(DeleteObjectsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(DeleteObjectsResponse.builder().build()));
+        when(singleUploadFunction.apply(any(UploadFileRequest.class))).thenReturn(completedUpload());
+
+        uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                    .source(localDirectory)
+                                                                    .bucket("bucket")
+                                                                    .maxDepth(1)
+                                                                    .followSymbolicLinks(false)
+                                                                    .sync(s -> s.deleteExtraneous(true))
+                                                                    .build())
+                             .completionFuture()
+                             .get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<DeleteObjectsRequest> deleteRequest = ArgumentCaptor.forClass(DeleteObjectsRequest.class);
+        verify(deleteObjectsFunction).apply(deleteRequest.capture());
+        assertThat(deleteRequest.getValue().delete().objects()).extracting(ObjectIdentifier::key).containsExactly("stale");
+    }
+
+    @Test
+    void uploadDirectory_syncWithFailedUpload_shouldNotDeleteExtraneousObjects() throws Exception {
+        S3Object extraneous = S3Object.builder().key("stale").size(10L).lastModified(Instant.now()).build();
+        when(listObjectsHelper.listS3ObjectsRecursively(any(ListObjectsV2Request.class)))
+            .thenReturn(SdkPublisher.fromIterable(Collections.singletonList(extraneous)));
+        when(singleUploadFunction.apply(any(UploadFileRequest.class)))
+            .thenAnswer(i -> newUpload(CompletableFutureUtils.failedFuture(SdkClientException.create("failed"))));
+
+        CompletedDirectoryUpload completedDirectoryUpload =
+            uploadDirectoryHelper.uploadDirectory(UploadDirectoryRequest.builder()
+                                                                        .source(directory)
+                                                                        .bucket("bucket")
+                                                                        .sync(s -> s.deleteExtraneous(true))
+                                                                        .build())
+                                 .completionFuture()
+                                 .get(5, TimeUnit.SECONDS);
+
+        assertThat(completedDirectoryUpload.failedTransfers()).hasSize(2);
+        verify(deleteObjectsFunction, never()).apply(any(DeleteObjectsRequest.class));
+    }
+
     private DefaultFileUpload completedUpload() {
         return new DefaultFileUpload(CompletableFuture.completedFuture(CompletedFileUpload.builder()
                                                                                           .response(PutObjectResponse.builder().build())
@@ -94,6 +94,23 @@ class ResumableFileDownloadSerializerTest {
         assertThat(deserializedDownload).isEqualTo(download);
     }
 
+    @Test
+    void serialize_multiRangeDownload_shouldWriteCompletedParts()  {
+        ResumableFileDownload download =
+            ResumableFileDownload.builder()
+                                 .downloadFileRequest(downloadRequest(PATH, GET_OBJECT_REQUESTS.get("STANDARD")))
+                                 .bytesTransferred(200L)
+                                 .totalSizeInBytes(350L)
+                                 .partSizeInBytes(100L)
+                                 .completedParts(Arrays.asList(2, 4))
+                                 .build();
+
+        String serializedDownload = new String(ResumableFileDownloadSerializer.toJson(download), StandardCharsets.UTF_8);
+
+        assertThat(serializedDownload).contains("\"partSizeInBytes\":100,\"completedParts\":[2,4]");
+        assertThat(ResumableFileDownloadSerializer.fromJson(serializedDownload).completedParts()).containsExactly(2, 4);
+    }
+
     @Test
     void serializeDeserialize_DoesNotPersistConfiguration()  {
         ResumableFileDownload download =
@@ -159,7 +176,10 @@ class ResumableFileDownloadSerializerTest {
             resumableFileDownload(1000L, null, null, null, request),
             resumableFileDownload(1000L, null, DATE1, null, request),
             resumableFileDownload(1000L, 2000L, DATE1, DATE2, request),
-            resumableFileDownload(Long.MAX_VALUE, Long.MAX_VALUE, DATE1, DATE2, request)
+            resumableFileDownload(Long.MAX_VALUE, Long.MAX_VALUE, DATE1, DATE2, request),
+            resumableFileDownload(1000L, 2000L, DATE1, DATE2, request).copy(d -> d.partSizeInBytes(100L)
+                                                                                  .completedParts(Arrays.asList(1, 3, 4))),
+            resumableFileDownload(0L, 2000L, DATE1, DATE2, request).copy(d -> d.partSizeInBytes(100L))
         );
     }
 
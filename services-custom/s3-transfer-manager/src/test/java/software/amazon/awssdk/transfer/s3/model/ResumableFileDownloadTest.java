@@ -60,7 +60,7 @@ class ResumableFileDownloadTest {
     @Test
     void equalsHashcode() {
         EqualsVerifier.forClass(ResumableFileDownload.class)
-                      .withNonnullFields("downloadFileRequest")
+                      .withNonnullFields("downloadFileRequest", "completedParts")
                       .verify();
     }
 
@@ -0,0 +1,342 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.async.SimplePublisher;
+
+/**
+ * An internal helper class that downloads an object as multiple ranged GET requests, made in parallel.
+ * <p>
+ * The first request fetches the first part and, from its {@code Content-Range}, the size of the object. The remaining parts are
+ * then requested with the {@code ETag} of the first part as {@code If-Match}, so all the parts are guaranteed to come from the
+ * same version of the object. At most {@code apiCallBufferSizeInBytes / minimumPartSizeInBytes} parts are in flight at a time.
+ * <p>
+ * Parts are buffered in memory and delivered to the {@link AsyncResponseTransformer} in order, unless the transformer writes to a
+ * file, in which case the download is made by a {@link RangedFileDownloader} that writes each part directly to its position in
+ * the file.
+ */
+@SdkInternalApi
+public final class DownloadObjectHelper {
+    private static final Logger log = Logger.loggerFor(S3AsyncClient.class);
+
+    private final S3AsyncClient s3AsyncClient;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, MultipartConfigurationResolver resolver) {
+        this.s3AsyncClient = s3AsyncClient;
+        // Parts are buffered in a single array, so they can't be larger than what an array can hold.
+        this.partSizeInBytes = Math.min(resolver.minimalPartSizeInBytes(), Integer.MAX_VALUE - 8);
+        this.maxInFlightParts = (int) Math.max(1, Math.min(Integer.MAX_VALUE,
+                                                           resolver.apiCallBufferSize() / partSizeInBytes));
+    }
+
+    @SuppressWarnings("unchecked")
+    public <ReturnT> CompletableFuture<ReturnT> downloadObject(
+        GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
+
+        if (getObjectRequest.range() != null || getObjectRequest.partNumber() != null) {
+            log.debug(() -> "Range or part number specified, downloading the object in a single request");
+            return s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
+        }
+
+        try {
+            if (asyncResponseTransformer instanceof FileAsyncResponseTransformer) {
+                FileAsyncResponseTransformer<GetObjectResponse> fileTransformer =
+                    (FileAsyncResponseTransformer<GetObjectResponse>) (AsyncResponseTransformer<?, ?>) asyncResponseTransformer;
+                RangedFileDownloader fileDownloader = new RangedFileDownloader(s3AsyncClient, getObjectRequest,
+                                                                               fileTransformer.path(),
+                                                                               fileTransformer.configuration(),
+                                                                               partSizeInBytes, maxInFlightParts);
+                return (CompletableFuture<ReturnT>) fileDownloader.download();
+            }
+            return new OrderedDownload<>(getObjectRequest, asyncResponseTransformer).download();
+        } catch (Throwable throwable) {
+            return CompletableFutureUtils.failedFuture(throwable);
+        }
+    }
+
+    private GetObjectRequest rangeRequest(GetObjectRequest getObjectRequest, long start, long objectSize, String eTag) {
+        long end = Math.min(start + partSizeInBytes, objectSize) - 1;
+        return RangedFileDownloader.rangeRequest(getObjectRequest, start, end, eTag);
+    }
+
+    /**
+     * If the response doesn't have a {@code Content-Range}, the range was ignored and the whole object was returned in one part.
+     */
+    private int numberOfParts(GetObjectResponse firstPartResponse, long objectSize) {
+        if (firstPartResponse.contentRange() == null) {
+            return 1;
+        }
+        return (int) Math.max(1, (objectSize + partSizeInBytes - 1) / partSizeInBytes);
+    }
+
+    /**
+     * Downloads the parts into memory and delivers them, in order, to the user's transformer. A part is only requested once the
+     * part {@code maxInFlightParts} before it has been delivered, which bounds the memory used by the download.
+     */
+    private final class OrderedDownload<ReturnT> {
+        private final GetObjectRequest getObjectRequest;
+        private final AsyncResponseTransformer<GetObjectResponse, ReturnT> transformer;
+        private final CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
+        private final SimplePublisher<ByteBuffer> publisher = new SimplePublisher<>();
+        private final Map<Integer, CompletableFuture<ResponseBytes<GetObjectResponse>>> parts = new ConcurrentHashMap<>();
+        private volatile long objectSize;
+        private volatile int numParts;
+        private volatile String eTag;
+
+        private OrderedDownload(GetObjectRequest getObjectRequest,
+                                AsyncResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+            this.getObjectRequest = getObjectRequest;
+            this.transformer = transformer;
+        }
+
+        private CompletableFuture<ReturnT> download() {
+            GetObjectRequest firstPartRequest = rangeRequest(getObjectRequest, 0, Long.MAX_VALUE, null);
+            PartTransformer firstPartTransformer = new PartTransformer(partSizeInBytes);
+            CompletableFuture<ResponseBytes<GetObjectResponse>> firstPart =
+                s3AsyncClient.getObject(firstPartRequest, firstPartTransformer);
+            parts.put(0, firstPart);
+
+            returnFuture.whenComplete((r, t) -> {
+                if (t != null) {
+                    publisher.error(t);
+                    parts.values().forEach(part -> part.cancel(true));
+                }
+            });
+
+            firstPart.whenComplete((part, throwable) -> {
+                if (throwable == null) {
+                    startStreaming(part);
+                } else if (RangedFileDownloader.isRangeNotSatisfiable(throwable)) {
+                    log.debug(() -> "The object is empty, downloading it in a single request");
+                    downloadInSingleRequest();
+                } else if (firstPartTransformer.rangeIgnored()) {
+                    // The whole object didn't fit in a part, so it's streamed to the user's transformer instead of buffered
+                    log.debug(() -> "The range was ignored, downloading the object in a single request");
+                    downloadInSingleRequest();
+                } else {
+                    failBeforeStreaming(throwable);
+                }
+            });
+            return returnFuture;
+        }
+
+        private void downloadInSingleRequest() {
+            CompletableFuture<ReturnT> future = s3AsyncClient.getObject(getObjectRequest, transformer);
+            CompletableFutureUtils.forwardExceptionTo(returnFuture, future);
+            CompletableFutureUtils.forwardResultTo(future, returnFuture);
+        }
+
+        private void startStreaming(ResponseBytes<GetObjectResponse> firstPart) {
+            GetObjectResponse response = firstPart.response();
+            objectSize = RangedFileDownloader.objectSize(response);
+            numParts = numberOfParts(response, objectSize);
+            eTag = response.eTag();
+            log.debug(() -> "Downloading the object in " + numParts + " parts");
+
+            CompletableFutureUtils.forwardResultTo(transformer.prepare(), returnFuture);
+            transformer.onResponse(RangedFileDownloader.toObjectResponse(response, objectSize));
+            transformer.onStream(SdkPublisher.adapt(publisher));
+
+            for (int i = 1; i < Math.min(maxInFlightParts, numParts); i++) {
+                requestPart(i);
+            }
+            deliver(0, firstPart);
+        }
+
+        private void requestPart(int partIndex) {
+            GetObjectRequest partRequest = rangeRequest(getObjectRequest, partIndex * partSizeInBytes, objectSize, eTag);
+            CompletableFuture<ResponseBytes<GetObjectResponse>> part = new CompletableFuture<>();
+            parts.put(partIndex, part);
+            if (returnFuture.isDone()) {
+                part.cancel(true);
+                return;
+            }
+            CompletableFuture<ResponseBytes<GetObjectResponse>> request =
+                s3AsyncClient.getObject(partRequest, new PartTransformer(partSizeInBytes));
+            CompletableFutureUtils.forwardExceptionTo(part, request);
+            CompletableFutureUtils.forwardResultTo(request, part);
+        }
+
+        private void deliver(int partIndex, ResponseBytes<GetObjectResponse> part) {
+            publisher.send(part.asByteBuffer()).whenComplete((r, t) -> {
+                parts.remove(partIndex);
+                if (t != null) {
+                    returnFuture.completeExceptionally(t);
+                    return;
+                }
+
+                int nextPartToRequest = partIndex + maxInFlightParts;
+                if (nextPartToRequest < numParts) {
+                    requestPart(nextPartToRequest);
+                }
+
+                int nextPart = partIndex + 1;
+                if (nextPart == numParts) {
+                    publisher.complete();
+                    return;
+                }
+
+                parts.get(nextPart).whenComplete((nextResponse, throwable) -> {
+                    if (throwable != null) {
+                        log.debug(() -> "Failed to download part " + (nextPart + 1) + " of the object", throwable);
+                        returnFuture.completeExceptionally(throwable);
+                    } else {
+                        deliver(nextPart, nextResponse);
+                    }
+                });
+            });
+        }
+
+        /**
+         * Let the user's transformer know about a failure that occurred before any response was delivered to it, as would
+         * happen for a failed single GET request.
+         */
+        private void failBeforeStreaming(Throwable throwable) {
+            try {
+                CompletableFutureUtils.forwardResultTo(transformer.prepare(), returnFuture);
+                transformer.exceptionOccurred(throwable);
+            } finally {
+                returnFuture.completeExceptionally(throwable);
+            }
+        }
+    }
+
+    /**
+     * Buffers a part into a single array, sized from the {@code Content-Length} of the part when it's known, or from the part
+     * size otherwise.
+     */
+    private static final class PartTransformer
+        implements AsyncResponseTransformer<GetObjectResponse, ResponseBytes<GetObjectResponse>> {
+        private final int partSizeInBytes;
+        private volatile CompletableFuture<ResponseBytes<GetObjectResponse>> future;
+        private volatile GetObjectResponse response;
+
+        private PartTransformer(long partSizeInBytes) {
+            this.partSizeInBytes = (int) partSizeInBytes;
+        }
+
+        /**
+         * Whether the server ignored the range of the request, and responded with the whole object.
+         */
+        private boolean rangeIgnored() {
+            return response != null && response.contentRange() == null;
+        }
+
+        @Override
+        public CompletableFuture<ResponseBytes<GetObjectResponse>> prepare() {
+            future = new CompletableFuture<>();
+            return future;
+        }
+
+        @Override
+        public void onResponse(GetObjectResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            Long contentLength = response.contentLength();
+            if (contentLength != null && contentLength > partSizeInBytes) {
+                // Release the connection of the response before failing the part
+                publisher.subscribe(new CancelledSubscriber<>());
+                future.completeExceptionally(SdkClientException.create("The content length of the part, " + contentLength
+                                                                       + ", is larger than the part size"));
+                return;
+            }
+            publisher.subscribe(new PartSubscriber(contentLength == null ? partSizeInBytes : contentLength.intValue(),
+                                                   response, future));
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    private static final class PartSubscriber implements Subscriber<ByteBuffer> {
+        private final byte[] part;
+        private final GetObjectResponse response;
+        private final CompletableFuture<ResponseBytes<GetObjectResponse>> future;
+        private Subscription subscription;
+        private int position;
+
+        private PartSubscriber(int maxLength, GetObjectResponse response,
+                               CompletableFuture<ResponseBytes<GetObjectResponse>> future) {
+            this.part = new byte[maxLength];
+            this.response = response;
+            this.future = future;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (this.subscription != null) {
+                s.cancel();
+                return;
+            }
+            this.subscription = s;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+            int length = byteBuffer.remaining();
+            if (length > part.length - position) {
+                subscription.cancel();
+                onError(SdkClientException.create("Received more than the expected " + part.length + " bytes for the part"));
+                return;
+            }
+            byteBuffer.get(part, position, length);
+            position += length;
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            future.completeExceptionally(t);
+        }
+
+        @Override
+        public void onComplete() {
+            Long contentLength = response.contentLength();
+            if (contentLength != null && position != contentLength) {
+                future.completeExceptionally(SdkClientException.create("Expected " + contentLength + " bytes for the part, "
+                                                                       + "but received " + position));
+                return;
+            }
+            byte[] bytes = position == part.length ? part : Arrays.copyOf(part, position);
+            future.complete(ResponseBytes.fromByteArrayUnsafe(response, bytes));
+        }
+    }
+}
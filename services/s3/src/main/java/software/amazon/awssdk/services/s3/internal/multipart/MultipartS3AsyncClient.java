@@ -42,9 +42,9 @@ import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * An {@link S3AsyncClient} that automatically converts PUT, COPY requests to their respective multipart call. CRC32 will be
- * enabled for the PUT and COPY requests, unless the the checksum is specified or checksum validation is disabled.
- * Note: GET is not yet supported.
+ * An {@link S3AsyncClient} that automatically converts PUT, COPY requests to their respective multipart call, and GET requests
+ * to parallel ranged GET requests. CRC32 will be enabled for the PUT and COPY requests, unless the the checksum is specified or
+ * checksum validation is disabled.
  *
  * @see MultipartConfiguration
  */
@@ -55,6 +55,7 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
 
     private final UploadObjectHelper mpuHelper;
     private final CopyObjectHelper copyObjectHelper;
+    private final DownloadObjectHelper downloadObjectHelper;
 
     private MultipartS3AsyncClient(S3AsyncClient delegate, MultipartConfiguration multipartConfiguration) {
         super(delegate);
@@ -65,6 +66,7 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
         long threshold = resolver.thresholdInBytes();
         mpuHelper = new UploadObjectHelper(delegate, resolver);
         copyObjectHelper = new CopyObjectHelper(delegate, minPartSizeInBytes, threshold);
+        downloadObjectHelper = new DownloadObjectHelper(delegate, resolver);
     }
 
     @Override
@@ -111,10 +113,7 @@ public final class MultipartS3AsyncClient extends DelegatingS3AsyncClient {
     @Override
     public <ReturnT> CompletableFuture<ReturnT> getObject(
         GetObjectRequest getObjectRequest, AsyncResponseTransformer<GetObjectResponse, ReturnT> asyncResponseTransformer) {
-        // TODO uncomment once implemented
-        // getObjectRequest = getObjectRequest.toBuilder().checksumMode(ChecksumMode.ENABLED).build();
-        throw new UnsupportedOperationException(
-            "Multipart download is not yet supported. Instead use the CRT based S3 client for multipart download.");
+        return downloadObjectHelper.downloadObject(getObjectRequest, asyncResponseTransformer);
     }
 
     @Override
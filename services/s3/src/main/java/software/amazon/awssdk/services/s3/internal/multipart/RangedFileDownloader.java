@@ -0,0 +1,469 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.reactivestreams.Subscriber;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.listener.AsyncResponseTransformerListener;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.internal.async.FileAsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Downloads an object to a file as ranged GET requests made in parallel, each of which writes directly to its own position in
+ * the file.
+ * <p>
+ * The first part is written using the given {@link FileTransformerConfiguration}, so the file is created, replaced or appended
+ * to as configured, and its {@code Content-Range} gives the size of the object. Once it's written, the file is extended to the
+ * size of the object and the remaining parts are requested with the {@code ETag} of the first part as {@code If-Match}, so all
+ * the parts come from the same version of the object. At most {@code maxInFlightParts} parts are in flight at a time.
+ * <p>
+ * The completed parts are tracked, so that a download that was interrupted can be resumed by only requesting the parts that
+ * were not completed.
+ */
+@SdkInternalApi
+public final class RangedFileDownloader {
+    private static final Logger log = Logger.loggerFor(S3AsyncClient.class);
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+    private static final ProgressListener NO_OP_LISTENER = new ProgressListener() {
+    };
+
+    private final S3AsyncClient s3AsyncClient;
+    private final GetObjectRequest getObjectRequest;
+    private final Path path;
+    private final FileTransformerConfiguration configuration;
+    private final FileTransformerConfiguration partConfiguration;
+    private final long partSizeInBytes;
+    private final int maxInFlightParts;
+    private final ProgressListener progressListener;
+    private final CompletableFuture<GetObjectResponse> returnFuture = new CompletableFuture<>();
+    private final Map<Integer, CompletableFuture<GetObjectResponse>> inFlightParts = new ConcurrentHashMap<>();
+    private final Set<Integer> completedParts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger lastRequestedPart = new AtomicInteger();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private volatile long startingPosition;
+    private volatile long objectSize = -1;
+    private volatile int numParts;
+    private volatile String eTag;
+    private volatile GetObjectResponse objectResponse;
+
+    public RangedFileDownloader(S3AsyncClient s3AsyncClient,
+                                GetObjectRequest getObjectRequest,
+                                Path path,
+                                FileTransformerConfiguration configuration,
+                                long partSizeInBytes,
+                                int maxInFlightParts) {
+        this(s3AsyncClient, getObjectRequest, path, configuration, partSizeInBytes, maxInFlightParts, NO_OP_LISTENER);
+    }
+
+    public RangedFileDownloader(S3AsyncClient s3AsyncClient,
+                                GetObjectRequest getObjectRequest,
+                                Path path,
+                                FileTransformerConfiguration configuration,
+                                long partSizeInBytes,
+                                int maxInFlightParts,
+                                ProgressListener progressListener) {
+        this.s3AsyncClient = s3AsyncClient;
+        this.getObjectRequest = getObjectRequest;
+        this.path = path;
+        this.configuration = configuration;
+        // Parts write at their own position of the file prepared by the first part
+        this.partConfiguration = configuration.toBuilder()
+                                              .fileWriteOption(FileWriteOption.CREATE_OR_APPEND_TO_EXISTING)
+                                              .failureBehavior(FailureBehavior.LEAVE)
+                                              .build();
+        this.partSizeInBytes = partSizeInBytes;
+        this.maxInFlightParts = Math.max(1, maxInFlightParts);
+        this.progressListener = progressListener;
+
+        returnFuture.whenComplete((r, t) -> {
+            if (t != null) {
+                inFlightParts.values().forEach(part -> part.cancel(true));
+            }
+        });
+    }
+
+    /**
+     * Download the whole object.
+     */
+    public CompletableFuture<GetObjectResponse> download() {
+        FileAsyncResponseTransformer<GetObjectResponse> firstPartTransformer;
+        try {
+            firstPartTransformer = new FileAsyncResponseTransformer<>(path, configuration);
+        } catch (Throwable throwable) {
+            return CompletableFutureUtils.failedFuture(throwable);
+        }
+        startingPosition = firstPartTransformer.position();
+        lastRequestedPart.set(1);
+
+        CompletableFuture<GetObjectResponse> firstPart =
+            requestPart(1, rangeRequest(getObjectRequest, 0, partSizeInBytes - 1, null), firstPartTransformer,
+                        this::firstPartReceived);
+        firstPart.whenComplete((r, t) -> {
+            if (t == null) {
+                completedParts.add(1);
+                if (numParts == 1) {
+                    complete();
+                } else {
+                    requestRemainingParts();
+                }
+            } else if (isRangeNotSatisfiable(t)) {
+                downloadEmptyObject();
+            } else {
+                partFailed(1, t);
+            }
+        });
+        return returnFuture;
+    }
+
+    /**
+     * Download the parts that were not completed by a previous download of the same version of the object to the same file,
+     * starting at the beginning of the file.
+     *
+     * @param objectResponse the response describing the object, whose content length and ETag must be set
+     * @param previouslyCompletedParts the numbers, starting at 1, of the parts already written to the file
+     */
+    public CompletableFuture<GetObjectResponse> resume(GetObjectResponse objectResponse,
+                                                       Collection<Integer> previouslyCompletedParts) {
+        started.set(true);
+        this.objectResponse = objectResponse;
+        objectSize = objectResponse.contentLength();
+        numParts = numberOfParts(objectSize);
+        eTag = objectResponse.eTag();
+        previouslyCompletedParts.stream()
+                                .filter(part -> part >= 1 && part <= numParts)
+                                .forEach(completedParts::add);
+
+        log.debug(() -> String.format("Resuming the download of %s, %d of %d parts remaining", path,
+                                      numParts - completedParts.size(), numParts));
+        progressListener.downloadStarted(objectResponse, completedBytes());
+        if (completedParts.size() == numParts) {
+            complete();
+        } else {
+            requestRemainingParts();
+        }
+        return returnFuture;
+    }
+
+    public long partSizeInBytes() {
+        return partSizeInBytes;
+    }
+
+    /**
+     * The response describing the whole object, or null until the size of the object is known.
+     */
+    public GetObjectResponse objectResponse() {
+        return objectSize < 0 ? null : objectResponse;
+    }
+
+    /**
+     * The numbers, starting at 1, of the parts written to the file so far.
+     */
+    public List<Integer> completedParts() {
+        List<Integer> parts = new ArrayList<>(completedParts);
+        Collections.sort(parts);
+        return parts;
+    }
+
+    /**
+     * The number of bytes of the parts written to the file so far.
+     */
+    public long completedBytes() {
+        return completedParts.stream().mapToLong(this::partLength).sum();
+    }
+
+    private void firstPartReceived(GetObjectResponse firstPartResponse) {
+        // The response callback is invoked again when the first part is retried
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+
+        objectSize = objectSize(firstPartResponse);
+        // Without a Content-Range, the range was ignored and the whole object is returned in the first part
+        numParts = firstPartResponse.contentRange() == null ? 1 : numberOfParts(objectSize);
+        eTag = firstPartResponse.eTag();
+        objectResponse = toObjectResponse(firstPartResponse, objectSize);
+        log.debug(() -> "Downloading the object in " + numParts + " parts to " + path);
+        progressListener.downloadStarted(objectResponse, 0);
+    }
+
+    private void requestRemainingParts() {
+        try {
+            preallocate();
+        } catch (IOException e) {
+            fail(SdkClientException.create("Failed to resize the file " + path, e));
+            return;
+        }
+        for (int i = 0; i < maxInFlightParts; i++) {
+            requestNextPart();
+        }
+    }
+
+    private void requestNextPart() {
+        int partNumber;
+        do {
+            partNumber = lastRequestedPart.incrementAndGet();
+        } while (completedParts.contains(partNumber) && partNumber <= numParts);
+
+        if (partNumber > numParts || returnFuture.isDone()) {
+            return;
+        }
+        long partStart = (partNumber - 1) * partSizeInBytes;
+        GetObjectRequest partRequest = rangeRequest(getObjectRequest, partStart, partStart + partLength(partNumber) - 1, eTag);
+        FileAsyncResponseTransformer<GetObjectResponse> transformer =
+            new FileAsyncResponseTransformer<>(path, partConfiguration, startingPosition + partStart);
+
+        int part = partNumber;
+        requestPart(part, partRequest, transformer, null).whenComplete((r, t) -> {
+            if (t == null) {
+                partCompleted(part);
+            } else {
+                partFailed(part, t);
+            }
+        });
+    }
+
+    /**
+     * Request a part, reporting the bytes written to the file to the progress listener.
+     */
+    private CompletableFuture<GetObjectResponse> requestPart(int partNumber,
+                                                             GetObjectRequest partRequest,
+                                                             FileAsyncResponseTransformer<GetObjectResponse> fileTransformer,
+                                                             Consumer<GetObjectResponse> responseCallback) {
+        AtomicLong partBytes = new AtomicLong();
+        AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer = AsyncResponseTransformerListener.wrap(
+            fileTransformer,
+            new AsyncResponseTransformerListener<GetObjectResponse>() {
+                @Override
+                public void transformerOnResponse(GetObjectResponse response) {
+                    if (responseCallback != null) {
+                        responseCallback.accept(response);
+                    }
+                }
+
+                @Override
+                public void publisherSubscribe(Subscriber<? super ByteBuffer> subscriber) {
+                    // A retried part is written again from its start
+                    long previousBytes = partBytes.getAndSet(0);
+                    if (previousBytes > 0) {
+                        progressListener.bytesTransferred(-previousBytes);
+                    }
+                }
+
+                @Override
+                public void subscriberOnNext(ByteBuffer byteBuffer) {
+                    partBytes.addAndGet(byteBuffer.remaining());
+                    progressListener.bytesTransferred(byteBuffer.remaining());
+                }
+            });
+
+        // The part is registered before it's requested, so that it's cancelled with the download even if the request
+        // completes, or the download fails, before getObject returns.
+        CompletableFuture<GetObjectResponse> part = new CompletableFuture<>();
+        inFlightParts.put(partNumber, part);
+        part.whenComplete((r, t) -> inFlightParts.remove(partNumber));
+        if (returnFuture.isDone()) {
+            part.cancel(true);
+            return part;
+        }
+        CompletableFuture<GetObjectResponse> request = s3AsyncClient.getObject(partRequest, transformer);
+        CompletableFutureUtils.forwardExceptionTo(part, request);
+        CompletableFutureUtils.forwardResultTo(request, part);
+        // A part that was already being written when the download failed may have created the file again
+        request.whenComplete((r, t) -> {
+            if (failed.get()) {
+                deleteFileIfConfigured();
+            }
+        });
+        return part;
+    }
+
+    private void partCompleted(int partNumber) {
+        completedParts.add(partNumber);
+        if (completedParts.size() == numParts) {
+            complete();
+        } else {
+            requestNextPart();
+        }
+    }
+
+    private void partFailed(int partNumber, Throwable throwable) {
+        log.debug(() -> "Failed to download part " + partNumber + " of the object", throwable);
+        fail(throwable);
+    }
+
+    /**
+     * S3 returns 416 for a ranged GET of an empty object, in which case the object is downloaded in a single request instead.
+     */
+    private void downloadEmptyObject() {
+        log.debug(() -> "The object is empty, downloading it in a single request");
+        // The first part failed before its transformer opened the file, so the file is prepared as configured
+        FileAsyncResponseTransformer<GetObjectResponse> transformer;
+        try {
+            transformer = new FileAsyncResponseTransformer<>(path, configuration);
+        } catch (Throwable throwable) {
+            fail(throwable);
+            return;
+        }
+        requestPart(0, getObjectRequest, transformer, response -> {
+            objectResponse = response;
+            objectSize = response.contentLength() == null ? 0 : response.contentLength();
+            progressListener.downloadStarted(response, 0);
+        }).whenComplete((r, t) -> {
+            if (t == null) {
+                complete();
+            } else {
+                fail(t);
+            }
+        });
+    }
+
+    private void complete() {
+        progressListener.downloadCompleted();
+        returnFuture.complete(objectResponse);
+    }
+
+    private void fail(Throwable throwable) {
+        if (!failed.compareAndSet(false, true)) {
+            return;
+        }
+
+        inFlightParts.values().forEach(part -> part.cancel(true));
+        try {
+            deleteFileIfConfigured();
+        } finally {
+            returnFuture.completeExceptionally(throwable);
+        }
+    }
+
+    private void deleteFileIfConfigured() {
+        if (configuration.failureBehavior() == FailureBehavior.DELETE) {
+            invokeSafely(() -> Files.deleteIfExists(path));
+        }
+    }
+
+    private void preallocate() throws IOException {
+        long length = startingPosition + objectSize;
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            if (file.length() < length) {
+                file.setLength(length);
+            }
+        }
+    }
+
+    private long partLength(int partNumber) {
+        long start = (partNumber - 1) * partSizeInBytes;
+        return Math.min(partSizeInBytes, objectSize - start);
+    }
+
+    private int numberOfParts(long size) {
+        return (int) Math.max(1, (size + partSizeInBytes - 1) / partSizeInBytes);
+    }
+
+    static GetObjectRequest rangeRequest(GetObjectRequest getObjectRequest, long start, long end, String ifMatch) {
+        GetObjectRequest.Builder builder = getObjectRequest.toBuilder().range("bytes=" + start + "-" + end);
+        if (getObjectRequest.ifMatch() == null && ifMatch != null) {
+            builder.ifMatch(ifMatch);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Determine the size of the object from the {@code Content-Range} of a ranged GET response, e.g. {@code bytes 0-9/100}. If
+     * the range is missing or the size is unknown, the response is assumed to contain the whole object.
+     */
+    static long objectSize(GetObjectResponse response) {
+        String contentRange = response.contentRange();
+        if (contentRange != null) {
+            String size = contentRange.substring(contentRange.lastIndexOf('/') + 1).trim();
+            if (!"*".equals(size)) {
+                return Long.parseLong(size);
+            }
+        }
+        return response.contentLength() == null ? 0 : response.contentLength();
+    }
+
+    /**
+     * The response of the first part, as it would have been returned by a non-ranged GET of the whole object.
+     */
+    static GetObjectResponse toObjectResponse(GetObjectResponse firstPartResponse, long objectSize) {
+        return firstPartResponse.toBuilder()
+                                .contentLength(objectSize)
+                                .contentRange(null)
+                                .build();
+    }
+
+    static boolean isRangeNotSatisfiable(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof S3Exception && ((S3Exception) cause).statusCode() == RANGE_NOT_SATISFIABLE;
+    }
+
+    /**
+     * Receives the progress of a download.
+     */
+    public interface ProgressListener {
+        /**
+         * The size of the object is known, either from the first part or because the download was resumed.
+         *
+         * @param objectResponse the response describing the whole object
+         * @param bytesAlreadyTransferred the bytes written by a previous download that is resumed
+         */
+        default void downloadStarted(GetObjectResponse objectResponse, long bytesAlreadyTransferred) {
+        }
+
+        /**
+         * Bytes were written to the file. A negative number reverts the bytes of a part that is retried.
+         */
+        default void bytesTransferred(long numBytes) {
+        }
+
+        default void downloadCompleted() {
+        }
+    }
+}
@@ -55,7 +55,8 @@ public final class UploadObjectHelper {
         this.uploadWithUnknownContentLength = new UploadWithUnknownContentLengthHelper(s3AsyncClient,
                                                                                        partSizeInBytes,
                                                                                        multipartUploadThresholdInBytes,
-                                                                                       apiCallBufferSize);
+                                                                                       apiCallBufferSize,
+                                                                                       resolver.useDirectBuffers());
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
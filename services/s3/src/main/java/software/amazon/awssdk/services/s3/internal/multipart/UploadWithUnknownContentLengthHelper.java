@@ -31,6 +31,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.async.listener.PublisherListener;
+import software.amazon.awssdk.core.internal.async.ByteBufferPool;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.CompletedPart;
 import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
@@ -40,6 +41,7 @@ import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
  * An internal helper class that uploads streams with unknown content length.
@@ -57,10 +59,17 @@ public final class UploadWithUnknownContentLengthHelper {
 
     private final MultipartUploadHelper multipartUploadHelper;
 
+    /**
+     * The pool the parts are buffered in, shared by all uploads of this client, or null if the part size is too large to be held
+     * in a single buffer.
+     */
+    private final ByteBufferPool partBufferPool;
+
     public UploadWithUnknownContentLengthHelper(S3AsyncClient s3AsyncClient,
                                                 long partSizeInBytes,
                                                 long multipartUploadThresholdInBytes,
-                                                long maxMemoryUsageInBytes) {
+                                                long maxMemoryUsageInBytes,
+                                                boolean useDirectBuffers) {
         this.s3AsyncClient = s3AsyncClient;
         this.partSizeInBytes = partSizeInBytes;
         this.genericMultipartHelper = new GenericMultipartHelper<>(s3AsyncClient,
@@ -70,6 +79,9 @@ public final class UploadWithUnknownContentLengthHelper {
         this.multipartUploadThresholdInBytes = multipartUploadThresholdInBytes;
         this.multipartUploadHelper = new MultipartUploadHelper(s3AsyncClient, partSizeInBytes, multipartUploadThresholdInBytes,
                                                                maxMemoryUsageInBytes);
+        this.partBufferPool = partSizeInBytes <= Integer.MAX_VALUE
+                              ? ByteBufferPool.create((int) partSizeInBytes, maxMemoryUsageInBytes, useDirectBuffers)
+                              : null;
     }
 
     public CompletableFuture<PutObjectResponse> uploadObject(PutObjectRequest putObjectRequest,
@@ -78,7 +90,8 @@ public final class UploadWithUnknownContentLengthHelper {
 
         SdkPublisher<AsyncRequestBody> splitAsyncRequestBodyResponse =
             asyncRequestBody.split(b -> b.chunkSizeInBytes(partSizeInBytes)
-                                         .bufferSizeInBytes(maxMemoryUsageInBytes));
+                                         .bufferSizeInBytes(maxMemoryUsageInBytes)
+                                         .bufferPool(partBufferPool));
 
         splitAsyncRequestBodyResponse.subscribe(new UnknownContentLengthAsyncRequestBodySubscriber(partSizeInBytes,
                                                                                                    putObjectRequest,
@@ -209,6 +222,7 @@ public final class UploadWithUnknownContentLengthHelper {
                     } else {
                         completeMultipartUploadIfFinish(asyncRequestBodyInFlight.decrementAndGet());
                     }
+                    releaseBuffer(asyncRequestBody);
                 });
             synchronized (this) {
                 subscription.request(1);
@@ -238,12 +252,22 @@ public final class UploadWithUnknownContentLengthHelper {
             if (createMultipartUploadInitiated.get() == false) {
                 log.debug(() -> "Starting the upload as a single object upload request");
                 multipartUploadHelper.uploadInOneChunk(putObjectRequest, firstRequestBody, returnFuture);
+                returnFuture.whenComplete((r, t) -> releaseBuffer(firstRequestBody));
             } else {
                 isDone = true;
                 completeMultipartUploadIfFinish(asyncRequestBodyInFlight.get());
             }
         }
 
+        /**
+         * Return the pooled buffer backing a part to the pool once the request that sent it has completed.
+         */
+        private void releaseBuffer(AsyncRequestBody asyncRequestBody) {
+            if (asyncRequestBody instanceof SdkAutoCloseable) {
+                ((SdkAutoCloseable) asyncRequestBody).close();
+            }
+        }
+
         private void completeMultipartUploadIfFinish(int requestsInFlight) {
             if (isDone && requestsInFlight == 0 && completedMultipartInitiated.compareAndSet(false, true)) {
                 CompletedPart[] parts = completedParts.stream()
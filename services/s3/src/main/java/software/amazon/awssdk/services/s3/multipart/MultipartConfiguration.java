@@ -32,9 +32,8 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
  * {@link S3AsyncClient#putObject(Consumer, AsyncRequestBody)}, {@link S3AsyncClient#copyObject(CopyObjectRequest)} to their
  * respective multipart operation.
  * <p>
- * <em>Note</em>: The multipart operation for {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} is
- * temporarily disabled and will result in throwing a {@link UnsupportedOperationException} if called when configured for
- * multipart operation.
+ * {@link S3AsyncClient#getObject(GetObjectRequest, AsyncResponseTransformer)} requests that do not specify a range or a part
+ * number will be downloaded as multiple ranged GET requests, made in parallel and reassembled in order.
  */
 @SdkPublicApi
 public final class MultipartConfiguration implements ToCopyableBuilder<MultipartConfiguration.Builder, MultipartConfiguration> {
@@ -42,11 +41,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Boolean useDirectBuffers;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.useDirectBuffers = builder.useDirectBuffers;
     }
 
     public static Builder builder() {
@@ -58,7 +59,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .useDirectBuffers(useDirectBuffers);
     }
 
     /**
@@ -87,6 +89,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * Indicates whether the buffers used to hold the parts of uploads with an unknown content length are allocated off-heap.
+     * @return the configured value, or null if not configured.
+     */
+    public Boolean useDirectBuffers() {
+        return this.useDirectBuffers;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -120,7 +130,7 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
 
         /**
          * Configures the part size, in bytes, to be used in each individual part requests.
-         * Only used for putObject and copyObject operations.
+         * For getObject operations, this is the size of each ranged GET request.
          * <p>
          * When uploading large payload, the size of the payload of each individual part requests might actually be
          * bigger than
@@ -149,6 +159,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * Configures the maximum amount of memory, in bytes, the SDK will use to buffer content of requests in memory.
          * Increasing this value may lead to better performance at the cost of using more memory.
          * <p>
+         * For getObject operations, this also bounds the number of parts downloaded in parallel to
+         * {@code apiCallBufferSizeInBytes / minimumPartSizeInBytes}.
+         * <p>
+         * For putObject operations with an unknown content length, each part is buffered in a part-sized buffer drawn from a
+         * pool shared by all uploads of the client. Buffers are returned to the pool once the part's upload completes, and the
+         * pool keeps at most {@code apiCallBufferSizeInBytes} of idle buffers for reuse.
+         * <p>
          * Default value: If not specified, the SDK will use the equivalent of four parts worth of memory, so 32 Mib by default.
          *
          * @param apiCallBufferSizeInBytes the value of the maximum memory usage.
@@ -161,12 +178,31 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures whether the pooled buffers used to hold the parts of putObject requests with an unknown content length
+         * are allocated off-heap with {@link java.nio.ByteBuffer#allocateDirect(int)}. Direct buffers keep large parts out of
+         * the Java heap, but their memory is only reclaimed once the buffers are garbage collected.
+         * <p>
+         * Default value: false
+         *
+         * @param useDirectBuffers whether to use direct buffers.
+         * @return an instance of this builder.
+         */
+        Builder useDirectBuffers(Boolean useDirectBuffers);
+
+        /**
+         * Indicates whether direct buffers are used.
+         * @return the configured value.
+         */
+        Boolean useDirectBuffers();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Boolean useDirectBuffers;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -197,6 +233,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder useDirectBuffers(Boolean useDirectBuffers) {
+            this.useDirectBuffers = useDirectBuffers;
+            return this;
+        }
+
+        @Override
+        public Boolean useDirectBuffers() {
+            return useDirectBuffers;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
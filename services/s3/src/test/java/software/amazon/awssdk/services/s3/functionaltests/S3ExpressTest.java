@@ -295,15 +295,15 @@ public class S3ExpressTest extends BaseRuleSetClientTest {
         assertThat(headers.get("Content-Length")).isNotNull();
         assertThat(headers.get("x-amz-content-sha256")).isNotNull();
 
-        if ((protocol == Protocol.HTTPS || clientType == ClientType.ASYNC)  &&
-            checksumAlgorithm == ChecksumAlgorithm.UNKNOWN_TO_SDK_VERSION) {
+        if (protocol == Protocol.HTTPS && checksumAlgorithm == ChecksumAlgorithm.UNKNOWN_TO_SDK_VERSION) {
             assertThat(headers.get("x-amz-content-sha256").get(0)).isEqualToIgnoringCase("UNSIGNED-PAYLOAD");
         } else {
             assertThat(headers.get("x-amz-decoded-content-length")).isNotNull();
             String streamingSha256 = "STREAMING-UNSIGNED-PAYLOAD-TRAILER";
-            if (protocol == Protocol.HTTP && clientType == ClientType.SYNC) {
-                streamingSha256 = checksumAlgorithm == ChecksumAlgorithm.UNKNOWN_TO_SDK_VERSION ?
-                                  "STREAMING-AWS4-HMAC-SHA256-PAYLOAD" : "STREAMING-AWS4-HMAC-SHA256-PAYLOAD-TRAILER";
+            if (checksumAlgorithm == ChecksumAlgorithm.UNKNOWN_TO_SDK_VERSION) {
+                streamingSha256 = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD";
+            } else if (protocol == Protocol.HTTP && clientType == ClientType.SYNC) {
+                streamingSha256 = "STREAMING-AWS4-HMAC-SHA256-PAYLOAD-TRAILER";
             }
             assertThat(headers.get("x-amz-content-sha256").get(0)).isEqualToIgnoringCase(streamingSha256);
         }
@@ -79,5 +79,15 @@ public class MultipartConfigurationResolverTest {
         assertThat(resolver.minimalPartSizeInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.thresholdInBytes()).isEqualTo(8L * 1024 * 1024);
         assertThat(resolver.apiCallBufferSize()).isEqualTo(8L * 1024 * 1024 * 4);
+        assertThat(resolver.useDirectBuffers()).isFalse();
+    }
+
+    @Test
+    void resolveUseDirectBuffers_valueProvided_shouldHonor() {
+        MultipartConfiguration configuration = MultipartConfiguration.builder()
+                                                                     .useDirectBuffers(true)
+                                                                     .build();
+        MultipartConfigurationResolver resolver = new MultipartConfigurationResolver(configuration);
+        assertThat(resolver.useDirectBuffers()).isTrue();
     }
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+class RangedFileDownloaderTest {
+    private static final long PART_SIZE = 100;
+    private static final String ETAG = "\"etag\"";
+    private static final FileTransformerConfiguration REPLACE_AND_LEAVE =
+        FileTransformerConfiguration.defaultCreateOrReplaceExisting();
+    private static final FileTransformerConfiguration REPLACE_AND_DELETE =
+        FileTransformerConfiguration.defaultCreateOrReplaceExisting().toBuilder()
+                                    .failureBehavior(FailureBehavior.DELETE)
+                                    .build();
+
+    @TempDir
+    Path directory;
+
+    private Path destination;
+    private GetObjectRequest getObjectRequest;
+    private List<GetObjectRequest> requests;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        destination = directory.resolve("object");
+        Files.write(destination, new byte[5000]);
+        getObjectRequest = GetObjectRequest.builder().bucket("bucket").key("key").build();
+        requests = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void download_shouldWriteEveryRangeToItsPosition() throws Exception {
+        byte[] content = randomBytes(950);
+        RecordingListener listener = new RecordingListener();
+
+        GetObjectResponse response = downloader(client(content, r -> true), REPLACE_AND_LEAVE, listener)
+            .download()
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(response.contentLength()).isEqualTo(950L);
+        assertThat(response.contentRange()).isNull();
+        assertThat(listener.bytesTransferred).hasValue(950L);
+        assertThat(listener.completed).isTrue();
+        assertThat(requests).hasSize(10);
+        assertThat(requests.get(0).range()).isEqualTo("bytes=0-99");
+        assertThat(requests.get(0).ifMatch()).isNull();
+        assertThat(requests.stream().skip(1).map(GetObjectRequest::ifMatch)).containsOnly(ETAG);
+        assertThat(requests.stream().map(GetObjectRequest::range)).contains("bytes=900-949");
+    }
+
+    @Test
+    void download_appendToExisting_shouldWriteAfterTheExistingContent() throws Exception {
+        byte[] content = randomBytes(250);
+        FileTransformerConfiguration append = FileTransformerConfiguration.defaultCreateOrAppend();
+
+        downloader(client(content, r -> true), append, new RecordingListener()).download().get(5, TimeUnit.SECONDS);
+
+        byte[] file = Files.readAllBytes(destination);
+        assertThat(file).hasSize(5250);
+        assertThat(Arrays.copyOfRange(file, 5000, 5250)).isEqualTo(content);
+    }
+
+    @Test
+    void download_objectSmallerThanPart_shouldUseSingleRequest() throws Exception {
+        byte[] content = randomBytes(10);
+
+        downloader(client(content, r -> true), REPLACE_AND_LEAVE, new RecordingListener()).download().get(5, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void download_emptyObject_shouldFallBackToSingleRequest() throws Exception {
+        RecordingListener listener = new RecordingListener();
+
+        downloader(client(new byte[0], r -> true), REPLACE_AND_LEAVE, listener).download().get(5, TimeUnit.SECONDS);
+
+        assertThat(destination).isEmptyFile();
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).range()).isNull();
+        assertThat(listener.completed).isTrue();
+    }
+
+    @Test
+    void download_partFailsWithLeaveBehavior_shouldFailAndKeepFile() {
+        byte[] content = randomBytes(950);
+        S3AsyncClient s3AsyncClient = client(content, r -> !"bytes=300-399".equals(r.range()));
+
+        CompletableFuture<GetObjectResponse> future =
+            downloader(s3AsyncClient, REPLACE_AND_LEAVE, new RecordingListener()).download();
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(S3Exception.class);
+        assertThat(destination).exists();
+    }
+
+    @Test
+    void download_partFailsWithDeleteBehavior_shouldFailAndDeleteFile() {
+        byte[] content = randomBytes(950);
+        S3AsyncClient s3AsyncClient = client(content, r -> !"bytes=300-399".equals(r.range()));
+
+        CompletableFuture<GetObjectResponse> future =
+            downloader(s3AsyncClient, REPLACE_AND_DELETE, new RecordingListener()).download();
+
+        assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(S3Exception.class);
+        assertThat(destination).doesNotExist();
+    }
+
+    @Test
+    void interruptAndResume_shouldOnlyDownloadMissingParts() throws Exception {
+        byte[] content = randomBytes(950);
+        // The part starting at 300 never completes, as if the download were interrupted while receiving it
+        RangedFileDownloader interrupted =
+            downloader(client(content, r -> true, "bytes=300-399"), REPLACE_AND_LEAVE, new RecordingListener());
+        CompletableFuture<GetObjectResponse> interruptedFuture = interrupted.download();
+
+        waitForCompletedParts(interrupted, 9);
+        interruptedFuture.cancel(true);
+        assertThat(interrupted.completedParts()).containsExactly(1, 2, 3, 5, 6, 7, 8, 9, 10);
+        assertThat(interrupted.completedBytes()).isEqualTo(850L);
+        assertThat(interrupted.objectResponse().contentLength()).isEqualTo(950L);
+
+        requests.clear();
+        RecordingListener listener = new RecordingListener();
+        downloader(client(content, r -> true), REPLACE_AND_LEAVE, listener)
+            .resume(interrupted.objectResponse(), interrupted.completedParts())
+            .get(5, TimeUnit.SECONDS);
+
+        assertThat(Files.readAllBytes(destination)).isEqualTo(content);
+        assertThat(requests.stream().map(GetObjectRequest::range).collect(Collectors.toList()))
+            .containsExactly("bytes=300-399");
+        assertThat(requests.get(0).ifMatch()).isEqualTo(ETAG);
+        assertThat(listener.bytesTransferred).hasValue(950L);
+    }
+
+    private RangedFileDownloader downloader(S3AsyncClient s3AsyncClient, FileTransformerConfiguration configuration,
+                                            RecordingListener listener) {
+        return new RangedFileDownloader(s3AsyncClient, getObjectRequest, destination, configuration, PART_SIZE, 4, listener);
+    }
+
+    private static void waitForCompletedParts(RangedFileDownloader downloader, int parts) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (downloader.completedParts().size() < parts && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A client serving ranged GETs of the given content. Requests that don't match the predicate fail, and requests for the
+     * given ranges never complete.
+     */
+    @SuppressWarnings("unchecked")
+    private S3AsyncClient client(byte[] content, Predicate<GetObjectRequest> succeeds, String... pendingRanges) {
+        S3AsyncClient s3AsyncClient = mock(S3AsyncClient.class);
+        when(s3AsyncClient.getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class))).thenAnswer(i -> {
+            GetObjectRequest request = i.getArgument(0);
+            AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> transformer = i.getArgument(1);
+            requests.add(request);
+            if (!succeeds.test(request)) {
+                return CompletableFutureUtils.failedFuture(S3Exception.builder().statusCode(500).build());
+            }
+            if (Arrays.asList(pendingRanges).contains(request.range())) {
+                return new CompletableFuture<>();
+            }
+            return serve(content, request, transformer);
+        });
+        return s3AsyncClient;
+    }
+
+    private static CompletableFuture<GetObjectResponse> serve(byte[] content,
+                                                              GetObjectRequest request,
+                                                              AsyncResponseTransformer<GetObjectResponse,
+                                                                  GetObjectResponse> transformer) {
+        GetObjectResponse.Builder response = GetObjectResponse.builder().eTag(ETAG);
+        int start = 0;
+        int end = content.length - 1;
+        if (request.range() != null) {
+            if (content.length == 0) {
+                return CompletableFutureUtils.failedFuture(S3Exception.builder().statusCode(416).build());
+            }
+            String[] range = request.range().substring("bytes=".length()).split("-");
+            start = Integer.parseInt(range[0]);
+            end = Math.min(Integer.parseInt(range[1]), content.length - 1);
+            response.contentRange("bytes " + start + "-" + end + "/" + content.length);
+        }
+        response.contentLength((long) end - start + 1);
+
+        CompletableFuture<GetObjectResponse> future = transformer.prepare();
+        transformer.onResponse(response.build());
+        transformer.onStream(AsyncRequestBody.fromBytes(Arrays.copyOfRange(content, start, end + 1)));
+        return future;
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static final class RecordingListener implements RangedFileDownloader.ProgressListener {
+        private final AtomicLong bytesTransferred = new AtomicLong();
+        private volatile boolean completed;
+
+        @Override
+        public void downloadStarted(GetObjectResponse objectResponse, long bytesAlreadyTransferred) {
+            bytesTransferred.set(bytesAlreadyTransferred);
+        }
+
+        @Override
+        public void bytesTransferred(long numBytes) {
+            bytesTransferred.addAndGet(numBytes);
+        }
+
+        @Override
+        public void downloadCompleted() {
+            completed = true;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+@WireMockTest
+@Timeout(10)
+public class S3MultipartClientGetObjectWiremockTest {
+
+    private static final String BUCKET = "Example-Bucket";
+    private static final String KEY = "Example-Object";
+    private static final String PATH = "/" + BUCKET + "/" + KEY;
+    private static final String ETAG = "\"etag\"";
+    private static final String CONTENT = "abcdefghijklmnopqrstuvwxy";
+
+    private S3AsyncClient s3AsyncClient;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    public void setup(WireMockRuntimeInfo wiremock) {
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .region(Region.US_EAST_1)
+                                     .endpointOverride(URI.create("http://localhost:" + wiremock.getHttpPort()))
+                                     .credentialsProvider(
+                                         StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")))
+                                     .forcePathStyle(true)
+                                     .multipartEnabled(true)
+                                     .multipartConfiguration(b -> b.minimumPartSizeInBytes(10L).apiCallBufferSizeInBytes(20L))
+                                     .build();
+    }
+
+    @Test
+    void getObject_toBytes_shouldDownloadAndReassembleParts() {
+        stubParts();
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asUtf8String()).isEqualTo(CONTENT);
+        assertThat(response.response().contentLength()).isEqualTo(CONTENT.length());
+        assertThat(response.response().contentRange()).isNull();
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9"))
+                                                .withHeader("If-Match", absent()));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19"))
+                                                .withHeader("If-Match", equalTo(ETAG)));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-24"))
+                                                .withHeader("If-Match", equalTo(ETAG)));
+    }
+
+    @Test
+    void getObject_toFile_shouldWritePartsToFile() {
+        stubParts();
+        Path file = tempDir.resolve("object");
+
+        GetObjectResponse response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(file)).join();
+
+        assertThat(file).hasContent(CONTENT);
+        assertThat(response.contentLength()).isEqualTo(CONTENT.length());
+    }
+
+    @Test
+    void getObject_singlePart_shouldMakeOneRequest() {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9"))
+                                     .willReturn(part(0, 4, 5)));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asUtf8String()).isEqualTo(CONTENT.substring(0, 5));
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_emptyObject_shouldFallBackToSingleRequest() {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9"))
+                                     .willReturn(aResponse().withStatus(416)
+                                                            .withBody("<Error><Code>InvalidRange</Code></Error>")));
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", absent())
+                                     .willReturn(aResponse().withStatus(200).withHeader("Content-Length", "0")));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asByteArray()).isEmpty();
+        verify(2, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_rangeIgnoredForObjectLargerThanPart_shouldFallBackToSingleRequest() {
+        stubFor(get(urlEqualTo(PATH)).willReturn(aResponse().withStatus(200)
+                                                            .withHeader("ETag", ETAG)
+                                                            .withBody(CONTENT.getBytes(StandardCharsets.UTF_8))));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(response.asUtf8String()).isEqualTo(CONTENT);
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9")));
+        verify(getRequestedFor(urlEqualTo(PATH)).withHeader("Range", absent()));
+    }
+
+    @Test
+    void getObject_rangeSpecified_shouldMakeOneRequest() {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=3-7"))
+                                     .willReturn(part(3, 7, CONTENT.length())));
+
+        ResponseBytes<GetObjectResponse> response =
+            s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY).range("bytes=3-7"), AsyncResponseTransformer.toBytes())
+                         .join();
+
+        assertThat(response.asUtf8String()).isEqualTo(CONTENT.substring(3, 8));
+        verify(1, getRequestedFor(urlEqualTo(PATH)));
+    }
+
+    @Test
+    void getObject_toBytes_partFails_shouldFail() {
+        stubParts();
+        stubObjectChanged();
+
+        assertThatThrownBy(() -> s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toBytes())
+                                              .join())
+            .hasRootCauseInstanceOf(S3Exception.class);
+    }
+
+    @Test
+    void getObject_toFile_partFails_shouldDeleteFile() {
+        stubParts();
+        stubObjectChanged();
+        Path file = tempDir.resolve("object");
+
+        assertThatThrownBy(() -> s3AsyncClient.getObject(r -> r.bucket(BUCKET).key(KEY), AsyncResponseTransformer.toFile(file))
+                                              .join())
+            .hasRootCauseInstanceOf(S3Exception.class);
+        assertThat(file).doesNotExist();
+    }
+
+    private static void stubParts() {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=0-9")).willReturn(part(0, 9, CONTENT.length())));
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=10-19")).willReturn(part(10, 19, CONTENT.length())));
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-24")).willReturn(part(20, 24, CONTENT.length())));
+    }
+
+    private static void stubObjectChanged() {
+        stubFor(get(urlEqualTo(PATH)).withHeader("Range", equalTo("bytes=20-24"))
+                                     .willReturn(aResponse().withStatus(412)
+                                                            .withBody("<Error><Code>PreconditionFailed</Code></Error>")));
+    }
+
+    private static ResponseDefinitionBuilder part(int start, int end, int size) {
+        return aResponse().withStatus(206)
+                          .withHeader("ETag", ETAG)
+                          .withHeader("Content-Range", "bytes " + start + "-" + end + "/" + size)
+                          .withBody(CONTENT.substring(start, end + 1).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration for a {@link SqsAsyncBatchManager}, controlling how requests are combined into batches and how messages are
+ * prefetched. Any value that isn't set uses the default documented on the {@link Builder}.
+ */
+@SdkPublicApi
+public final class BatchOverrideConfiguration
+    implements ToCopyableBuilder<BatchOverrideConfiguration.Builder, BatchOverrideConfiguration> {
+
+    private final Integer maxBatchSize;
+    private final Duration sendRequestFrequency;
+    private final Integer maxInflightReceiveBatches;
+    private final Integer maxDoneReceiveBatches;
+    private final Duration receiveMessageMinWaitDuration;
+    private final Duration receiveMessageVisibilityTimeout;
+    private final List<QueueAttributeName> receiveAttributeNames;
+    private final List<String> receiveMessageAttributeNames;
+
+    private BatchOverrideConfiguration(DefaultBuilder builder) {
+        this.maxBatchSize = builder.maxBatchSize;
+        this.sendRequestFrequency = builder.sendRequestFrequency;
+        this.maxInflightReceiveBatches = builder.maxInflightReceiveBatches;
+        this.maxDoneReceiveBatches = builder.maxDoneReceiveBatches;
+        this.receiveMessageMinWaitDuration = builder.receiveMessageMinWaitDuration;
+        this.receiveMessageVisibilityTimeout = builder.receiveMessageVisibilityTimeout;
+        this.receiveAttributeNames = builder.receiveAttributeNames;
+        this.receiveMessageAttributeNames = builder.receiveMessageAttributeNames;
+    }
+
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return builder()
+            .maxBatchSize(maxBatchSize)
+            .sendRequestFrequency(sendRequestFrequency)
+            .maxInflightReceiveBatches(maxInflightReceiveBatches)
+            .maxDoneReceiveBatches(maxDoneReceiveBatches)
+            .receiveMessageMinWaitDuration(receiveMessageMinWaitDuration)
+            .receiveMessageVisibilityTimeout(receiveMessageVisibilityTimeout)
+            .receiveAttributeNames(receiveAttributeNames)
+            .receiveMessageAttributeNames(receiveMessageAttributeNames);
+    }
+
+    /**
+     * The maximum number of entries in a batch request.
+     * @return the configured maximum batch size.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * The maximum amount of time a request is buffered before its batch is sent.
+     * @return the configured send request frequency.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    /**
+     * The maximum number of concurrent receive calls made per queue to prefetch messages.
+     * @return the configured maximum number of in-flight receive batches.
+     */
+    public Integer maxInflightReceiveBatches() {
+        return maxInflightReceiveBatches;
+    }
+
+    /**
+     * The maximum number of received batches that are buffered per queue.
+     * @return the configured maximum number of done receive batches.
+     */
+    public Integer maxDoneReceiveBatches() {
+        return maxDoneReceiveBatches;
+    }
+
+    /**
+     * The minimum amount of time a receive request waits for prefetched messages.
+     * @return the configured minimum wait duration.
+     */
+    public Duration receiveMessageMinWaitDuration() {
+        return receiveMessageMinWaitDuration;
+    }
+
+    /**
+     * The visibility timeout of prefetched messages.
+     * @return the configured visibility timeout.
+     */
+    public Duration receiveMessageVisibilityTimeout() {
+        return receiveMessageVisibilityTimeout;
+    }
+
+    /**
+     * The attributes requested for prefetched messages.
+     * @return the configured attribute names.
+     */
+    public List<QueueAttributeName> receiveAttributeNames() {
+        return receiveAttributeNames;
+    }
+
+    /**
+     * The message attributes requested for prefetched messages.
+     * @return the configured message attribute names.
+     */
+    public List<String> receiveMessageAttributeNames() {
+        return receiveMessageAttributeNames;
+    }
+
+    /**
+     * Builder for a {@link BatchOverrideConfiguration}.
+     */
+    public interface Builder extends CopyableBuilder<Builder, BatchOverrideConfiguration> {
+
+        /**
+         * Configures the maximum number of entries in a batch request. A batch is sent as soon as it's full. Must be between
+         * 1 and 10, the maximum allowed by SQS. Batches of send requests are also sent once they reach 256 KiB, the maximum
+         * payload size allowed by SQS.
+         * <p>
+         * Default value: 10
+         *
+         * @param maxBatchSize the maximum batch size
+         * @return This builder for method chaining.
+         */
+        Builder maxBatchSize(Integer maxBatchSize);
+
+        /**
+         * Configures the maximum amount of time a request is buffered before its batch is sent, even if the batch isn't full.
+         * Higher values lead to fuller batches, at the cost of higher latency.
+         * <p>
+         * Default value: 200 milliseconds
+         *
+         * @param sendRequestFrequency the send request frequency
+         * @return This builder for method chaining.
+         */
+        Builder sendRequestFrequency(Duration sendRequestFrequency);
+
+        /**
+         * Configures the maximum number of concurrent receive calls made per queue to prefetch messages.
+         * <p>
+         * Default value: 10
+         *
+         * @param maxInflightReceiveBatches the maximum number of in-flight receive batches
+         * @return This builder for method chaining.
+         */
+        Builder maxInflightReceiveBatches(Integer maxInflightReceiveBatches);
+
+        /**
+         * Configures the maximum number of received batches that are buffered per queue before prefetching stops. Prefetched
+         * messages are invisible to other consumers until they are returned and processed, or their visibility timeout
+         * expires. Setting this to 0 disables prefetching, in which case messages are only received when requested.
+         * <p>
+         * Default value: 10
+         *
+         * @param maxDoneReceiveBatches the maximum number of done receive batches
+         * @return This builder for method chaining.
+         */
+        Builder maxDoneReceiveBatches(Integer maxDoneReceiveBatches);
+
+        /**
+         * Configures the minimum amount of time a receive request waits for prefetched messages before it's completed with no
+         * messages. Requests that specify a longer wait time wait for that long instead.
+         * <p>
+         * Default value: 50 milliseconds
+         *
+         * @param receiveMessageMinWaitDuration the minimum wait duration
+         * @return This builder for method chaining.
+         */
+        Builder receiveMessageMinWaitDuration(Duration receiveMessageMinWaitDuration);
+
+        /**
+         * Configures the visibility timeout of prefetched messages. Prefetched messages that aren't returned before their
+         * visibility timeout expires are discarded.
+         * <p>
+         * Default value: the visibility timeout of the queue
+         *
+         * @param receiveMessageVisibilityTimeout the visibility timeout
+         * @return This builder for method chaining.
+         */
+        Builder receiveMessageVisibilityTimeout(Duration receiveMessageVisibilityTimeout);
+
+        /**
+         * Configures the attributes requested for prefetched messages. Receive requests that ask for other attributes are sent
+         * to SQS directly.
+         * <p>
+         * Default value: none
+         *
+         * @param receiveAttributeNames the attribute names
+         * @return This builder for method chaining.
+         */
+        Builder receiveAttributeNames(List<QueueAttributeName> receiveAttributeNames);
+
+        /**
+         * Configures the message attributes requested for prefetched messages. Receive requests that ask for other message
+         * attributes are sent to SQS directly.
+         * <p>
+         * Default value: none
+         *
+         * @param receiveMessageAttributeNames the message attribute names
+         * @return This builder for method chaining.
+         */
+        Builder receiveMessageAttributeNames(List<String> receiveMessageAttributeNames);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Integer maxBatchSize;
+        private Duration sendRequestFrequency;
+        private Integer maxInflightReceiveBatches;
+        private Integer maxDoneReceiveBatches;
+        private Duration receiveMessageMinWaitDuration;
+        private Duration receiveMessageVisibilityTimeout;
+        private List<QueueAttributeName> receiveAttributeNames;
+        private List<String> receiveMessageAttributeNames;
+
+        @Override
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        @Override
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        @Override
+        public Builder maxInflightReceiveBatches(Integer maxInflightReceiveBatches) {
+            this.maxInflightReceiveBatches = maxInflightReceiveBatches;
+            return this;
+        }
+
+        @Override
+        public Builder maxDoneReceiveBatches(Integer maxDoneReceiveBatches) {
+            this.maxDoneReceiveBatches = maxDoneReceiveBatches;
+            return this;
+        }
+
+        @Override
+        public Builder receiveMessageMinWaitDuration(Duration receiveMessageMinWaitDuration) {
+            this.receiveMessageMinWaitDuration = receiveMessageMinWaitDuration;
+            return this;
+        }
+
+        @Override
+        public Builder receiveMessageVisibilityTimeout(Duration receiveMessageVisibilityTimeout) {
+            this.receiveMessageVisibilityTimeout = receiveMessageVisibilityTimeout;
+            return this;
+        }
+
+        @Override
+        public Builder receiveAttributeNames(List<QueueAttributeName> receiveAttributeNames) {
+            this.receiveAttributeNames = copy(receiveAttributeNames);
+            return this;
+        }
+
+        @Override
+        public Builder receiveMessageAttributeNames(List<String> receiveMessageAttributeNames) {
+            this.receiveMessageAttributeNames = copy(receiveMessageAttributeNames);
+            return this;
+        }
+
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+
+        private static <T> List<T> copy(List<T> list) {
+            return list == null ? null : Collections.unmodifiableList(new ArrayList<>(list));
+        }
+    }
+}
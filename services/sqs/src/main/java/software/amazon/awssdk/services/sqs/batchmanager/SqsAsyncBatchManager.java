@@ -0,0 +1,209 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.internal.batchmanager.DefaultSqsAsyncBatchManager;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * A batch manager that automatically combines individual calls made to an {@link SqsAsyncClient} into the equivalent
+ * batch API calls, reducing the number of requests made to SQS.
+ * <p>
+ * {@link #sendMessage(SendMessageRequest)}, {@link #deleteMessage(DeleteMessageRequest)} and
+ * {@link #changeMessageVisibility(ChangeMessageVisibilityRequest)} requests are buffered per queue, and sent as a single
+ * {@code SendMessageBatch}, {@code DeleteMessageBatch} or {@code ChangeMessageVisibilityBatch} request once the batch is full,
+ * or once {@link BatchOverrideConfiguration#sendRequestFrequency()} has elapsed since the first request was buffered. The
+ * future returned for each request is completed with the result of its entry in the batch response.
+ * <p>
+ * {@link #receiveMessage(ReceiveMessageRequest)} requests are served from messages that are prefetched in the background,
+ * so that most calls complete without waiting for a round trip to SQS.
+ * <p>
+ * Example usage:
+ * {@snippet :
+ *         SqsAsyncBatchManager batchManager = SqsAsyncBatchManager.builder()
+ *                                                                 .client(sqsAsyncClient)
+ *                                                                 .build();
+ *         CompletableFuture<SendMessageResponse> response =
+ *             batchManager.sendMessage(r -> r.queueUrl(queueUrl).messageBody("hello"));
+ * }
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface SqsAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Buffers a {@link SendMessageRequest} to be sent as part of a {@code SendMessageBatch} request.
+     *
+     * @param request the request to send
+     * @return a future that is completed with the result of the message's entry in the batch response
+     */
+    CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request);
+
+    /**
+     * This is a convenience method that creates an instance of the {@link SendMessageRequest} builder, avoiding the need to
+     * create one manually via {@link SendMessageRequest#builder()}.
+     *
+     * @see #sendMessage(SendMessageRequest)
+     */
+    default CompletableFuture<SendMessageResponse> sendMessage(Consumer<SendMessageRequest.Builder> request) {
+        return sendMessage(SendMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers a {@link DeleteMessageRequest} to be sent as part of a {@code DeleteMessageBatch} request.
+     *
+     * @param request the request to send
+     * @return a future that is completed with the result of the message's entry in the batch response
+     */
+    CompletableFuture<DeleteMessageResponse> deleteMessage(DeleteMessageRequest request);
+
+    /**
+     * This is a convenience method that creates an instance of the {@link DeleteMessageRequest} builder, avoiding the need to
+     * create one manually via {@link DeleteMessageRequest#builder()}.
+     *
+     * @see #deleteMessage(DeleteMessageRequest)
+     */
+    default CompletableFuture<DeleteMessageResponse> deleteMessage(Consumer<DeleteMessageRequest.Builder> request) {
+        return deleteMessage(DeleteMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers a {@link ChangeMessageVisibilityRequest} to be sent as part of a {@code ChangeMessageVisibilityBatch} request.
+     *
+     * @param request the request to send
+     * @return a future that is completed with the result of the message's entry in the batch response
+     */
+    CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(ChangeMessageVisibilityRequest request);
+
+    /**
+     * This is a convenience method that creates an instance of the {@link ChangeMessageVisibilityRequest} builder, avoiding
+     * the need to create one manually via {@link ChangeMessageVisibilityRequest#builder()}.
+     *
+     * @see #changeMessageVisibility(ChangeMessageVisibilityRequest)
+     */
+    default CompletableFuture<ChangeMessageVisibilityResponse> changeMessageVisibility(
+        Consumer<ChangeMessageVisibilityRequest.Builder> request) {
+        return changeMessageVisibility(ChangeMessageVisibilityRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Receives messages from the queue, using messages that have been prefetched in the background where possible.
+     * <p>
+     * Requests are served from the prefetched messages only if they don't specify a visibility timeout, a receive request
+     * attempt ID or a request override configuration, and only request attributes that are configured using
+     * {@link BatchOverrideConfiguration#receiveAttributeNames()} and
+     * {@link BatchOverrideConfiguration#receiveMessageAttributeNames()}. Other requests, and requests to FIFO queues, are sent
+     * to SQS directly.
+     *
+     * @param request the request to send
+     * @return a future that is completed with the received messages
+     */
+    CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request);
+
+    /**
+     * This is a convenience method that creates an instance of the {@link ReceiveMessageRequest} builder, avoiding the need
+     * to create one manually via {@link ReceiveMessageRequest#builder()}.
+     *
+     * @see #receiveMessage(ReceiveMessageRequest)
+     */
+    default CompletableFuture<ReceiveMessageResponse> receiveMessage(Consumer<ReceiveMessageRequest.Builder> request) {
+        return receiveMessage(ReceiveMessageRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Sends any requests that are still buffered and releases the resources held by this batch manager. Messages that were
+     * prefetched but not yet returned by {@link #receiveMessage(ReceiveMessageRequest)} are made visible again.
+     * <p>
+     * The {@link SqsAsyncClient} is not closed.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a default builder for {@link SqsAsyncBatchManager}.
+     */
+    static Builder builder() {
+        return DefaultSqsAsyncBatchManager.builder();
+    }
+
+    /**
+     * The builder definition for a {@link SqsAsyncBatchManager}.
+     */
+    interface Builder {
+
+        /**
+         * Specifies the {@link SqsAsyncClient} that will be used to send requests to SQS. This is required.
+         * <p>
+         * Note: the provided client will not be closed when the batch manager is closed; it must be closed by the caller
+         * when it is ready to be disposed.
+         *
+         * @param client the SQS async client
+         * @return This builder for method chaining.
+         */
+        Builder client(SqsAsyncClient client);
+
+        /**
+         * Specifies the scheduled executor that is used to flush batches and to time out receive requests. The SDK will
+         * create a single-threaded executor if not provided.
+         * <p>
+         * <b>This executor must be shut down by the user when it is ready to be disposed. The SDK will not close the executor
+         * when the batch manager is closed.</b>
+         *
+         * @param scheduledExecutor the scheduled executor to use
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Specifies the configuration used to batch requests and prefetch messages.
+         *
+         * @param overrideConfiguration the configuration to use
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * This is a convenience method that creates an instance of the {@link BatchOverrideConfiguration} builder, avoiding
+         * the need to create one manually via {@link BatchOverrideConfiguration#builder()}.
+         *
+         * @see #overrideConfiguration(BatchOverrideConfiguration)
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Builds an instance of {@link SqsAsyncBatchManager} based on the settings supplied to this builder.
+         *
+         * @return an instance of {@link SqsAsyncBatchManager}
+         */
+        SqsAsyncBatchManager build();
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link BatchOverrideConfiguration} with defaults applied to any values that weren't configured.
+ */
+@SdkInternalApi
+public final class BatchConfiguration {
+
+    /**
+     * The maximum number of entries in a batch request allowed by SQS.
+     */
+    public static final int MAX_BATCH_SIZE = 10;
+
+    /**
+     * The maximum total payload size of a {@code SendMessageBatch} request allowed by SQS.
+     */
+    public static final long MAX_SEND_MESSAGE_BATCH_BYTES = 256 * 1024L;
+
+    private static final Duration DEFAULT_SEND_REQUEST_FREQUENCY = Duration.ofMillis(200);
+    private static final int DEFAULT_MAX_INFLIGHT_RECEIVE_BATCHES = 10;
+    private static final int DEFAULT_MAX_DONE_RECEIVE_BATCHES = 10;
+    private static final Duration DEFAULT_RECEIVE_MESSAGE_MIN_WAIT_DURATION = Duration.ofMillis(50);
+
+    private final int maxBatchSize;
+    private final Duration sendRequestFrequency;
+    private final int maxInflightReceiveBatches;
+    private final int maxDoneReceiveBatches;
+    private final Duration receiveMessageMinWaitDuration;
+    private final Duration receiveMessageVisibilityTimeout;
+    private final List<QueueAttributeName> receiveAttributeNames;
+    private final List<String> receiveMessageAttributeNames;
+
+    public BatchConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+        BatchOverrideConfiguration configuration = overrideConfiguration == null ? BatchOverrideConfiguration.builder().build()
+                                                                                 : overrideConfiguration;
+        this.maxBatchSize = valueOrDefault(configuration.maxBatchSize(), MAX_BATCH_SIZE);
+        Validate.isTrue(maxBatchSize >= 1 && maxBatchSize <= MAX_BATCH_SIZE,
+                        "maxBatchSize must be between 1 and %s, but was %s", MAX_BATCH_SIZE, maxBatchSize);
+        this.sendRequestFrequency = Validate.isPositive(valueOrDefault(configuration.sendRequestFrequency(),
+                                                                       DEFAULT_SEND_REQUEST_FREQUENCY),
+                                                        "sendRequestFrequency");
+        this.maxInflightReceiveBatches = Validate.isPositive(valueOrDefault(configuration.maxInflightReceiveBatches(),
+                                                                            DEFAULT_MAX_INFLIGHT_RECEIVE_BATCHES),
+                                                             "maxInflightReceiveBatches");
+        this.maxDoneReceiveBatches = Validate.isNotNegative(valueOrDefault(configuration.maxDoneReceiveBatches(),
+                                                                           DEFAULT_MAX_DONE_RECEIVE_BATCHES),
+                                                            "maxDoneReceiveBatches");
+        this.receiveMessageMinWaitDuration =
+            Validate.isNotNegative(valueOrDefault(configuration.receiveMessageMinWaitDuration(),
+                                                  DEFAULT_RECEIVE_MESSAGE_MIN_WAIT_DURATION),
+                                   "receiveMessageMinWaitDuration");
+        this.receiveMessageVisibilityTimeout = configuration.receiveMessageVisibilityTimeout() == null
+                                               ? null
+                                               : Validate.isNotNegative(configuration.receiveMessageVisibilityTimeout(),
+                                                                        "receiveMessageVisibilityTimeout");
+        this.receiveAttributeNames = valueOrDefault(configuration.receiveAttributeNames(), Collections.emptyList());
+        this.receiveMessageAttributeNames = valueOrDefault(configuration.receiveMessageAttributeNames(),
+                                                           Collections.emptyList());
+    }
+
+    public int maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    public int maxInflightReceiveBatches() {
+        return maxInflightReceiveBatches;
+    }
+
+    public int maxDoneReceiveBatches() {
+        return maxDoneReceiveBatches;
+    }
+
+    public Duration receiveMessageMinWaitDuration() {
+        return receiveMessageMinWaitDuration;
+    }
+
+    /**
+     * The configured visibility timeout of prefetched messages, or null if the queue's visibility timeout should be used.
+     */
+    public Duration receiveMessageVisibilityTimeout() {
+        return receiveMessageVisibilityTimeout;
+    }
+
+    public List<QueueAttributeName> receiveAttributeNames() {
+        return receiveAttributeNames;
+    }
+
+    public List<String> receiveMessageAttributeNames() {
+        return receiveMessageAttributeNames;
+    }
+
+    private static <T> T valueOrDefault(T value, T defaultValue) {
+        return value == null ? defaultValue : value;
+    }
+}
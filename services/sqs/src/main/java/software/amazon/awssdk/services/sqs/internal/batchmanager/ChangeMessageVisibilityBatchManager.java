@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityResponse;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * Batches {@link ChangeMessageVisibilityRequest}s into {@link ChangeMessageVisibilityBatchRequest}s.
+ */
+@SdkInternalApi
+public final class ChangeMessageVisibilityBatchManager
+    extends RequestBatchManager<ChangeMessageVisibilityRequest, ChangeMessageVisibilityResponse,
+    ChangeMessageVisibilityBatchResponse> {
+
+    private final SqsAsyncClient client;
+
+    public ChangeMessageVisibilityBatchManager(SqsAsyncClient client,
+                                               BatchConfiguration configuration,
+                                               ScheduledExecutorService scheduledExecutor) {
+        super(configuration, Long.MAX_VALUE, scheduledExecutor);
+        this.client = client;
+    }
+
+    @Override
+    protected String queueUrl(ChangeMessageVisibilityRequest request) {
+        return request.queueUrl();
+    }
+
+    @Override
+    protected CompletableFuture<ChangeMessageVisibilityBatchResponse> sendBatchRequest(
+        String queueUrl,
+        AwsRequestOverrideConfiguration overrideConfiguration,
+        List<ChangeMessageVisibilityRequest> requests) {
+
+        List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            ChangeMessageVisibilityRequest request = requests.get(i);
+            entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                .id(String.valueOf(i))
+                                                                .receiptHandle(request.receiptHandle())
+                                                                .visibilityTimeout(request.visibilityTimeout())
+                                                                .build());
+        }
+
+        ChangeMessageVisibilityBatchRequest batchRequest = ChangeMessageVisibilityBatchRequest.builder()
+                                                                                              .queueUrl(queueUrl)
+                                                                                              .entries(entries)
+                                                                                              .overrideConfiguration(
+                                                                                                  overrideConfiguration)
+                                                                                              .build();
+        return client.changeMessageVisibilityBatch(batchRequest);
+    }
+
+    @Override
+    protected Map<String, Either<ChangeMessageVisibilityResponse, Throwable>> mapBatchResponse(
+        ChangeMessageVisibilityBatchResponse batchResponse) {
+
+        Map<String, Either<ChangeMessageVisibilityResponse, Throwable>> results = new HashMap<>();
+        batchResponse.successful().forEach(entry -> {
+            ChangeMessageVisibilityResponse.Builder response = ChangeMessageVisibilityResponse.builder();
+            results.put(entry.id(), Either.left(copyResponseMetadata(batchResponse, response).build()));
+        });
+        batchResponse.failed().forEach(entry -> results.put(entry.id(), Either.right(toException(entry))));
+        return results;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Serves {@link ReceiveMessageRequest}s from messages prefetched by a {@link ReceiveQueueBuffer} per queue, when the request
+ * is compatible with the prefetch configuration. Other requests are sent to SQS directly.
+ */
+@SdkInternalApi
+public final class ReceiveMessageBatchManager implements SdkAutoCloseable {
+    private static final String FIFO_QUEUE_SUFFIX = ".fifo";
+
+    private final SqsAsyncClient client;
+    private final BatchConfiguration configuration;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Map<String, ReceiveQueueBuffer> buffers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    public ReceiveMessageBatchManager(SqsAsyncClient client,
+                                      BatchConfiguration configuration,
+                                      ScheduledExecutorService scheduledExecutor) {
+        this.client = client;
+        this.configuration = configuration;
+        this.scheduledExecutor = scheduledExecutor;
+    }
+
+    public CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        if (closed) {
+            return CompletableFutureUtils.failedFuture(SdkClientException.create("The batch manager has been closed."));
+        }
+
+        if (!canBeServedFromBuffer(request)) {
+            return client.receiveMessage(request);
+        }
+
+        ReceiveQueueBuffer buffer =
+            buffers.computeIfAbsent(request.queueUrl(),
+                                    queueUrl -> new ReceiveQueueBuffer(queueUrl, client, configuration, scheduledExecutor));
+        if (closed) {
+            // The buffer may have been created after close() closed the existing buffers
+            buffer.close();
+        }
+        return buffer.receiveMessage(request);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        buffers.values().forEach(ReceiveQueueBuffer::close);
+    }
+
+    /**
+     * Prefetched messages are received with the configured attributes and visibility timeout, so only requests that don't
+     * need anything else can be served from them. Messages of FIFO queues are never prefetched, because buffering them would
+     * hold up their message groups.
+     */
+    private boolean canBeServedFromBuffer(ReceiveMessageRequest request) {
+        return request.queueUrl() != null
+               && !request.queueUrl().endsWith(FIFO_QUEUE_SUFFIX)
+               && !request.overrideConfiguration().isPresent()
+               && request.visibilityTimeout() == null
+               && request.receiveRequestAttemptId() == null
+               && configuration.receiveAttributeNames().containsAll(request.attributeNames())
+               && configuration.receiveMessageAttributeNames().containsAll(request.messageAttributeNames());
+    }
+}
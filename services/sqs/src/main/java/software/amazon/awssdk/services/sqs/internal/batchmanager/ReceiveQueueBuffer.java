@@ -0,0 +1,391 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Prefetches messages from a single queue, and serves receive requests from the prefetched messages.
+ * <p>
+ * Up to {@link BatchConfiguration#maxInflightReceiveBatches()} long-polling receive calls are made concurrently, until
+ * {@link BatchConfiguration#maxDoneReceiveBatches()} batches of messages are buffered. Once a receive call returns no
+ * messages, only the receive requests that are waiting for messages cause further receive calls, until messages are
+ * available again. Buffered messages are discarded once their visibility timeout expires, since they may have been received
+ * by another consumer by then.
+ * <p>
+ * All mutable state is guarded by the buffer's monitor. Futures are completed and requests are sent outside of it. Whether a
+ * receive request is served messages or completed by its timeout is decided under the monitor, and messages whose request was
+ * completed by its caller in the meantime are put back at the head of the buffer, so messages are never dropped.
+ */
+@SdkInternalApi
+final class ReceiveQueueBuffer implements SdkAutoCloseable {
+    private static final Logger log = Logger.loggerFor(ReceiveQueueBuffer.class);
+
+    private static final int MAX_MESSAGES_PER_RECEIVE = 10;
+    private static final int LONG_POLL_WAIT_TIME_SECONDS = 20;
+
+    private final String queueUrl;
+    private final SqsAsyncClient client;
+    private final BatchConfiguration configuration;
+    private final ScheduledExecutorService scheduledExecutor;
+
+    private final Deque<ReceivedBatch> doneBatches = new ArrayDeque<>();
+    private final Deque<PendingReceive> pendingReceives = new ArrayDeque<>();
+    private final Set<CompletableFuture<?>> inflightReceives = new HashSet<>();
+    private int inflightReceiveCount;
+    private boolean queueEmpty;
+    private boolean receiveFailed;
+    private boolean closed;
+    private CompletableFuture<Duration> visibilityTimeout;
+
+    ReceiveQueueBuffer(String queueUrl,
+                       SqsAsyncClient client,
+                       BatchConfiguration configuration,
+                       ScheduledExecutorService scheduledExecutor) {
+        this.queueUrl = queueUrl;
+        this.client = client;
+        this.configuration = configuration;
+        this.scheduledExecutor = scheduledExecutor;
+    }
+
+    CompletableFuture<ReceiveMessageResponse> receiveMessage(ReceiveMessageRequest request) {
+        PendingReceive pending = new PendingReceive(maxNumberOfMessages(request));
+        synchronized (this) {
+            if (closed) {
+                return CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build());
+            }
+            receiveFailed = false;
+            pendingReceives.add(pending);
+        }
+
+        long waitTimeMillis = Math.max(request.waitTimeSeconds() == null ? 0 : request.waitTimeSeconds() * 1000L,
+                                       configuration.receiveMessageMinWaitDuration().toMillis());
+        ScheduledFuture<?> timeout = scheduledExecutor.schedule(() -> timeOut(pending), waitTimeMillis, TimeUnit.MILLISECONDS);
+        pending.future.whenComplete((r, t) -> {
+            timeout.cancel(false);
+            synchronized (this) {
+                pendingReceives.remove(pending);
+            }
+        });
+
+        processBuffer();
+        return pending.future;
+    }
+
+    /**
+     * Stops prefetching and completes any waiting receive requests with no messages. Messages that are buffered are made
+     * visible again.
+     */
+    @Override
+    public void close() {
+        List<PendingReceive> pending;
+        List<CompletableFuture<?>> inflight;
+        List<Message> unreturnedMessages = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pending = claimAll();
+            inflight = new ArrayList<>(inflightReceives);
+            inflightReceives.clear();
+            doneBatches.forEach(batch -> unreturnedMessages.addAll(batch.messages));
+            doneBatches.clear();
+        }
+
+        inflight.forEach(f -> f.cancel(true));
+        pending.forEach(p -> p.future.complete(ReceiveMessageResponse.builder().build()));
+        releaseMessages(unreturnedMessages);
+    }
+
+    private void processBuffer() {
+        List<Runnable> completions = new ArrayList<>();
+        int receivesToSpawn;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+
+            expireDoneBatches();
+            while (!pendingReceives.isEmpty() && !doneBatches.isEmpty()) {
+                PendingReceive pending = pendingReceives.poll();
+                if (pending.claimed || pending.future.isDone()) {
+                    continue;
+                }
+                pending.claimed = true;
+                ReceivedBatch messages = takeMessages(pending.maxNumberOfMessages);
+                completions.add(() -> deliver(pending, messages));
+            }
+
+            receivesToSpawn = receivesToSpawn();
+            inflightReceiveCount += receivesToSpawn;
+        }
+
+        completions.forEach(Runnable::run);
+        for (int i = 0; i < receivesToSpawn; i++) {
+            spawnReceive();
+        }
+    }
+
+    private int receivesToSpawn() {
+        if (receiveFailed) {
+            return 0;
+        }
+        int targetBatches = queueEmpty ? pendingReceives.size()
+                                       : Math.max(configuration.maxDoneReceiveBatches(), pendingReceives.size());
+        int available = configuration.maxInflightReceiveBatches() - inflightReceiveCount;
+        return Math.max(0, Math.min(available, targetBatches - doneBatches.size() - inflightReceiveCount));
+    }
+
+    private void spawnReceive() {
+        ReceiveMessageRequest.Builder request =
+            ReceiveMessageRequest.builder()
+                                 .queueUrl(queueUrl)
+                                 .maxNumberOfMessages(MAX_MESSAGES_PER_RECEIVE)
+                                 .waitTimeSeconds(LONG_POLL_WAIT_TIME_SECONDS)
+                                 .attributeNames(configuration.receiveAttributeNames())
+                                 .messageAttributeNames(configuration.receiveMessageAttributeNames());
+        if (configuration.receiveMessageVisibilityTimeout() != null) {
+            request.visibilityTimeout(Math.toIntExact(configuration.receiveMessageVisibilityTimeout().getSeconds()));
+        }
+
+        CompletableFuture<ReceivedBatch> receive =
+            visibilityTimeout().thenCompose(timeout -> {
+                Instant expiry = Instant.now().plus(timeout);
+                CompletableFuture<ReceiveMessageResponse> response = client.receiveMessage(request.build());
+                if (!trackInflight(response)) {
+                    response.cancel(true);
+                }
+                return response.thenApply(r -> new ReceivedBatch(r.messages(), expiry));
+            });
+        receive.whenComplete(this::onReceiveComplete);
+    }
+
+    private synchronized boolean trackInflight(CompletableFuture<ReceiveMessageResponse> response) {
+        if (closed) {
+            return false;
+        }
+        inflightReceives.add(response);
+        response.whenComplete((r, t) -> untrackInflight(response));
+        return true;
+    }
+
+    private synchronized void untrackInflight(CompletableFuture<?> response) {
+        inflightReceives.remove(response);
+    }
+
+    private void onReceiveComplete(ReceivedBatch batch, Throwable error) {
+        List<PendingReceive> failed = new ArrayList<>();
+        boolean release = false;
+        synchronized (this) {
+            inflightReceiveCount--;
+            if (error != null) {
+                if (!closed) {
+                    receiveFailed = true;
+                    failed.addAll(claimAll());
+                }
+            } else if (batch.messages.isEmpty()) {
+                queueEmpty = true;
+            } else {
+                queueEmpty = false;
+                if (closed) {
+                    release = true;
+                } else {
+                    doneBatches.add(batch);
+                }
+            }
+        }
+
+        if (!failed.isEmpty()) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            failed.forEach(p -> p.future.completeExceptionally(cause));
+        }
+        if (release) {
+            releaseMessages(new ArrayList<>(batch.messages));
+        }
+        processBuffer();
+    }
+
+    private synchronized CompletableFuture<Duration> visibilityTimeout() {
+        if (configuration.receiveMessageVisibilityTimeout() != null) {
+            return CompletableFuture.completedFuture(configuration.receiveMessageVisibilityTimeout());
+        }
+
+        if (visibilityTimeout == null || visibilityTimeout.isCompletedExceptionally()) {
+            visibilityTimeout =
+                client.getQueueAttributes(r -> r.queueUrl(queueUrl).attributeNames(QueueAttributeName.VISIBILITY_TIMEOUT))
+                      .thenApply(r -> Duration.ofSeconds(Long.parseLong(r.attributes()
+                                                                          .get(QueueAttributeName.VISIBILITY_TIMEOUT))));
+        }
+        return visibilityTimeout;
+    }
+
+    private void timeOut(PendingReceive pending) {
+        synchronized (this) {
+            if (pending.claimed) {
+                return;
+            }
+            pending.claimed = true;
+        }
+        pending.future.complete(ReceiveMessageResponse.builder().build());
+    }
+
+    private void deliver(PendingReceive pending, ReceivedBatch messages) {
+        ReceiveMessageResponse response = ReceiveMessageResponse.builder()
+                                                                .messages(messages.messages)
+                                                                .build();
+        if (!pending.future.complete(response)) {
+            // The caller cancelled or completed the request after its messages were taken
+            returnMessages(messages);
+        }
+    }
+
+    /**
+     * Puts messages that couldn't be delivered back at the head of the buffer, or releases them if the buffer was closed.
+     */
+    private void returnMessages(ReceivedBatch messages) {
+        boolean release;
+        synchronized (this) {
+            release = closed;
+            if (!closed) {
+                doneBatches.addFirst(messages);
+            }
+        }
+
+        if (release) {
+            releaseMessages(new ArrayList<>(messages.messages));
+        } else {
+            processBuffer();
+        }
+    }
+
+    private List<PendingReceive> claimAll() {
+        List<PendingReceive> claimed = new ArrayList<>();
+        for (PendingReceive pending : pendingReceives) {
+            if (!pending.claimed) {
+                pending.claimed = true;
+                claimed.add(pending);
+            }
+        }
+        pendingReceives.clear();
+        return claimed;
+    }
+
+    private void expireDoneBatches() {
+        Instant now = Instant.now();
+        doneBatches.removeIf(batch -> !now.isBefore(batch.expiry));
+    }
+
+    /**
+     * Takes up to the given number of messages from the buffer, which expire with the earliest of the batches they're taken
+     * from.
+     */
+    private ReceivedBatch takeMessages(int maxNumberOfMessages) {
+        List<Message> messages = new ArrayList<>(maxNumberOfMessages);
+        Instant expiry = Instant.MAX;
+        while (messages.size() < maxNumberOfMessages && !doneBatches.isEmpty()) {
+            ReceivedBatch batch = doneBatches.peek();
+            if (batch.expiry.isBefore(expiry)) {
+                expiry = batch.expiry;
+            }
+            while (messages.size() < maxNumberOfMessages && !batch.messages.isEmpty()) {
+                messages.add(batch.messages.poll());
+            }
+            if (batch.messages.isEmpty()) {
+                doneBatches.poll();
+            }
+        }
+        return new ReceivedBatch(messages, expiry);
+    }
+
+    /**
+     * Makes messages that were received but never returned visible to other consumers again. This is best-effort: messages
+     * that can't be released become visible once their visibility timeout expires.
+     */
+    private void releaseMessages(List<Message> messages) {
+        for (int start = 0; start < messages.size(); start += BatchConfiguration.MAX_BATCH_SIZE) {
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<>();
+            int end = Math.min(messages.size(), start + BatchConfiguration.MAX_BATCH_SIZE);
+            for (int i = start; i < end; i++) {
+                entries.add(ChangeMessageVisibilityBatchRequestEntry.builder()
+                                                                    .id(String.valueOf(i - start))
+                                                                    .receiptHandle(messages.get(i).receiptHandle())
+                                                                    .visibilityTimeout(0)
+                                                                    .build());
+            }
+            client.changeMessageVisibilityBatch(r -> r.queueUrl(queueUrl).entries(entries))
+                  .whenComplete((r, t) -> {
+                      if (t != null) {
+                          log.debug(() -> "Failed to release prefetched messages of queue " + queueUrl, t);
+                      }
+                  });
+        }
+    }
+
+    private static int maxNumberOfMessages(ReceiveMessageRequest request) {
+        Integer maxNumberOfMessages = request.maxNumberOfMessages();
+        if (maxNumberOfMessages == null) {
+            return 1;
+        }
+        return Math.max(1, Math.min(MAX_MESSAGES_PER_RECEIVE, maxNumberOfMessages));
+    }
+
+    private static final class PendingReceive {
+        private final int maxNumberOfMessages;
+        private final CompletableFuture<ReceiveMessageResponse> future = new CompletableFuture<>();
+
+        /**
+         * Whether the request has been claimed to be completed, either with messages or by its timeout. Guarded by the monitor of
+         * the buffer.
+         */
+        private boolean claimed;
+
+        private PendingReceive(int maxNumberOfMessages) {
+            this.maxNumberOfMessages = maxNumberOfMessages;
+        }
+    }
+
+    private static final class ReceivedBatch {
+        private final Deque<Message> messages;
+        private final Instant expiry;
+
+        private ReceivedBatch(List<Message> messages, Instant expiry) {
+            this.messages = new ArrayDeque<>(messages);
+            this.expiry = expiry;
+        }
+    }
+}
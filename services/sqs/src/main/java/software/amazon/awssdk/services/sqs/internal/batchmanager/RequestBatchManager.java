@@ -0,0 +1,333 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+import software.amazon.awssdk.services.sqs.model.SqsRequest;
+import software.amazon.awssdk.services.sqs.model.SqsResponse;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Buffers individual requests per queue and sends them as batch requests, either when a batch is full or when the send
+ * request frequency has elapsed since the first request of the batch was buffered.
+ * <p>
+ * Each entry of a batch request is identified by its index in the batch, which is used to complete the future of the
+ * corresponding individual request from the batch response.
+ * <p>
+ * A buffer is removed once it's drained, so buffers don't accumulate for queues that are no longer used. Requests are only
+ * added to a buffer while holding its lock, after checking that neither the buffer has been removed nor the batch manager
+ * closed, so that no request is left in a buffer that will never be flushed.
+ *
+ * @param <RequestT> the type of the individual requests
+ * @param <ResponseT> the type of the individual responses
+ * @param <BatchResponseT> the type of the batch response
+ */
+@SdkInternalApi
+public abstract class RequestBatchManager<RequestT extends SqsRequest, ResponseT extends SqsResponse,
+    BatchResponseT extends SqsResponse> implements SdkAutoCloseable {
+
+    private final int maxBatchSize;
+    private final long maxBatchBytes;
+    private final long sendRequestFrequencyMillis;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Map<BatchKey, BatchBuffer<RequestT, ResponseT>> buffers = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    protected RequestBatchManager(BatchConfiguration configuration,
+                                  long maxBatchBytes,
+                                  ScheduledExecutorService scheduledExecutor) {
+        this.maxBatchSize = configuration.maxBatchSize();
+        this.maxBatchBytes = maxBatchBytes;
+        this.sendRequestFrequencyMillis = configuration.sendRequestFrequency().toMillis();
+        this.scheduledExecutor = scheduledExecutor;
+    }
+
+    /**
+     * Buffers the request, sending its batch if it's full.
+     *
+     * @return a future that is completed with the result of the request's entry in the batch response
+     */
+    public CompletableFuture<ResponseT> batchRequest(RequestT request) {
+        BatchEntry<RequestT, ResponseT> entry = new BatchEntry<>(request, requestSize(request));
+        BatchKey key = new BatchKey(queueUrl(request), request.overrideConfiguration().orElse(null));
+
+        List<List<BatchEntry<RequestT, ResponseT>>> batches = new ArrayList<>(2);
+        while (true) {
+            BatchBuffer<RequestT, ResponseT> buffer = buffers.computeIfAbsent(key, k -> new BatchBuffer<>());
+            synchronized (buffer) {
+                if (buffer.removed) {
+                    continue;
+                }
+                if (closed) {
+                    return CompletableFutureUtils.failedFuture(SdkClientException.create("The batch manager has been closed."));
+                }
+
+                if (!buffer.entries.isEmpty() && buffer.bytes + entry.size > maxBatchBytes) {
+                    batches.add(buffer.drain());
+                }
+
+                buffer.add(entry);
+
+                if (buffer.entries.size() >= maxBatchSize || buffer.bytes >= maxBatchBytes) {
+                    batches.add(buffer.drain());
+                    removeIfEmpty(key, buffer);
+                } else if (buffer.scheduledFlush == null) {
+                    scheduleFlush(key, buffer, batches);
+                }
+            }
+            break;
+        }
+
+        batches.forEach(batch -> sendBatch(key, batch));
+        return entry.response;
+    }
+
+    /**
+     * Sends all buffered requests and rejects any new requests.
+     */
+    @Override
+    public void close() {
+        // Requests are added while holding the lock of their buffer, which each flush takes after closed is set, so any
+        // request that was accepted is part of the flushed batches.
+        closed = true;
+        buffers.forEach(this::flush);
+    }
+
+    @SdkTestInternalApi
+    int bufferCount() {
+        return buffers.size();
+    }
+
+    /**
+     * The URL of the queue the request is sent to.
+     */
+    protected abstract String queueUrl(RequestT request);
+
+    /**
+     * The size of the request, counted towards the maximum size of a batch. Zero by default.
+     */
+    protected long requestSize(RequestT request) {
+        return 0;
+    }
+
+    /**
+     * Sends a batch request containing the given requests, using the index of each request in the list as its entry ID.
+     */
+    protected abstract CompletableFuture<BatchResponseT> sendBatchRequest(String queueUrl,
+                                                                          AwsRequestOverrideConfiguration overrideConfiguration,
+                                                                          List<RequestT> requests);
+
+    /**
+     * Maps the entries of a batch response by their entry IDs, to either the individual response or the error of the entry.
+     */
+    protected abstract Map<String, Either<ResponseT, Throwable>> mapBatchResponse(BatchResponseT batchResponse);
+
+    /**
+     * Creates the exception for a failed batch entry.
+     */
+    protected static SqsException toException(BatchResultErrorEntry errorEntry) {
+        AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                      .errorCode(errorEntry.code())
+                                                      .errorMessage(errorEntry.message())
+                                                      .serviceName("Sqs")
+                                                      .build();
+        return (SqsException) SqsException.builder()
+                                          .message(errorEntry.message())
+                                          .statusCode(Boolean.TRUE.equals(errorEntry.senderFault()) ? 400 : 500)
+                                          .awsErrorDetails(errorDetails)
+                                          .build();
+    }
+
+    /**
+     * Copies the HTTP response and response metadata of the batch response into the builder of an individual response.
+     */
+    protected static <T extends SqsResponse.Builder> T copyResponseMetadata(SqsResponse batchResponse, T builder) {
+        builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        if (batchResponse.responseMetadata() != null) {
+            builder.responseMetadata(batchResponse.responseMetadata());
+        }
+        return builder;
+    }
+
+    /**
+     * Schedules the flush of a buffer that has just started a batch. If the executor has been shut down, the batch is sent
+     * right away instead.
+     */
+    private void scheduleFlush(BatchKey key,
+                               BatchBuffer<RequestT, ResponseT> buffer,
+                               List<List<BatchEntry<RequestT, ResponseT>>> batches) {
+        try {
+            buffer.scheduledFlush = scheduledExecutor.schedule(() -> flush(key, buffer),
+                                                               sendRequestFrequencyMillis,
+                                                               TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            batches.add(buffer.drain());
+            removeIfEmpty(key, buffer);
+        }
+    }
+
+    private void flush(BatchKey key, BatchBuffer<RequestT, ResponseT> buffer) {
+        List<BatchEntry<RequestT, ResponseT>> batch;
+        synchronized (buffer) {
+            batch = buffer.drain();
+            removeIfEmpty(key, buffer);
+        }
+
+        if (!batch.isEmpty()) {
+            sendBatch(key, batch);
+        }
+    }
+
+    /**
+     * Removes the buffer from the map if it's empty. Must be called while holding the lock of the buffer, so that requests that
+     * raced with the removal see that the buffer was removed, and add themselves to a new buffer instead.
+     */
+    private void removeIfEmpty(BatchKey key, BatchBuffer<RequestT, ResponseT> buffer) {
+        if (buffer.entries.isEmpty()) {
+            buffer.removed = true;
+            buffers.remove(key, buffer);
+        }
+    }
+
+    private void sendBatch(BatchKey key, List<BatchEntry<RequestT, ResponseT>> batch) {
+        List<RequestT> requests = batch.stream().map(e -> e.request).collect(Collectors.toList());
+
+        CompletableFuture<BatchResponseT> batchResponse;
+        try {
+            batchResponse = sendBatchRequest(key.queueUrl, key.overrideConfiguration, requests);
+        } catch (Throwable t) {
+            batchResponse = CompletableFutureUtils.failedFuture(t);
+        }
+
+        batchResponse.whenComplete((r, t) -> {
+            if (t != null) {
+                Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+                batch.forEach(e -> e.response.completeExceptionally(cause));
+                return;
+            }
+
+            try {
+                Map<String, Either<ResponseT, Throwable>> results = mapBatchResponse(r);
+                for (int i = 0; i < batch.size(); i++) {
+                    CompletableFuture<ResponseT> response = batch.get(i).response;
+                    Either<ResponseT, Throwable> result = results.get(String.valueOf(i));
+                    if (result == null) {
+                        response.completeExceptionally(
+                            SdkClientException.create("The batch response did not contain a result for entry " + i));
+                    } else {
+                        result.apply(response::complete, response::completeExceptionally);
+                    }
+                }
+            } catch (Throwable mappingError) {
+                batch.forEach(e -> e.response.completeExceptionally(mappingError));
+            }
+        });
+    }
+
+    private static final class BatchEntry<RequestT, ResponseT> {
+        private final RequestT request;
+        private final long size;
+        private final CompletableFuture<ResponseT> response = new CompletableFuture<>();
+
+        private BatchEntry(RequestT request, long size) {
+            this.request = request;
+            this.size = size;
+        }
+    }
+
+    /**
+     * The requests buffered for a batch key. All access is synchronized on the buffer.
+     */
+    private static final class BatchBuffer<RequestT, ResponseT> {
+        private List<BatchEntry<RequestT, ResponseT>> entries = new ArrayList<>();
+        private long bytes;
+        private ScheduledFuture<?> scheduledFlush;
+        private boolean removed;
+
+        private void add(BatchEntry<RequestT, ResponseT> entry) {
+            entries.add(entry);
+            bytes += entry.size;
+        }
+
+        private List<BatchEntry<RequestT, ResponseT>> drain() {
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+                scheduledFlush = null;
+            }
+
+            if (entries.isEmpty()) {
+                return Collections.emptyList();
+            }
+
+            List<BatchEntry<RequestT, ResponseT>> batch = entries;
+            entries = new ArrayList<>();
+            bytes = 0;
+            return batch;
+        }
+    }
+
+    /**
+     * Requests are only batched together if they are sent to the same queue with the same override configuration.
+     */
+    private static final class BatchKey {
+        private final String queueUrl;
+        private final AwsRequestOverrideConfiguration overrideConfiguration;
+
+        private BatchKey(String queueUrl, AwsRequestOverrideConfiguration overrideConfiguration) {
+            this.queueUrl = queueUrl;
+            this.overrideConfiguration = overrideConfiguration;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BatchKey batchKey = (BatchKey) o;
+            return Objects.equals(queueUrl, batchKey.queueUrl)
+                   && Objects.equals(overrideConfiguration, batchKey.overrideConfiguration);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(queueUrl) + Objects.hashCode(overrideConfiguration);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.MessageAttributeValue;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * Batches {@link SendMessageRequest}s into {@link SendMessageBatchRequest}s. Batches are also sent once their payload
+ * reaches the maximum size allowed by SQS.
+ */
+@SdkInternalApi
+public final class SendMessageBatchManager
+    extends RequestBatchManager<SendMessageRequest, SendMessageResponse, SendMessageBatchResponse> {
+
+    private final SqsAsyncClient client;
+
+    public SendMessageBatchManager(SqsAsyncClient client,
+                                   BatchConfiguration configuration,
+                                   ScheduledExecutorService scheduledExecutor) {
+        super(configuration, BatchConfiguration.MAX_SEND_MESSAGE_BATCH_BYTES, scheduledExecutor);
+        this.client = client;
+    }
+
+    @Override
+    protected String queueUrl(SendMessageRequest request) {
+        return request.queueUrl();
+    }
+
+    /**
+     * The size of the message body and message attributes, which count towards the payload size limit of a batch.
+     */
+    @Override
+    protected long requestSize(SendMessageRequest request) {
+        long size = utf8Length(request.messageBody());
+        if (request.hasMessageAttributes()) {
+            for (Map.Entry<String, MessageAttributeValue> attribute : request.messageAttributes().entrySet()) {
+                MessageAttributeValue value = attribute.getValue();
+                size += utf8Length(attribute.getKey()) + utf8Length(value.dataType()) + utf8Length(value.stringValue());
+                size += binaryLength(value.binaryValue());
+                if (value.hasStringListValues()) {
+                    size += value.stringListValues().stream().mapToLong(SendMessageBatchManager::utf8Length).sum();
+                }
+                if (value.hasBinaryListValues()) {
+                    size += value.binaryListValues().stream().mapToLong(SendMessageBatchManager::binaryLength).sum();
+                }
+            }
+        }
+        return size;
+    }
+
+    @Override
+    protected CompletableFuture<SendMessageBatchResponse> sendBatchRequest(String queueUrl,
+                                                                           AwsRequestOverrideConfiguration overrideConfiguration,
+                                                                           List<SendMessageRequest> requests) {
+        List<SendMessageBatchRequestEntry> entries = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            SendMessageRequest request = requests.get(i);
+            entries.add(SendMessageBatchRequestEntry.builder()
+                                                    .id(String.valueOf(i))
+                                                    .messageBody(request.messageBody())
+                                                    .delaySeconds(request.delaySeconds())
+                                                    .messageAttributes(request.hasMessageAttributes()
+                                                                       ? request.messageAttributes() : null)
+                                                    .messageSystemAttributesWithStrings(
+                                                        request.hasMessageSystemAttributes()
+                                                        ? request.messageSystemAttributesAsStrings() : null)
+                                                    .messageDeduplicationId(request.messageDeduplicationId())
+                                                    .messageGroupId(request.messageGroupId())
+                                                    .build());
+        }
+
+        return client.sendMessageBatch(SendMessageBatchRequest.builder()
+                                                              .queueUrl(queueUrl)
+                                                              .entries(entries)
+                                                              .overrideConfiguration(overrideConfiguration)
+                                                              .build());
+    }
+
+    @Override
+    protected Map<String, Either<SendMessageResponse, Throwable>> mapBatchResponse(SendMessageBatchResponse batchResponse) {
+        Map<String, Either<SendMessageResponse, Throwable>> results = new HashMap<>();
+        batchResponse.successful().forEach(entry -> {
+            SendMessageResponse.Builder response = SendMessageResponse.builder()
+                                                                      .messageId(entry.messageId())
+                                                                      .md5OfMessageBody(entry.md5OfMessageBody())
+                                                                      .md5OfMessageAttributes(entry.md5OfMessageAttributes())
+                                                                      .md5OfMessageSystemAttributes(
+                                                                          entry.md5OfMessageSystemAttributes())
+                                                                      .sequenceNumber(entry.sequenceNumber());
+            results.put(entry.id(), Either.left(copyResponseMetadata(batchResponse, response).build()));
+        });
+        batchResponse.failed().forEach(entry -> results.put(entry.id(), Either.right(toException(entry))));
+        return results;
+    }
+
+    private static long utf8Length(String value) {
+        return value == null ? 0 : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    private static long binaryLength(SdkBytes value) {
+        return value == null ? 0 : value.asByteBuffer().remaining();
+    }
+}
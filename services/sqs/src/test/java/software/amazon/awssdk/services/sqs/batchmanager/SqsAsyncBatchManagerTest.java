@@ -0,0 +1,286 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResponse;
+import software.amazon.awssdk.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+import software.amazon.awssdk.services.sqs.model.SqsException;
+
+@Timeout(10)
+public class SqsAsyncBatchManagerTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final String OTHER_QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/other-queue";
+
+    private SqsAsyncClient client;
+    private SqsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    public void setup() {
+        client = mock(SqsAsyncClient.class);
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(i -> {
+            SendMessageBatchRequest request = i.getArgument(0);
+            List<SendMessageBatchResultEntry> entries =
+                request.entries().stream()
+                       .map(e -> SendMessageBatchResultEntry.builder().id(e.id()).messageId("id-" + e.messageBody()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(entries).build());
+        });
+        when(client.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).thenAnswer(i -> {
+            DeleteMessageBatchRequest request = i.getArgument(0);
+            List<DeleteMessageBatchResultEntry> entries =
+                request.entries().stream()
+                       .map(e -> DeleteMessageBatchResultEntry.builder().id(e.id()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().successful(entries).build());
+        });
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (batchManager != null) {
+            batchManager.close();
+        }
+    }
+
+    @Test
+    void sendMessage_batchFull_shouldSendBatchWithoutWaiting() {
+        batchManager = batchManager(b -> b.maxBatchSize(3).sendRequestFrequency(Duration.ofHours(1)));
+
+        List<CompletableFuture<SendMessageResponse>> responses =
+            IntStream.range(0, 3)
+                     .mapToObj(i -> batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("message" + i)))
+                     .collect(Collectors.toList());
+
+        assertThat(responses.stream().map(r -> r.join().messageId()))
+            .containsExactly("id-message0", "id-message1", "id-message2");
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(client).sendMessageBatch(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(captor.getValue().entries()).hasSize(3);
+    }
+
+    @Test
+    void sendMessage_batchNotFull_shouldSendBatchAfterSendRequestFrequency() {
+        batchManager = batchManager(b -> b.sendRequestFrequency(Duration.ofMillis(50)));
+
+        CompletableFuture<SendMessageResponse> response =
+            batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("message"));
+
+        assertThat(response.join().messageId()).isEqualTo("id-message");
+        verify(client).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void sendMessage_batchPayloadTooLarge_shouldSplitBatch() {
+        batchManager = batchManager(b -> b.sendRequestFrequency(Duration.ofMillis(50)));
+        String body = String.join("", Collections.nCopies(200 * 1024, "a"));
+
+        CompletableFuture<SendMessageResponse> first = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(body));
+        CompletableFuture<SendMessageResponse> second = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(body));
+
+        CompletableFuture.allOf(first, second).join();
+        verify(client, times(2)).sendMessageBatch(any(SendMessageBatchRequest.class));
+    }
+
+    @Test
+    void sendMessage_entryFailed_shouldFailOnlyThatRequest() {
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            SendMessageBatchResponse.builder()
+                                    .successful(SendMessageBatchResultEntry.builder().id("0").messageId("ok").build())
+                                    .failed(BatchResultErrorEntry.builder()
+                                                                 .id("1")
+                                                                 .code("InvalidMessageContents")
+                                                                 .message("boom")
+                                                                 .senderFault(true)
+                                                                 .build())
+                                    .build()));
+        batchManager = batchManager(b -> b.maxBatchSize(2));
+
+        CompletableFuture<SendMessageResponse> first = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+        CompletableFuture<SendMessageResponse> second = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("b"));
+
+        assertThat(first.join().messageId()).isEqualTo("ok");
+        assertThatThrownBy(second::join).hasCauseInstanceOf(SqsException.class)
+                                        .satisfies(e -> {
+                                            SqsException cause = (SqsException) e.getCause();
+                                            assertThat(cause.awsErrorDetails().errorCode()).isEqualTo("InvalidMessageContents");
+                                            assertThat(cause.statusCode()).isEqualTo(400);
+                                        });
+    }
+
+    @Test
+    void sendMessage_batchRequestFailed_shouldFailAllRequests() {
+        RuntimeException exception = new RuntimeException("boom");
+        CompletableFuture<SendMessageBatchResponse> failed = new CompletableFuture<>();
+        failed.completeExceptionally(exception);
+        when(client.sendMessageBatch(any(SendMessageBatchRequest.class))).thenReturn(failed);
+        batchManager = batchManager(b -> b.maxBatchSize(2));
+
+        CompletableFuture<SendMessageResponse> first = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("a"));
+        CompletableFuture<SendMessageResponse> second = batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody("b"));
+
+        assertThatThrownBy(first::join).hasCause(exception);
+        assertThatThrownBy(second::join).hasCause(exception);
+    }
+
+    @Test
+    void deleteMessage_differentQueues_shouldBatchPerQueue() {
+        batchManager = batchManager(b -> b.maxBatchSize(2).sendRequestFrequency(Duration.ofHours(1)));
+
+        CompletableFuture<?> first = batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL).receiptHandle("1"));
+        CompletableFuture<?> second = batchManager.deleteMessage(r -> r.queueUrl(OTHER_QUEUE_URL).receiptHandle("2"));
+        CompletableFuture<?> third = batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL).receiptHandle("3"));
+
+        CompletableFuture.allOf(first, third).join();
+        assertThat(second).isNotDone();
+        ArgumentCaptor<DeleteMessageBatchRequest> captor = ArgumentCaptor.forClass(DeleteMessageBatchRequest.class);
+        verify(client).deleteMessageBatch(captor.capture());
+        assertThat(captor.getValue().queueUrl()).isEqualTo(QUEUE_URL);
+        assertThat(captor.getValue().entries()).extracting(e -> e.receiptHandle()).containsExactly("1", "3");
+    }
+
+    @Test
+    void changeMessageVisibility_close_shouldFlushBufferedRequests() {
+        when(client.changeMessageVisibilityBatch(any(ChangeMessageVisibilityBatchRequest.class))).thenReturn(
+            CompletableFuture.completedFuture(
+                ChangeMessageVisibilityBatchResponse.builder()
+                                                    .successful(ChangeMessageVisibilityBatchResultEntry.builder()
+                                                                                                       .id("0")
+                                                                                                       .build())
+                                                    .build()));
+        batchManager = batchManager(b -> b.sendRequestFrequency(Duration.ofHours(1)));
+
+        CompletableFuture<?> response =
+            batchManager.changeMessageVisibility(r -> r.queueUrl(QUEUE_URL).receiptHandle("1").visibilityTimeout(5));
+        batchManager.close();
+
+        assertThat(response).isCompleted();
+        assertThatThrownBy(() -> batchManager.deleteMessage(r -> r.queueUrl(QUEUE_URL).receiptHandle("1")).join())
+            .hasMessageContaining("closed");
+    }
+
+    @Test
+    void receiveMessage_shouldServeRequestsFromPrefetchedMessages() {
+        List<Message> messages = IntStream.range(0, 10)
+                                          .mapToObj(i -> Message.builder().messageId(String.valueOf(i)).build())
+                                          .collect(Collectors.toList());
+        when(client.receiveMessage(any(ReceiveMessageRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().messages(messages).build()))
+            .thenReturn(CompletableFuture.completedFuture(ReceiveMessageResponse.builder().build()));
+        batchManager = batchManager(b -> b.maxInflightReceiveBatches(1)
+                                          .receiveMessageVisibilityTimeout(Duration.ofMinutes(1)));
+
+        List<String> received = new ArrayList<>();
+        received.addAll(messageIds(batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(4)).join()));
+        received.addAll(messageIds(batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(4)).join()));
+        received.addAll(messageIds(batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL).maxNumberOfMessages(4)).join()));
+
+        assertThat(received).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+        ArgumentCaptor<ReceiveMessageRequest> captor = ArgumentCaptor.forClass(ReceiveMessageRequest.class);
+        verify(client, times(2)).receiveMessage(captor.capture());
+        assertThat(captor.getAllValues().get(0).maxNumberOfMessages()).isEqualTo(10);
+        assertThat(captor.getAllValues().get(0).visibilityTimeout()).isEqualTo(60);
+    }
+
+    @Test
+    void receiveMessage_noMessages_shouldCompleteEmptyAfterWaitTime() {
+        when(client.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(new CompletableFuture<>());
+        batchManager = batchManager(b -> b.receiveMessageVisibilityTimeout(Duration.ofMinutes(1))
+                                          .receiveMessageMinWaitDuration(Duration.ofMillis(50)));
+
+        ReceiveMessageResponse response = batchManager.receiveMessage(r -> r.queueUrl(QUEUE_URL)).join();
+
+        assertThat(response.messages()).isEmpty();
+    }
+
+    @Test
+    void receiveMessage_incompatibleRequest_shouldBypassBuffer() {
+        ReceiveMessageResponse expected = ReceiveMessageResponse.builder().build();
+        when(client.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(CompletableFuture.completedFuture(expected));
+        batchManager = batchManager(b -> b.receiveMessageVisibilityTimeout(Duration.ofMinutes(1)));
+
+        ReceiveMessageRequest withVisibilityTimeout = ReceiveMessageRequest.builder()
+                                                                           .queueUrl(QUEUE_URL)
+                                                                           .visibilityTimeout(5)
+                                                                           .build();
+        ReceiveMessageRequest fifo = ReceiveMessageRequest.builder().queueUrl(QUEUE_URL + ".fifo").build();
+        ReceiveMessageRequest withAttributes = ReceiveMessageRequest.builder()
+                                                                    .queueUrl(QUEUE_URL)
+                                                                    .messageAttributeNames("attribute")
+                                                                    .build();
+
+        assertThat(batchManager.receiveMessage(withVisibilityTimeout).join()).isSameAs(expected);
+        assertThat(batchManager.receiveMessage(fifo).join()).isSameAs(expected);
+        assertThat(batchManager.receiveMessage(withAttributes).join()).isSameAs(expected);
+        verify(client).receiveMessage(withVisibilityTimeout);
+        verify(client).receiveMessage(fifo);
+        verify(client).receiveMessage(withAttributes);
+        verify(client, never()).getQueueAttributes(any(Consumer.class));
+    }
+
+    @Test
+    void maxBatchSizeTooLarge_shouldThrow() {
+        assertThatThrownBy(() -> batchManager(b -> b.maxBatchSize(11))).isInstanceOf(IllegalArgumentException.class)
+                                                                        .hasMessageContaining("maxBatchSize");
+    }
+
+    private SqsAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        return SqsAsyncBatchManager.builder()
+                                   .client(client)
+                                   .overrideConfiguration(configuration)
+                                   .build();
+    }
+
+    private static List<String> messageIds(ReceiveMessageResponse response) {
+        return response.hasMessages() ? response.messages().stream().map(Message::messageId).collect(Collectors.toList())
+                                      : Collections.emptyList();
+    }
+}
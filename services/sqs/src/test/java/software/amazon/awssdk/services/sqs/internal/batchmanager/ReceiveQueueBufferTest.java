@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+@Timeout(10)
+class ReceiveQueueBufferTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    private SqsAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private CompletableFuture<ReceiveMessageResponse> prefetch;
+    private List<Runnable> timeouts;
+    private ReceiveQueueBuffer buffer;
+
+    @BeforeEach
+    public void setup() {
+        prefetch = new CompletableFuture<>();
+        client = mock(SqsAsyncClient.class);
+        when(client.receiveMessage(any(ReceiveMessageRequest.class))).thenReturn(prefetch)
+                                                                      .thenReturn(new CompletableFuture<>());
+
+        timeouts = new CopyOnWriteArrayList<>();
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        when(scheduledExecutor.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(i -> {
+            timeouts.add(i.getArgument(0));
+            return mock(ScheduledFuture.class);
+        });
+
+        BatchOverrideConfiguration configuration =
+            BatchOverrideConfiguration.builder()
+                                      .maxInflightReceiveBatches(1)
+                                      .receiveMessageVisibilityTimeout(Duration.ofMinutes(1))
+                                      .build();
+        buffer = new ReceiveQueueBuffer(QUEUE_URL, client, new BatchConfiguration(configuration), scheduledExecutor);
+    }
+
+    @Test
+    void timeOutWhileMessagesAreDelivered_shouldDeliverMessages() throws Exception {
+        CompletableFuture<ReceiveMessageResponse> first = buffer.receiveMessage(receiveOne());
+        CompletableFuture<ReceiveMessageResponse> second = buffer.receiveMessage(receiveOne());
+
+        // The second request times out after the buffer has taken its message, but before it's completed with it
+        first.whenComplete((r, t) -> timeouts.get(1).run());
+        prefetch.complete(messages("0", "1"));
+
+        assertThat(messageIds(first.get(5, TimeUnit.SECONDS))).containsExactly("0");
+        assertThat(messageIds(second.get(5, TimeUnit.SECONDS))).containsExactly("1");
+    }
+
+    @Test
+    void requestCancelledWhileMessagesAreDelivered_shouldReturnMessagesToBuffer() throws Exception {
+        CompletableFuture<ReceiveMessageResponse> first = buffer.receiveMessage(receiveOne());
+        CompletableFuture<ReceiveMessageResponse> second = buffer.receiveMessage(receiveOne());
+
+        first.whenComplete((r, t) -> second.cancel(true));
+        prefetch.complete(messages("0", "1"));
+
+        assertThat(messageIds(first.get(5, TimeUnit.SECONDS))).containsExactly("0");
+        assertThat(second).isCancelled();
+        assertThat(messageIds(buffer.receiveMessage(receiveOne()).get(5, TimeUnit.SECONDS))).containsExactly("1");
+    }
+
+    private static ReceiveMessageRequest receiveOne() {
+        return ReceiveMessageRequest.builder().queueUrl(QUEUE_URL).maxNumberOfMessages(1).build();
+    }
+
+    private static ReceiveMessageResponse messages(String... ids) {
+        return ReceiveMessageResponse.builder()
+                                     .messages(Arrays.stream(ids)
+                                                     .map(id -> Message.builder().messageId(id).build())
+                                                     .collect(Collectors.toList()))
+                                     .build();
+    }
+
+    private static List<String> messageIds(ReceiveMessageResponse response) {
+        return response.messages().stream().map(Message::messageId).collect(Collectors.toList());
+    }
+}
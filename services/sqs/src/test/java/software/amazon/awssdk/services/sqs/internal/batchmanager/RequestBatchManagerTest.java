@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.internal.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageResponse;
+
+@Timeout(30)
+class RequestBatchManagerTest {
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    private SqsAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+
+    @BeforeEach
+    public void setup() {
+        client = mock(SqsAsyncClient.class);
+        when(client.deleteMessageBatch(any(DeleteMessageBatchRequest.class))).thenAnswer(i -> {
+            DeleteMessageBatchRequest request = i.getArgument(0);
+            List<DeleteMessageBatchResultEntry> entries =
+                request.entries().stream()
+                       .map(e -> DeleteMessageBatchResultEntry.builder().id(e.id()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(DeleteMessageBatchResponse.builder().successful(entries).build());
+        });
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void buffersOfSentBatches_shouldBeRemoved() {
+        DeleteMessageBatchManager batchManager = batchManager(b -> b.maxBatchSize(2).sendRequestFrequency(Duration.ofMillis(10)));
+
+        List<CompletableFuture<DeleteMessageResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            responses.add(batchManager.batchRequest(deleteMessage(QUEUE_URL + i)));
+        }
+        responses.add(batchManager.batchRequest(deleteMessage(QUEUE_URL + 0)));
+
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).join();
+        assertThat(batchManager.bufferCount()).isZero();
+    }
+
+    @Test
+    void closeWhileRequestsAreBuffered_shouldCompleteEveryRequest() throws InterruptedException {
+        for (int attempt = 0; attempt < 50; attempt++) {
+            ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+            DeleteMessageBatchManager manager =
+                new DeleteMessageBatchManager(client, configuration(b -> b.sendRequestFrequency(Duration.ofHours(1))), executor);
+
+            ConcurrentLinkedQueue<CompletableFuture<DeleteMessageResponse>> responses = new ConcurrentLinkedQueue<>();
+            ExecutorService requesters = Executors.newFixedThreadPool(4);
+            CountDownLatch started = new CountDownLatch(4);
+            for (int i = 0; i < 4; i++) {
+                int requester = i;
+                requesters.execute(() -> {
+                    started.countDown();
+                    for (int j = 0; j < 200; j++) {
+                        responses.add(manager.batchRequest(deleteMessage(QUEUE_URL + (requester + j) % 3)));
+                    }
+                });
+            }
+
+            started.await();
+            manager.close();
+            // As the batch manager does, the executor is shut down once the batch manager is closed
+            executor.shutdownNow();
+            requesters.shutdown();
+            assertThat(requesters.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(responses).allMatch(CompletableFuture::isDone);
+        }
+    }
+
+    private DeleteMessageBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        return new DeleteMessageBatchManager(client, configuration(configuration), scheduledExecutor);
+    }
+
+    private static BatchConfiguration configuration(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        return new BatchConfiguration(BatchOverrideConfiguration.builder().applyMutation(configuration).build());
+    }
+
+    private static DeleteMessageRequest deleteMessage(String queueUrl) {
+        return DeleteMessageRequest.builder().queueUrl(queueUrl).receiptHandle("handle").build();
+    }
+}
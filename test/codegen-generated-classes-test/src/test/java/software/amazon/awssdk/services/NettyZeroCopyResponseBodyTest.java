@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
+import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOperationRequest;
+import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOperationResponse;
+import software.amazon.awssdk.utils.IoUtils;
+
+/**
+ * Verifies that the response transformers that keep the response data after onNext returns aren't affected by the buffers
+ * published by the Netty client being reused when zero-copy response bodies are enabled.
+ */
+public class NettyZeroCopyResponseBodyTest {
+    private static final int BODY_SIZE = 8 * 1024 * 1024;
+
+    private WireMockServer wireMock;
+    private ProtocolRestJsonAsyncClient client;
+    private byte[] body;
+
+    @BeforeEach
+    public void setup() {
+        wireMock = new WireMockServer(WireMockConfiguration.options().dynamicPort());
+        wireMock.start();
+
+        body = new byte[BODY_SIZE];
+        new Random(0).nextBytes(body);
+        wireMock.stubFor(post(anyUrl()).willReturn(aResponse().withStatus(200).withBody(body)));
+
+        client = ProtocolRestJsonAsyncClient.builder()
+                                            .region(Region.US_WEST_2)
+                                            .credentialsProvider(AnonymousCredentialsProvider.create())
+                                            .endpointOverride(URI.create("http://localhost:" + wireMock.port()))
+                                            .httpClientBuilder(NettyNioAsyncHttpClient.builder().zeroCopyResponseBody(true))
+                                            .build();
+    }
+
+    @AfterEach
+    public void teardown() {
+        client.close();
+        wireMock.stop();
+    }
+
+    @Test
+    public void toFile_shouldWriteResponseBody(@TempDir Path tempDir) throws IOException {
+        Path file = tempDir.resolve("response");
+
+        client.streamingOutputOperation(StreamingOutputOperationRequest.builder().build(),
+                                        AsyncResponseTransformer.toFile(file))
+              .join();
+
+        assertThat(Files.readAllBytes(file)).isEqualTo(body);
+    }
+
+    @Test
+    public void toBlockingInputStream_shouldReadResponseBody() throws IOException {
+        try (ResponseInputStream<StreamingOutputOperationResponse> stream =
+                 client.streamingOutputOperation(StreamingOutputOperationRequest.builder().build(),
+                                                 AsyncResponseTransformer.toBlockingInputStream())
+                       .join()) {
+            assertThat(IoUtils.toByteArray(stream)).isEqualTo(body);
+        }
+    }
+}
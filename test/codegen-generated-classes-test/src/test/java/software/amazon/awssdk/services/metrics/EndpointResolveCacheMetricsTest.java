@@ -0,0 +1,110 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.EndpointCapturingInterceptor;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClient;
+import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonClientBuilder;
+import software.amazon.awssdk.services.protocolrestjson.endpoints.ProtocolRestJsonEndpointParams;
+import software.amazon.awssdk.services.protocolrestjson.endpoints.ProtocolRestJsonEndpointProvider;
+import software.amazon.awssdk.services.testutil.MockIdentityProviderUtil;
+
+public class EndpointResolveCacheMetricsTest {
+    private MetricPublisher publisher;
+    private EndpointCapturingInterceptor interceptor;
+
+    @BeforeEach
+    public void setup() {
+        publisher = mock(MetricPublisher.class);
+        interceptor = new EndpointCapturingInterceptor();
+    }
+
+    @Test
+    public void defaultEndpointProvider_repeatedCalls_reportCacheMissThenHits() {
+        ProtocolRestJsonClient client = clientBuilder().build();
+
+        callAllTypes(client, 3);
+
+        assertThat(cacheHitMetrics(3)).containsExactly(false, true, true);
+        assertThat(interceptor.endpoints())
+            .containsOnly("https://customresponsemetadata.us-west-2.amazonaws.com/2016-03-11/allTypes");
+    }
+
+    @Test
+    public void separateClients_doNotShareCache() {
+        callAllTypes(clientBuilder().build(), 1);
+        callAllTypes(clientBuilder().build(), 1);
+
+        assertThat(cacheHitMetrics(2)).containsExactly(false, false);
+    }
+
+    @Test
+    public void customEndpointProvider_isCalledForEveryRequestAndReportsNoCacheMetric() {
+        ProtocolRestJsonEndpointProvider provider = mock(ProtocolRestJsonEndpointProvider.class);
+        when(provider.resolveEndpoint(any(ProtocolRestJsonEndpointParams.class))).thenReturn(
+            CompletableFuture.completedFuture(Endpoint.builder().url(URI.create("https://localhost")).build()));
+
+        callAllTypes(clientBuilder().endpointProvider(provider).build(), 2);
+
+        verify(provider, times(2)).resolveEndpoint(any(ProtocolRestJsonEndpointParams.class));
+        assertThat(cacheHitMetrics(2)).isEmpty();
+    }
+
+    private ProtocolRestJsonClientBuilder clientBuilder() {
+        return ProtocolRestJsonClient.builder()
+                                     .region(Region.US_WEST_2)
+                                     .credentialsProvider(MockIdentityProviderUtil.mockIdentityProvider())
+                                     .httpClient(mock(SdkHttpClient.class))
+                                     .overrideConfiguration(o -> o.addMetricPublisher(publisher)
+                                                                  .addExecutionInterceptor(interceptor));
+    }
+
+    private void callAllTypes(ProtocolRestJsonClient client, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThatThrownBy(client::allTypes).isInstanceOf(EndpointCapturingInterceptor.CaptureCompletedException.class);
+        }
+    }
+
+    private List<Boolean> cacheHitMetrics(int calls) {
+        ArgumentCaptor<MetricCollection> collections = ArgumentCaptor.forClass(MetricCollection.class);
+        verify(publisher, times(calls)).publish(collections.capture());
+        return collections.getAllValues()
+                          .stream()
+                          .flatMap(c -> c.metricValues(CoreMetric.ENDPOINT_RESOLVE_CACHE_HIT).stream())
+                          .collect(Collectors.toList());
+    }
+}
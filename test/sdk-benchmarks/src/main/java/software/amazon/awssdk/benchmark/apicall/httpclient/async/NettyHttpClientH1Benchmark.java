@@ -42,6 +42,8 @@ import org.openjdk.jmh.runner.options.OptionsBuilder;
 import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
+import software.amazon.awssdk.http.nio.netty.TransportType;
 import software.amazon.awssdk.services.protocolrestjson.ProtocolRestJsonAsyncClient;
 
 /**
@@ -60,6 +62,13 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
     @Param({DEFAULT_JDK_SSL_PROVIDER, OPEN_SSL_PROVIDER})
     private String sslProviderValue;
 
+    /**
+     * AUTO uses the native epoll transport, with TCP_FASTOPEN_CONNECT and TCP_QUICKACK enabled, when the
+     * netty-transport-native-epoll artifact for the platform is on the classpath. Compare it with NIO to measure the gain.
+     */
+    @Param({"NIO", "AUTO"})
+    private String transportTypeValue;
+
     @Setup(Level.Trial)
     public void setup() throws Exception {
         mockServer = new MockServer();
@@ -67,8 +76,12 @@ public class NettyHttpClientH1Benchmark extends BaseNettyBenchmark {
 
         SslProvider sslProvider = getSslProvider(sslProviderValue);
 
+        SdkEventLoopGroup.Builder eventLoopGroup = SdkEventLoopGroup.builder()
+                                                                    .transportType(TransportType.valueOf(transportTypeValue));
+
         sdkHttpClient = NettyNioAsyncHttpClient.builder()
                                                .sslProvider(sslProvider)
+                                               .eventLoopGroupBuilder(eventLoopGroup)
                                                .buildWithDefaults(trustAllTlsAttributeMapBuilder().build());
         client = ProtocolRestJsonAsyncClient.builder()
                                             .endpointOverride(mockServer.getHttpsUri())
@@ -18,6 +18,8 @@ package software.amazon.awssdk.utils;
 import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 
 /**
@@ -30,6 +32,11 @@ public class LookaheadInputStream extends FilterInputStream {
     private Integer next;
     private Integer nextAtMark;
 
+    /**
+     * Keeps {@link #mark(int)} and {@link #reset()} atomic with respect to each other and the lookahead byte.
+     */
+    private final Lock markLock = new ReentrantLock();
+
     public LookaheadInputStream(InputStream in) {
         super(in);
     }
@@ -110,18 +117,28 @@ public class LookaheadInputStream extends FilterInputStream {
     }
 
     @Override
-    public synchronized void mark(int readlimit) {
-        if (next == null) {
-            super.mark(readlimit);
-        } else {
-            nextAtMark = next;
-            super.mark(readlimit - 1);
+    public void mark(int readlimit) {
+        markLock.lock();
+        try {
+            if (next == null) {
+                super.mark(readlimit);
+            } else {
+                nextAtMark = next;
+                super.mark(readlimit - 1);
+            }
+        } finally {
+            markLock.unlock();
         }
     }
 
     @Override
-    public synchronized void reset() throws IOException {
-        next = nextAtMark;
-        super.reset();
+    public void reset() throws IOException {
+        markLock.lock();
+        try {
+            next = nextAtMark;
+            super.reset();
+        } finally {
+            markLock.unlock();
+        }
     }
 }
@@ -15,11 +15,13 @@
 
 package software.amazon.awssdk.utils;
 
+import java.util.Optional;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicLong;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
+import software.amazon.awssdk.utils.internal.VirtualThreadSupport;
 
 /**
  * A builder for creating a thread factory. This allows changing the behavior of the created thread factory.
@@ -37,6 +39,7 @@ public class ThreadFactoryBuilder {
 
     private String threadNamePrefix = "aws-java-sdk";
     private Boolean daemonThreads = true;
+    private Boolean virtualThreads = false;
 
     /**
      * The name prefix for threads created by this thread factory. The prefix will be appended with a number unique to the thread
@@ -60,6 +63,18 @@ public class ThreadFactoryBuilder {
         return this;
     }
 
+    /**
+     * Whether the threads created by the factory should be virtual threads. Virtual threads are only available on Java 21 and
+     * later; on earlier runtimes this setting is ignored and platform threads are created instead. Virtual threads are always
+     * daemon threads, regardless of {@link #daemonThreads(Boolean)}.
+     *
+     * By default this is false.
+     */
+    public ThreadFactoryBuilder virtualThreads(Boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+        return this;
+    }
+
     /**
      * Test API to reset pool count for reliable assertions.
      */
@@ -74,6 +89,13 @@ public class ThreadFactoryBuilder {
     public ThreadFactory build() {
         String threadNamePrefixWithPoolNumber = threadNamePrefix + "-" + POOL_NUMBER.getAndIncrement() % POOL_NUMBER_MAX;
 
+        if (Boolean.TRUE.equals(virtualThreads)) {
+            Optional<ThreadFactory> virtualThreadFactory = VirtualThreadSupport.newThreadFactory();
+            if (virtualThreadFactory.isPresent()) {
+                return new NamedThreadFactory(virtualThreadFactory.get(), threadNamePrefixWithPoolNumber);
+            }
+        }
+
         ThreadFactory result = new NamedThreadFactory(Executors.defaultThreadFactory(), threadNamePrefixWithPoolNumber);
 
         if (daemonThreads) {
@@ -31,6 +31,7 @@ import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.internal.VirtualThreadSupport;
 
 /**
  * A {@link CachedSupplier.PrefetchStrategy} that will run a single thread in the background to update the value. A call to
@@ -65,6 +66,9 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
      * Threads used to do the actual work of refreshing the values (because the cached supplier might block, so we don't
      * want the work to be done by a small thread pool). This executor is created as unbounded, but we start complaining and
      * skipping refreshes when there are more than {@link #MAX_CONCURRENT_REFRESHES} running.
+     * <p>
+     * When virtual threads are enabled (see {@link VirtualThreadSupport#isEnabled()}), the refreshes run on virtual threads so
+     * that blocked refreshes do not hold on to platform threads.
      */
     private static final ThreadPoolExecutor EXECUTOR =
         new ThreadPoolExecutor(1, Integer.MAX_VALUE,
@@ -72,6 +76,7 @@ public class NonBlocking implements CachedSupplier.PrefetchStrategy {
                                new SynchronousQueue<>(),
                                new ThreadFactoryBuilder().threadNamePrefix("sdk-cache")
                                                          .daemonThreads(true)
+                                                         .virtualThreads(VirtualThreadSupport.isEnabled())
                                                          .build());
 
     /**
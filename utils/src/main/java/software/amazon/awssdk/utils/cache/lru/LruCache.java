@@ -15,9 +15,13 @@
 
 package software.amazon.awssdk.utils.cache.lru;
 
-import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -33,6 +37,12 @@ import software.amazon.awssdk.utils.Validate;
  * When the cache is queried for an already stored value (cache hit), this value is moved to the back of the queue
  * before it's returned so that the order of most recently used to least recently used can be maintained.
  * <p>
+ * Cache hits don't take a lock. Instead, they are recorded in a striped buffer and applied to the queue in batches by
+ * whichever thread next holds the eviction lock: either a cache miss, or a hit that fills up its buffer. Recorded hits
+ * are always applied before an entry is evicted, so the eviction order is exact when the cache isn't accessed
+ * concurrently. Under contention, a hit may be dropped rather than making the calling thread wait, in which case the
+ * eviction order is approximately LRU.
+ * <p>
  * The user can configure the maximum size of the cache, which is set to a default of 100.
  * <p>
  * Null values are accepted.
@@ -45,19 +55,30 @@ public final class LruCache<K, V>  {
 
     private static final int DEFAULT_SIZE = 100;
 
-    private final Map<K, CacheEntry<K, V>> cache;
+    private final ConcurrentMap<K, CacheEntry<K, V>> cache;
     private final Function<K, V> valueSupplier;
-    private final Object listLock = new Object();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer<K, V>[] readBuffers;
     private final int maxCacheSize;
 
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    // Guarded by evictionLock
     private CacheEntry<K, V> leastRecentlyUsed = null;
     private CacheEntry<K, V> mostRecentlyUsed = null;
 
+    @SuppressWarnings("unchecked")
     private LruCache(Builder<K, V> b) {
         this.valueSupplier = b.supplier;
         Integer customSize = Validate.isPositiveOrNull(b.maxSize, "size");
         this.maxCacheSize = customSize != null ? customSize : DEFAULT_SIZE;
         this.cache = new ConcurrentHashMap<>();
+        this.readBuffers = new ReadBuffer[ReadBuffer.STRIPES];
+        for (int i = 0; i < readBuffers.length; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
     }
 
     /**
@@ -66,25 +87,94 @@ public final class LruCache<K, V>  {
      */
     public V get(K key) {
         while (true) {
-            CacheEntry<K, V> cachedEntry = cache.computeIfAbsent(key, this::newEntry);
-            synchronized (listLock) {
-                if (cachedEntry.evicted()) {
-                    continue;
-                }
-                moveToBackOfQueue(cachedEntry);
-                return cachedEntry.value();
+            CacheEntry<K, V> cachedEntry = cache.get(key);
+            if (cachedEntry == null) {
+                cachedEntry = cache.computeIfAbsent(key, this::newEntry);
+                addToQueue(cachedEntry);
+            } else {
+                recordHit(cachedEntry);
             }
+
+            if (cachedEntry.evicted()) {
+                continue;
+            }
+            return cachedEntry.value();
         }
     }
 
+    /**
+     * The number of calls to {@link #get(Object)} that returned a value that was already stored in the cache.
+     */
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * The number of calls to {@link #get(Object)} that calculated a value using the supplied function.
+     */
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * The number of values that have been pushed out of the cache.
+     */
+    public long evictionCount() {
+        return evictionCount.sum();
+    }
+
     private CacheEntry<K, V> newEntry(K key) {
+        missCount.increment();
         V value = valueSupplier.apply(key);
         return new CacheEntry<>(key, value);
     }
 
+    /**
+     * Records a hit in the calling thread's read buffer, and applies the buffered hits to the queue if the buffer is full
+     * and no other thread is already doing so.
+     */
+    private void recordHit(CacheEntry<K, V> entry) {
+        hitCount.increment();
+        ReadBuffer<K, V> readBuffer = readBuffers[ReadBuffer.stripe()];
+        if (readBuffer.offer(entry) && evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Adds a new entry to the queue as the most recently used, after applying any buffered hits, and evicts the least
+     * recently used entry if the cache is now full. If the entry was created by another thread that already added it,
+     * it's moved to the back of the queue like a hit instead.
+     */
+    private void addToQueue(CacheEntry<K, V> entry) {
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+            if (entry.evicted()) {
+                return;
+            }
+            moveToBackOfQueue(entry);
+            if (size() > maxCacheSize) {
+                evict();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> readBuffer : readBuffers) {
+            readBuffer.drainTo(this::moveToBackOfQueue);
+        }
+    }
+
     /**
      * Moves an entry to the back of the queue and sets it as the most recently used. If the entry is already the
-     * most recently used, do nothing.
+     * most recently used, or has been evicted, do nothing.
      * <p>
      * Summary of cache update:
      * <ol>
@@ -93,11 +183,22 @@ public final class LruCache<K, V>  {
      *</ol>
      */
     private void moveToBackOfQueue(CacheEntry<K, V> entry) {
-        if (entry.equals(mostRecentlyUsed)) {
+        if (entry == mostRecentlyUsed || entry.evicted()) {
             return;
         }
-        removeFromQueue(entry);
-        addToQueue(entry);
+        if (entry.linked) {
+            removeFromQueue(entry);
+        }
+        if (mostRecentlyUsed != null) {
+            mostRecentlyUsed.previous = entry;
+            entry.next = mostRecentlyUsed;
+        }
+        entry.previous = null;
+        entry.linked = true;
+        mostRecentlyUsed = entry;
+        if (leastRecentlyUsed == null) {
+            leastRecentlyUsed = entry;
+        }
     }
 
     /**
@@ -109,49 +210,35 @@ public final class LruCache<K, V>  {
      * <b>Note:</b> Detaching an entry does not delete it from the cache hash map.
      */
     private void removeFromQueue(CacheEntry<K, V> entry) {
-        CacheEntry<K, V> previousEntry = entry.previous();
+        CacheEntry<K, V> previousEntry = entry.previous;
         if (previousEntry != null) {
-            previousEntry.setNext(entry.next());
+            previousEntry.next = entry.next;
         }
-        CacheEntry<K, V> nextEntry = entry.next();
+        CacheEntry<K, V> nextEntry = entry.next;
         if (nextEntry != null) {
-            nextEntry.setPrevious(entry.previous());
-        }
-        if (entry.equals(leastRecentlyUsed)) {
-            leastRecentlyUsed = entry.previous();
+            nextEntry.previous = entry.previous;
         }
-        if (entry.equals(mostRecentlyUsed)) {
-            mostRecentlyUsed = entry.next();
-        }
-    }
-
-    /**
-     * Adds an entry to the queue as the most recently used, adjusts all pointers and triggers an evict
-     * event if the cache is now full.
-     */
-    private void addToQueue(CacheEntry<K, V> entry) {
-        if (mostRecentlyUsed != null) {
-            mostRecentlyUsed.setPrevious(entry);
-            entry.setNext(mostRecentlyUsed);
-        }
-        entry.setPrevious(null);
-        mostRecentlyUsed = entry;
-        if (leastRecentlyUsed == null) {
-            leastRecentlyUsed = entry;
+        if (entry == leastRecentlyUsed) {
+            leastRecentlyUsed = entry.previous;
         }
-        if (size() > maxCacheSize) {
-            evict();
+        if (entry == mostRecentlyUsed) {
+            mostRecentlyUsed = entry.next;
         }
+        entry.previous = null;
+        entry.next = null;
+        entry.linked = false;
     }
 
     /**
      * Removes the least recently used entry from the cache, marks it as evicted and removes it from the queue.
      */
     private void evict() {
-        leastRecentlyUsed.isEvicted(true);
-        closeEvictedResourcesIfPossible(leastRecentlyUsed.value);
-        cache.remove(leastRecentlyUsed.key());
-        removeFromQueue(leastRecentlyUsed);
+        CacheEntry<K, V> entry = leastRecentlyUsed;
+        entry.evicted = true;
+        closeEvictedResourcesIfPossible(entry.value());
+        cache.remove(entry.key(), entry);
+        removeFromQueue(entry);
+        evictionCount.increment();
     }
 
     private void closeEvictedResourcesIfPossible(V value) {
@@ -200,8 +287,10 @@ public final class LruCache<K, V>  {
         private final K key;
         private final V value;
 
-        private boolean evicted = false;
+        private volatile boolean evicted = false;
 
+        // Guarded by the cache's eviction lock
+        private boolean linked = false;
         private CacheEntry<K, V> previous;
         private CacheEntry<K, V> next;
 
@@ -221,46 +310,71 @@ public final class LruCache<K, V>  {
         boolean evicted() {
             return evicted;
         }
+    }
 
-        void isEvicted(boolean evicted) {
-            this.evicted = evicted;
-        }
-
-        CacheEntry<K, V> next() {
-            return next;
-        }
-
-        void setNext(CacheEntry<K, V> next) {
-            this.next = next;
-        }
-
-        CacheEntry<K, V> previous() {
-            return previous;
-        }
-
-        void setPrevious(CacheEntry<K, V> previous) {
-            this.previous = previous;
+    /**
+     * A bounded, lossy, multiple-producer single-consumer ring buffer of recorded hits. Producers claim a slot by
+     * incrementing the write counter, and give up if the buffer is full or another producer claimed the slot first. The
+     * buffer is only drained while holding the cache's eviction lock.
+     */
+    private static final class ReadBuffer<K, V> {
+        private static final int STRIPES = ceilingPowerOfTwo(4 * Runtime.getRuntime().availableProcessors());
+        private static final int SIZE = 16;
+        private static final int MASK = SIZE - 1;
+
+        private final AtomicReferenceArray<CacheEntry<K, V>> entries = new AtomicReferenceArray<>(SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        /**
+         * Selects the stripe used by the calling thread.
+         */
+        static int stripe() {
+            long id = Thread.currentThread().getId();
+            int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & (STRIPES - 1);
         }
 
-        @Override
-        @SuppressWarnings("unchecked")
-        public boolean equals(Object o) {
-            if (this == o) {
+        /**
+         * Records a hit, if there's room for it.
+         *
+         * @return true if the buffer should be drained
+         */
+        boolean offer(CacheEntry<K, V> entry) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            if (tail - head >= SIZE) {
                 return true;
             }
-            if ((o == null) || getClass() != o.getClass()) {
+            if (!writeCounter.compareAndSet(tail, tail + 1)) {
                 return false;
             }
-            CacheEntry<?, ?> that = (CacheEntry<?, ?>) o;
-            return Objects.equals(key, that.key)
-                   && Objects.equals(value, that.value);
+            entries.lazySet((int) (tail & MASK), entry);
+            return tail + 1 - head >= SIZE;
+        }
+
+        /**
+         * Applies and removes the recorded hits, in the order they were recorded. Must be called while holding the eviction
+         * lock.
+         */
+        void drainTo(Consumer<CacheEntry<K, V>> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & MASK);
+                CacheEntry<K, V> entry = entries.get(index);
+                if (entry == null) {
+                    // The producer claimed this slot, but hasn't published its entry yet
+                    break;
+                }
+                entries.lazySet(index, null);
+                consumer.accept(entry);
+            }
+            readCounter = head;
         }
 
-        @Override
-        public int hashCode() {
-            int result = key != null ? key.hashCode() : 0;
-            result = 31 * result + (value != null ? value.hashCode() : 0);
-            return result;
+        private static int ceilingPowerOfTwo(int value) {
+            return 1 << (32 - Integer.numberOfLeadingZeros(Math.max(1, value - 1)));
         }
     }
 }
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.internal;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.SystemSetting;
+
+/**
+ * Provides access to virtual threads on runtimes that support them (Java 21 and later), without requiring the SDK to be
+ * compiled against those runtimes.
+ * <p>
+ * Virtual threads are only used by the SDK when they are supported by the runtime and the customer opted in by setting the
+ * {@code aws.useVirtualThreads} system property or the {@code AWS_USE_VIRTUAL_THREADS} environment variable to {@code true}.
+ */
+@SdkInternalApi
+public final class VirtualThreadSupport {
+    private static final Logger log = Logger.loggerFor(VirtualThreadSupport.class);
+
+    private static final Method OF_VIRTUAL = lookupMethod("java.lang.Thread", "ofVirtual");
+    private static final Method FACTORY = lookupMethod("java.lang.Thread$Builder", "factory");
+
+    private VirtualThreadSupport() {
+    }
+
+    /**
+     * Whether the current runtime is able to create virtual threads.
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null && FACTORY != null;
+    }
+
+    /**
+     * Whether the SDK should use virtual threads for its blocking background work. This is true when virtual threads are
+     * supported by the runtime and enabled via {@code aws.useVirtualThreads} or {@code AWS_USE_VIRTUAL_THREADS}.
+     */
+    public static boolean isEnabled() {
+        return isSupported() && VirtualThreadSetting.AWS_USE_VIRTUAL_THREADS.getBooleanValue().orElse(false);
+    }
+
+    /**
+     * Create a {@link ThreadFactory} that creates unnamed virtual threads, or an empty optional if virtual threads are not
+     * supported by the current runtime.
+     */
+    public static Optional<ThreadFactory> newThreadFactory() {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            return Optional.of((ThreadFactory) FACTORY.invoke(builder));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug(() -> "Unable to create a virtual thread factory, falling back to platform threads.", e);
+            return Optional.empty();
+        }
+    }
+
+    private static Method lookupMethod(String className, String methodName) {
+        try {
+            return Class.forName(className).getMethod(methodName);
+        } catch (ClassNotFoundException | NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private enum VirtualThreadSetting implements SystemSetting {
+        AWS_USE_VIRTUAL_THREADS("aws.useVirtualThreads", "AWS_USE_VIRTUAL_THREADS");
+
+        private final String systemProperty;
+        private final String environmentVariable;
+
+        VirtualThreadSetting(String systemProperty, String environmentVariable) {
+            this.systemProperty = systemProperty;
+            this.environmentVariable = environmentVariable;
+        }
+
+        @Override
+        public String property() {
+            return systemProperty;
+        }
+
+        @Override
+        public String environmentVariable() {
+            return environmentVariable;
+        }
+
+        @Override
+        public String defaultValue() {
+            return null;
+        }
+    }
+}
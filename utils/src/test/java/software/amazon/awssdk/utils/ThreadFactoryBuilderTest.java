@@ -20,6 +20,7 @@ import static org.assertj.core.api.Java6Assertions.assertThat;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.utils.internal.VirtualThreadSupport;
 
 public class ThreadFactoryBuilderTest {
 
@@ -59,6 +60,36 @@ public class ThreadFactoryBuilderTest {
         assertThat(thread.isDaemon()).isTrue();
     }
 
+    @Test
+    public void virtualThreadsKeepNamingScheme() {
+        Thread thread = new ThreadFactoryBuilder()
+                .threadNamePrefix("custom-name")
+                .virtualThreads(true)
+                .build()
+                .newThread(this::doNothing);
+        assertThat(thread.getName()).isEqualTo("custom-name-0-0");
+        assertThat(thread.isDaemon()).isTrue();
+    }
+
+    @Test
+    public void virtualThreadsFallBackToPlatformThreadsWhenUnsupported() {
+        Thread thread = new ThreadFactoryBuilder()
+                .virtualThreads(true)
+                .build()
+                .newThread(this::doNothing);
+        assertThat(isVirtual(thread)).isEqualTo(VirtualThreadSupport.isSupported());
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (NoSuchMethodException e) {
+            return false;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * To use as a {@link Runnable} method reference.
      */
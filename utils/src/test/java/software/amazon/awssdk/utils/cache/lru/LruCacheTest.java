@@ -211,6 +211,57 @@ public class LruCacheTest {
         verify(simpleValueSupplier, times(1)).apply(keyMissingValue);
     }
 
+    @Test
+    void when_valuesAreRetrieved_CountersAreUpdated() {
+        LruCache<Integer, String> cache = simpleCache.get();
+
+        //fill cache [2, 1, 0]
+        primeAndVerifySimpleCache(cache, MAX_SIMPLE_CACHE_SIZE);
+
+        //hit 0 and 2 -> [2, 0, 1]
+        cache.get(simpleTestKeys.get(0));
+        cache.get(simpleTestKeys.get(2));
+
+        //evict 1 -> [3, 2, 0]
+        cache.get(simpleTestKeys.get(3));
+
+        assertThat(cache.hitCount()).isEqualTo(2);
+        assertThat(cache.missCount()).isEqualTo(4);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+
+        //1 was evicted, 0 was not
+        cache.get(simpleTestKeys.get(0));
+        cache.get(simpleTestKeys.get(1));
+        assertThat(cache.hitCount()).isEqualTo(3);
+        assertThat(cache.missCount()).isEqualTo(5);
+        verify(simpleValueSupplier, times(1)).apply(simpleTestKeys.get(0));
+        verify(simpleValueSupplier, times(2)).apply(simpleTestKeys.get(1));
+    }
+
+    @Test
+    void when_manyHitsAreBuffered_EvictionOrderIsPreserved() {
+        LruCache<Integer, String> cache = simpleCache.get();
+
+        //fill cache [2, 1, 0]
+        primeAndVerifySimpleCache(cache, MAX_SIMPLE_CACHE_SIZE);
+
+        //hit 0 often enough to fill up the read buffer, then hit 1 -> [1, 0, 2]
+        for (int i = 0; i < 100; i++) {
+            cache.get(simpleTestKeys.get(0));
+        }
+        cache.get(simpleTestKeys.get(1));
+
+        //evict 2 -> [3, 1, 0]
+        cache.get(simpleTestKeys.get(3));
+        cache.get(simpleTestKeys.get(0));
+        cache.get(simpleTestKeys.get(1));
+        cache.get(simpleTestKeys.get(2));
+
+        verify(simpleValueSupplier, times(1)).apply(simpleTestKeys.get(0));
+        verify(simpleValueSupplier, times(1)).apply(simpleTestKeys.get(1));
+        verify(simpleValueSupplier, times(2)).apply(simpleTestKeys.get(2));
+    }
+
     @ParameterizedTest
     @MethodSource("concurrencyTestValues")
     void when_multipleThreadsAreCallingCache_WorksAsExpected(Integer numThreads,
@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class VirtualThreadSupportTest {
+    private static final String PROPERTY = "aws.useVirtualThreads";
+
+    @AfterEach
+    public void cleanup() {
+        System.clearProperty(PROPERTY);
+    }
+
+    @Test
+    public void supportMatchesRuntime() {
+        boolean runtimeHasVirtualThreads;
+        try {
+            Thread.class.getMethod("ofVirtual");
+            runtimeHasVirtualThreads = true;
+        } catch (NoSuchMethodException e) {
+            runtimeHasVirtualThreads = false;
+        }
+
+        assertThat(VirtualThreadSupport.isSupported()).isEqualTo(runtimeHasVirtualThreads);
+        assertThat(VirtualThreadSupport.newThreadFactory().isPresent()).isEqualTo(runtimeHasVirtualThreads);
+    }
+
+    @Test
+    public void disabledByDefault() {
+        assertThat(VirtualThreadSupport.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void enabledWhenOptedInAndSupported() {
+        System.setProperty(PROPERTY, "true");
+        assertThat(VirtualThreadSupport.isEnabled()).isEqualTo(VirtualThreadSupport.isSupported());
+    }
+
+    @Test
+    public void disabledWhenOptedOut() {
+        System.setProperty(PROPERTY, "false");
+        assertThat(VirtualThreadSupport.isEnabled()).isFalse();
+    }
+}